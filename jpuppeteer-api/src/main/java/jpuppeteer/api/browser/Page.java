@@ -4,6 +4,7 @@ import jpuppeteer.api.constant.MediaType;
 import jpuppeteer.api.constant.MouseDefinition;
 import jpuppeteer.api.constant.USKeyboardDefinition;
 
+import java.io.OutputStream;
 import java.util.List;
 
 public interface Page extends Frame {
@@ -127,4 +128,11 @@ public interface Page extends Frame {
      */
     byte[] screenshot() throws Exception;
 
+    /**
+     * 截图直接写到out中, 不在内存中保留完整的图片
+     * @param out png format
+     * @throws Exception
+     */
+    void screenshot(OutputStream out) throws Exception;
+
 }
@@ -1,5 +1,6 @@
 package jpuppeteer.api.browser;
 
+import java.io.OutputStream;
 import java.net.URL;
 import java.util.List;
 
@@ -26,6 +27,11 @@ public interface Response {
 
     byte[] content();
 
+    /**
+     * 响应体直接写到out中, 大响应体不需要先解码成完整的byte[]
+     */
+    void content(OutputStream out) throws Exception;
+
     URL url();
 
 }
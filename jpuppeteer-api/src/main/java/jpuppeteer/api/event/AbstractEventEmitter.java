@@ -34,13 +34,35 @@ public abstract class AbstractEventEmitter<E extends Enum<E>> implements EventEm
         consumers.remove(consumer);
     }
 
+    /**
+     * 移除所有的listener, 对象被复用(比如页面池)之前调用
+     */
+    public void removeAllListeners() {
+        listenerMap.clear();
+    }
+
+    /**
+     * 用于在构造事件对象之前判断是否有必要构造
+     */
+    public boolean hasListener(E type) {
+        Set<Consumer> consumers = listenerMap.get(type);
+        return consumers != null && consumers.size() > 0;
+    }
+
     @Override
     public void emit(E type, Object event) {
         Set<Consumer> consumers = listenerMap.get(type);
         if (consumers == null || consumers.size() == 0) {
             return;
         }
-        consumers.iterator().forEachRemaining(consumer -> emitInternal(consumer, event));
+        consumers.iterator().forEachRemaining(consumer -> emitInternal(type, consumer, event));
+    }
+
+    /**
+     * 需要按事件类型做处理(比如合并)的子类可以覆盖此方法
+     */
+    protected void emitInternal(E type, Consumer<Object> consumer, Object event) {
+        emitInternal(consumer, event);
     }
 
     protected abstract void emitInternal(Consumer<Object> consumer, Object event);
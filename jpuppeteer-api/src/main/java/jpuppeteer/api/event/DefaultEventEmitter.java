@@ -1,51 +1,205 @@
 package jpuppeteer.api.event;
 
-import com.alibaba.fastjson.JSON;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
+/**
+ * 事件先进入emitter自己的有界队列, 再由executor上的drain任务串行执行, 保证事件的顺序
+ * 默认队列是无界的, 可以通过{@link #setQueueCapacity(int, OverflowPolicy)}限制队列长度
+ * 子类可以通过{@link #lane(Enum, Object)}把事件分到多个队列, 队列之间并行执行, 队列内保持顺序
+ */
 public class DefaultEventEmitter<E extends Enum<E>> extends AbstractEventEmitter<E> {
 
-    private static final Logger logger = LoggerFactory.getLogger(DefaultEventEmitter.class);
-
+    /**
+     * 使用EventLoopGroup的时候为null, close的时候不需要关闭共享的执行器
+     */
     private final ExecutorService executor;
 
+    private final EventQueue[] lanes;
+
+    /**
+     * 通过{@link #executor()}提交的任务, 跟lane 0使用同一个执行器, 容量和溢出策略跟事件队列相同
+     */
+    private final EventQueue tasks;
+
+    private final Map<Enum<E>, Function<Object, ?>> coalesceKeys;
+
+    private volatile int capacity;
+
+    private volatile OverflowPolicy policy;
+
     public DefaultEventEmitter(ExecutorService executor) {
+        this(executor, Integer.MAX_VALUE, OverflowPolicy.BLOCK);
+    }
+
+    public DefaultEventEmitter(ExecutorService executor, int capacity, OverflowPolicy policy) {
+        this(executor, 1, capacity, policy);
+    }
+
+    /**
+     * 分配到group中的一个执行器上, 不再单独占用线程
+     */
+    public DefaultEventEmitter(EventLoopGroup group) {
+        this(group, 1, Integer.MAX_VALUE, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * @param lanes 队列个数, 每个队列的容量都是capacity
+     */
+    protected DefaultEventEmitter(ExecutorService executor, int lanes, int capacity, OverflowPolicy policy) {
+        this(executor, null, lanes, capacity, policy);
+    }
+
+    /**
+     * 每个lane分别从group中分配执行器
+     */
+    protected DefaultEventEmitter(EventLoopGroup group, int lanes, int capacity, OverflowPolicy policy) {
+        this(null, group, lanes, capacity, policy);
+    }
+
+    private DefaultEventEmitter(ExecutorService executor, EventLoopGroup group, int lanes, int capacity, OverflowPolicy policy) {
         super();
+        if (lanes <= 0) {
+            throw new IllegalArgumentException("lanes must be greater than 0");
+        }
         this.executor = executor;
+        this.lanes = new EventQueue[lanes];
+        for(int i = 0; i < lanes; i++) {
+            this.lanes[i] = new EventQueue(executor != null ? executor : group.next());
+        }
+        this.tasks = new EventQueue(this.lanes[0].executor());
+        this.coalesceKeys = new ConcurrentHashMap<>();
+        setQueueCapacity(capacity, policy);
     }
 
-    @Override
-    protected void emitInternal(Consumer<Object> consumer, Object event) {
-        executor.execute(new EventTask(consumer, event));
+    public void setQueueCapacity(int capacity, OverflowPolicy policy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+        this.capacity = capacity;
+        this.policy = Objects.requireNonNull(policy);
     }
 
-    public void close() throws Exception {
-        executor.shutdown();
+    /**
+     * 只在{@link OverflowPolicy#COALESCE}策略下生效, 同一个listener的同类型事件, key相同的只保留最新的一个
+     */
+    public void coalesce(E type, Function<Object, ?> key) {
+        coalesceKeys.put(type, key);
+    }
+
+    public int queueDepth() {
+        int depth = 0;
+        for(EventQueue lane : lanes) {
+            depth += lane.depth();
+        }
+        return depth + tasks.depth();
+    }
+
+    public long droppedCount() {
+        long dropped = 0;
+        for(EventQueue lane : lanes) {
+            dropped += lane.dropped();
+        }
+        return dropped + tasks.dropped();
     }
 
-    static class EventTask implements Runnable {
+    public long coalescedCount() {
+        long coalesced = 0;
+        for(EventQueue lane : lanes) {
+            coalesced += lane.coalesced();
+        }
+        return coalesced;
+    }
+
+    /**
+     * 清空还没有执行的事件和通过{@link #executor()}提交的任务
+     */
+    public void clearQueue() {
+        for(EventQueue lane : lanes) {
+            lane.clear();
+        }
+        tasks.clear();
+    }
 
-        private Consumer consumer;
+    /**
+     * 在本emitter的事件线程上按提交顺序串行执行任务, 任务队列使用{@link #setQueueCapacity(int, OverflowPolicy)}设置的容量和溢出策略,
+     * 被丢弃的任务计入{@link #droppedCount()}, {@link #clearQueue()}的时候一起清除
+     * 任务中可以通过{@link #emitNow(Enum, Object)}直接执行listener, 不再经过一次队列
+     */
+    public Executor executor() {
+        return task -> tasks.execute(task, capacity, policy);
+    }
 
-        private Object event;
+    /**
+     * 当前线程是否正在执行本emitter的事件或者任务
+     */
+    public boolean inEventLoop() {
+        if (tasks.inDrain()) {
+            return true;
+        }
+        for(EventQueue lane : lanes) {
+            if (lane.inDrain()) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        EventTask(Consumer consumer, Object event) {
-            this.consumer = consumer;
-            this.event = event;
+    /**
+     * 在当前线程上直接执行listener, 不经过队列, 只在{@link #inEventLoop()}的时候调用才能保证顺序
+     */
+    public void emitNow(E type, Object event) {
+        Set<Consumer> consumers = listenerMap.get(type);
+        if (consumers == null || consumers.size() == 0) {
+            return;
+        }
+        for(Consumer consumer : consumers) {
+            EventQueue.invoke(consumer, event);
         }
+    }
 
-        @Override
-        public void run() {
-            try {
-                consumer.accept(event);
-            } catch (Exception e) {
-                logger.error("publish event error, event={}, error={}", JSON.toJSONString(event), e.getMessage(), e);
+    protected int lanes() {
+        return lanes.length;
+    }
+
+    /**
+     * 同一个lane中的事件按顺序执行, 默认只有一个lane
+     */
+    protected int lane(E type, Object event) {
+        return 0;
+    }
+
+    @Override
+    protected void emitInternal(E type, Consumer<Object> consumer, Object event) {
+        OverflowPolicy policy = this.policy;
+        Object key = null;
+        if (policy == OverflowPolicy.COALESCE && type != null) {
+            Function<Object, ?> keyFunction = coalesceKeys.get(type);
+            if (keyFunction != null) {
+                key = Arrays.asList(type, consumer, keyFunction.apply(event));
             }
         }
+        EventQueue lane = lanes.length == 1 ? lanes[0] : lanes[lane(type, event)];
+        lane.offer(consumer, event, key, capacity, policy);
+    }
+
+    @Override
+    protected void emitInternal(Consumer<Object> consumer, Object event) {
+        emitInternal(null, consumer, event);
+    }
+
+    public void close() throws Exception {
+        if (executor != null) {
+            executor.shutdown();
+        } else {
+            clearQueue();
+        }
     }
 }
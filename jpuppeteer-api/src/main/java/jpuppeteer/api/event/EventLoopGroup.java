@@ -0,0 +1,115 @@
+package jpuppeteer.api.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 多个emitter共享的一组执行器, emitter通过{@link #next()}轮流分配到其中一个上
+ * emitter自己的队列保证了事件是串行执行的, 所以这里的执行器只需要提供线程
+ * 运行时支持虚拟线程(jdk21+)的时候可以使用{@link #virtual()}, 每个drain任务都在一个新的虚拟线程上执行
+ */
+public class EventLoopGroup implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventLoopGroup.class);
+
+    public static final int DEFAULT_THREADS = Runtime.getRuntime().availableProcessors() * 2;
+
+    private static volatile EventLoopGroup defaultGroup;
+
+    private final ExecutorService[] loops;
+
+    private final AtomicInteger index;
+
+    private EventLoopGroup(ExecutorService[] loops) {
+        this.loops = loops;
+        this.index = new AtomicInteger(0);
+    }
+
+    /**
+     * @param threads 线程数, 每个线程是一个单线程的执行器
+     */
+    public static EventLoopGroup fixed(String name, int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be greater than 0");
+        }
+        ExecutorService[] loops = new ExecutorService[threads];
+        for(int i = 0; i < threads; i++) {
+            String threadName = name + "-" + i;
+            loops[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return new EventLoopGroup(loops);
+    }
+
+    /**
+     * 不支持虚拟线程的时候返回null
+     */
+    public static EventLoopGroup virtual() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return new EventLoopGroup(new ExecutorService[]{(ExecutorService) method.invoke(null)});
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (Exception e) {
+            logger.warn("create virtual thread executor failed, error={}", e.getMessage());
+            return null;
+        }
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 默认的全局共享group, 支持虚拟线程并且设置了-Djpuppeteer.eventloop.virtual=true的时候使用虚拟线程, 否则是cpu*2个线程
+     */
+    public static EventLoopGroup defaultGroup() {
+        if (defaultGroup == null) {
+            synchronized (EventLoopGroup.class) {
+                if (defaultGroup == null) {
+                    EventLoopGroup group = null;
+                    if (Boolean.getBoolean("jpuppeteer.eventloop.virtual")) {
+                        group = virtual();
+                    }
+                    if (group == null) {
+                        group = fixed("EventLoop", DEFAULT_THREADS);
+                    }
+                    defaultGroup = group;
+                }
+            }
+        }
+        return defaultGroup;
+    }
+
+    public Executor next() {
+        if (loops.length == 1) {
+            return loops[0];
+        }
+        return loops[(index.getAndIncrement() & Integer.MAX_VALUE) % loops.length];
+    }
+
+    public int size() {
+        return loops.length;
+    }
+
+    @Override
+    public void close() {
+        for(ExecutorService loop : loops) {
+            loop.shutdown();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package jpuppeteer.api.event;
+
+import com.alibaba.fastjson.JSON;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 有界的事件队列, 由executor上的一个drain任务串行执行, 保证队列内事件的顺序
+ */
+class EventQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventQueue.class);
+
+    /**
+     * 每次drain最多执行的事件个数, 执行完之后重新提交, 避免长时间占用共享的executor
+     */
+    private static final int DRAIN_BATCH = 256;
+
+    private final Executor executor;
+
+    private final ReentrantLock lock;
+
+    private final Condition notFull;
+
+    private final Deque<EventTask> queue;
+
+    private final Map<Object, EventTask> pendingKeys;
+
+    private final AtomicBoolean draining;
+
+    private final AtomicLong dropped;
+
+    private final AtomicLong coalesced;
+
+    /**
+     * 当前线程正在执行drain的队列, 不为null说明当前线程是事件循环线程
+     */
+    private static final ThreadLocal<EventQueue> DRAINING = new ThreadLocal<>();
+
+    private static final Consumer<Runnable> RUN = Runnable::run;
+
+    EventQueue(Executor executor) {
+        this.executor = executor;
+        this.lock = new ReentrantLock();
+        this.notFull = lock.newCondition();
+        this.queue = new ArrayDeque<>();
+        this.pendingKeys = new HashMap<>();
+        this.draining = new AtomicBoolean(false);
+        this.dropped = new AtomicLong(0);
+        this.coalesced = new AtomicLong(0);
+    }
+
+    Executor executor() {
+        return executor;
+    }
+
+    int depth() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long dropped() {
+        return dropped.get();
+    }
+
+    long coalesced() {
+        return coalesced.get();
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            queue.clear();
+            pendingKeys.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param key 不为null的时候, 队列中相同key的事件会被替换成最新的
+     */
+    void offer(Consumer consumer, Object event, Object key, int capacity, OverflowPolicy policy) {
+        if (enqueue(consumer, event, key, capacity, policy) && draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * 跟事件一样在drain任务中按顺序执行, 同样受容量和溢出策略的限制, 任务没有合并key, COALESCE策略下队列满了丢弃新来的任务
+     */
+    void execute(Runnable task, int capacity, OverflowPolicy policy) {
+        offer(RUN, task, null, capacity, policy);
+    }
+
+    private boolean enqueue(Consumer consumer, Object event, Object key, int capacity, OverflowPolicy policy) {
+        lock.lock();
+        try {
+            if (key != null) {
+                EventTask pending = pendingKeys.get(key);
+                if (pending != null) {
+                    pending.event = event;
+                    coalesced.incrementAndGet();
+                    return false;
+                }
+            }
+            while (queue.size() >= capacity) {
+                if (policy == OverflowPolicy.BLOCK) {
+                    //listener在事件循环线程上再发布事件的话不能阻塞, 目标队列可能要由同一个线程drain, 阻塞会死锁
+                    if (inEventLoop()) {
+                        break;
+                    }
+                    notFull.awaitUninterruptibly();
+                } else if (policy == OverflowPolicy.DROP_OLDEST) {
+                    EventTask oldest = queue.pollFirst();
+                    if (oldest.key != null) {
+                        pendingKeys.remove(oldest.key);
+                    }
+                    dropped.incrementAndGet();
+                } else {
+                    dropped.incrementAndGet();
+                    return false;
+                }
+            }
+            EventTask task = new EventTask(consumer, event, key);
+            queue.offerLast(task);
+            if (key != null) {
+                pendingKeys.put(key, task);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * emitter共享EventLoopGroup之后, 同一个线程会轮流drain多个队列, 所以不能只判断是不是本队列的drain线程
+     */
+    static boolean inEventLoop() {
+        return DRAINING.get() != null;
+    }
+
+    /**
+     * 当前线程是否正在drain本队列
+     */
+    boolean inDrain() {
+        return DRAINING.get() == this;
+    }
+
+    static void invoke(Consumer consumer, Object event) {
+        try {
+            consumer.accept(event);
+        } catch (Exception e) {
+            logger.error("publish event error, event={}, error={}", JSON.toJSONString(event), e.getMessage(), e);
+        }
+    }
+
+    private EventTask poll() {
+        lock.lock();
+        try {
+            EventTask task = queue.pollFirst();
+            if (task != null) {
+                if (task.key != null) {
+                    pendingKeys.remove(task.key);
+                }
+                notFull.signal();
+            }
+            return task;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drain() {
+        EventQueue outer = DRAINING.get();
+        DRAINING.set(this);
+        try {
+            for(int i = 0; i < DRAIN_BATCH; i++) {
+                EventTask task = poll();
+                if (task == null) {
+                    break;
+                }
+                task.run();
+            }
+        } finally {
+            if (outer == null) {
+                DRAINING.remove();
+            } else {
+                DRAINING.set(outer);
+            }
+            draining.set(false);
+            //释放标记之后再检查一次, 避免在此期间入队的事件没有drain任务处理, listener抛出Error的时候也要继续drain剩下的事件
+            if (depth() > 0 && draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+    }
+
+    static class EventTask implements Runnable {
+
+        private Consumer consumer;
+
+        private volatile Object event;
+
+        private final Object key;
+
+        EventTask(Consumer consumer, Object event, Object key) {
+            this.consumer = consumer;
+            this.event = event;
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            invoke(consumer, event);
+        }
+    }
+}
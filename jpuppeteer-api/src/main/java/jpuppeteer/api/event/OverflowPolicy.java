@@ -0,0 +1,30 @@
+package jpuppeteer.api.event;
+
+/**
+ * 事件队列满了之后的处理策略
+ */
+public enum OverflowPolicy {
+
+    /**
+     * 阻塞发布事件的线程(比如连接的读线程), 直到队列有空位
+     * 在事件循环线程上(listener中)发布的事件不阻塞, 直接超出容量入队, 避免等待同一个线程drain造成死锁
+     */
+    BLOCK,
+
+    /**
+     * 丢弃队列中最早的事件
+     */
+    DROP_OLDEST,
+
+    /**
+     * 丢弃新来的事件
+     */
+    DROP_NEWEST,
+
+    /**
+     * 配置了合并key的事件总是替换队列中相同key的事件(保留位置, 使用最新的内容), 队列满了且无法合并的时候丢弃新来的事件
+     * @see DefaultEventEmitter#coalesce(Enum, java.util.function.Function)
+     */
+    COALESCE,
+
+}
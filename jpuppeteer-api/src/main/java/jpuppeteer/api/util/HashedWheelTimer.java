@@ -0,0 +1,299 @@
+package jpuppeteer.api.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * 简化版的时间轮定时器(参考netty的HashedWheelTimer), 适合大量且大部分会被取消的超时任务
+ * 添加和取消都是O(1), 精度为一个tick
+ */
+public class HashedWheelTimer {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    private static final int ST_INIT = 0;
+
+    private static final int ST_STARTED = 1;
+
+    private static final int ST_STOPPED = 2;
+
+    private final long tickNanos;
+
+    private final Bucket[] wheel;
+
+    private final int mask;
+
+    private final Queue<Timeout> pendingTimeouts;
+
+    private final Queue<Timeout> cancelledTimeouts;
+
+    private final AtomicInteger state;
+
+    private final Thread worker;
+
+    private volatile long startTime;
+
+    public HashedWheelTimer(String name, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be greater than 0");
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException("ticksPerWheel must be in (0, 2^30]");
+        }
+        int size = 1;
+        while (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        this.wheel = new Bucket[size];
+        for(int i = 0; i < size; i++) {
+            this.wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.pendingTimeouts = new ConcurrentLinkedQueue<>();
+        this.cancelledTimeouts = new ConcurrentLinkedQueue<>();
+        this.state = new AtomicInteger(ST_INIT);
+        this.worker = new Thread(new Worker(), name);
+        this.worker.setDaemon(true);
+    }
+
+    public HashedWheelTimer(String name) {
+        this(name, 10, TimeUnit.MILLISECONDS, 512);
+    }
+
+    private void start() {
+        if (state.get() == ST_INIT && state.compareAndSet(ST_INIT, ST_STARTED)) {
+            startTime = System.nanoTime();
+            worker.start();
+        }
+        if (state.get() == ST_STOPPED) {
+            throw new IllegalStateException("timer stopped");
+        }
+        //startTime由完成CAS的调用线程设置, 其他线程可能在它赋值之前就走到这里, 需要等待
+        while (startTime == 0) {
+            Thread.yield();
+        }
+    }
+
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        start();
+        long deadline = System.nanoTime() + unit.toNanos(delay) - startTime;
+        Timeout timeout = new Timeout(this, task, deadline);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    public int pendingCount() {
+        int count = 0;
+        for(Bucket bucket : wheel) {
+            count += bucket.size.get();
+        }
+        return count + pendingTimeouts.size();
+    }
+
+    public void stop() {
+        state.set(ST_STOPPED);
+        worker.interrupt();
+    }
+
+    private final class Worker implements Runnable {
+
+        private long tick;
+
+        @Override
+        public void run() {
+            while (state.get() == ST_STARTED) {
+                long deadline = waitForNextTick();
+                if (deadline < 0) {
+                    continue;
+                }
+                Bucket bucket = wheel[(int) (tick & mask)];
+                processCancelledTimeouts();
+                transferTimeoutsToBuckets();
+                bucket.expireTimeouts(deadline);
+                tick++;
+            }
+        }
+
+        private void transferTimeoutsToBuckets() {
+            //每个tick最多转移10w个, 避免worker一直忙于转移
+            for(int i = 0; i < 100000; i++) {
+                Timeout timeout = pendingTimeouts.poll();
+                if (timeout == null) {
+                    break;
+                }
+                if (timeout.state == Timeout.ST_CANCELLED) {
+                    continue;
+                }
+                long calculated = timeout.deadline / tickNanos;
+                timeout.remainingRounds = (calculated - tick) / wheel.length;
+                //已经过期的放到当前的bucket
+                long ticks = Math.max(calculated, tick);
+                wheel[(int) (ticks & mask)].add(timeout);
+            }
+        }
+
+        private void processCancelledTimeouts() {
+            Timeout timeout;
+            while ((timeout = cancelledTimeouts.poll()) != null) {
+                if (timeout.bucket != null) {
+                    timeout.bucket.remove(timeout);
+                }
+            }
+        }
+
+        private long waitForNextTick() {
+            long deadline = tickNanos * (tick + 1);
+            while (true) {
+                long currentTime = System.nanoTime() - startTime;
+                long sleepMillis = (deadline - currentTime + 999999) / 1000000;
+                if (sleepMillis <= 0) {
+                    return currentTime;
+                }
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    if (state.get() == ST_STOPPED) {
+                        return -1;
+                    }
+                }
+            }
+        }
+    }
+
+    public static final class Timeout {
+
+        private static final int ST_WAITING = 0;
+
+        private static final int ST_CANCELLED = 1;
+
+        private static final int ST_EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final HashedWheelTimer timer;
+
+        private final Runnable task;
+
+        private final long deadline;
+
+        private volatile int state = ST_WAITING;
+
+        private long remainingRounds;
+
+        private Timeout next;
+
+        private Timeout prev;
+
+        private Bucket bucket;
+
+        private Timeout(HashedWheelTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        public boolean cancel() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_WAITING, ST_CANCELLED)) {
+                return false;
+            }
+            //交给worker线程从bucket中移除, 避免加锁
+            timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        private void expire() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_WAITING, ST_EXPIRED)) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Throwable t) {
+                logger.warn("timeout task error, error={}", t.getMessage(), t);
+            }
+        }
+    }
+
+    /**
+     * 链表只会被worker线程访问, size会被{@link #pendingCount()}在其他线程读取
+     */
+    private static final class Bucket {
+
+        private Timeout head;
+
+        private Timeout tail;
+
+        private final AtomicInteger size = new AtomicInteger(0);
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+            size.incrementAndGet();
+        }
+
+        void expireTimeouts(long deadline) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.deadline <= deadline) {
+                        timeout.expire();
+                    } else {
+                        //放错了bucket, 理论上不会发生
+                        throw new IllegalStateException("timeout.deadline > deadline");
+                    }
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            size.decrementAndGet();
+        }
+    }
+}
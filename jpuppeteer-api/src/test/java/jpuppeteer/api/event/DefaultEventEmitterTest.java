@@ -0,0 +1,272 @@
+package jpuppeteer.api.event;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.*;
+
+public class DefaultEventEmitterTest {
+
+    enum Type {
+        A, B
+    }
+
+    private final List<AutoCloseable> closeables = new ArrayList<>();
+
+    @After
+    public void tearDown() throws Exception {
+        for(AutoCloseable closeable : closeables) {
+            closeable.close();
+        }
+    }
+
+    private DefaultEventEmitter<Type> emitter(int capacity, OverflowPolicy policy) {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        closeables.add(executor::shutdownNow);
+        return new DefaultEventEmitter<>(executor, capacity, policy);
+    }
+
+    /**
+     * 第一个事件在listener中等待release, 后面发布的事件都留在队列中
+     */
+    private static class Recorder implements Consumer<String> {
+
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        private final CountDownLatch done;
+
+        Recorder(int expected) {
+            this.done = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void accept(String event) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(event);
+            done.countDown();
+        }
+
+        void awaitStarted() throws InterruptedException {
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+        }
+
+        List<String> finish() throws InterruptedException {
+            release.countDown();
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            return new ArrayList<>(events);
+        }
+    }
+
+    @Test
+    public void testBlock() throws Exception {
+        DefaultEventEmitter<Type> emitter = emitter(2, OverflowPolicy.BLOCK);
+        Recorder recorder = new Recorder(4);
+        emitter.addListener(Type.A, recorder);
+        emitter.emit(Type.A, "1");
+        recorder.awaitStarted();
+        emitter.emit(Type.A, "2");
+        emitter.emit(Type.A, "3");
+        assertEquals(2, emitter.queueDepth());
+
+        Thread publisher = new Thread(() -> emitter.emit(Type.A, "4"));
+        publisher.start();
+        publisher.join(200);
+        //队列满了, 发布线程一直等到有空位
+        assertTrue(publisher.isAlive());
+        assertEquals(2, emitter.queueDepth());
+
+        assertEquals(Arrays.asList("1", "2", "3", "4"), recorder.finish());
+        publisher.join(5000);
+        assertFalse(publisher.isAlive());
+        assertEquals(0, emitter.droppedCount());
+    }
+
+    @Test
+    public void testBlockOnEventLoop() throws Exception {
+        EventLoopGroup group = EventLoopGroup.fixed("EventLoopTest", 1);
+        closeables.add(group);
+        DefaultEventEmitter<Type> source = new DefaultEventEmitter<>(group);
+        DefaultEventEmitter<Type> target = new DefaultEventEmitter<>(group);
+        target.setQueueCapacity(1, OverflowPolicy.BLOCK);
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(3);
+        target.addListener(Type.B, (String event) -> {
+            received.add(event);
+            done.countDown();
+        });
+        //target的drain任务只能在当前listener返回之后在同一个线程上执行, 阻塞的话会死锁
+        source.addListener(Type.A, (String event) -> {
+            for(int i = 0; i < 3; i++) {
+                target.emit(Type.B, event + i);
+            }
+        });
+        source.emit(Type.A, "x");
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("x0", "x1", "x2"), received);
+    }
+
+    @Test
+    public void testDropOldest() throws Exception {
+        DefaultEventEmitter<Type> emitter = emitter(2, OverflowPolicy.DROP_OLDEST);
+        Recorder recorder = new Recorder(3);
+        emitter.addListener(Type.A, recorder);
+        emitter.emit(Type.A, "1");
+        recorder.awaitStarted();
+        for(int i = 2; i <= 5; i++) {
+            emitter.emit(Type.A, String.valueOf(i));
+        }
+        assertEquals(2, emitter.queueDepth());
+        assertEquals(2, emitter.droppedCount());
+        assertEquals(Arrays.asList("1", "4", "5"), recorder.finish());
+    }
+
+    @Test
+    public void testDropNewest() throws Exception {
+        DefaultEventEmitter<Type> emitter = emitter(2, OverflowPolicy.DROP_NEWEST);
+        Recorder recorder = new Recorder(3);
+        emitter.addListener(Type.A, recorder);
+        emitter.emit(Type.A, "1");
+        recorder.awaitStarted();
+        for(int i = 2; i <= 5; i++) {
+            emitter.emit(Type.A, String.valueOf(i));
+        }
+        assertEquals(2, emitter.queueDepth());
+        assertEquals(2, emitter.droppedCount());
+        assertEquals(Arrays.asList("1", "2", "3"), recorder.finish());
+    }
+
+    @Test
+    public void testCoalesce() throws Exception {
+        DefaultEventEmitter<Type> emitter = emitter(3, OverflowPolicy.COALESCE);
+        emitter.coalesce(Type.A, event -> ((String) event).split(":")[0]);
+        Recorder recorder = new Recorder(4);
+        emitter.addListener(Type.A, recorder);
+        emitter.emit(Type.A, "k1:1");
+        recorder.awaitStarted();
+        emitter.emit(Type.A, "k1:2");
+        emitter.emit(Type.A, "k2:3");
+        //替换队列中的k1:2, 保留原来的位置
+        emitter.emit(Type.A, "k1:4");
+        emitter.emit(Type.A, "k3:5");
+        assertEquals(3, emitter.queueDepth());
+        assertEquals(1, emitter.coalescedCount());
+        //队列满了, 不能合并的事件丢弃, 能合并的继续合并
+        emitter.emit(Type.A, "k4:6");
+        emitter.emit(Type.A, "k2:7");
+        assertEquals(1, emitter.droppedCount());
+        assertEquals(2, emitter.coalescedCount());
+        assertEquals(Arrays.asList("k1:1", "k1:4", "k2:7", "k3:5"), recorder.finish());
+    }
+
+    @Test
+    public void testCoalesceWithoutKey() throws Exception {
+        //没有配置合并key的事件类型不合并
+        DefaultEventEmitter<Type> emitter = emitter(10, OverflowPolicy.COALESCE);
+        emitter.coalesce(Type.A, event -> event);
+        Recorder recorder = new Recorder(3);
+        emitter.addListener(Type.B, recorder);
+        emitter.emit(Type.B, "x");
+        recorder.awaitStarted();
+        emitter.emit(Type.B, "x");
+        emitter.emit(Type.B, "x");
+        assertEquals(0, emitter.coalescedCount());
+        assertEquals(Arrays.asList("x", "x", "x"), recorder.finish());
+    }
+
+    @Test
+    public void testClearQueue() throws Exception {
+        DefaultEventEmitter<Type> emitter = emitter(10, OverflowPolicy.BLOCK);
+        Recorder recorder = new Recorder(1);
+        emitter.addListener(Type.A, recorder);
+        emitter.emit(Type.A, "1");
+        recorder.awaitStarted();
+        emitter.emit(Type.A, "2");
+        emitter.emit(Type.A, "3");
+        assertEquals(2, emitter.queueDepth());
+        emitter.clearQueue();
+        assertEquals(0, emitter.queueDepth());
+        assertEquals(Collections.singletonList("1"), recorder.finish());
+        assertEquals(0, emitter.droppedCount());
+    }
+
+    @Test
+    public void testExecutorBounded() throws Exception {
+        //通过executor提交的任务跟事件一样受容量和溢出策略限制, 任务中直接执行listener
+        DefaultEventEmitter<Type> emitter = emitter(2, OverflowPolicy.DROP_NEWEST);
+        Recorder recorder = new Recorder(3);
+        emitter.addListener(Type.A, recorder);
+        for(int i = 1; i <= 5; i++) {
+            String event = String.valueOf(i);
+            emitter.executor().execute(() -> emitter.emitNow(Type.A, event));
+            if (i == 1) {
+                recorder.awaitStarted();
+            }
+        }
+        assertEquals(2, emitter.queueDepth());
+        assertEquals(2, emitter.droppedCount());
+        assertEquals(Arrays.asList("1", "2", "3"), recorder.finish());
+    }
+
+    @Test
+    public void testClearQueueClearsTasks() throws Exception {
+        DefaultEventEmitter<Type> emitter = emitter(10, OverflowPolicy.BLOCK);
+        Recorder recorder = new Recorder(1);
+        emitter.addListener(Type.A, recorder);
+        emitter.executor().execute(() -> emitter.emitNow(Type.A, "1"));
+        recorder.awaitStarted();
+        emitter.executor().execute(() -> emitter.emitNow(Type.A, "2"));
+        assertEquals(1, emitter.queueDepth());
+        emitter.clearQueue();
+        assertEquals(0, emitter.queueDepth());
+        assertEquals(Collections.singletonList("1"), recorder.finish());
+    }
+
+    @Test
+    public void testErrorKeepsDraining() throws Exception {
+        DefaultEventEmitter<Type> emitter = emitter(10, OverflowPolicy.BLOCK);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        emitter.addListener(Type.A, (String event) -> {
+            if ("error".equals(event)) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new StackOverflowError("test");
+            }
+            received.add(event);
+            done.countDown();
+        });
+        emitter.emit(Type.A, "error");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        emitter.emit(Type.A, "1");
+        emitter.emit(Type.A, "2");
+        release.countDown();
+        //Error不会被listener的异常处理吞掉, 但队列中剩下的事件仍然要执行
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("1", "2"), received);
+    }
+}
@@ -0,0 +1,105 @@
+package jpuppeteer.api.util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class HashedWheelTimerTest {
+
+    private final HashedWheelTimer timer = new HashedWheelTimer("TimerTest", 10, TimeUnit.MILLISECONDS, 4);
+
+    @After
+    public void tearDown() {
+        timer.stop();
+    }
+
+    private void awaitPending(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (timer.pendingCount() != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, timer.pendingCount());
+    }
+
+    @Test
+    public void testExpire() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(latch::countDown, 50, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+        awaitPending(0);
+    }
+
+    @Test
+    public void testCancel() throws InterruptedException {
+        AtomicBoolean fired = new AtomicBoolean(false);
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(() -> fired.set(true), 50, TimeUnit.MILLISECONDS);
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+        Thread.sleep(200);
+        assertFalse(fired.get());
+        assertFalse(timeout.isExpired());
+        awaitPending(0);
+    }
+
+    @Test
+    public void testOrder() throws InterruptedException {
+        //轮子只有4个tick(40ms), 超过一圈的超时需要等待多轮
+        List<Integer> fired = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(5);
+        for(int delay : new int[]{200, 40, 160, 80, 120}) {
+            timer.newTimeout(() -> {
+                fired.add(delay);
+                latch.countDown();
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(40, 80, 120, 160, 200), fired);
+    }
+
+    @Test
+    public void testPendingCount() throws InterruptedException {
+        List<HashedWheelTimer.Timeout> timeouts = new ArrayList<>();
+        for(int i = 0; i < 100; i++) {
+            timeouts.add(timer.newTimeout(() -> {}, 10, TimeUnit.SECONDS));
+        }
+        //等worker把超时从待处理队列转移到bucket中, 在其他线程上读取的数量保持不变
+        Thread.sleep(50);
+        assertEquals(100, timer.pendingCount());
+        for(HashedWheelTimer.Timeout timeout : timeouts) {
+            timeout.cancel();
+        }
+        awaitPending(0);
+    }
+
+    @Test
+    public void testTaskError() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        timer.newTimeout(() -> {
+            throw new IllegalStateException("test");
+        }, 10, TimeUnit.MILLISECONDS);
+        timer.newTimeout(latch::countDown, 30, TimeUnit.MILLISECONDS);
+        //一个任务出错不影响其他任务
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testStopped() {
+        timer.newTimeout(() -> {}, 10, TimeUnit.MILLISECONDS);
+        timer.stop();
+        timer.newTimeout(() -> {}, 10, TimeUnit.MILLISECONDS);
+    }
+}
@@ -10,9 +10,13 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.stream.Stream;
 
 public class CDPGenerator {
 
@@ -25,6 +29,22 @@ public class CDPGenerator {
     static Map<String, Type> typeMap = new HashMap<>();
     static String connectionClassName = "jpuppeteer.cdp.CDPConnection";//CDPConnection.class.getName();
     static String sessionClassName = "jpuppeteer.cdp.CDPSession";//CDPSession.class.getName();
+    static String readerClassName = "jpuppeteer.cdp.JsonReader";
+    static String decoderClassName = "jpuppeteer.cdp.CDPDecoder";
+    static String writerClassName = "jpuppeteer.cdp.JsonWriter";
+    static String writableClassName = "jpuppeteer.cdp.CDPWritable";
+    //是否生成返回CompletionStage的xxxAsync方法
+    static boolean completionStage = true;
+    //预定义的domain组合, chrome为jpuppeteer-chrome用到的domain
+    static Map<String, Set<String>> profiles = new HashMap<String, Set<String>>() {{
+        put("full", Collections.emptySet());
+        put("chrome", Sets.newHashSet("Browser", "Target", "Storage", "Page", "Network", "Runtime", "Fetch", "Input", "DOM", "Emulation", "Log", "Performance", "IO"));
+    }};
+    //只生成指定的domain(被引用到的domain会自动加上), 为空的时候生成全部
+    //-Djpuppeteer.cdp.profile=chrome 或者 -Djpuppeteer.cdp.domains=Page,Network
+    static Set<String> includeDomains = resolveDomains();
+    //生成了decoder的实体, 按domain分组, 用于生成CDPCodecs
+    static Map<String, Set<String>> decoderMap = new TreeMap<>();
 
     public static void main(String... args) throws Exception {
         Document browserDoc = readProtocol("/browser_protocol.json");
@@ -34,6 +54,13 @@ public class CDPGenerator {
         }
         browserDoc.domains.addAll(jsDoc.domains);
         System.out.println("protocol version "+browserDoc.version.major+"."+browserDoc.version.minor);
+        if (CollectionUtils.isNotEmpty(includeDomains)) {
+            Set<String> included = dependencyClosure(browserDoc.domains, includeDomains);
+            browserDoc.domains.removeIf(domain -> !included.contains(domain.domain));
+            System.out.println("domains " + included);
+        }
+        //先清空生成目录, 否则裁剪之后不再生成的类会留在原来的目录中
+        cleanDir(new File(rootDir + "/" + basePackage.replace(".", "/")));
         //处理types的引用
         for(Domain domain : browserDoc.domains) {
             if (CollectionUtils.isNotEmpty(domain.types)) {
@@ -57,6 +84,7 @@ public class CDPGenerator {
             events.putAll(createEvent(domain));
         }
         createEventEnum(events);
+        createCodecs();
         //生成键盘布局
 //        InputStream is = CDPGenerator.class.getResourceAsStream("/USKeyboardLayout.json");
 //        BufferedReader reader = new BufferedReader(new InputStreamReader(is));
@@ -96,6 +124,89 @@ public class CDPGenerator {
 //        }
     }
 
+    private static Set<String> resolveDomains() {
+        String domains = System.getProperty("jpuppeteer.cdp.domains");
+        if (StringUtils.isNotEmpty(domains)) {
+            return Sets.newHashSet(StringUtils.split(domains, ", "));
+        }
+        String profile = System.getProperty("jpuppeteer.cdp.profile", "full");
+        if (!profiles.containsKey(profile)) {
+            throw new IllegalArgumentException("unknown profile " + profile);
+        }
+        return profiles.get(profile);
+    }
+
+    /**
+     * 加上被引用到类型的domain, 直到没有新的domain为止
+     */
+    private static Set<String> dependencyClosure(List<Domain> domains, Set<String> include) {
+        Map<String, Domain> domainMap = new HashMap<>();
+        for(Domain domain : domains) {
+            domainMap.put(domain.domain, domain);
+        }
+        Set<String> included = new TreeSet<>();
+        Deque<String> queue = new ArrayDeque<>(include);
+        while (!queue.isEmpty()) {
+            String name = queue.poll();
+            Domain domain = domainMap.get(name);
+            if (domain == null) {
+                throw new IllegalArgumentException("unknown domain " + name);
+            }
+            if (!included.add(name)) {
+                continue;
+            }
+            Set<String> refs = new HashSet<>();
+            collectRefs(domain.types, refs);
+            if (domain.commands != null) {
+                for(Command command : domain.commands) {
+                    collectRefs(command.parameters, refs);
+                    collectRefs(command.returns, refs);
+                }
+            }
+            if (domain.events != null) {
+                for(Event event : domain.events) {
+                    collectRefs(event.parameters, refs);
+                }
+            }
+            for(String ref : refs) {
+                if (!included.contains(ref)) {
+                    queue.add(ref);
+                }
+            }
+        }
+        return included;
+    }
+
+    private static void collectRefs(List<Type> types, Set<String> refs) {
+        if (types == null) {
+            return;
+        }
+        for(Type type : types) {
+            collectRefs(type, refs);
+        }
+    }
+
+    private static void collectRefs(Type type, Set<String> refs) {
+        if (type == null) {
+            return;
+        }
+        if (StringUtils.isNotEmpty(type.ref) && type.ref.contains(".")) {
+            refs.add(type.ref.substring(0, type.ref.indexOf('.')));
+        }
+        collectRefs(type.items, refs);
+        collectRefs(type.properties, refs);
+    }
+
+    private static void cleanDir(File dir) throws IOException {
+        if (!dir.exists()) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir.toPath())) {
+            //先删除文件再删除目录
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
     private static void writeFile(String filename, StringBuffer sb) throws Exception {
         File java = new File(filename);
         if (java.exists()) {
@@ -149,9 +260,11 @@ public class CDPGenerator {
             sb.append(entry.getKey());
             sb.append("\"");
             sb.append(", ");
+            //只记录类名, 用到的时候才加载, 避免枚举初始化的时候加载所有的事件类
             if (clazz != null) {
+                sb.append("\"");
                 sb.append(clazz.getPackage() + "." + clazz.id);
-                sb.append(".class");
+                sb.append("\"");
             } else {
                 sb.append("null");
             }
@@ -166,16 +279,19 @@ public class CDPGenerator {
         sb.append("    private String name;");
         sb.append(CRLF);
         sb.append(CRLF);
-        sb.append("    private Class clazz;");
+        sb.append("    private String className;");
+        sb.append(CRLF);
+        sb.append(CRLF);
+        sb.append("    private volatile Class clazz;");
         sb.append(CRLF);
         sb.append(CRLF);
         sb.append("    ");
         sb.append(enumClassName);
-        sb.append("(String name, Class clazz) {");
+        sb.append("(String name, String className) {");
         sb.append(CRLF);
         sb.append("        this.name = name;");
         sb.append(CRLF);
-        sb.append("        this.clazz = clazz;");
+        sb.append("        this.className = className;");
         sb.append(CRLF);
         sb.append("    }");
         sb.append(CRLF);
@@ -187,8 +303,35 @@ public class CDPGenerator {
         sb.append("    }");
         sb.append(CRLF);
         sb.append(CRLF);
+        sb.append("    public String getClassName() {");
+        sb.append(CRLF);
+        sb.append("        return className;");
+        sb.append(CRLF);
+        sb.append("    }");
+        sb.append(CRLF);
+        sb.append(CRLF);
         sb.append("    public Class getClazz() {");
         sb.append(CRLF);
+        sb.append("        Class clazz = this.clazz;");
+        sb.append(CRLF);
+        sb.append("        if (clazz == null && className != null) {");
+        sb.append(CRLF);
+        sb.append("            try {");
+        sb.append(CRLF);
+        sb.append("                clazz = Class.forName(className, false, ");
+        sb.append(enumClassName);
+        sb.append(".class.getClassLoader());");
+        sb.append(CRLF);
+        sb.append("            } catch (ClassNotFoundException e) {");
+        sb.append(CRLF);
+        sb.append("                throw new IllegalStateException(\"event class not found: \" + className, e);");
+        sb.append(CRLF);
+        sb.append("            }");
+        sb.append(CRLF);
+        sb.append("            this.clazz = clazz;");
+        sb.append(CRLF);
+        sb.append("        }");
+        sb.append(CRLF);
         sb.append("        return clazz;");
         sb.append(CRLF);
         sb.append("    }");
@@ -196,6 +339,8 @@ public class CDPGenerator {
         sb.append(CRLF);
         sb.append("    public <T> T getObject(Object object) {");
         sb.append(CRLF);
+        sb.append("        Class clazz = getClazz();");
+        sb.append(CRLF);
         sb.append("        if (clazz == null) {");
         sb.append(CRLF);
         sb.append("            return null;");
@@ -213,19 +358,32 @@ public class CDPGenerator {
         sb.append("    }");
         sb.append(CRLF);
         sb.append(CRLF);
-        sb.append("    public static ");
+        //按名称建立hash索引, 避免每次都线性扫描所有的事件
+        sb.append("    private static final java.util.Map<String, ");
         sb.append(enumClassName);
-        sb.append(" findByName(String name) {");
+        sb.append("> NAME_INDEX = new java.util.HashMap<>(");
+        sb.append(values.size() * 2);
+        sb.append(");");
+        sb.append(CRLF);
+        sb.append(CRLF);
+        sb.append("    static {");
         sb.append(CRLF);
         sb.append("        for(");
         sb.append(enumClassName);
         sb.append(" val : values()) {");
         sb.append(CRLF);
-        sb.append("            if (val.name.equals(name)) return val;");
+        sb.append("            NAME_INDEX.put(val.name, val);");
         sb.append(CRLF);
         sb.append("        }");
         sb.append(CRLF);
-        sb.append("        return null;");
+        sb.append("    }");
+        sb.append(CRLF);
+        sb.append(CRLF);
+        sb.append("    public static ");
+        sb.append(enumClassName);
+        sb.append(" findByName(String name) {");
+        sb.append(CRLF);
+        sb.append("        return name != null ? NAME_INDEX.get(name) : null;");
         sb.append(CRLF);
         sb.append("    }");
         sb.append(CRLF);
@@ -344,7 +502,12 @@ public class CDPGenerator {
             sb.append("    public ");
             Type ret = null;
             Type param = null;
-            String asyncMethod = "    public java.util.concurrent.Future<";
+            //旧的Future方法, 保留源码兼容, 新代码请使用返回CompletionStage的xxxAsync方法
+            String asyncMethod = "    /**" + CRLF;
+            asyncMethod += "    * @deprecated 请使用{@link #" + command.name + "Async}" + CRLF;
+            asyncMethod += "    */" + CRLF;
+            asyncMethod += "    @Deprecated" + CRLF;
+            asyncMethod += "    public java.util.concurrent.Future<";
             if (CollectionUtils.isEmpty(command.returns)) {
                 sb.append("void");
                 asyncMethod += "Void";
@@ -382,21 +545,10 @@ public class CDPGenerator {
             sb.append(")");
             sb.append(" throws Exception {");
             sb.append(CRLF);
-            asyncMethod += "        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = " + varName + ".asyncSend(";
+            //直接按返回类型解码, 不经过JSONObject
+            asyncMethod += "        return " + varName + ".asyncSend(";
             asyncMethod += "\"" + domain.domain + "." + command.name + "\"";
-            if (param != null) {
-                asyncMethod += ", request";
-            }
-            asyncMethod += ");";
-            asyncMethod += CRLF;
-            asyncMethod += "        return new jpuppeteer.cdp.CDPFuture<";
-            if (ret != null) {
-                asyncMethod += ret.getPackage() + "." + ret.id;
-            } else {
-                asyncMethod += "Void";
-            }
-            asyncMethod += ">";
-            asyncMethod += "(future, ";
+            asyncMethod += param != null ? ", request, " : ", null, ";
             if (ret != null) {
                 asyncMethod += ret.getPackage() + "." + ret.id + ".class";
             } else {
@@ -450,6 +602,12 @@ public class CDPGenerator {
             sb.append(CRLF);
             sb.append(asyncMethod);
             //sb.append(asyncMethod);
+
+            if (completionStage) {
+                sb.append(CRLF);
+                sb.append(CRLF);
+                sb.append(createStageMethod(domain, command, varName, param, ret));
+            }
         }
         sb.append(CRLF);
         sb.append("}");
@@ -457,6 +615,47 @@ public class CDPGenerator {
         writeFile(dirName + "/" + domain.domain + ".java", sb);
     }
 
+    /**
+     * 返回CompletionStage的方法, 响应在解码线程上只解码一次, 可以组合, 超时之后以TimeoutException结束
+     */
+    private static StringBuffer createStageMethod(Domain domain, Command command, String varName, Type param, Type ret) {
+        String retType = ret != null ? ret.getPackage() + "." + ret.id : "Void";
+        StringBuffer sb = new StringBuffer();
+        sb.append("    /**");
+        sb.append(CRLF);
+        sb.append("    * @see #");
+        sb.append(command.name);
+        sb.append(CRLF);
+        sb.append("    */");
+        sb.append(CRLF);
+        sb.append("    public java.util.concurrent.CompletionStage<");
+        sb.append(retType);
+        sb.append("> ");
+        sb.append(command.name);
+        sb.append("Async(");
+        if (param != null) {
+            sb.append(param.getPackage() + "." + param.id + " request, ");
+        }
+        sb.append("int timeout) {");
+        sb.append(CRLF);
+        sb.append("        return ");
+        sb.append(varName);
+        sb.append(".sendAsync(\"");
+        sb.append(domain.domain);
+        sb.append(".");
+        sb.append(command.name);
+        sb.append("\", ");
+        sb.append(param != null ? "request, " : "null, ");
+        if (ret != null) {
+            sb.append(retType);
+            sb.append(".class, ");
+        }
+        sb.append("timeout);");
+        sb.append(CRLF);
+        sb.append("    }");
+        return sb;
+    }
+
     public static Document readProtocol(String file) throws Exception {
         InputStream is = CDPGenerator.class.getResourceAsStream(file);
         StringBuffer sb = new StringBuffer();
@@ -637,6 +836,8 @@ public class CDPGenerator {
         sb.append(CRLF);
         sb.append("public class ");
         sb.append(type.id);
+        sb.append(" implements ");
+        sb.append(writableClassName);
         sb.append(" {");
         sb.append(CRLF);
         sb.append(CRLF);
@@ -659,11 +860,315 @@ public class CDPGenerator {
             sb.append(CRLF);
         }
         sb.append(CRLF);
+        sb.append(createDecoder(domain, type));
+        sb.append(CRLF);
+        sb.append(createWriter(type));
         sb.append(CRLF);
         sb.append("}");
+        decoderMap.computeIfAbsent(domain.domain.toLowerCase(), k -> new TreeSet<>()).add(type.id);
         return sb;
     }
 
+    /**
+     * 生成从原始消息直接解码的静态方法, 不经过JSONObject和反射
+     */
+    public static StringBuffer createDecoder(Domain domain, Type type) throws Exception {
+        StringBuffer sb = new StringBuffer();
+        sb.append("    public static ");
+        sb.append(type.id);
+        sb.append(" decode(");
+        sb.append(readerClassName);
+        sb.append(" reader) {");
+        sb.append(CRLF);
+        sb.append("        if (reader.nextNull()) {");
+        sb.append(CRLF);
+        sb.append("            return null;");
+        sb.append(CRLF);
+        sb.append("        }");
+        sb.append(CRLF);
+        sb.append("        ");
+        sb.append(type.id);
+        sb.append(" object = new ");
+        sb.append(type.id);
+        sb.append("();");
+        sb.append(CRLF);
+        sb.append("        reader.beginObject();");
+        sb.append(CRLF);
+        sb.append("        while (reader.hasNext()) {");
+        sb.append(CRLF);
+        sb.append("            switch (reader.nextName()) {");
+        sb.append(CRLF);
+        for(Type prop : type.properties) {
+            sb.append("                case \"");
+            sb.append(prop.name);
+            sb.append("\":");
+            sb.append(CRLF);
+            sb.append("                    object.");
+            sb.append(prop.name.equals("this") ? "self" : prop.name);
+            sb.append(" = ");
+            sb.append(readExpression(getType(domain, prop, type)));
+            sb.append(";");
+            sb.append(CRLF);
+            sb.append("                    break;");
+            sb.append(CRLF);
+        }
+        sb.append("                default:");
+        sb.append(CRLF);
+        sb.append("                    reader.skipValue();");
+        sb.append(CRLF);
+        sb.append("                    break;");
+        sb.append(CRLF);
+        sb.append("            }");
+        sb.append(CRLF);
+        sb.append("        }");
+        sb.append(CRLF);
+        sb.append("        return object;");
+        sb.append(CRLF);
+        sb.append("    }");
+        sb.append(CRLF);
+        return sb;
+    }
+
+    /**
+     * 生成直接写出json的方法, 跟fastjson一样不写出null的字段
+     */
+    public static StringBuffer createWriter(Type type) {
+        StringBuffer sb = new StringBuffer();
+        sb.append("    @Override");
+        sb.append(CRLF);
+        sb.append("    public void write(");
+        sb.append(writerClassName);
+        sb.append(" writer) {");
+        sb.append(CRLF);
+        sb.append("        writer.beginObject();");
+        sb.append(CRLF);
+        for(Type prop : type.properties) {
+            String field = prop.name.equals("this") ? "self" : prop.name;
+            sb.append("        if (");
+            sb.append(field);
+            sb.append(" != null) {");
+            sb.append(CRLF);
+            sb.append("            writer.name(\"");
+            sb.append(prop.name);
+            sb.append("\").value(");
+            sb.append(field);
+            sb.append(");");
+            sb.append(CRLF);
+            sb.append("        }");
+            sb.append(CRLF);
+        }
+        sb.append("        writer.endObject();");
+        sb.append(CRLF);
+        sb.append("    }");
+        sb.append(CRLF);
+        return sb;
+    }
+
+    /**
+     * @param javaType getType返回的字段类型
+     */
+    private static String readExpression(String javaType) {
+        switch (javaType) {
+            case "String":
+                return "reader.nextString()";
+            case "Integer":
+                return "reader.nextInteger()";
+            case "Double":
+                return "reader.nextDouble()";
+            case "Boolean":
+                return "reader.nextBoolean()";
+            case "Object":
+                return "reader.nextAny()";
+            case "java.util.Map<String, Object>":
+                return "reader.nextMap()";
+            default:
+                if (javaType.startsWith("java.util.List<")) {
+                    return "reader.nextList(" + decoderExpression(javaType.substring(15, javaType.length() - 1)) + ")";
+                }
+                return javaType + ".decode(reader)";
+        }
+    }
+
+    /**
+     * 列表元素的decoder, 都是不捕获变量的方法引用/lambda, 不会每次创建新对象
+     */
+    private static String decoderExpression(String javaType) {
+        switch (javaType) {
+            case "String":
+                return readerClassName + "::nextString";
+            case "Integer":
+                return readerClassName + "::nextInteger";
+            case "Double":
+                return readerClassName + "::nextDouble";
+            case "Boolean":
+                return readerClassName + "::nextBoolean";
+            case "Object":
+                return readerClassName + "::nextAny";
+            case "java.util.Map<String, Object>":
+                return readerClassName + "::nextMap";
+            default:
+                if (javaType.startsWith("java.util.List<")) {
+                    return "r -> r.nextList(" + decoderExpression(javaType.substring(15, javaType.length() - 1)) + ")";
+                }
+                return javaType + "::decode";
+        }
+    }
+
+    /**
+     * 生成decoder注册表, 按类名做两级的字符串switch(domain, 类名), 第一次用到某个实体的时候才会加载对应的类
+     */
+    public static void createCodecs() throws Exception {
+        String pkg = basePackage;
+        String dirName = rootDir + "/" + pkg.replace(".", "/");
+        String className = "CDPCodecs";
+        String entityPackage = basePackage + ".entity.";
+        StringBuffer sb = new StringBuffer();
+        sb.append("package ");
+        sb.append(pkg);
+        sb.append(";");
+        sb.append(CRLF);
+        sb.append(CRLF);
+        sb.append("public final class ");
+        sb.append(className);
+        sb.append(" {");
+        sb.append(CRLF);
+        sb.append(CRLF);
+        sb.append("    private static final ");
+        sb.append(decoderClassName);
+        sb.append("<?> NONE = reader -> null;");
+        sb.append(CRLF);
+        sb.append(CRLF);
+        sb.append("    private static final java.util.Map<Class<?>, ");
+        sb.append(decoderClassName);
+        sb.append("<?>> CACHE = new java.util.concurrent.ConcurrentHashMap<>();");
+        sb.append(CRLF);
+        sb.append(CRLF);
+        sb.append("    private ");
+        sb.append(className);
+        sb.append("() {");
+        sb.append(CRLF);
+        sb.append("    }");
+        sb.append(CRLF);
+        sb.append(CRLF);
+        sb.append("    /**");
+        sb.append(CRLF);
+        sb.append("    * 不是生成的实体类返回null");
+        sb.append(CRLF);
+        sb.append("    */");
+        sb.append(CRLF);
+        sb.append("    public static <T> ");
+        sb.append(decoderClassName);
+        sb.append("<T> decoder(Class<T> clazz) {");
+        sb.append(CRLF);
+        sb.append("        ");
+        sb.append(decoderClassName);
+        sb.append("<?> decoder = CACHE.get(clazz);");
+        sb.append(CRLF);
+        sb.append("        if (decoder == null) {");
+        sb.append(CRLF);
+        sb.append("            decoder = find(clazz.getName());");
+        sb.append(CRLF);
+        sb.append("            if (decoder == null) {");
+        sb.append(CRLF);
+        sb.append("                decoder = NONE;");
+        sb.append(CRLF);
+        sb.append("            }");
+        sb.append(CRLF);
+        sb.append("            CACHE.put(clazz, decoder);");
+        sb.append(CRLF);
+        sb.append("        }");
+        sb.append(CRLF);
+        sb.append("        return decoder != NONE ? (");
+        sb.append(decoderClassName);
+        sb.append("<T>) decoder : null;");
+        sb.append(CRLF);
+        sb.append("    }");
+        sb.append(CRLF);
+        sb.append(CRLF);
+        sb.append("    private static ");
+        sb.append(decoderClassName);
+        sb.append("<?> find(String className) {");
+        sb.append(CRLF);
+        sb.append("        if (!className.startsWith(\"");
+        sb.append(entityPackage);
+        sb.append("\")) {");
+        sb.append(CRLF);
+        sb.append("            return null;");
+        sb.append(CRLF);
+        sb.append("        }");
+        sb.append(CRLF);
+        sb.append("        int index = className.indexOf('.', ");
+        sb.append(entityPackage.length());
+        sb.append(");");
+        sb.append(CRLF);
+        sb.append("        if (index < 0) {");
+        sb.append(CRLF);
+        sb.append("            return null;");
+        sb.append(CRLF);
+        sb.append("        }");
+        sb.append(CRLF);
+        sb.append("        String name = className.substring(index + 1);");
+        sb.append(CRLF);
+        sb.append("        switch (className.substring(");
+        sb.append(entityPackage.length());
+        sb.append(", index)) {");
+        sb.append(CRLF);
+        for(String domain : decoderMap.keySet()) {
+            sb.append("            case \"");
+            sb.append(domain);
+            sb.append("\":");
+            sb.append(CRLF);
+            sb.append("                return ");
+            sb.append(domain);
+            sb.append("(name);");
+            sb.append(CRLF);
+        }
+        sb.append("            default:");
+        sb.append(CRLF);
+        sb.append("                return null;");
+        sb.append(CRLF);
+        sb.append("        }");
+        sb.append(CRLF);
+        sb.append("    }");
+        sb.append(CRLF);
+        for(Map.Entry<String, Set<String>> entry : decoderMap.entrySet()) {
+            String domain = entry.getKey();
+            sb.append(CRLF);
+            sb.append("    private static ");
+            sb.append(decoderClassName);
+            sb.append("<?> ");
+            sb.append(domain);
+            sb.append("(String name) {");
+            sb.append(CRLF);
+            sb.append("        switch (name) {");
+            sb.append(CRLF);
+            for(String id : entry.getValue()) {
+                sb.append("            case \"");
+                sb.append(id);
+                sb.append("\":");
+                sb.append(CRLF);
+                sb.append("                return ");
+                sb.append(entityPackage);
+                sb.append(domain);
+                sb.append(".");
+                sb.append(id);
+                sb.append("::decode;");
+                sb.append(CRLF);
+            }
+            sb.append("            default:");
+            sb.append(CRLF);
+            sb.append("                return null;");
+            sb.append(CRLF);
+            sb.append("        }");
+            sb.append(CRLF);
+            sb.append("    }");
+            sb.append(CRLF);
+        }
+        sb.append("}");
+
+        writeFile(dirName + "/" + className + ".java", sb);
+    }
+
     public static class Document {
         public Version version;
         public List<Domain> domains;
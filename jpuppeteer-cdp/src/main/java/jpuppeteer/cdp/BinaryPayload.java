@@ -0,0 +1,236 @@
+package jpuppeteer.cdp;
+
+import com.alibaba.fastjson.JSON;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 从原始响应中直接解码base64大字段(截图/pdf的data, 响应体的body),
+ * 不经过JSONObject和中间的String, 可以解码到ByteBuffer或者分块写到OutputStream/Channel
+ */
+public final class BinaryPayload {
+
+    public static final String DATA = "data";
+
+    public static final String BODY = "body";
+
+    public static final String BASE64_ENCODED = "base64Encoded";
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<byte[]> CHUNK = ThreadLocal.withInitial(() -> new byte[CHUNK_SIZE]);
+
+    private static final int[] DECODE_TABLE = new int[128];
+
+    static {
+        for(int i = 0; i < DECODE_TABLE.length; i++) {
+            DECODE_TABLE[i] = -1;
+        }
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for(int i = 0; i < alphabet.length(); i++) {
+            DECODE_TABLE[alphabet.charAt(i)] = i;
+        }
+    }
+
+    private BinaryPayload() {
+    }
+
+    private interface Sink {
+
+        void write(byte[] chunk, int length) throws IOException;
+
+    }
+
+    private static int[] stringField(CDPMessage message, String field) {
+        int[] range = message.resultField(field);
+        if (range == null) {
+            return null;
+        }
+        if (message.text().charAt(range[0]) != '"') {
+            throw new IllegalArgumentException("field " + field + " is not a string");
+        }
+        //去掉引号
+        range[0]++;
+        range[1]--;
+        return range;
+    }
+
+    public static boolean has(CDPMessage message, String field) {
+        return message.resultField(field) != null;
+    }
+
+    public static boolean getBoolean(CDPMessage message, String field) {
+        int[] range = message.resultField(field);
+        return range != null && message.text().regionMatches(range[0], "true", 0, 4);
+    }
+
+    /**
+     * 非base64的字段(比如文本类型的响应体)按普通json字符串解析
+     */
+    public static String getString(CDPMessage message, String field) {
+        int[] range = message.resultField(field);
+        return range != null ? JSON.parseObject(message.text().substring(range[0], range[1]), String.class) : null;
+    }
+
+    /**
+     * @return 解码之后的字节数(精确值), 字段不存在的时候返回-1, 需要扫描一遍字段, 用来预先分配或者检查复用的buffer
+     */
+    public static int decodedSize(CDPMessage message, String field) {
+        int[] range = stringField(message, field);
+        return range != null ? decodedSize(message.text(), range[0], range[1]) : -1;
+    }
+
+    public static ByteBuffer decode(CDPMessage message, String field) {
+        int[] range = stringField(message, field);
+        if (range == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(decodedSize(message.text(), range[0], range[1]));
+        decode(message.text(), range[0], range[1], buffer);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * 解码到调用方提供的buffer中(比如复用的direct buffer), 跟{@link ByteBuffer#put(ByteBuffer)}一样从position开始写, 写完之后position移动到末尾
+     * @return 写入的字节数, 字段不存在的时候返回-1
+     * @throws BufferOverflowException 剩余空间不够, 这时不会写入任何数据
+     */
+    public static int decode(CDPMessage message, String field, ByteBuffer target) {
+        int[] range = stringField(message, field);
+        if (range == null) {
+            return -1;
+        }
+        int size = decodedSize(message.text(), range[0], range[1]);
+        if (size > target.remaining()) {
+            throw new BufferOverflowException();
+        }
+        decode(message.text(), range[0], range[1], target);
+        return size;
+    }
+
+    /**
+     * 先算出精确的长度, 直接解码到返回的数组中, 不需要再复制一次
+     */
+    public static byte[] decodeBytes(CDPMessage message, String field) {
+        int[] range = stringField(message, field);
+        if (range == null) {
+            return null;
+        }
+        byte[] bytes = new byte[decodedSize(message.text(), range[0], range[1])];
+        decode(message.text(), range[0], range[1], ByteBuffer.wrap(bytes));
+        return bytes;
+    }
+
+    private static void decode(String text, int start, int end, ByteBuffer target) {
+        try {
+            decode(text, start, end, (chunk, length) -> target.put(chunk, 0, length));
+        } catch (IOException e) {
+            //写到ByteBuffer不会有IOException
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return 写出的字节数, 字段不存在的时候返回-1
+     */
+    public static long decode(CDPMessage message, String field, OutputStream out) throws IOException {
+        int[] range = stringField(message, field);
+        if (range == null) {
+            return -1;
+        }
+        return decode(message.text(), range[0], range[1], (chunk, length) -> out.write(chunk, 0, length));
+    }
+
+    public static long decode(CDPMessage message, String field, WritableByteChannel channel) throws IOException {
+        int[] range = stringField(message, field);
+        if (range == null) {
+            return -1;
+        }
+        return decode(message.text(), range[0], range[1], (chunk, length) -> {
+            ByteBuffer buffer = ByteBuffer.wrap(chunk, 0, length);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        });
+    }
+
+    /**
+     * 跳过转义用的'\'以及末尾的'=', 每4个字符对应3个字节
+     */
+    private static int decodedSize(String text, int start, int end) {
+        long count = 0;
+        for(int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '=') {
+                break;
+            }
+            if (c != '\\') {
+                count++;
+            }
+        }
+        return (int) (count * 3 / 4);
+    }
+
+    private static long decode(String text, int start, int end, Sink sink) throws IOException {
+        byte[] chunk = CHUNK.get();
+        int size = 0;
+        long total = 0;
+        int bits = 0;
+        int count = 0;
+        for(int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '=') {
+                break;
+            }
+            //json中的'/'可能会被转义成'\/'
+            if (c == '\\') {
+                continue;
+            }
+            int value = c < 128 ? DECODE_TABLE[c] : -1;
+            if (value < 0) {
+                throw new IllegalArgumentException("illegal base64 character '" + c + "' at " + i);
+            }
+            bits = (bits << 6) | value;
+            count++;
+            if (count == 4) {
+                if (size + 3 > chunk.length) {
+                    sink.write(chunk, size);
+                    total += size;
+                    size = 0;
+                }
+                chunk[size++] = (byte) (bits >> 16);
+                chunk[size++] = (byte) (bits >> 8);
+                chunk[size++] = (byte) bits;
+                bits = 0;
+                count = 0;
+            }
+        }
+        //处理末尾不足4个字符的部分
+        if (count == 1) {
+            throw new IllegalArgumentException("illegal base64 length");
+        }
+        if (count > 1) {
+            if (size + 2 > chunk.length) {
+                sink.write(chunk, size);
+                total += size;
+                size = 0;
+            }
+            if (count == 2) {
+                chunk[size++] = (byte) (bits >> 4);
+            } else {
+                chunk[size++] = (byte) (bits >> 10);
+                chunk[size++] = (byte) (bits >> 2);
+            }
+        }
+        if (size > 0) {
+            sink.write(chunk, size);
+            total += size;
+        }
+        return total;
+    }
+}
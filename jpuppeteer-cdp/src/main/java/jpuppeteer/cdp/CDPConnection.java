@@ -3,20 +3,20 @@ package jpuppeteer.cdp;
 import com.alibaba.fastjson.JSON;
 import com.alibaba.fastjson.JSONObject;
 import com.alibaba.fastjson.TypeReference;
-import com.google.common.collect.MapMaker;
 import jpuppeteer.api.event.DefaultEventEmitter;
-import jpuppeteer.api.future.DefaultPromise;
-import jpuppeteer.api.future.Promise;
+import jpuppeteer.api.event.OverflowPolicy;
 import jpuppeteer.cdp.cdp.CDPEventType;
-import org.apache.commons.collections4.MapUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public abstract class CDPConnection extends DefaultEventEmitter<CDPEventType> {
 
@@ -32,54 +32,136 @@ public abstract class CDPConnection extends DefaultEventEmitter<CDPEventType> {
 
     protected static final String RESULT = "result";
 
+    /**
+     * asyncSend没有指定超时时间, 超过此时间(秒)没有响应的请求会以TimeoutException结束
+     */
+    public static final int DEFAULT_TIMEOUT = 30;
+
     private final AtomicInteger messageId;
 
-    protected final Map<Integer, Promise<JSONObject>> requestMap;
+    /**
+     * sendAsync的调用方只持有回调链, 所以这里必须是强引用, 由响应/超时/断开连接负责清理
+     */
+    protected final InflightRequests inflight;
+
+    private final OutboundQueue outbound;
+
+    private final Map<String/*sessionId*/, CDPSession> sessions;
+
+    /**
+     * 解码线程, 按sessionId分片, 接收线程只负责把消息交给对应的lane
+     */
+    private final ExecutorService[] decoders;
+
+    /**
+     * 事件分发的默认线程数
+     */
+    public static final int DEFAULT_WORKERS = Math.min(4, Runtime.getRuntime().availableProcessors());
 
     protected CDPConnection(String name) {
-        super(Executors.newSingleThreadExecutor(r -> new Thread(r, "Connection["+name+"]")));
+        this(name, DEFAULT_WORKERS);
+    }
+
+    /**
+     * 消息按sessionId分到workers个解码lane上, 在lane上解析消息, 解码result并完成请求, 同一个session的消息保持到达的顺序
+     * 事件再按sessionId分到workers个lane上并行分发, browser级别(没有sessionId)的消息都在第一个lane上
+     * 设置了执行器的session, 订阅者直接在session自己的执行器上执行, 不占用这里的lane
+     * 请求的回调在解码线程上执行, 不要在回调中阻塞等待同一个session的其他请求
+     * 超时的请求在第一个解码lane上结束, 不会在所有连接共享的计时线程上执行回调, 回调中阻塞同样会推迟本连接browser级别消息的处理
+     */
+    protected CDPConnection(String name, int workers) {
+        super(newWorkers(name, workers), workers, Integer.MAX_VALUE, OverflowPolicy.BLOCK);
         this.messageId = new AtomicInteger(0);
-        this.requestMap = new MapMaker().weakValues().concurrencyLevel(16).makeMap();
+        this.sessions = new ConcurrentHashMap<>();
+        this.decoders = newDecoders(name, workers);
+        this.inflight = new InflightRequests(name, decoders[0]);
+        this.outbound = new OutboundQueue(name, new OutboundQueue.BatchWriter() {
+            @Override
+            public void writeBatch(List<OutboundQueue.Command> batch) throws IOException {
+                CDPConnection.this.writeBatch(batch);
+            }
+
+            @Override
+            public void failed(OutboundQueue.Command command, Throwable cause) {
+                inflight.fail(command.getId(), cause);
+            }
+        });
+    }
+
+    private static ExecutorService newWorkers(String name, int workers) {
+        AtomicInteger counter = new AtomicInteger(0);
+        return Executors.newFixedThreadPool(workers, r -> new Thread(r, "Connection[" + name + "]-" + counter.getAndIncrement()));
+    }
+
+    private static ExecutorService[] newDecoders(String name, int workers) {
+        ExecutorService[] decoders = new ExecutorService[workers];
+        for(int i = 0; i < workers; i++) {
+            String threadName = "Connection[" + name + "]-decode-" + i;
+            decoders[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return decoders;
+    }
+
+    @Override
+    protected int lane(CDPEventType type, Object event) {
+        String sessionId = ((CDPEvent) event).getSessionId();
+        return sessionId == null ? 0 : (sessionId.hashCode() & Integer.MAX_VALUE) % lanes();
+    }
+
+    /**
+     * 第一条命令到达之后再等待多久凑够一批再写出, 默认为0, 即只合并已经积压的命令, 不额外增加延迟
+     */
+    public void setLinger(long linger, TimeUnit unit) {
+        outbound.setLinger(linger, unit);
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        outbound.setMaxBatchSize(maxBatchSize);
     }
 
     private JSONObject sendBase(String method, Object params, Map<String, Object> extra, int timeout) throws InterruptedException, ExecutionException, TimeoutException {
-        return send0(method, params, extra).get(timeout, TimeUnit.SECONDS);
+        return send0(method, params, extra, timeout).get(timeout, TimeUnit.SECONDS);
+    }
+
+    private static <T> T convert(JSONObject result, TypeReference<T> type) {
+        return type.getType().equals(JSONObject.class) ? (T) result : result.toJavaObject(type);
+    }
+
+    private static final Function<CDPMessage, JSONObject> RESULT_DECODER = message -> message.hasResult() ? JSON.parseObject(message.result()) : null;
+
+    private CompletableFuture<JSONObject> send0(String method, Object params, Map<String, Object> extra, int timeout) {
+        return send0(method, params, extra, RESULT_DECODER, timeout);
     }
 
-    private Future<JSONObject> send0(String method, Object params, Map<String, Object> extra) {
-        JSONObject json = new JSONObject();
+    /**
+     * 在解码线程上直接把result解码成clazz, 生成的实体不经过JSONObject
+     */
+    private <T> CompletableFuture<T> send0(String method, Object params, Map<String, Object> extra, Class<T> clazz, int timeout) {
+        return send0(method, params, extra, message -> message.decodeResult(clazz), timeout);
+    }
+
+    private <T> CompletableFuture<T> send0(String method, Object params, Map<String, Object> extra, Function<CDPMessage, T> decoder, int timeout) {
         int id = messageId.getAndIncrement();
-        //避免extra中的内容会覆盖ID, METHOD, PARAMS, 所以在前面先put进去
-        if (MapUtils.isNotEmpty(extra)) {
-            json.putAll(extra);
-        }
-        json.put(ID, id);
-        json.put(METHOD, method);
-        json.put(PARAMS, params);
-        Promise<JSONObject> promise = new DefaultPromise<>();
-        requestMap.put(id, promise);
+        String text = CommandEncoder.encode(id, method, extra, params);
+        CompletableFuture<T> promise = inflight.register(id, method, decoder, timeout, TimeUnit.SECONDS);
         if (logger.isDebugEnabled()) {
-            logger.debug("==> send method={}, id={}, extra={}, params={}", method, id, JSON.toJSONString(extra), JSON.toJSONString(params));
-        }
-        try {
-            sendInternal(json);
-        } catch (IOException ioe) {
-            //发送请求的过程中发生异常, 需要remove
-            requestMap.remove(id);
-            promise.setFailure(ioe);
-            logger.error("internal send error, error={}", ioe.getMessage(), ioe);
+            logger.debug("==> send method={}, id={}, message={}", method, id, text);
         }
+        //由flush线程按顺序成批写出, 写出失败的时候会通过inflight让promise失败
+        outbound.offer(new OutboundQueue.Command(id, text));
         return promise;
     }
 
     public final <T> T send(String method, Object params, Map<String, Object> extra, Class<T> clazz, int timeout) throws InterruptedException, ExecutionException, TimeoutException {
-        JSONObject result = sendBase(method, params, extra, timeout);
-        return JSONObject.class.equals(clazz) ? (T) result : result.toJavaObject(clazz);
+        return send0(method, params, extra, clazz, timeout).get(timeout, TimeUnit.SECONDS);
     }
 
     public final <T> T send(String method, Object params, Map<String, Object> extra, TypeReference<T> type, int timeout) throws InterruptedException, ExecutionException, TimeoutException {
-        JSONObject result = sendBase(method, params, extra, timeout);
-        return type.getType().equals(JSONObject.class) ? (T) result : result.toJavaObject(type);
+        return convert(sendBase(method, params, extra, timeout), type);
     }
 
     public final void send(String method, Object params, Map<String, Object> extra, int timeout) throws InterruptedException, ExecutionException, TimeoutException {
@@ -87,13 +169,11 @@ public abstract class CDPConnection extends DefaultEventEmitter<CDPEventType> {
     }
 
     public final <T> T send(String method, Object params, Class<T> clazz, int timeout) throws InterruptedException, ExecutionException, TimeoutException {
-        JSONObject result = sendBase(method, params, null, timeout);
-        return JSONObject.class.equals(clazz) ? (T) result : result.toJavaObject(clazz);
+        return send(method, params, null, clazz, timeout);
     }
 
     public final <T> T send(String method, Object params, TypeReference<T> type, int timeout) throws InterruptedException, ExecutionException, TimeoutException {
-        JSONObject result = sendBase(method, params, null, timeout);
-        return type.getType().equals(JSONObject.class) ? (T) result : result.toJavaObject(type);
+        return convert(sendBase(method, params, null, timeout), type);
     }
 
     public final void send(String method, Object params, int timeout) throws InterruptedException, ExecutionException, TimeoutException {
@@ -101,58 +181,201 @@ public abstract class CDPConnection extends DefaultEventEmitter<CDPEventType> {
     }
 
     public final Future<JSONObject> asyncSend(String method) {
-        return send0(method, null, null);
+        return send0(method, null, null, DEFAULT_TIMEOUT);
     }
 
     public final Future<JSONObject> asyncSend(String method, Object params) {
-        return send0(method, params, null);
+        return send0(method, params, null, DEFAULT_TIMEOUT);
     }
 
     public final Future<JSONObject> asyncSend(String method, Object params, Map<String, Object> extra) {
-        return send0(method, params, extra);
+        return send0(method, params, extra, DEFAULT_TIMEOUT);
+    }
+
+    public final <T> Future<T> asyncSend(String method, Object params, Map<String, Object> extra, Class<T> clazz) {
+        return send0(method, params, extra, clazz, DEFAULT_TIMEOUT);
+    }
+
+    public final <T> Future<T> asyncSend(String method, Object params, Class<T> clazz) {
+        return asyncSend(method, params, null, clazz);
+    }
+
+    /**
+     * 不阻塞调用线程, 返回的stage在解码线程上完成, 回调中不要执行阻塞操作(需要阻塞的请使用xxxAsync(fn, executor))
+     * @param timeout 超时时间(秒), 超时之后以TimeoutException结束
+     */
+    public final <T> CompletionStage<T> sendAsync(String method, Object params, Map<String, Object> extra, Class<T> clazz, int timeout) {
+        return send0(method, params, extra, clazz, timeout);
+    }
+
+    public final <T> CompletionStage<T> sendAsync(String method, Object params, Map<String, Object> extra, TypeReference<T> type, int timeout) {
+        return send0(method, params, extra, timeout).thenApply(result -> convert(result, type));
     }
 
-    private void handleEvent(JSONObject json) {
-        String method = json.getString(METHOD);
+    public final CompletionStage<Void> sendAsync(String method, Object params, Map<String, Object> extra, int timeout) {
+        return send0(method, params, extra, timeout).thenApply(result -> null);
+    }
+
+    public final <T> CompletionStage<T> sendAsync(String method, Object params, Class<T> clazz, int timeout) {
+        return sendAsync(method, params, null, clazz, timeout);
+    }
+
+    public final <T> CompletionStage<T> sendAsync(String method, Object params, TypeReference<T> type, int timeout) {
+        return sendAsync(method, params, null, type, timeout);
+    }
+
+    public final CompletionStage<Void> sendAsync(String method, Object params, int timeout) {
+        return sendAsync(method, params, (Map<String, Object>) null, timeout);
+    }
+
+    /**
+     * 响应不做任何解析, 直接以原始消息结束, 用于截图/响应体这类带有大字段的请求, 配合BinaryPayload在调用方线程上解码
+     */
+    public final CompletionStage<CDPMessage> sendRaw(String method, Object params, Map<String, Object> extra, int timeout) {
+        return send0(method, params, extra, Function.identity(), timeout);
+    }
+
+    public final CompletionStage<CDPMessage> sendRaw(String method, Object params, int timeout) {
+        return sendRaw(method, params, null, timeout);
+    }
+
+    void addSession(CDPSession session) {
+        sessions.put(session.sessionId(), session);
+    }
+
+    void removeSession(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    private void handleEvent(CDPMessage message) {
+        String method = message.method();
         CDPEventType eventType = CDPEventType.findByName(method);
         if (eventType == null) {
             logger.error("discard unknown event [{}]", method);
             return;
         }
-        //把原始事件dispatch到connection对象上
-        emit(eventType, new CDPEvent(json.getString(CDPSession.SESSION_ID), json.getString(METHOD), json.getJSONObject(PARAMS)));
+        String sessionId = message.sessionId();
+        CDPSession session = sessionId != null ? sessions.get(sessionId) : null;
+        List<Consumer<CDPEvent>> subscribers = session != null ? session.subscribers(eventType) : null;
+        boolean listened = hasListener(eventType);
+        if (subscribers == null && !listened) {
+            //没有人监听的事件直接丢弃, 不做任何解析
+            return;
+        }
+        //params延迟解析, 订阅者和listener共享同一个事件对象, 只解析一次
+        CDPEvent event = new CDPEvent(message);
+        if (subscribers != null) {
+            Executor executor = session.executor();
+            if (executor != null) {
+                //从解码线程直接交给session所属对象(页面)的执行器, 中间不再经过connection的lane
+                executor.execute(() -> deliver(subscribers, event));
+            } else {
+                for(Consumer<CDPEvent> subscriber : subscribers) {
+                    emitInternal(eventType, (Consumer) subscriber, event);
+                }
+            }
+        }
+        if (listened) {
+            emit(eventType, event);
+        }
     }
 
+    private static void deliver(List<Consumer<CDPEvent>> subscribers, CDPEvent event) {
+        for(Consumer<CDPEvent> subscriber : subscribers) {
+            try {
+                subscriber.accept(event);
+            } catch (Exception e) {
+                logger.error("process event failed, method={}, error={}", event.getMethod(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 由接收线程调用, 只从消息末尾取出sessionId选择解码lane, 解析和解码都在lane上进行
+     */
     protected void recv(String message) {
+        String sessionId = CDPMessage.sessionIdHint(message);
+        int lane = sessionId == null ? 0 : (sessionId.hashCode() & Integer.MAX_VALUE) % decoders.length;
+        try {
+            decoders[lane].execute(() -> {
+                try {
+                    decode(message);
+                } catch (Throwable t) {
+                    logger.error("process message failed, error={}", t.getMessage(), t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warn("connection closed, discard message");
+        }
+    }
+
+    private void decode(String message) {
         logger.debug("<== recv message={}", message);
-        JSONObject json = JSON.parseObject(message);
-        if (json.containsKey(METHOD)) {
+        CDPMessage msg = CDPMessage.peek(message);
+        if (msg.isEvent()) {
             //这种格式的就是event notification
-            handleEvent(json);
+            handleEvent(msg);
             return;
         }
-        if (!json.containsKey(ID)) {
+        Integer id = msg.id();
+        if (id == null) {
             //没有ID就是异常的返回
             throw new IllegalArgumentException("attribute \"id\" can not be null");
         }
-        Integer id = json.getInteger(ID);
-        Promise<JSONObject> promise = requestMap.get(id);
-        if (promise == null) {
+        //接收成功之后删除inflight中对应的节点
+        InflightRequests.Request<?> request = inflight.remove(id);
+        if (request == null) {
             logger.warn("request timeout or send failed, id={}", id);
             return;
         }
-        //接收成功之后删除requestMap中对应的节点
-        requestMap.remove(id);
-        if (json.containsKey(ERROR)) {
-            JSONObject error = json.getJSONObject(ERROR);
-            promise.setFailure(new CDPException(error.getIntValue("code"), error.getString("message")));
+        if (msg.hasError()) {
+            JSONObject error = JSON.parseObject(msg.error());
+            request.fail(new CDPException(error.getIntValue("code"), error.getString("message")));
         } else {
-            promise.setSuccess(json.getJSONObject(RESULT));
+            request.complete(msg);
+        }
+    }
+
+    /**
+     * 连接断开(对端关闭, 读取失败或者主动close)的时候由子类调用, 所有未完成的请求立即失败, 不再等待超时
+     */
+    protected void disconnected(Throwable cause) {
+        int count = inflight.failAll(cause);
+        if (count > 0) {
+            logger.warn("connection disconnected, {} inflight requests failed, error={}", count, cause.getMessage());
+        }
+    }
+
+    public int inflightCount() {
+        return inflight.size();
+    }
+
+    /**
+     * 最早的未完成请求已经等待的时间, 用于发现卡住的请求
+     */
+    public long inflightOldestAge(TimeUnit unit) {
+        return inflight.oldestAge(unit);
+    }
+
+    public List<InflightRequests.Request<?>> inflightRequests() {
+        return inflight.snapshot();
+    }
+
+    @Override
+    public void close() throws Exception {
+        outbound.close();
+        disconnected(new IOException("connection closed"));
+        for(ExecutorService decoder : decoders) {
+            decoder.shutdown();
         }
+        super.close();
     }
 
     public abstract void open() throws IOException, InterruptedException;
 
-    protected abstract void sendInternal(JSONObject request) throws IOException;
+    /**
+     * 按顺序把一批命令写到底层连接上, 只会在flush线程上调用, 尽量合并成一次写操作
+     */
+    protected abstract void writeBatch(List<OutboundQueue.Command> batch) throws IOException;
 
 }
@@ -0,0 +1,12 @@
+package jpuppeteer.cdp;
+
+/**
+ * 从原始消息中直接解码出实体对象, 由CDPGenerator为每个实体生成
+ * @see jpuppeteer.cdp.cdp.CDPCodecs
+ */
+@FunctionalInterface
+public interface CDPDecoder<T> {
+
+    T decode(JsonReader reader);
+
+}
@@ -1,23 +1,78 @@
 package jpuppeteer.cdp;
 
+import com.alibaba.fastjson.JSON;
 import com.alibaba.fastjson.JSONObject;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.ToString;
 
-@Getter
-@ToString
-@AllArgsConstructor
+/**
+ * params是延迟解析的, 只有在真正使用的时候才会从原始消息中截取出来解析
+ */
 public class CDPEvent {
 
     private String sessionId;
 
     private String method;
 
-    private JSONObject params;
+    private CDPMessage message;
+
+    private volatile JSONObject params;
+
+    public CDPEvent(String sessionId, String method, JSONObject params) {
+        this.sessionId = sessionId;
+        this.method = method;
+        this.params = params;
+    }
+
+    protected CDPEvent(CDPMessage message) {
+        this.sessionId = message.sessionId();
+        this.method = message.method();
+        this.message = message;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public JSONObject getParams() {
+        if (params == null && message != null && message.hasParams()) {
+            params = JSON.parseObject(message.params());
+        }
+        return params;
+    }
 
     public <T> T getObject(Class<T> clazz) {
-        return params.toJavaObject(clazz);
+        if (params == null && message != null) {
+            //没有物化过params的话直接从原始消息解码, 不经过JSONObject
+            return message.decodeParams(clazz);
+        }
+        return params != null ? params.toJavaObject(clazz) : null;
     }
 
+    /**
+     * 按路径取params中的字符串字段, 没有物化过params的话直接扫描原始消息, 用在合并事件的key这类只需要一两个字段的地方
+     * @return 没有找到或者不是字符串的时候返回null
+     */
+    public String getString(String... path) {
+        if (params == null && message != null) {
+            return message.paramsString(path);
+        }
+        JSONObject object = params;
+        for(int i = 0; object != null && i < path.length - 1; i++) {
+            Object value = object.get(path[i]);
+            object = value instanceof JSONObject ? (JSONObject) value : null;
+        }
+        if (object == null || path.length == 0) {
+            return null;
+        }
+        Object value = object.get(path[path.length - 1]);
+        return value instanceof String ? (String) value : null;
+    }
+
+    @Override
+    public String toString() {
+        return "CDPEvent(sessionId=" + sessionId + ", method=" + method + ", params=" + (params != null ? params : message != null ? message.params() : null) + ")";
+    }
 }
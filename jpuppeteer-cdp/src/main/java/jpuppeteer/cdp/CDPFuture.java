@@ -9,6 +9,10 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 
+/**
+ * 每次get都会重新转换一次, 也不能组合, 请使用生成的domain类中返回CompletionStage的xxxAsync方法
+ */
+@Deprecated
 public class CDPFuture<V> extends FutureFuture<JSONObject, V> {
 
     private final Class<V> clazz;
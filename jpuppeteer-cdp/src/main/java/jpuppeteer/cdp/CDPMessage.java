@@ -0,0 +1,385 @@
+package jpuppeteer.cdp;
+
+import com.alibaba.fastjson.JSON;
+import jpuppeteer.cdp.cdp.CDPCodecs;
+
+/**
+ * 只扫描原始消息最外层的key, 取出id/method/sessionId, 并记录params/result/error在原始消息中的位置,
+ * 不构建JSONObject, 需要的时候再按位置截取解析
+ */
+public class CDPMessage {
+
+    private final String text;
+
+    private Integer id;
+
+    private String method;
+
+    private String sessionId;
+
+    private int paramsStart = -1;
+
+    private int paramsEnd = -1;
+
+    private int resultStart = -1;
+
+    private int resultEnd = -1;
+
+    private int errorStart = -1;
+
+    private int errorEnd = -1;
+
+    private CDPMessage(String text) {
+        this.text = text;
+    }
+
+    public String text() {
+        return text;
+    }
+
+    public Integer id() {
+        return id;
+    }
+
+    public String method() {
+        return method;
+    }
+
+    public String sessionId() {
+        return sessionId;
+    }
+
+    public boolean isEvent() {
+        return method != null;
+    }
+
+    public boolean hasParams() {
+        return paramsStart >= 0;
+    }
+
+    public String params() {
+        return paramsStart >= 0 ? text.substring(paramsStart, paramsEnd) : null;
+    }
+
+    public int paramsStart() {
+        return paramsStart;
+    }
+
+    public int paramsEnd() {
+        return paramsEnd;
+    }
+
+    public boolean hasResult() {
+        return resultStart >= 0;
+    }
+
+    public String result() {
+        return resultStart >= 0 ? text.substring(resultStart, resultEnd) : null;
+    }
+
+    public int resultStart() {
+        return resultStart;
+    }
+
+    public int resultEnd() {
+        return resultEnd;
+    }
+
+    public boolean hasError() {
+        return errorStart >= 0;
+    }
+
+    public String error() {
+        return errorStart >= 0 ? text.substring(errorStart, errorEnd) : null;
+    }
+
+    public <T> T decodeParams(Class<T> clazz) {
+        return decode(paramsStart, paramsEnd, clazz);
+    }
+
+    public <T> T decodeResult(Class<T> clazz) {
+        return decode(resultStart, resultEnd, clazz);
+    }
+
+    /**
+     * 生成的实体直接用对应的decoder从原始消息解码, 其他类型(JSONObject或者调用方自己定义的类)仍然交给fastjson
+     */
+    private <T> T decode(int start, int end, Class<T> clazz) {
+        if (start < 0 || Void.class.equals(clazz)) {
+            return null;
+        }
+        CDPDecoder<T> decoder = CDPCodecs.decoder(clazz);
+        if (decoder != null) {
+            return decoder.decode(new JsonReader(text, start, end));
+        }
+        return JSON.parseObject(text.substring(start, end), clazz);
+    }
+
+    public static CDPMessage peek(String text) {
+        CDPMessage message = new CDPMessage(text);
+        int i = skipWhitespace(text, 0);
+        if (i >= text.length() || text.charAt(i) != '{') {
+            throw new IllegalArgumentException("message is not a json object");
+        }
+        scanObject(text, i, (keyStart, keyEnd, valueStart, valueEnd) -> {
+            message.accept(keyStart, keyEnd, valueStart, valueEnd);
+            return true;
+        });
+        return message;
+    }
+
+    private static final String SESSION_ID_KEY = "\"sessionId\"";
+
+    /**
+     * 浏览器总是把sessionId作为最外层的最后一个key, 这里只从消息末尾反向匹配, 不扫描整个消息
+     * 给接收线程选择解码的lane用, 末尾不是sessionId的(browser级别的消息)返回null
+     */
+    public static String sessionIdHint(String text) {
+        int i = skipWhitespaceBackward(text, text.length() - 1);
+        if (i < 0 || text.charAt(i) != '}') {
+            return null;
+        }
+        i = skipWhitespaceBackward(text, i - 1);
+        if (i < 0 || text.charAt(i) != '"') {
+            return null;
+        }
+        int valueEnd = i--;
+        while (i >= 0 && isSessionIdChar(text.charAt(i))) {
+            i--;
+        }
+        //sessionId中不会有需要转义的字符, 遇到其他字符说明最后一个值不是sessionId
+        if (i < 0 || text.charAt(i) != '"' || i + 1 == valueEnd) {
+            return null;
+        }
+        int valueStart = i + 1;
+        i = skipWhitespaceBackward(text, i - 1);
+        if (i < 0 || text.charAt(i) != ':') {
+            return null;
+        }
+        i = skipWhitespaceBackward(text, i - 1);
+        int keyStart = i - SESSION_ID_KEY.length() + 1;
+        if (keyStart < 0 || !text.startsWith(SESSION_ID_KEY, keyStart)) {
+            return null;
+        }
+        i = skipWhitespaceBackward(text, keyStart - 1);
+        if (i < 0 || (text.charAt(i) != ',' && text.charAt(i) != '{')) {
+            return null;
+        }
+        return text.substring(valueStart, valueEnd);
+    }
+
+    private static boolean isSessionIdChar(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || c == '-' || c == '_' || c == '.';
+    }
+
+    private static int skipWhitespaceBackward(String text, int i) {
+        while (i >= 0) {
+            char c = text.charAt(i);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                break;
+            }
+            i--;
+        }
+        return i;
+    }
+
+    /**
+     * 在result对象的第一层中查找key
+     * @return 值在原始消息中的位置[start, end), 没有找到返回null
+     */
+    public int[] resultField(String key) {
+        return resultStart >= 0 ? field(resultStart, key) : null;
+    }
+
+    /**
+     * 沿着路径在params中逐层查找字符串字段, 比如paramsString("targetInfo", "targetId"), 只扫描路径上的对象, 不解码整个params
+     * @return 没有找到或者不是字符串的时候返回null
+     */
+    public String paramsString(String... path) {
+        if (paramsStart < 0) {
+            return null;
+        }
+        int[] range = {paramsStart, paramsEnd};
+        for(String key : path) {
+            range = field(range[0], key);
+            if (range == null) {
+                return null;
+            }
+        }
+        return readString(range[0], range[1]);
+    }
+
+    /**
+     * @param objectStart 对象开始的位置, 不是对象的时候返回null
+     */
+    private int[] field(int objectStart, String key) {
+        if (text.charAt(objectStart) != '{') {
+            return null;
+        }
+        int[] range = new int[2];
+        boolean found = !scanObject(text, objectStart, (keyStart, keyEnd, valueStart, valueEnd) -> {
+            if (keyEquals(keyStart, keyEnd, key)) {
+                range[0] = valueStart;
+                range[1] = valueEnd;
+                return false;
+            }
+            return true;
+        });
+        return found ? range : null;
+    }
+
+    private interface MemberVisitor {
+
+        /**
+         * @return 是否继续扫描
+         */
+        boolean visit(int keyStart, int keyEnd, int valueStart, int valueEnd);
+
+    }
+
+    /**
+     * @param i 对象开始的'{'位置
+     * @return 是否扫描完了整个对象(visitor没有中断)
+     */
+    private static boolean scanObject(String text, int i, MemberVisitor visitor) {
+        int length = text.length();
+        i = skipWhitespace(text, i + 1);
+        if (i < length && text.charAt(i) == '}') {
+            return true;
+        }
+        while (i < length) {
+            if (text.charAt(i) != '"') {
+                throw new IllegalArgumentException("expect '\"' at " + i);
+            }
+            int keyStart = i + 1;
+            int keyEnd = skipString(text, i) - 1;
+            i = skipWhitespace(text, keyEnd + 1);
+            if (i >= length || text.charAt(i) != ':') {
+                throw new IllegalArgumentException("expect ':' at " + i);
+            }
+            int valueStart = skipWhitespace(text, i + 1);
+            int valueEnd = skipValue(text, valueStart);
+            if (!visitor.visit(keyStart, keyEnd, valueStart, valueEnd)) {
+                return false;
+            }
+            i = skipWhitespace(text, valueEnd);
+            if (i >= length) {
+                break;
+            }
+            char c = text.charAt(i);
+            if (c == '}') {
+                return true;
+            } else if (c != ',') {
+                throw new IllegalArgumentException("expect ',' or '}' at " + i);
+            }
+            i = skipWhitespace(text, i + 1);
+        }
+        throw new IllegalArgumentException("unexpected end of message");
+    }
+
+    private boolean keyEquals(int keyStart, int keyEnd, String key) {
+        return keyEnd - keyStart == key.length() && text.regionMatches(keyStart, key, 0, key.length());
+    }
+
+    private void accept(int keyStart, int keyEnd, int valueStart, int valueEnd) {
+        if (keyEquals(keyStart, keyEnd, CDPConnection.ID)) {
+            id = Integer.valueOf(text.substring(valueStart, valueEnd));
+        } else if (keyEquals(keyStart, keyEnd, CDPConnection.METHOD)) {
+            method = readString(valueStart, valueEnd);
+        } else if (keyEquals(keyStart, keyEnd, CDPSession.SESSION_ID)) {
+            sessionId = readString(valueStart, valueEnd);
+        } else if (keyEquals(keyStart, keyEnd, CDPConnection.PARAMS)) {
+            paramsStart = valueStart;
+            paramsEnd = valueEnd;
+        } else if (keyEquals(keyStart, keyEnd, CDPConnection.RESULT)) {
+            resultStart = valueStart;
+            resultEnd = valueEnd;
+        } else if (keyEquals(keyStart, keyEnd, CDPConnection.ERROR)) {
+            errorStart = valueStart;
+            errorEnd = valueEnd;
+        }
+    }
+
+    private String readString(int valueStart, int valueEnd) {
+        if (text.charAt(valueStart) != '"') {
+            //null或者其他类型
+            return null;
+        }
+        String value = text.substring(valueStart + 1, valueEnd - 1);
+        //一般不会有转义字符, 有的话交给fastjson处理
+        return value.indexOf('\\') == -1 ? value : JSON.parseObject(text.substring(valueStart, valueEnd), String.class);
+    }
+
+    private static int skipWhitespace(String text, int i) {
+        int length = text.length();
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @param i 开始的引号位置
+     * @return 结束引号的下一个位置
+     */
+    private static int skipString(String text, int i) {
+        int length = text.length();
+        i++;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '"') {
+                return i + 1;
+            }
+            i++;
+        }
+        throw new IllegalArgumentException("unterminated string");
+    }
+
+    private static int skipValue(String text, int i) {
+        int length = text.length();
+        if (i >= length) {
+            throw new IllegalArgumentException("unexpected end of message");
+        }
+        char first = text.charAt(i);
+        if (first == '"') {
+            return skipString(text, i);
+        }
+        if (first == '{' || first == '[') {
+            int depth = 0;
+            while (i < length) {
+                char c = text.charAt(i);
+                if (c == '"') {
+                    i = skipString(text, i);
+                    continue;
+                }
+                if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                    if (depth == 0) {
+                        return i + 1;
+                    }
+                }
+                i++;
+            }
+            throw new IllegalArgumentException("unterminated object or array");
+        }
+        //数字, true, false, null
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '}' || c == ']' || c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+}
@@ -2,13 +2,20 @@ package jpuppeteer.cdp;
 
 import com.alibaba.fastjson.JSONObject;
 import com.alibaba.fastjson.TypeReference;
+import jpuppeteer.cdp.cdp.CDPEventType;
 import jpuppeteer.cdp.constant.TargetType;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 public class CDPSession {
 
@@ -18,9 +25,19 @@ public class CDPSession {
 
     private TargetType type;
 
-    private String sessionId;
+    private volatile String sessionId;
 
-    private Map<String, Object> extra;
+    private volatile Map<String, Object> extra;
+
+    /**
+     * 本session的事件由connection直接分发给这里的订阅者, 不再经过browser/context转发
+     */
+    private Map<CDPEventType, List<Consumer<CDPEvent>>> subscribers;
+
+    /**
+     * 订阅者所在对象(比如页面)自己的串行执行器, 为null的时候在connection的事件分发线程上执行
+     */
+    private volatile Executor executor;
 
     public CDPSession(CDPConnection connection, TargetType type, String sessionId) {
         this.connection = connection;
@@ -28,12 +45,65 @@ public class CDPSession {
         this.sessionId = sessionId;
         this.extra = new HashMap<>();
         this.extra.put(SESSION_ID, sessionId);
+        this.subscribers = new ConcurrentHashMap<>();
+        this.connection.addSession(this);
     }
 
     public String sessionId() {
         return sessionId;
     }
 
+    /**
+     * 断线重连之后重新attach得到了新的sessionId, 订阅者以及持有此session的domain对象不需要重建
+     */
+    public void rebind(String sessionId) {
+        Map<String, Object> extra = new HashMap<>();
+        extra.put(SESSION_ID, sessionId);
+        connection.removeSession(this.sessionId);
+        this.sessionId = sessionId;
+        this.extra = extra;
+        connection.addSession(this);
+    }
+
+    /**
+     * 事件从解码线程直接交给executor, 订阅者在executor上执行, executor必须按提交顺序串行执行才能保持事件的顺序
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    Executor executor() {
+        return executor;
+    }
+
+    /**
+     * 订阅者在{@link #setExecutor(Executor)}设置的执行器上执行, 没有设置的时候在connection的事件分发线程上执行
+     * 同一个session的事件保持顺序, 订阅者中不要执行长时间阻塞的操作
+     */
+    public void subscribe(CDPEventType type, Consumer<CDPEvent> subscriber) {
+        subscribers.computeIfAbsent(type, t -> new CopyOnWriteArrayList<>()).add(subscriber);
+    }
+
+    public void unsubscribe(CDPEventType type, Consumer<CDPEvent> subscriber) {
+        List<Consumer<CDPEvent>> list = subscribers.get(type);
+        if (list != null) {
+            list.remove(subscriber);
+        }
+    }
+
+    protected List<Consumer<CDPEvent>> subscribers(CDPEventType type) {
+        List<Consumer<CDPEvent>> list = subscribers.get(type);
+        return list == null || list.isEmpty() ? null : list;
+    }
+
+    /**
+     * target销毁或者detach之后调用, 不再接收本session的事件
+     */
+    public void close() {
+        subscribers.clear();
+        connection.removeSession(sessionId);
+    }
+
     public final <T> T send(String method, Object params, Class<T> clazz, int timeout) throws InterruptedException, ExecutionException, TimeoutException {
         return connection.send(method, params, extra, clazz, timeout);
     }
@@ -53,4 +123,24 @@ public class CDPSession {
     public final Future<JSONObject> asyncSend(String method, Object params) {
         return connection.asyncSend(method, params, extra);
     }
+
+    public final <T> Future<T> asyncSend(String method, Object params, Class<T> clazz) {
+        return connection.asyncSend(method, params, extra, clazz);
+    }
+
+    public final <T> CompletionStage<T> sendAsync(String method, Object params, Class<T> clazz, int timeout) {
+        return connection.sendAsync(method, params, extra, clazz, timeout);
+    }
+
+    public final <T> CompletionStage<T> sendAsync(String method, Object params, TypeReference<T> type, int timeout) {
+        return connection.sendAsync(method, params, extra, type, timeout);
+    }
+
+    public final CompletionStage<Void> sendAsync(String method, Object params, int timeout) {
+        return connection.sendAsync(method, params, extra, timeout);
+    }
+
+    public final CompletionStage<CDPMessage> sendRaw(String method, Object params, int timeout) {
+        return connection.sendRaw(method, params, extra, timeout);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package jpuppeteer.cdp;
+
+/**
+ * 可以直接写出成json的实体, 由CDPGenerator为每个实体生成, 发送命令的时候不再经过fastjson的反射序列化
+ */
+public interface CDPWritable {
+
+    void write(JsonWriter writer);
+
+}
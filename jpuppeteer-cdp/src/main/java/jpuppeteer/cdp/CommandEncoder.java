@@ -0,0 +1,89 @@
+package jpuppeteer.cdp;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 把命令直接编码成{"id":..,"method":..,"sessionId":..,"params":..}, 不再构建JSONObject
+ * method和sessionId这种重复出现的片段只编码一次, 生成的实体通过{@link CDPWritable}写出, 不经过反射
+ */
+public final class CommandEncoder {
+
+    /**
+     * 缓冲区超过此大小(比如发送了一个很大的脚本)之后不再复用, 避免线程一直持有大块内存
+     */
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final int MAX_FRAGMENTS = 4096;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+
+    private static final ThreadLocal<JsonWriter> WRITER = ThreadLocal.withInitial(() -> new JsonWriter(BUFFER.get()));
+
+    /**
+     * key -> value -> 编码好的片段, 主要是method名称和sessionId, 数量基本是固定的, 超过上限的时候直接清空重建
+     */
+    private static final Map<String, Map<String, String>> FRAGMENTS = new ConcurrentHashMap<>();
+
+    private CommandEncoder() {
+    }
+
+    public static String encode(int id, String method, Map<String, Object> extra, Object params) {
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        try {
+            JsonWriter writer = WRITER.get();
+            writer.beginObject();
+            writer.name(CDPConnection.ID);
+            sb.append(id);
+            writer.raw(fragment(CDPConnection.METHOD, method));
+            if (extra != null) {
+                for(Map.Entry<String, Object> entry : extra.entrySet()) {
+                    String key = entry.getKey();
+                    Object value = entry.getValue();
+                    //extra中的内容不能覆盖ID, METHOD, PARAMS
+                    if (value == null || CDPConnection.ID.equals(key) || CDPConnection.METHOD.equals(key) || CDPConnection.PARAMS.equals(key)) {
+                        continue;
+                    }
+                    if (value instanceof String) {
+                        writer.raw(fragment(key, (String) value));
+                    } else {
+                        writer.name(key).value(value);
+                    }
+                }
+            }
+            if (params != null) {
+                writer.name(CDPConnection.PARAMS);
+                writer.value(params);
+            }
+            writer.endObject();
+            return sb.toString();
+        } finally {
+            if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+                BUFFER.remove();
+                WRITER.remove();
+            }
+        }
+    }
+
+    /**
+     * @return 编码好的"key":"value"
+     */
+    private static String fragment(String key, String value) {
+        Map<String, String> fragments = FRAGMENTS.get(key);
+        if (fragments == null) {
+            fragments = FRAGMENTS.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        }
+        String fragment = fragments.get(value);
+        if (fragment == null) {
+            StringBuilder sb = new StringBuilder(key.length() + value.length() + 8);
+            new JsonWriter(sb).name(key).value(value);
+            fragment = sb.toString();
+            if (fragments.size() >= MAX_FRAGMENTS) {
+                fragments.clear();
+            }
+            fragments.put(value, fragment);
+        }
+        return fragment;
+    }
+}
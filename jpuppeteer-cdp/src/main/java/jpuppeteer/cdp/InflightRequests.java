@@ -0,0 +1,186 @@
+package jpuppeteer.cdp;
+
+import jpuppeteer.api.util.HashedWheelTimer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 已发送但还没有收到响应的请求表
+ * 每个请求只会以三种方式之一离开此表: 收到响应, 到达自己的deadline, 连接断开, 所以表的大小始终是有界的
+ */
+public class InflightRequests {
+
+    /**
+     * 所有连接共享一个时间轮, tick为10ms, 对于秒级的超时足够了
+     */
+    private static final HashedWheelTimer TIMER = new HashedWheelTimer("CDPConnection-Timer");
+
+    private final String name;
+
+    private final Map<Integer, Request<?>> requests;
+
+    /**
+     * 超时的请求在这里结束, 调用方的后续回调不会跑在所有连接共享的计时线程上
+     */
+    private final Executor executor;
+
+    /**
+     * @param executor 结束超时请求的执行器, 通常是连接自己的线程
+     */
+    public InflightRequests(String name, Executor executor) {
+        this.name = name;
+        this.executor = executor;
+        this.requests = new ConcurrentHashMap<>(256, 0.75f, 16);
+    }
+
+    /**
+     * @param decoder 收到正常响应的时候在解码线程上把原始消息转换成结果
+     */
+    public <T> CompletableFuture<T> register(int id, String method, Function<CDPMessage, T> decoder, long timeout, TimeUnit unit) {
+        Request<T> request = new Request<>(id, method, decoder);
+        requests.put(id, request);
+        request.timeout = TIMER.newTimeout(() -> {
+            if (requests.remove(id, request)) {
+                TimeoutException cause = new TimeoutException("request timeout, connection=" + name + ", id=" + id + ", method=" + method);
+                try {
+                    executor.execute(() -> request.fail(cause));
+                } catch (RejectedExecutionException e) {
+                    //连接已经关闭, 执行器不再接受任务
+                    request.fail(cause);
+                }
+            }
+        }, timeout, unit);
+        return request.promise;
+    }
+
+    /**
+     * 收到响应的时候调用, 返回null表示请求已经超时或者已经失败
+     */
+    public Request<?> remove(int id) {
+        Request<?> request = requests.remove(id);
+        if (request != null) {
+            request.cancelTimeout();
+        }
+        return request;
+    }
+
+    public void fail(int id, Throwable cause) {
+        Request<?> request = remove(id);
+        if (request != null) {
+            request.fail(cause);
+        }
+    }
+
+    /**
+     * 连接断开的时候调用, 所有未完成的请求都以cause结束
+     */
+    public int failAll(Throwable cause) {
+        int count = 0;
+        for(Integer id : new ArrayList<>(requests.keySet())) {
+            Request<?> request = requests.remove(id);
+            if (request == null) {
+                continue;
+            }
+            request.cancelTimeout();
+            request.fail(cause);
+            count++;
+        }
+        return count;
+    }
+
+    public int size() {
+        return requests.size();
+    }
+
+    /**
+     * 最早的未完成请求已经等待的时间, 没有未完成请求时返回0
+     */
+    public long oldestAge(TimeUnit unit) {
+        long now = System.nanoTime();
+        long oldest = now;
+        for(Request<?> request : requests.values()) {
+            if (request.startNanos - oldest < 0) {
+                oldest = request.startNanos;
+            }
+        }
+        return unit.convert(now - oldest, TimeUnit.NANOSECONDS);
+    }
+
+    public List<Request<?>> snapshot() {
+        List<Request<?>> list = new ArrayList<>(requests.values());
+        list.sort((a, b) -> Long.compare(a.startNanos - b.startNanos, 0));
+        return Collections.unmodifiableList(list);
+    }
+
+    public static final class Request<T> {
+
+        private final int id;
+
+        private final String method;
+
+        private final long startNanos;
+
+        private final Function<CDPMessage, T> decoder;
+
+        private final CompletableFuture<T> promise;
+
+        private volatile HashedWheelTimer.Timeout timeout;
+
+        private Request(int id, String method, Function<CDPMessage, T> decoder) {
+            this.id = id;
+            this.method = method;
+            this.startNanos = System.nanoTime();
+            this.decoder = decoder;
+            this.promise = new CompletableFuture<>();
+        }
+
+        public void complete(CDPMessage message) {
+            T result;
+            try {
+                result = decoder.apply(message);
+            } catch (Throwable t) {
+                promise.completeExceptionally(t);
+                return;
+            }
+            promise.complete(result);
+        }
+
+        public void fail(Throwable cause) {
+            promise.completeExceptionally(cause);
+        }
+
+        private void cancelTimeout() {
+            HashedWheelTimer.Timeout timeout = this.timeout;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public long age(TimeUnit unit) {
+            return unit.convert(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public String toString() {
+            return "Request(id=" + id + ", method=" + method + ", age=" + age(TimeUnit.MILLISECONDS) + "ms)";
+        }
+    }
+}
@@ -0,0 +1,420 @@
+package jpuppeteer.cdp;
+
+import com.alibaba.fastjson.JSON;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 在原始消息上按顺序读取json的流式reader, 给生成的{@link CDPDecoder}使用, 不构建JSONObject
+ * 只有Object/Map类型的字段才会截取出来交给fastjson解析
+ */
+public final class JsonReader {
+
+    private static final int NAME_CACHE_SIZE = 4096;
+
+    /**
+     * 字段名基本上是固定的那几百个, 缓存起来避免每次都创建新的字符串, 多线程下只会偶尔多创建几个, 不需要加锁
+     */
+    private static final String[] NAME_CACHE = new String[NAME_CACHE_SIZE];
+
+    private final String text;
+
+    private final int end;
+
+    private int pos;
+
+    public JsonReader(String text) {
+        this(text, 0, text.length());
+    }
+
+    /**
+     * @param start 值开始的位置
+     * @param end 值结束的位置(不包含)
+     */
+    public JsonReader(String text, int start, int end) {
+        this.text = text;
+        this.pos = start;
+        this.end = end;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at " + pos);
+    }
+
+    private char peek() {
+        pos = skipWhitespace(pos);
+        if (pos >= end) {
+            throw error("unexpected end of json");
+        }
+        return text.charAt(pos);
+    }
+
+    private void expect(char c) {
+        if (peek() != c) {
+            throw error("expect '" + c + "'");
+        }
+        pos++;
+    }
+
+    private void expectLiteral(String literal) {
+        if (!text.regionMatches(pos, literal, 0, literal.length())) {
+            throw error("expect " + literal);
+        }
+        pos += literal.length();
+    }
+
+    /**
+     * 下一个值是null的话消费掉并返回true
+     */
+    public boolean nextNull() {
+        if (peek() == 'n') {
+            expectLiteral("null");
+            return true;
+        }
+        return false;
+    }
+
+    public void beginObject() {
+        expect('{');
+    }
+
+    public void beginArray() {
+        expect('[');
+    }
+
+    /**
+     * 对象和数组共用, 遇到结束符的时候消费掉结束符并返回false
+     */
+    public boolean hasNext() {
+        char c = peek();
+        if (c == ',') {
+            pos++;
+            c = peek();
+        }
+        if (c == '}' || c == ']') {
+            pos++;
+            return false;
+        }
+        return true;
+    }
+
+    public String nextName() {
+        if (peek() != '"') {
+            throw error("expect '\"'");
+        }
+        int start = pos + 1;
+        int i = start;
+        int hash = 0;
+        boolean escaped = false;
+        while (i < end) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                break;
+            }
+            if (c == '\\') {
+                escaped = true;
+                i += 2;
+                continue;
+            }
+            hash = 31 * hash + c;
+            i++;
+        }
+        if (i >= end) {
+            throw error("unterminated string");
+        }
+        String name = escaped ? unescape(start, i) : cachedName(start, i, hash);
+        pos = i + 1;
+        expect(':');
+        return name;
+    }
+
+    private String cachedName(int start, int stop, int hash) {
+        int index = (hash ^ (hash >>> 16)) & (NAME_CACHE_SIZE - 1);
+        int length = stop - start;
+        String name = NAME_CACHE[index];
+        if (name != null && name.length() == length && text.regionMatches(start, name, 0, length)) {
+            return name;
+        }
+        name = text.substring(start, stop);
+        NAME_CACHE[index] = name;
+        return name;
+    }
+
+    public String nextString() {
+        char c = peek();
+        if (c == 'n') {
+            expectLiteral("null");
+            return null;
+        }
+        if (c != '"') {
+            //跟fastjson保持一致, 数字和布尔值按原样转成字符串
+            int start = pos;
+            pos = skipScalar(pos);
+            return text.substring(start, pos);
+        }
+        int start = pos + 1;
+        int i = start;
+        boolean escaped = false;
+        while (i < end) {
+            c = text.charAt(i);
+            if (c == '"') {
+                break;
+            }
+            if (c == '\\') {
+                escaped = true;
+                i += 2;
+                continue;
+            }
+            i++;
+        }
+        if (i >= end) {
+            throw error("unterminated string");
+        }
+        pos = i + 1;
+        return escaped ? unescape(start, i) : text.substring(start, i);
+    }
+
+    public Integer nextInteger() {
+        char c = peek();
+        if (c == 'n') {
+            expectLiteral("null");
+            return null;
+        }
+        if (c == '"') {
+            String value = nextString();
+            return value != null && !value.isEmpty() ? Integer.valueOf(value) : null;
+        }
+        int start = pos;
+        pos = skipScalar(pos);
+        long value = parseLong(start, pos);
+        if (value == Long.MIN_VALUE) {
+            //带小数的截断小数部分, 超出int范围的跟fastjson一样抛出异常, 不能静默截断
+            double number = Double.parseDouble(text.substring(start, pos));
+            if (!(number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE)) {
+                throw error("int overflow, value=" + text.substring(start, pos));
+            }
+            return (int) number;
+        }
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw error("int overflow, value=" + value);
+        }
+        return (int) value;
+    }
+
+    public Double nextDouble() {
+        char c = peek();
+        if (c == 'n') {
+            expectLiteral("null");
+            return null;
+        }
+        if (c == '"') {
+            String value = nextString();
+            return value != null && !value.isEmpty() ? Double.valueOf(value) : null;
+        }
+        int start = pos;
+        pos = skipScalar(pos);
+        long value = parseLong(start, pos);
+        if (value == Long.MIN_VALUE) {
+            //带小数点或者指数的才需要截取出来解析
+            return Double.parseDouble(text.substring(start, pos));
+        }
+        return (double) value;
+    }
+
+    public Boolean nextBoolean() {
+        char c = peek();
+        if (c == 't') {
+            expectLiteral("true");
+            return Boolean.TRUE;
+        } else if (c == 'f') {
+            expectLiteral("false");
+            return Boolean.FALSE;
+        } else if (c == 'n') {
+            expectLiteral("null");
+            return null;
+        } else if (c == '"') {
+            String value = nextString();
+            return value != null && !value.isEmpty() ? Boolean.valueOf(value) : null;
+        }
+        throw error("expect boolean");
+    }
+
+    /**
+     * 类型不确定的值交给fastjson解析
+     */
+    public Object nextAny() {
+        if (nextNull()) {
+            return null;
+        }
+        int start = pos;
+        pos = skipValue(pos);
+        return JSON.parse(text.substring(start, pos));
+    }
+
+    public Map<String, Object> nextMap() {
+        if (nextNull()) {
+            return null;
+        }
+        if (text.charAt(pos) != '{') {
+            throw error("expect '{'");
+        }
+        int start = pos;
+        pos = skipValue(pos);
+        return JSON.parseObject(text.substring(start, pos));
+    }
+
+    public <T> List<T> nextList(CDPDecoder<T> decoder) {
+        if (nextNull()) {
+            return null;
+        }
+        beginArray();
+        List<T> list = new ArrayList<>();
+        while (hasNext()) {
+            list.add(decoder.decode(this));
+        }
+        return list;
+    }
+
+    public void skipValue() {
+        peek();
+        pos = skipValue(pos);
+    }
+
+    /**
+     * 只有纯整数才在这里解析, 其他情况返回Long.MIN_VALUE
+     */
+    private long parseLong(int start, int stop) {
+        int i = start;
+        boolean negative = false;
+        if (i < stop && text.charAt(i) == '-') {
+            negative = true;
+            i++;
+        }
+        //超过18位的可能溢出, 交给Double.parseDouble
+        if (i >= stop || stop - i > 18) {
+            return Long.MIN_VALUE;
+        }
+        long value = 0;
+        for(; i < stop; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return Long.MIN_VALUE;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private String unescape(int start, int stop) {
+        StringBuilder sb = new StringBuilder(stop - start);
+        for(int i = start; i < stop; i++) {
+            char c = text.charAt(i);
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            char next = text.charAt(++i);
+            switch (next) {
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'u':
+                    sb.append((char) Integer.parseInt(text.substring(i + 1, i + 5), 16));
+                    i += 4;
+                    break;
+                default:
+                    //'"', '\\', '/'
+                    sb.append(next);
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+
+    private int skipWhitespace(int i) {
+        while (i < end) {
+            char c = text.charAt(i);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @param i 开始的引号位置
+     * @return 结束引号的下一个位置
+     */
+    private int skipString(int i) {
+        i++;
+        while (i < end) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '"') {
+                return i + 1;
+            }
+            i++;
+        }
+        throw error("unterminated string");
+    }
+
+    /**
+     * 数字, true, false, null
+     */
+    private int skipScalar(int i) {
+        while (i < end) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '}' || c == ']' || c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private int skipValue(int i) {
+        char first = text.charAt(i);
+        if (first == '"') {
+            return skipString(i);
+        }
+        if (first != '{' && first != '[') {
+            return skipScalar(i);
+        }
+        int depth = 0;
+        while (i < end) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                i = skipString(i);
+                continue;
+            }
+            if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+                if (depth == 0) {
+                    return i + 1;
+                }
+            }
+            i++;
+        }
+        throw error("unterminated object or array");
+    }
+}
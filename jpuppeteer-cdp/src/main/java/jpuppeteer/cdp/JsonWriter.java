@@ -0,0 +1,199 @@
+package jpuppeteer.cdp;
+
+import com.alibaba.fastjson.JSON;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 往StringBuilder中顺序写出json, 给生成的{@link CDPWritable}和{@link CommandEncoder}使用
+ * 根据缓冲区最后一个字符判断是否需要逗号, 不需要维护嵌套状态
+ */
+public final class JsonWriter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final StringBuilder sb;
+
+    public JsonWriter(StringBuilder sb) {
+        this.sb = sb;
+    }
+
+    private void comma() {
+        int length = sb.length();
+        if (length > 0) {
+            char last = sb.charAt(length - 1);
+            if (last != '{' && last != '[' && last != ':') {
+                sb.append(',');
+            }
+        }
+    }
+
+    public JsonWriter beginObject() {
+        comma();
+        sb.append('{');
+        return this;
+    }
+
+    public JsonWriter endObject() {
+        sb.append('}');
+        return this;
+    }
+
+    public JsonWriter beginArray() {
+        comma();
+        sb.append('[');
+        return this;
+    }
+
+    public JsonWriter endArray() {
+        sb.append(']');
+        return this;
+    }
+
+    /**
+     * 生成代码中的字段名都是合法的标识符, 不需要转义
+     */
+    public JsonWriter name(String name) {
+        comma();
+        sb.append('"').append(name).append("\":");
+        return this;
+    }
+
+    /**
+     * 直接写出已经编码好的json片段
+     */
+    public JsonWriter raw(String json) {
+        comma();
+        sb.append(json);
+        return this;
+    }
+
+    public JsonWriter value(String value) {
+        comma();
+        if (value == null) {
+            sb.append("null");
+        } else {
+            string(value);
+        }
+        return this;
+    }
+
+    public JsonWriter value(Number value) {
+        comma();
+        if (value == null) {
+            sb.append("null");
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            sb.append(value.longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            double d = value.doubleValue();
+            if (Double.isNaN(d) || Double.isInfinite(d)) {
+                sb.append("null");
+            } else {
+                sb.append(d);
+            }
+        } else {
+            sb.append(value.toString());
+        }
+        return this;
+    }
+
+    public JsonWriter value(Boolean value) {
+        comma();
+        sb.append(value == null ? "null" : value ? "true" : "false");
+        return this;
+    }
+
+    public JsonWriter value(CDPWritable value) {
+        if (value == null) {
+            comma();
+            sb.append("null");
+        } else {
+            value.write(this);
+        }
+        return this;
+    }
+
+    /**
+     * 类型不确定的值(Object/Map/List字段), 不认识的类型交给fastjson
+     */
+    public JsonWriter value(Object value) {
+        if (value == null) {
+            comma();
+            sb.append("null");
+        } else if (value instanceof String) {
+            value((String) value);
+        } else if (value instanceof Number) {
+            value((Number) value);
+        } else if (value instanceof Boolean) {
+            value((Boolean) value);
+        } else if (value instanceof CDPWritable) {
+            ((CDPWritable) value).write(this);
+        } else if (value instanceof Map) {
+            beginObject();
+            for(Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (entry.getValue() == null) {
+                    //跟fastjson一样不写出null
+                    continue;
+                }
+                comma();
+                string(String.valueOf(entry.getKey()));
+                sb.append(':');
+                value(entry.getValue());
+            }
+            endObject();
+        } else if (value instanceof Collection) {
+            beginArray();
+            for(Object item : (Collection<?>) value) {
+                value(item);
+            }
+            endArray();
+        } else {
+            raw(JSON.toJSONString(value));
+        }
+        return this;
+    }
+
+    private void string(String value) {
+        sb.append('"');
+        int length = value.length();
+        int start = 0;
+        for(int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            //没有需要转义的字符的时候整段一次写出
+            sb.append(value, start, i);
+            start = i + 1;
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                case '\b':
+                    sb.append("\\b");
+                    break;
+                case '\f':
+                    sb.append("\\f");
+                    break;
+                default:
+                    sb.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    break;
+            }
+        }
+        sb.append(value, start, length);
+        sb.append('"');
+    }
+}
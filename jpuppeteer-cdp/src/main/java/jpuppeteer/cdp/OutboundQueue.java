@@ -0,0 +1,163 @@
+package jpuppeteer.cdp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 待发送命令的队列, 由单独的flush线程按入队顺序成批写出
+ * 队列里积压了多少就一次写出多少(不超过maxBatchSize), 设置了linger的话第一条命令到达之后会再等待linger时间以凑够一批
+ */
+public class OutboundQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboundQueue.class);
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+    public interface BatchWriter {
+
+        /**
+         * 按顺序写出一批消息, 只会在flush线程上调用
+         */
+        void writeBatch(List<Command> batch) throws IOException;
+
+        /**
+         * 写出失败或者队列关闭的时候调用
+         */
+        void failed(Command command, Throwable cause);
+
+    }
+
+    public static final class Command {
+
+        private final int id;
+
+        private final String text;
+
+        public Command(int id, String text) {
+            this.id = id;
+            this.text = text;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getText() {
+            return text;
+        }
+    }
+
+    private final String name;
+
+    private final BatchWriter writer;
+
+    private final BlockingQueue<Command> queue;
+
+    private final Thread flusher;
+
+    private volatile long lingerNanos;
+
+    private volatile int maxBatchSize;
+
+    private volatile boolean closed;
+
+    public OutboundQueue(String name, BatchWriter writer) {
+        this.name = name;
+        this.writer = writer;
+        this.queue = new LinkedBlockingQueue<>();
+        this.lingerNanos = 0;
+        this.maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+        this.closed = false;
+        this.flusher = new Thread(this::flushLoop, "Outbound[" + name + "]");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    public void setLinger(long linger, TimeUnit unit) {
+        if (linger < 0) {
+            throw new IllegalArgumentException("linger must not be negative");
+        }
+        this.lingerNanos = unit.toNanos(linger);
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+        }
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    public void offer(Command command) {
+        if (closed) {
+            writer.failed(command, new IOException("connection " + name + " closed"));
+            return;
+        }
+        queue.offer(command);
+    }
+
+    private void flushLoop() {
+        List<Command> batch = new ArrayList<>(DEFAULT_MAX_BATCH_SIZE);
+        while (!closed) {
+            try {
+                Command first = queue.take();
+                int max = maxBatchSize;
+                batch.add(first);
+                queue.drainTo(batch, max - 1);
+                long linger = lingerNanos;
+                if (linger > 0 && batch.size() < max) {
+                    long deadline = System.nanoTime() + linger;
+                    long remaining;
+                    while (batch.size() < max && (remaining = deadline - System.nanoTime()) > 0) {
+                        Command next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                        queue.drainTo(batch, max - batch.size());
+                    }
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                //close的时候会中断flush线程, 已经取出的命令交给writer处理(写出或者失败)
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+        //关闭之后还没有写出的命令直接失败
+        IOException cause = new IOException("connection " + name + " closed");
+        Command command;
+        while ((command = queue.poll()) != null) {
+            writer.failed(command, cause);
+        }
+    }
+
+    private void flush(List<Command> batch) {
+        try {
+            writer.writeBatch(batch);
+        } catch (Throwable t) {
+            logger.error("write batch failed, size={}, error={}", batch.size(), t.getMessage(), t);
+            for(Command command : batch) {
+                writer.failed(command, t);
+            }
+        }
+    }
+
+    public void close() {
+        closed = true;
+        flusher.interrupt();
+    }
+}
@@ -0,0 +1,131 @@
+package jpuppeteer.cdp;
+
+import org.java_websocket.enums.Opcode;
+import org.java_websocket.exceptions.InvalidDataException;
+import org.java_websocket.extensions.CompressionExtension;
+import org.java_websocket.extensions.IExtension;
+import org.java_websocket.framing.CloseFrame;
+import org.java_websocket.framing.Framedata;
+import org.java_websocket.framing.FramedataImpl1;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * permessage-deflate(RFC 7692)的客户端实现, Java-WebSocket 1.4.0没有自带
+ * 只解压收到的消息(截图, 响应体这类大消息压缩效果明显), 发出的命令都很小, 不压缩, 协议允许客户端发送不压缩的消息
+ */
+class PerMessageDeflateExtension extends CompressionExtension {
+
+    private static final String EXTENSION = "permessage-deflate";
+
+    private static final String SERVER_NO_CONTEXT_TAKEOVER = "server_no_context_takeover";
+
+    /**
+     * 发送方压缩之后去掉了末尾的这4个字节, 解压之前要补上
+     */
+    private static final byte[] TAIL = {0x00, 0x00, (byte) 0xff, (byte) 0xff};
+
+    private final Inflater inflater = new Inflater(true);
+
+    private final byte[] buffer = new byte[8192];
+
+    private boolean noContextTakeover;
+
+    /**
+     * 分片的消息只有第一帧带有RSV1标记
+     */
+    private boolean compressed;
+
+    @Override
+    public void decodeFrame(Framedata frame) throws InvalidDataException {
+        Opcode opcode = frame.getOpcode();
+        if (opcode == Opcode.TEXT || opcode == Opcode.BINARY) {
+            compressed = frame.isRSV1();
+        } else if (opcode != Opcode.CONTINUOUS) {
+            //控制帧不会压缩
+            return;
+        }
+        if (!compressed) {
+            return;
+        }
+        ByteBuffer payload = frame.getPayloadData();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.remaining() * 4);
+        try {
+            inflate(payload, out);
+            if (frame.isFin()) {
+                inflate(ByteBuffer.wrap(TAIL), out);
+                if (noContextTakeover) {
+                    inflater.reset();
+                }
+                compressed = false;
+            }
+        } catch (DataFormatException e) {
+            throw new InvalidDataException(CloseFrame.PROTOCOL_ERROR, e.getMessage());
+        }
+        FramedataImpl1 impl = (FramedataImpl1) frame;
+        impl.setPayload(ByteBuffer.wrap(out.toByteArray()));
+        impl.setRSV1(false);
+    }
+
+    private void inflate(ByteBuffer payload, ByteArrayOutputStream out) throws DataFormatException {
+        byte[] input = new byte[payload.remaining()];
+        payload.get(input);
+        inflater.setInput(input);
+        int n;
+        while ((n = inflater.inflate(buffer)) > 0) {
+            out.write(buffer, 0, n);
+        }
+    }
+
+    @Override
+    public boolean acceptProvidedExtensionAsClient(String inputExtension) {
+        for(String extension : inputExtension.split(",")) {
+            String[] params = extension.split(";");
+            if (!EXTENSION.equalsIgnoreCase(params[0].trim())) {
+                continue;
+            }
+            noContextTakeover = false;
+            for(int i = 1; i < params.length; i++) {
+                if (SERVER_NO_CONTEXT_TAKEOVER.equalsIgnoreCase(params[i].trim())) {
+                    noContextTakeover = true;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean acceptProvidedExtensionAsServer(String inputExtension) {
+        return false;
+    }
+
+    @Override
+    public String getProvidedExtensionAsClient() {
+        return EXTENSION;
+    }
+
+    @Override
+    public String getProvidedExtensionAsServer() {
+        return "";
+    }
+
+    @Override
+    public IExtension copyInstance() {
+        return new PerMessageDeflateExtension();
+    }
+
+    @Override
+    public void reset() {
+        inflater.reset();
+        compressed = false;
+    }
+
+    @Override
+    public String toString() {
+        return EXTENSION;
+    }
+}
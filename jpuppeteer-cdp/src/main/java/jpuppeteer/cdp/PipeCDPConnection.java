@@ -0,0 +1,218 @@
+package jpuppeteer.cdp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 通过--remote-debugging-pipe与chrome通信, chrome从fd 3读取命令, 向fd 4写入响应, 每条消息以'\0'结尾
+ * 启动的时候需要把子进程的stdin/stdout重定向到fd 3/4, @see jpuppeteer.chrome.ChromeLauncher
+ */
+public class PipeCDPConnection extends CDPConnection {
+
+    private static final Logger logger = LoggerFactory.getLogger(PipeCDPConnection.class);
+
+    private static final byte DELIMITER = 0;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String name;
+
+    private final InputStream inputStream;
+
+    private final OutputStream outputStream;
+
+    private final ReadableByteChannel in;
+
+    private final WritableByteChannel out;
+
+    private final Object writeLock;
+
+    private final CharsetEncoder encoder;
+
+    private ByteBuffer writeBuffer;
+
+    private Thread readThread;
+
+    private volatile boolean closed;
+
+    public PipeCDPConnection(String name, InputStream inputStream, OutputStream outputStream) {
+        this(name, inputStream, outputStream, DEFAULT_WORKERS);
+    }
+
+    public PipeCDPConnection(String name, InputStream inputStream, OutputStream outputStream, int workers) {
+        super(name, workers);
+        this.name = name;
+        this.inputStream = inputStream;
+        this.outputStream = outputStream;
+        this.in = Channels.newChannel(inputStream);
+        this.out = Channels.newChannel(outputStream);
+        this.writeLock = new Object();
+        this.encoder = StandardCharsets.UTF_8.newEncoder();
+        this.writeBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+        this.closed = false;
+    }
+
+    /**
+     * 子进程的stdout对应chrome的fd 4, stdin对应chrome的fd 3
+     */
+    public PipeCDPConnection(String name, Process process) {
+        this(name, process.getInputStream(), process.getOutputStream());
+    }
+
+    @Override
+    public void open() {
+        this.readThread = new Thread(this::readLoop, "Pipe[" + name + "]");
+        this.readThread.setDaemon(true);
+        this.readThread.start();
+    }
+
+    private void readLoop() {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        //未读完的半条消息
+        byte[] pending = new byte[BUFFER_SIZE];
+        int pendingSize = 0;
+        try {
+            while (!closed && in.read(buffer) != -1) {
+                buffer.flip();
+                byte[] array = buffer.array();
+                int start = 0;
+                int limit = buffer.limit();
+                for(int i = 0; i < limit; i++) {
+                    if (array[i] != DELIMITER) {
+                        continue;
+                    }
+                    String message;
+                    if (pendingSize == 0) {
+                        message = new String(array, start, i - start, StandardCharsets.UTF_8);
+                    } else {
+                        pending = append(pending, pendingSize, array, start, i - start);
+                        message = new String(pending, 0, pendingSize + i - start, StandardCharsets.UTF_8);
+                        pendingSize = 0;
+                        //超长消息处理完之后缩回默认大小, 不长期占用最大消息的内存
+                        if (pending.length > BUFFER_SIZE) {
+                            pending = new byte[BUFFER_SIZE];
+                        }
+                    }
+                    start = i + 1;
+                    dispatch(message);
+                }
+                if (start < limit) {
+                    pending = append(pending, pendingSize, array, start, limit - start);
+                    pendingSize += limit - start;
+                }
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            if (!closed) {
+                logger.error("read pipe failed, error={}", e.getMessage(), e);
+            }
+        }
+        logger.debug("pipe {} closed", name);
+        disconnected(new IOException("pipe " + name + " closed"));
+    }
+
+    private static byte[] append(byte[] dest, int destSize, byte[] src, int offset, int length) {
+        if (destSize + length > dest.length) {
+            dest = Arrays.copyOf(dest, Math.max(dest.length << 1, destSize + length));
+        }
+        System.arraycopy(src, offset, dest, destSize, length);
+        return dest;
+    }
+
+    private void dispatch(String message) {
+        try {
+            recv(message);
+        } catch (Throwable t) {
+            logger.error("process message failed, error={}", t.getMessage(), t);
+        }
+    }
+
+    /**
+     * 整批命令编码到同一个buffer中, 一次write+flush
+     */
+    @Override
+    protected void writeBatch(List<OutboundQueue.Command> batch) throws IOException {
+        synchronized (writeLock) {
+            if (closed) {
+                throw new IOException("pipe " + name + " closed");
+            }
+            writeBuffer.clear();
+            for(OutboundQueue.Command command : batch) {
+                encode(command.getText());
+                ensureRemaining(1);
+                writeBuffer.put(DELIMITER);
+            }
+            writeBuffer.flip();
+            try {
+                while (writeBuffer.hasRemaining()) {
+                    out.write(writeBuffer);
+                }
+                //Process的stdin是BufferedOutputStream, 需要主动flush
+                outputStream.flush();
+            } finally {
+                //写入过超长消息之后缩回默认大小
+                if (writeBuffer.capacity() > BUFFER_SIZE) {
+                    writeBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+                }
+            }
+        }
+    }
+
+    private void encode(String text) throws CharacterCodingException {
+        CharBuffer chars = CharBuffer.wrap(text);
+        encoder.reset();
+        CoderResult result;
+        while ((result = encoder.encode(chars, writeBuffer, true)).isOverflow()) {
+            ensureRemaining((int) (chars.remaining() * encoder.averageBytesPerChar()) + 16);
+        }
+        if (result.isError()) {
+            result.throwException();
+        }
+        while ((result = encoder.flush(writeBuffer)).isOverflow()) {
+            ensureRemaining(16);
+        }
+    }
+
+    private void ensureRemaining(int size) {
+        if (writeBuffer.remaining() >= size) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(Math.max(writeBuffer.capacity() << 1, writeBuffer.position() + size));
+        writeBuffer.flip();
+        buffer.put(writeBuffer);
+        writeBuffer = buffer;
+    }
+
+    @Override
+    public void close() throws Exception {
+        closed = true;
+        synchronized (writeLock) {
+            try {
+                outputStream.close();
+            } catch (IOException e) {
+                logger.warn("close pipe output failed, error={}", e.getMessage());
+            }
+        }
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            logger.warn("close pipe input failed, error={}", e.getMessage());
+        }
+        super.close();
+    }
+}
@@ -1,52 +1,222 @@
 package jpuppeteer.cdp;
 
-import com.alibaba.fastjson.JSONObject;
+import org.java_websocket.WebSocket;
 import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.drafts.Draft;
+import org.java_websocket.drafts.Draft_6455;
+import org.java_websocket.exceptions.WebsocketNotConnectedException;
+import org.java_websocket.framing.Framedata;
+import org.java_websocket.framing.TextFrame;
 import org.java_websocket.handshake.ServerHandshake;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class WebSocketCDPConnection extends CDPConnection {
 
     private static final Logger logger = LoggerFactory.getLogger(WebSocketCDPConnection.class);
 
+    private static final long INITIAL_BACKOFF = 200;
+
+    private static final long MAX_BACKOFF = 30000;
+
+    private static final int INITIAL_PAYLOAD_SIZE = 64 * 1024;
+
+    private static final int MAX_RETAINED_PAYLOAD_SIZE = 1024 * 1024;
+
     private URI uri;
 
     private WebSocketClient client;
 
+    private final List<Runnable> reconnectListeners;
+
+    private final AtomicBoolean reconnecting;
+
+    /**
+     * 只在写线程上使用
+     */
+    private final CharsetEncoder encoder;
+
+    private ByteBuffer payload;
+
+    private volatile boolean reconnect;
+
+    private volatile boolean closing;
+
     public WebSocketCDPConnection(URI uri) {
-        super(uri.getHost() + ":" + uri.getPort());
+        this(uri, DEFAULT_WORKERS);
+    }
+
+    public WebSocketCDPConnection(URI uri, int workers) {
+        this(uri, workers, false);
+    }
+
+    /**
+     * @param compress 是否协商permessage-deflate, 连接远程浏览器的时候可以大幅减少截图, 响应体这类大消息的传输量
+     */
+    public WebSocketCDPConnection(URI uri, int workers, boolean compress) {
+        super(uri.getHost() + ":" + uri.getPort(), workers);
         this.uri = uri;
-        this.client = new CDPWebSocketClient(this.uri);
+        this.reconnectListeners = new CopyOnWriteArrayList<>();
+        this.reconnecting = new AtomicBoolean(false);
+        //跟String.getBytes一样替换非法的字符, 不抛异常
+        this.encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.payload = ByteBuffer.allocate(INITIAL_PAYLOAD_SIZE);
+        this.client = new CDPWebSocketClient(this.uri, compress ? new Draft_6455(new PerMessageDeflateExtension()) : new Draft_6455());
     }
 
     public URI uri() {
         return this.uri;
     }
 
+    /**
+     * 对端断开之后是否自动重连, 重连的间隔从200ms开始翻倍, 最大30s
+     */
+    public void setReconnect(boolean reconnect) {
+        this.reconnect = reconnect;
+    }
+
+    /**
+     * 重连成功之后在重连线程上调用, 之前的session都已经失效, 需要重新attach
+     */
+    public void onReconnected(Runnable listener) {
+        reconnectListeners.add(listener);
+    }
+
+    private void startReconnect() {
+        if (!reconnecting.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(this::reconnectLoop, "Reconnect[" + uri.getHost() + ":" + uri.getPort() + "]");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void reconnectLoop() {
+        long backoff = INITIAL_BACKOFF;
+        int attempts = 0;
+        try {
+            while (!closing) {
+                TimeUnit.MILLISECONDS.sleep(backoff);
+                attempts++;
+                try {
+                    if (client.reconnectBlocking()) {
+                        logger.info("reconnected {} after {} attempts", uri, attempts);
+                        break;
+                    }
+                } catch (IllegalStateException e) {
+                    logger.warn("reconnect {} failed, error={}", uri, e.getMessage());
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } finally {
+            reconnecting.set(false);
+        }
+        if (closing) {
+            return;
+        }
+        for(Runnable listener : reconnectListeners) {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                logger.error("reconnect listener failed, error={}", e.getMessage(), e);
+            }
+        }
+    }
+
     @Override
     public void open() throws InterruptedException {
         this.client.connectBlocking();
     }
 
+    /**
+     * 整批命令的UTF-8编码写到同一个复用的buffer里, 每个命令对应buffer中的一段, 包装成TextFrame之后一次sendFrame发出
+     * sendFrame返回之前已经把帧编码到自己的buffer中, 所以payload可以在下一批复用
+     */
     @Override
-    protected void sendInternal(JSONObject request) {
-        this.client.send(request.toJSONString());
+    protected void writeBatch(List<OutboundQueue.Command> batch) throws IOException {
+        WebSocket connection = client.getConnection();
+        if (!connection.isOpen()) {
+            throw new IOException("websocket " + uri + " is not open");
+        }
+        ByteBuffer buffer = payload;
+        buffer.clear();
+        List<Framedata> frames = new ArrayList<>(batch.size());
+        for(OutboundQueue.Command command : batch) {
+            int start = buffer.position();
+            buffer = encode(buffer, command.getText());
+            ByteBuffer data = buffer.duplicate();
+            data.flip();
+            data.position(start);
+            TextFrame frame = new TextFrame();
+            frame.setPayload(data);
+            frame.setFin(true);
+            frames.add(frame);
+        }
+        //超大的命令(比如很长的脚本)之后不再持有大buffer
+        payload = buffer.capacity() > MAX_RETAINED_PAYLOAD_SIZE ? ByteBuffer.allocate(INITIAL_PAYLOAD_SIZE) : buffer;
+        try {
+            connection.sendFrame(frames);
+        } catch (WebsocketNotConnectedException e) {
+            throw new IOException("websocket " + uri + " is not open", e);
+        }
+    }
+
+    /**
+     * @return 空间不够的时候返回扩容之后的buffer, 之前写入的内容会复制过去
+     */
+    private ByteBuffer encode(ByteBuffer buffer, String text) throws CharacterCodingException {
+        encoder.reset();
+        CharBuffer in = CharBuffer.wrap(text);
+        while (true) {
+            CoderResult result = encoder.encode(in, buffer, true);
+            if (result.isUnderflow()) {
+                result = encoder.flush(buffer);
+            }
+            if (result.isUnderflow()) {
+                return buffer;
+            }
+            if (!result.isOverflow()) {
+                result.throwException();
+            }
+            int required = buffer.position() + (int) (in.remaining() * encoder.maxBytesPerChar()) + 16;
+            ByteBuffer bigger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, required));
+            buffer.flip();
+            bigger.put(buffer);
+            buffer = bigger;
+        }
     }
 
     @Override
     public void close() throws Exception {
+        closing = true;
         client.close();
         super.close();
     }
 
     private class CDPWebSocketClient extends WebSocketClient {
 
-        public CDPWebSocketClient(URI uri) {
-            super(uri);
+        public CDPWebSocketClient(URI uri, Draft draft) {
+            super(uri, draft);
             //关闭死连接检查
             super.setConnectionLostTimeout(0);
         }
@@ -68,6 +238,10 @@ public class WebSocketCDPConnection extends CDPConnection {
         @Override
         public void onClose(int code, String reason, boolean remote) {
             logger.debug("close {}, {}, {}, {}", uri, code, reason, remote);
+            disconnected(new IOException("websocket closed, code=" + code + ", reason=" + reason + ", remote=" + remote));
+            if (reconnect && !closing) {
+                startReconnect();
+            }
         }
 
         @Override
@@ -0,0 +1,2082 @@
+package jpuppeteer.cdp.cdp;
+
+public final class CDPCodecs {
+
+    private static final jpuppeteer.cdp.CDPDecoder<?> NONE = reader -> null;
+
+    private static final java.util.Map<Class<?>, jpuppeteer.cdp.CDPDecoder<?>> CACHE = new java.util.concurrent.ConcurrentHashMap<>();
+
+    private CDPCodecs() {
+    }
+
+    /**
+    * 不是生成的实体类返回null
+    */
+    public static <T> jpuppeteer.cdp.CDPDecoder<T> decoder(Class<T> clazz) {
+        jpuppeteer.cdp.CDPDecoder<?> decoder = CACHE.get(clazz);
+        if (decoder == null) {
+            decoder = find(clazz.getName());
+            if (decoder == null) {
+                decoder = NONE;
+            }
+            CACHE.put(clazz, decoder);
+        }
+        return decoder != NONE ? (jpuppeteer.cdp.CDPDecoder<T>) decoder : null;
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> find(String className) {
+        if (!className.startsWith("jpuppeteer.cdp.cdp.entity.")) {
+            return null;
+        }
+        int index = className.indexOf('.', 26);
+        if (index < 0) {
+            return null;
+        }
+        String name = className.substring(index + 1);
+        switch (className.substring(26, index)) {
+            case "accessibility":
+                return accessibility(name);
+            case "animation":
+                return animation(name);
+            case "applicationcache":
+                return applicationcache(name);
+            case "audits":
+                return audits(name);
+            case "backgroundservice":
+                return backgroundservice(name);
+            case "browser":
+                return browser(name);
+            case "cachestorage":
+                return cachestorage(name);
+            case "cast":
+                return cast(name);
+            case "console":
+                return console(name);
+            case "css":
+                return css(name);
+            case "database":
+                return database(name);
+            case "debugger":
+                return debugger(name);
+            case "deviceorientation":
+                return deviceorientation(name);
+            case "dom":
+                return dom(name);
+            case "domdebugger":
+                return domdebugger(name);
+            case "domsnapshot":
+                return domsnapshot(name);
+            case "domstorage":
+                return domstorage(name);
+            case "emulation":
+                return emulation(name);
+            case "fetch":
+                return fetch(name);
+            case "headlessexperimental":
+                return headlessexperimental(name);
+            case "heapprofiler":
+                return heapprofiler(name);
+            case "indexeddb":
+                return indexeddb(name);
+            case "input":
+                return input(name);
+            case "inspector":
+                return inspector(name);
+            case "io":
+                return io(name);
+            case "layertree":
+                return layertree(name);
+            case "log":
+                return log(name);
+            case "media":
+                return media(name);
+            case "memory":
+                return memory(name);
+            case "network":
+                return network(name);
+            case "overlay":
+                return overlay(name);
+            case "page":
+                return page(name);
+            case "performance":
+                return performance(name);
+            case "profiler":
+                return profiler(name);
+            case "runtime":
+                return runtime(name);
+            case "schema":
+                return schema(name);
+            case "security":
+                return security(name);
+            case "serviceworker":
+                return serviceworker(name);
+            case "storage":
+                return storage(name);
+            case "systeminfo":
+                return systeminfo(name);
+            case "target":
+                return target(name);
+            case "tethering":
+                return tethering(name);
+            case "tracing":
+                return tracing(name);
+            case "webaudio":
+                return webaudio(name);
+            case "webauthn":
+                return webauthn(name);
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> accessibility(String name) {
+        switch (name) {
+            case "AXNode":
+                return jpuppeteer.cdp.cdp.entity.accessibility.AXNode::decode;
+            case "AXProperty":
+                return jpuppeteer.cdp.cdp.entity.accessibility.AXProperty::decode;
+            case "AXRelatedNode":
+                return jpuppeteer.cdp.cdp.entity.accessibility.AXRelatedNode::decode;
+            case "AXValue":
+                return jpuppeteer.cdp.cdp.entity.accessibility.AXValue::decode;
+            case "AXValueSource":
+                return jpuppeteer.cdp.cdp.entity.accessibility.AXValueSource::decode;
+            case "GetFullAXTreeResponse":
+                return jpuppeteer.cdp.cdp.entity.accessibility.GetFullAXTreeResponse::decode;
+            case "GetPartialAXTreeRequest":
+                return jpuppeteer.cdp.cdp.entity.accessibility.GetPartialAXTreeRequest::decode;
+            case "GetPartialAXTreeResponse":
+                return jpuppeteer.cdp.cdp.entity.accessibility.GetPartialAXTreeResponse::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> animation(String name) {
+        switch (name) {
+            case "Animation":
+                return jpuppeteer.cdp.cdp.entity.animation.Animation::decode;
+            case "AnimationCanceledEvent":
+                return jpuppeteer.cdp.cdp.entity.animation.AnimationCanceledEvent::decode;
+            case "AnimationCreatedEvent":
+                return jpuppeteer.cdp.cdp.entity.animation.AnimationCreatedEvent::decode;
+            case "AnimationEffect":
+                return jpuppeteer.cdp.cdp.entity.animation.AnimationEffect::decode;
+            case "AnimationStartedEvent":
+                return jpuppeteer.cdp.cdp.entity.animation.AnimationStartedEvent::decode;
+            case "GetCurrentTimeRequest":
+                return jpuppeteer.cdp.cdp.entity.animation.GetCurrentTimeRequest::decode;
+            case "GetCurrentTimeResponse":
+                return jpuppeteer.cdp.cdp.entity.animation.GetCurrentTimeResponse::decode;
+            case "GetPlaybackRateResponse":
+                return jpuppeteer.cdp.cdp.entity.animation.GetPlaybackRateResponse::decode;
+            case "KeyframeStyle":
+                return jpuppeteer.cdp.cdp.entity.animation.KeyframeStyle::decode;
+            case "KeyframesRule":
+                return jpuppeteer.cdp.cdp.entity.animation.KeyframesRule::decode;
+            case "ReleaseAnimationsRequest":
+                return jpuppeteer.cdp.cdp.entity.animation.ReleaseAnimationsRequest::decode;
+            case "ResolveAnimationRequest":
+                return jpuppeteer.cdp.cdp.entity.animation.ResolveAnimationRequest::decode;
+            case "ResolveAnimationResponse":
+                return jpuppeteer.cdp.cdp.entity.animation.ResolveAnimationResponse::decode;
+            case "SeekAnimationsRequest":
+                return jpuppeteer.cdp.cdp.entity.animation.SeekAnimationsRequest::decode;
+            case "SetPausedRequest":
+                return jpuppeteer.cdp.cdp.entity.animation.SetPausedRequest::decode;
+            case "SetPlaybackRateRequest":
+                return jpuppeteer.cdp.cdp.entity.animation.SetPlaybackRateRequest::decode;
+            case "SetTimingRequest":
+                return jpuppeteer.cdp.cdp.entity.animation.SetTimingRequest::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> applicationcache(String name) {
+        switch (name) {
+            case "ApplicationCache":
+                return jpuppeteer.cdp.cdp.entity.applicationcache.ApplicationCache::decode;
+            case "ApplicationCacheResource":
+                return jpuppeteer.cdp.cdp.entity.applicationcache.ApplicationCacheResource::decode;
+            case "ApplicationCacheStatusUpdatedEvent":
+                return jpuppeteer.cdp.cdp.entity.applicationcache.ApplicationCacheStatusUpdatedEvent::decode;
+            case "FrameWithManifest":
+                return jpuppeteer.cdp.cdp.entity.applicationcache.FrameWithManifest::decode;
+            case "GetApplicationCacheForFrameRequest":
+                return jpuppeteer.cdp.cdp.entity.applicationcache.GetApplicationCacheForFrameRequest::decode;
+            case "GetApplicationCacheForFrameResponse":
+                return jpuppeteer.cdp.cdp.entity.applicationcache.GetApplicationCacheForFrameResponse::decode;
+            case "GetFramesWithManifestsResponse":
+                return jpuppeteer.cdp.cdp.entity.applicationcache.GetFramesWithManifestsResponse::decode;
+            case "GetManifestForFrameRequest":
+                return jpuppeteer.cdp.cdp.entity.applicationcache.GetManifestForFrameRequest::decode;
+            case "GetManifestForFrameResponse":
+                return jpuppeteer.cdp.cdp.entity.applicationcache.GetManifestForFrameResponse::decode;
+            case "NetworkStateUpdatedEvent":
+                return jpuppeteer.cdp.cdp.entity.applicationcache.NetworkStateUpdatedEvent::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> audits(String name) {
+        switch (name) {
+            case "GetEncodedResponseRequest":
+                return jpuppeteer.cdp.cdp.entity.audits.GetEncodedResponseRequest::decode;
+            case "GetEncodedResponseResponse":
+                return jpuppeteer.cdp.cdp.entity.audits.GetEncodedResponseResponse::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> backgroundservice(String name) {
+        switch (name) {
+            case "BackgroundServiceEvent":
+                return jpuppeteer.cdp.cdp.entity.backgroundservice.BackgroundServiceEvent::decode;
+            case "BackgroundServiceEventReceivedEvent":
+                return jpuppeteer.cdp.cdp.entity.backgroundservice.BackgroundServiceEventReceivedEvent::decode;
+            case "ClearEventsRequest":
+                return jpuppeteer.cdp.cdp.entity.backgroundservice.ClearEventsRequest::decode;
+            case "EventMetadata":
+                return jpuppeteer.cdp.cdp.entity.backgroundservice.EventMetadata::decode;
+            case "RecordingStateChangedEvent":
+                return jpuppeteer.cdp.cdp.entity.backgroundservice.RecordingStateChangedEvent::decode;
+            case "SetRecordingRequest":
+                return jpuppeteer.cdp.cdp.entity.backgroundservice.SetRecordingRequest::decode;
+            case "StartObservingRequest":
+                return jpuppeteer.cdp.cdp.entity.backgroundservice.StartObservingRequest::decode;
+            case "StopObservingRequest":
+                return jpuppeteer.cdp.cdp.entity.backgroundservice.StopObservingRequest::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> browser(String name) {
+        switch (name) {
+            case "Bounds":
+                return jpuppeteer.cdp.cdp.entity.browser.Bounds::decode;
+            case "Bucket":
+                return jpuppeteer.cdp.cdp.entity.browser.Bucket::decode;
+            case "GetBrowserCommandLineResponse":
+                return jpuppeteer.cdp.cdp.entity.browser.GetBrowserCommandLineResponse::decode;
+            case "GetHistogramRequest":
+                return jpuppeteer.cdp.cdp.entity.browser.GetHistogramRequest::decode;
+            case "GetHistogramResponse":
+                return jpuppeteer.cdp.cdp.entity.browser.GetHistogramResponse::decode;
+            case "GetHistogramsRequest":
+                return jpuppeteer.cdp.cdp.entity.browser.GetHistogramsRequest::decode;
+            case "GetHistogramsResponse":
+                return jpuppeteer.cdp.cdp.entity.browser.GetHistogramsResponse::decode;
+            case "GetVersionResponse":
+                return jpuppeteer.cdp.cdp.entity.browser.GetVersionResponse::decode;
+            case "GetWindowBoundsRequest":
+                return jpuppeteer.cdp.cdp.entity.browser.GetWindowBoundsRequest::decode;
+            case "GetWindowBoundsResponse":
+                return jpuppeteer.cdp.cdp.entity.browser.GetWindowBoundsResponse::decode;
+            case "GetWindowForTargetRequest":
+                return jpuppeteer.cdp.cdp.entity.browser.GetWindowForTargetRequest::decode;
+            case "GetWindowForTargetResponse":
+                return jpuppeteer.cdp.cdp.entity.browser.GetWindowForTargetResponse::decode;
+            case "GrantPermissionsRequest":
+                return jpuppeteer.cdp.cdp.entity.browser.GrantPermissionsRequest::decode;
+            case "Histogram":
+                return jpuppeteer.cdp.cdp.entity.browser.Histogram::decode;
+            case "PermissionDescriptor":
+                return jpuppeteer.cdp.cdp.entity.browser.PermissionDescriptor::decode;
+            case "ResetPermissionsRequest":
+                return jpuppeteer.cdp.cdp.entity.browser.ResetPermissionsRequest::decode;
+            case "SetDockTileRequest":
+                return jpuppeteer.cdp.cdp.entity.browser.SetDockTileRequest::decode;
+            case "SetPermissionRequest":
+                return jpuppeteer.cdp.cdp.entity.browser.SetPermissionRequest::decode;
+            case "SetWindowBoundsRequest":
+                return jpuppeteer.cdp.cdp.entity.browser.SetWindowBoundsRequest::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> cachestorage(String name) {
+        switch (name) {
+            case "Cache":
+                return jpuppeteer.cdp.cdp.entity.cachestorage.Cache::decode;
+            case "CachedResponse":
+                return jpuppeteer.cdp.cdp.entity.cachestorage.CachedResponse::decode;
+            case "DataEntry":
+                return jpuppeteer.cdp.cdp.entity.cachestorage.DataEntry::decode;
+            case "DeleteCacheRequest":
+                return jpuppeteer.cdp.cdp.entity.cachestorage.DeleteCacheRequest::decode;
+            case "DeleteEntryRequest":
+                return jpuppeteer.cdp.cdp.entity.cachestorage.DeleteEntryRequest::decode;
+            case "Header":
+                return jpuppeteer.cdp.cdp.entity.cachestorage.Header::decode;
+            case "RequestCacheNamesRequest":
+                return jpuppeteer.cdp.cdp.entity.cachestorage.RequestCacheNamesRequest::decode;
+            case "RequestCacheNamesResponse":
+                return jpuppeteer.cdp.cdp.entity.cachestorage.RequestCacheNamesResponse::decode;
+            case "RequestCachedResponseRequest":
+                return jpuppeteer.cdp.cdp.entity.cachestorage.RequestCachedResponseRequest::decode;
+            case "RequestCachedResponseResponse":
+                return jpuppeteer.cdp.cdp.entity.cachestorage.RequestCachedResponseResponse::decode;
+            case "RequestEntriesRequest":
+                return jpuppeteer.cdp.cdp.entity.cachestorage.RequestEntriesRequest::decode;
+            case "RequestEntriesResponse":
+                return jpuppeteer.cdp.cdp.entity.cachestorage.RequestEntriesResponse::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> cast(String name) {
+        switch (name) {
+            case "EnableRequest":
+                return jpuppeteer.cdp.cdp.entity.cast.EnableRequest::decode;
+            case "IssueUpdatedEvent":
+                return jpuppeteer.cdp.cdp.entity.cast.IssueUpdatedEvent::decode;
+            case "SetSinkToUseRequest":
+                return jpuppeteer.cdp.cdp.entity.cast.SetSinkToUseRequest::decode;
+            case "Sink":
+                return jpuppeteer.cdp.cdp.entity.cast.Sink::decode;
+            case "SinksUpdatedEvent":
+                return jpuppeteer.cdp.cdp.entity.cast.SinksUpdatedEvent::decode;
+            case "StartTabMirroringRequest":
+                return jpuppeteer.cdp.cdp.entity.cast.StartTabMirroringRequest::decode;
+            case "StopCastingRequest":
+                return jpuppeteer.cdp.cdp.entity.cast.StopCastingRequest::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> console(String name) {
+        switch (name) {
+            case "ConsoleMessage":
+                return jpuppeteer.cdp.cdp.entity.console.ConsoleMessage::decode;
+            case "MessageAddedEvent":
+                return jpuppeteer.cdp.cdp.entity.console.MessageAddedEvent::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> css(String name) {
+        switch (name) {
+            case "AddRuleRequest":
+                return jpuppeteer.cdp.cdp.entity.css.AddRuleRequest::decode;
+            case "AddRuleResponse":
+                return jpuppeteer.cdp.cdp.entity.css.AddRuleResponse::decode;
+            case "CSSComputedStyleProperty":
+                return jpuppeteer.cdp.cdp.entity.css.CSSComputedStyleProperty::decode;
+            case "CSSKeyframeRule":
+                return jpuppeteer.cdp.cdp.entity.css.CSSKeyframeRule::decode;
+            case "CSSKeyframesRule":
+                return jpuppeteer.cdp.cdp.entity.css.CSSKeyframesRule::decode;
+            case "CSSMedia":
+                return jpuppeteer.cdp.cdp.entity.css.CSSMedia::decode;
+            case "CSSProperty":
+                return jpuppeteer.cdp.cdp.entity.css.CSSProperty::decode;
+            case "CSSRule":
+                return jpuppeteer.cdp.cdp.entity.css.CSSRule::decode;
+            case "CSSStyle":
+                return jpuppeteer.cdp.cdp.entity.css.CSSStyle::decode;
+            case "CSSStyleSheetHeader":
+                return jpuppeteer.cdp.cdp.entity.css.CSSStyleSheetHeader::decode;
+            case "CollectClassNamesRequest":
+                return jpuppeteer.cdp.cdp.entity.css.CollectClassNamesRequest::decode;
+            case "CollectClassNamesResponse":
+                return jpuppeteer.cdp.cdp.entity.css.CollectClassNamesResponse::decode;
+            case "CreateStyleSheetRequest":
+                return jpuppeteer.cdp.cdp.entity.css.CreateStyleSheetRequest::decode;
+            case "CreateStyleSheetResponse":
+                return jpuppeteer.cdp.cdp.entity.css.CreateStyleSheetResponse::decode;
+            case "FontFace":
+                return jpuppeteer.cdp.cdp.entity.css.FontFace::decode;
+            case "FontsUpdatedEvent":
+                return jpuppeteer.cdp.cdp.entity.css.FontsUpdatedEvent::decode;
+            case "ForcePseudoStateRequest":
+                return jpuppeteer.cdp.cdp.entity.css.ForcePseudoStateRequest::decode;
+            case "GetBackgroundColorsRequest":
+                return jpuppeteer.cdp.cdp.entity.css.GetBackgroundColorsRequest::decode;
+            case "GetBackgroundColorsResponse":
+                return jpuppeteer.cdp.cdp.entity.css.GetBackgroundColorsResponse::decode;
+            case "GetComputedStyleForNodeRequest":
+                return jpuppeteer.cdp.cdp.entity.css.GetComputedStyleForNodeRequest::decode;
+            case "GetComputedStyleForNodeResponse":
+                return jpuppeteer.cdp.cdp.entity.css.GetComputedStyleForNodeResponse::decode;
+            case "GetInlineStylesForNodeRequest":
+                return jpuppeteer.cdp.cdp.entity.css.GetInlineStylesForNodeRequest::decode;
+            case "GetInlineStylesForNodeResponse":
+                return jpuppeteer.cdp.cdp.entity.css.GetInlineStylesForNodeResponse::decode;
+            case "GetMatchedStylesForNodeRequest":
+                return jpuppeteer.cdp.cdp.entity.css.GetMatchedStylesForNodeRequest::decode;
+            case "GetMatchedStylesForNodeResponse":
+                return jpuppeteer.cdp.cdp.entity.css.GetMatchedStylesForNodeResponse::decode;
+            case "GetMediaQueriesResponse":
+                return jpuppeteer.cdp.cdp.entity.css.GetMediaQueriesResponse::decode;
+            case "GetPlatformFontsForNodeRequest":
+                return jpuppeteer.cdp.cdp.entity.css.GetPlatformFontsForNodeRequest::decode;
+            case "GetPlatformFontsForNodeResponse":
+                return jpuppeteer.cdp.cdp.entity.css.GetPlatformFontsForNodeResponse::decode;
+            case "GetStyleSheetTextRequest":
+                return jpuppeteer.cdp.cdp.entity.css.GetStyleSheetTextRequest::decode;
+            case "GetStyleSheetTextResponse":
+                return jpuppeteer.cdp.cdp.entity.css.GetStyleSheetTextResponse::decode;
+            case "InheritedStyleEntry":
+                return jpuppeteer.cdp.cdp.entity.css.InheritedStyleEntry::decode;
+            case "MediaQuery":
+                return jpuppeteer.cdp.cdp.entity.css.MediaQuery::decode;
+            case "MediaQueryExpression":
+                return jpuppeteer.cdp.cdp.entity.css.MediaQueryExpression::decode;
+            case "PlatformFontUsage":
+                return jpuppeteer.cdp.cdp.entity.css.PlatformFontUsage::decode;
+            case "PseudoElementMatches":
+                return jpuppeteer.cdp.cdp.entity.css.PseudoElementMatches::decode;
+            case "RuleMatch":
+                return jpuppeteer.cdp.cdp.entity.css.RuleMatch::decode;
+            case "RuleUsage":
+                return jpuppeteer.cdp.cdp.entity.css.RuleUsage::decode;
+            case "SelectorList":
+                return jpuppeteer.cdp.cdp.entity.css.SelectorList::decode;
+            case "SetEffectivePropertyValueForNodeRequest":
+                return jpuppeteer.cdp.cdp.entity.css.SetEffectivePropertyValueForNodeRequest::decode;
+            case "SetKeyframeKeyRequest":
+                return jpuppeteer.cdp.cdp.entity.css.SetKeyframeKeyRequest::decode;
+            case "SetKeyframeKeyResponse":
+                return jpuppeteer.cdp.cdp.entity.css.SetKeyframeKeyResponse::decode;
+            case "SetMediaTextRequest":
+                return jpuppeteer.cdp.cdp.entity.css.SetMediaTextRequest::decode;
+            case "SetMediaTextResponse":
+                return jpuppeteer.cdp.cdp.entity.css.SetMediaTextResponse::decode;
+            case "SetRuleSelectorRequest":
+                return jpuppeteer.cdp.cdp.entity.css.SetRuleSelectorRequest::decode;
+            case "SetRuleSelectorResponse":
+                return jpuppeteer.cdp.cdp.entity.css.SetRuleSelectorResponse::decode;
+            case "SetStyleSheetTextRequest":
+                return jpuppeteer.cdp.cdp.entity.css.SetStyleSheetTextRequest::decode;
+            case "SetStyleSheetTextResponse":
+                return jpuppeteer.cdp.cdp.entity.css.SetStyleSheetTextResponse::decode;
+            case "SetStyleTextsRequest":
+                return jpuppeteer.cdp.cdp.entity.css.SetStyleTextsRequest::decode;
+            case "SetStyleTextsResponse":
+                return jpuppeteer.cdp.cdp.entity.css.SetStyleTextsResponse::decode;
+            case "ShorthandEntry":
+                return jpuppeteer.cdp.cdp.entity.css.ShorthandEntry::decode;
+            case "SourceRange":
+                return jpuppeteer.cdp.cdp.entity.css.SourceRange::decode;
+            case "StopRuleUsageTrackingResponse":
+                return jpuppeteer.cdp.cdp.entity.css.StopRuleUsageTrackingResponse::decode;
+            case "StyleDeclarationEdit":
+                return jpuppeteer.cdp.cdp.entity.css.StyleDeclarationEdit::decode;
+            case "StyleSheetAddedEvent":
+                return jpuppeteer.cdp.cdp.entity.css.StyleSheetAddedEvent::decode;
+            case "StyleSheetChangedEvent":
+                return jpuppeteer.cdp.cdp.entity.css.StyleSheetChangedEvent::decode;
+            case "StyleSheetRemovedEvent":
+                return jpuppeteer.cdp.cdp.entity.css.StyleSheetRemovedEvent::decode;
+            case "TakeCoverageDeltaResponse":
+                return jpuppeteer.cdp.cdp.entity.css.TakeCoverageDeltaResponse::decode;
+            case "Value":
+                return jpuppeteer.cdp.cdp.entity.css.Value::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> database(String name) {
+        switch (name) {
+            case "AddDatabaseEvent":
+                return jpuppeteer.cdp.cdp.entity.database.AddDatabaseEvent::decode;
+            case "Database":
+                return jpuppeteer.cdp.cdp.entity.database.Database::decode;
+            case "Error":
+                return jpuppeteer.cdp.cdp.entity.database.Error::decode;
+            case "ExecuteSQLRequest":
+                return jpuppeteer.cdp.cdp.entity.database.ExecuteSQLRequest::decode;
+            case "ExecuteSQLResponse":
+                return jpuppeteer.cdp.cdp.entity.database.ExecuteSQLResponse::decode;
+            case "GetDatabaseTableNamesRequest":
+                return jpuppeteer.cdp.cdp.entity.database.GetDatabaseTableNamesRequest::decode;
+            case "GetDatabaseTableNamesResponse":
+                return jpuppeteer.cdp.cdp.entity.database.GetDatabaseTableNamesResponse::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> debugger(String name) {
+        switch (name) {
+            case "BreakLocation":
+                return jpuppeteer.cdp.cdp.entity.debugger.BreakLocation::decode;
+            case "BreakpointResolvedEvent":
+                return jpuppeteer.cdp.cdp.entity.debugger.BreakpointResolvedEvent::decode;
+            case "CallFrame":
+                return jpuppeteer.cdp.cdp.entity.debugger.CallFrame::decode;
+            case "ContinueToLocationRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.ContinueToLocationRequest::decode;
+            case "EnableRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.EnableRequest::decode;
+            case "EnableResponse":
+                return jpuppeteer.cdp.cdp.entity.debugger.EnableResponse::decode;
+            case "EvaluateOnCallFrameRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.EvaluateOnCallFrameRequest::decode;
+            case "EvaluateOnCallFrameResponse":
+                return jpuppeteer.cdp.cdp.entity.debugger.EvaluateOnCallFrameResponse::decode;
+            case "GetPossibleBreakpointsRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.GetPossibleBreakpointsRequest::decode;
+            case "GetPossibleBreakpointsResponse":
+                return jpuppeteer.cdp.cdp.entity.debugger.GetPossibleBreakpointsResponse::decode;
+            case "GetScriptSourceRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.GetScriptSourceRequest::decode;
+            case "GetScriptSourceResponse":
+                return jpuppeteer.cdp.cdp.entity.debugger.GetScriptSourceResponse::decode;
+            case "GetStackTraceRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.GetStackTraceRequest::decode;
+            case "GetStackTraceResponse":
+                return jpuppeteer.cdp.cdp.entity.debugger.GetStackTraceResponse::decode;
+            case "GetWasmBytecodeRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.GetWasmBytecodeRequest::decode;
+            case "GetWasmBytecodeResponse":
+                return jpuppeteer.cdp.cdp.entity.debugger.GetWasmBytecodeResponse::decode;
+            case "Location":
+                return jpuppeteer.cdp.cdp.entity.debugger.Location::decode;
+            case "PauseOnAsyncCallRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.PauseOnAsyncCallRequest::decode;
+            case "PausedEvent":
+                return jpuppeteer.cdp.cdp.entity.debugger.PausedEvent::decode;
+            case "RemoveBreakpointRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.RemoveBreakpointRequest::decode;
+            case "RestartFrameRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.RestartFrameRequest::decode;
+            case "RestartFrameResponse":
+                return jpuppeteer.cdp.cdp.entity.debugger.RestartFrameResponse::decode;
+            case "Scope":
+                return jpuppeteer.cdp.cdp.entity.debugger.Scope::decode;
+            case "ScriptFailedToParseEvent":
+                return jpuppeteer.cdp.cdp.entity.debugger.ScriptFailedToParseEvent::decode;
+            case "ScriptParsedEvent":
+                return jpuppeteer.cdp.cdp.entity.debugger.ScriptParsedEvent::decode;
+            case "ScriptPosition":
+                return jpuppeteer.cdp.cdp.entity.debugger.ScriptPosition::decode;
+            case "SearchInContentRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.SearchInContentRequest::decode;
+            case "SearchInContentResponse":
+                return jpuppeteer.cdp.cdp.entity.debugger.SearchInContentResponse::decode;
+            case "SearchMatch":
+                return jpuppeteer.cdp.cdp.entity.debugger.SearchMatch::decode;
+            case "SetAsyncCallStackDepthRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.SetAsyncCallStackDepthRequest::decode;
+            case "SetBlackboxPatternsRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.SetBlackboxPatternsRequest::decode;
+            case "SetBlackboxedRangesRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.SetBlackboxedRangesRequest::decode;
+            case "SetBreakpointByUrlRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointByUrlRequest::decode;
+            case "SetBreakpointByUrlResponse":
+                return jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointByUrlResponse::decode;
+            case "SetBreakpointOnFunctionCallRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointOnFunctionCallRequest::decode;
+            case "SetBreakpointOnFunctionCallResponse":
+                return jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointOnFunctionCallResponse::decode;
+            case "SetBreakpointRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointRequest::decode;
+            case "SetBreakpointResponse":
+                return jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointResponse::decode;
+            case "SetBreakpointsActiveRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointsActiveRequest::decode;
+            case "SetInstrumentationBreakpointRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.SetInstrumentationBreakpointRequest::decode;
+            case "SetInstrumentationBreakpointResponse":
+                return jpuppeteer.cdp.cdp.entity.debugger.SetInstrumentationBreakpointResponse::decode;
+            case "SetPauseOnExceptionsRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.SetPauseOnExceptionsRequest::decode;
+            case "SetReturnValueRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.SetReturnValueRequest::decode;
+            case "SetScriptSourceRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.SetScriptSourceRequest::decode;
+            case "SetScriptSourceResponse":
+                return jpuppeteer.cdp.cdp.entity.debugger.SetScriptSourceResponse::decode;
+            case "SetSkipAllPausesRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.SetSkipAllPausesRequest::decode;
+            case "SetVariableValueRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.SetVariableValueRequest::decode;
+            case "StepIntoRequest":
+                return jpuppeteer.cdp.cdp.entity.debugger.StepIntoRequest::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> deviceorientation(String name) {
+        switch (name) {
+            case "SetDeviceOrientationOverrideRequest":
+                return jpuppeteer.cdp.cdp.entity.deviceorientation.SetDeviceOrientationOverrideRequest::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> dom(String name) {
+        switch (name) {
+            case "AttributeModifiedEvent":
+                return jpuppeteer.cdp.cdp.entity.dom.AttributeModifiedEvent::decode;
+            case "AttributeRemovedEvent":
+                return jpuppeteer.cdp.cdp.entity.dom.AttributeRemovedEvent::decode;
+            case "BackendNode":
+                return jpuppeteer.cdp.cdp.entity.dom.BackendNode::decode;
+            case "BoxModel":
+                return jpuppeteer.cdp.cdp.entity.dom.BoxModel::decode;
+            case "CharacterDataModifiedEvent":
+                return jpuppeteer.cdp.cdp.entity.dom.CharacterDataModifiedEvent::decode;
+            case "ChildNodeCountUpdatedEvent":
+                return jpuppeteer.cdp.cdp.entity.dom.ChildNodeCountUpdatedEvent::decode;
+            case "ChildNodeInsertedEvent":
+                return jpuppeteer.cdp.cdp.entity.dom.ChildNodeInsertedEvent::decode;
+            case "ChildNodeRemovedEvent":
+                return jpuppeteer.cdp.cdp.entity.dom.ChildNodeRemovedEvent::decode;
+            case "CollectClassNamesFromSubtreeRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.CollectClassNamesFromSubtreeRequest::decode;
+            case "CollectClassNamesFromSubtreeResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.CollectClassNamesFromSubtreeResponse::decode;
+            case "CopyToRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.CopyToRequest::decode;
+            case "CopyToResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.CopyToResponse::decode;
+            case "DescribeNodeRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.DescribeNodeRequest::decode;
+            case "DescribeNodeResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.DescribeNodeResponse::decode;
+            case "DiscardSearchResultsRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.DiscardSearchResultsRequest::decode;
+            case "DistributedNodesUpdatedEvent":
+                return jpuppeteer.cdp.cdp.entity.dom.DistributedNodesUpdatedEvent::decode;
+            case "FocusRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.FocusRequest::decode;
+            case "GetAttributesRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.GetAttributesRequest::decode;
+            case "GetAttributesResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.GetAttributesResponse::decode;
+            case "GetBoxModelRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.GetBoxModelRequest::decode;
+            case "GetBoxModelResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.GetBoxModelResponse::decode;
+            case "GetContentQuadsRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.GetContentQuadsRequest::decode;
+            case "GetContentQuadsResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.GetContentQuadsResponse::decode;
+            case "GetDocumentRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.GetDocumentRequest::decode;
+            case "GetDocumentResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.GetDocumentResponse::decode;
+            case "GetFileInfoRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.GetFileInfoRequest::decode;
+            case "GetFileInfoResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.GetFileInfoResponse::decode;
+            case "GetFlattenedDocumentRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.GetFlattenedDocumentRequest::decode;
+            case "GetFlattenedDocumentResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.GetFlattenedDocumentResponse::decode;
+            case "GetFrameOwnerRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.GetFrameOwnerRequest::decode;
+            case "GetFrameOwnerResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.GetFrameOwnerResponse::decode;
+            case "GetNodeForLocationRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.GetNodeForLocationRequest::decode;
+            case "GetNodeForLocationResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.GetNodeForLocationResponse::decode;
+            case "GetNodeStackTracesRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.GetNodeStackTracesRequest::decode;
+            case "GetNodeStackTracesResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.GetNodeStackTracesResponse::decode;
+            case "GetOuterHTMLRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.GetOuterHTMLRequest::decode;
+            case "GetOuterHTMLResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.GetOuterHTMLResponse::decode;
+            case "GetRelayoutBoundaryRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.GetRelayoutBoundaryRequest::decode;
+            case "GetRelayoutBoundaryResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.GetRelayoutBoundaryResponse::decode;
+            case "GetSearchResultsRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.GetSearchResultsRequest::decode;
+            case "GetSearchResultsResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.GetSearchResultsResponse::decode;
+            case "InlineStyleInvalidatedEvent":
+                return jpuppeteer.cdp.cdp.entity.dom.InlineStyleInvalidatedEvent::decode;
+            case "MoveToRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.MoveToRequest::decode;
+            case "MoveToResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.MoveToResponse::decode;
+            case "Node":
+                return jpuppeteer.cdp.cdp.entity.dom.Node::decode;
+            case "PerformSearchRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.PerformSearchRequest::decode;
+            case "PerformSearchResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.PerformSearchResponse::decode;
+            case "PseudoElementAddedEvent":
+                return jpuppeteer.cdp.cdp.entity.dom.PseudoElementAddedEvent::decode;
+            case "PseudoElementRemovedEvent":
+                return jpuppeteer.cdp.cdp.entity.dom.PseudoElementRemovedEvent::decode;
+            case "PushNodeByPathToFrontendRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.PushNodeByPathToFrontendRequest::decode;
+            case "PushNodeByPathToFrontendResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.PushNodeByPathToFrontendResponse::decode;
+            case "PushNodesByBackendIdsToFrontendRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.PushNodesByBackendIdsToFrontendRequest::decode;
+            case "PushNodesByBackendIdsToFrontendResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.PushNodesByBackendIdsToFrontendResponse::decode;
+            case "QuerySelectorAllRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.QuerySelectorAllRequest::decode;
+            case "QuerySelectorAllResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.QuerySelectorAllResponse::decode;
+            case "QuerySelectorRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.QuerySelectorRequest::decode;
+            case "QuerySelectorResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.QuerySelectorResponse::decode;
+            case "RGBA":
+                return jpuppeteer.cdp.cdp.entity.dom.RGBA::decode;
+            case "Rect":
+                return jpuppeteer.cdp.cdp.entity.dom.Rect::decode;
+            case "RemoveAttributeRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.RemoveAttributeRequest::decode;
+            case "RemoveNodeRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.RemoveNodeRequest::decode;
+            case "RequestChildNodesRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.RequestChildNodesRequest::decode;
+            case "RequestNodeRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.RequestNodeRequest::decode;
+            case "RequestNodeResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.RequestNodeResponse::decode;
+            case "ResolveNodeRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.ResolveNodeRequest::decode;
+            case "ResolveNodeResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.ResolveNodeResponse::decode;
+            case "SetAttributeValueRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.SetAttributeValueRequest::decode;
+            case "SetAttributesAsTextRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.SetAttributesAsTextRequest::decode;
+            case "SetChildNodesEvent":
+                return jpuppeteer.cdp.cdp.entity.dom.SetChildNodesEvent::decode;
+            case "SetFileInputFilesRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.SetFileInputFilesRequest::decode;
+            case "SetInspectedNodeRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.SetInspectedNodeRequest::decode;
+            case "SetNodeNameRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.SetNodeNameRequest::decode;
+            case "SetNodeNameResponse":
+                return jpuppeteer.cdp.cdp.entity.dom.SetNodeNameResponse::decode;
+            case "SetNodeStackTracesEnabledRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.SetNodeStackTracesEnabledRequest::decode;
+            case "SetNodeValueRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.SetNodeValueRequest::decode;
+            case "SetOuterHTMLRequest":
+                return jpuppeteer.cdp.cdp.entity.dom.SetOuterHTMLRequest::decode;
+            case "ShadowRootPoppedEvent":
+                return jpuppeteer.cdp.cdp.entity.dom.ShadowRootPoppedEvent::decode;
+            case "ShadowRootPushedEvent":
+                return jpuppeteer.cdp.cdp.entity.dom.ShadowRootPushedEvent::decode;
+            case "ShapeOutsideInfo":
+                return jpuppeteer.cdp.cdp.entity.dom.ShapeOutsideInfo::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> domdebugger(String name) {
+        switch (name) {
+            case "EventListener":
+                return jpuppeteer.cdp.cdp.entity.domdebugger.EventListener::decode;
+            case "GetEventListenersRequest":
+                return jpuppeteer.cdp.cdp.entity.domdebugger.GetEventListenersRequest::decode;
+            case "GetEventListenersResponse":
+                return jpuppeteer.cdp.cdp.entity.domdebugger.GetEventListenersResponse::decode;
+            case "RemoveDOMBreakpointRequest":
+                return jpuppeteer.cdp.cdp.entity.domdebugger.RemoveDOMBreakpointRequest::decode;
+            case "RemoveEventListenerBreakpointRequest":
+                return jpuppeteer.cdp.cdp.entity.domdebugger.RemoveEventListenerBreakpointRequest::decode;
+            case "RemoveInstrumentationBreakpointRequest":
+                return jpuppeteer.cdp.cdp.entity.domdebugger.RemoveInstrumentationBreakpointRequest::decode;
+            case "RemoveXHRBreakpointRequest":
+                return jpuppeteer.cdp.cdp.entity.domdebugger.RemoveXHRBreakpointRequest::decode;
+            case "SetDOMBreakpointRequest":
+                return jpuppeteer.cdp.cdp.entity.domdebugger.SetDOMBreakpointRequest::decode;
+            case "SetEventListenerBreakpointRequest":
+                return jpuppeteer.cdp.cdp.entity.domdebugger.SetEventListenerBreakpointRequest::decode;
+            case "SetInstrumentationBreakpointRequest":
+                return jpuppeteer.cdp.cdp.entity.domdebugger.SetInstrumentationBreakpointRequest::decode;
+            case "SetXHRBreakpointRequest":
+                return jpuppeteer.cdp.cdp.entity.domdebugger.SetXHRBreakpointRequest::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> domsnapshot(String name) {
+        switch (name) {
+            case "CaptureSnapshotRequest":
+                return jpuppeteer.cdp.cdp.entity.domsnapshot.CaptureSnapshotRequest::decode;
+            case "CaptureSnapshotResponse":
+                return jpuppeteer.cdp.cdp.entity.domsnapshot.CaptureSnapshotResponse::decode;
+            case "ComputedStyle":
+                return jpuppeteer.cdp.cdp.entity.domsnapshot.ComputedStyle::decode;
+            case "DOMNode":
+                return jpuppeteer.cdp.cdp.entity.domsnapshot.DOMNode::decode;
+            case "DocumentSnapshot":
+                return jpuppeteer.cdp.cdp.entity.domsnapshot.DocumentSnapshot::decode;
+            case "GetSnapshotRequest":
+                return jpuppeteer.cdp.cdp.entity.domsnapshot.GetSnapshotRequest::decode;
+            case "GetSnapshotResponse":
+                return jpuppeteer.cdp.cdp.entity.domsnapshot.GetSnapshotResponse::decode;
+            case "InlineTextBox":
+                return jpuppeteer.cdp.cdp.entity.domsnapshot.InlineTextBox::decode;
+            case "LayoutTreeNode":
+                return jpuppeteer.cdp.cdp.entity.domsnapshot.LayoutTreeNode::decode;
+            case "LayoutTreeSnapshot":
+                return jpuppeteer.cdp.cdp.entity.domsnapshot.LayoutTreeSnapshot::decode;
+            case "NameValue":
+                return jpuppeteer.cdp.cdp.entity.domsnapshot.NameValue::decode;
+            case "NodeTreeSnapshot":
+                return jpuppeteer.cdp.cdp.entity.domsnapshot.NodeTreeSnapshot::decode;
+            case "RareBooleanData":
+                return jpuppeteer.cdp.cdp.entity.domsnapshot.RareBooleanData::decode;
+            case "RareIntegerData":
+                return jpuppeteer.cdp.cdp.entity.domsnapshot.RareIntegerData::decode;
+            case "RareStringData":
+                return jpuppeteer.cdp.cdp.entity.domsnapshot.RareStringData::decode;
+            case "TextBoxSnapshot":
+                return jpuppeteer.cdp.cdp.entity.domsnapshot.TextBoxSnapshot::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> domstorage(String name) {
+        switch (name) {
+            case "ClearRequest":
+                return jpuppeteer.cdp.cdp.entity.domstorage.ClearRequest::decode;
+            case "DomStorageItemAddedEvent":
+                return jpuppeteer.cdp.cdp.entity.domstorage.DomStorageItemAddedEvent::decode;
+            case "DomStorageItemRemovedEvent":
+                return jpuppeteer.cdp.cdp.entity.domstorage.DomStorageItemRemovedEvent::decode;
+            case "DomStorageItemUpdatedEvent":
+                return jpuppeteer.cdp.cdp.entity.domstorage.DomStorageItemUpdatedEvent::decode;
+            case "DomStorageItemsClearedEvent":
+                return jpuppeteer.cdp.cdp.entity.domstorage.DomStorageItemsClearedEvent::decode;
+            case "GetDOMStorageItemsRequest":
+                return jpuppeteer.cdp.cdp.entity.domstorage.GetDOMStorageItemsRequest::decode;
+            case "GetDOMStorageItemsResponse":
+                return jpuppeteer.cdp.cdp.entity.domstorage.GetDOMStorageItemsResponse::decode;
+            case "RemoveDOMStorageItemRequest":
+                return jpuppeteer.cdp.cdp.entity.domstorage.RemoveDOMStorageItemRequest::decode;
+            case "SetDOMStorageItemRequest":
+                return jpuppeteer.cdp.cdp.entity.domstorage.SetDOMStorageItemRequest::decode;
+            case "StorageId":
+                return jpuppeteer.cdp.cdp.entity.domstorage.StorageId::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> emulation(String name) {
+        switch (name) {
+            case "CanEmulateResponse":
+                return jpuppeteer.cdp.cdp.entity.emulation.CanEmulateResponse::decode;
+            case "MediaFeature":
+                return jpuppeteer.cdp.cdp.entity.emulation.MediaFeature::decode;
+            case "ScreenOrientation":
+                return jpuppeteer.cdp.cdp.entity.emulation.ScreenOrientation::decode;
+            case "SetCPUThrottlingRateRequest":
+                return jpuppeteer.cdp.cdp.entity.emulation.SetCPUThrottlingRateRequest::decode;
+            case "SetDefaultBackgroundColorOverrideRequest":
+                return jpuppeteer.cdp.cdp.entity.emulation.SetDefaultBackgroundColorOverrideRequest::decode;
+            case "SetDeviceMetricsOverrideRequest":
+                return jpuppeteer.cdp.cdp.entity.emulation.SetDeviceMetricsOverrideRequest::decode;
+            case "SetDocumentCookieDisabledRequest":
+                return jpuppeteer.cdp.cdp.entity.emulation.SetDocumentCookieDisabledRequest::decode;
+            case "SetEmitTouchEventsForMouseRequest":
+                return jpuppeteer.cdp.cdp.entity.emulation.SetEmitTouchEventsForMouseRequest::decode;
+            case "SetEmulatedMediaRequest":
+                return jpuppeteer.cdp.cdp.entity.emulation.SetEmulatedMediaRequest::decode;
+            case "SetFocusEmulationEnabledRequest":
+                return jpuppeteer.cdp.cdp.entity.emulation.SetFocusEmulationEnabledRequest::decode;
+            case "SetGeolocationOverrideRequest":
+                return jpuppeteer.cdp.cdp.entity.emulation.SetGeolocationOverrideRequest::decode;
+            case "SetNavigatorOverridesRequest":
+                return jpuppeteer.cdp.cdp.entity.emulation.SetNavigatorOverridesRequest::decode;
+            case "SetPageScaleFactorRequest":
+                return jpuppeteer.cdp.cdp.entity.emulation.SetPageScaleFactorRequest::decode;
+            case "SetScriptExecutionDisabledRequest":
+                return jpuppeteer.cdp.cdp.entity.emulation.SetScriptExecutionDisabledRequest::decode;
+            case "SetScrollbarsHiddenRequest":
+                return jpuppeteer.cdp.cdp.entity.emulation.SetScrollbarsHiddenRequest::decode;
+            case "SetTimezoneOverrideRequest":
+                return jpuppeteer.cdp.cdp.entity.emulation.SetTimezoneOverrideRequest::decode;
+            case "SetTouchEmulationEnabledRequest":
+                return jpuppeteer.cdp.cdp.entity.emulation.SetTouchEmulationEnabledRequest::decode;
+            case "SetUserAgentOverrideRequest":
+                return jpuppeteer.cdp.cdp.entity.emulation.SetUserAgentOverrideRequest::decode;
+            case "SetVirtualTimePolicyRequest":
+                return jpuppeteer.cdp.cdp.entity.emulation.SetVirtualTimePolicyRequest::decode;
+            case "SetVirtualTimePolicyResponse":
+                return jpuppeteer.cdp.cdp.entity.emulation.SetVirtualTimePolicyResponse::decode;
+            case "SetVisibleSizeRequest":
+                return jpuppeteer.cdp.cdp.entity.emulation.SetVisibleSizeRequest::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> fetch(String name) {
+        switch (name) {
+            case "AuthChallenge":
+                return jpuppeteer.cdp.cdp.entity.fetch.AuthChallenge::decode;
+            case "AuthChallengeResponse":
+                return jpuppeteer.cdp.cdp.entity.fetch.AuthChallengeResponse::decode;
+            case "AuthRequiredEvent":
+                return jpuppeteer.cdp.cdp.entity.fetch.AuthRequiredEvent::decode;
+            case "ContinueRequestRequest":
+                return jpuppeteer.cdp.cdp.entity.fetch.ContinueRequestRequest::decode;
+            case "ContinueWithAuthRequest":
+                return jpuppeteer.cdp.cdp.entity.fetch.ContinueWithAuthRequest::decode;
+            case "EnableRequest":
+                return jpuppeteer.cdp.cdp.entity.fetch.EnableRequest::decode;
+            case "FailRequestRequest":
+                return jpuppeteer.cdp.cdp.entity.fetch.FailRequestRequest::decode;
+            case "FulfillRequestRequest":
+                return jpuppeteer.cdp.cdp.entity.fetch.FulfillRequestRequest::decode;
+            case "GetResponseBodyRequest":
+                return jpuppeteer.cdp.cdp.entity.fetch.GetResponseBodyRequest::decode;
+            case "GetResponseBodyResponse":
+                return jpuppeteer.cdp.cdp.entity.fetch.GetResponseBodyResponse::decode;
+            case "HeaderEntry":
+                return jpuppeteer.cdp.cdp.entity.fetch.HeaderEntry::decode;
+            case "RequestPattern":
+                return jpuppeteer.cdp.cdp.entity.fetch.RequestPattern::decode;
+            case "RequestPausedEvent":
+                return jpuppeteer.cdp.cdp.entity.fetch.RequestPausedEvent::decode;
+            case "TakeResponseBodyAsStreamRequest":
+                return jpuppeteer.cdp.cdp.entity.fetch.TakeResponseBodyAsStreamRequest::decode;
+            case "TakeResponseBodyAsStreamResponse":
+                return jpuppeteer.cdp.cdp.entity.fetch.TakeResponseBodyAsStreamResponse::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> headlessexperimental(String name) {
+        switch (name) {
+            case "BeginFrameRequest":
+                return jpuppeteer.cdp.cdp.entity.headlessexperimental.BeginFrameRequest::decode;
+            case "BeginFrameResponse":
+                return jpuppeteer.cdp.cdp.entity.headlessexperimental.BeginFrameResponse::decode;
+            case "NeedsBeginFramesChangedEvent":
+                return jpuppeteer.cdp.cdp.entity.headlessexperimental.NeedsBeginFramesChangedEvent::decode;
+            case "ScreenshotParams":
+                return jpuppeteer.cdp.cdp.entity.headlessexperimental.ScreenshotParams::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> heapprofiler(String name) {
+        switch (name) {
+            case "AddHeapSnapshotChunkEvent":
+                return jpuppeteer.cdp.cdp.entity.heapprofiler.AddHeapSnapshotChunkEvent::decode;
+            case "AddInspectedHeapObjectRequest":
+                return jpuppeteer.cdp.cdp.entity.heapprofiler.AddInspectedHeapObjectRequest::decode;
+            case "GetHeapObjectIdRequest":
+                return jpuppeteer.cdp.cdp.entity.heapprofiler.GetHeapObjectIdRequest::decode;
+            case "GetHeapObjectIdResponse":
+                return jpuppeteer.cdp.cdp.entity.heapprofiler.GetHeapObjectIdResponse::decode;
+            case "GetObjectByHeapObjectIdRequest":
+                return jpuppeteer.cdp.cdp.entity.heapprofiler.GetObjectByHeapObjectIdRequest::decode;
+            case "GetObjectByHeapObjectIdResponse":
+                return jpuppeteer.cdp.cdp.entity.heapprofiler.GetObjectByHeapObjectIdResponse::decode;
+            case "GetSamplingProfileResponse":
+                return jpuppeteer.cdp.cdp.entity.heapprofiler.GetSamplingProfileResponse::decode;
+            case "HeapStatsUpdateEvent":
+                return jpuppeteer.cdp.cdp.entity.heapprofiler.HeapStatsUpdateEvent::decode;
+            case "LastSeenObjectIdEvent":
+                return jpuppeteer.cdp.cdp.entity.heapprofiler.LastSeenObjectIdEvent::decode;
+            case "ReportHeapSnapshotProgressEvent":
+                return jpuppeteer.cdp.cdp.entity.heapprofiler.ReportHeapSnapshotProgressEvent::decode;
+            case "SamplingHeapProfile":
+                return jpuppeteer.cdp.cdp.entity.heapprofiler.SamplingHeapProfile::decode;
+            case "SamplingHeapProfileNode":
+                return jpuppeteer.cdp.cdp.entity.heapprofiler.SamplingHeapProfileNode::decode;
+            case "SamplingHeapProfileSample":
+                return jpuppeteer.cdp.cdp.entity.heapprofiler.SamplingHeapProfileSample::decode;
+            case "StartSamplingRequest":
+                return jpuppeteer.cdp.cdp.entity.heapprofiler.StartSamplingRequest::decode;
+            case "StartTrackingHeapObjectsRequest":
+                return jpuppeteer.cdp.cdp.entity.heapprofiler.StartTrackingHeapObjectsRequest::decode;
+            case "StopSamplingResponse":
+                return jpuppeteer.cdp.cdp.entity.heapprofiler.StopSamplingResponse::decode;
+            case "StopTrackingHeapObjectsRequest":
+                return jpuppeteer.cdp.cdp.entity.heapprofiler.StopTrackingHeapObjectsRequest::decode;
+            case "TakeHeapSnapshotRequest":
+                return jpuppeteer.cdp.cdp.entity.heapprofiler.TakeHeapSnapshotRequest::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> indexeddb(String name) {
+        switch (name) {
+            case "ClearObjectStoreRequest":
+                return jpuppeteer.cdp.cdp.entity.indexeddb.ClearObjectStoreRequest::decode;
+            case "DataEntry":
+                return jpuppeteer.cdp.cdp.entity.indexeddb.DataEntry::decode;
+            case "DatabaseWithObjectStores":
+                return jpuppeteer.cdp.cdp.entity.indexeddb.DatabaseWithObjectStores::decode;
+            case "DeleteDatabaseRequest":
+                return jpuppeteer.cdp.cdp.entity.indexeddb.DeleteDatabaseRequest::decode;
+            case "DeleteObjectStoreEntriesRequest":
+                return jpuppeteer.cdp.cdp.entity.indexeddb.DeleteObjectStoreEntriesRequest::decode;
+            case "GetMetadataRequest":
+                return jpuppeteer.cdp.cdp.entity.indexeddb.GetMetadataRequest::decode;
+            case "GetMetadataResponse":
+                return jpuppeteer.cdp.cdp.entity.indexeddb.GetMetadataResponse::decode;
+            case "Key":
+                return jpuppeteer.cdp.cdp.entity.indexeddb.Key::decode;
+            case "KeyPath":
+                return jpuppeteer.cdp.cdp.entity.indexeddb.KeyPath::decode;
+            case "KeyRange":
+                return jpuppeteer.cdp.cdp.entity.indexeddb.KeyRange::decode;
+            case "ObjectStore":
+                return jpuppeteer.cdp.cdp.entity.indexeddb.ObjectStore::decode;
+            case "ObjectStoreIndex":
+                return jpuppeteer.cdp.cdp.entity.indexeddb.ObjectStoreIndex::decode;
+            case "RequestDataRequest":
+                return jpuppeteer.cdp.cdp.entity.indexeddb.RequestDataRequest::decode;
+            case "RequestDataResponse":
+                return jpuppeteer.cdp.cdp.entity.indexeddb.RequestDataResponse::decode;
+            case "RequestDatabaseNamesRequest":
+                return jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseNamesRequest::decode;
+            case "RequestDatabaseNamesResponse":
+                return jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseNamesResponse::decode;
+            case "RequestDatabaseRequest":
+                return jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseRequest::decode;
+            case "RequestDatabaseResponse":
+                return jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseResponse::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> input(String name) {
+        switch (name) {
+            case "DispatchKeyEventRequest":
+                return jpuppeteer.cdp.cdp.entity.input.DispatchKeyEventRequest::decode;
+            case "DispatchMouseEventRequest":
+                return jpuppeteer.cdp.cdp.entity.input.DispatchMouseEventRequest::decode;
+            case "DispatchTouchEventRequest":
+                return jpuppeteer.cdp.cdp.entity.input.DispatchTouchEventRequest::decode;
+            case "EmulateTouchFromMouseEventRequest":
+                return jpuppeteer.cdp.cdp.entity.input.EmulateTouchFromMouseEventRequest::decode;
+            case "InsertTextRequest":
+                return jpuppeteer.cdp.cdp.entity.input.InsertTextRequest::decode;
+            case "SetIgnoreInputEventsRequest":
+                return jpuppeteer.cdp.cdp.entity.input.SetIgnoreInputEventsRequest::decode;
+            case "SynthesizePinchGestureRequest":
+                return jpuppeteer.cdp.cdp.entity.input.SynthesizePinchGestureRequest::decode;
+            case "SynthesizeScrollGestureRequest":
+                return jpuppeteer.cdp.cdp.entity.input.SynthesizeScrollGestureRequest::decode;
+            case "SynthesizeTapGestureRequest":
+                return jpuppeteer.cdp.cdp.entity.input.SynthesizeTapGestureRequest::decode;
+            case "TouchPoint":
+                return jpuppeteer.cdp.cdp.entity.input.TouchPoint::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> inspector(String name) {
+        switch (name) {
+            case "DetachedEvent":
+                return jpuppeteer.cdp.cdp.entity.inspector.DetachedEvent::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> io(String name) {
+        switch (name) {
+            case "CloseRequest":
+                return jpuppeteer.cdp.cdp.entity.io.CloseRequest::decode;
+            case "ReadRequest":
+                return jpuppeteer.cdp.cdp.entity.io.ReadRequest::decode;
+            case "ReadResponse":
+                return jpuppeteer.cdp.cdp.entity.io.ReadResponse::decode;
+            case "ResolveBlobRequest":
+                return jpuppeteer.cdp.cdp.entity.io.ResolveBlobRequest::decode;
+            case "ResolveBlobResponse":
+                return jpuppeteer.cdp.cdp.entity.io.ResolveBlobResponse::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> layertree(String name) {
+        switch (name) {
+            case "CompositingReasonsRequest":
+                return jpuppeteer.cdp.cdp.entity.layertree.CompositingReasonsRequest::decode;
+            case "CompositingReasonsResponse":
+                return jpuppeteer.cdp.cdp.entity.layertree.CompositingReasonsResponse::decode;
+            case "Layer":
+                return jpuppeteer.cdp.cdp.entity.layertree.Layer::decode;
+            case "LayerPaintedEvent":
+                return jpuppeteer.cdp.cdp.entity.layertree.LayerPaintedEvent::decode;
+            case "LayerTreeDidChangeEvent":
+                return jpuppeteer.cdp.cdp.entity.layertree.LayerTreeDidChangeEvent::decode;
+            case "LoadSnapshotRequest":
+                return jpuppeteer.cdp.cdp.entity.layertree.LoadSnapshotRequest::decode;
+            case "LoadSnapshotResponse":
+                return jpuppeteer.cdp.cdp.entity.layertree.LoadSnapshotResponse::decode;
+            case "MakeSnapshotRequest":
+                return jpuppeteer.cdp.cdp.entity.layertree.MakeSnapshotRequest::decode;
+            case "MakeSnapshotResponse":
+                return jpuppeteer.cdp.cdp.entity.layertree.MakeSnapshotResponse::decode;
+            case "PictureTile":
+                return jpuppeteer.cdp.cdp.entity.layertree.PictureTile::decode;
+            case "ProfileSnapshotRequest":
+                return jpuppeteer.cdp.cdp.entity.layertree.ProfileSnapshotRequest::decode;
+            case "ProfileSnapshotResponse":
+                return jpuppeteer.cdp.cdp.entity.layertree.ProfileSnapshotResponse::decode;
+            case "ReleaseSnapshotRequest":
+                return jpuppeteer.cdp.cdp.entity.layertree.ReleaseSnapshotRequest::decode;
+            case "ReplaySnapshotRequest":
+                return jpuppeteer.cdp.cdp.entity.layertree.ReplaySnapshotRequest::decode;
+            case "ReplaySnapshotResponse":
+                return jpuppeteer.cdp.cdp.entity.layertree.ReplaySnapshotResponse::decode;
+            case "ScrollRect":
+                return jpuppeteer.cdp.cdp.entity.layertree.ScrollRect::decode;
+            case "SnapshotCommandLogRequest":
+                return jpuppeteer.cdp.cdp.entity.layertree.SnapshotCommandLogRequest::decode;
+            case "SnapshotCommandLogResponse":
+                return jpuppeteer.cdp.cdp.entity.layertree.SnapshotCommandLogResponse::decode;
+            case "StickyPositionConstraint":
+                return jpuppeteer.cdp.cdp.entity.layertree.StickyPositionConstraint::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> log(String name) {
+        switch (name) {
+            case "EntryAddedEvent":
+                return jpuppeteer.cdp.cdp.entity.log.EntryAddedEvent::decode;
+            case "LogEntry":
+                return jpuppeteer.cdp.cdp.entity.log.LogEntry::decode;
+            case "StartViolationsReportRequest":
+                return jpuppeteer.cdp.cdp.entity.log.StartViolationsReportRequest::decode;
+            case "ViolationSetting":
+                return jpuppeteer.cdp.cdp.entity.log.ViolationSetting::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> media(String name) {
+        switch (name) {
+            case "PlayerEvent":
+                return jpuppeteer.cdp.cdp.entity.media.PlayerEvent::decode;
+            case "PlayerEventsAddedEvent":
+                return jpuppeteer.cdp.cdp.entity.media.PlayerEventsAddedEvent::decode;
+            case "PlayerPropertiesChangedEvent":
+                return jpuppeteer.cdp.cdp.entity.media.PlayerPropertiesChangedEvent::decode;
+            case "PlayerProperty":
+                return jpuppeteer.cdp.cdp.entity.media.PlayerProperty::decode;
+            case "PlayersCreatedEvent":
+                return jpuppeteer.cdp.cdp.entity.media.PlayersCreatedEvent::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> memory(String name) {
+        switch (name) {
+            case "GetAllTimeSamplingProfileResponse":
+                return jpuppeteer.cdp.cdp.entity.memory.GetAllTimeSamplingProfileResponse::decode;
+            case "GetBrowserSamplingProfileResponse":
+                return jpuppeteer.cdp.cdp.entity.memory.GetBrowserSamplingProfileResponse::decode;
+            case "GetDOMCountersResponse":
+                return jpuppeteer.cdp.cdp.entity.memory.GetDOMCountersResponse::decode;
+            case "GetSamplingProfileResponse":
+                return jpuppeteer.cdp.cdp.entity.memory.GetSamplingProfileResponse::decode;
+            case "Module":
+                return jpuppeteer.cdp.cdp.entity.memory.Module::decode;
+            case "SamplingProfile":
+                return jpuppeteer.cdp.cdp.entity.memory.SamplingProfile::decode;
+            case "SamplingProfileNode":
+                return jpuppeteer.cdp.cdp.entity.memory.SamplingProfileNode::decode;
+            case "SetPressureNotificationsSuppressedRequest":
+                return jpuppeteer.cdp.cdp.entity.memory.SetPressureNotificationsSuppressedRequest::decode;
+            case "SimulatePressureNotificationRequest":
+                return jpuppeteer.cdp.cdp.entity.memory.SimulatePressureNotificationRequest::decode;
+            case "StartSamplingRequest":
+                return jpuppeteer.cdp.cdp.entity.memory.StartSamplingRequest::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> network(String name) {
+        switch (name) {
+            case "AuthChallenge":
+                return jpuppeteer.cdp.cdp.entity.network.AuthChallenge::decode;
+            case "AuthChallengeResponse":
+                return jpuppeteer.cdp.cdp.entity.network.AuthChallengeResponse::decode;
+            case "BlockedCookieWithReason":
+                return jpuppeteer.cdp.cdp.entity.network.BlockedCookieWithReason::decode;
+            case "BlockedSetCookieWithReason":
+                return jpuppeteer.cdp.cdp.entity.network.BlockedSetCookieWithReason::decode;
+            case "CachedResource":
+                return jpuppeteer.cdp.cdp.entity.network.CachedResource::decode;
+            case "CanClearBrowserCacheResponse":
+                return jpuppeteer.cdp.cdp.entity.network.CanClearBrowserCacheResponse::decode;
+            case "CanClearBrowserCookiesResponse":
+                return jpuppeteer.cdp.cdp.entity.network.CanClearBrowserCookiesResponse::decode;
+            case "CanEmulateNetworkConditionsResponse":
+                return jpuppeteer.cdp.cdp.entity.network.CanEmulateNetworkConditionsResponse::decode;
+            case "ContinueInterceptedRequestRequest":
+                return jpuppeteer.cdp.cdp.entity.network.ContinueInterceptedRequestRequest::decode;
+            case "Cookie":
+                return jpuppeteer.cdp.cdp.entity.network.Cookie::decode;
+            case "CookieParam":
+                return jpuppeteer.cdp.cdp.entity.network.CookieParam::decode;
+            case "DataReceivedEvent":
+                return jpuppeteer.cdp.cdp.entity.network.DataReceivedEvent::decode;
+            case "DeleteCookiesRequest":
+                return jpuppeteer.cdp.cdp.entity.network.DeleteCookiesRequest::decode;
+            case "EmulateNetworkConditionsRequest":
+                return jpuppeteer.cdp.cdp.entity.network.EmulateNetworkConditionsRequest::decode;
+            case "EnableRequest":
+                return jpuppeteer.cdp.cdp.entity.network.EnableRequest::decode;
+            case "EventSourceMessageReceivedEvent":
+                return jpuppeteer.cdp.cdp.entity.network.EventSourceMessageReceivedEvent::decode;
+            case "GetAllCookiesResponse":
+                return jpuppeteer.cdp.cdp.entity.network.GetAllCookiesResponse::decode;
+            case "GetCertificateRequest":
+                return jpuppeteer.cdp.cdp.entity.network.GetCertificateRequest::decode;
+            case "GetCertificateResponse":
+                return jpuppeteer.cdp.cdp.entity.network.GetCertificateResponse::decode;
+            case "GetCookiesRequest":
+                return jpuppeteer.cdp.cdp.entity.network.GetCookiesRequest::decode;
+            case "GetCookiesResponse":
+                return jpuppeteer.cdp.cdp.entity.network.GetCookiesResponse::decode;
+            case "GetRequestPostDataRequest":
+                return jpuppeteer.cdp.cdp.entity.network.GetRequestPostDataRequest::decode;
+            case "GetRequestPostDataResponse":
+                return jpuppeteer.cdp.cdp.entity.network.GetRequestPostDataResponse::decode;
+            case "GetResponseBodyForInterceptionRequest":
+                return jpuppeteer.cdp.cdp.entity.network.GetResponseBodyForInterceptionRequest::decode;
+            case "GetResponseBodyForInterceptionResponse":
+                return jpuppeteer.cdp.cdp.entity.network.GetResponseBodyForInterceptionResponse::decode;
+            case "GetResponseBodyRequest":
+                return jpuppeteer.cdp.cdp.entity.network.GetResponseBodyRequest::decode;
+            case "GetResponseBodyResponse":
+                return jpuppeteer.cdp.cdp.entity.network.GetResponseBodyResponse::decode;
+            case "Initiator":
+                return jpuppeteer.cdp.cdp.entity.network.Initiator::decode;
+            case "LoadingFailedEvent":
+                return jpuppeteer.cdp.cdp.entity.network.LoadingFailedEvent::decode;
+            case "LoadingFinishedEvent":
+                return jpuppeteer.cdp.cdp.entity.network.LoadingFinishedEvent::decode;
+            case "ReplayXHRRequest":
+                return jpuppeteer.cdp.cdp.entity.network.ReplayXHRRequest::decode;
+            case "Request":
+                return jpuppeteer.cdp.cdp.entity.network.Request::decode;
+            case "RequestInterceptedEvent":
+                return jpuppeteer.cdp.cdp.entity.network.RequestInterceptedEvent::decode;
+            case "RequestPattern":
+                return jpuppeteer.cdp.cdp.entity.network.RequestPattern::decode;
+            case "RequestServedFromCacheEvent":
+                return jpuppeteer.cdp.cdp.entity.network.RequestServedFromCacheEvent::decode;
+            case "RequestWillBeSentEvent":
+                return jpuppeteer.cdp.cdp.entity.network.RequestWillBeSentEvent::decode;
+            case "RequestWillBeSentExtraInfoEvent":
+                return jpuppeteer.cdp.cdp.entity.network.RequestWillBeSentExtraInfoEvent::decode;
+            case "ResourceChangedPriorityEvent":
+                return jpuppeteer.cdp.cdp.entity.network.ResourceChangedPriorityEvent::decode;
+            case "ResourceTiming":
+                return jpuppeteer.cdp.cdp.entity.network.ResourceTiming::decode;
+            case "Response":
+                return jpuppeteer.cdp.cdp.entity.network.Response::decode;
+            case "ResponseReceivedEvent":
+                return jpuppeteer.cdp.cdp.entity.network.ResponseReceivedEvent::decode;
+            case "ResponseReceivedExtraInfoEvent":
+                return jpuppeteer.cdp.cdp.entity.network.ResponseReceivedExtraInfoEvent::decode;
+            case "SearchInResponseBodyRequest":
+                return jpuppeteer.cdp.cdp.entity.network.SearchInResponseBodyRequest::decode;
+            case "SearchInResponseBodyResponse":
+                return jpuppeteer.cdp.cdp.entity.network.SearchInResponseBodyResponse::decode;
+            case "SecurityDetails":
+                return jpuppeteer.cdp.cdp.entity.network.SecurityDetails::decode;
+            case "SetBlockedURLsRequest":
+                return jpuppeteer.cdp.cdp.entity.network.SetBlockedURLsRequest::decode;
+            case "SetBypassServiceWorkerRequest":
+                return jpuppeteer.cdp.cdp.entity.network.SetBypassServiceWorkerRequest::decode;
+            case "SetCacheDisabledRequest":
+                return jpuppeteer.cdp.cdp.entity.network.SetCacheDisabledRequest::decode;
+            case "SetCookieRequest":
+                return jpuppeteer.cdp.cdp.entity.network.SetCookieRequest::decode;
+            case "SetCookieResponse":
+                return jpuppeteer.cdp.cdp.entity.network.SetCookieResponse::decode;
+            case "SetCookiesRequest":
+                return jpuppeteer.cdp.cdp.entity.network.SetCookiesRequest::decode;
+            case "SetDataSizeLimitsForTestRequest":
+                return jpuppeteer.cdp.cdp.entity.network.SetDataSizeLimitsForTestRequest::decode;
+            case "SetExtraHTTPHeadersRequest":
+                return jpuppeteer.cdp.cdp.entity.network.SetExtraHTTPHeadersRequest::decode;
+            case "SetRequestInterceptionRequest":
+                return jpuppeteer.cdp.cdp.entity.network.SetRequestInterceptionRequest::decode;
+            case "SetUserAgentOverrideRequest":
+                return jpuppeteer.cdp.cdp.entity.network.SetUserAgentOverrideRequest::decode;
+            case "SignedCertificateTimestamp":
+                return jpuppeteer.cdp.cdp.entity.network.SignedCertificateTimestamp::decode;
+            case "SignedExchangeError":
+                return jpuppeteer.cdp.cdp.entity.network.SignedExchangeError::decode;
+            case "SignedExchangeHeader":
+                return jpuppeteer.cdp.cdp.entity.network.SignedExchangeHeader::decode;
+            case "SignedExchangeInfo":
+                return jpuppeteer.cdp.cdp.entity.network.SignedExchangeInfo::decode;
+            case "SignedExchangeReceivedEvent":
+                return jpuppeteer.cdp.cdp.entity.network.SignedExchangeReceivedEvent::decode;
+            case "SignedExchangeSignature":
+                return jpuppeteer.cdp.cdp.entity.network.SignedExchangeSignature::decode;
+            case "TakeResponseBodyForInterceptionAsStreamRequest":
+                return jpuppeteer.cdp.cdp.entity.network.TakeResponseBodyForInterceptionAsStreamRequest::decode;
+            case "TakeResponseBodyForInterceptionAsStreamResponse":
+                return jpuppeteer.cdp.cdp.entity.network.TakeResponseBodyForInterceptionAsStreamResponse::decode;
+            case "WebSocketClosedEvent":
+                return jpuppeteer.cdp.cdp.entity.network.WebSocketClosedEvent::decode;
+            case "WebSocketCreatedEvent":
+                return jpuppeteer.cdp.cdp.entity.network.WebSocketCreatedEvent::decode;
+            case "WebSocketFrame":
+                return jpuppeteer.cdp.cdp.entity.network.WebSocketFrame::decode;
+            case "WebSocketFrameErrorEvent":
+                return jpuppeteer.cdp.cdp.entity.network.WebSocketFrameErrorEvent::decode;
+            case "WebSocketFrameReceivedEvent":
+                return jpuppeteer.cdp.cdp.entity.network.WebSocketFrameReceivedEvent::decode;
+            case "WebSocketFrameSentEvent":
+                return jpuppeteer.cdp.cdp.entity.network.WebSocketFrameSentEvent::decode;
+            case "WebSocketHandshakeResponseReceivedEvent":
+                return jpuppeteer.cdp.cdp.entity.network.WebSocketHandshakeResponseReceivedEvent::decode;
+            case "WebSocketRequest":
+                return jpuppeteer.cdp.cdp.entity.network.WebSocketRequest::decode;
+            case "WebSocketResponse":
+                return jpuppeteer.cdp.cdp.entity.network.WebSocketResponse::decode;
+            case "WebSocketWillSendHandshakeRequestEvent":
+                return jpuppeteer.cdp.cdp.entity.network.WebSocketWillSendHandshakeRequestEvent::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> overlay(String name) {
+        switch (name) {
+            case "GetHighlightObjectForTestRequest":
+                return jpuppeteer.cdp.cdp.entity.overlay.GetHighlightObjectForTestRequest::decode;
+            case "GetHighlightObjectForTestResponse":
+                return jpuppeteer.cdp.cdp.entity.overlay.GetHighlightObjectForTestResponse::decode;
+            case "HighlightConfig":
+                return jpuppeteer.cdp.cdp.entity.overlay.HighlightConfig::decode;
+            case "HighlightFrameRequest":
+                return jpuppeteer.cdp.cdp.entity.overlay.HighlightFrameRequest::decode;
+            case "HighlightNodeRequest":
+                return jpuppeteer.cdp.cdp.entity.overlay.HighlightNodeRequest::decode;
+            case "HighlightQuadRequest":
+                return jpuppeteer.cdp.cdp.entity.overlay.HighlightQuadRequest::decode;
+            case "HighlightRectRequest":
+                return jpuppeteer.cdp.cdp.entity.overlay.HighlightRectRequest::decode;
+            case "InspectNodeRequestedEvent":
+                return jpuppeteer.cdp.cdp.entity.overlay.InspectNodeRequestedEvent::decode;
+            case "NodeHighlightRequestedEvent":
+                return jpuppeteer.cdp.cdp.entity.overlay.NodeHighlightRequestedEvent::decode;
+            case "ScreenshotRequestedEvent":
+                return jpuppeteer.cdp.cdp.entity.overlay.ScreenshotRequestedEvent::decode;
+            case "SetInspectModeRequest":
+                return jpuppeteer.cdp.cdp.entity.overlay.SetInspectModeRequest::decode;
+            case "SetPausedInDebuggerMessageRequest":
+                return jpuppeteer.cdp.cdp.entity.overlay.SetPausedInDebuggerMessageRequest::decode;
+            case "SetShowAdHighlightsRequest":
+                return jpuppeteer.cdp.cdp.entity.overlay.SetShowAdHighlightsRequest::decode;
+            case "SetShowDebugBordersRequest":
+                return jpuppeteer.cdp.cdp.entity.overlay.SetShowDebugBordersRequest::decode;
+            case "SetShowFPSCounterRequest":
+                return jpuppeteer.cdp.cdp.entity.overlay.SetShowFPSCounterRequest::decode;
+            case "SetShowHitTestBordersRequest":
+                return jpuppeteer.cdp.cdp.entity.overlay.SetShowHitTestBordersRequest::decode;
+            case "SetShowLayoutShiftRegionsRequest":
+                return jpuppeteer.cdp.cdp.entity.overlay.SetShowLayoutShiftRegionsRequest::decode;
+            case "SetShowPaintRectsRequest":
+                return jpuppeteer.cdp.cdp.entity.overlay.SetShowPaintRectsRequest::decode;
+            case "SetShowScrollBottleneckRectsRequest":
+                return jpuppeteer.cdp.cdp.entity.overlay.SetShowScrollBottleneckRectsRequest::decode;
+            case "SetShowViewportSizeOnResizeRequest":
+                return jpuppeteer.cdp.cdp.entity.overlay.SetShowViewportSizeOnResizeRequest::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> page(String name) {
+        switch (name) {
+            case "AddCompilationCacheRequest":
+                return jpuppeteer.cdp.cdp.entity.page.AddCompilationCacheRequest::decode;
+            case "AddScriptToEvaluateOnLoadRequest":
+                return jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnLoadRequest::decode;
+            case "AddScriptToEvaluateOnLoadResponse":
+                return jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnLoadResponse::decode;
+            case "AddScriptToEvaluateOnNewDocumentRequest":
+                return jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnNewDocumentRequest::decode;
+            case "AddScriptToEvaluateOnNewDocumentResponse":
+                return jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnNewDocumentResponse::decode;
+            case "AppManifestError":
+                return jpuppeteer.cdp.cdp.entity.page.AppManifestError::decode;
+            case "AppManifestParsedProperties":
+                return jpuppeteer.cdp.cdp.entity.page.AppManifestParsedProperties::decode;
+            case "CaptureScreenshotRequest":
+                return jpuppeteer.cdp.cdp.entity.page.CaptureScreenshotRequest::decode;
+            case "CaptureScreenshotResponse":
+                return jpuppeteer.cdp.cdp.entity.page.CaptureScreenshotResponse::decode;
+            case "CaptureSnapshotRequest":
+                return jpuppeteer.cdp.cdp.entity.page.CaptureSnapshotRequest::decode;
+            case "CaptureSnapshotResponse":
+                return jpuppeteer.cdp.cdp.entity.page.CaptureSnapshotResponse::decode;
+            case "CompilationCacheProducedEvent":
+                return jpuppeteer.cdp.cdp.entity.page.CompilationCacheProducedEvent::decode;
+            case "CreateIsolatedWorldRequest":
+                return jpuppeteer.cdp.cdp.entity.page.CreateIsolatedWorldRequest::decode;
+            case "CreateIsolatedWorldResponse":
+                return jpuppeteer.cdp.cdp.entity.page.CreateIsolatedWorldResponse::decode;
+            case "DeleteCookieRequest":
+                return jpuppeteer.cdp.cdp.entity.page.DeleteCookieRequest::decode;
+            case "DomContentEventFiredEvent":
+                return jpuppeteer.cdp.cdp.entity.page.DomContentEventFiredEvent::decode;
+            case "DownloadWillBeginEvent":
+                return jpuppeteer.cdp.cdp.entity.page.DownloadWillBeginEvent::decode;
+            case "FileChooserOpenedEvent":
+                return jpuppeteer.cdp.cdp.entity.page.FileChooserOpenedEvent::decode;
+            case "FontFamilies":
+                return jpuppeteer.cdp.cdp.entity.page.FontFamilies::decode;
+            case "FontSizes":
+                return jpuppeteer.cdp.cdp.entity.page.FontSizes::decode;
+            case "Frame":
+                return jpuppeteer.cdp.cdp.entity.page.Frame::decode;
+            case "FrameAttachedEvent":
+                return jpuppeteer.cdp.cdp.entity.page.FrameAttachedEvent::decode;
+            case "FrameClearedScheduledNavigationEvent":
+                return jpuppeteer.cdp.cdp.entity.page.FrameClearedScheduledNavigationEvent::decode;
+            case "FrameDetachedEvent":
+                return jpuppeteer.cdp.cdp.entity.page.FrameDetachedEvent::decode;
+            case "FrameNavigatedEvent":
+                return jpuppeteer.cdp.cdp.entity.page.FrameNavigatedEvent::decode;
+            case "FrameRequestedNavigationEvent":
+                return jpuppeteer.cdp.cdp.entity.page.FrameRequestedNavigationEvent::decode;
+            case "FrameResource":
+                return jpuppeteer.cdp.cdp.entity.page.FrameResource::decode;
+            case "FrameResourceTree":
+                return jpuppeteer.cdp.cdp.entity.page.FrameResourceTree::decode;
+            case "FrameScheduledNavigationEvent":
+                return jpuppeteer.cdp.cdp.entity.page.FrameScheduledNavigationEvent::decode;
+            case "FrameStartedLoadingEvent":
+                return jpuppeteer.cdp.cdp.entity.page.FrameStartedLoadingEvent::decode;
+            case "FrameStoppedLoadingEvent":
+                return jpuppeteer.cdp.cdp.entity.page.FrameStoppedLoadingEvent::decode;
+            case "FrameTree":
+                return jpuppeteer.cdp.cdp.entity.page.FrameTree::decode;
+            case "GenerateTestReportRequest":
+                return jpuppeteer.cdp.cdp.entity.page.GenerateTestReportRequest::decode;
+            case "GetAppManifestResponse":
+                return jpuppeteer.cdp.cdp.entity.page.GetAppManifestResponse::decode;
+            case "GetCookiesResponse":
+                return jpuppeteer.cdp.cdp.entity.page.GetCookiesResponse::decode;
+            case "GetFrameTreeResponse":
+                return jpuppeteer.cdp.cdp.entity.page.GetFrameTreeResponse::decode;
+            case "GetInstallabilityErrorsResponse":
+                return jpuppeteer.cdp.cdp.entity.page.GetInstallabilityErrorsResponse::decode;
+            case "GetLayoutMetricsResponse":
+                return jpuppeteer.cdp.cdp.entity.page.GetLayoutMetricsResponse::decode;
+            case "GetManifestIconsResponse":
+                return jpuppeteer.cdp.cdp.entity.page.GetManifestIconsResponse::decode;
+            case "GetNavigationHistoryResponse":
+                return jpuppeteer.cdp.cdp.entity.page.GetNavigationHistoryResponse::decode;
+            case "GetResourceContentRequest":
+                return jpuppeteer.cdp.cdp.entity.page.GetResourceContentRequest::decode;
+            case "GetResourceContentResponse":
+                return jpuppeteer.cdp.cdp.entity.page.GetResourceContentResponse::decode;
+            case "GetResourceTreeResponse":
+                return jpuppeteer.cdp.cdp.entity.page.GetResourceTreeResponse::decode;
+            case "HandleJavaScriptDialogRequest":
+                return jpuppeteer.cdp.cdp.entity.page.HandleJavaScriptDialogRequest::decode;
+            case "JavascriptDialogClosedEvent":
+                return jpuppeteer.cdp.cdp.entity.page.JavascriptDialogClosedEvent::decode;
+            case "JavascriptDialogOpeningEvent":
+                return jpuppeteer.cdp.cdp.entity.page.JavascriptDialogOpeningEvent::decode;
+            case "LayoutViewport":
+                return jpuppeteer.cdp.cdp.entity.page.LayoutViewport::decode;
+            case "LifecycleEvent":
+                return jpuppeteer.cdp.cdp.entity.page.LifecycleEvent::decode;
+            case "LoadEventFiredEvent":
+                return jpuppeteer.cdp.cdp.entity.page.LoadEventFiredEvent::decode;
+            case "NavigateRequest":
+                return jpuppeteer.cdp.cdp.entity.page.NavigateRequest::decode;
+            case "NavigateResponse":
+                return jpuppeteer.cdp.cdp.entity.page.NavigateResponse::decode;
+            case "NavigateToHistoryEntryRequest":
+                return jpuppeteer.cdp.cdp.entity.page.NavigateToHistoryEntryRequest::decode;
+            case "NavigatedWithinDocumentEvent":
+                return jpuppeteer.cdp.cdp.entity.page.NavigatedWithinDocumentEvent::decode;
+            case "NavigationEntry":
+                return jpuppeteer.cdp.cdp.entity.page.NavigationEntry::decode;
+            case "PrintToPDFRequest":
+                return jpuppeteer.cdp.cdp.entity.page.PrintToPDFRequest::decode;
+            case "PrintToPDFResponse":
+                return jpuppeteer.cdp.cdp.entity.page.PrintToPDFResponse::decode;
+            case "ReloadRequest":
+                return jpuppeteer.cdp.cdp.entity.page.ReloadRequest::decode;
+            case "RemoveScriptToEvaluateOnLoadRequest":
+                return jpuppeteer.cdp.cdp.entity.page.RemoveScriptToEvaluateOnLoadRequest::decode;
+            case "RemoveScriptToEvaluateOnNewDocumentRequest":
+                return jpuppeteer.cdp.cdp.entity.page.RemoveScriptToEvaluateOnNewDocumentRequest::decode;
+            case "ScreencastFrameAckRequest":
+                return jpuppeteer.cdp.cdp.entity.page.ScreencastFrameAckRequest::decode;
+            case "ScreencastFrameEvent":
+                return jpuppeteer.cdp.cdp.entity.page.ScreencastFrameEvent::decode;
+            case "ScreencastFrameMetadata":
+                return jpuppeteer.cdp.cdp.entity.page.ScreencastFrameMetadata::decode;
+            case "ScreencastVisibilityChangedEvent":
+                return jpuppeteer.cdp.cdp.entity.page.ScreencastVisibilityChangedEvent::decode;
+            case "SearchInResourceRequest":
+                return jpuppeteer.cdp.cdp.entity.page.SearchInResourceRequest::decode;
+            case "SearchInResourceResponse":
+                return jpuppeteer.cdp.cdp.entity.page.SearchInResourceResponse::decode;
+            case "SetAdBlockingEnabledRequest":
+                return jpuppeteer.cdp.cdp.entity.page.SetAdBlockingEnabledRequest::decode;
+            case "SetBypassCSPRequest":
+                return jpuppeteer.cdp.cdp.entity.page.SetBypassCSPRequest::decode;
+            case "SetDeviceMetricsOverrideRequest":
+                return jpuppeteer.cdp.cdp.entity.page.SetDeviceMetricsOverrideRequest::decode;
+            case "SetDeviceOrientationOverrideRequest":
+                return jpuppeteer.cdp.cdp.entity.page.SetDeviceOrientationOverrideRequest::decode;
+            case "SetDocumentContentRequest":
+                return jpuppeteer.cdp.cdp.entity.page.SetDocumentContentRequest::decode;
+            case "SetDownloadBehaviorRequest":
+                return jpuppeteer.cdp.cdp.entity.page.SetDownloadBehaviorRequest::decode;
+            case "SetFontFamiliesRequest":
+                return jpuppeteer.cdp.cdp.entity.page.SetFontFamiliesRequest::decode;
+            case "SetFontSizesRequest":
+                return jpuppeteer.cdp.cdp.entity.page.SetFontSizesRequest::decode;
+            case "SetGeolocationOverrideRequest":
+                return jpuppeteer.cdp.cdp.entity.page.SetGeolocationOverrideRequest::decode;
+            case "SetInterceptFileChooserDialogRequest":
+                return jpuppeteer.cdp.cdp.entity.page.SetInterceptFileChooserDialogRequest::decode;
+            case "SetLifecycleEventsEnabledRequest":
+                return jpuppeteer.cdp.cdp.entity.page.SetLifecycleEventsEnabledRequest::decode;
+            case "SetProduceCompilationCacheRequest":
+                return jpuppeteer.cdp.cdp.entity.page.SetProduceCompilationCacheRequest::decode;
+            case "SetTouchEmulationEnabledRequest":
+                return jpuppeteer.cdp.cdp.entity.page.SetTouchEmulationEnabledRequest::decode;
+            case "SetWebLifecycleStateRequest":
+                return jpuppeteer.cdp.cdp.entity.page.SetWebLifecycleStateRequest::decode;
+            case "StartScreencastRequest":
+                return jpuppeteer.cdp.cdp.entity.page.StartScreencastRequest::decode;
+            case "Viewport":
+                return jpuppeteer.cdp.cdp.entity.page.Viewport::decode;
+            case "VisualViewport":
+                return jpuppeteer.cdp.cdp.entity.page.VisualViewport::decode;
+            case "WindowOpenEvent":
+                return jpuppeteer.cdp.cdp.entity.page.WindowOpenEvent::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> performance(String name) {
+        switch (name) {
+            case "GetMetricsResponse":
+                return jpuppeteer.cdp.cdp.entity.performance.GetMetricsResponse::decode;
+            case "Metric":
+                return jpuppeteer.cdp.cdp.entity.performance.Metric::decode;
+            case "MetricsEvent":
+                return jpuppeteer.cdp.cdp.entity.performance.MetricsEvent::decode;
+            case "SetTimeDomainRequest":
+                return jpuppeteer.cdp.cdp.entity.performance.SetTimeDomainRequest::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> profiler(String name) {
+        switch (name) {
+            case "ConsoleProfileFinishedEvent":
+                return jpuppeteer.cdp.cdp.entity.profiler.ConsoleProfileFinishedEvent::decode;
+            case "ConsoleProfileStartedEvent":
+                return jpuppeteer.cdp.cdp.entity.profiler.ConsoleProfileStartedEvent::decode;
+            case "CounterInfo":
+                return jpuppeteer.cdp.cdp.entity.profiler.CounterInfo::decode;
+            case "CoverageRange":
+                return jpuppeteer.cdp.cdp.entity.profiler.CoverageRange::decode;
+            case "FunctionCoverage":
+                return jpuppeteer.cdp.cdp.entity.profiler.FunctionCoverage::decode;
+            case "GetBestEffortCoverageResponse":
+                return jpuppeteer.cdp.cdp.entity.profiler.GetBestEffortCoverageResponse::decode;
+            case "GetRuntimeCallStatsResponse":
+                return jpuppeteer.cdp.cdp.entity.profiler.GetRuntimeCallStatsResponse::decode;
+            case "PositionTickInfo":
+                return jpuppeteer.cdp.cdp.entity.profiler.PositionTickInfo::decode;
+            case "Profile":
+                return jpuppeteer.cdp.cdp.entity.profiler.Profile::decode;
+            case "ProfileNode":
+                return jpuppeteer.cdp.cdp.entity.profiler.ProfileNode::decode;
+            case "ScriptCoverage":
+                return jpuppeteer.cdp.cdp.entity.profiler.ScriptCoverage::decode;
+            case "ScriptTypeProfile":
+                return jpuppeteer.cdp.cdp.entity.profiler.ScriptTypeProfile::decode;
+            case "SetSamplingIntervalRequest":
+                return jpuppeteer.cdp.cdp.entity.profiler.SetSamplingIntervalRequest::decode;
+            case "StartPreciseCoverageRequest":
+                return jpuppeteer.cdp.cdp.entity.profiler.StartPreciseCoverageRequest::decode;
+            case "StopResponse":
+                return jpuppeteer.cdp.cdp.entity.profiler.StopResponse::decode;
+            case "TakePreciseCoverageResponse":
+                return jpuppeteer.cdp.cdp.entity.profiler.TakePreciseCoverageResponse::decode;
+            case "TakeTypeProfileResponse":
+                return jpuppeteer.cdp.cdp.entity.profiler.TakeTypeProfileResponse::decode;
+            case "TypeObject":
+                return jpuppeteer.cdp.cdp.entity.profiler.TypeObject::decode;
+            case "TypeProfileEntry":
+                return jpuppeteer.cdp.cdp.entity.profiler.TypeProfileEntry::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> runtime(String name) {
+        switch (name) {
+            case "AddBindingRequest":
+                return jpuppeteer.cdp.cdp.entity.runtime.AddBindingRequest::decode;
+            case "AwaitPromiseRequest":
+                return jpuppeteer.cdp.cdp.entity.runtime.AwaitPromiseRequest::decode;
+            case "AwaitPromiseResponse":
+                return jpuppeteer.cdp.cdp.entity.runtime.AwaitPromiseResponse::decode;
+            case "BindingCalledEvent":
+                return jpuppeteer.cdp.cdp.entity.runtime.BindingCalledEvent::decode;
+            case "CallArgument":
+                return jpuppeteer.cdp.cdp.entity.runtime.CallArgument::decode;
+            case "CallFrame":
+                return jpuppeteer.cdp.cdp.entity.runtime.CallFrame::decode;
+            case "CallFunctionOnRequest":
+                return jpuppeteer.cdp.cdp.entity.runtime.CallFunctionOnRequest::decode;
+            case "CallFunctionOnResponse":
+                return jpuppeteer.cdp.cdp.entity.runtime.CallFunctionOnResponse::decode;
+            case "CompileScriptRequest":
+                return jpuppeteer.cdp.cdp.entity.runtime.CompileScriptRequest::decode;
+            case "CompileScriptResponse":
+                return jpuppeteer.cdp.cdp.entity.runtime.CompileScriptResponse::decode;
+            case "ConsoleAPICalledEvent":
+                return jpuppeteer.cdp.cdp.entity.runtime.ConsoleAPICalledEvent::decode;
+            case "CustomPreview":
+                return jpuppeteer.cdp.cdp.entity.runtime.CustomPreview::decode;
+            case "EntryPreview":
+                return jpuppeteer.cdp.cdp.entity.runtime.EntryPreview::decode;
+            case "EvaluateRequest":
+                return jpuppeteer.cdp.cdp.entity.runtime.EvaluateRequest::decode;
+            case "EvaluateResponse":
+                return jpuppeteer.cdp.cdp.entity.runtime.EvaluateResponse::decode;
+            case "ExceptionDetails":
+                return jpuppeteer.cdp.cdp.entity.runtime.ExceptionDetails::decode;
+            case "ExceptionRevokedEvent":
+                return jpuppeteer.cdp.cdp.entity.runtime.ExceptionRevokedEvent::decode;
+            case "ExceptionThrownEvent":
+                return jpuppeteer.cdp.cdp.entity.runtime.ExceptionThrownEvent::decode;
+            case "ExecutionContextCreatedEvent":
+                return jpuppeteer.cdp.cdp.entity.runtime.ExecutionContextCreatedEvent::decode;
+            case "ExecutionContextDescription":
+                return jpuppeteer.cdp.cdp.entity.runtime.ExecutionContextDescription::decode;
+            case "ExecutionContextDestroyedEvent":
+                return jpuppeteer.cdp.cdp.entity.runtime.ExecutionContextDestroyedEvent::decode;
+            case "GetHeapUsageResponse":
+                return jpuppeteer.cdp.cdp.entity.runtime.GetHeapUsageResponse::decode;
+            case "GetIsolateIdResponse":
+                return jpuppeteer.cdp.cdp.entity.runtime.GetIsolateIdResponse::decode;
+            case "GetPropertiesRequest":
+                return jpuppeteer.cdp.cdp.entity.runtime.GetPropertiesRequest::decode;
+            case "GetPropertiesResponse":
+                return jpuppeteer.cdp.cdp.entity.runtime.GetPropertiesResponse::decode;
+            case "GlobalLexicalScopeNamesRequest":
+                return jpuppeteer.cdp.cdp.entity.runtime.GlobalLexicalScopeNamesRequest::decode;
+            case "GlobalLexicalScopeNamesResponse":
+                return jpuppeteer.cdp.cdp.entity.runtime.GlobalLexicalScopeNamesResponse::decode;
+            case "InspectRequestedEvent":
+                return jpuppeteer.cdp.cdp.entity.runtime.InspectRequestedEvent::decode;
+            case "InternalPropertyDescriptor":
+                return jpuppeteer.cdp.cdp.entity.runtime.InternalPropertyDescriptor::decode;
+            case "ObjectPreview":
+                return jpuppeteer.cdp.cdp.entity.runtime.ObjectPreview::decode;
+            case "PrivatePropertyDescriptor":
+                return jpuppeteer.cdp.cdp.entity.runtime.PrivatePropertyDescriptor::decode;
+            case "PropertyDescriptor":
+                return jpuppeteer.cdp.cdp.entity.runtime.PropertyDescriptor::decode;
+            case "PropertyPreview":
+                return jpuppeteer.cdp.cdp.entity.runtime.PropertyPreview::decode;
+            case "QueryObjectsRequest":
+                return jpuppeteer.cdp.cdp.entity.runtime.QueryObjectsRequest::decode;
+            case "QueryObjectsResponse":
+                return jpuppeteer.cdp.cdp.entity.runtime.QueryObjectsResponse::decode;
+            case "ReleaseObjectGroupRequest":
+                return jpuppeteer.cdp.cdp.entity.runtime.ReleaseObjectGroupRequest::decode;
+            case "ReleaseObjectRequest":
+                return jpuppeteer.cdp.cdp.entity.runtime.ReleaseObjectRequest::decode;
+            case "RemoteObject":
+                return jpuppeteer.cdp.cdp.entity.runtime.RemoteObject::decode;
+            case "RemoveBindingRequest":
+                return jpuppeteer.cdp.cdp.entity.runtime.RemoveBindingRequest::decode;
+            case "RunScriptRequest":
+                return jpuppeteer.cdp.cdp.entity.runtime.RunScriptRequest::decode;
+            case "RunScriptResponse":
+                return jpuppeteer.cdp.cdp.entity.runtime.RunScriptResponse::decode;
+            case "SetAsyncCallStackDepthRequest":
+                return jpuppeteer.cdp.cdp.entity.runtime.SetAsyncCallStackDepthRequest::decode;
+            case "SetCustomObjectFormatterEnabledRequest":
+                return jpuppeteer.cdp.cdp.entity.runtime.SetCustomObjectFormatterEnabledRequest::decode;
+            case "SetMaxCallStackSizeToCaptureRequest":
+                return jpuppeteer.cdp.cdp.entity.runtime.SetMaxCallStackSizeToCaptureRequest::decode;
+            case "StackTrace":
+                return jpuppeteer.cdp.cdp.entity.runtime.StackTrace::decode;
+            case "StackTraceId":
+                return jpuppeteer.cdp.cdp.entity.runtime.StackTraceId::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> schema(String name) {
+        switch (name) {
+            case "Domain":
+                return jpuppeteer.cdp.cdp.entity.schema.Domain::decode;
+            case "GetDomainsResponse":
+                return jpuppeteer.cdp.cdp.entity.schema.GetDomainsResponse::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> security(String name) {
+        switch (name) {
+            case "CertificateErrorEvent":
+                return jpuppeteer.cdp.cdp.entity.security.CertificateErrorEvent::decode;
+            case "CertificateSecurityState":
+                return jpuppeteer.cdp.cdp.entity.security.CertificateSecurityState::decode;
+            case "HandleCertificateErrorRequest":
+                return jpuppeteer.cdp.cdp.entity.security.HandleCertificateErrorRequest::decode;
+            case "InsecureContentStatus":
+                return jpuppeteer.cdp.cdp.entity.security.InsecureContentStatus::decode;
+            case "SafetyTipInfo":
+                return jpuppeteer.cdp.cdp.entity.security.SafetyTipInfo::decode;
+            case "SecurityStateChangedEvent":
+                return jpuppeteer.cdp.cdp.entity.security.SecurityStateChangedEvent::decode;
+            case "SecurityStateExplanation":
+                return jpuppeteer.cdp.cdp.entity.security.SecurityStateExplanation::decode;
+            case "SetIgnoreCertificateErrorsRequest":
+                return jpuppeteer.cdp.cdp.entity.security.SetIgnoreCertificateErrorsRequest::decode;
+            case "SetOverrideCertificateErrorsRequest":
+                return jpuppeteer.cdp.cdp.entity.security.SetOverrideCertificateErrorsRequest::decode;
+            case "VisibleSecurityState":
+                return jpuppeteer.cdp.cdp.entity.security.VisibleSecurityState::decode;
+            case "VisibleSecurityStateChangedEvent":
+                return jpuppeteer.cdp.cdp.entity.security.VisibleSecurityStateChangedEvent::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> serviceworker(String name) {
+        switch (name) {
+            case "DeliverPushMessageRequest":
+                return jpuppeteer.cdp.cdp.entity.serviceworker.DeliverPushMessageRequest::decode;
+            case "DispatchPeriodicSyncEventRequest":
+                return jpuppeteer.cdp.cdp.entity.serviceworker.DispatchPeriodicSyncEventRequest::decode;
+            case "DispatchSyncEventRequest":
+                return jpuppeteer.cdp.cdp.entity.serviceworker.DispatchSyncEventRequest::decode;
+            case "InspectWorkerRequest":
+                return jpuppeteer.cdp.cdp.entity.serviceworker.InspectWorkerRequest::decode;
+            case "ServiceWorkerErrorMessage":
+                return jpuppeteer.cdp.cdp.entity.serviceworker.ServiceWorkerErrorMessage::decode;
+            case "ServiceWorkerRegistration":
+                return jpuppeteer.cdp.cdp.entity.serviceworker.ServiceWorkerRegistration::decode;
+            case "ServiceWorkerVersion":
+                return jpuppeteer.cdp.cdp.entity.serviceworker.ServiceWorkerVersion::decode;
+            case "SetForceUpdateOnPageLoadRequest":
+                return jpuppeteer.cdp.cdp.entity.serviceworker.SetForceUpdateOnPageLoadRequest::decode;
+            case "SkipWaitingRequest":
+                return jpuppeteer.cdp.cdp.entity.serviceworker.SkipWaitingRequest::decode;
+            case "StartWorkerRequest":
+                return jpuppeteer.cdp.cdp.entity.serviceworker.StartWorkerRequest::decode;
+            case "StopWorkerRequest":
+                return jpuppeteer.cdp.cdp.entity.serviceworker.StopWorkerRequest::decode;
+            case "UnregisterRequest":
+                return jpuppeteer.cdp.cdp.entity.serviceworker.UnregisterRequest::decode;
+            case "UpdateRegistrationRequest":
+                return jpuppeteer.cdp.cdp.entity.serviceworker.UpdateRegistrationRequest::decode;
+            case "WorkerErrorReportedEvent":
+                return jpuppeteer.cdp.cdp.entity.serviceworker.WorkerErrorReportedEvent::decode;
+            case "WorkerRegistrationUpdatedEvent":
+                return jpuppeteer.cdp.cdp.entity.serviceworker.WorkerRegistrationUpdatedEvent::decode;
+            case "WorkerVersionUpdatedEvent":
+                return jpuppeteer.cdp.cdp.entity.serviceworker.WorkerVersionUpdatedEvent::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> storage(String name) {
+        switch (name) {
+            case "CacheStorageContentUpdatedEvent":
+                return jpuppeteer.cdp.cdp.entity.storage.CacheStorageContentUpdatedEvent::decode;
+            case "CacheStorageListUpdatedEvent":
+                return jpuppeteer.cdp.cdp.entity.storage.CacheStorageListUpdatedEvent::decode;
+            case "ClearCookiesRequest":
+                return jpuppeteer.cdp.cdp.entity.storage.ClearCookiesRequest::decode;
+            case "ClearDataForOriginRequest":
+                return jpuppeteer.cdp.cdp.entity.storage.ClearDataForOriginRequest::decode;
+            case "GetCookiesRequest":
+                return jpuppeteer.cdp.cdp.entity.storage.GetCookiesRequest::decode;
+            case "GetCookiesResponse":
+                return jpuppeteer.cdp.cdp.entity.storage.GetCookiesResponse::decode;
+            case "GetUsageAndQuotaRequest":
+                return jpuppeteer.cdp.cdp.entity.storage.GetUsageAndQuotaRequest::decode;
+            case "GetUsageAndQuotaResponse":
+                return jpuppeteer.cdp.cdp.entity.storage.GetUsageAndQuotaResponse::decode;
+            case "IndexedDBContentUpdatedEvent":
+                return jpuppeteer.cdp.cdp.entity.storage.IndexedDBContentUpdatedEvent::decode;
+            case "IndexedDBListUpdatedEvent":
+                return jpuppeteer.cdp.cdp.entity.storage.IndexedDBListUpdatedEvent::decode;
+            case "SetCookiesRequest":
+                return jpuppeteer.cdp.cdp.entity.storage.SetCookiesRequest::decode;
+            case "TrackCacheStorageForOriginRequest":
+                return jpuppeteer.cdp.cdp.entity.storage.TrackCacheStorageForOriginRequest::decode;
+            case "TrackIndexedDBForOriginRequest":
+                return jpuppeteer.cdp.cdp.entity.storage.TrackIndexedDBForOriginRequest::decode;
+            case "UntrackCacheStorageForOriginRequest":
+                return jpuppeteer.cdp.cdp.entity.storage.UntrackCacheStorageForOriginRequest::decode;
+            case "UntrackIndexedDBForOriginRequest":
+                return jpuppeteer.cdp.cdp.entity.storage.UntrackIndexedDBForOriginRequest::decode;
+            case "UsageForType":
+                return jpuppeteer.cdp.cdp.entity.storage.UsageForType::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> systeminfo(String name) {
+        switch (name) {
+            case "GPUDevice":
+                return jpuppeteer.cdp.cdp.entity.systeminfo.GPUDevice::decode;
+            case "GPUInfo":
+                return jpuppeteer.cdp.cdp.entity.systeminfo.GPUInfo::decode;
+            case "GetInfoResponse":
+                return jpuppeteer.cdp.cdp.entity.systeminfo.GetInfoResponse::decode;
+            case "GetProcessInfoResponse":
+                return jpuppeteer.cdp.cdp.entity.systeminfo.GetProcessInfoResponse::decode;
+            case "ImageDecodeAcceleratorCapability":
+                return jpuppeteer.cdp.cdp.entity.systeminfo.ImageDecodeAcceleratorCapability::decode;
+            case "ProcessInfo":
+                return jpuppeteer.cdp.cdp.entity.systeminfo.ProcessInfo::decode;
+            case "Size":
+                return jpuppeteer.cdp.cdp.entity.systeminfo.Size::decode;
+            case "VideoDecodeAcceleratorCapability":
+                return jpuppeteer.cdp.cdp.entity.systeminfo.VideoDecodeAcceleratorCapability::decode;
+            case "VideoEncodeAcceleratorCapability":
+                return jpuppeteer.cdp.cdp.entity.systeminfo.VideoEncodeAcceleratorCapability::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> target(String name) {
+        switch (name) {
+            case "ActivateTargetRequest":
+                return jpuppeteer.cdp.cdp.entity.target.ActivateTargetRequest::decode;
+            case "AttachToBrowserTargetResponse":
+                return jpuppeteer.cdp.cdp.entity.target.AttachToBrowserTargetResponse::decode;
+            case "AttachToTargetRequest":
+                return jpuppeteer.cdp.cdp.entity.target.AttachToTargetRequest::decode;
+            case "AttachToTargetResponse":
+                return jpuppeteer.cdp.cdp.entity.target.AttachToTargetResponse::decode;
+            case "AttachedToTargetEvent":
+                return jpuppeteer.cdp.cdp.entity.target.AttachedToTargetEvent::decode;
+            case "CloseTargetRequest":
+                return jpuppeteer.cdp.cdp.entity.target.CloseTargetRequest::decode;
+            case "CloseTargetResponse":
+                return jpuppeteer.cdp.cdp.entity.target.CloseTargetResponse::decode;
+            case "CreateBrowserContextResponse":
+                return jpuppeteer.cdp.cdp.entity.target.CreateBrowserContextResponse::decode;
+            case "CreateTargetRequest":
+                return jpuppeteer.cdp.cdp.entity.target.CreateTargetRequest::decode;
+            case "CreateTargetResponse":
+                return jpuppeteer.cdp.cdp.entity.target.CreateTargetResponse::decode;
+            case "DetachFromTargetRequest":
+                return jpuppeteer.cdp.cdp.entity.target.DetachFromTargetRequest::decode;
+            case "DetachedFromTargetEvent":
+                return jpuppeteer.cdp.cdp.entity.target.DetachedFromTargetEvent::decode;
+            case "DisposeBrowserContextRequest":
+                return jpuppeteer.cdp.cdp.entity.target.DisposeBrowserContextRequest::decode;
+            case "ExposeDevToolsProtocolRequest":
+                return jpuppeteer.cdp.cdp.entity.target.ExposeDevToolsProtocolRequest::decode;
+            case "GetBrowserContextsResponse":
+                return jpuppeteer.cdp.cdp.entity.target.GetBrowserContextsResponse::decode;
+            case "GetTargetInfoRequest":
+                return jpuppeteer.cdp.cdp.entity.target.GetTargetInfoRequest::decode;
+            case "GetTargetInfoResponse":
+                return jpuppeteer.cdp.cdp.entity.target.GetTargetInfoResponse::decode;
+            case "GetTargetsResponse":
+                return jpuppeteer.cdp.cdp.entity.target.GetTargetsResponse::decode;
+            case "ReceivedMessageFromTargetEvent":
+                return jpuppeteer.cdp.cdp.entity.target.ReceivedMessageFromTargetEvent::decode;
+            case "RemoteLocation":
+                return jpuppeteer.cdp.cdp.entity.target.RemoteLocation::decode;
+            case "SendMessageToTargetRequest":
+                return jpuppeteer.cdp.cdp.entity.target.SendMessageToTargetRequest::decode;
+            case "SetAutoAttachRequest":
+                return jpuppeteer.cdp.cdp.entity.target.SetAutoAttachRequest::decode;
+            case "SetDiscoverTargetsRequest":
+                return jpuppeteer.cdp.cdp.entity.target.SetDiscoverTargetsRequest::decode;
+            case "SetRemoteLocationsRequest":
+                return jpuppeteer.cdp.cdp.entity.target.SetRemoteLocationsRequest::decode;
+            case "TargetCrashedEvent":
+                return jpuppeteer.cdp.cdp.entity.target.TargetCrashedEvent::decode;
+            case "TargetCreatedEvent":
+                return jpuppeteer.cdp.cdp.entity.target.TargetCreatedEvent::decode;
+            case "TargetDestroyedEvent":
+                return jpuppeteer.cdp.cdp.entity.target.TargetDestroyedEvent::decode;
+            case "TargetInfo":
+                return jpuppeteer.cdp.cdp.entity.target.TargetInfo::decode;
+            case "TargetInfoChangedEvent":
+                return jpuppeteer.cdp.cdp.entity.target.TargetInfoChangedEvent::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> tethering(String name) {
+        switch (name) {
+            case "AcceptedEvent":
+                return jpuppeteer.cdp.cdp.entity.tethering.AcceptedEvent::decode;
+            case "BindRequest":
+                return jpuppeteer.cdp.cdp.entity.tethering.BindRequest::decode;
+            case "UnbindRequest":
+                return jpuppeteer.cdp.cdp.entity.tethering.UnbindRequest::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> tracing(String name) {
+        switch (name) {
+            case "BufferUsageEvent":
+                return jpuppeteer.cdp.cdp.entity.tracing.BufferUsageEvent::decode;
+            case "DataCollectedEvent":
+                return jpuppeteer.cdp.cdp.entity.tracing.DataCollectedEvent::decode;
+            case "GetCategoriesResponse":
+                return jpuppeteer.cdp.cdp.entity.tracing.GetCategoriesResponse::decode;
+            case "RecordClockSyncMarkerRequest":
+                return jpuppeteer.cdp.cdp.entity.tracing.RecordClockSyncMarkerRequest::decode;
+            case "RequestMemoryDumpRequest":
+                return jpuppeteer.cdp.cdp.entity.tracing.RequestMemoryDumpRequest::decode;
+            case "RequestMemoryDumpResponse":
+                return jpuppeteer.cdp.cdp.entity.tracing.RequestMemoryDumpResponse::decode;
+            case "StartRequest":
+                return jpuppeteer.cdp.cdp.entity.tracing.StartRequest::decode;
+            case "TraceConfig":
+                return jpuppeteer.cdp.cdp.entity.tracing.TraceConfig::decode;
+            case "TracingCompleteEvent":
+                return jpuppeteer.cdp.cdp.entity.tracing.TracingCompleteEvent::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> webaudio(String name) {
+        switch (name) {
+            case "AudioListener":
+                return jpuppeteer.cdp.cdp.entity.webaudio.AudioListener::decode;
+            case "AudioListenerCreatedEvent":
+                return jpuppeteer.cdp.cdp.entity.webaudio.AudioListenerCreatedEvent::decode;
+            case "AudioListenerWillBeDestroyedEvent":
+                return jpuppeteer.cdp.cdp.entity.webaudio.AudioListenerWillBeDestroyedEvent::decode;
+            case "AudioNode":
+                return jpuppeteer.cdp.cdp.entity.webaudio.AudioNode::decode;
+            case "AudioNodeCreatedEvent":
+                return jpuppeteer.cdp.cdp.entity.webaudio.AudioNodeCreatedEvent::decode;
+            case "AudioNodeWillBeDestroyedEvent":
+                return jpuppeteer.cdp.cdp.entity.webaudio.AudioNodeWillBeDestroyedEvent::decode;
+            case "AudioParam":
+                return jpuppeteer.cdp.cdp.entity.webaudio.AudioParam::decode;
+            case "AudioParamCreatedEvent":
+                return jpuppeteer.cdp.cdp.entity.webaudio.AudioParamCreatedEvent::decode;
+            case "AudioParamWillBeDestroyedEvent":
+                return jpuppeteer.cdp.cdp.entity.webaudio.AudioParamWillBeDestroyedEvent::decode;
+            case "BaseAudioContext":
+                return jpuppeteer.cdp.cdp.entity.webaudio.BaseAudioContext::decode;
+            case "ContextChangedEvent":
+                return jpuppeteer.cdp.cdp.entity.webaudio.ContextChangedEvent::decode;
+            case "ContextCreatedEvent":
+                return jpuppeteer.cdp.cdp.entity.webaudio.ContextCreatedEvent::decode;
+            case "ContextRealtimeData":
+                return jpuppeteer.cdp.cdp.entity.webaudio.ContextRealtimeData::decode;
+            case "ContextWillBeDestroyedEvent":
+                return jpuppeteer.cdp.cdp.entity.webaudio.ContextWillBeDestroyedEvent::decode;
+            case "GetRealtimeDataRequest":
+                return jpuppeteer.cdp.cdp.entity.webaudio.GetRealtimeDataRequest::decode;
+            case "GetRealtimeDataResponse":
+                return jpuppeteer.cdp.cdp.entity.webaudio.GetRealtimeDataResponse::decode;
+            case "NodeParamConnectedEvent":
+                return jpuppeteer.cdp.cdp.entity.webaudio.NodeParamConnectedEvent::decode;
+            case "NodeParamDisconnectedEvent":
+                return jpuppeteer.cdp.cdp.entity.webaudio.NodeParamDisconnectedEvent::decode;
+            case "NodesConnectedEvent":
+                return jpuppeteer.cdp.cdp.entity.webaudio.NodesConnectedEvent::decode;
+            case "NodesDisconnectedEvent":
+                return jpuppeteer.cdp.cdp.entity.webaudio.NodesDisconnectedEvent::decode;
+            default:
+                return null;
+        }
+    }
+
+    private static jpuppeteer.cdp.CDPDecoder<?> webauthn(String name) {
+        switch (name) {
+            case "AddCredentialRequest":
+                return jpuppeteer.cdp.cdp.entity.webauthn.AddCredentialRequest::decode;
+            case "AddVirtualAuthenticatorRequest":
+                return jpuppeteer.cdp.cdp.entity.webauthn.AddVirtualAuthenticatorRequest::decode;
+            case "AddVirtualAuthenticatorResponse":
+                return jpuppeteer.cdp.cdp.entity.webauthn.AddVirtualAuthenticatorResponse::decode;
+            case "ClearCredentialsRequest":
+                return jpuppeteer.cdp.cdp.entity.webauthn.ClearCredentialsRequest::decode;
+            case "Credential":
+                return jpuppeteer.cdp.cdp.entity.webauthn.Credential::decode;
+            case "GetCredentialRequest":
+                return jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialRequest::decode;
+            case "GetCredentialResponse":
+                return jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialResponse::decode;
+            case "GetCredentialsRequest":
+                return jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialsRequest::decode;
+            case "GetCredentialsResponse":
+                return jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialsResponse::decode;
+            case "RemoveCredentialRequest":
+                return jpuppeteer.cdp.cdp.entity.webauthn.RemoveCredentialRequest::decode;
+            case "RemoveVirtualAuthenticatorRequest":
+                return jpuppeteer.cdp.cdp.entity.webauthn.RemoveVirtualAuthenticatorRequest::decode;
+            case "SetUserVerifiedRequest":
+                return jpuppeteer.cdp.cdp.entity.webauthn.SetUserVerifiedRequest::decode;
+            case "VirtualAuthenticatorOptions":
+                return jpuppeteer.cdp.cdp.entity.webauthn.VirtualAuthenticatorOptions::decode;
+            default:
+                return null;
+        }
+    }
+}
\ No newline at end of file
@@ -20,9 +20,19 @@ public class Accessibility {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Accessibility.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Accessibility.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("Accessibility.disable", null, timeout);
     }
 
     /**
@@ -34,9 +44,19 @@ public class Accessibility {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Accessibility.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Accessibility.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("Accessibility.enable", null, timeout);
     }
 
     /**
@@ -48,9 +68,19 @@ public class Accessibility {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getPartialAXTreeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.accessibility.GetPartialAXTreeResponse> asyncGetPartialAXTree(jpuppeteer.cdp.cdp.entity.accessibility.GetPartialAXTreeRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Accessibility.getPartialAXTree", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.accessibility.GetPartialAXTreeResponse>(future, jpuppeteer.cdp.cdp.entity.accessibility.GetPartialAXTreeResponse.class);
+        return session.asyncSend("Accessibility.getPartialAXTree", request, jpuppeteer.cdp.cdp.entity.accessibility.GetPartialAXTreeResponse.class);
+    }
+
+    /**
+    * @see #getPartialAXTree
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.accessibility.GetPartialAXTreeResponse> getPartialAXTreeAsync(jpuppeteer.cdp.cdp.entity.accessibility.GetPartialAXTreeRequest request, int timeout) {
+        return session.sendAsync("Accessibility.getPartialAXTree", request, jpuppeteer.cdp.cdp.entity.accessibility.GetPartialAXTreeResponse.class, timeout);
     }
 
     /**
@@ -62,8 +92,18 @@ public class Accessibility {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getFullAXTreeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.accessibility.GetFullAXTreeResponse> asyncGetFullAXTree() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Accessibility.getFullAXTree");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.accessibility.GetFullAXTreeResponse>(future, jpuppeteer.cdp.cdp.entity.accessibility.GetFullAXTreeResponse.class);
+        return session.asyncSend("Accessibility.getFullAXTree", null, jpuppeteer.cdp.cdp.entity.accessibility.GetFullAXTreeResponse.class);
+    }
+
+    /**
+    * @see #getFullAXTree
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.accessibility.GetFullAXTreeResponse> getFullAXTreeAsync(int timeout) {
+        return session.sendAsync("Accessibility.getFullAXTree", null, jpuppeteer.cdp.cdp.entity.accessibility.GetFullAXTreeResponse.class, timeout);
     }
 }
\ No newline at end of file
@@ -20,9 +20,19 @@ public class Animation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Animation.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Animation.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("Animation.disable", null, timeout);
     }
 
     /**
@@ -34,9 +44,19 @@ public class Animation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Animation.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Animation.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("Animation.enable", null, timeout);
     }
 
     /**
@@ -48,9 +68,19 @@ public class Animation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getCurrentTimeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.animation.GetCurrentTimeResponse> asyncGetCurrentTime(jpuppeteer.cdp.cdp.entity.animation.GetCurrentTimeRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Animation.getCurrentTime", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.animation.GetCurrentTimeResponse>(future, jpuppeteer.cdp.cdp.entity.animation.GetCurrentTimeResponse.class);
+        return session.asyncSend("Animation.getCurrentTime", request, jpuppeteer.cdp.cdp.entity.animation.GetCurrentTimeResponse.class);
+    }
+
+    /**
+    * @see #getCurrentTime
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.animation.GetCurrentTimeResponse> getCurrentTimeAsync(jpuppeteer.cdp.cdp.entity.animation.GetCurrentTimeRequest request, int timeout) {
+        return session.sendAsync("Animation.getCurrentTime", request, jpuppeteer.cdp.cdp.entity.animation.GetCurrentTimeResponse.class, timeout);
     }
 
     /**
@@ -62,9 +92,19 @@ public class Animation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getPlaybackRateAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.animation.GetPlaybackRateResponse> asyncGetPlaybackRate() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Animation.getPlaybackRate");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.animation.GetPlaybackRateResponse>(future, jpuppeteer.cdp.cdp.entity.animation.GetPlaybackRateResponse.class);
+        return session.asyncSend("Animation.getPlaybackRate", null, jpuppeteer.cdp.cdp.entity.animation.GetPlaybackRateResponse.class);
+    }
+
+    /**
+    * @see #getPlaybackRate
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.animation.GetPlaybackRateResponse> getPlaybackRateAsync(int timeout) {
+        return session.sendAsync("Animation.getPlaybackRate", null, jpuppeteer.cdp.cdp.entity.animation.GetPlaybackRateResponse.class, timeout);
     }
 
     /**
@@ -76,9 +116,19 @@ public class Animation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #releaseAnimationsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncReleaseAnimations(jpuppeteer.cdp.cdp.entity.animation.ReleaseAnimationsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Animation.releaseAnimations", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Animation.releaseAnimations", request, Void.class);
+    }
+
+    /**
+    * @see #releaseAnimations
+    */
+    public java.util.concurrent.CompletionStage<Void> releaseAnimationsAsync(jpuppeteer.cdp.cdp.entity.animation.ReleaseAnimationsRequest request, int timeout) {
+        return session.sendAsync("Animation.releaseAnimations", request, timeout);
     }
 
     /**
@@ -90,9 +140,19 @@ public class Animation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #resolveAnimationAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.animation.ResolveAnimationResponse> asyncResolveAnimation(jpuppeteer.cdp.cdp.entity.animation.ResolveAnimationRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Animation.resolveAnimation", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.animation.ResolveAnimationResponse>(future, jpuppeteer.cdp.cdp.entity.animation.ResolveAnimationResponse.class);
+        return session.asyncSend("Animation.resolveAnimation", request, jpuppeteer.cdp.cdp.entity.animation.ResolveAnimationResponse.class);
+    }
+
+    /**
+    * @see #resolveAnimation
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.animation.ResolveAnimationResponse> resolveAnimationAsync(jpuppeteer.cdp.cdp.entity.animation.ResolveAnimationRequest request, int timeout) {
+        return session.sendAsync("Animation.resolveAnimation", request, jpuppeteer.cdp.cdp.entity.animation.ResolveAnimationResponse.class, timeout);
     }
 
     /**
@@ -104,9 +164,19 @@ public class Animation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #seekAnimationsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSeekAnimations(jpuppeteer.cdp.cdp.entity.animation.SeekAnimationsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Animation.seekAnimations", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Animation.seekAnimations", request, Void.class);
+    }
+
+    /**
+    * @see #seekAnimations
+    */
+    public java.util.concurrent.CompletionStage<Void> seekAnimationsAsync(jpuppeteer.cdp.cdp.entity.animation.SeekAnimationsRequest request, int timeout) {
+        return session.sendAsync("Animation.seekAnimations", request, timeout);
     }
 
     /**
@@ -118,9 +188,19 @@ public class Animation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setPausedAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetPaused(jpuppeteer.cdp.cdp.entity.animation.SetPausedRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Animation.setPaused", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Animation.setPaused", request, Void.class);
+    }
+
+    /**
+    * @see #setPaused
+    */
+    public java.util.concurrent.CompletionStage<Void> setPausedAsync(jpuppeteer.cdp.cdp.entity.animation.SetPausedRequest request, int timeout) {
+        return session.sendAsync("Animation.setPaused", request, timeout);
     }
 
     /**
@@ -132,9 +212,19 @@ public class Animation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setPlaybackRateAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetPlaybackRate(jpuppeteer.cdp.cdp.entity.animation.SetPlaybackRateRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Animation.setPlaybackRate", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Animation.setPlaybackRate", request, Void.class);
+    }
+
+    /**
+    * @see #setPlaybackRate
+    */
+    public java.util.concurrent.CompletionStage<Void> setPlaybackRateAsync(jpuppeteer.cdp.cdp.entity.animation.SetPlaybackRateRequest request, int timeout) {
+        return session.sendAsync("Animation.setPlaybackRate", request, timeout);
     }
 
     /**
@@ -146,8 +236,18 @@ public class Animation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setTimingAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetTiming(jpuppeteer.cdp.cdp.entity.animation.SetTimingRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Animation.setTiming", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Animation.setTiming", request, Void.class);
+    }
+
+    /**
+    * @see #setTiming
+    */
+    public java.util.concurrent.CompletionStage<Void> setTimingAsync(jpuppeteer.cdp.cdp.entity.animation.SetTimingRequest request, int timeout) {
+        return session.sendAsync("Animation.setTiming", request, timeout);
     }
 }
\ No newline at end of file
@@ -20,9 +20,19 @@ public class ApplicationCache {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("ApplicationCache.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("ApplicationCache.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("ApplicationCache.enable", null, timeout);
     }
 
     /**
@@ -34,9 +44,19 @@ public class ApplicationCache {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getApplicationCacheForFrameAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.applicationcache.GetApplicationCacheForFrameResponse> asyncGetApplicationCacheForFrame(jpuppeteer.cdp.cdp.entity.applicationcache.GetApplicationCacheForFrameRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("ApplicationCache.getApplicationCacheForFrame", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.applicationcache.GetApplicationCacheForFrameResponse>(future, jpuppeteer.cdp.cdp.entity.applicationcache.GetApplicationCacheForFrameResponse.class);
+        return session.asyncSend("ApplicationCache.getApplicationCacheForFrame", request, jpuppeteer.cdp.cdp.entity.applicationcache.GetApplicationCacheForFrameResponse.class);
+    }
+
+    /**
+    * @see #getApplicationCacheForFrame
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.applicationcache.GetApplicationCacheForFrameResponse> getApplicationCacheForFrameAsync(jpuppeteer.cdp.cdp.entity.applicationcache.GetApplicationCacheForFrameRequest request, int timeout) {
+        return session.sendAsync("ApplicationCache.getApplicationCacheForFrame", request, jpuppeteer.cdp.cdp.entity.applicationcache.GetApplicationCacheForFrameResponse.class, timeout);
     }
 
     /**
@@ -48,9 +68,19 @@ public class ApplicationCache {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getFramesWithManifestsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.applicationcache.GetFramesWithManifestsResponse> asyncGetFramesWithManifests() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("ApplicationCache.getFramesWithManifests");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.applicationcache.GetFramesWithManifestsResponse>(future, jpuppeteer.cdp.cdp.entity.applicationcache.GetFramesWithManifestsResponse.class);
+        return session.asyncSend("ApplicationCache.getFramesWithManifests", null, jpuppeteer.cdp.cdp.entity.applicationcache.GetFramesWithManifestsResponse.class);
+    }
+
+    /**
+    * @see #getFramesWithManifests
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.applicationcache.GetFramesWithManifestsResponse> getFramesWithManifestsAsync(int timeout) {
+        return session.sendAsync("ApplicationCache.getFramesWithManifests", null, jpuppeteer.cdp.cdp.entity.applicationcache.GetFramesWithManifestsResponse.class, timeout);
     }
 
     /**
@@ -62,8 +92,18 @@ public class ApplicationCache {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getManifestForFrameAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.applicationcache.GetManifestForFrameResponse> asyncGetManifestForFrame(jpuppeteer.cdp.cdp.entity.applicationcache.GetManifestForFrameRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("ApplicationCache.getManifestForFrame", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.applicationcache.GetManifestForFrameResponse>(future, jpuppeteer.cdp.cdp.entity.applicationcache.GetManifestForFrameResponse.class);
+        return session.asyncSend("ApplicationCache.getManifestForFrame", request, jpuppeteer.cdp.cdp.entity.applicationcache.GetManifestForFrameResponse.class);
+    }
+
+    /**
+    * @see #getManifestForFrame
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.applicationcache.GetManifestForFrameResponse> getManifestForFrameAsync(jpuppeteer.cdp.cdp.entity.applicationcache.GetManifestForFrameRequest request, int timeout) {
+        return session.sendAsync("ApplicationCache.getManifestForFrame", request, jpuppeteer.cdp.cdp.entity.applicationcache.GetManifestForFrameResponse.class, timeout);
     }
 }
\ No newline at end of file
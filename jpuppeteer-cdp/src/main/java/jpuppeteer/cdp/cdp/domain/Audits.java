@@ -20,8 +20,18 @@ public class Audits {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getEncodedResponseAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.audits.GetEncodedResponseResponse> asyncGetEncodedResponse(jpuppeteer.cdp.cdp.entity.audits.GetEncodedResponseRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Audits.getEncodedResponse", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.audits.GetEncodedResponseResponse>(future, jpuppeteer.cdp.cdp.entity.audits.GetEncodedResponseResponse.class);
+        return session.asyncSend("Audits.getEncodedResponse", request, jpuppeteer.cdp.cdp.entity.audits.GetEncodedResponseResponse.class);
+    }
+
+    /**
+    * @see #getEncodedResponse
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.audits.GetEncodedResponseResponse> getEncodedResponseAsync(jpuppeteer.cdp.cdp.entity.audits.GetEncodedResponseRequest request, int timeout) {
+        return session.sendAsync("Audits.getEncodedResponse", request, jpuppeteer.cdp.cdp.entity.audits.GetEncodedResponseResponse.class, timeout);
     }
 }
\ No newline at end of file
@@ -20,9 +20,19 @@ public class BackgroundService {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #startObservingAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStartObserving(jpuppeteer.cdp.cdp.entity.backgroundservice.StartObservingRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("BackgroundService.startObserving", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("BackgroundService.startObserving", request, Void.class);
+    }
+
+    /**
+    * @see #startObserving
+    */
+    public java.util.concurrent.CompletionStage<Void> startObservingAsync(jpuppeteer.cdp.cdp.entity.backgroundservice.StartObservingRequest request, int timeout) {
+        return session.sendAsync("BackgroundService.startObserving", request, timeout);
     }
 
     /**
@@ -34,9 +44,19 @@ public class BackgroundService {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #stopObservingAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStopObserving(jpuppeteer.cdp.cdp.entity.backgroundservice.StopObservingRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("BackgroundService.stopObserving", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("BackgroundService.stopObserving", request, Void.class);
+    }
+
+    /**
+    * @see #stopObserving
+    */
+    public java.util.concurrent.CompletionStage<Void> stopObservingAsync(jpuppeteer.cdp.cdp.entity.backgroundservice.StopObservingRequest request, int timeout) {
+        return session.sendAsync("BackgroundService.stopObserving", request, timeout);
     }
 
     /**
@@ -48,9 +68,19 @@ public class BackgroundService {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setRecordingAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetRecording(jpuppeteer.cdp.cdp.entity.backgroundservice.SetRecordingRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("BackgroundService.setRecording", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("BackgroundService.setRecording", request, Void.class);
+    }
+
+    /**
+    * @see #setRecording
+    */
+    public java.util.concurrent.CompletionStage<Void> setRecordingAsync(jpuppeteer.cdp.cdp.entity.backgroundservice.SetRecordingRequest request, int timeout) {
+        return session.sendAsync("BackgroundService.setRecording", request, timeout);
     }
 
     /**
@@ -62,8 +92,18 @@ public class BackgroundService {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #clearEventsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClearEvents(jpuppeteer.cdp.cdp.entity.backgroundservice.ClearEventsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("BackgroundService.clearEvents", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("BackgroundService.clearEvents", request, Void.class);
+    }
+
+    /**
+    * @see #clearEvents
+    */
+    public java.util.concurrent.CompletionStage<Void> clearEventsAsync(jpuppeteer.cdp.cdp.entity.backgroundservice.ClearEventsRequest request, int timeout) {
+        return session.sendAsync("BackgroundService.clearEvents", request, timeout);
     }
 }
\ No newline at end of file
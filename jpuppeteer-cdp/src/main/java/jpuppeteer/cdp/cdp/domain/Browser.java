@@ -18,9 +18,19 @@ public class Browser {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setPermissionAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetPermission(jpuppeteer.cdp.cdp.entity.browser.SetPermissionRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Browser.setPermission", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Browser.setPermission", request, Void.class);
+    }
+
+    /**
+    * @see #setPermission
+    */
+    public java.util.concurrent.CompletionStage<Void> setPermissionAsync(jpuppeteer.cdp.cdp.entity.browser.SetPermissionRequest request, int timeout) {
+        return connection.sendAsync("Browser.setPermission", request, timeout);
     }
 
     /**
@@ -31,9 +41,19 @@ public class Browser {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #grantPermissionsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncGrantPermissions(jpuppeteer.cdp.cdp.entity.browser.GrantPermissionsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Browser.grantPermissions", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Browser.grantPermissions", request, Void.class);
+    }
+
+    /**
+    * @see #grantPermissions
+    */
+    public java.util.concurrent.CompletionStage<Void> grantPermissionsAsync(jpuppeteer.cdp.cdp.entity.browser.GrantPermissionsRequest request, int timeout) {
+        return connection.sendAsync("Browser.grantPermissions", request, timeout);
     }
 
     /**
@@ -44,9 +64,19 @@ public class Browser {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #resetPermissionsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncResetPermissions(jpuppeteer.cdp.cdp.entity.browser.ResetPermissionsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Browser.resetPermissions", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Browser.resetPermissions", request, Void.class);
+    }
+
+    /**
+    * @see #resetPermissions
+    */
+    public java.util.concurrent.CompletionStage<Void> resetPermissionsAsync(jpuppeteer.cdp.cdp.entity.browser.ResetPermissionsRequest request, int timeout) {
+        return connection.sendAsync("Browser.resetPermissions", request, timeout);
     }
 
     /**
@@ -57,9 +87,19 @@ public class Browser {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #closeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClose() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Browser.close");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Browser.close", null, Void.class);
+    }
+
+    /**
+    * @see #close
+    */
+    public java.util.concurrent.CompletionStage<Void> closeAsync(int timeout) {
+        return connection.sendAsync("Browser.close", null, timeout);
     }
 
     /**
@@ -70,9 +110,19 @@ public class Browser {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #crashAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncCrash() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Browser.crash");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Browser.crash", null, Void.class);
+    }
+
+    /**
+    * @see #crash
+    */
+    public java.util.concurrent.CompletionStage<Void> crashAsync(int timeout) {
+        return connection.sendAsync("Browser.crash", null, timeout);
     }
 
     /**
@@ -83,9 +133,19 @@ public class Browser {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #crashGpuProcessAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncCrashGpuProcess() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Browser.crashGpuProcess");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Browser.crashGpuProcess", null, Void.class);
+    }
+
+    /**
+    * @see #crashGpuProcess
+    */
+    public java.util.concurrent.CompletionStage<Void> crashGpuProcessAsync(int timeout) {
+        return connection.sendAsync("Browser.crashGpuProcess", null, timeout);
     }
 
     /**
@@ -96,9 +156,19 @@ public class Browser {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getVersionAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.browser.GetVersionResponse> asyncGetVersion() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Browser.getVersion");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.browser.GetVersionResponse>(future, jpuppeteer.cdp.cdp.entity.browser.GetVersionResponse.class);
+        return connection.asyncSend("Browser.getVersion", null, jpuppeteer.cdp.cdp.entity.browser.GetVersionResponse.class);
+    }
+
+    /**
+    * @see #getVersion
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.browser.GetVersionResponse> getVersionAsync(int timeout) {
+        return connection.sendAsync("Browser.getVersion", null, jpuppeteer.cdp.cdp.entity.browser.GetVersionResponse.class, timeout);
     }
 
     /**
@@ -109,9 +179,19 @@ public class Browser {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getBrowserCommandLineAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.browser.GetBrowserCommandLineResponse> asyncGetBrowserCommandLine() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Browser.getBrowserCommandLine");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.browser.GetBrowserCommandLineResponse>(future, jpuppeteer.cdp.cdp.entity.browser.GetBrowserCommandLineResponse.class);
+        return connection.asyncSend("Browser.getBrowserCommandLine", null, jpuppeteer.cdp.cdp.entity.browser.GetBrowserCommandLineResponse.class);
+    }
+
+    /**
+    * @see #getBrowserCommandLine
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.browser.GetBrowserCommandLineResponse> getBrowserCommandLineAsync(int timeout) {
+        return connection.sendAsync("Browser.getBrowserCommandLine", null, jpuppeteer.cdp.cdp.entity.browser.GetBrowserCommandLineResponse.class, timeout);
     }
 
     /**
@@ -122,9 +202,19 @@ public class Browser {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getHistogramsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.browser.GetHistogramsResponse> asyncGetHistograms(jpuppeteer.cdp.cdp.entity.browser.GetHistogramsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Browser.getHistograms", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.browser.GetHistogramsResponse>(future, jpuppeteer.cdp.cdp.entity.browser.GetHistogramsResponse.class);
+        return connection.asyncSend("Browser.getHistograms", request, jpuppeteer.cdp.cdp.entity.browser.GetHistogramsResponse.class);
+    }
+
+    /**
+    * @see #getHistograms
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.browser.GetHistogramsResponse> getHistogramsAsync(jpuppeteer.cdp.cdp.entity.browser.GetHistogramsRequest request, int timeout) {
+        return connection.sendAsync("Browser.getHistograms", request, jpuppeteer.cdp.cdp.entity.browser.GetHistogramsResponse.class, timeout);
     }
 
     /**
@@ -135,9 +225,19 @@ public class Browser {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getHistogramAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.browser.GetHistogramResponse> asyncGetHistogram(jpuppeteer.cdp.cdp.entity.browser.GetHistogramRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Browser.getHistogram", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.browser.GetHistogramResponse>(future, jpuppeteer.cdp.cdp.entity.browser.GetHistogramResponse.class);
+        return connection.asyncSend("Browser.getHistogram", request, jpuppeteer.cdp.cdp.entity.browser.GetHistogramResponse.class);
+    }
+
+    /**
+    * @see #getHistogram
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.browser.GetHistogramResponse> getHistogramAsync(jpuppeteer.cdp.cdp.entity.browser.GetHistogramRequest request, int timeout) {
+        return connection.sendAsync("Browser.getHistogram", request, jpuppeteer.cdp.cdp.entity.browser.GetHistogramResponse.class, timeout);
     }
 
     /**
@@ -148,9 +248,19 @@ public class Browser {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getWindowBoundsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.browser.GetWindowBoundsResponse> asyncGetWindowBounds(jpuppeteer.cdp.cdp.entity.browser.GetWindowBoundsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Browser.getWindowBounds", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.browser.GetWindowBoundsResponse>(future, jpuppeteer.cdp.cdp.entity.browser.GetWindowBoundsResponse.class);
+        return connection.asyncSend("Browser.getWindowBounds", request, jpuppeteer.cdp.cdp.entity.browser.GetWindowBoundsResponse.class);
+    }
+
+    /**
+    * @see #getWindowBounds
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.browser.GetWindowBoundsResponse> getWindowBoundsAsync(jpuppeteer.cdp.cdp.entity.browser.GetWindowBoundsRequest request, int timeout) {
+        return connection.sendAsync("Browser.getWindowBounds", request, jpuppeteer.cdp.cdp.entity.browser.GetWindowBoundsResponse.class, timeout);
     }
 
     /**
@@ -161,9 +271,19 @@ public class Browser {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getWindowForTargetAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.browser.GetWindowForTargetResponse> asyncGetWindowForTarget(jpuppeteer.cdp.cdp.entity.browser.GetWindowForTargetRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Browser.getWindowForTarget", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.browser.GetWindowForTargetResponse>(future, jpuppeteer.cdp.cdp.entity.browser.GetWindowForTargetResponse.class);
+        return connection.asyncSend("Browser.getWindowForTarget", request, jpuppeteer.cdp.cdp.entity.browser.GetWindowForTargetResponse.class);
+    }
+
+    /**
+    * @see #getWindowForTarget
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.browser.GetWindowForTargetResponse> getWindowForTargetAsync(jpuppeteer.cdp.cdp.entity.browser.GetWindowForTargetRequest request, int timeout) {
+        return connection.sendAsync("Browser.getWindowForTarget", request, jpuppeteer.cdp.cdp.entity.browser.GetWindowForTargetResponse.class, timeout);
     }
 
     /**
@@ -174,9 +294,19 @@ public class Browser {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setWindowBoundsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetWindowBounds(jpuppeteer.cdp.cdp.entity.browser.SetWindowBoundsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Browser.setWindowBounds", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Browser.setWindowBounds", request, Void.class);
+    }
+
+    /**
+    * @see #setWindowBounds
+    */
+    public java.util.concurrent.CompletionStage<Void> setWindowBoundsAsync(jpuppeteer.cdp.cdp.entity.browser.SetWindowBoundsRequest request, int timeout) {
+        return connection.sendAsync("Browser.setWindowBounds", request, timeout);
     }
 
     /**
@@ -187,8 +317,18 @@ public class Browser {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setDockTileAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetDockTile(jpuppeteer.cdp.cdp.entity.browser.SetDockTileRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Browser.setDockTile", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Browser.setDockTile", request, Void.class);
+    }
+
+    /**
+    * @see #setDockTile
+    */
+    public java.util.concurrent.CompletionStage<Void> setDockTileAsync(jpuppeteer.cdp.cdp.entity.browser.SetDockTileRequest request, int timeout) {
+        return connection.sendAsync("Browser.setDockTile", request, timeout);
     }
 }
\ No newline at end of file
@@ -20,9 +20,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #addRuleAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.css.AddRuleResponse> asyncAddRule(jpuppeteer.cdp.cdp.entity.css.AddRuleRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.addRule", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.css.AddRuleResponse>(future, jpuppeteer.cdp.cdp.entity.css.AddRuleResponse.class);
+        return session.asyncSend("CSS.addRule", request, jpuppeteer.cdp.cdp.entity.css.AddRuleResponse.class);
+    }
+
+    /**
+    * @see #addRule
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.css.AddRuleResponse> addRuleAsync(jpuppeteer.cdp.cdp.entity.css.AddRuleRequest request, int timeout) {
+        return session.sendAsync("CSS.addRule", request, jpuppeteer.cdp.cdp.entity.css.AddRuleResponse.class, timeout);
     }
 
     /**
@@ -34,9 +44,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #collectClassNamesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.css.CollectClassNamesResponse> asyncCollectClassNames(jpuppeteer.cdp.cdp.entity.css.CollectClassNamesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.collectClassNames", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.css.CollectClassNamesResponse>(future, jpuppeteer.cdp.cdp.entity.css.CollectClassNamesResponse.class);
+        return session.asyncSend("CSS.collectClassNames", request, jpuppeteer.cdp.cdp.entity.css.CollectClassNamesResponse.class);
+    }
+
+    /**
+    * @see #collectClassNames
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.css.CollectClassNamesResponse> collectClassNamesAsync(jpuppeteer.cdp.cdp.entity.css.CollectClassNamesRequest request, int timeout) {
+        return session.sendAsync("CSS.collectClassNames", request, jpuppeteer.cdp.cdp.entity.css.CollectClassNamesResponse.class, timeout);
     }
 
     /**
@@ -48,9 +68,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #createStyleSheetAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.css.CreateStyleSheetResponse> asyncCreateStyleSheet(jpuppeteer.cdp.cdp.entity.css.CreateStyleSheetRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.createStyleSheet", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.css.CreateStyleSheetResponse>(future, jpuppeteer.cdp.cdp.entity.css.CreateStyleSheetResponse.class);
+        return session.asyncSend("CSS.createStyleSheet", request, jpuppeteer.cdp.cdp.entity.css.CreateStyleSheetResponse.class);
+    }
+
+    /**
+    * @see #createStyleSheet
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.css.CreateStyleSheetResponse> createStyleSheetAsync(jpuppeteer.cdp.cdp.entity.css.CreateStyleSheetRequest request, int timeout) {
+        return session.sendAsync("CSS.createStyleSheet", request, jpuppeteer.cdp.cdp.entity.css.CreateStyleSheetResponse.class, timeout);
     }
 
     /**
@@ -62,9 +92,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("CSS.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("CSS.disable", null, timeout);
     }
 
     /**
@@ -76,9 +116,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("CSS.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("CSS.enable", null, timeout);
     }
 
     /**
@@ -90,9 +140,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #forcePseudoStateAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncForcePseudoState(jpuppeteer.cdp.cdp.entity.css.ForcePseudoStateRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.forcePseudoState", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("CSS.forcePseudoState", request, Void.class);
+    }
+
+    /**
+    * @see #forcePseudoState
+    */
+    public java.util.concurrent.CompletionStage<Void> forcePseudoStateAsync(jpuppeteer.cdp.cdp.entity.css.ForcePseudoStateRequest request, int timeout) {
+        return session.sendAsync("CSS.forcePseudoState", request, timeout);
     }
 
     /**
@@ -103,9 +163,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getBackgroundColorsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.css.GetBackgroundColorsResponse> asyncGetBackgroundColors(jpuppeteer.cdp.cdp.entity.css.GetBackgroundColorsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.getBackgroundColors", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.css.GetBackgroundColorsResponse>(future, jpuppeteer.cdp.cdp.entity.css.GetBackgroundColorsResponse.class);
+        return session.asyncSend("CSS.getBackgroundColors", request, jpuppeteer.cdp.cdp.entity.css.GetBackgroundColorsResponse.class);
+    }
+
+    /**
+    * @see #getBackgroundColors
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.css.GetBackgroundColorsResponse> getBackgroundColorsAsync(jpuppeteer.cdp.cdp.entity.css.GetBackgroundColorsRequest request, int timeout) {
+        return session.sendAsync("CSS.getBackgroundColors", request, jpuppeteer.cdp.cdp.entity.css.GetBackgroundColorsResponse.class, timeout);
     }
 
     /**
@@ -117,9 +187,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getComputedStyleForNodeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.css.GetComputedStyleForNodeResponse> asyncGetComputedStyleForNode(jpuppeteer.cdp.cdp.entity.css.GetComputedStyleForNodeRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.getComputedStyleForNode", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.css.GetComputedStyleForNodeResponse>(future, jpuppeteer.cdp.cdp.entity.css.GetComputedStyleForNodeResponse.class);
+        return session.asyncSend("CSS.getComputedStyleForNode", request, jpuppeteer.cdp.cdp.entity.css.GetComputedStyleForNodeResponse.class);
+    }
+
+    /**
+    * @see #getComputedStyleForNode
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.css.GetComputedStyleForNodeResponse> getComputedStyleForNodeAsync(jpuppeteer.cdp.cdp.entity.css.GetComputedStyleForNodeRequest request, int timeout) {
+        return session.sendAsync("CSS.getComputedStyleForNode", request, jpuppeteer.cdp.cdp.entity.css.GetComputedStyleForNodeResponse.class, timeout);
     }
 
     /**
@@ -131,9 +211,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getInlineStylesForNodeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.css.GetInlineStylesForNodeResponse> asyncGetInlineStylesForNode(jpuppeteer.cdp.cdp.entity.css.GetInlineStylesForNodeRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.getInlineStylesForNode", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.css.GetInlineStylesForNodeResponse>(future, jpuppeteer.cdp.cdp.entity.css.GetInlineStylesForNodeResponse.class);
+        return session.asyncSend("CSS.getInlineStylesForNode", request, jpuppeteer.cdp.cdp.entity.css.GetInlineStylesForNodeResponse.class);
+    }
+
+    /**
+    * @see #getInlineStylesForNode
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.css.GetInlineStylesForNodeResponse> getInlineStylesForNodeAsync(jpuppeteer.cdp.cdp.entity.css.GetInlineStylesForNodeRequest request, int timeout) {
+        return session.sendAsync("CSS.getInlineStylesForNode", request, jpuppeteer.cdp.cdp.entity.css.GetInlineStylesForNodeResponse.class, timeout);
     }
 
     /**
@@ -145,9 +235,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getMatchedStylesForNodeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.css.GetMatchedStylesForNodeResponse> asyncGetMatchedStylesForNode(jpuppeteer.cdp.cdp.entity.css.GetMatchedStylesForNodeRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.getMatchedStylesForNode", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.css.GetMatchedStylesForNodeResponse>(future, jpuppeteer.cdp.cdp.entity.css.GetMatchedStylesForNodeResponse.class);
+        return session.asyncSend("CSS.getMatchedStylesForNode", request, jpuppeteer.cdp.cdp.entity.css.GetMatchedStylesForNodeResponse.class);
+    }
+
+    /**
+    * @see #getMatchedStylesForNode
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.css.GetMatchedStylesForNodeResponse> getMatchedStylesForNodeAsync(jpuppeteer.cdp.cdp.entity.css.GetMatchedStylesForNodeRequest request, int timeout) {
+        return session.sendAsync("CSS.getMatchedStylesForNode", request, jpuppeteer.cdp.cdp.entity.css.GetMatchedStylesForNodeResponse.class, timeout);
     }
 
     /**
@@ -159,9 +259,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getMediaQueriesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.css.GetMediaQueriesResponse> asyncGetMediaQueries() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.getMediaQueries");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.css.GetMediaQueriesResponse>(future, jpuppeteer.cdp.cdp.entity.css.GetMediaQueriesResponse.class);
+        return session.asyncSend("CSS.getMediaQueries", null, jpuppeteer.cdp.cdp.entity.css.GetMediaQueriesResponse.class);
+    }
+
+    /**
+    * @see #getMediaQueries
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.css.GetMediaQueriesResponse> getMediaQueriesAsync(int timeout) {
+        return session.sendAsync("CSS.getMediaQueries", null, jpuppeteer.cdp.cdp.entity.css.GetMediaQueriesResponse.class, timeout);
     }
 
     /**
@@ -173,9 +283,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getPlatformFontsForNodeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.css.GetPlatformFontsForNodeResponse> asyncGetPlatformFontsForNode(jpuppeteer.cdp.cdp.entity.css.GetPlatformFontsForNodeRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.getPlatformFontsForNode", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.css.GetPlatformFontsForNodeResponse>(future, jpuppeteer.cdp.cdp.entity.css.GetPlatformFontsForNodeResponse.class);
+        return session.asyncSend("CSS.getPlatformFontsForNode", request, jpuppeteer.cdp.cdp.entity.css.GetPlatformFontsForNodeResponse.class);
+    }
+
+    /**
+    * @see #getPlatformFontsForNode
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.css.GetPlatformFontsForNodeResponse> getPlatformFontsForNodeAsync(jpuppeteer.cdp.cdp.entity.css.GetPlatformFontsForNodeRequest request, int timeout) {
+        return session.sendAsync("CSS.getPlatformFontsForNode", request, jpuppeteer.cdp.cdp.entity.css.GetPlatformFontsForNodeResponse.class, timeout);
     }
 
     /**
@@ -187,9 +307,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getStyleSheetTextAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.css.GetStyleSheetTextResponse> asyncGetStyleSheetText(jpuppeteer.cdp.cdp.entity.css.GetStyleSheetTextRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.getStyleSheetText", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.css.GetStyleSheetTextResponse>(future, jpuppeteer.cdp.cdp.entity.css.GetStyleSheetTextResponse.class);
+        return session.asyncSend("CSS.getStyleSheetText", request, jpuppeteer.cdp.cdp.entity.css.GetStyleSheetTextResponse.class);
+    }
+
+    /**
+    * @see #getStyleSheetText
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.css.GetStyleSheetTextResponse> getStyleSheetTextAsync(jpuppeteer.cdp.cdp.entity.css.GetStyleSheetTextRequest request, int timeout) {
+        return session.sendAsync("CSS.getStyleSheetText", request, jpuppeteer.cdp.cdp.entity.css.GetStyleSheetTextResponse.class, timeout);
     }
 
     /**
@@ -201,9 +331,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setEffectivePropertyValueForNodeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetEffectivePropertyValueForNode(jpuppeteer.cdp.cdp.entity.css.SetEffectivePropertyValueForNodeRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.setEffectivePropertyValueForNode", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("CSS.setEffectivePropertyValueForNode", request, Void.class);
+    }
+
+    /**
+    * @see #setEffectivePropertyValueForNode
+    */
+    public java.util.concurrent.CompletionStage<Void> setEffectivePropertyValueForNodeAsync(jpuppeteer.cdp.cdp.entity.css.SetEffectivePropertyValueForNodeRequest request, int timeout) {
+        return session.sendAsync("CSS.setEffectivePropertyValueForNode", request, timeout);
     }
 
     /**
@@ -215,9 +355,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setKeyframeKeyAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.css.SetKeyframeKeyResponse> asyncSetKeyframeKey(jpuppeteer.cdp.cdp.entity.css.SetKeyframeKeyRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.setKeyframeKey", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.css.SetKeyframeKeyResponse>(future, jpuppeteer.cdp.cdp.entity.css.SetKeyframeKeyResponse.class);
+        return session.asyncSend("CSS.setKeyframeKey", request, jpuppeteer.cdp.cdp.entity.css.SetKeyframeKeyResponse.class);
+    }
+
+    /**
+    * @see #setKeyframeKey
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.css.SetKeyframeKeyResponse> setKeyframeKeyAsync(jpuppeteer.cdp.cdp.entity.css.SetKeyframeKeyRequest request, int timeout) {
+        return session.sendAsync("CSS.setKeyframeKey", request, jpuppeteer.cdp.cdp.entity.css.SetKeyframeKeyResponse.class, timeout);
     }
 
     /**
@@ -229,9 +379,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setMediaTextAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.css.SetMediaTextResponse> asyncSetMediaText(jpuppeteer.cdp.cdp.entity.css.SetMediaTextRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.setMediaText", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.css.SetMediaTextResponse>(future, jpuppeteer.cdp.cdp.entity.css.SetMediaTextResponse.class);
+        return session.asyncSend("CSS.setMediaText", request, jpuppeteer.cdp.cdp.entity.css.SetMediaTextResponse.class);
+    }
+
+    /**
+    * @see #setMediaText
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.css.SetMediaTextResponse> setMediaTextAsync(jpuppeteer.cdp.cdp.entity.css.SetMediaTextRequest request, int timeout) {
+        return session.sendAsync("CSS.setMediaText", request, jpuppeteer.cdp.cdp.entity.css.SetMediaTextResponse.class, timeout);
     }
 
     /**
@@ -243,9 +403,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setRuleSelectorAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.css.SetRuleSelectorResponse> asyncSetRuleSelector(jpuppeteer.cdp.cdp.entity.css.SetRuleSelectorRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.setRuleSelector", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.css.SetRuleSelectorResponse>(future, jpuppeteer.cdp.cdp.entity.css.SetRuleSelectorResponse.class);
+        return session.asyncSend("CSS.setRuleSelector", request, jpuppeteer.cdp.cdp.entity.css.SetRuleSelectorResponse.class);
+    }
+
+    /**
+    * @see #setRuleSelector
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.css.SetRuleSelectorResponse> setRuleSelectorAsync(jpuppeteer.cdp.cdp.entity.css.SetRuleSelectorRequest request, int timeout) {
+        return session.sendAsync("CSS.setRuleSelector", request, jpuppeteer.cdp.cdp.entity.css.SetRuleSelectorResponse.class, timeout);
     }
 
     /**
@@ -257,9 +427,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setStyleSheetTextAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.css.SetStyleSheetTextResponse> asyncSetStyleSheetText(jpuppeteer.cdp.cdp.entity.css.SetStyleSheetTextRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.setStyleSheetText", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.css.SetStyleSheetTextResponse>(future, jpuppeteer.cdp.cdp.entity.css.SetStyleSheetTextResponse.class);
+        return session.asyncSend("CSS.setStyleSheetText", request, jpuppeteer.cdp.cdp.entity.css.SetStyleSheetTextResponse.class);
+    }
+
+    /**
+    * @see #setStyleSheetText
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.css.SetStyleSheetTextResponse> setStyleSheetTextAsync(jpuppeteer.cdp.cdp.entity.css.SetStyleSheetTextRequest request, int timeout) {
+        return session.sendAsync("CSS.setStyleSheetText", request, jpuppeteer.cdp.cdp.entity.css.SetStyleSheetTextResponse.class, timeout);
     }
 
     /**
@@ -271,9 +451,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setStyleTextsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.css.SetStyleTextsResponse> asyncSetStyleTexts(jpuppeteer.cdp.cdp.entity.css.SetStyleTextsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.setStyleTexts", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.css.SetStyleTextsResponse>(future, jpuppeteer.cdp.cdp.entity.css.SetStyleTextsResponse.class);
+        return session.asyncSend("CSS.setStyleTexts", request, jpuppeteer.cdp.cdp.entity.css.SetStyleTextsResponse.class);
+    }
+
+    /**
+    * @see #setStyleTexts
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.css.SetStyleTextsResponse> setStyleTextsAsync(jpuppeteer.cdp.cdp.entity.css.SetStyleTextsRequest request, int timeout) {
+        return session.sendAsync("CSS.setStyleTexts", request, jpuppeteer.cdp.cdp.entity.css.SetStyleTextsResponse.class, timeout);
     }
 
     /**
@@ -285,9 +475,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #startRuleUsageTrackingAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStartRuleUsageTracking() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.startRuleUsageTracking");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("CSS.startRuleUsageTracking", null, Void.class);
+    }
+
+    /**
+    * @see #startRuleUsageTracking
+    */
+    public java.util.concurrent.CompletionStage<Void> startRuleUsageTrackingAsync(int timeout) {
+        return session.sendAsync("CSS.startRuleUsageTracking", null, timeout);
     }
 
     /**
@@ -299,9 +499,19 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #stopRuleUsageTrackingAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.css.StopRuleUsageTrackingResponse> asyncStopRuleUsageTracking() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.stopRuleUsageTracking");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.css.StopRuleUsageTrackingResponse>(future, jpuppeteer.cdp.cdp.entity.css.StopRuleUsageTrackingResponse.class);
+        return session.asyncSend("CSS.stopRuleUsageTracking", null, jpuppeteer.cdp.cdp.entity.css.StopRuleUsageTrackingResponse.class);
+    }
+
+    /**
+    * @see #stopRuleUsageTracking
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.css.StopRuleUsageTrackingResponse> stopRuleUsageTrackingAsync(int timeout) {
+        return session.sendAsync("CSS.stopRuleUsageTracking", null, jpuppeteer.cdp.cdp.entity.css.StopRuleUsageTrackingResponse.class, timeout);
     }
 
     /**
@@ -313,8 +523,18 @@ public class CSS {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #takeCoverageDeltaAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.css.TakeCoverageDeltaResponse> asyncTakeCoverageDelta() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CSS.takeCoverageDelta");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.css.TakeCoverageDeltaResponse>(future, jpuppeteer.cdp.cdp.entity.css.TakeCoverageDeltaResponse.class);
+        return session.asyncSend("CSS.takeCoverageDelta", null, jpuppeteer.cdp.cdp.entity.css.TakeCoverageDeltaResponse.class);
+    }
+
+    /**
+    * @see #takeCoverageDelta
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.css.TakeCoverageDeltaResponse> takeCoverageDeltaAsync(int timeout) {
+        return session.sendAsync("CSS.takeCoverageDelta", null, jpuppeteer.cdp.cdp.entity.css.TakeCoverageDeltaResponse.class, timeout);
     }
 }
\ No newline at end of file
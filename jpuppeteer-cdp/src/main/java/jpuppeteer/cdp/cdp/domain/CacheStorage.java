@@ -20,9 +20,19 @@ public class CacheStorage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #deleteCacheAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDeleteCache(jpuppeteer.cdp.cdp.entity.cachestorage.DeleteCacheRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CacheStorage.deleteCache", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("CacheStorage.deleteCache", request, Void.class);
+    }
+
+    /**
+    * @see #deleteCache
+    */
+    public java.util.concurrent.CompletionStage<Void> deleteCacheAsync(jpuppeteer.cdp.cdp.entity.cachestorage.DeleteCacheRequest request, int timeout) {
+        return session.sendAsync("CacheStorage.deleteCache", request, timeout);
     }
 
     /**
@@ -34,9 +44,19 @@ public class CacheStorage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #deleteEntryAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDeleteEntry(jpuppeteer.cdp.cdp.entity.cachestorage.DeleteEntryRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CacheStorage.deleteEntry", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("CacheStorage.deleteEntry", request, Void.class);
+    }
+
+    /**
+    * @see #deleteEntry
+    */
+    public java.util.concurrent.CompletionStage<Void> deleteEntryAsync(jpuppeteer.cdp.cdp.entity.cachestorage.DeleteEntryRequest request, int timeout) {
+        return session.sendAsync("CacheStorage.deleteEntry", request, timeout);
     }
 
     /**
@@ -48,9 +68,19 @@ public class CacheStorage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #requestCacheNamesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.cachestorage.RequestCacheNamesResponse> asyncRequestCacheNames(jpuppeteer.cdp.cdp.entity.cachestorage.RequestCacheNamesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CacheStorage.requestCacheNames", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.cachestorage.RequestCacheNamesResponse>(future, jpuppeteer.cdp.cdp.entity.cachestorage.RequestCacheNamesResponse.class);
+        return session.asyncSend("CacheStorage.requestCacheNames", request, jpuppeteer.cdp.cdp.entity.cachestorage.RequestCacheNamesResponse.class);
+    }
+
+    /**
+    * @see #requestCacheNames
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.cachestorage.RequestCacheNamesResponse> requestCacheNamesAsync(jpuppeteer.cdp.cdp.entity.cachestorage.RequestCacheNamesRequest request, int timeout) {
+        return session.sendAsync("CacheStorage.requestCacheNames", request, jpuppeteer.cdp.cdp.entity.cachestorage.RequestCacheNamesResponse.class, timeout);
     }
 
     /**
@@ -62,9 +92,19 @@ public class CacheStorage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #requestCachedResponseAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.cachestorage.RequestCachedResponseResponse> asyncRequestCachedResponse(jpuppeteer.cdp.cdp.entity.cachestorage.RequestCachedResponseRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CacheStorage.requestCachedResponse", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.cachestorage.RequestCachedResponseResponse>(future, jpuppeteer.cdp.cdp.entity.cachestorage.RequestCachedResponseResponse.class);
+        return session.asyncSend("CacheStorage.requestCachedResponse", request, jpuppeteer.cdp.cdp.entity.cachestorage.RequestCachedResponseResponse.class);
+    }
+
+    /**
+    * @see #requestCachedResponse
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.cachestorage.RequestCachedResponseResponse> requestCachedResponseAsync(jpuppeteer.cdp.cdp.entity.cachestorage.RequestCachedResponseRequest request, int timeout) {
+        return session.sendAsync("CacheStorage.requestCachedResponse", request, jpuppeteer.cdp.cdp.entity.cachestorage.RequestCachedResponseResponse.class, timeout);
     }
 
     /**
@@ -76,8 +116,18 @@ public class CacheStorage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #requestEntriesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.cachestorage.RequestEntriesResponse> asyncRequestEntries(jpuppeteer.cdp.cdp.entity.cachestorage.RequestEntriesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("CacheStorage.requestEntries", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.cachestorage.RequestEntriesResponse>(future, jpuppeteer.cdp.cdp.entity.cachestorage.RequestEntriesResponse.class);
+        return session.asyncSend("CacheStorage.requestEntries", request, jpuppeteer.cdp.cdp.entity.cachestorage.RequestEntriesResponse.class);
+    }
+
+    /**
+    * @see #requestEntries
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.cachestorage.RequestEntriesResponse> requestEntriesAsync(jpuppeteer.cdp.cdp.entity.cachestorage.RequestEntriesRequest request, int timeout) {
+        return session.sendAsync("CacheStorage.requestEntries", request, jpuppeteer.cdp.cdp.entity.cachestorage.RequestEntriesResponse.class, timeout);
     }
 }
\ No newline at end of file
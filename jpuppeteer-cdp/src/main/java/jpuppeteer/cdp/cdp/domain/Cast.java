@@ -20,9 +20,19 @@ public class Cast {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable(jpuppeteer.cdp.cdp.entity.cast.EnableRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Cast.enable", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Cast.enable", request, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(jpuppeteer.cdp.cdp.entity.cast.EnableRequest request, int timeout) {
+        return session.sendAsync("Cast.enable", request, timeout);
     }
 
     /**
@@ -34,9 +44,19 @@ public class Cast {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Cast.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Cast.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("Cast.disable", null, timeout);
     }
 
     /**
@@ -48,9 +68,19 @@ public class Cast {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setSinkToUseAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetSinkToUse(jpuppeteer.cdp.cdp.entity.cast.SetSinkToUseRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Cast.setSinkToUse", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Cast.setSinkToUse", request, Void.class);
+    }
+
+    /**
+    * @see #setSinkToUse
+    */
+    public java.util.concurrent.CompletionStage<Void> setSinkToUseAsync(jpuppeteer.cdp.cdp.entity.cast.SetSinkToUseRequest request, int timeout) {
+        return session.sendAsync("Cast.setSinkToUse", request, timeout);
     }
 
     /**
@@ -62,9 +92,19 @@ public class Cast {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #startTabMirroringAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStartTabMirroring(jpuppeteer.cdp.cdp.entity.cast.StartTabMirroringRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Cast.startTabMirroring", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Cast.startTabMirroring", request, Void.class);
+    }
+
+    /**
+    * @see #startTabMirroring
+    */
+    public java.util.concurrent.CompletionStage<Void> startTabMirroringAsync(jpuppeteer.cdp.cdp.entity.cast.StartTabMirroringRequest request, int timeout) {
+        return session.sendAsync("Cast.startTabMirroring", request, timeout);
     }
 
     /**
@@ -76,8 +116,18 @@ public class Cast {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #stopCastingAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStopCasting(jpuppeteer.cdp.cdp.entity.cast.StopCastingRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Cast.stopCasting", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Cast.stopCasting", request, Void.class);
+    }
+
+    /**
+    * @see #stopCasting
+    */
+    public java.util.concurrent.CompletionStage<Void> stopCastingAsync(jpuppeteer.cdp.cdp.entity.cast.StopCastingRequest request, int timeout) {
+        return session.sendAsync("Cast.stopCasting", request, timeout);
     }
 }
\ No newline at end of file
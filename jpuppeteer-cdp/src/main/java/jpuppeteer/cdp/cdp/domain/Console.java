@@ -18,9 +18,19 @@ public class Console {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #clearMessagesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClearMessages() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Console.clearMessages");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Console.clearMessages", null, Void.class);
+    }
+
+    /**
+    * @see #clearMessages
+    */
+    public java.util.concurrent.CompletionStage<Void> clearMessagesAsync(int timeout) {
+        return session.sendAsync("Console.clearMessages", null, timeout);
     }
 
     /**
@@ -31,9 +41,19 @@ public class Console {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Console.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Console.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("Console.disable", null, timeout);
     }
 
     /**
@@ -44,8 +64,18 @@ public class Console {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Console.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Console.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("Console.enable", null, timeout);
     }
 }
\ No newline at end of file
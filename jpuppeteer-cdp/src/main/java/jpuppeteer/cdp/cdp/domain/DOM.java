@@ -18,9 +18,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #collectClassNamesFromSubtreeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.CollectClassNamesFromSubtreeResponse> asyncCollectClassNamesFromSubtree(jpuppeteer.cdp.cdp.entity.dom.CollectClassNamesFromSubtreeRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.collectClassNamesFromSubtree", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.CollectClassNamesFromSubtreeResponse>(future, jpuppeteer.cdp.cdp.entity.dom.CollectClassNamesFromSubtreeResponse.class);
+        return session.asyncSend("DOM.collectClassNamesFromSubtree", request, jpuppeteer.cdp.cdp.entity.dom.CollectClassNamesFromSubtreeResponse.class);
+    }
+
+    /**
+    * @see #collectClassNamesFromSubtree
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.CollectClassNamesFromSubtreeResponse> collectClassNamesFromSubtreeAsync(jpuppeteer.cdp.cdp.entity.dom.CollectClassNamesFromSubtreeRequest request, int timeout) {
+        return session.sendAsync("DOM.collectClassNamesFromSubtree", request, jpuppeteer.cdp.cdp.entity.dom.CollectClassNamesFromSubtreeResponse.class, timeout);
     }
 
     /**
@@ -31,9 +41,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #copyToAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.CopyToResponse> asyncCopyTo(jpuppeteer.cdp.cdp.entity.dom.CopyToRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.copyTo", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.CopyToResponse>(future, jpuppeteer.cdp.cdp.entity.dom.CopyToResponse.class);
+        return session.asyncSend("DOM.copyTo", request, jpuppeteer.cdp.cdp.entity.dom.CopyToResponse.class);
+    }
+
+    /**
+    * @see #copyTo
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.CopyToResponse> copyToAsync(jpuppeteer.cdp.cdp.entity.dom.CopyToRequest request, int timeout) {
+        return session.sendAsync("DOM.copyTo", request, jpuppeteer.cdp.cdp.entity.dom.CopyToResponse.class, timeout);
     }
 
     /**
@@ -44,9 +64,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #describeNodeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.DescribeNodeResponse> asyncDescribeNode(jpuppeteer.cdp.cdp.entity.dom.DescribeNodeRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.describeNode", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.DescribeNodeResponse>(future, jpuppeteer.cdp.cdp.entity.dom.DescribeNodeResponse.class);
+        return session.asyncSend("DOM.describeNode", request, jpuppeteer.cdp.cdp.entity.dom.DescribeNodeResponse.class);
+    }
+
+    /**
+    * @see #describeNode
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.DescribeNodeResponse> describeNodeAsync(jpuppeteer.cdp.cdp.entity.dom.DescribeNodeRequest request, int timeout) {
+        return session.sendAsync("DOM.describeNode", request, jpuppeteer.cdp.cdp.entity.dom.DescribeNodeResponse.class, timeout);
     }
 
     /**
@@ -57,9 +87,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("DOM.disable", null, timeout);
     }
 
     /**
@@ -70,9 +110,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #discardSearchResultsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDiscardSearchResults(jpuppeteer.cdp.cdp.entity.dom.DiscardSearchResultsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.discardSearchResults", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.discardSearchResults", request, Void.class);
+    }
+
+    /**
+    * @see #discardSearchResults
+    */
+    public java.util.concurrent.CompletionStage<Void> discardSearchResultsAsync(jpuppeteer.cdp.cdp.entity.dom.DiscardSearchResultsRequest request, int timeout) {
+        return session.sendAsync("DOM.discardSearchResults", request, timeout);
     }
 
     /**
@@ -83,9 +133,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("DOM.enable", null, timeout);
     }
 
     /**
@@ -96,9 +156,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #focusAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncFocus(jpuppeteer.cdp.cdp.entity.dom.FocusRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.focus", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.focus", request, Void.class);
+    }
+
+    /**
+    * @see #focus
+    */
+    public java.util.concurrent.CompletionStage<Void> focusAsync(jpuppeteer.cdp.cdp.entity.dom.FocusRequest request, int timeout) {
+        return session.sendAsync("DOM.focus", request, timeout);
     }
 
     /**
@@ -109,9 +179,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getAttributesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.GetAttributesResponse> asyncGetAttributes(jpuppeteer.cdp.cdp.entity.dom.GetAttributesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.getAttributes", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.GetAttributesResponse>(future, jpuppeteer.cdp.cdp.entity.dom.GetAttributesResponse.class);
+        return session.asyncSend("DOM.getAttributes", request, jpuppeteer.cdp.cdp.entity.dom.GetAttributesResponse.class);
+    }
+
+    /**
+    * @see #getAttributes
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.GetAttributesResponse> getAttributesAsync(jpuppeteer.cdp.cdp.entity.dom.GetAttributesRequest request, int timeout) {
+        return session.sendAsync("DOM.getAttributes", request, jpuppeteer.cdp.cdp.entity.dom.GetAttributesResponse.class, timeout);
     }
 
     /**
@@ -122,9 +202,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getBoxModelAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.GetBoxModelResponse> asyncGetBoxModel(jpuppeteer.cdp.cdp.entity.dom.GetBoxModelRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.getBoxModel", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.GetBoxModelResponse>(future, jpuppeteer.cdp.cdp.entity.dom.GetBoxModelResponse.class);
+        return session.asyncSend("DOM.getBoxModel", request, jpuppeteer.cdp.cdp.entity.dom.GetBoxModelResponse.class);
+    }
+
+    /**
+    * @see #getBoxModel
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.GetBoxModelResponse> getBoxModelAsync(jpuppeteer.cdp.cdp.entity.dom.GetBoxModelRequest request, int timeout) {
+        return session.sendAsync("DOM.getBoxModel", request, jpuppeteer.cdp.cdp.entity.dom.GetBoxModelResponse.class, timeout);
     }
 
     /**
@@ -135,9 +225,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getContentQuadsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.GetContentQuadsResponse> asyncGetContentQuads(jpuppeteer.cdp.cdp.entity.dom.GetContentQuadsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.getContentQuads", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.GetContentQuadsResponse>(future, jpuppeteer.cdp.cdp.entity.dom.GetContentQuadsResponse.class);
+        return session.asyncSend("DOM.getContentQuads", request, jpuppeteer.cdp.cdp.entity.dom.GetContentQuadsResponse.class);
+    }
+
+    /**
+    * @see #getContentQuads
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.GetContentQuadsResponse> getContentQuadsAsync(jpuppeteer.cdp.cdp.entity.dom.GetContentQuadsRequest request, int timeout) {
+        return session.sendAsync("DOM.getContentQuads", request, jpuppeteer.cdp.cdp.entity.dom.GetContentQuadsResponse.class, timeout);
     }
 
     /**
@@ -148,9 +248,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getDocumentAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.GetDocumentResponse> asyncGetDocument(jpuppeteer.cdp.cdp.entity.dom.GetDocumentRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.getDocument", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.GetDocumentResponse>(future, jpuppeteer.cdp.cdp.entity.dom.GetDocumentResponse.class);
+        return session.asyncSend("DOM.getDocument", request, jpuppeteer.cdp.cdp.entity.dom.GetDocumentResponse.class);
+    }
+
+    /**
+    * @see #getDocument
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.GetDocumentResponse> getDocumentAsync(jpuppeteer.cdp.cdp.entity.dom.GetDocumentRequest request, int timeout) {
+        return session.sendAsync("DOM.getDocument", request, jpuppeteer.cdp.cdp.entity.dom.GetDocumentResponse.class, timeout);
     }
 
     /**
@@ -161,9 +271,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getFlattenedDocumentAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.GetFlattenedDocumentResponse> asyncGetFlattenedDocument(jpuppeteer.cdp.cdp.entity.dom.GetFlattenedDocumentRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.getFlattenedDocument", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.GetFlattenedDocumentResponse>(future, jpuppeteer.cdp.cdp.entity.dom.GetFlattenedDocumentResponse.class);
+        return session.asyncSend("DOM.getFlattenedDocument", request, jpuppeteer.cdp.cdp.entity.dom.GetFlattenedDocumentResponse.class);
+    }
+
+    /**
+    * @see #getFlattenedDocument
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.GetFlattenedDocumentResponse> getFlattenedDocumentAsync(jpuppeteer.cdp.cdp.entity.dom.GetFlattenedDocumentRequest request, int timeout) {
+        return session.sendAsync("DOM.getFlattenedDocument", request, jpuppeteer.cdp.cdp.entity.dom.GetFlattenedDocumentResponse.class, timeout);
     }
 
     /**
@@ -174,9 +294,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getNodeForLocationAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.GetNodeForLocationResponse> asyncGetNodeForLocation(jpuppeteer.cdp.cdp.entity.dom.GetNodeForLocationRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.getNodeForLocation", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.GetNodeForLocationResponse>(future, jpuppeteer.cdp.cdp.entity.dom.GetNodeForLocationResponse.class);
+        return session.asyncSend("DOM.getNodeForLocation", request, jpuppeteer.cdp.cdp.entity.dom.GetNodeForLocationResponse.class);
+    }
+
+    /**
+    * @see #getNodeForLocation
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.GetNodeForLocationResponse> getNodeForLocationAsync(jpuppeteer.cdp.cdp.entity.dom.GetNodeForLocationRequest request, int timeout) {
+        return session.sendAsync("DOM.getNodeForLocation", request, jpuppeteer.cdp.cdp.entity.dom.GetNodeForLocationResponse.class, timeout);
     }
 
     /**
@@ -187,9 +317,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getOuterHTMLAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.GetOuterHTMLResponse> asyncGetOuterHTML(jpuppeteer.cdp.cdp.entity.dom.GetOuterHTMLRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.getOuterHTML", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.GetOuterHTMLResponse>(future, jpuppeteer.cdp.cdp.entity.dom.GetOuterHTMLResponse.class);
+        return session.asyncSend("DOM.getOuterHTML", request, jpuppeteer.cdp.cdp.entity.dom.GetOuterHTMLResponse.class);
+    }
+
+    /**
+    * @see #getOuterHTML
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.GetOuterHTMLResponse> getOuterHTMLAsync(jpuppeteer.cdp.cdp.entity.dom.GetOuterHTMLRequest request, int timeout) {
+        return session.sendAsync("DOM.getOuterHTML", request, jpuppeteer.cdp.cdp.entity.dom.GetOuterHTMLResponse.class, timeout);
     }
 
     /**
@@ -200,9 +340,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getRelayoutBoundaryAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.GetRelayoutBoundaryResponse> asyncGetRelayoutBoundary(jpuppeteer.cdp.cdp.entity.dom.GetRelayoutBoundaryRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.getRelayoutBoundary", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.GetRelayoutBoundaryResponse>(future, jpuppeteer.cdp.cdp.entity.dom.GetRelayoutBoundaryResponse.class);
+        return session.asyncSend("DOM.getRelayoutBoundary", request, jpuppeteer.cdp.cdp.entity.dom.GetRelayoutBoundaryResponse.class);
+    }
+
+    /**
+    * @see #getRelayoutBoundary
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.GetRelayoutBoundaryResponse> getRelayoutBoundaryAsync(jpuppeteer.cdp.cdp.entity.dom.GetRelayoutBoundaryRequest request, int timeout) {
+        return session.sendAsync("DOM.getRelayoutBoundary", request, jpuppeteer.cdp.cdp.entity.dom.GetRelayoutBoundaryResponse.class, timeout);
     }
 
     /**
@@ -213,9 +363,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getSearchResultsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.GetSearchResultsResponse> asyncGetSearchResults(jpuppeteer.cdp.cdp.entity.dom.GetSearchResultsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.getSearchResults", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.GetSearchResultsResponse>(future, jpuppeteer.cdp.cdp.entity.dom.GetSearchResultsResponse.class);
+        return session.asyncSend("DOM.getSearchResults", request, jpuppeteer.cdp.cdp.entity.dom.GetSearchResultsResponse.class);
+    }
+
+    /**
+    * @see #getSearchResults
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.GetSearchResultsResponse> getSearchResultsAsync(jpuppeteer.cdp.cdp.entity.dom.GetSearchResultsRequest request, int timeout) {
+        return session.sendAsync("DOM.getSearchResults", request, jpuppeteer.cdp.cdp.entity.dom.GetSearchResultsResponse.class, timeout);
     }
 
     /**
@@ -226,9 +386,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #hideHighlightAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncHideHighlight() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.hideHighlight");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.hideHighlight", null, Void.class);
+    }
+
+    /**
+    * @see #hideHighlight
+    */
+    public java.util.concurrent.CompletionStage<Void> hideHighlightAsync(int timeout) {
+        return session.sendAsync("DOM.hideHighlight", null, timeout);
     }
 
     /**
@@ -239,9 +409,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #highlightNodeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncHighlightNode() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.highlightNode");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.highlightNode", null, Void.class);
+    }
+
+    /**
+    * @see #highlightNode
+    */
+    public java.util.concurrent.CompletionStage<Void> highlightNodeAsync(int timeout) {
+        return session.sendAsync("DOM.highlightNode", null, timeout);
     }
 
     /**
@@ -252,9 +432,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #highlightRectAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncHighlightRect() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.highlightRect");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.highlightRect", null, Void.class);
+    }
+
+    /**
+    * @see #highlightRect
+    */
+    public java.util.concurrent.CompletionStage<Void> highlightRectAsync(int timeout) {
+        return session.sendAsync("DOM.highlightRect", null, timeout);
     }
 
     /**
@@ -265,9 +455,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #markUndoableStateAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncMarkUndoableState() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.markUndoableState");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.markUndoableState", null, Void.class);
+    }
+
+    /**
+    * @see #markUndoableState
+    */
+    public java.util.concurrent.CompletionStage<Void> markUndoableStateAsync(int timeout) {
+        return session.sendAsync("DOM.markUndoableState", null, timeout);
     }
 
     /**
@@ -278,9 +478,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #moveToAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.MoveToResponse> asyncMoveTo(jpuppeteer.cdp.cdp.entity.dom.MoveToRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.moveTo", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.MoveToResponse>(future, jpuppeteer.cdp.cdp.entity.dom.MoveToResponse.class);
+        return session.asyncSend("DOM.moveTo", request, jpuppeteer.cdp.cdp.entity.dom.MoveToResponse.class);
+    }
+
+    /**
+    * @see #moveTo
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.MoveToResponse> moveToAsync(jpuppeteer.cdp.cdp.entity.dom.MoveToRequest request, int timeout) {
+        return session.sendAsync("DOM.moveTo", request, jpuppeteer.cdp.cdp.entity.dom.MoveToResponse.class, timeout);
     }
 
     /**
@@ -291,9 +501,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #performSearchAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.PerformSearchResponse> asyncPerformSearch(jpuppeteer.cdp.cdp.entity.dom.PerformSearchRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.performSearch", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.PerformSearchResponse>(future, jpuppeteer.cdp.cdp.entity.dom.PerformSearchResponse.class);
+        return session.asyncSend("DOM.performSearch", request, jpuppeteer.cdp.cdp.entity.dom.PerformSearchResponse.class);
+    }
+
+    /**
+    * @see #performSearch
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.PerformSearchResponse> performSearchAsync(jpuppeteer.cdp.cdp.entity.dom.PerformSearchRequest request, int timeout) {
+        return session.sendAsync("DOM.performSearch", request, jpuppeteer.cdp.cdp.entity.dom.PerformSearchResponse.class, timeout);
     }
 
     /**
@@ -304,9 +524,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #pushNodeByPathToFrontendAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.PushNodeByPathToFrontendResponse> asyncPushNodeByPathToFrontend(jpuppeteer.cdp.cdp.entity.dom.PushNodeByPathToFrontendRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.pushNodeByPathToFrontend", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.PushNodeByPathToFrontendResponse>(future, jpuppeteer.cdp.cdp.entity.dom.PushNodeByPathToFrontendResponse.class);
+        return session.asyncSend("DOM.pushNodeByPathToFrontend", request, jpuppeteer.cdp.cdp.entity.dom.PushNodeByPathToFrontendResponse.class);
+    }
+
+    /**
+    * @see #pushNodeByPathToFrontend
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.PushNodeByPathToFrontendResponse> pushNodeByPathToFrontendAsync(jpuppeteer.cdp.cdp.entity.dom.PushNodeByPathToFrontendRequest request, int timeout) {
+        return session.sendAsync("DOM.pushNodeByPathToFrontend", request, jpuppeteer.cdp.cdp.entity.dom.PushNodeByPathToFrontendResponse.class, timeout);
     }
 
     /**
@@ -317,9 +547,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #pushNodesByBackendIdsToFrontendAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.PushNodesByBackendIdsToFrontendResponse> asyncPushNodesByBackendIdsToFrontend(jpuppeteer.cdp.cdp.entity.dom.PushNodesByBackendIdsToFrontendRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.pushNodesByBackendIdsToFrontend", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.PushNodesByBackendIdsToFrontendResponse>(future, jpuppeteer.cdp.cdp.entity.dom.PushNodesByBackendIdsToFrontendResponse.class);
+        return session.asyncSend("DOM.pushNodesByBackendIdsToFrontend", request, jpuppeteer.cdp.cdp.entity.dom.PushNodesByBackendIdsToFrontendResponse.class);
+    }
+
+    /**
+    * @see #pushNodesByBackendIdsToFrontend
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.PushNodesByBackendIdsToFrontendResponse> pushNodesByBackendIdsToFrontendAsync(jpuppeteer.cdp.cdp.entity.dom.PushNodesByBackendIdsToFrontendRequest request, int timeout) {
+        return session.sendAsync("DOM.pushNodesByBackendIdsToFrontend", request, jpuppeteer.cdp.cdp.entity.dom.PushNodesByBackendIdsToFrontendResponse.class, timeout);
     }
 
     /**
@@ -330,9 +570,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #querySelectorAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.QuerySelectorResponse> asyncQuerySelector(jpuppeteer.cdp.cdp.entity.dom.QuerySelectorRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.querySelector", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.QuerySelectorResponse>(future, jpuppeteer.cdp.cdp.entity.dom.QuerySelectorResponse.class);
+        return session.asyncSend("DOM.querySelector", request, jpuppeteer.cdp.cdp.entity.dom.QuerySelectorResponse.class);
+    }
+
+    /**
+    * @see #querySelector
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.QuerySelectorResponse> querySelectorAsync(jpuppeteer.cdp.cdp.entity.dom.QuerySelectorRequest request, int timeout) {
+        return session.sendAsync("DOM.querySelector", request, jpuppeteer.cdp.cdp.entity.dom.QuerySelectorResponse.class, timeout);
     }
 
     /**
@@ -343,9 +593,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #querySelectorAllAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.QuerySelectorAllResponse> asyncQuerySelectorAll(jpuppeteer.cdp.cdp.entity.dom.QuerySelectorAllRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.querySelectorAll", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.QuerySelectorAllResponse>(future, jpuppeteer.cdp.cdp.entity.dom.QuerySelectorAllResponse.class);
+        return session.asyncSend("DOM.querySelectorAll", request, jpuppeteer.cdp.cdp.entity.dom.QuerySelectorAllResponse.class);
+    }
+
+    /**
+    * @see #querySelectorAll
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.QuerySelectorAllResponse> querySelectorAllAsync(jpuppeteer.cdp.cdp.entity.dom.QuerySelectorAllRequest request, int timeout) {
+        return session.sendAsync("DOM.querySelectorAll", request, jpuppeteer.cdp.cdp.entity.dom.QuerySelectorAllResponse.class, timeout);
     }
 
     /**
@@ -356,9 +616,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #redoAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncRedo() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.redo");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.redo", null, Void.class);
+    }
+
+    /**
+    * @see #redo
+    */
+    public java.util.concurrent.CompletionStage<Void> redoAsync(int timeout) {
+        return session.sendAsync("DOM.redo", null, timeout);
     }
 
     /**
@@ -369,9 +639,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #removeAttributeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncRemoveAttribute(jpuppeteer.cdp.cdp.entity.dom.RemoveAttributeRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.removeAttribute", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.removeAttribute", request, Void.class);
+    }
+
+    /**
+    * @see #removeAttribute
+    */
+    public java.util.concurrent.CompletionStage<Void> removeAttributeAsync(jpuppeteer.cdp.cdp.entity.dom.RemoveAttributeRequest request, int timeout) {
+        return session.sendAsync("DOM.removeAttribute", request, timeout);
     }
 
     /**
@@ -382,9 +662,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #removeNodeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncRemoveNode(jpuppeteer.cdp.cdp.entity.dom.RemoveNodeRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.removeNode", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.removeNode", request, Void.class);
+    }
+
+    /**
+    * @see #removeNode
+    */
+    public java.util.concurrent.CompletionStage<Void> removeNodeAsync(jpuppeteer.cdp.cdp.entity.dom.RemoveNodeRequest request, int timeout) {
+        return session.sendAsync("DOM.removeNode", request, timeout);
     }
 
     /**
@@ -395,9 +685,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #requestChildNodesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncRequestChildNodes(jpuppeteer.cdp.cdp.entity.dom.RequestChildNodesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.requestChildNodes", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.requestChildNodes", request, Void.class);
+    }
+
+    /**
+    * @see #requestChildNodes
+    */
+    public java.util.concurrent.CompletionStage<Void> requestChildNodesAsync(jpuppeteer.cdp.cdp.entity.dom.RequestChildNodesRequest request, int timeout) {
+        return session.sendAsync("DOM.requestChildNodes", request, timeout);
     }
 
     /**
@@ -408,9 +708,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #requestNodeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.RequestNodeResponse> asyncRequestNode(jpuppeteer.cdp.cdp.entity.dom.RequestNodeRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.requestNode", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.RequestNodeResponse>(future, jpuppeteer.cdp.cdp.entity.dom.RequestNodeResponse.class);
+        return session.asyncSend("DOM.requestNode", request, jpuppeteer.cdp.cdp.entity.dom.RequestNodeResponse.class);
+    }
+
+    /**
+    * @see #requestNode
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.RequestNodeResponse> requestNodeAsync(jpuppeteer.cdp.cdp.entity.dom.RequestNodeRequest request, int timeout) {
+        return session.sendAsync("DOM.requestNode", request, jpuppeteer.cdp.cdp.entity.dom.RequestNodeResponse.class, timeout);
     }
 
     /**
@@ -421,9 +731,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #resolveNodeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.ResolveNodeResponse> asyncResolveNode(jpuppeteer.cdp.cdp.entity.dom.ResolveNodeRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.resolveNode", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.ResolveNodeResponse>(future, jpuppeteer.cdp.cdp.entity.dom.ResolveNodeResponse.class);
+        return session.asyncSend("DOM.resolveNode", request, jpuppeteer.cdp.cdp.entity.dom.ResolveNodeResponse.class);
+    }
+
+    /**
+    * @see #resolveNode
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.ResolveNodeResponse> resolveNodeAsync(jpuppeteer.cdp.cdp.entity.dom.ResolveNodeRequest request, int timeout) {
+        return session.sendAsync("DOM.resolveNode", request, jpuppeteer.cdp.cdp.entity.dom.ResolveNodeResponse.class, timeout);
     }
 
     /**
@@ -434,9 +754,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setAttributeValueAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetAttributeValue(jpuppeteer.cdp.cdp.entity.dom.SetAttributeValueRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.setAttributeValue", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.setAttributeValue", request, Void.class);
+    }
+
+    /**
+    * @see #setAttributeValue
+    */
+    public java.util.concurrent.CompletionStage<Void> setAttributeValueAsync(jpuppeteer.cdp.cdp.entity.dom.SetAttributeValueRequest request, int timeout) {
+        return session.sendAsync("DOM.setAttributeValue", request, timeout);
     }
 
     /**
@@ -447,9 +777,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setAttributesAsTextAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetAttributesAsText(jpuppeteer.cdp.cdp.entity.dom.SetAttributesAsTextRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.setAttributesAsText", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.setAttributesAsText", request, Void.class);
+    }
+
+    /**
+    * @see #setAttributesAsText
+    */
+    public java.util.concurrent.CompletionStage<Void> setAttributesAsTextAsync(jpuppeteer.cdp.cdp.entity.dom.SetAttributesAsTextRequest request, int timeout) {
+        return session.sendAsync("DOM.setAttributesAsText", request, timeout);
     }
 
     /**
@@ -460,9 +800,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setFileInputFilesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetFileInputFiles(jpuppeteer.cdp.cdp.entity.dom.SetFileInputFilesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.setFileInputFiles", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.setFileInputFiles", request, Void.class);
+    }
+
+    /**
+    * @see #setFileInputFiles
+    */
+    public java.util.concurrent.CompletionStage<Void> setFileInputFilesAsync(jpuppeteer.cdp.cdp.entity.dom.SetFileInputFilesRequest request, int timeout) {
+        return session.sendAsync("DOM.setFileInputFiles", request, timeout);
     }
 
     /**
@@ -473,9 +823,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setNodeStackTracesEnabledAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetNodeStackTracesEnabled(jpuppeteer.cdp.cdp.entity.dom.SetNodeStackTracesEnabledRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.setNodeStackTracesEnabled", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.setNodeStackTracesEnabled", request, Void.class);
+    }
+
+    /**
+    * @see #setNodeStackTracesEnabled
+    */
+    public java.util.concurrent.CompletionStage<Void> setNodeStackTracesEnabledAsync(jpuppeteer.cdp.cdp.entity.dom.SetNodeStackTracesEnabledRequest request, int timeout) {
+        return session.sendAsync("DOM.setNodeStackTracesEnabled", request, timeout);
     }
 
     /**
@@ -486,9 +846,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getNodeStackTracesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.GetNodeStackTracesResponse> asyncGetNodeStackTraces(jpuppeteer.cdp.cdp.entity.dom.GetNodeStackTracesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.getNodeStackTraces", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.GetNodeStackTracesResponse>(future, jpuppeteer.cdp.cdp.entity.dom.GetNodeStackTracesResponse.class);
+        return session.asyncSend("DOM.getNodeStackTraces", request, jpuppeteer.cdp.cdp.entity.dom.GetNodeStackTracesResponse.class);
+    }
+
+    /**
+    * @see #getNodeStackTraces
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.GetNodeStackTracesResponse> getNodeStackTracesAsync(jpuppeteer.cdp.cdp.entity.dom.GetNodeStackTracesRequest request, int timeout) {
+        return session.sendAsync("DOM.getNodeStackTraces", request, jpuppeteer.cdp.cdp.entity.dom.GetNodeStackTracesResponse.class, timeout);
     }
 
     /**
@@ -499,9 +869,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getFileInfoAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.GetFileInfoResponse> asyncGetFileInfo(jpuppeteer.cdp.cdp.entity.dom.GetFileInfoRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.getFileInfo", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.GetFileInfoResponse>(future, jpuppeteer.cdp.cdp.entity.dom.GetFileInfoResponse.class);
+        return session.asyncSend("DOM.getFileInfo", request, jpuppeteer.cdp.cdp.entity.dom.GetFileInfoResponse.class);
+    }
+
+    /**
+    * @see #getFileInfo
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.GetFileInfoResponse> getFileInfoAsync(jpuppeteer.cdp.cdp.entity.dom.GetFileInfoRequest request, int timeout) {
+        return session.sendAsync("DOM.getFileInfo", request, jpuppeteer.cdp.cdp.entity.dom.GetFileInfoResponse.class, timeout);
     }
 
     /**
@@ -512,9 +892,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setInspectedNodeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetInspectedNode(jpuppeteer.cdp.cdp.entity.dom.SetInspectedNodeRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.setInspectedNode", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.setInspectedNode", request, Void.class);
+    }
+
+    /**
+    * @see #setInspectedNode
+    */
+    public java.util.concurrent.CompletionStage<Void> setInspectedNodeAsync(jpuppeteer.cdp.cdp.entity.dom.SetInspectedNodeRequest request, int timeout) {
+        return session.sendAsync("DOM.setInspectedNode", request, timeout);
     }
 
     /**
@@ -525,9 +915,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setNodeNameAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.SetNodeNameResponse> asyncSetNodeName(jpuppeteer.cdp.cdp.entity.dom.SetNodeNameRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.setNodeName", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.SetNodeNameResponse>(future, jpuppeteer.cdp.cdp.entity.dom.SetNodeNameResponse.class);
+        return session.asyncSend("DOM.setNodeName", request, jpuppeteer.cdp.cdp.entity.dom.SetNodeNameResponse.class);
+    }
+
+    /**
+    * @see #setNodeName
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.SetNodeNameResponse> setNodeNameAsync(jpuppeteer.cdp.cdp.entity.dom.SetNodeNameRequest request, int timeout) {
+        return session.sendAsync("DOM.setNodeName", request, jpuppeteer.cdp.cdp.entity.dom.SetNodeNameResponse.class, timeout);
     }
 
     /**
@@ -538,9 +938,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setNodeValueAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetNodeValue(jpuppeteer.cdp.cdp.entity.dom.SetNodeValueRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.setNodeValue", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.setNodeValue", request, Void.class);
+    }
+
+    /**
+    * @see #setNodeValue
+    */
+    public java.util.concurrent.CompletionStage<Void> setNodeValueAsync(jpuppeteer.cdp.cdp.entity.dom.SetNodeValueRequest request, int timeout) {
+        return session.sendAsync("DOM.setNodeValue", request, timeout);
     }
 
     /**
@@ -551,9 +961,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setOuterHTMLAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetOuterHTML(jpuppeteer.cdp.cdp.entity.dom.SetOuterHTMLRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.setOuterHTML", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.setOuterHTML", request, Void.class);
+    }
+
+    /**
+    * @see #setOuterHTML
+    */
+    public java.util.concurrent.CompletionStage<Void> setOuterHTMLAsync(jpuppeteer.cdp.cdp.entity.dom.SetOuterHTMLRequest request, int timeout) {
+        return session.sendAsync("DOM.setOuterHTML", request, timeout);
     }
 
     /**
@@ -564,9 +984,19 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #undoAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncUndo() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.undo");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOM.undo", null, Void.class);
+    }
+
+    /**
+    * @see #undo
+    */
+    public java.util.concurrent.CompletionStage<Void> undoAsync(int timeout) {
+        return session.sendAsync("DOM.undo", null, timeout);
     }
 
     /**
@@ -577,8 +1007,18 @@ public class DOM {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getFrameOwnerAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.dom.GetFrameOwnerResponse> asyncGetFrameOwner(jpuppeteer.cdp.cdp.entity.dom.GetFrameOwnerRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOM.getFrameOwner", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.dom.GetFrameOwnerResponse>(future, jpuppeteer.cdp.cdp.entity.dom.GetFrameOwnerResponse.class);
+        return session.asyncSend("DOM.getFrameOwner", request, jpuppeteer.cdp.cdp.entity.dom.GetFrameOwnerResponse.class);
+    }
+
+    /**
+    * @see #getFrameOwner
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.dom.GetFrameOwnerResponse> getFrameOwnerAsync(jpuppeteer.cdp.cdp.entity.dom.GetFrameOwnerRequest request, int timeout) {
+        return session.sendAsync("DOM.getFrameOwner", request, jpuppeteer.cdp.cdp.entity.dom.GetFrameOwnerResponse.class, timeout);
     }
 }
\ No newline at end of file
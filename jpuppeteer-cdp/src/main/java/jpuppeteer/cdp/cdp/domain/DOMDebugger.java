@@ -18,9 +18,19 @@ public class DOMDebugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getEventListenersAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.domdebugger.GetEventListenersResponse> asyncGetEventListeners(jpuppeteer.cdp.cdp.entity.domdebugger.GetEventListenersRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOMDebugger.getEventListeners", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.domdebugger.GetEventListenersResponse>(future, jpuppeteer.cdp.cdp.entity.domdebugger.GetEventListenersResponse.class);
+        return session.asyncSend("DOMDebugger.getEventListeners", request, jpuppeteer.cdp.cdp.entity.domdebugger.GetEventListenersResponse.class);
+    }
+
+    /**
+    * @see #getEventListeners
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.domdebugger.GetEventListenersResponse> getEventListenersAsync(jpuppeteer.cdp.cdp.entity.domdebugger.GetEventListenersRequest request, int timeout) {
+        return session.sendAsync("DOMDebugger.getEventListeners", request, jpuppeteer.cdp.cdp.entity.domdebugger.GetEventListenersResponse.class, timeout);
     }
 
     /**
@@ -31,9 +41,19 @@ public class DOMDebugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #removeDOMBreakpointAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncRemoveDOMBreakpoint(jpuppeteer.cdp.cdp.entity.domdebugger.RemoveDOMBreakpointRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOMDebugger.removeDOMBreakpoint", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOMDebugger.removeDOMBreakpoint", request, Void.class);
+    }
+
+    /**
+    * @see #removeDOMBreakpoint
+    */
+    public java.util.concurrent.CompletionStage<Void> removeDOMBreakpointAsync(jpuppeteer.cdp.cdp.entity.domdebugger.RemoveDOMBreakpointRequest request, int timeout) {
+        return session.sendAsync("DOMDebugger.removeDOMBreakpoint", request, timeout);
     }
 
     /**
@@ -44,9 +64,19 @@ public class DOMDebugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #removeEventListenerBreakpointAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncRemoveEventListenerBreakpoint(jpuppeteer.cdp.cdp.entity.domdebugger.RemoveEventListenerBreakpointRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOMDebugger.removeEventListenerBreakpoint", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOMDebugger.removeEventListenerBreakpoint", request, Void.class);
+    }
+
+    /**
+    * @see #removeEventListenerBreakpoint
+    */
+    public java.util.concurrent.CompletionStage<Void> removeEventListenerBreakpointAsync(jpuppeteer.cdp.cdp.entity.domdebugger.RemoveEventListenerBreakpointRequest request, int timeout) {
+        return session.sendAsync("DOMDebugger.removeEventListenerBreakpoint", request, timeout);
     }
 
     /**
@@ -57,9 +87,19 @@ public class DOMDebugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #removeInstrumentationBreakpointAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncRemoveInstrumentationBreakpoint(jpuppeteer.cdp.cdp.entity.domdebugger.RemoveInstrumentationBreakpointRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOMDebugger.removeInstrumentationBreakpoint", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOMDebugger.removeInstrumentationBreakpoint", request, Void.class);
+    }
+
+    /**
+    * @see #removeInstrumentationBreakpoint
+    */
+    public java.util.concurrent.CompletionStage<Void> removeInstrumentationBreakpointAsync(jpuppeteer.cdp.cdp.entity.domdebugger.RemoveInstrumentationBreakpointRequest request, int timeout) {
+        return session.sendAsync("DOMDebugger.removeInstrumentationBreakpoint", request, timeout);
     }
 
     /**
@@ -70,9 +110,19 @@ public class DOMDebugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #removeXHRBreakpointAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncRemoveXHRBreakpoint(jpuppeteer.cdp.cdp.entity.domdebugger.RemoveXHRBreakpointRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOMDebugger.removeXHRBreakpoint", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOMDebugger.removeXHRBreakpoint", request, Void.class);
+    }
+
+    /**
+    * @see #removeXHRBreakpoint
+    */
+    public java.util.concurrent.CompletionStage<Void> removeXHRBreakpointAsync(jpuppeteer.cdp.cdp.entity.domdebugger.RemoveXHRBreakpointRequest request, int timeout) {
+        return session.sendAsync("DOMDebugger.removeXHRBreakpoint", request, timeout);
     }
 
     /**
@@ -83,9 +133,19 @@ public class DOMDebugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setDOMBreakpointAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetDOMBreakpoint(jpuppeteer.cdp.cdp.entity.domdebugger.SetDOMBreakpointRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOMDebugger.setDOMBreakpoint", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOMDebugger.setDOMBreakpoint", request, Void.class);
+    }
+
+    /**
+    * @see #setDOMBreakpoint
+    */
+    public java.util.concurrent.CompletionStage<Void> setDOMBreakpointAsync(jpuppeteer.cdp.cdp.entity.domdebugger.SetDOMBreakpointRequest request, int timeout) {
+        return session.sendAsync("DOMDebugger.setDOMBreakpoint", request, timeout);
     }
 
     /**
@@ -96,9 +156,19 @@ public class DOMDebugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setEventListenerBreakpointAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetEventListenerBreakpoint(jpuppeteer.cdp.cdp.entity.domdebugger.SetEventListenerBreakpointRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOMDebugger.setEventListenerBreakpoint", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOMDebugger.setEventListenerBreakpoint", request, Void.class);
+    }
+
+    /**
+    * @see #setEventListenerBreakpoint
+    */
+    public java.util.concurrent.CompletionStage<Void> setEventListenerBreakpointAsync(jpuppeteer.cdp.cdp.entity.domdebugger.SetEventListenerBreakpointRequest request, int timeout) {
+        return session.sendAsync("DOMDebugger.setEventListenerBreakpoint", request, timeout);
     }
 
     /**
@@ -109,9 +179,19 @@ public class DOMDebugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setInstrumentationBreakpointAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetInstrumentationBreakpoint(jpuppeteer.cdp.cdp.entity.domdebugger.SetInstrumentationBreakpointRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOMDebugger.setInstrumentationBreakpoint", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOMDebugger.setInstrumentationBreakpoint", request, Void.class);
+    }
+
+    /**
+    * @see #setInstrumentationBreakpoint
+    */
+    public java.util.concurrent.CompletionStage<Void> setInstrumentationBreakpointAsync(jpuppeteer.cdp.cdp.entity.domdebugger.SetInstrumentationBreakpointRequest request, int timeout) {
+        return session.sendAsync("DOMDebugger.setInstrumentationBreakpoint", request, timeout);
     }
 
     /**
@@ -122,8 +202,18 @@ public class DOMDebugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setXHRBreakpointAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetXHRBreakpoint(jpuppeteer.cdp.cdp.entity.domdebugger.SetXHRBreakpointRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOMDebugger.setXHRBreakpoint", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOMDebugger.setXHRBreakpoint", request, Void.class);
+    }
+
+    /**
+    * @see #setXHRBreakpoint
+    */
+    public java.util.concurrent.CompletionStage<Void> setXHRBreakpointAsync(jpuppeteer.cdp.cdp.entity.domdebugger.SetXHRBreakpointRequest request, int timeout) {
+        return session.sendAsync("DOMDebugger.setXHRBreakpoint", request, timeout);
     }
 }
\ No newline at end of file
@@ -20,9 +20,19 @@ public class DOMSnapshot {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOMSnapshot.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOMSnapshot.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("DOMSnapshot.disable", null, timeout);
     }
 
     /**
@@ -34,9 +44,19 @@ public class DOMSnapshot {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOMSnapshot.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOMSnapshot.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("DOMSnapshot.enable", null, timeout);
     }
 
     /**
@@ -48,9 +68,19 @@ public class DOMSnapshot {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getSnapshotAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.domsnapshot.GetSnapshotResponse> asyncGetSnapshot(jpuppeteer.cdp.cdp.entity.domsnapshot.GetSnapshotRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOMSnapshot.getSnapshot", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.domsnapshot.GetSnapshotResponse>(future, jpuppeteer.cdp.cdp.entity.domsnapshot.GetSnapshotResponse.class);
+        return session.asyncSend("DOMSnapshot.getSnapshot", request, jpuppeteer.cdp.cdp.entity.domsnapshot.GetSnapshotResponse.class);
+    }
+
+    /**
+    * @see #getSnapshot
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.domsnapshot.GetSnapshotResponse> getSnapshotAsync(jpuppeteer.cdp.cdp.entity.domsnapshot.GetSnapshotRequest request, int timeout) {
+        return session.sendAsync("DOMSnapshot.getSnapshot", request, jpuppeteer.cdp.cdp.entity.domsnapshot.GetSnapshotResponse.class, timeout);
     }
 
     /**
@@ -62,8 +92,18 @@ public class DOMSnapshot {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #captureSnapshotAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.domsnapshot.CaptureSnapshotResponse> asyncCaptureSnapshot(jpuppeteer.cdp.cdp.entity.domsnapshot.CaptureSnapshotRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOMSnapshot.captureSnapshot", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.domsnapshot.CaptureSnapshotResponse>(future, jpuppeteer.cdp.cdp.entity.domsnapshot.CaptureSnapshotResponse.class);
+        return session.asyncSend("DOMSnapshot.captureSnapshot", request, jpuppeteer.cdp.cdp.entity.domsnapshot.CaptureSnapshotResponse.class);
+    }
+
+    /**
+    * @see #captureSnapshot
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.domsnapshot.CaptureSnapshotResponse> captureSnapshotAsync(jpuppeteer.cdp.cdp.entity.domsnapshot.CaptureSnapshotRequest request, int timeout) {
+        return session.sendAsync("DOMSnapshot.captureSnapshot", request, jpuppeteer.cdp.cdp.entity.domsnapshot.CaptureSnapshotResponse.class, timeout);
     }
 }
\ No newline at end of file
@@ -19,9 +19,19 @@ public class DOMStorage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #clearAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClear(jpuppeteer.cdp.cdp.entity.domstorage.ClearRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOMStorage.clear", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOMStorage.clear", request, Void.class);
+    }
+
+    /**
+    * @see #clear
+    */
+    public java.util.concurrent.CompletionStage<Void> clearAsync(jpuppeteer.cdp.cdp.entity.domstorage.ClearRequest request, int timeout) {
+        return session.sendAsync("DOMStorage.clear", request, timeout);
     }
 
     /**
@@ -33,9 +43,19 @@ public class DOMStorage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOMStorage.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOMStorage.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("DOMStorage.disable", null, timeout);
     }
 
     /**
@@ -47,9 +67,19 @@ public class DOMStorage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOMStorage.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOMStorage.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("DOMStorage.enable", null, timeout);
     }
 
     /**
@@ -60,9 +90,19 @@ public class DOMStorage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getDOMStorageItemsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.domstorage.GetDOMStorageItemsResponse> asyncGetDOMStorageItems(jpuppeteer.cdp.cdp.entity.domstorage.GetDOMStorageItemsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOMStorage.getDOMStorageItems", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.domstorage.GetDOMStorageItemsResponse>(future, jpuppeteer.cdp.cdp.entity.domstorage.GetDOMStorageItemsResponse.class);
+        return session.asyncSend("DOMStorage.getDOMStorageItems", request, jpuppeteer.cdp.cdp.entity.domstorage.GetDOMStorageItemsResponse.class);
+    }
+
+    /**
+    * @see #getDOMStorageItems
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.domstorage.GetDOMStorageItemsResponse> getDOMStorageItemsAsync(jpuppeteer.cdp.cdp.entity.domstorage.GetDOMStorageItemsRequest request, int timeout) {
+        return session.sendAsync("DOMStorage.getDOMStorageItems", request, jpuppeteer.cdp.cdp.entity.domstorage.GetDOMStorageItemsResponse.class, timeout);
     }
 
     /**
@@ -73,9 +113,19 @@ public class DOMStorage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #removeDOMStorageItemAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncRemoveDOMStorageItem(jpuppeteer.cdp.cdp.entity.domstorage.RemoveDOMStorageItemRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOMStorage.removeDOMStorageItem", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOMStorage.removeDOMStorageItem", request, Void.class);
+    }
+
+    /**
+    * @see #removeDOMStorageItem
+    */
+    public java.util.concurrent.CompletionStage<Void> removeDOMStorageItemAsync(jpuppeteer.cdp.cdp.entity.domstorage.RemoveDOMStorageItemRequest request, int timeout) {
+        return session.sendAsync("DOMStorage.removeDOMStorageItem", request, timeout);
     }
 
     /**
@@ -86,8 +136,18 @@ public class DOMStorage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setDOMStorageItemAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetDOMStorageItem(jpuppeteer.cdp.cdp.entity.domstorage.SetDOMStorageItemRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DOMStorage.setDOMStorageItem", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DOMStorage.setDOMStorageItem", request, Void.class);
+    }
+
+    /**
+    * @see #setDOMStorageItem
+    */
+    public java.util.concurrent.CompletionStage<Void> setDOMStorageItemAsync(jpuppeteer.cdp.cdp.entity.domstorage.SetDOMStorageItemRequest request, int timeout) {
+        return session.sendAsync("DOMStorage.setDOMStorageItem", request, timeout);
     }
 }
\ No newline at end of file
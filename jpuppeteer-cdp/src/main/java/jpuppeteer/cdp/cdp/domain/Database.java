@@ -20,9 +20,19 @@ public class Database {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Database.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Database.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("Database.disable", null, timeout);
     }
 
     /**
@@ -34,9 +44,19 @@ public class Database {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Database.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Database.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("Database.enable", null, timeout);
     }
 
     /**
@@ -47,9 +67,19 @@ public class Database {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #executeSQLAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.database.ExecuteSQLResponse> asyncExecuteSQL(jpuppeteer.cdp.cdp.entity.database.ExecuteSQLRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Database.executeSQL", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.database.ExecuteSQLResponse>(future, jpuppeteer.cdp.cdp.entity.database.ExecuteSQLResponse.class);
+        return session.asyncSend("Database.executeSQL", request, jpuppeteer.cdp.cdp.entity.database.ExecuteSQLResponse.class);
+    }
+
+    /**
+    * @see #executeSQL
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.database.ExecuteSQLResponse> executeSQLAsync(jpuppeteer.cdp.cdp.entity.database.ExecuteSQLRequest request, int timeout) {
+        return session.sendAsync("Database.executeSQL", request, jpuppeteer.cdp.cdp.entity.database.ExecuteSQLResponse.class, timeout);
     }
 
     /**
@@ -60,8 +90,18 @@ public class Database {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getDatabaseTableNamesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.database.GetDatabaseTableNamesResponse> asyncGetDatabaseTableNames(jpuppeteer.cdp.cdp.entity.database.GetDatabaseTableNamesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Database.getDatabaseTableNames", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.database.GetDatabaseTableNamesResponse>(future, jpuppeteer.cdp.cdp.entity.database.GetDatabaseTableNamesResponse.class);
+        return session.asyncSend("Database.getDatabaseTableNames", request, jpuppeteer.cdp.cdp.entity.database.GetDatabaseTableNamesResponse.class);
+    }
+
+    /**
+    * @see #getDatabaseTableNames
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.database.GetDatabaseTableNamesResponse> getDatabaseTableNamesAsync(jpuppeteer.cdp.cdp.entity.database.GetDatabaseTableNamesRequest request, int timeout) {
+        return session.sendAsync("Database.getDatabaseTableNames", request, jpuppeteer.cdp.cdp.entity.database.GetDatabaseTableNamesResponse.class, timeout);
     }
 }
\ No newline at end of file
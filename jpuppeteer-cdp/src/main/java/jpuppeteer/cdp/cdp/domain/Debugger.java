@@ -18,9 +18,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #continueToLocationAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncContinueToLocation(jpuppeteer.cdp.cdp.entity.debugger.ContinueToLocationRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.continueToLocation", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Debugger.continueToLocation", request, Void.class);
+    }
+
+    /**
+    * @see #continueToLocation
+    */
+    public java.util.concurrent.CompletionStage<Void> continueToLocationAsync(jpuppeteer.cdp.cdp.entity.debugger.ContinueToLocationRequest request, int timeout) {
+        return session.sendAsync("Debugger.continueToLocation", request, timeout);
     }
 
     /**
@@ -31,9 +41,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Debugger.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("Debugger.disable", null, timeout);
     }
 
     /**
@@ -44,9 +64,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.debugger.EnableResponse> asyncEnable(jpuppeteer.cdp.cdp.entity.debugger.EnableRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.enable", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.debugger.EnableResponse>(future, jpuppeteer.cdp.cdp.entity.debugger.EnableResponse.class);
+        return session.asyncSend("Debugger.enable", request, jpuppeteer.cdp.cdp.entity.debugger.EnableResponse.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.debugger.EnableResponse> enableAsync(jpuppeteer.cdp.cdp.entity.debugger.EnableRequest request, int timeout) {
+        return session.sendAsync("Debugger.enable", request, jpuppeteer.cdp.cdp.entity.debugger.EnableResponse.class, timeout);
     }
 
     /**
@@ -57,9 +87,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #evaluateOnCallFrameAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.debugger.EvaluateOnCallFrameResponse> asyncEvaluateOnCallFrame(jpuppeteer.cdp.cdp.entity.debugger.EvaluateOnCallFrameRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.evaluateOnCallFrame", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.debugger.EvaluateOnCallFrameResponse>(future, jpuppeteer.cdp.cdp.entity.debugger.EvaluateOnCallFrameResponse.class);
+        return session.asyncSend("Debugger.evaluateOnCallFrame", request, jpuppeteer.cdp.cdp.entity.debugger.EvaluateOnCallFrameResponse.class);
+    }
+
+    /**
+    * @see #evaluateOnCallFrame
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.debugger.EvaluateOnCallFrameResponse> evaluateOnCallFrameAsync(jpuppeteer.cdp.cdp.entity.debugger.EvaluateOnCallFrameRequest request, int timeout) {
+        return session.sendAsync("Debugger.evaluateOnCallFrame", request, jpuppeteer.cdp.cdp.entity.debugger.EvaluateOnCallFrameResponse.class, timeout);
     }
 
     /**
@@ -70,9 +110,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getPossibleBreakpointsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.debugger.GetPossibleBreakpointsResponse> asyncGetPossibleBreakpoints(jpuppeteer.cdp.cdp.entity.debugger.GetPossibleBreakpointsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.getPossibleBreakpoints", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.debugger.GetPossibleBreakpointsResponse>(future, jpuppeteer.cdp.cdp.entity.debugger.GetPossibleBreakpointsResponse.class);
+        return session.asyncSend("Debugger.getPossibleBreakpoints", request, jpuppeteer.cdp.cdp.entity.debugger.GetPossibleBreakpointsResponse.class);
+    }
+
+    /**
+    * @see #getPossibleBreakpoints
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.debugger.GetPossibleBreakpointsResponse> getPossibleBreakpointsAsync(jpuppeteer.cdp.cdp.entity.debugger.GetPossibleBreakpointsRequest request, int timeout) {
+        return session.sendAsync("Debugger.getPossibleBreakpoints", request, jpuppeteer.cdp.cdp.entity.debugger.GetPossibleBreakpointsResponse.class, timeout);
     }
 
     /**
@@ -83,9 +133,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getScriptSourceAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.debugger.GetScriptSourceResponse> asyncGetScriptSource(jpuppeteer.cdp.cdp.entity.debugger.GetScriptSourceRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.getScriptSource", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.debugger.GetScriptSourceResponse>(future, jpuppeteer.cdp.cdp.entity.debugger.GetScriptSourceResponse.class);
+        return session.asyncSend("Debugger.getScriptSource", request, jpuppeteer.cdp.cdp.entity.debugger.GetScriptSourceResponse.class);
+    }
+
+    /**
+    * @see #getScriptSource
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.debugger.GetScriptSourceResponse> getScriptSourceAsync(jpuppeteer.cdp.cdp.entity.debugger.GetScriptSourceRequest request, int timeout) {
+        return session.sendAsync("Debugger.getScriptSource", request, jpuppeteer.cdp.cdp.entity.debugger.GetScriptSourceResponse.class, timeout);
     }
 
     /**
@@ -96,9 +156,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getWasmBytecodeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.debugger.GetWasmBytecodeResponse> asyncGetWasmBytecode(jpuppeteer.cdp.cdp.entity.debugger.GetWasmBytecodeRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.getWasmBytecode", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.debugger.GetWasmBytecodeResponse>(future, jpuppeteer.cdp.cdp.entity.debugger.GetWasmBytecodeResponse.class);
+        return session.asyncSend("Debugger.getWasmBytecode", request, jpuppeteer.cdp.cdp.entity.debugger.GetWasmBytecodeResponse.class);
+    }
+
+    /**
+    * @see #getWasmBytecode
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.debugger.GetWasmBytecodeResponse> getWasmBytecodeAsync(jpuppeteer.cdp.cdp.entity.debugger.GetWasmBytecodeRequest request, int timeout) {
+        return session.sendAsync("Debugger.getWasmBytecode", request, jpuppeteer.cdp.cdp.entity.debugger.GetWasmBytecodeResponse.class, timeout);
     }
 
     /**
@@ -109,9 +179,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getStackTraceAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.debugger.GetStackTraceResponse> asyncGetStackTrace(jpuppeteer.cdp.cdp.entity.debugger.GetStackTraceRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.getStackTrace", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.debugger.GetStackTraceResponse>(future, jpuppeteer.cdp.cdp.entity.debugger.GetStackTraceResponse.class);
+        return session.asyncSend("Debugger.getStackTrace", request, jpuppeteer.cdp.cdp.entity.debugger.GetStackTraceResponse.class);
+    }
+
+    /**
+    * @see #getStackTrace
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.debugger.GetStackTraceResponse> getStackTraceAsync(jpuppeteer.cdp.cdp.entity.debugger.GetStackTraceRequest request, int timeout) {
+        return session.sendAsync("Debugger.getStackTrace", request, jpuppeteer.cdp.cdp.entity.debugger.GetStackTraceResponse.class, timeout);
     }
 
     /**
@@ -122,9 +202,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #pauseAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncPause() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.pause");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Debugger.pause", null, Void.class);
+    }
+
+    /**
+    * @see #pause
+    */
+    public java.util.concurrent.CompletionStage<Void> pauseAsync(int timeout) {
+        return session.sendAsync("Debugger.pause", null, timeout);
     }
 
     /**
@@ -134,9 +224,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #pauseOnAsyncCallAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncPauseOnAsyncCall(jpuppeteer.cdp.cdp.entity.debugger.PauseOnAsyncCallRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.pauseOnAsyncCall", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Debugger.pauseOnAsyncCall", request, Void.class);
+    }
+
+    /**
+    * @see #pauseOnAsyncCall
+    */
+    public java.util.concurrent.CompletionStage<Void> pauseOnAsyncCallAsync(jpuppeteer.cdp.cdp.entity.debugger.PauseOnAsyncCallRequest request, int timeout) {
+        return session.sendAsync("Debugger.pauseOnAsyncCall", request, timeout);
     }
 
     /**
@@ -147,9 +247,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #removeBreakpointAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncRemoveBreakpoint(jpuppeteer.cdp.cdp.entity.debugger.RemoveBreakpointRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.removeBreakpoint", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Debugger.removeBreakpoint", request, Void.class);
+    }
+
+    /**
+    * @see #removeBreakpoint
+    */
+    public java.util.concurrent.CompletionStage<Void> removeBreakpointAsync(jpuppeteer.cdp.cdp.entity.debugger.RemoveBreakpointRequest request, int timeout) {
+        return session.sendAsync("Debugger.removeBreakpoint", request, timeout);
     }
 
     /**
@@ -160,9 +270,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #restartFrameAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.debugger.RestartFrameResponse> asyncRestartFrame(jpuppeteer.cdp.cdp.entity.debugger.RestartFrameRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.restartFrame", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.debugger.RestartFrameResponse>(future, jpuppeteer.cdp.cdp.entity.debugger.RestartFrameResponse.class);
+        return session.asyncSend("Debugger.restartFrame", request, jpuppeteer.cdp.cdp.entity.debugger.RestartFrameResponse.class);
+    }
+
+    /**
+    * @see #restartFrame
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.debugger.RestartFrameResponse> restartFrameAsync(jpuppeteer.cdp.cdp.entity.debugger.RestartFrameRequest request, int timeout) {
+        return session.sendAsync("Debugger.restartFrame", request, jpuppeteer.cdp.cdp.entity.debugger.RestartFrameResponse.class, timeout);
     }
 
     /**
@@ -173,9 +293,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #resumeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncResume() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.resume");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Debugger.resume", null, Void.class);
+    }
+
+    /**
+    * @see #resume
+    */
+    public java.util.concurrent.CompletionStage<Void> resumeAsync(int timeout) {
+        return session.sendAsync("Debugger.resume", null, timeout);
     }
 
     /**
@@ -186,9 +316,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #searchInContentAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.debugger.SearchInContentResponse> asyncSearchInContent(jpuppeteer.cdp.cdp.entity.debugger.SearchInContentRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.searchInContent", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.debugger.SearchInContentResponse>(future, jpuppeteer.cdp.cdp.entity.debugger.SearchInContentResponse.class);
+        return session.asyncSend("Debugger.searchInContent", request, jpuppeteer.cdp.cdp.entity.debugger.SearchInContentResponse.class);
+    }
+
+    /**
+    * @see #searchInContent
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.debugger.SearchInContentResponse> searchInContentAsync(jpuppeteer.cdp.cdp.entity.debugger.SearchInContentRequest request, int timeout) {
+        return session.sendAsync("Debugger.searchInContent", request, jpuppeteer.cdp.cdp.entity.debugger.SearchInContentResponse.class, timeout);
     }
 
     /**
@@ -199,9 +339,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setAsyncCallStackDepthAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetAsyncCallStackDepth(jpuppeteer.cdp.cdp.entity.debugger.SetAsyncCallStackDepthRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.setAsyncCallStackDepth", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Debugger.setAsyncCallStackDepth", request, Void.class);
+    }
+
+    /**
+    * @see #setAsyncCallStackDepth
+    */
+    public java.util.concurrent.CompletionStage<Void> setAsyncCallStackDepthAsync(jpuppeteer.cdp.cdp.entity.debugger.SetAsyncCallStackDepthRequest request, int timeout) {
+        return session.sendAsync("Debugger.setAsyncCallStackDepth", request, timeout);
     }
 
     /**
@@ -212,9 +362,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setBlackboxPatternsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetBlackboxPatterns(jpuppeteer.cdp.cdp.entity.debugger.SetBlackboxPatternsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.setBlackboxPatterns", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Debugger.setBlackboxPatterns", request, Void.class);
+    }
+
+    /**
+    * @see #setBlackboxPatterns
+    */
+    public java.util.concurrent.CompletionStage<Void> setBlackboxPatternsAsync(jpuppeteer.cdp.cdp.entity.debugger.SetBlackboxPatternsRequest request, int timeout) {
+        return session.sendAsync("Debugger.setBlackboxPatterns", request, timeout);
     }
 
     /**
@@ -225,9 +385,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setBlackboxedRangesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetBlackboxedRanges(jpuppeteer.cdp.cdp.entity.debugger.SetBlackboxedRangesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.setBlackboxedRanges", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Debugger.setBlackboxedRanges", request, Void.class);
+    }
+
+    /**
+    * @see #setBlackboxedRanges
+    */
+    public java.util.concurrent.CompletionStage<Void> setBlackboxedRangesAsync(jpuppeteer.cdp.cdp.entity.debugger.SetBlackboxedRangesRequest request, int timeout) {
+        return session.sendAsync("Debugger.setBlackboxedRanges", request, timeout);
     }
 
     /**
@@ -238,9 +408,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setBreakpointAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointResponse> asyncSetBreakpoint(jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.setBreakpoint", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointResponse>(future, jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointResponse.class);
+        return session.asyncSend("Debugger.setBreakpoint", request, jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointResponse.class);
+    }
+
+    /**
+    * @see #setBreakpoint
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointResponse> setBreakpointAsync(jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointRequest request, int timeout) {
+        return session.sendAsync("Debugger.setBreakpoint", request, jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointResponse.class, timeout);
     }
 
     /**
@@ -251,9 +431,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setInstrumentationBreakpointAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.debugger.SetInstrumentationBreakpointResponse> asyncSetInstrumentationBreakpoint(jpuppeteer.cdp.cdp.entity.debugger.SetInstrumentationBreakpointRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.setInstrumentationBreakpoint", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.debugger.SetInstrumentationBreakpointResponse>(future, jpuppeteer.cdp.cdp.entity.debugger.SetInstrumentationBreakpointResponse.class);
+        return session.asyncSend("Debugger.setInstrumentationBreakpoint", request, jpuppeteer.cdp.cdp.entity.debugger.SetInstrumentationBreakpointResponse.class);
+    }
+
+    /**
+    * @see #setInstrumentationBreakpoint
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.debugger.SetInstrumentationBreakpointResponse> setInstrumentationBreakpointAsync(jpuppeteer.cdp.cdp.entity.debugger.SetInstrumentationBreakpointRequest request, int timeout) {
+        return session.sendAsync("Debugger.setInstrumentationBreakpoint", request, jpuppeteer.cdp.cdp.entity.debugger.SetInstrumentationBreakpointResponse.class, timeout);
     }
 
     /**
@@ -264,9 +454,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setBreakpointByUrlAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointByUrlResponse> asyncSetBreakpointByUrl(jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointByUrlRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.setBreakpointByUrl", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointByUrlResponse>(future, jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointByUrlResponse.class);
+        return session.asyncSend("Debugger.setBreakpointByUrl", request, jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointByUrlResponse.class);
+    }
+
+    /**
+    * @see #setBreakpointByUrl
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointByUrlResponse> setBreakpointByUrlAsync(jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointByUrlRequest request, int timeout) {
+        return session.sendAsync("Debugger.setBreakpointByUrl", request, jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointByUrlResponse.class, timeout);
     }
 
     /**
@@ -277,9 +477,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setBreakpointOnFunctionCallAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointOnFunctionCallResponse> asyncSetBreakpointOnFunctionCall(jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointOnFunctionCallRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.setBreakpointOnFunctionCall", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointOnFunctionCallResponse>(future, jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointOnFunctionCallResponse.class);
+        return session.asyncSend("Debugger.setBreakpointOnFunctionCall", request, jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointOnFunctionCallResponse.class);
+    }
+
+    /**
+    * @see #setBreakpointOnFunctionCall
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointOnFunctionCallResponse> setBreakpointOnFunctionCallAsync(jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointOnFunctionCallRequest request, int timeout) {
+        return session.sendAsync("Debugger.setBreakpointOnFunctionCall", request, jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointOnFunctionCallResponse.class, timeout);
     }
 
     /**
@@ -290,9 +500,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setBreakpointsActiveAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetBreakpointsActive(jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointsActiveRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.setBreakpointsActive", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Debugger.setBreakpointsActive", request, Void.class);
+    }
+
+    /**
+    * @see #setBreakpointsActive
+    */
+    public java.util.concurrent.CompletionStage<Void> setBreakpointsActiveAsync(jpuppeteer.cdp.cdp.entity.debugger.SetBreakpointsActiveRequest request, int timeout) {
+        return session.sendAsync("Debugger.setBreakpointsActive", request, timeout);
     }
 
     /**
@@ -303,9 +523,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setPauseOnExceptionsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetPauseOnExceptions(jpuppeteer.cdp.cdp.entity.debugger.SetPauseOnExceptionsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.setPauseOnExceptions", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Debugger.setPauseOnExceptions", request, Void.class);
+    }
+
+    /**
+    * @see #setPauseOnExceptions
+    */
+    public java.util.concurrent.CompletionStage<Void> setPauseOnExceptionsAsync(jpuppeteer.cdp.cdp.entity.debugger.SetPauseOnExceptionsRequest request, int timeout) {
+        return session.sendAsync("Debugger.setPauseOnExceptions", request, timeout);
     }
 
     /**
@@ -316,9 +546,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setReturnValueAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetReturnValue(jpuppeteer.cdp.cdp.entity.debugger.SetReturnValueRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.setReturnValue", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Debugger.setReturnValue", request, Void.class);
+    }
+
+    /**
+    * @see #setReturnValue
+    */
+    public java.util.concurrent.CompletionStage<Void> setReturnValueAsync(jpuppeteer.cdp.cdp.entity.debugger.SetReturnValueRequest request, int timeout) {
+        return session.sendAsync("Debugger.setReturnValue", request, timeout);
     }
 
     /**
@@ -329,9 +569,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setScriptSourceAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.debugger.SetScriptSourceResponse> asyncSetScriptSource(jpuppeteer.cdp.cdp.entity.debugger.SetScriptSourceRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.setScriptSource", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.debugger.SetScriptSourceResponse>(future, jpuppeteer.cdp.cdp.entity.debugger.SetScriptSourceResponse.class);
+        return session.asyncSend("Debugger.setScriptSource", request, jpuppeteer.cdp.cdp.entity.debugger.SetScriptSourceResponse.class);
+    }
+
+    /**
+    * @see #setScriptSource
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.debugger.SetScriptSourceResponse> setScriptSourceAsync(jpuppeteer.cdp.cdp.entity.debugger.SetScriptSourceRequest request, int timeout) {
+        return session.sendAsync("Debugger.setScriptSource", request, jpuppeteer.cdp.cdp.entity.debugger.SetScriptSourceResponse.class, timeout);
     }
 
     /**
@@ -342,9 +592,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setSkipAllPausesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetSkipAllPauses(jpuppeteer.cdp.cdp.entity.debugger.SetSkipAllPausesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.setSkipAllPauses", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Debugger.setSkipAllPauses", request, Void.class);
+    }
+
+    /**
+    * @see #setSkipAllPauses
+    */
+    public java.util.concurrent.CompletionStage<Void> setSkipAllPausesAsync(jpuppeteer.cdp.cdp.entity.debugger.SetSkipAllPausesRequest request, int timeout) {
+        return session.sendAsync("Debugger.setSkipAllPauses", request, timeout);
     }
 
     /**
@@ -355,9 +615,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setVariableValueAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetVariableValue(jpuppeteer.cdp.cdp.entity.debugger.SetVariableValueRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.setVariableValue", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Debugger.setVariableValue", request, Void.class);
+    }
+
+    /**
+    * @see #setVariableValue
+    */
+    public java.util.concurrent.CompletionStage<Void> setVariableValueAsync(jpuppeteer.cdp.cdp.entity.debugger.SetVariableValueRequest request, int timeout) {
+        return session.sendAsync("Debugger.setVariableValue", request, timeout);
     }
 
     /**
@@ -368,9 +638,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #stepIntoAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStepInto(jpuppeteer.cdp.cdp.entity.debugger.StepIntoRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.stepInto", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Debugger.stepInto", request, Void.class);
+    }
+
+    /**
+    * @see #stepInto
+    */
+    public java.util.concurrent.CompletionStage<Void> stepIntoAsync(jpuppeteer.cdp.cdp.entity.debugger.StepIntoRequest request, int timeout) {
+        return session.sendAsync("Debugger.stepInto", request, timeout);
     }
 
     /**
@@ -381,9 +661,19 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #stepOutAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStepOut() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.stepOut");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Debugger.stepOut", null, Void.class);
+    }
+
+    /**
+    * @see #stepOut
+    */
+    public java.util.concurrent.CompletionStage<Void> stepOutAsync(int timeout) {
+        return session.sendAsync("Debugger.stepOut", null, timeout);
     }
 
     /**
@@ -394,8 +684,18 @@ public class Debugger {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #stepOverAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStepOver() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Debugger.stepOver");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Debugger.stepOver", null, Void.class);
+    }
+
+    /**
+    * @see #stepOver
+    */
+    public java.util.concurrent.CompletionStage<Void> stepOverAsync(int timeout) {
+        return session.sendAsync("Debugger.stepOver", null, timeout);
     }
 }
\ No newline at end of file
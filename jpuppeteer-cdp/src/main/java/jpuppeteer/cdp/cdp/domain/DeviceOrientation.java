@@ -20,9 +20,19 @@ public class DeviceOrientation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #clearDeviceOrientationOverrideAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClearDeviceOrientationOverride() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DeviceOrientation.clearDeviceOrientationOverride");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DeviceOrientation.clearDeviceOrientationOverride", null, Void.class);
+    }
+
+    /**
+    * @see #clearDeviceOrientationOverride
+    */
+    public java.util.concurrent.CompletionStage<Void> clearDeviceOrientationOverrideAsync(int timeout) {
+        return session.sendAsync("DeviceOrientation.clearDeviceOrientationOverride", null, timeout);
     }
 
     /**
@@ -34,8 +44,18 @@ public class DeviceOrientation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setDeviceOrientationOverrideAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetDeviceOrientationOverride(jpuppeteer.cdp.cdp.entity.deviceorientation.SetDeviceOrientationOverrideRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("DeviceOrientation.setDeviceOrientationOverride", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("DeviceOrientation.setDeviceOrientationOverride", request, Void.class);
+    }
+
+    /**
+    * @see #setDeviceOrientationOverride
+    */
+    public java.util.concurrent.CompletionStage<Void> setDeviceOrientationOverrideAsync(jpuppeteer.cdp.cdp.entity.deviceorientation.SetDeviceOrientationOverrideRequest request, int timeout) {
+        return session.sendAsync("DeviceOrientation.setDeviceOrientationOverride", request, timeout);
     }
 }
\ No newline at end of file
@@ -18,9 +18,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #canEmulateAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.emulation.CanEmulateResponse> asyncCanEmulate() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.canEmulate");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.emulation.CanEmulateResponse>(future, jpuppeteer.cdp.cdp.entity.emulation.CanEmulateResponse.class);
+        return session.asyncSend("Emulation.canEmulate", null, jpuppeteer.cdp.cdp.entity.emulation.CanEmulateResponse.class);
+    }
+
+    /**
+    * @see #canEmulate
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.emulation.CanEmulateResponse> canEmulateAsync(int timeout) {
+        return session.sendAsync("Emulation.canEmulate", null, jpuppeteer.cdp.cdp.entity.emulation.CanEmulateResponse.class, timeout);
     }
 
     /**
@@ -31,9 +41,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #clearDeviceMetricsOverrideAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClearDeviceMetricsOverride() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.clearDeviceMetricsOverride");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Emulation.clearDeviceMetricsOverride", null, Void.class);
+    }
+
+    /**
+    * @see #clearDeviceMetricsOverride
+    */
+    public java.util.concurrent.CompletionStage<Void> clearDeviceMetricsOverrideAsync(int timeout) {
+        return session.sendAsync("Emulation.clearDeviceMetricsOverride", null, timeout);
     }
 
     /**
@@ -44,9 +64,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #clearGeolocationOverrideAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClearGeolocationOverride() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.clearGeolocationOverride");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Emulation.clearGeolocationOverride", null, Void.class);
+    }
+
+    /**
+    * @see #clearGeolocationOverride
+    */
+    public java.util.concurrent.CompletionStage<Void> clearGeolocationOverrideAsync(int timeout) {
+        return session.sendAsync("Emulation.clearGeolocationOverride", null, timeout);
     }
 
     /**
@@ -57,9 +87,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #resetPageScaleFactorAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncResetPageScaleFactor() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.resetPageScaleFactor");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Emulation.resetPageScaleFactor", null, Void.class);
+    }
+
+    /**
+    * @see #resetPageScaleFactor
+    */
+    public java.util.concurrent.CompletionStage<Void> resetPageScaleFactorAsync(int timeout) {
+        return session.sendAsync("Emulation.resetPageScaleFactor", null, timeout);
     }
 
     /**
@@ -70,9 +110,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setFocusEmulationEnabledAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetFocusEmulationEnabled(jpuppeteer.cdp.cdp.entity.emulation.SetFocusEmulationEnabledRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.setFocusEmulationEnabled", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Emulation.setFocusEmulationEnabled", request, Void.class);
+    }
+
+    /**
+    * @see #setFocusEmulationEnabled
+    */
+    public java.util.concurrent.CompletionStage<Void> setFocusEmulationEnabledAsync(jpuppeteer.cdp.cdp.entity.emulation.SetFocusEmulationEnabledRequest request, int timeout) {
+        return session.sendAsync("Emulation.setFocusEmulationEnabled", request, timeout);
     }
 
     /**
@@ -83,9 +133,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setCPUThrottlingRateAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetCPUThrottlingRate(jpuppeteer.cdp.cdp.entity.emulation.SetCPUThrottlingRateRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.setCPUThrottlingRate", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Emulation.setCPUThrottlingRate", request, Void.class);
+    }
+
+    /**
+    * @see #setCPUThrottlingRate
+    */
+    public java.util.concurrent.CompletionStage<Void> setCPUThrottlingRateAsync(jpuppeteer.cdp.cdp.entity.emulation.SetCPUThrottlingRateRequest request, int timeout) {
+        return session.sendAsync("Emulation.setCPUThrottlingRate", request, timeout);
     }
 
     /**
@@ -96,9 +156,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setDefaultBackgroundColorOverrideAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetDefaultBackgroundColorOverride(jpuppeteer.cdp.cdp.entity.emulation.SetDefaultBackgroundColorOverrideRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.setDefaultBackgroundColorOverride", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Emulation.setDefaultBackgroundColorOverride", request, Void.class);
+    }
+
+    /**
+    * @see #setDefaultBackgroundColorOverride
+    */
+    public java.util.concurrent.CompletionStage<Void> setDefaultBackgroundColorOverrideAsync(jpuppeteer.cdp.cdp.entity.emulation.SetDefaultBackgroundColorOverrideRequest request, int timeout) {
+        return session.sendAsync("Emulation.setDefaultBackgroundColorOverride", request, timeout);
     }
 
     /**
@@ -109,9 +179,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setDeviceMetricsOverrideAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetDeviceMetricsOverride(jpuppeteer.cdp.cdp.entity.emulation.SetDeviceMetricsOverrideRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.setDeviceMetricsOverride", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Emulation.setDeviceMetricsOverride", request, Void.class);
+    }
+
+    /**
+    * @see #setDeviceMetricsOverride
+    */
+    public java.util.concurrent.CompletionStage<Void> setDeviceMetricsOverrideAsync(jpuppeteer.cdp.cdp.entity.emulation.SetDeviceMetricsOverrideRequest request, int timeout) {
+        return session.sendAsync("Emulation.setDeviceMetricsOverride", request, timeout);
     }
 
     /**
@@ -121,9 +201,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setScrollbarsHiddenAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetScrollbarsHidden(jpuppeteer.cdp.cdp.entity.emulation.SetScrollbarsHiddenRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.setScrollbarsHidden", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Emulation.setScrollbarsHidden", request, Void.class);
+    }
+
+    /**
+    * @see #setScrollbarsHidden
+    */
+    public java.util.concurrent.CompletionStage<Void> setScrollbarsHiddenAsync(jpuppeteer.cdp.cdp.entity.emulation.SetScrollbarsHiddenRequest request, int timeout) {
+        return session.sendAsync("Emulation.setScrollbarsHidden", request, timeout);
     }
 
     /**
@@ -133,9 +223,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setDocumentCookieDisabledAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetDocumentCookieDisabled(jpuppeteer.cdp.cdp.entity.emulation.SetDocumentCookieDisabledRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.setDocumentCookieDisabled", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Emulation.setDocumentCookieDisabled", request, Void.class);
+    }
+
+    /**
+    * @see #setDocumentCookieDisabled
+    */
+    public java.util.concurrent.CompletionStage<Void> setDocumentCookieDisabledAsync(jpuppeteer.cdp.cdp.entity.emulation.SetDocumentCookieDisabledRequest request, int timeout) {
+        return session.sendAsync("Emulation.setDocumentCookieDisabled", request, timeout);
     }
 
     /**
@@ -145,9 +245,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setEmitTouchEventsForMouseAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetEmitTouchEventsForMouse(jpuppeteer.cdp.cdp.entity.emulation.SetEmitTouchEventsForMouseRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.setEmitTouchEventsForMouse", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Emulation.setEmitTouchEventsForMouse", request, Void.class);
+    }
+
+    /**
+    * @see #setEmitTouchEventsForMouse
+    */
+    public java.util.concurrent.CompletionStage<Void> setEmitTouchEventsForMouseAsync(jpuppeteer.cdp.cdp.entity.emulation.SetEmitTouchEventsForMouseRequest request, int timeout) {
+        return session.sendAsync("Emulation.setEmitTouchEventsForMouse", request, timeout);
     }
 
     /**
@@ -158,9 +268,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setEmulatedMediaAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetEmulatedMedia(jpuppeteer.cdp.cdp.entity.emulation.SetEmulatedMediaRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.setEmulatedMedia", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Emulation.setEmulatedMedia", request, Void.class);
+    }
+
+    /**
+    * @see #setEmulatedMedia
+    */
+    public java.util.concurrent.CompletionStage<Void> setEmulatedMediaAsync(jpuppeteer.cdp.cdp.entity.emulation.SetEmulatedMediaRequest request, int timeout) {
+        return session.sendAsync("Emulation.setEmulatedMedia", request, timeout);
     }
 
     /**
@@ -171,9 +291,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setGeolocationOverrideAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetGeolocationOverride(jpuppeteer.cdp.cdp.entity.emulation.SetGeolocationOverrideRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.setGeolocationOverride", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Emulation.setGeolocationOverride", request, Void.class);
+    }
+
+    /**
+    * @see #setGeolocationOverride
+    */
+    public java.util.concurrent.CompletionStage<Void> setGeolocationOverrideAsync(jpuppeteer.cdp.cdp.entity.emulation.SetGeolocationOverrideRequest request, int timeout) {
+        return session.sendAsync("Emulation.setGeolocationOverride", request, timeout);
     }
 
     /**
@@ -184,9 +314,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setNavigatorOverridesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetNavigatorOverrides(jpuppeteer.cdp.cdp.entity.emulation.SetNavigatorOverridesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.setNavigatorOverrides", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Emulation.setNavigatorOverrides", request, Void.class);
+    }
+
+    /**
+    * @see #setNavigatorOverrides
+    */
+    public java.util.concurrent.CompletionStage<Void> setNavigatorOverridesAsync(jpuppeteer.cdp.cdp.entity.emulation.SetNavigatorOverridesRequest request, int timeout) {
+        return session.sendAsync("Emulation.setNavigatorOverrides", request, timeout);
     }
 
     /**
@@ -197,9 +337,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setPageScaleFactorAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetPageScaleFactor(jpuppeteer.cdp.cdp.entity.emulation.SetPageScaleFactorRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.setPageScaleFactor", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Emulation.setPageScaleFactor", request, Void.class);
+    }
+
+    /**
+    * @see #setPageScaleFactor
+    */
+    public java.util.concurrent.CompletionStage<Void> setPageScaleFactorAsync(jpuppeteer.cdp.cdp.entity.emulation.SetPageScaleFactorRequest request, int timeout) {
+        return session.sendAsync("Emulation.setPageScaleFactor", request, timeout);
     }
 
     /**
@@ -210,9 +360,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setScriptExecutionDisabledAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetScriptExecutionDisabled(jpuppeteer.cdp.cdp.entity.emulation.SetScriptExecutionDisabledRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.setScriptExecutionDisabled", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Emulation.setScriptExecutionDisabled", request, Void.class);
+    }
+
+    /**
+    * @see #setScriptExecutionDisabled
+    */
+    public java.util.concurrent.CompletionStage<Void> setScriptExecutionDisabledAsync(jpuppeteer.cdp.cdp.entity.emulation.SetScriptExecutionDisabledRequest request, int timeout) {
+        return session.sendAsync("Emulation.setScriptExecutionDisabled", request, timeout);
     }
 
     /**
@@ -223,9 +383,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setTouchEmulationEnabledAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetTouchEmulationEnabled(jpuppeteer.cdp.cdp.entity.emulation.SetTouchEmulationEnabledRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.setTouchEmulationEnabled", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Emulation.setTouchEmulationEnabled", request, Void.class);
+    }
+
+    /**
+    * @see #setTouchEmulationEnabled
+    */
+    public java.util.concurrent.CompletionStage<Void> setTouchEmulationEnabledAsync(jpuppeteer.cdp.cdp.entity.emulation.SetTouchEmulationEnabledRequest request, int timeout) {
+        return session.sendAsync("Emulation.setTouchEmulationEnabled", request, timeout);
     }
 
     /**
@@ -236,9 +406,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setVirtualTimePolicyAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.emulation.SetVirtualTimePolicyResponse> asyncSetVirtualTimePolicy(jpuppeteer.cdp.cdp.entity.emulation.SetVirtualTimePolicyRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.setVirtualTimePolicy", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.emulation.SetVirtualTimePolicyResponse>(future, jpuppeteer.cdp.cdp.entity.emulation.SetVirtualTimePolicyResponse.class);
+        return session.asyncSend("Emulation.setVirtualTimePolicy", request, jpuppeteer.cdp.cdp.entity.emulation.SetVirtualTimePolicyResponse.class);
+    }
+
+    /**
+    * @see #setVirtualTimePolicy
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.emulation.SetVirtualTimePolicyResponse> setVirtualTimePolicyAsync(jpuppeteer.cdp.cdp.entity.emulation.SetVirtualTimePolicyRequest request, int timeout) {
+        return session.sendAsync("Emulation.setVirtualTimePolicy", request, jpuppeteer.cdp.cdp.entity.emulation.SetVirtualTimePolicyResponse.class, timeout);
     }
 
     /**
@@ -249,9 +429,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setTimezoneOverrideAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetTimezoneOverride(jpuppeteer.cdp.cdp.entity.emulation.SetTimezoneOverrideRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.setTimezoneOverride", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Emulation.setTimezoneOverride", request, Void.class);
+    }
+
+    /**
+    * @see #setTimezoneOverride
+    */
+    public java.util.concurrent.CompletionStage<Void> setTimezoneOverrideAsync(jpuppeteer.cdp.cdp.entity.emulation.SetTimezoneOverrideRequest request, int timeout) {
+        return session.sendAsync("Emulation.setTimezoneOverride", request, timeout);
     }
 
     /**
@@ -262,9 +452,19 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setVisibleSizeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetVisibleSize(jpuppeteer.cdp.cdp.entity.emulation.SetVisibleSizeRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.setVisibleSize", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Emulation.setVisibleSize", request, Void.class);
+    }
+
+    /**
+    * @see #setVisibleSize
+    */
+    public java.util.concurrent.CompletionStage<Void> setVisibleSizeAsync(jpuppeteer.cdp.cdp.entity.emulation.SetVisibleSizeRequest request, int timeout) {
+        return session.sendAsync("Emulation.setVisibleSize", request, timeout);
     }
 
     /**
@@ -275,8 +475,18 @@ public class Emulation {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setUserAgentOverrideAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetUserAgentOverride(jpuppeteer.cdp.cdp.entity.emulation.SetUserAgentOverrideRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Emulation.setUserAgentOverride", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Emulation.setUserAgentOverride", request, Void.class);
+    }
+
+    /**
+    * @see #setUserAgentOverride
+    */
+    public java.util.concurrent.CompletionStage<Void> setUserAgentOverrideAsync(jpuppeteer.cdp.cdp.entity.emulation.SetUserAgentOverrideRequest request, int timeout) {
+        return session.sendAsync("Emulation.setUserAgentOverride", request, timeout);
     }
 }
\ No newline at end of file
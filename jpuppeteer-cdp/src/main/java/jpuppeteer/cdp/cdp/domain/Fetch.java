@@ -20,9 +20,19 @@ public class Fetch {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Fetch.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Fetch.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("Fetch.disable", null, timeout);
     }
 
     /**
@@ -34,9 +44,19 @@ public class Fetch {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable(jpuppeteer.cdp.cdp.entity.fetch.EnableRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Fetch.enable", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Fetch.enable", request, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(jpuppeteer.cdp.cdp.entity.fetch.EnableRequest request, int timeout) {
+        return session.sendAsync("Fetch.enable", request, timeout);
     }
 
     /**
@@ -48,9 +68,19 @@ public class Fetch {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #failRequestAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncFailRequest(jpuppeteer.cdp.cdp.entity.fetch.FailRequestRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Fetch.failRequest", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Fetch.failRequest", request, Void.class);
+    }
+
+    /**
+    * @see #failRequest
+    */
+    public java.util.concurrent.CompletionStage<Void> failRequestAsync(jpuppeteer.cdp.cdp.entity.fetch.FailRequestRequest request, int timeout) {
+        return session.sendAsync("Fetch.failRequest", request, timeout);
     }
 
     /**
@@ -62,9 +92,19 @@ public class Fetch {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #fulfillRequestAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncFulfillRequest(jpuppeteer.cdp.cdp.entity.fetch.FulfillRequestRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Fetch.fulfillRequest", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Fetch.fulfillRequest", request, Void.class);
+    }
+
+    /**
+    * @see #fulfillRequest
+    */
+    public java.util.concurrent.CompletionStage<Void> fulfillRequestAsync(jpuppeteer.cdp.cdp.entity.fetch.FulfillRequestRequest request, int timeout) {
+        return session.sendAsync("Fetch.fulfillRequest", request, timeout);
     }
 
     /**
@@ -76,9 +116,19 @@ public class Fetch {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #continueRequestAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncContinueRequest(jpuppeteer.cdp.cdp.entity.fetch.ContinueRequestRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Fetch.continueRequest", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Fetch.continueRequest", request, Void.class);
+    }
+
+    /**
+    * @see #continueRequest
+    */
+    public java.util.concurrent.CompletionStage<Void> continueRequestAsync(jpuppeteer.cdp.cdp.entity.fetch.ContinueRequestRequest request, int timeout) {
+        return session.sendAsync("Fetch.continueRequest", request, timeout);
     }
 
     /**
@@ -90,9 +140,19 @@ public class Fetch {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #continueWithAuthAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncContinueWithAuth(jpuppeteer.cdp.cdp.entity.fetch.ContinueWithAuthRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Fetch.continueWithAuth", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Fetch.continueWithAuth", request, Void.class);
+    }
+
+    /**
+    * @see #continueWithAuth
+    */
+    public java.util.concurrent.CompletionStage<Void> continueWithAuthAsync(jpuppeteer.cdp.cdp.entity.fetch.ContinueWithAuthRequest request, int timeout) {
+        return session.sendAsync("Fetch.continueWithAuth", request, timeout);
     }
 
     /**
@@ -104,9 +164,19 @@ public class Fetch {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getResponseBodyAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.fetch.GetResponseBodyResponse> asyncGetResponseBody(jpuppeteer.cdp.cdp.entity.fetch.GetResponseBodyRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Fetch.getResponseBody", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.fetch.GetResponseBodyResponse>(future, jpuppeteer.cdp.cdp.entity.fetch.GetResponseBodyResponse.class);
+        return session.asyncSend("Fetch.getResponseBody", request, jpuppeteer.cdp.cdp.entity.fetch.GetResponseBodyResponse.class);
+    }
+
+    /**
+    * @see #getResponseBody
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.fetch.GetResponseBodyResponse> getResponseBodyAsync(jpuppeteer.cdp.cdp.entity.fetch.GetResponseBodyRequest request, int timeout) {
+        return session.sendAsync("Fetch.getResponseBody", request, jpuppeteer.cdp.cdp.entity.fetch.GetResponseBodyResponse.class, timeout);
     }
 
     /**
@@ -118,8 +188,18 @@ public class Fetch {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #takeResponseBodyAsStreamAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.fetch.TakeResponseBodyAsStreamResponse> asyncTakeResponseBodyAsStream(jpuppeteer.cdp.cdp.entity.fetch.TakeResponseBodyAsStreamRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Fetch.takeResponseBodyAsStream", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.fetch.TakeResponseBodyAsStreamResponse>(future, jpuppeteer.cdp.cdp.entity.fetch.TakeResponseBodyAsStreamResponse.class);
+        return session.asyncSend("Fetch.takeResponseBodyAsStream", request, jpuppeteer.cdp.cdp.entity.fetch.TakeResponseBodyAsStreamResponse.class);
+    }
+
+    /**
+    * @see #takeResponseBodyAsStream
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.fetch.TakeResponseBodyAsStreamResponse> takeResponseBodyAsStreamAsync(jpuppeteer.cdp.cdp.entity.fetch.TakeResponseBodyAsStreamRequest request, int timeout) {
+        return session.sendAsync("Fetch.takeResponseBodyAsStream", request, jpuppeteer.cdp.cdp.entity.fetch.TakeResponseBodyAsStreamResponse.class, timeout);
     }
 }
\ No newline at end of file
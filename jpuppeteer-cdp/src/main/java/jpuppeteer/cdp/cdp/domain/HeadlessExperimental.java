@@ -20,9 +20,19 @@ public class HeadlessExperimental {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #beginFrameAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.headlessexperimental.BeginFrameResponse> asyncBeginFrame(jpuppeteer.cdp.cdp.entity.headlessexperimental.BeginFrameRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("HeadlessExperimental.beginFrame", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.headlessexperimental.BeginFrameResponse>(future, jpuppeteer.cdp.cdp.entity.headlessexperimental.BeginFrameResponse.class);
+        return session.asyncSend("HeadlessExperimental.beginFrame", request, jpuppeteer.cdp.cdp.entity.headlessexperimental.BeginFrameResponse.class);
+    }
+
+    /**
+    * @see #beginFrame
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.headlessexperimental.BeginFrameResponse> beginFrameAsync(jpuppeteer.cdp.cdp.entity.headlessexperimental.BeginFrameRequest request, int timeout) {
+        return session.sendAsync("HeadlessExperimental.beginFrame", request, jpuppeteer.cdp.cdp.entity.headlessexperimental.BeginFrameResponse.class, timeout);
     }
 
     /**
@@ -34,9 +44,19 @@ public class HeadlessExperimental {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("HeadlessExperimental.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("HeadlessExperimental.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("HeadlessExperimental.disable", null, timeout);
     }
 
     /**
@@ -48,8 +68,18 @@ public class HeadlessExperimental {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("HeadlessExperimental.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("HeadlessExperimental.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("HeadlessExperimental.enable", null, timeout);
     }
 }
\ No newline at end of file
@@ -20,9 +20,19 @@ public class HeapProfiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #addInspectedHeapObjectAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncAddInspectedHeapObject(jpuppeteer.cdp.cdp.entity.heapprofiler.AddInspectedHeapObjectRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("HeapProfiler.addInspectedHeapObject", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("HeapProfiler.addInspectedHeapObject", request, Void.class);
+    }
+
+    /**
+    * @see #addInspectedHeapObject
+    */
+    public java.util.concurrent.CompletionStage<Void> addInspectedHeapObjectAsync(jpuppeteer.cdp.cdp.entity.heapprofiler.AddInspectedHeapObjectRequest request, int timeout) {
+        return session.sendAsync("HeapProfiler.addInspectedHeapObject", request, timeout);
     }
 
     /**
@@ -33,9 +43,19 @@ public class HeapProfiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #collectGarbageAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncCollectGarbage() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("HeapProfiler.collectGarbage");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("HeapProfiler.collectGarbage", null, Void.class);
+    }
+
+    /**
+    * @see #collectGarbage
+    */
+    public java.util.concurrent.CompletionStage<Void> collectGarbageAsync(int timeout) {
+        return session.sendAsync("HeapProfiler.collectGarbage", null, timeout);
     }
 
     /**
@@ -46,9 +66,19 @@ public class HeapProfiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("HeapProfiler.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("HeapProfiler.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("HeapProfiler.disable", null, timeout);
     }
 
     /**
@@ -59,9 +89,19 @@ public class HeapProfiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("HeapProfiler.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("HeapProfiler.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("HeapProfiler.enable", null, timeout);
     }
 
     /**
@@ -72,9 +112,19 @@ public class HeapProfiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getHeapObjectIdAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.heapprofiler.GetHeapObjectIdResponse> asyncGetHeapObjectId(jpuppeteer.cdp.cdp.entity.heapprofiler.GetHeapObjectIdRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("HeapProfiler.getHeapObjectId", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.heapprofiler.GetHeapObjectIdResponse>(future, jpuppeteer.cdp.cdp.entity.heapprofiler.GetHeapObjectIdResponse.class);
+        return session.asyncSend("HeapProfiler.getHeapObjectId", request, jpuppeteer.cdp.cdp.entity.heapprofiler.GetHeapObjectIdResponse.class);
+    }
+
+    /**
+    * @see #getHeapObjectId
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.heapprofiler.GetHeapObjectIdResponse> getHeapObjectIdAsync(jpuppeteer.cdp.cdp.entity.heapprofiler.GetHeapObjectIdRequest request, int timeout) {
+        return session.sendAsync("HeapProfiler.getHeapObjectId", request, jpuppeteer.cdp.cdp.entity.heapprofiler.GetHeapObjectIdResponse.class, timeout);
     }
 
     /**
@@ -85,9 +135,19 @@ public class HeapProfiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getObjectByHeapObjectIdAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.heapprofiler.GetObjectByHeapObjectIdResponse> asyncGetObjectByHeapObjectId(jpuppeteer.cdp.cdp.entity.heapprofiler.GetObjectByHeapObjectIdRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("HeapProfiler.getObjectByHeapObjectId", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.heapprofiler.GetObjectByHeapObjectIdResponse>(future, jpuppeteer.cdp.cdp.entity.heapprofiler.GetObjectByHeapObjectIdResponse.class);
+        return session.asyncSend("HeapProfiler.getObjectByHeapObjectId", request, jpuppeteer.cdp.cdp.entity.heapprofiler.GetObjectByHeapObjectIdResponse.class);
+    }
+
+    /**
+    * @see #getObjectByHeapObjectId
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.heapprofiler.GetObjectByHeapObjectIdResponse> getObjectByHeapObjectIdAsync(jpuppeteer.cdp.cdp.entity.heapprofiler.GetObjectByHeapObjectIdRequest request, int timeout) {
+        return session.sendAsync("HeapProfiler.getObjectByHeapObjectId", request, jpuppeteer.cdp.cdp.entity.heapprofiler.GetObjectByHeapObjectIdResponse.class, timeout);
     }
 
     /**
@@ -98,9 +158,19 @@ public class HeapProfiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getSamplingProfileAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.heapprofiler.GetSamplingProfileResponse> asyncGetSamplingProfile() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("HeapProfiler.getSamplingProfile");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.heapprofiler.GetSamplingProfileResponse>(future, jpuppeteer.cdp.cdp.entity.heapprofiler.GetSamplingProfileResponse.class);
+        return session.asyncSend("HeapProfiler.getSamplingProfile", null, jpuppeteer.cdp.cdp.entity.heapprofiler.GetSamplingProfileResponse.class);
+    }
+
+    /**
+    * @see #getSamplingProfile
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.heapprofiler.GetSamplingProfileResponse> getSamplingProfileAsync(int timeout) {
+        return session.sendAsync("HeapProfiler.getSamplingProfile", null, jpuppeteer.cdp.cdp.entity.heapprofiler.GetSamplingProfileResponse.class, timeout);
     }
 
     /**
@@ -111,9 +181,19 @@ public class HeapProfiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #startSamplingAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStartSampling(jpuppeteer.cdp.cdp.entity.heapprofiler.StartSamplingRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("HeapProfiler.startSampling", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("HeapProfiler.startSampling", request, Void.class);
+    }
+
+    /**
+    * @see #startSampling
+    */
+    public java.util.concurrent.CompletionStage<Void> startSamplingAsync(jpuppeteer.cdp.cdp.entity.heapprofiler.StartSamplingRequest request, int timeout) {
+        return session.sendAsync("HeapProfiler.startSampling", request, timeout);
     }
 
     /**
@@ -124,9 +204,19 @@ public class HeapProfiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #startTrackingHeapObjectsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStartTrackingHeapObjects(jpuppeteer.cdp.cdp.entity.heapprofiler.StartTrackingHeapObjectsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("HeapProfiler.startTrackingHeapObjects", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("HeapProfiler.startTrackingHeapObjects", request, Void.class);
+    }
+
+    /**
+    * @see #startTrackingHeapObjects
+    */
+    public java.util.concurrent.CompletionStage<Void> startTrackingHeapObjectsAsync(jpuppeteer.cdp.cdp.entity.heapprofiler.StartTrackingHeapObjectsRequest request, int timeout) {
+        return session.sendAsync("HeapProfiler.startTrackingHeapObjects", request, timeout);
     }
 
     /**
@@ -137,9 +227,19 @@ public class HeapProfiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #stopSamplingAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.heapprofiler.StopSamplingResponse> asyncStopSampling() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("HeapProfiler.stopSampling");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.heapprofiler.StopSamplingResponse>(future, jpuppeteer.cdp.cdp.entity.heapprofiler.StopSamplingResponse.class);
+        return session.asyncSend("HeapProfiler.stopSampling", null, jpuppeteer.cdp.cdp.entity.heapprofiler.StopSamplingResponse.class);
+    }
+
+    /**
+    * @see #stopSampling
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.heapprofiler.StopSamplingResponse> stopSamplingAsync(int timeout) {
+        return session.sendAsync("HeapProfiler.stopSampling", null, jpuppeteer.cdp.cdp.entity.heapprofiler.StopSamplingResponse.class, timeout);
     }
 
     /**
@@ -150,9 +250,19 @@ public class HeapProfiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #stopTrackingHeapObjectsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStopTrackingHeapObjects(jpuppeteer.cdp.cdp.entity.heapprofiler.StopTrackingHeapObjectsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("HeapProfiler.stopTrackingHeapObjects", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("HeapProfiler.stopTrackingHeapObjects", request, Void.class);
+    }
+
+    /**
+    * @see #stopTrackingHeapObjects
+    */
+    public java.util.concurrent.CompletionStage<Void> stopTrackingHeapObjectsAsync(jpuppeteer.cdp.cdp.entity.heapprofiler.StopTrackingHeapObjectsRequest request, int timeout) {
+        return session.sendAsync("HeapProfiler.stopTrackingHeapObjects", request, timeout);
     }
 
     /**
@@ -163,8 +273,18 @@ public class HeapProfiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #takeHeapSnapshotAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncTakeHeapSnapshot(jpuppeteer.cdp.cdp.entity.heapprofiler.TakeHeapSnapshotRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("HeapProfiler.takeHeapSnapshot", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("HeapProfiler.takeHeapSnapshot", request, Void.class);
+    }
+
+    /**
+    * @see #takeHeapSnapshot
+    */
+    public java.util.concurrent.CompletionStage<Void> takeHeapSnapshotAsync(jpuppeteer.cdp.cdp.entity.heapprofiler.TakeHeapSnapshotRequest request, int timeout) {
+        return session.sendAsync("HeapProfiler.takeHeapSnapshot", request, timeout);
     }
 }
\ No newline at end of file
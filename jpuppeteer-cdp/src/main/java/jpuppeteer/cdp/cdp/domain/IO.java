@@ -18,9 +18,19 @@ public class IO {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #closeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClose(jpuppeteer.cdp.cdp.entity.io.CloseRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("IO.close", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("IO.close", request, Void.class);
+    }
+
+    /**
+    * @see #close
+    */
+    public java.util.concurrent.CompletionStage<Void> closeAsync(jpuppeteer.cdp.cdp.entity.io.CloseRequest request, int timeout) {
+        return session.sendAsync("IO.close", request, timeout);
     }
 
     /**
@@ -31,9 +41,19 @@ public class IO {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #readAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.io.ReadResponse> asyncRead(jpuppeteer.cdp.cdp.entity.io.ReadRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("IO.read", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.io.ReadResponse>(future, jpuppeteer.cdp.cdp.entity.io.ReadResponse.class);
+        return session.asyncSend("IO.read", request, jpuppeteer.cdp.cdp.entity.io.ReadResponse.class);
+    }
+
+    /**
+    * @see #read
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.io.ReadResponse> readAsync(jpuppeteer.cdp.cdp.entity.io.ReadRequest request, int timeout) {
+        return session.sendAsync("IO.read", request, jpuppeteer.cdp.cdp.entity.io.ReadResponse.class, timeout);
     }
 
     /**
@@ -44,8 +64,18 @@ public class IO {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #resolveBlobAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.io.ResolveBlobResponse> asyncResolveBlob(jpuppeteer.cdp.cdp.entity.io.ResolveBlobRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("IO.resolveBlob", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.io.ResolveBlobResponse>(future, jpuppeteer.cdp.cdp.entity.io.ResolveBlobResponse.class);
+        return session.asyncSend("IO.resolveBlob", request, jpuppeteer.cdp.cdp.entity.io.ResolveBlobResponse.class);
+    }
+
+    /**
+    * @see #resolveBlob
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.io.ResolveBlobResponse> resolveBlobAsync(jpuppeteer.cdp.cdp.entity.io.ResolveBlobRequest request, int timeout) {
+        return session.sendAsync("IO.resolveBlob", request, jpuppeteer.cdp.cdp.entity.io.ResolveBlobResponse.class, timeout);
     }
 }
\ No newline at end of file
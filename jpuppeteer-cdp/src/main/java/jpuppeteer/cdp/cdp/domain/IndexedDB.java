@@ -20,9 +20,19 @@ public class IndexedDB {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #clearObjectStoreAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClearObjectStore(jpuppeteer.cdp.cdp.entity.indexeddb.ClearObjectStoreRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("IndexedDB.clearObjectStore", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("IndexedDB.clearObjectStore", request, Void.class);
+    }
+
+    /**
+    * @see #clearObjectStore
+    */
+    public java.util.concurrent.CompletionStage<Void> clearObjectStoreAsync(jpuppeteer.cdp.cdp.entity.indexeddb.ClearObjectStoreRequest request, int timeout) {
+        return session.sendAsync("IndexedDB.clearObjectStore", request, timeout);
     }
 
     /**
@@ -34,9 +44,19 @@ public class IndexedDB {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #deleteDatabaseAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDeleteDatabase(jpuppeteer.cdp.cdp.entity.indexeddb.DeleteDatabaseRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("IndexedDB.deleteDatabase", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("IndexedDB.deleteDatabase", request, Void.class);
+    }
+
+    /**
+    * @see #deleteDatabase
+    */
+    public java.util.concurrent.CompletionStage<Void> deleteDatabaseAsync(jpuppeteer.cdp.cdp.entity.indexeddb.DeleteDatabaseRequest request, int timeout) {
+        return session.sendAsync("IndexedDB.deleteDatabase", request, timeout);
     }
 
     /**
@@ -48,9 +68,19 @@ public class IndexedDB {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #deleteObjectStoreEntriesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDeleteObjectStoreEntries(jpuppeteer.cdp.cdp.entity.indexeddb.DeleteObjectStoreEntriesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("IndexedDB.deleteObjectStoreEntries", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("IndexedDB.deleteObjectStoreEntries", request, Void.class);
+    }
+
+    /**
+    * @see #deleteObjectStoreEntries
+    */
+    public java.util.concurrent.CompletionStage<Void> deleteObjectStoreEntriesAsync(jpuppeteer.cdp.cdp.entity.indexeddb.DeleteObjectStoreEntriesRequest request, int timeout) {
+        return session.sendAsync("IndexedDB.deleteObjectStoreEntries", request, timeout);
     }
 
     /**
@@ -62,9 +92,19 @@ public class IndexedDB {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("IndexedDB.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("IndexedDB.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("IndexedDB.disable", null, timeout);
     }
 
     /**
@@ -76,9 +116,19 @@ public class IndexedDB {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("IndexedDB.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("IndexedDB.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("IndexedDB.enable", null, timeout);
     }
 
     /**
@@ -90,9 +140,19 @@ public class IndexedDB {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #requestDataAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.indexeddb.RequestDataResponse> asyncRequestData(jpuppeteer.cdp.cdp.entity.indexeddb.RequestDataRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("IndexedDB.requestData", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.indexeddb.RequestDataResponse>(future, jpuppeteer.cdp.cdp.entity.indexeddb.RequestDataResponse.class);
+        return session.asyncSend("IndexedDB.requestData", request, jpuppeteer.cdp.cdp.entity.indexeddb.RequestDataResponse.class);
+    }
+
+    /**
+    * @see #requestData
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.indexeddb.RequestDataResponse> requestDataAsync(jpuppeteer.cdp.cdp.entity.indexeddb.RequestDataRequest request, int timeout) {
+        return session.sendAsync("IndexedDB.requestData", request, jpuppeteer.cdp.cdp.entity.indexeddb.RequestDataResponse.class, timeout);
     }
 
     /**
@@ -104,9 +164,19 @@ public class IndexedDB {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getMetadataAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.indexeddb.GetMetadataResponse> asyncGetMetadata(jpuppeteer.cdp.cdp.entity.indexeddb.GetMetadataRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("IndexedDB.getMetadata", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.indexeddb.GetMetadataResponse>(future, jpuppeteer.cdp.cdp.entity.indexeddb.GetMetadataResponse.class);
+        return session.asyncSend("IndexedDB.getMetadata", request, jpuppeteer.cdp.cdp.entity.indexeddb.GetMetadataResponse.class);
+    }
+
+    /**
+    * @see #getMetadata
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.indexeddb.GetMetadataResponse> getMetadataAsync(jpuppeteer.cdp.cdp.entity.indexeddb.GetMetadataRequest request, int timeout) {
+        return session.sendAsync("IndexedDB.getMetadata", request, jpuppeteer.cdp.cdp.entity.indexeddb.GetMetadataResponse.class, timeout);
     }
 
     /**
@@ -118,9 +188,19 @@ public class IndexedDB {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #requestDatabaseAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseResponse> asyncRequestDatabase(jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("IndexedDB.requestDatabase", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseResponse>(future, jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseResponse.class);
+        return session.asyncSend("IndexedDB.requestDatabase", request, jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseResponse.class);
+    }
+
+    /**
+    * @see #requestDatabase
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseResponse> requestDatabaseAsync(jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseRequest request, int timeout) {
+        return session.sendAsync("IndexedDB.requestDatabase", request, jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseResponse.class, timeout);
     }
 
     /**
@@ -132,8 +212,18 @@ public class IndexedDB {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #requestDatabaseNamesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseNamesResponse> asyncRequestDatabaseNames(jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseNamesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("IndexedDB.requestDatabaseNames", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseNamesResponse>(future, jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseNamesResponse.class);
+        return session.asyncSend("IndexedDB.requestDatabaseNames", request, jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseNamesResponse.class);
+    }
+
+    /**
+    * @see #requestDatabaseNames
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseNamesResponse> requestDatabaseNamesAsync(jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseNamesRequest request, int timeout) {
+        return session.sendAsync("IndexedDB.requestDatabaseNames", request, jpuppeteer.cdp.cdp.entity.indexeddb.RequestDatabaseNamesResponse.class, timeout);
     }
 }
\ No newline at end of file
@@ -18,9 +18,19 @@ public class Input {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #dispatchKeyEventAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDispatchKeyEvent(jpuppeteer.cdp.cdp.entity.input.DispatchKeyEventRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Input.dispatchKeyEvent", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Input.dispatchKeyEvent", request, Void.class);
+    }
+
+    /**
+    * @see #dispatchKeyEvent
+    */
+    public java.util.concurrent.CompletionStage<Void> dispatchKeyEventAsync(jpuppeteer.cdp.cdp.entity.input.DispatchKeyEventRequest request, int timeout) {
+        return session.sendAsync("Input.dispatchKeyEvent", request, timeout);
     }
 
     /**
@@ -31,9 +41,19 @@ public class Input {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #insertTextAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncInsertText(jpuppeteer.cdp.cdp.entity.input.InsertTextRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Input.insertText", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Input.insertText", request, Void.class);
+    }
+
+    /**
+    * @see #insertText
+    */
+    public java.util.concurrent.CompletionStage<Void> insertTextAsync(jpuppeteer.cdp.cdp.entity.input.InsertTextRequest request, int timeout) {
+        return session.sendAsync("Input.insertText", request, timeout);
     }
 
     /**
@@ -44,9 +64,19 @@ public class Input {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #dispatchMouseEventAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDispatchMouseEvent(jpuppeteer.cdp.cdp.entity.input.DispatchMouseEventRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Input.dispatchMouseEvent", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Input.dispatchMouseEvent", request, Void.class);
+    }
+
+    /**
+    * @see #dispatchMouseEvent
+    */
+    public java.util.concurrent.CompletionStage<Void> dispatchMouseEventAsync(jpuppeteer.cdp.cdp.entity.input.DispatchMouseEventRequest request, int timeout) {
+        return session.sendAsync("Input.dispatchMouseEvent", request, timeout);
     }
 
     /**
@@ -57,9 +87,19 @@ public class Input {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #dispatchTouchEventAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDispatchTouchEvent(jpuppeteer.cdp.cdp.entity.input.DispatchTouchEventRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Input.dispatchTouchEvent", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Input.dispatchTouchEvent", request, Void.class);
+    }
+
+    /**
+    * @see #dispatchTouchEvent
+    */
+    public java.util.concurrent.CompletionStage<Void> dispatchTouchEventAsync(jpuppeteer.cdp.cdp.entity.input.DispatchTouchEventRequest request, int timeout) {
+        return session.sendAsync("Input.dispatchTouchEvent", request, timeout);
     }
 
     /**
@@ -70,9 +110,19 @@ public class Input {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #emulateTouchFromMouseEventAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEmulateTouchFromMouseEvent(jpuppeteer.cdp.cdp.entity.input.EmulateTouchFromMouseEventRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Input.emulateTouchFromMouseEvent", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Input.emulateTouchFromMouseEvent", request, Void.class);
+    }
+
+    /**
+    * @see #emulateTouchFromMouseEvent
+    */
+    public java.util.concurrent.CompletionStage<Void> emulateTouchFromMouseEventAsync(jpuppeteer.cdp.cdp.entity.input.EmulateTouchFromMouseEventRequest request, int timeout) {
+        return session.sendAsync("Input.emulateTouchFromMouseEvent", request, timeout);
     }
 
     /**
@@ -83,9 +133,19 @@ public class Input {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setIgnoreInputEventsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetIgnoreInputEvents(jpuppeteer.cdp.cdp.entity.input.SetIgnoreInputEventsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Input.setIgnoreInputEvents", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Input.setIgnoreInputEvents", request, Void.class);
+    }
+
+    /**
+    * @see #setIgnoreInputEvents
+    */
+    public java.util.concurrent.CompletionStage<Void> setIgnoreInputEventsAsync(jpuppeteer.cdp.cdp.entity.input.SetIgnoreInputEventsRequest request, int timeout) {
+        return session.sendAsync("Input.setIgnoreInputEvents", request, timeout);
     }
 
     /**
@@ -96,9 +156,19 @@ public class Input {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #synthesizePinchGestureAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSynthesizePinchGesture(jpuppeteer.cdp.cdp.entity.input.SynthesizePinchGestureRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Input.synthesizePinchGesture", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Input.synthesizePinchGesture", request, Void.class);
+    }
+
+    /**
+    * @see #synthesizePinchGesture
+    */
+    public java.util.concurrent.CompletionStage<Void> synthesizePinchGestureAsync(jpuppeteer.cdp.cdp.entity.input.SynthesizePinchGestureRequest request, int timeout) {
+        return session.sendAsync("Input.synthesizePinchGesture", request, timeout);
     }
 
     /**
@@ -109,9 +179,19 @@ public class Input {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #synthesizeScrollGestureAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSynthesizeScrollGesture(jpuppeteer.cdp.cdp.entity.input.SynthesizeScrollGestureRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Input.synthesizeScrollGesture", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Input.synthesizeScrollGesture", request, Void.class);
+    }
+
+    /**
+    * @see #synthesizeScrollGesture
+    */
+    public java.util.concurrent.CompletionStage<Void> synthesizeScrollGestureAsync(jpuppeteer.cdp.cdp.entity.input.SynthesizeScrollGestureRequest request, int timeout) {
+        return session.sendAsync("Input.synthesizeScrollGesture", request, timeout);
     }
 
     /**
@@ -122,8 +202,18 @@ public class Input {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #synthesizeTapGestureAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSynthesizeTapGesture(jpuppeteer.cdp.cdp.entity.input.SynthesizeTapGestureRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Input.synthesizeTapGesture", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Input.synthesizeTapGesture", request, Void.class);
+    }
+
+    /**
+    * @see #synthesizeTapGesture
+    */
+    public java.util.concurrent.CompletionStage<Void> synthesizeTapGestureAsync(jpuppeteer.cdp.cdp.entity.input.SynthesizeTapGestureRequest request, int timeout) {
+        return session.sendAsync("Input.synthesizeTapGesture", request, timeout);
     }
 }
\ No newline at end of file
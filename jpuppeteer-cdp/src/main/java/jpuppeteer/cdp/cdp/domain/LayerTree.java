@@ -20,9 +20,19 @@ public class LayerTree {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #compositingReasonsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.layertree.CompositingReasonsResponse> asyncCompositingReasons(jpuppeteer.cdp.cdp.entity.layertree.CompositingReasonsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("LayerTree.compositingReasons", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.layertree.CompositingReasonsResponse>(future, jpuppeteer.cdp.cdp.entity.layertree.CompositingReasonsResponse.class);
+        return session.asyncSend("LayerTree.compositingReasons", request, jpuppeteer.cdp.cdp.entity.layertree.CompositingReasonsResponse.class);
+    }
+
+    /**
+    * @see #compositingReasons
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.layertree.CompositingReasonsResponse> compositingReasonsAsync(jpuppeteer.cdp.cdp.entity.layertree.CompositingReasonsRequest request, int timeout) {
+        return session.sendAsync("LayerTree.compositingReasons", request, jpuppeteer.cdp.cdp.entity.layertree.CompositingReasonsResponse.class, timeout);
     }
 
     /**
@@ -34,9 +44,19 @@ public class LayerTree {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("LayerTree.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("LayerTree.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("LayerTree.disable", null, timeout);
     }
 
     /**
@@ -48,9 +68,19 @@ public class LayerTree {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("LayerTree.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("LayerTree.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("LayerTree.enable", null, timeout);
     }
 
     /**
@@ -62,9 +92,19 @@ public class LayerTree {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #loadSnapshotAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.layertree.LoadSnapshotResponse> asyncLoadSnapshot(jpuppeteer.cdp.cdp.entity.layertree.LoadSnapshotRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("LayerTree.loadSnapshot", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.layertree.LoadSnapshotResponse>(future, jpuppeteer.cdp.cdp.entity.layertree.LoadSnapshotResponse.class);
+        return session.asyncSend("LayerTree.loadSnapshot", request, jpuppeteer.cdp.cdp.entity.layertree.LoadSnapshotResponse.class);
+    }
+
+    /**
+    * @see #loadSnapshot
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.layertree.LoadSnapshotResponse> loadSnapshotAsync(jpuppeteer.cdp.cdp.entity.layertree.LoadSnapshotRequest request, int timeout) {
+        return session.sendAsync("LayerTree.loadSnapshot", request, jpuppeteer.cdp.cdp.entity.layertree.LoadSnapshotResponse.class, timeout);
     }
 
     /**
@@ -76,9 +116,19 @@ public class LayerTree {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #makeSnapshotAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.layertree.MakeSnapshotResponse> asyncMakeSnapshot(jpuppeteer.cdp.cdp.entity.layertree.MakeSnapshotRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("LayerTree.makeSnapshot", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.layertree.MakeSnapshotResponse>(future, jpuppeteer.cdp.cdp.entity.layertree.MakeSnapshotResponse.class);
+        return session.asyncSend("LayerTree.makeSnapshot", request, jpuppeteer.cdp.cdp.entity.layertree.MakeSnapshotResponse.class);
+    }
+
+    /**
+    * @see #makeSnapshot
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.layertree.MakeSnapshotResponse> makeSnapshotAsync(jpuppeteer.cdp.cdp.entity.layertree.MakeSnapshotRequest request, int timeout) {
+        return session.sendAsync("LayerTree.makeSnapshot", request, jpuppeteer.cdp.cdp.entity.layertree.MakeSnapshotResponse.class, timeout);
     }
 
     /**
@@ -89,9 +139,19 @@ public class LayerTree {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #profileSnapshotAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.layertree.ProfileSnapshotResponse> asyncProfileSnapshot(jpuppeteer.cdp.cdp.entity.layertree.ProfileSnapshotRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("LayerTree.profileSnapshot", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.layertree.ProfileSnapshotResponse>(future, jpuppeteer.cdp.cdp.entity.layertree.ProfileSnapshotResponse.class);
+        return session.asyncSend("LayerTree.profileSnapshot", request, jpuppeteer.cdp.cdp.entity.layertree.ProfileSnapshotResponse.class);
+    }
+
+    /**
+    * @see #profileSnapshot
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.layertree.ProfileSnapshotResponse> profileSnapshotAsync(jpuppeteer.cdp.cdp.entity.layertree.ProfileSnapshotRequest request, int timeout) {
+        return session.sendAsync("LayerTree.profileSnapshot", request, jpuppeteer.cdp.cdp.entity.layertree.ProfileSnapshotResponse.class, timeout);
     }
 
     /**
@@ -103,9 +163,19 @@ public class LayerTree {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #releaseSnapshotAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncReleaseSnapshot(jpuppeteer.cdp.cdp.entity.layertree.ReleaseSnapshotRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("LayerTree.releaseSnapshot", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("LayerTree.releaseSnapshot", request, Void.class);
+    }
+
+    /**
+    * @see #releaseSnapshot
+    */
+    public java.util.concurrent.CompletionStage<Void> releaseSnapshotAsync(jpuppeteer.cdp.cdp.entity.layertree.ReleaseSnapshotRequest request, int timeout) {
+        return session.sendAsync("LayerTree.releaseSnapshot", request, timeout);
     }
 
     /**
@@ -117,9 +187,19 @@ public class LayerTree {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #replaySnapshotAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.layertree.ReplaySnapshotResponse> asyncReplaySnapshot(jpuppeteer.cdp.cdp.entity.layertree.ReplaySnapshotRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("LayerTree.replaySnapshot", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.layertree.ReplaySnapshotResponse>(future, jpuppeteer.cdp.cdp.entity.layertree.ReplaySnapshotResponse.class);
+        return session.asyncSend("LayerTree.replaySnapshot", request, jpuppeteer.cdp.cdp.entity.layertree.ReplaySnapshotResponse.class);
+    }
+
+    /**
+    * @see #replaySnapshot
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.layertree.ReplaySnapshotResponse> replaySnapshotAsync(jpuppeteer.cdp.cdp.entity.layertree.ReplaySnapshotRequest request, int timeout) {
+        return session.sendAsync("LayerTree.replaySnapshot", request, jpuppeteer.cdp.cdp.entity.layertree.ReplaySnapshotResponse.class, timeout);
     }
 
     /**
@@ -131,8 +211,18 @@ public class LayerTree {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #snapshotCommandLogAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.layertree.SnapshotCommandLogResponse> asyncSnapshotCommandLog(jpuppeteer.cdp.cdp.entity.layertree.SnapshotCommandLogRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("LayerTree.snapshotCommandLog", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.layertree.SnapshotCommandLogResponse>(future, jpuppeteer.cdp.cdp.entity.layertree.SnapshotCommandLogResponse.class);
+        return session.asyncSend("LayerTree.snapshotCommandLog", request, jpuppeteer.cdp.cdp.entity.layertree.SnapshotCommandLogResponse.class);
+    }
+
+    /**
+    * @see #snapshotCommandLog
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.layertree.SnapshotCommandLogResponse> snapshotCommandLogAsync(jpuppeteer.cdp.cdp.entity.layertree.SnapshotCommandLogRequest request, int timeout) {
+        return session.sendAsync("LayerTree.snapshotCommandLog", request, jpuppeteer.cdp.cdp.entity.layertree.SnapshotCommandLogResponse.class, timeout);
     }
 }
\ No newline at end of file
@@ -18,9 +18,19 @@ public class Log {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #clearAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClear() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Log.clear");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Log.clear", null, Void.class);
+    }
+
+    /**
+    * @see #clear
+    */
+    public java.util.concurrent.CompletionStage<Void> clearAsync(int timeout) {
+        return session.sendAsync("Log.clear", null, timeout);
     }
 
     /**
@@ -31,9 +41,19 @@ public class Log {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Log.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Log.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("Log.disable", null, timeout);
     }
 
     /**
@@ -44,9 +64,19 @@ public class Log {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Log.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Log.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("Log.enable", null, timeout);
     }
 
     /**
@@ -57,9 +87,19 @@ public class Log {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #startViolationsReportAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStartViolationsReport(jpuppeteer.cdp.cdp.entity.log.StartViolationsReportRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Log.startViolationsReport", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Log.startViolationsReport", request, Void.class);
+    }
+
+    /**
+    * @see #startViolationsReport
+    */
+    public java.util.concurrent.CompletionStage<Void> startViolationsReportAsync(jpuppeteer.cdp.cdp.entity.log.StartViolationsReportRequest request, int timeout) {
+        return session.sendAsync("Log.startViolationsReport", request, timeout);
     }
 
     /**
@@ -70,8 +110,18 @@ public class Log {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #stopViolationsReportAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStopViolationsReport() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Log.stopViolationsReport");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Log.stopViolationsReport", null, Void.class);
+    }
+
+    /**
+    * @see #stopViolationsReport
+    */
+    public java.util.concurrent.CompletionStage<Void> stopViolationsReportAsync(int timeout) {
+        return session.sendAsync("Log.stopViolationsReport", null, timeout);
     }
 }
\ No newline at end of file
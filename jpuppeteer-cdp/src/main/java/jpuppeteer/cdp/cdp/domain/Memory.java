@@ -19,9 +19,19 @@ public class Memory {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getDOMCountersAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.memory.GetDOMCountersResponse> asyncGetDOMCounters() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Memory.getDOMCounters");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.memory.GetDOMCountersResponse>(future, jpuppeteer.cdp.cdp.entity.memory.GetDOMCountersResponse.class);
+        return session.asyncSend("Memory.getDOMCounters", null, jpuppeteer.cdp.cdp.entity.memory.GetDOMCountersResponse.class);
+    }
+
+    /**
+    * @see #getDOMCounters
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.memory.GetDOMCountersResponse> getDOMCountersAsync(int timeout) {
+        return session.sendAsync("Memory.getDOMCounters", null, jpuppeteer.cdp.cdp.entity.memory.GetDOMCountersResponse.class, timeout);
     }
 
     /**
@@ -32,9 +42,19 @@ public class Memory {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #prepareForLeakDetectionAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncPrepareForLeakDetection() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Memory.prepareForLeakDetection");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Memory.prepareForLeakDetection", null, Void.class);
+    }
+
+    /**
+    * @see #prepareForLeakDetection
+    */
+    public java.util.concurrent.CompletionStage<Void> prepareForLeakDetectionAsync(int timeout) {
+        return session.sendAsync("Memory.prepareForLeakDetection", null, timeout);
     }
 
     /**
@@ -46,9 +66,19 @@ public class Memory {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #forciblyPurgeJavaScriptMemoryAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncForciblyPurgeJavaScriptMemory() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Memory.forciblyPurgeJavaScriptMemory");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Memory.forciblyPurgeJavaScriptMemory", null, Void.class);
+    }
+
+    /**
+    * @see #forciblyPurgeJavaScriptMemory
+    */
+    public java.util.concurrent.CompletionStage<Void> forciblyPurgeJavaScriptMemoryAsync(int timeout) {
+        return session.sendAsync("Memory.forciblyPurgeJavaScriptMemory", null, timeout);
     }
 
     /**
@@ -60,9 +90,19 @@ public class Memory {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setPressureNotificationsSuppressedAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetPressureNotificationsSuppressed(jpuppeteer.cdp.cdp.entity.memory.SetPressureNotificationsSuppressedRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Memory.setPressureNotificationsSuppressed", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Memory.setPressureNotificationsSuppressed", request, Void.class);
+    }
+
+    /**
+    * @see #setPressureNotificationsSuppressed
+    */
+    public java.util.concurrent.CompletionStage<Void> setPressureNotificationsSuppressedAsync(jpuppeteer.cdp.cdp.entity.memory.SetPressureNotificationsSuppressedRequest request, int timeout) {
+        return session.sendAsync("Memory.setPressureNotificationsSuppressed", request, timeout);
     }
 
     /**
@@ -74,9 +114,19 @@ public class Memory {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #simulatePressureNotificationAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSimulatePressureNotification(jpuppeteer.cdp.cdp.entity.memory.SimulatePressureNotificationRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Memory.simulatePressureNotification", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Memory.simulatePressureNotification", request, Void.class);
+    }
+
+    /**
+    * @see #simulatePressureNotification
+    */
+    public java.util.concurrent.CompletionStage<Void> simulatePressureNotificationAsync(jpuppeteer.cdp.cdp.entity.memory.SimulatePressureNotificationRequest request, int timeout) {
+        return session.sendAsync("Memory.simulatePressureNotification", request, timeout);
     }
 
     /**
@@ -88,9 +138,19 @@ public class Memory {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #startSamplingAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStartSampling(jpuppeteer.cdp.cdp.entity.memory.StartSamplingRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Memory.startSampling", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Memory.startSampling", request, Void.class);
+    }
+
+    /**
+    * @see #startSampling
+    */
+    public java.util.concurrent.CompletionStage<Void> startSamplingAsync(jpuppeteer.cdp.cdp.entity.memory.StartSamplingRequest request, int timeout) {
+        return session.sendAsync("Memory.startSampling", request, timeout);
     }
 
     /**
@@ -102,9 +162,19 @@ public class Memory {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #stopSamplingAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStopSampling() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Memory.stopSampling");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Memory.stopSampling", null, Void.class);
+    }
+
+    /**
+    * @see #stopSampling
+    */
+    public java.util.concurrent.CompletionStage<Void> stopSamplingAsync(int timeout) {
+        return session.sendAsync("Memory.stopSampling", null, timeout);
     }
 
     /**
@@ -116,9 +186,19 @@ public class Memory {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getAllTimeSamplingProfileAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.memory.GetAllTimeSamplingProfileResponse> asyncGetAllTimeSamplingProfile() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Memory.getAllTimeSamplingProfile");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.memory.GetAllTimeSamplingProfileResponse>(future, jpuppeteer.cdp.cdp.entity.memory.GetAllTimeSamplingProfileResponse.class);
+        return session.asyncSend("Memory.getAllTimeSamplingProfile", null, jpuppeteer.cdp.cdp.entity.memory.GetAllTimeSamplingProfileResponse.class);
+    }
+
+    /**
+    * @see #getAllTimeSamplingProfile
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.memory.GetAllTimeSamplingProfileResponse> getAllTimeSamplingProfileAsync(int timeout) {
+        return session.sendAsync("Memory.getAllTimeSamplingProfile", null, jpuppeteer.cdp.cdp.entity.memory.GetAllTimeSamplingProfileResponse.class, timeout);
     }
 
     /**
@@ -130,9 +210,19 @@ public class Memory {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getBrowserSamplingProfileAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.memory.GetBrowserSamplingProfileResponse> asyncGetBrowserSamplingProfile() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Memory.getBrowserSamplingProfile");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.memory.GetBrowserSamplingProfileResponse>(future, jpuppeteer.cdp.cdp.entity.memory.GetBrowserSamplingProfileResponse.class);
+        return session.asyncSend("Memory.getBrowserSamplingProfile", null, jpuppeteer.cdp.cdp.entity.memory.GetBrowserSamplingProfileResponse.class);
+    }
+
+    /**
+    * @see #getBrowserSamplingProfile
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.memory.GetBrowserSamplingProfileResponse> getBrowserSamplingProfileAsync(int timeout) {
+        return session.sendAsync("Memory.getBrowserSamplingProfile", null, jpuppeteer.cdp.cdp.entity.memory.GetBrowserSamplingProfileResponse.class, timeout);
     }
 
     /**
@@ -144,8 +234,18 @@ public class Memory {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getSamplingProfileAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.memory.GetSamplingProfileResponse> asyncGetSamplingProfile() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Memory.getSamplingProfile");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.memory.GetSamplingProfileResponse>(future, jpuppeteer.cdp.cdp.entity.memory.GetSamplingProfileResponse.class);
+        return session.asyncSend("Memory.getSamplingProfile", null, jpuppeteer.cdp.cdp.entity.memory.GetSamplingProfileResponse.class);
+    }
+
+    /**
+    * @see #getSamplingProfile
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.memory.GetSamplingProfileResponse> getSamplingProfileAsync(int timeout) {
+        return session.sendAsync("Memory.getSamplingProfile", null, jpuppeteer.cdp.cdp.entity.memory.GetSamplingProfileResponse.class, timeout);
     }
 }
\ No newline at end of file
@@ -18,9 +18,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #canClearBrowserCacheAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.network.CanClearBrowserCacheResponse> asyncCanClearBrowserCache() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.canClearBrowserCache");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.network.CanClearBrowserCacheResponse>(future, jpuppeteer.cdp.cdp.entity.network.CanClearBrowserCacheResponse.class);
+        return session.asyncSend("Network.canClearBrowserCache", null, jpuppeteer.cdp.cdp.entity.network.CanClearBrowserCacheResponse.class);
+    }
+
+    /**
+    * @see #canClearBrowserCache
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.network.CanClearBrowserCacheResponse> canClearBrowserCacheAsync(int timeout) {
+        return session.sendAsync("Network.canClearBrowserCache", null, jpuppeteer.cdp.cdp.entity.network.CanClearBrowserCacheResponse.class, timeout);
     }
 
     /**
@@ -31,9 +41,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #canClearBrowserCookiesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.network.CanClearBrowserCookiesResponse> asyncCanClearBrowserCookies() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.canClearBrowserCookies");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.network.CanClearBrowserCookiesResponse>(future, jpuppeteer.cdp.cdp.entity.network.CanClearBrowserCookiesResponse.class);
+        return session.asyncSend("Network.canClearBrowserCookies", null, jpuppeteer.cdp.cdp.entity.network.CanClearBrowserCookiesResponse.class);
+    }
+
+    /**
+    * @see #canClearBrowserCookies
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.network.CanClearBrowserCookiesResponse> canClearBrowserCookiesAsync(int timeout) {
+        return session.sendAsync("Network.canClearBrowserCookies", null, jpuppeteer.cdp.cdp.entity.network.CanClearBrowserCookiesResponse.class, timeout);
     }
 
     /**
@@ -44,9 +64,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #canEmulateNetworkConditionsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.network.CanEmulateNetworkConditionsResponse> asyncCanEmulateNetworkConditions() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.canEmulateNetworkConditions");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.network.CanEmulateNetworkConditionsResponse>(future, jpuppeteer.cdp.cdp.entity.network.CanEmulateNetworkConditionsResponse.class);
+        return session.asyncSend("Network.canEmulateNetworkConditions", null, jpuppeteer.cdp.cdp.entity.network.CanEmulateNetworkConditionsResponse.class);
+    }
+
+    /**
+    * @see #canEmulateNetworkConditions
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.network.CanEmulateNetworkConditionsResponse> canEmulateNetworkConditionsAsync(int timeout) {
+        return session.sendAsync("Network.canEmulateNetworkConditions", null, jpuppeteer.cdp.cdp.entity.network.CanEmulateNetworkConditionsResponse.class, timeout);
     }
 
     /**
@@ -57,9 +87,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #clearBrowserCacheAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClearBrowserCache() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.clearBrowserCache");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Network.clearBrowserCache", null, Void.class);
+    }
+
+    /**
+    * @see #clearBrowserCache
+    */
+    public java.util.concurrent.CompletionStage<Void> clearBrowserCacheAsync(int timeout) {
+        return session.sendAsync("Network.clearBrowserCache", null, timeout);
     }
 
     /**
@@ -70,9 +110,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #clearBrowserCookiesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClearBrowserCookies() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.clearBrowserCookies");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Network.clearBrowserCookies", null, Void.class);
+    }
+
+    /**
+    * @see #clearBrowserCookies
+    */
+    public java.util.concurrent.CompletionStage<Void> clearBrowserCookiesAsync(int timeout) {
+        return session.sendAsync("Network.clearBrowserCookies", null, timeout);
     }
 
     /**
@@ -83,9 +133,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #continueInterceptedRequestAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncContinueInterceptedRequest(jpuppeteer.cdp.cdp.entity.network.ContinueInterceptedRequestRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.continueInterceptedRequest", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Network.continueInterceptedRequest", request, Void.class);
+    }
+
+    /**
+    * @see #continueInterceptedRequest
+    */
+    public java.util.concurrent.CompletionStage<Void> continueInterceptedRequestAsync(jpuppeteer.cdp.cdp.entity.network.ContinueInterceptedRequestRequest request, int timeout) {
+        return session.sendAsync("Network.continueInterceptedRequest", request, timeout);
     }
 
     /**
@@ -96,9 +156,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #deleteCookiesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDeleteCookies(jpuppeteer.cdp.cdp.entity.network.DeleteCookiesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.deleteCookies", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Network.deleteCookies", request, Void.class);
+    }
+
+    /**
+    * @see #deleteCookies
+    */
+    public java.util.concurrent.CompletionStage<Void> deleteCookiesAsync(jpuppeteer.cdp.cdp.entity.network.DeleteCookiesRequest request, int timeout) {
+        return session.sendAsync("Network.deleteCookies", request, timeout);
     }
 
     /**
@@ -109,9 +179,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Network.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("Network.disable", null, timeout);
     }
 
     /**
@@ -122,9 +202,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #emulateNetworkConditionsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEmulateNetworkConditions(jpuppeteer.cdp.cdp.entity.network.EmulateNetworkConditionsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.emulateNetworkConditions", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Network.emulateNetworkConditions", request, Void.class);
+    }
+
+    /**
+    * @see #emulateNetworkConditions
+    */
+    public java.util.concurrent.CompletionStage<Void> emulateNetworkConditionsAsync(jpuppeteer.cdp.cdp.entity.network.EmulateNetworkConditionsRequest request, int timeout) {
+        return session.sendAsync("Network.emulateNetworkConditions", request, timeout);
     }
 
     /**
@@ -135,9 +225,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable(jpuppeteer.cdp.cdp.entity.network.EnableRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.enable", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Network.enable", request, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(jpuppeteer.cdp.cdp.entity.network.EnableRequest request, int timeout) {
+        return session.sendAsync("Network.enable", request, timeout);
     }
 
     /**
@@ -148,9 +248,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getAllCookiesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.network.GetAllCookiesResponse> asyncGetAllCookies() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.getAllCookies");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.network.GetAllCookiesResponse>(future, jpuppeteer.cdp.cdp.entity.network.GetAllCookiesResponse.class);
+        return session.asyncSend("Network.getAllCookies", null, jpuppeteer.cdp.cdp.entity.network.GetAllCookiesResponse.class);
+    }
+
+    /**
+    * @see #getAllCookies
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.network.GetAllCookiesResponse> getAllCookiesAsync(int timeout) {
+        return session.sendAsync("Network.getAllCookies", null, jpuppeteer.cdp.cdp.entity.network.GetAllCookiesResponse.class, timeout);
     }
 
     /**
@@ -161,9 +271,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getCertificateAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.network.GetCertificateResponse> asyncGetCertificate(jpuppeteer.cdp.cdp.entity.network.GetCertificateRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.getCertificate", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.network.GetCertificateResponse>(future, jpuppeteer.cdp.cdp.entity.network.GetCertificateResponse.class);
+        return session.asyncSend("Network.getCertificate", request, jpuppeteer.cdp.cdp.entity.network.GetCertificateResponse.class);
+    }
+
+    /**
+    * @see #getCertificate
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.network.GetCertificateResponse> getCertificateAsync(jpuppeteer.cdp.cdp.entity.network.GetCertificateRequest request, int timeout) {
+        return session.sendAsync("Network.getCertificate", request, jpuppeteer.cdp.cdp.entity.network.GetCertificateResponse.class, timeout);
     }
 
     /**
@@ -174,9 +294,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getCookiesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.network.GetCookiesResponse> asyncGetCookies(jpuppeteer.cdp.cdp.entity.network.GetCookiesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.getCookies", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.network.GetCookiesResponse>(future, jpuppeteer.cdp.cdp.entity.network.GetCookiesResponse.class);
+        return session.asyncSend("Network.getCookies", request, jpuppeteer.cdp.cdp.entity.network.GetCookiesResponse.class);
+    }
+
+    /**
+    * @see #getCookies
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.network.GetCookiesResponse> getCookiesAsync(jpuppeteer.cdp.cdp.entity.network.GetCookiesRequest request, int timeout) {
+        return session.sendAsync("Network.getCookies", request, jpuppeteer.cdp.cdp.entity.network.GetCookiesResponse.class, timeout);
     }
 
     /**
@@ -187,9 +317,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getResponseBodyAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.network.GetResponseBodyResponse> asyncGetResponseBody(jpuppeteer.cdp.cdp.entity.network.GetResponseBodyRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.getResponseBody", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.network.GetResponseBodyResponse>(future, jpuppeteer.cdp.cdp.entity.network.GetResponseBodyResponse.class);
+        return session.asyncSend("Network.getResponseBody", request, jpuppeteer.cdp.cdp.entity.network.GetResponseBodyResponse.class);
+    }
+
+    /**
+    * @see #getResponseBody
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.network.GetResponseBodyResponse> getResponseBodyAsync(jpuppeteer.cdp.cdp.entity.network.GetResponseBodyRequest request, int timeout) {
+        return session.sendAsync("Network.getResponseBody", request, jpuppeteer.cdp.cdp.entity.network.GetResponseBodyResponse.class, timeout);
     }
 
     /**
@@ -200,9 +340,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getRequestPostDataAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.network.GetRequestPostDataResponse> asyncGetRequestPostData(jpuppeteer.cdp.cdp.entity.network.GetRequestPostDataRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.getRequestPostData", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.network.GetRequestPostDataResponse>(future, jpuppeteer.cdp.cdp.entity.network.GetRequestPostDataResponse.class);
+        return session.asyncSend("Network.getRequestPostData", request, jpuppeteer.cdp.cdp.entity.network.GetRequestPostDataResponse.class);
+    }
+
+    /**
+    * @see #getRequestPostData
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.network.GetRequestPostDataResponse> getRequestPostDataAsync(jpuppeteer.cdp.cdp.entity.network.GetRequestPostDataRequest request, int timeout) {
+        return session.sendAsync("Network.getRequestPostData", request, jpuppeteer.cdp.cdp.entity.network.GetRequestPostDataResponse.class, timeout);
     }
 
     /**
@@ -213,9 +363,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getResponseBodyForInterceptionAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.network.GetResponseBodyForInterceptionResponse> asyncGetResponseBodyForInterception(jpuppeteer.cdp.cdp.entity.network.GetResponseBodyForInterceptionRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.getResponseBodyForInterception", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.network.GetResponseBodyForInterceptionResponse>(future, jpuppeteer.cdp.cdp.entity.network.GetResponseBodyForInterceptionResponse.class);
+        return session.asyncSend("Network.getResponseBodyForInterception", request, jpuppeteer.cdp.cdp.entity.network.GetResponseBodyForInterceptionResponse.class);
+    }
+
+    /**
+    * @see #getResponseBodyForInterception
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.network.GetResponseBodyForInterceptionResponse> getResponseBodyForInterceptionAsync(jpuppeteer.cdp.cdp.entity.network.GetResponseBodyForInterceptionRequest request, int timeout) {
+        return session.sendAsync("Network.getResponseBodyForInterception", request, jpuppeteer.cdp.cdp.entity.network.GetResponseBodyForInterceptionResponse.class, timeout);
     }
 
     /**
@@ -226,9 +386,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #takeResponseBodyForInterceptionAsStreamAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.network.TakeResponseBodyForInterceptionAsStreamResponse> asyncTakeResponseBodyForInterceptionAsStream(jpuppeteer.cdp.cdp.entity.network.TakeResponseBodyForInterceptionAsStreamRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.takeResponseBodyForInterceptionAsStream", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.network.TakeResponseBodyForInterceptionAsStreamResponse>(future, jpuppeteer.cdp.cdp.entity.network.TakeResponseBodyForInterceptionAsStreamResponse.class);
+        return session.asyncSend("Network.takeResponseBodyForInterceptionAsStream", request, jpuppeteer.cdp.cdp.entity.network.TakeResponseBodyForInterceptionAsStreamResponse.class);
+    }
+
+    /**
+    * @see #takeResponseBodyForInterceptionAsStream
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.network.TakeResponseBodyForInterceptionAsStreamResponse> takeResponseBodyForInterceptionAsStreamAsync(jpuppeteer.cdp.cdp.entity.network.TakeResponseBodyForInterceptionAsStreamRequest request, int timeout) {
+        return session.sendAsync("Network.takeResponseBodyForInterceptionAsStream", request, jpuppeteer.cdp.cdp.entity.network.TakeResponseBodyForInterceptionAsStreamResponse.class, timeout);
     }
 
     /**
@@ -239,9 +409,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #replayXHRAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncReplayXHR(jpuppeteer.cdp.cdp.entity.network.ReplayXHRRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.replayXHR", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Network.replayXHR", request, Void.class);
+    }
+
+    /**
+    * @see #replayXHR
+    */
+    public java.util.concurrent.CompletionStage<Void> replayXHRAsync(jpuppeteer.cdp.cdp.entity.network.ReplayXHRRequest request, int timeout) {
+        return session.sendAsync("Network.replayXHR", request, timeout);
     }
 
     /**
@@ -252,9 +432,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #searchInResponseBodyAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.network.SearchInResponseBodyResponse> asyncSearchInResponseBody(jpuppeteer.cdp.cdp.entity.network.SearchInResponseBodyRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.searchInResponseBody", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.network.SearchInResponseBodyResponse>(future, jpuppeteer.cdp.cdp.entity.network.SearchInResponseBodyResponse.class);
+        return session.asyncSend("Network.searchInResponseBody", request, jpuppeteer.cdp.cdp.entity.network.SearchInResponseBodyResponse.class);
+    }
+
+    /**
+    * @see #searchInResponseBody
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.network.SearchInResponseBodyResponse> searchInResponseBodyAsync(jpuppeteer.cdp.cdp.entity.network.SearchInResponseBodyRequest request, int timeout) {
+        return session.sendAsync("Network.searchInResponseBody", request, jpuppeteer.cdp.cdp.entity.network.SearchInResponseBodyResponse.class, timeout);
     }
 
     /**
@@ -265,9 +455,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setBlockedURLsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetBlockedURLs(jpuppeteer.cdp.cdp.entity.network.SetBlockedURLsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.setBlockedURLs", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Network.setBlockedURLs", request, Void.class);
+    }
+
+    /**
+    * @see #setBlockedURLs
+    */
+    public java.util.concurrent.CompletionStage<Void> setBlockedURLsAsync(jpuppeteer.cdp.cdp.entity.network.SetBlockedURLsRequest request, int timeout) {
+        return session.sendAsync("Network.setBlockedURLs", request, timeout);
     }
 
     /**
@@ -278,9 +478,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setBypassServiceWorkerAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetBypassServiceWorker(jpuppeteer.cdp.cdp.entity.network.SetBypassServiceWorkerRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.setBypassServiceWorker", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Network.setBypassServiceWorker", request, Void.class);
+    }
+
+    /**
+    * @see #setBypassServiceWorker
+    */
+    public java.util.concurrent.CompletionStage<Void> setBypassServiceWorkerAsync(jpuppeteer.cdp.cdp.entity.network.SetBypassServiceWorkerRequest request, int timeout) {
+        return session.sendAsync("Network.setBypassServiceWorker", request, timeout);
     }
 
     /**
@@ -291,9 +501,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setCacheDisabledAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetCacheDisabled(jpuppeteer.cdp.cdp.entity.network.SetCacheDisabledRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.setCacheDisabled", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Network.setCacheDisabled", request, Void.class);
+    }
+
+    /**
+    * @see #setCacheDisabled
+    */
+    public java.util.concurrent.CompletionStage<Void> setCacheDisabledAsync(jpuppeteer.cdp.cdp.entity.network.SetCacheDisabledRequest request, int timeout) {
+        return session.sendAsync("Network.setCacheDisabled", request, timeout);
     }
 
     /**
@@ -304,9 +524,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setCookieAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.network.SetCookieResponse> asyncSetCookie(jpuppeteer.cdp.cdp.entity.network.SetCookieRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.setCookie", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.network.SetCookieResponse>(future, jpuppeteer.cdp.cdp.entity.network.SetCookieResponse.class);
+        return session.asyncSend("Network.setCookie", request, jpuppeteer.cdp.cdp.entity.network.SetCookieResponse.class);
+    }
+
+    /**
+    * @see #setCookie
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.network.SetCookieResponse> setCookieAsync(jpuppeteer.cdp.cdp.entity.network.SetCookieRequest request, int timeout) {
+        return session.sendAsync("Network.setCookie", request, jpuppeteer.cdp.cdp.entity.network.SetCookieResponse.class, timeout);
     }
 
     /**
@@ -317,9 +547,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setCookiesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetCookies(jpuppeteer.cdp.cdp.entity.network.SetCookiesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.setCookies", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Network.setCookies", request, Void.class);
+    }
+
+    /**
+    * @see #setCookies
+    */
+    public java.util.concurrent.CompletionStage<Void> setCookiesAsync(jpuppeteer.cdp.cdp.entity.network.SetCookiesRequest request, int timeout) {
+        return session.sendAsync("Network.setCookies", request, timeout);
     }
 
     /**
@@ -330,9 +570,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setDataSizeLimitsForTestAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetDataSizeLimitsForTest(jpuppeteer.cdp.cdp.entity.network.SetDataSizeLimitsForTestRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.setDataSizeLimitsForTest", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Network.setDataSizeLimitsForTest", request, Void.class);
+    }
+
+    /**
+    * @see #setDataSizeLimitsForTest
+    */
+    public java.util.concurrent.CompletionStage<Void> setDataSizeLimitsForTestAsync(jpuppeteer.cdp.cdp.entity.network.SetDataSizeLimitsForTestRequest request, int timeout) {
+        return session.sendAsync("Network.setDataSizeLimitsForTest", request, timeout);
     }
 
     /**
@@ -343,9 +593,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setExtraHTTPHeadersAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetExtraHTTPHeaders(jpuppeteer.cdp.cdp.entity.network.SetExtraHTTPHeadersRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.setExtraHTTPHeaders", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Network.setExtraHTTPHeaders", request, Void.class);
+    }
+
+    /**
+    * @see #setExtraHTTPHeaders
+    */
+    public java.util.concurrent.CompletionStage<Void> setExtraHTTPHeadersAsync(jpuppeteer.cdp.cdp.entity.network.SetExtraHTTPHeadersRequest request, int timeout) {
+        return session.sendAsync("Network.setExtraHTTPHeaders", request, timeout);
     }
 
     /**
@@ -356,9 +616,19 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setRequestInterceptionAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetRequestInterception(jpuppeteer.cdp.cdp.entity.network.SetRequestInterceptionRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.setRequestInterception", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Network.setRequestInterception", request, Void.class);
+    }
+
+    /**
+    * @see #setRequestInterception
+    */
+    public java.util.concurrent.CompletionStage<Void> setRequestInterceptionAsync(jpuppeteer.cdp.cdp.entity.network.SetRequestInterceptionRequest request, int timeout) {
+        return session.sendAsync("Network.setRequestInterception", request, timeout);
     }
 
     /**
@@ -369,8 +639,18 @@ public class Network {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setUserAgentOverrideAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetUserAgentOverride(jpuppeteer.cdp.cdp.entity.network.SetUserAgentOverrideRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Network.setUserAgentOverride", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Network.setUserAgentOverride", request, Void.class);
+    }
+
+    /**
+    * @see #setUserAgentOverride
+    */
+    public java.util.concurrent.CompletionStage<Void> setUserAgentOverrideAsync(jpuppeteer.cdp.cdp.entity.network.SetUserAgentOverrideRequest request, int timeout) {
+        return session.sendAsync("Network.setUserAgentOverride", request, timeout);
     }
 }
\ No newline at end of file
@@ -20,9 +20,19 @@ public class Overlay {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Overlay.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Overlay.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("Overlay.disable", null, timeout);
     }
 
     /**
@@ -34,9 +44,19 @@ public class Overlay {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Overlay.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Overlay.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("Overlay.enable", null, timeout);
     }
 
     /**
@@ -48,9 +68,19 @@ public class Overlay {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getHighlightObjectForTestAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.overlay.GetHighlightObjectForTestResponse> asyncGetHighlightObjectForTest(jpuppeteer.cdp.cdp.entity.overlay.GetHighlightObjectForTestRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Overlay.getHighlightObjectForTest", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.overlay.GetHighlightObjectForTestResponse>(future, jpuppeteer.cdp.cdp.entity.overlay.GetHighlightObjectForTestResponse.class);
+        return session.asyncSend("Overlay.getHighlightObjectForTest", request, jpuppeteer.cdp.cdp.entity.overlay.GetHighlightObjectForTestResponse.class);
+    }
+
+    /**
+    * @see #getHighlightObjectForTest
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.overlay.GetHighlightObjectForTestResponse> getHighlightObjectForTestAsync(jpuppeteer.cdp.cdp.entity.overlay.GetHighlightObjectForTestRequest request, int timeout) {
+        return session.sendAsync("Overlay.getHighlightObjectForTest", request, jpuppeteer.cdp.cdp.entity.overlay.GetHighlightObjectForTestResponse.class, timeout);
     }
 
     /**
@@ -62,9 +92,19 @@ public class Overlay {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #hideHighlightAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncHideHighlight() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Overlay.hideHighlight");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Overlay.hideHighlight", null, Void.class);
+    }
+
+    /**
+    * @see #hideHighlight
+    */
+    public java.util.concurrent.CompletionStage<Void> hideHighlightAsync(int timeout) {
+        return session.sendAsync("Overlay.hideHighlight", null, timeout);
     }
 
     /**
@@ -76,9 +116,19 @@ public class Overlay {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #highlightFrameAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncHighlightFrame(jpuppeteer.cdp.cdp.entity.overlay.HighlightFrameRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Overlay.highlightFrame", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Overlay.highlightFrame", request, Void.class);
+    }
+
+    /**
+    * @see #highlightFrame
+    */
+    public java.util.concurrent.CompletionStage<Void> highlightFrameAsync(jpuppeteer.cdp.cdp.entity.overlay.HighlightFrameRequest request, int timeout) {
+        return session.sendAsync("Overlay.highlightFrame", request, timeout);
     }
 
     /**
@@ -90,9 +140,19 @@ public class Overlay {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #highlightNodeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncHighlightNode(jpuppeteer.cdp.cdp.entity.overlay.HighlightNodeRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Overlay.highlightNode", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Overlay.highlightNode", request, Void.class);
+    }
+
+    /**
+    * @see #highlightNode
+    */
+    public java.util.concurrent.CompletionStage<Void> highlightNodeAsync(jpuppeteer.cdp.cdp.entity.overlay.HighlightNodeRequest request, int timeout) {
+        return session.sendAsync("Overlay.highlightNode", request, timeout);
     }
 
     /**
@@ -104,9 +164,19 @@ public class Overlay {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #highlightQuadAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncHighlightQuad(jpuppeteer.cdp.cdp.entity.overlay.HighlightQuadRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Overlay.highlightQuad", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Overlay.highlightQuad", request, Void.class);
+    }
+
+    /**
+    * @see #highlightQuad
+    */
+    public java.util.concurrent.CompletionStage<Void> highlightQuadAsync(jpuppeteer.cdp.cdp.entity.overlay.HighlightQuadRequest request, int timeout) {
+        return session.sendAsync("Overlay.highlightQuad", request, timeout);
     }
 
     /**
@@ -118,9 +188,19 @@ public class Overlay {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #highlightRectAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncHighlightRect(jpuppeteer.cdp.cdp.entity.overlay.HighlightRectRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Overlay.highlightRect", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Overlay.highlightRect", request, Void.class);
+    }
+
+    /**
+    * @see #highlightRect
+    */
+    public java.util.concurrent.CompletionStage<Void> highlightRectAsync(jpuppeteer.cdp.cdp.entity.overlay.HighlightRectRequest request, int timeout) {
+        return session.sendAsync("Overlay.highlightRect", request, timeout);
     }
 
     /**
@@ -132,9 +212,19 @@ public class Overlay {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setInspectModeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetInspectMode(jpuppeteer.cdp.cdp.entity.overlay.SetInspectModeRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Overlay.setInspectMode", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Overlay.setInspectMode", request, Void.class);
+    }
+
+    /**
+    * @see #setInspectMode
+    */
+    public java.util.concurrent.CompletionStage<Void> setInspectModeAsync(jpuppeteer.cdp.cdp.entity.overlay.SetInspectModeRequest request, int timeout) {
+        return session.sendAsync("Overlay.setInspectMode", request, timeout);
     }
 
     /**
@@ -146,9 +236,19 @@ public class Overlay {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setShowAdHighlightsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetShowAdHighlights(jpuppeteer.cdp.cdp.entity.overlay.SetShowAdHighlightsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Overlay.setShowAdHighlights", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Overlay.setShowAdHighlights", request, Void.class);
+    }
+
+    /**
+    * @see #setShowAdHighlights
+    */
+    public java.util.concurrent.CompletionStage<Void> setShowAdHighlightsAsync(jpuppeteer.cdp.cdp.entity.overlay.SetShowAdHighlightsRequest request, int timeout) {
+        return session.sendAsync("Overlay.setShowAdHighlights", request, timeout);
     }
 
     /**
@@ -159,9 +259,19 @@ public class Overlay {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setPausedInDebuggerMessageAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetPausedInDebuggerMessage(jpuppeteer.cdp.cdp.entity.overlay.SetPausedInDebuggerMessageRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Overlay.setPausedInDebuggerMessage", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Overlay.setPausedInDebuggerMessage", request, Void.class);
+    }
+
+    /**
+    * @see #setPausedInDebuggerMessage
+    */
+    public java.util.concurrent.CompletionStage<Void> setPausedInDebuggerMessageAsync(jpuppeteer.cdp.cdp.entity.overlay.SetPausedInDebuggerMessageRequest request, int timeout) {
+        return session.sendAsync("Overlay.setPausedInDebuggerMessage", request, timeout);
     }
 
     /**
@@ -173,9 +283,19 @@ public class Overlay {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setShowDebugBordersAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetShowDebugBorders(jpuppeteer.cdp.cdp.entity.overlay.SetShowDebugBordersRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Overlay.setShowDebugBorders", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Overlay.setShowDebugBorders", request, Void.class);
+    }
+
+    /**
+    * @see #setShowDebugBorders
+    */
+    public java.util.concurrent.CompletionStage<Void> setShowDebugBordersAsync(jpuppeteer.cdp.cdp.entity.overlay.SetShowDebugBordersRequest request, int timeout) {
+        return session.sendAsync("Overlay.setShowDebugBorders", request, timeout);
     }
 
     /**
@@ -187,9 +307,19 @@ public class Overlay {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setShowFPSCounterAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetShowFPSCounter(jpuppeteer.cdp.cdp.entity.overlay.SetShowFPSCounterRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Overlay.setShowFPSCounter", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Overlay.setShowFPSCounter", request, Void.class);
+    }
+
+    /**
+    * @see #setShowFPSCounter
+    */
+    public java.util.concurrent.CompletionStage<Void> setShowFPSCounterAsync(jpuppeteer.cdp.cdp.entity.overlay.SetShowFPSCounterRequest request, int timeout) {
+        return session.sendAsync("Overlay.setShowFPSCounter", request, timeout);
     }
 
     /**
@@ -201,9 +331,19 @@ public class Overlay {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setShowPaintRectsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetShowPaintRects(jpuppeteer.cdp.cdp.entity.overlay.SetShowPaintRectsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Overlay.setShowPaintRects", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Overlay.setShowPaintRects", request, Void.class);
+    }
+
+    /**
+    * @see #setShowPaintRects
+    */
+    public java.util.concurrent.CompletionStage<Void> setShowPaintRectsAsync(jpuppeteer.cdp.cdp.entity.overlay.SetShowPaintRectsRequest request, int timeout) {
+        return session.sendAsync("Overlay.setShowPaintRects", request, timeout);
     }
 
     /**
@@ -215,9 +355,19 @@ public class Overlay {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setShowLayoutShiftRegionsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetShowLayoutShiftRegions(jpuppeteer.cdp.cdp.entity.overlay.SetShowLayoutShiftRegionsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Overlay.setShowLayoutShiftRegions", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Overlay.setShowLayoutShiftRegions", request, Void.class);
+    }
+
+    /**
+    * @see #setShowLayoutShiftRegions
+    */
+    public java.util.concurrent.CompletionStage<Void> setShowLayoutShiftRegionsAsync(jpuppeteer.cdp.cdp.entity.overlay.SetShowLayoutShiftRegionsRequest request, int timeout) {
+        return session.sendAsync("Overlay.setShowLayoutShiftRegions", request, timeout);
     }
 
     /**
@@ -229,9 +379,19 @@ public class Overlay {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setShowScrollBottleneckRectsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetShowScrollBottleneckRects(jpuppeteer.cdp.cdp.entity.overlay.SetShowScrollBottleneckRectsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Overlay.setShowScrollBottleneckRects", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Overlay.setShowScrollBottleneckRects", request, Void.class);
+    }
+
+    /**
+    * @see #setShowScrollBottleneckRects
+    */
+    public java.util.concurrent.CompletionStage<Void> setShowScrollBottleneckRectsAsync(jpuppeteer.cdp.cdp.entity.overlay.SetShowScrollBottleneckRectsRequest request, int timeout) {
+        return session.sendAsync("Overlay.setShowScrollBottleneckRects", request, timeout);
     }
 
     /**
@@ -243,9 +403,19 @@ public class Overlay {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setShowHitTestBordersAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetShowHitTestBorders(jpuppeteer.cdp.cdp.entity.overlay.SetShowHitTestBordersRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Overlay.setShowHitTestBorders", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Overlay.setShowHitTestBorders", request, Void.class);
+    }
+
+    /**
+    * @see #setShowHitTestBorders
+    */
+    public java.util.concurrent.CompletionStage<Void> setShowHitTestBordersAsync(jpuppeteer.cdp.cdp.entity.overlay.SetShowHitTestBordersRequest request, int timeout) {
+        return session.sendAsync("Overlay.setShowHitTestBorders", request, timeout);
     }
 
     /**
@@ -257,8 +427,18 @@ public class Overlay {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setShowViewportSizeOnResizeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetShowViewportSizeOnResize(jpuppeteer.cdp.cdp.entity.overlay.SetShowViewportSizeOnResizeRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Overlay.setShowViewportSizeOnResize", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Overlay.setShowViewportSizeOnResize", request, Void.class);
+    }
+
+    /**
+    * @see #setShowViewportSizeOnResize
+    */
+    public java.util.concurrent.CompletionStage<Void> setShowViewportSizeOnResizeAsync(jpuppeteer.cdp.cdp.entity.overlay.SetShowViewportSizeOnResizeRequest request, int timeout) {
+        return session.sendAsync("Overlay.setShowViewportSizeOnResize", request, timeout);
     }
 }
\ No newline at end of file
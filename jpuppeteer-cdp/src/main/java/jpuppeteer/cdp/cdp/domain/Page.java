@@ -18,9 +18,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #addScriptToEvaluateOnLoadAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnLoadResponse> asyncAddScriptToEvaluateOnLoad(jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnLoadRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.addScriptToEvaluateOnLoad", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnLoadResponse>(future, jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnLoadResponse.class);
+        return session.asyncSend("Page.addScriptToEvaluateOnLoad", request, jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnLoadResponse.class);
+    }
+
+    /**
+    * @see #addScriptToEvaluateOnLoad
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnLoadResponse> addScriptToEvaluateOnLoadAsync(jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnLoadRequest request, int timeout) {
+        return session.sendAsync("Page.addScriptToEvaluateOnLoad", request, jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnLoadResponse.class, timeout);
     }
 
     /**
@@ -31,9 +41,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #addScriptToEvaluateOnNewDocumentAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnNewDocumentResponse> asyncAddScriptToEvaluateOnNewDocument(jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnNewDocumentRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.addScriptToEvaluateOnNewDocument", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnNewDocumentResponse>(future, jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnNewDocumentResponse.class);
+        return session.asyncSend("Page.addScriptToEvaluateOnNewDocument", request, jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnNewDocumentResponse.class);
+    }
+
+    /**
+    * @see #addScriptToEvaluateOnNewDocument
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnNewDocumentResponse> addScriptToEvaluateOnNewDocumentAsync(jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnNewDocumentRequest request, int timeout) {
+        return session.sendAsync("Page.addScriptToEvaluateOnNewDocument", request, jpuppeteer.cdp.cdp.entity.page.AddScriptToEvaluateOnNewDocumentResponse.class, timeout);
     }
 
     /**
@@ -44,9 +64,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #bringToFrontAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncBringToFront() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.bringToFront");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.bringToFront", null, Void.class);
+    }
+
+    /**
+    * @see #bringToFront
+    */
+    public java.util.concurrent.CompletionStage<Void> bringToFrontAsync(int timeout) {
+        return session.sendAsync("Page.bringToFront", null, timeout);
     }
 
     /**
@@ -57,9 +87,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #captureScreenshotAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.page.CaptureScreenshotResponse> asyncCaptureScreenshot(jpuppeteer.cdp.cdp.entity.page.CaptureScreenshotRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.captureScreenshot", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.page.CaptureScreenshotResponse>(future, jpuppeteer.cdp.cdp.entity.page.CaptureScreenshotResponse.class);
+        return session.asyncSend("Page.captureScreenshot", request, jpuppeteer.cdp.cdp.entity.page.CaptureScreenshotResponse.class);
+    }
+
+    /**
+    * @see #captureScreenshot
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.page.CaptureScreenshotResponse> captureScreenshotAsync(jpuppeteer.cdp.cdp.entity.page.CaptureScreenshotRequest request, int timeout) {
+        return session.sendAsync("Page.captureScreenshot", request, jpuppeteer.cdp.cdp.entity.page.CaptureScreenshotResponse.class, timeout);
     }
 
     /**
@@ -70,9 +110,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #captureSnapshotAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.page.CaptureSnapshotResponse> asyncCaptureSnapshot(jpuppeteer.cdp.cdp.entity.page.CaptureSnapshotRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.captureSnapshot", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.page.CaptureSnapshotResponse>(future, jpuppeteer.cdp.cdp.entity.page.CaptureSnapshotResponse.class);
+        return session.asyncSend("Page.captureSnapshot", request, jpuppeteer.cdp.cdp.entity.page.CaptureSnapshotResponse.class);
+    }
+
+    /**
+    * @see #captureSnapshot
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.page.CaptureSnapshotResponse> captureSnapshotAsync(jpuppeteer.cdp.cdp.entity.page.CaptureSnapshotRequest request, int timeout) {
+        return session.sendAsync("Page.captureSnapshot", request, jpuppeteer.cdp.cdp.entity.page.CaptureSnapshotResponse.class, timeout);
     }
 
     /**
@@ -83,9 +133,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #clearDeviceMetricsOverrideAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClearDeviceMetricsOverride() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.clearDeviceMetricsOverride");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.clearDeviceMetricsOverride", null, Void.class);
+    }
+
+    /**
+    * @see #clearDeviceMetricsOverride
+    */
+    public java.util.concurrent.CompletionStage<Void> clearDeviceMetricsOverrideAsync(int timeout) {
+        return session.sendAsync("Page.clearDeviceMetricsOverride", null, timeout);
     }
 
     /**
@@ -96,9 +156,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #clearDeviceOrientationOverrideAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClearDeviceOrientationOverride() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.clearDeviceOrientationOverride");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.clearDeviceOrientationOverride", null, Void.class);
+    }
+
+    /**
+    * @see #clearDeviceOrientationOverride
+    */
+    public java.util.concurrent.CompletionStage<Void> clearDeviceOrientationOverrideAsync(int timeout) {
+        return session.sendAsync("Page.clearDeviceOrientationOverride", null, timeout);
     }
 
     /**
@@ -109,9 +179,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #clearGeolocationOverrideAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClearGeolocationOverride() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.clearGeolocationOverride");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.clearGeolocationOverride", null, Void.class);
+    }
+
+    /**
+    * @see #clearGeolocationOverride
+    */
+    public java.util.concurrent.CompletionStage<Void> clearGeolocationOverrideAsync(int timeout) {
+        return session.sendAsync("Page.clearGeolocationOverride", null, timeout);
     }
 
     /**
@@ -122,9 +202,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #createIsolatedWorldAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.page.CreateIsolatedWorldResponse> asyncCreateIsolatedWorld(jpuppeteer.cdp.cdp.entity.page.CreateIsolatedWorldRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.createIsolatedWorld", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.page.CreateIsolatedWorldResponse>(future, jpuppeteer.cdp.cdp.entity.page.CreateIsolatedWorldResponse.class);
+        return session.asyncSend("Page.createIsolatedWorld", request, jpuppeteer.cdp.cdp.entity.page.CreateIsolatedWorldResponse.class);
+    }
+
+    /**
+    * @see #createIsolatedWorld
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.page.CreateIsolatedWorldResponse> createIsolatedWorldAsync(jpuppeteer.cdp.cdp.entity.page.CreateIsolatedWorldRequest request, int timeout) {
+        return session.sendAsync("Page.createIsolatedWorld", request, jpuppeteer.cdp.cdp.entity.page.CreateIsolatedWorldResponse.class, timeout);
     }
 
     /**
@@ -135,9 +225,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #deleteCookieAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDeleteCookie(jpuppeteer.cdp.cdp.entity.page.DeleteCookieRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.deleteCookie", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.deleteCookie", request, Void.class);
+    }
+
+    /**
+    * @see #deleteCookie
+    */
+    public java.util.concurrent.CompletionStage<Void> deleteCookieAsync(jpuppeteer.cdp.cdp.entity.page.DeleteCookieRequest request, int timeout) {
+        return session.sendAsync("Page.deleteCookie", request, timeout);
     }
 
     /**
@@ -148,9 +248,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("Page.disable", null, timeout);
     }
 
     /**
@@ -161,9 +271,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("Page.enable", null, timeout);
     }
 
     /**
@@ -173,9 +293,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getAppManifestAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.page.GetAppManifestResponse> asyncGetAppManifest() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.getAppManifest");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.page.GetAppManifestResponse>(future, jpuppeteer.cdp.cdp.entity.page.GetAppManifestResponse.class);
+        return session.asyncSend("Page.getAppManifest", null, jpuppeteer.cdp.cdp.entity.page.GetAppManifestResponse.class);
+    }
+
+    /**
+    * @see #getAppManifest
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.page.GetAppManifestResponse> getAppManifestAsync(int timeout) {
+        return session.sendAsync("Page.getAppManifest", null, jpuppeteer.cdp.cdp.entity.page.GetAppManifestResponse.class, timeout);
     }
 
     /**
@@ -185,9 +315,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getInstallabilityErrorsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.page.GetInstallabilityErrorsResponse> asyncGetInstallabilityErrors() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.getInstallabilityErrors");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.page.GetInstallabilityErrorsResponse>(future, jpuppeteer.cdp.cdp.entity.page.GetInstallabilityErrorsResponse.class);
+        return session.asyncSend("Page.getInstallabilityErrors", null, jpuppeteer.cdp.cdp.entity.page.GetInstallabilityErrorsResponse.class);
+    }
+
+    /**
+    * @see #getInstallabilityErrors
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.page.GetInstallabilityErrorsResponse> getInstallabilityErrorsAsync(int timeout) {
+        return session.sendAsync("Page.getInstallabilityErrors", null, jpuppeteer.cdp.cdp.entity.page.GetInstallabilityErrorsResponse.class, timeout);
     }
 
     /**
@@ -197,9 +337,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getManifestIconsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.page.GetManifestIconsResponse> asyncGetManifestIcons() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.getManifestIcons");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.page.GetManifestIconsResponse>(future, jpuppeteer.cdp.cdp.entity.page.GetManifestIconsResponse.class);
+        return session.asyncSend("Page.getManifestIcons", null, jpuppeteer.cdp.cdp.entity.page.GetManifestIconsResponse.class);
+    }
+
+    /**
+    * @see #getManifestIcons
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.page.GetManifestIconsResponse> getManifestIconsAsync(int timeout) {
+        return session.sendAsync("Page.getManifestIcons", null, jpuppeteer.cdp.cdp.entity.page.GetManifestIconsResponse.class, timeout);
     }
 
     /**
@@ -210,9 +360,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getCookiesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.page.GetCookiesResponse> asyncGetCookies() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.getCookies");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.page.GetCookiesResponse>(future, jpuppeteer.cdp.cdp.entity.page.GetCookiesResponse.class);
+        return session.asyncSend("Page.getCookies", null, jpuppeteer.cdp.cdp.entity.page.GetCookiesResponse.class);
+    }
+
+    /**
+    * @see #getCookies
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.page.GetCookiesResponse> getCookiesAsync(int timeout) {
+        return session.sendAsync("Page.getCookies", null, jpuppeteer.cdp.cdp.entity.page.GetCookiesResponse.class, timeout);
     }
 
     /**
@@ -223,9 +383,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getFrameTreeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.page.GetFrameTreeResponse> asyncGetFrameTree() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.getFrameTree");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.page.GetFrameTreeResponse>(future, jpuppeteer.cdp.cdp.entity.page.GetFrameTreeResponse.class);
+        return session.asyncSend("Page.getFrameTree", null, jpuppeteer.cdp.cdp.entity.page.GetFrameTreeResponse.class);
+    }
+
+    /**
+    * @see #getFrameTree
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.page.GetFrameTreeResponse> getFrameTreeAsync(int timeout) {
+        return session.sendAsync("Page.getFrameTree", null, jpuppeteer.cdp.cdp.entity.page.GetFrameTreeResponse.class, timeout);
     }
 
     /**
@@ -236,9 +406,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getLayoutMetricsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.page.GetLayoutMetricsResponse> asyncGetLayoutMetrics() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.getLayoutMetrics");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.page.GetLayoutMetricsResponse>(future, jpuppeteer.cdp.cdp.entity.page.GetLayoutMetricsResponse.class);
+        return session.asyncSend("Page.getLayoutMetrics", null, jpuppeteer.cdp.cdp.entity.page.GetLayoutMetricsResponse.class);
+    }
+
+    /**
+    * @see #getLayoutMetrics
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.page.GetLayoutMetricsResponse> getLayoutMetricsAsync(int timeout) {
+        return session.sendAsync("Page.getLayoutMetrics", null, jpuppeteer.cdp.cdp.entity.page.GetLayoutMetricsResponse.class, timeout);
     }
 
     /**
@@ -249,9 +429,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getNavigationHistoryAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.page.GetNavigationHistoryResponse> asyncGetNavigationHistory() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.getNavigationHistory");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.page.GetNavigationHistoryResponse>(future, jpuppeteer.cdp.cdp.entity.page.GetNavigationHistoryResponse.class);
+        return session.asyncSend("Page.getNavigationHistory", null, jpuppeteer.cdp.cdp.entity.page.GetNavigationHistoryResponse.class);
+    }
+
+    /**
+    * @see #getNavigationHistory
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.page.GetNavigationHistoryResponse> getNavigationHistoryAsync(int timeout) {
+        return session.sendAsync("Page.getNavigationHistory", null, jpuppeteer.cdp.cdp.entity.page.GetNavigationHistoryResponse.class, timeout);
     }
 
     /**
@@ -262,9 +452,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #resetNavigationHistoryAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncResetNavigationHistory() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.resetNavigationHistory");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.resetNavigationHistory", null, Void.class);
+    }
+
+    /**
+    * @see #resetNavigationHistory
+    */
+    public java.util.concurrent.CompletionStage<Void> resetNavigationHistoryAsync(int timeout) {
+        return session.sendAsync("Page.resetNavigationHistory", null, timeout);
     }
 
     /**
@@ -275,9 +475,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getResourceContentAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.page.GetResourceContentResponse> asyncGetResourceContent(jpuppeteer.cdp.cdp.entity.page.GetResourceContentRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.getResourceContent", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.page.GetResourceContentResponse>(future, jpuppeteer.cdp.cdp.entity.page.GetResourceContentResponse.class);
+        return session.asyncSend("Page.getResourceContent", request, jpuppeteer.cdp.cdp.entity.page.GetResourceContentResponse.class);
+    }
+
+    /**
+    * @see #getResourceContent
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.page.GetResourceContentResponse> getResourceContentAsync(jpuppeteer.cdp.cdp.entity.page.GetResourceContentRequest request, int timeout) {
+        return session.sendAsync("Page.getResourceContent", request, jpuppeteer.cdp.cdp.entity.page.GetResourceContentResponse.class, timeout);
     }
 
     /**
@@ -288,9 +498,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getResourceTreeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.page.GetResourceTreeResponse> asyncGetResourceTree() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.getResourceTree");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.page.GetResourceTreeResponse>(future, jpuppeteer.cdp.cdp.entity.page.GetResourceTreeResponse.class);
+        return session.asyncSend("Page.getResourceTree", null, jpuppeteer.cdp.cdp.entity.page.GetResourceTreeResponse.class);
+    }
+
+    /**
+    * @see #getResourceTree
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.page.GetResourceTreeResponse> getResourceTreeAsync(int timeout) {
+        return session.sendAsync("Page.getResourceTree", null, jpuppeteer.cdp.cdp.entity.page.GetResourceTreeResponse.class, timeout);
     }
 
     /**
@@ -301,9 +521,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #handleJavaScriptDialogAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncHandleJavaScriptDialog(jpuppeteer.cdp.cdp.entity.page.HandleJavaScriptDialogRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.handleJavaScriptDialog", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.handleJavaScriptDialog", request, Void.class);
+    }
+
+    /**
+    * @see #handleJavaScriptDialog
+    */
+    public java.util.concurrent.CompletionStage<Void> handleJavaScriptDialogAsync(jpuppeteer.cdp.cdp.entity.page.HandleJavaScriptDialogRequest request, int timeout) {
+        return session.sendAsync("Page.handleJavaScriptDialog", request, timeout);
     }
 
     /**
@@ -314,9 +544,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #navigateAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.page.NavigateResponse> asyncNavigate(jpuppeteer.cdp.cdp.entity.page.NavigateRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.navigate", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.page.NavigateResponse>(future, jpuppeteer.cdp.cdp.entity.page.NavigateResponse.class);
+        return session.asyncSend("Page.navigate", request, jpuppeteer.cdp.cdp.entity.page.NavigateResponse.class);
+    }
+
+    /**
+    * @see #navigate
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.page.NavigateResponse> navigateAsync(jpuppeteer.cdp.cdp.entity.page.NavigateRequest request, int timeout) {
+        return session.sendAsync("Page.navigate", request, jpuppeteer.cdp.cdp.entity.page.NavigateResponse.class, timeout);
     }
 
     /**
@@ -327,9 +567,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #navigateToHistoryEntryAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncNavigateToHistoryEntry(jpuppeteer.cdp.cdp.entity.page.NavigateToHistoryEntryRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.navigateToHistoryEntry", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.navigateToHistoryEntry", request, Void.class);
+    }
+
+    /**
+    * @see #navigateToHistoryEntry
+    */
+    public java.util.concurrent.CompletionStage<Void> navigateToHistoryEntryAsync(jpuppeteer.cdp.cdp.entity.page.NavigateToHistoryEntryRequest request, int timeout) {
+        return session.sendAsync("Page.navigateToHistoryEntry", request, timeout);
     }
 
     /**
@@ -340,9 +590,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #printToPDFAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.page.PrintToPDFResponse> asyncPrintToPDF(jpuppeteer.cdp.cdp.entity.page.PrintToPDFRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.printToPDF", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.page.PrintToPDFResponse>(future, jpuppeteer.cdp.cdp.entity.page.PrintToPDFResponse.class);
+        return session.asyncSend("Page.printToPDF", request, jpuppeteer.cdp.cdp.entity.page.PrintToPDFResponse.class);
+    }
+
+    /**
+    * @see #printToPDF
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.page.PrintToPDFResponse> printToPDFAsync(jpuppeteer.cdp.cdp.entity.page.PrintToPDFRequest request, int timeout) {
+        return session.sendAsync("Page.printToPDF", request, jpuppeteer.cdp.cdp.entity.page.PrintToPDFResponse.class, timeout);
     }
 
     /**
@@ -353,9 +613,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #reloadAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncReload(jpuppeteer.cdp.cdp.entity.page.ReloadRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.reload", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.reload", request, Void.class);
+    }
+
+    /**
+    * @see #reload
+    */
+    public java.util.concurrent.CompletionStage<Void> reloadAsync(jpuppeteer.cdp.cdp.entity.page.ReloadRequest request, int timeout) {
+        return session.sendAsync("Page.reload", request, timeout);
     }
 
     /**
@@ -366,9 +636,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #removeScriptToEvaluateOnLoadAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncRemoveScriptToEvaluateOnLoad(jpuppeteer.cdp.cdp.entity.page.RemoveScriptToEvaluateOnLoadRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.removeScriptToEvaluateOnLoad", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.removeScriptToEvaluateOnLoad", request, Void.class);
+    }
+
+    /**
+    * @see #removeScriptToEvaluateOnLoad
+    */
+    public java.util.concurrent.CompletionStage<Void> removeScriptToEvaluateOnLoadAsync(jpuppeteer.cdp.cdp.entity.page.RemoveScriptToEvaluateOnLoadRequest request, int timeout) {
+        return session.sendAsync("Page.removeScriptToEvaluateOnLoad", request, timeout);
     }
 
     /**
@@ -379,9 +659,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #removeScriptToEvaluateOnNewDocumentAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncRemoveScriptToEvaluateOnNewDocument(jpuppeteer.cdp.cdp.entity.page.RemoveScriptToEvaluateOnNewDocumentRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.removeScriptToEvaluateOnNewDocument", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.removeScriptToEvaluateOnNewDocument", request, Void.class);
+    }
+
+    /**
+    * @see #removeScriptToEvaluateOnNewDocument
+    */
+    public java.util.concurrent.CompletionStage<Void> removeScriptToEvaluateOnNewDocumentAsync(jpuppeteer.cdp.cdp.entity.page.RemoveScriptToEvaluateOnNewDocumentRequest request, int timeout) {
+        return session.sendAsync("Page.removeScriptToEvaluateOnNewDocument", request, timeout);
     }
 
     /**
@@ -392,9 +682,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #screencastFrameAckAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncScreencastFrameAck(jpuppeteer.cdp.cdp.entity.page.ScreencastFrameAckRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.screencastFrameAck", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.screencastFrameAck", request, Void.class);
+    }
+
+    /**
+    * @see #screencastFrameAck
+    */
+    public java.util.concurrent.CompletionStage<Void> screencastFrameAckAsync(jpuppeteer.cdp.cdp.entity.page.ScreencastFrameAckRequest request, int timeout) {
+        return session.sendAsync("Page.screencastFrameAck", request, timeout);
     }
 
     /**
@@ -405,9 +705,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #searchInResourceAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.page.SearchInResourceResponse> asyncSearchInResource(jpuppeteer.cdp.cdp.entity.page.SearchInResourceRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.searchInResource", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.page.SearchInResourceResponse>(future, jpuppeteer.cdp.cdp.entity.page.SearchInResourceResponse.class);
+        return session.asyncSend("Page.searchInResource", request, jpuppeteer.cdp.cdp.entity.page.SearchInResourceResponse.class);
+    }
+
+    /**
+    * @see #searchInResource
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.page.SearchInResourceResponse> searchInResourceAsync(jpuppeteer.cdp.cdp.entity.page.SearchInResourceRequest request, int timeout) {
+        return session.sendAsync("Page.searchInResource", request, jpuppeteer.cdp.cdp.entity.page.SearchInResourceResponse.class, timeout);
     }
 
     /**
@@ -418,9 +728,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setAdBlockingEnabledAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetAdBlockingEnabled(jpuppeteer.cdp.cdp.entity.page.SetAdBlockingEnabledRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.setAdBlockingEnabled", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.setAdBlockingEnabled", request, Void.class);
+    }
+
+    /**
+    * @see #setAdBlockingEnabled
+    */
+    public java.util.concurrent.CompletionStage<Void> setAdBlockingEnabledAsync(jpuppeteer.cdp.cdp.entity.page.SetAdBlockingEnabledRequest request, int timeout) {
+        return session.sendAsync("Page.setAdBlockingEnabled", request, timeout);
     }
 
     /**
@@ -431,9 +751,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setBypassCSPAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetBypassCSP(jpuppeteer.cdp.cdp.entity.page.SetBypassCSPRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.setBypassCSP", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.setBypassCSP", request, Void.class);
+    }
+
+    /**
+    * @see #setBypassCSP
+    */
+    public java.util.concurrent.CompletionStage<Void> setBypassCSPAsync(jpuppeteer.cdp.cdp.entity.page.SetBypassCSPRequest request, int timeout) {
+        return session.sendAsync("Page.setBypassCSP", request, timeout);
     }
 
     /**
@@ -444,9 +774,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setDeviceMetricsOverrideAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetDeviceMetricsOverride(jpuppeteer.cdp.cdp.entity.page.SetDeviceMetricsOverrideRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.setDeviceMetricsOverride", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.setDeviceMetricsOverride", request, Void.class);
+    }
+
+    /**
+    * @see #setDeviceMetricsOverride
+    */
+    public java.util.concurrent.CompletionStage<Void> setDeviceMetricsOverrideAsync(jpuppeteer.cdp.cdp.entity.page.SetDeviceMetricsOverrideRequest request, int timeout) {
+        return session.sendAsync("Page.setDeviceMetricsOverride", request, timeout);
     }
 
     /**
@@ -457,9 +797,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setDeviceOrientationOverrideAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetDeviceOrientationOverride(jpuppeteer.cdp.cdp.entity.page.SetDeviceOrientationOverrideRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.setDeviceOrientationOverride", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.setDeviceOrientationOverride", request, Void.class);
+    }
+
+    /**
+    * @see #setDeviceOrientationOverride
+    */
+    public java.util.concurrent.CompletionStage<Void> setDeviceOrientationOverrideAsync(jpuppeteer.cdp.cdp.entity.page.SetDeviceOrientationOverrideRequest request, int timeout) {
+        return session.sendAsync("Page.setDeviceOrientationOverride", request, timeout);
     }
 
     /**
@@ -470,9 +820,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setFontFamiliesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetFontFamilies(jpuppeteer.cdp.cdp.entity.page.SetFontFamiliesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.setFontFamilies", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.setFontFamilies", request, Void.class);
+    }
+
+    /**
+    * @see #setFontFamilies
+    */
+    public java.util.concurrent.CompletionStage<Void> setFontFamiliesAsync(jpuppeteer.cdp.cdp.entity.page.SetFontFamiliesRequest request, int timeout) {
+        return session.sendAsync("Page.setFontFamilies", request, timeout);
     }
 
     /**
@@ -483,9 +843,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setFontSizesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetFontSizes(jpuppeteer.cdp.cdp.entity.page.SetFontSizesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.setFontSizes", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.setFontSizes", request, Void.class);
+    }
+
+    /**
+    * @see #setFontSizes
+    */
+    public java.util.concurrent.CompletionStage<Void> setFontSizesAsync(jpuppeteer.cdp.cdp.entity.page.SetFontSizesRequest request, int timeout) {
+        return session.sendAsync("Page.setFontSizes", request, timeout);
     }
 
     /**
@@ -496,9 +866,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setDocumentContentAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetDocumentContent(jpuppeteer.cdp.cdp.entity.page.SetDocumentContentRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.setDocumentContent", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.setDocumentContent", request, Void.class);
+    }
+
+    /**
+    * @see #setDocumentContent
+    */
+    public java.util.concurrent.CompletionStage<Void> setDocumentContentAsync(jpuppeteer.cdp.cdp.entity.page.SetDocumentContentRequest request, int timeout) {
+        return session.sendAsync("Page.setDocumentContent", request, timeout);
     }
 
     /**
@@ -509,9 +889,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setDownloadBehaviorAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetDownloadBehavior(jpuppeteer.cdp.cdp.entity.page.SetDownloadBehaviorRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.setDownloadBehavior", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.setDownloadBehavior", request, Void.class);
+    }
+
+    /**
+    * @see #setDownloadBehavior
+    */
+    public java.util.concurrent.CompletionStage<Void> setDownloadBehaviorAsync(jpuppeteer.cdp.cdp.entity.page.SetDownloadBehaviorRequest request, int timeout) {
+        return session.sendAsync("Page.setDownloadBehavior", request, timeout);
     }
 
     /**
@@ -522,9 +912,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setGeolocationOverrideAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetGeolocationOverride(jpuppeteer.cdp.cdp.entity.page.SetGeolocationOverrideRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.setGeolocationOverride", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.setGeolocationOverride", request, Void.class);
+    }
+
+    /**
+    * @see #setGeolocationOverride
+    */
+    public java.util.concurrent.CompletionStage<Void> setGeolocationOverrideAsync(jpuppeteer.cdp.cdp.entity.page.SetGeolocationOverrideRequest request, int timeout) {
+        return session.sendAsync("Page.setGeolocationOverride", request, timeout);
     }
 
     /**
@@ -535,9 +935,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setLifecycleEventsEnabledAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetLifecycleEventsEnabled(jpuppeteer.cdp.cdp.entity.page.SetLifecycleEventsEnabledRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.setLifecycleEventsEnabled", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.setLifecycleEventsEnabled", request, Void.class);
+    }
+
+    /**
+    * @see #setLifecycleEventsEnabled
+    */
+    public java.util.concurrent.CompletionStage<Void> setLifecycleEventsEnabledAsync(jpuppeteer.cdp.cdp.entity.page.SetLifecycleEventsEnabledRequest request, int timeout) {
+        return session.sendAsync("Page.setLifecycleEventsEnabled", request, timeout);
     }
 
     /**
@@ -548,9 +958,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setTouchEmulationEnabledAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetTouchEmulationEnabled(jpuppeteer.cdp.cdp.entity.page.SetTouchEmulationEnabledRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.setTouchEmulationEnabled", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.setTouchEmulationEnabled", request, Void.class);
+    }
+
+    /**
+    * @see #setTouchEmulationEnabled
+    */
+    public java.util.concurrent.CompletionStage<Void> setTouchEmulationEnabledAsync(jpuppeteer.cdp.cdp.entity.page.SetTouchEmulationEnabledRequest request, int timeout) {
+        return session.sendAsync("Page.setTouchEmulationEnabled", request, timeout);
     }
 
     /**
@@ -561,9 +981,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #startScreencastAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStartScreencast(jpuppeteer.cdp.cdp.entity.page.StartScreencastRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.startScreencast", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.startScreencast", request, Void.class);
+    }
+
+    /**
+    * @see #startScreencast
+    */
+    public java.util.concurrent.CompletionStage<Void> startScreencastAsync(jpuppeteer.cdp.cdp.entity.page.StartScreencastRequest request, int timeout) {
+        return session.sendAsync("Page.startScreencast", request, timeout);
     }
 
     /**
@@ -574,9 +1004,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #stopLoadingAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStopLoading() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.stopLoading");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.stopLoading", null, Void.class);
+    }
+
+    /**
+    * @see #stopLoading
+    */
+    public java.util.concurrent.CompletionStage<Void> stopLoadingAsync(int timeout) {
+        return session.sendAsync("Page.stopLoading", null, timeout);
     }
 
     /**
@@ -587,9 +1027,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #crashAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncCrash() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.crash");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.crash", null, Void.class);
+    }
+
+    /**
+    * @see #crash
+    */
+    public java.util.concurrent.CompletionStage<Void> crashAsync(int timeout) {
+        return session.sendAsync("Page.crash", null, timeout);
     }
 
     /**
@@ -600,9 +1050,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #closeAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClose() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.close");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.close", null, Void.class);
+    }
+
+    /**
+    * @see #close
+    */
+    public java.util.concurrent.CompletionStage<Void> closeAsync(int timeout) {
+        return session.sendAsync("Page.close", null, timeout);
     }
 
     /**
@@ -613,9 +1073,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setWebLifecycleStateAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetWebLifecycleState(jpuppeteer.cdp.cdp.entity.page.SetWebLifecycleStateRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.setWebLifecycleState", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.setWebLifecycleState", request, Void.class);
+    }
+
+    /**
+    * @see #setWebLifecycleState
+    */
+    public java.util.concurrent.CompletionStage<Void> setWebLifecycleStateAsync(jpuppeteer.cdp.cdp.entity.page.SetWebLifecycleStateRequest request, int timeout) {
+        return session.sendAsync("Page.setWebLifecycleState", request, timeout);
     }
 
     /**
@@ -626,9 +1096,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #stopScreencastAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStopScreencast() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.stopScreencast");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.stopScreencast", null, Void.class);
+    }
+
+    /**
+    * @see #stopScreencast
+    */
+    public java.util.concurrent.CompletionStage<Void> stopScreencastAsync(int timeout) {
+        return session.sendAsync("Page.stopScreencast", null, timeout);
     }
 
     /**
@@ -639,9 +1119,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setProduceCompilationCacheAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetProduceCompilationCache(jpuppeteer.cdp.cdp.entity.page.SetProduceCompilationCacheRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.setProduceCompilationCache", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.setProduceCompilationCache", request, Void.class);
+    }
+
+    /**
+    * @see #setProduceCompilationCache
+    */
+    public java.util.concurrent.CompletionStage<Void> setProduceCompilationCacheAsync(jpuppeteer.cdp.cdp.entity.page.SetProduceCompilationCacheRequest request, int timeout) {
+        return session.sendAsync("Page.setProduceCompilationCache", request, timeout);
     }
 
     /**
@@ -652,9 +1142,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #addCompilationCacheAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncAddCompilationCache(jpuppeteer.cdp.cdp.entity.page.AddCompilationCacheRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.addCompilationCache", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.addCompilationCache", request, Void.class);
+    }
+
+    /**
+    * @see #addCompilationCache
+    */
+    public java.util.concurrent.CompletionStage<Void> addCompilationCacheAsync(jpuppeteer.cdp.cdp.entity.page.AddCompilationCacheRequest request, int timeout) {
+        return session.sendAsync("Page.addCompilationCache", request, timeout);
     }
 
     /**
@@ -665,9 +1165,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #clearCompilationCacheAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClearCompilationCache() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.clearCompilationCache");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.clearCompilationCache", null, Void.class);
+    }
+
+    /**
+    * @see #clearCompilationCache
+    */
+    public java.util.concurrent.CompletionStage<Void> clearCompilationCacheAsync(int timeout) {
+        return session.sendAsync("Page.clearCompilationCache", null, timeout);
     }
 
     /**
@@ -678,9 +1188,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #generateTestReportAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncGenerateTestReport(jpuppeteer.cdp.cdp.entity.page.GenerateTestReportRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.generateTestReport", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.generateTestReport", request, Void.class);
+    }
+
+    /**
+    * @see #generateTestReport
+    */
+    public java.util.concurrent.CompletionStage<Void> generateTestReportAsync(jpuppeteer.cdp.cdp.entity.page.GenerateTestReportRequest request, int timeout) {
+        return session.sendAsync("Page.generateTestReport", request, timeout);
     }
 
     /**
@@ -691,9 +1211,19 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #waitForDebuggerAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncWaitForDebugger() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.waitForDebugger");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.waitForDebugger", null, Void.class);
+    }
+
+    /**
+    * @see #waitForDebugger
+    */
+    public java.util.concurrent.CompletionStage<Void> waitForDebuggerAsync(int timeout) {
+        return session.sendAsync("Page.waitForDebugger", null, timeout);
     }
 
     /**
@@ -704,8 +1234,18 @@ public class Page {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setInterceptFileChooserDialogAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetInterceptFileChooserDialog(jpuppeteer.cdp.cdp.entity.page.SetInterceptFileChooserDialogRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Page.setInterceptFileChooserDialog", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Page.setInterceptFileChooserDialog", request, Void.class);
+    }
+
+    /**
+    * @see #setInterceptFileChooserDialog
+    */
+    public java.util.concurrent.CompletionStage<Void> setInterceptFileChooserDialogAsync(jpuppeteer.cdp.cdp.entity.page.SetInterceptFileChooserDialogRequest request, int timeout) {
+        return session.sendAsync("Page.setInterceptFileChooserDialog", request, timeout);
     }
 }
\ No newline at end of file
@@ -18,9 +18,19 @@ public class Performance {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Performance.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Performance.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("Performance.disable", null, timeout);
     }
 
     /**
@@ -31,9 +41,19 @@ public class Performance {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Performance.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Performance.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("Performance.enable", null, timeout);
     }
 
     /**
@@ -44,9 +64,19 @@ public class Performance {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setTimeDomainAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetTimeDomain(jpuppeteer.cdp.cdp.entity.performance.SetTimeDomainRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Performance.setTimeDomain", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Performance.setTimeDomain", request, Void.class);
+    }
+
+    /**
+    * @see #setTimeDomain
+    */
+    public java.util.concurrent.CompletionStage<Void> setTimeDomainAsync(jpuppeteer.cdp.cdp.entity.performance.SetTimeDomainRequest request, int timeout) {
+        return session.sendAsync("Performance.setTimeDomain", request, timeout);
     }
 
     /**
@@ -57,8 +87,18 @@ public class Performance {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getMetricsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.performance.GetMetricsResponse> asyncGetMetrics() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Performance.getMetrics");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.performance.GetMetricsResponse>(future, jpuppeteer.cdp.cdp.entity.performance.GetMetricsResponse.class);
+        return session.asyncSend("Performance.getMetrics", null, jpuppeteer.cdp.cdp.entity.performance.GetMetricsResponse.class);
+    }
+
+    /**
+    * @see #getMetrics
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.performance.GetMetricsResponse> getMetricsAsync(int timeout) {
+        return session.sendAsync("Performance.getMetrics", null, jpuppeteer.cdp.cdp.entity.performance.GetMetricsResponse.class, timeout);
     }
 }
\ No newline at end of file
@@ -17,9 +17,19 @@ public class Profiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Profiler.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Profiler.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("Profiler.disable", null, timeout);
     }
 
     /**
@@ -29,9 +39,19 @@ public class Profiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Profiler.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Profiler.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("Profiler.enable", null, timeout);
     }
 
     /**
@@ -42,9 +62,19 @@ public class Profiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getBestEffortCoverageAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.profiler.GetBestEffortCoverageResponse> asyncGetBestEffortCoverage() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Profiler.getBestEffortCoverage");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.profiler.GetBestEffortCoverageResponse>(future, jpuppeteer.cdp.cdp.entity.profiler.GetBestEffortCoverageResponse.class);
+        return session.asyncSend("Profiler.getBestEffortCoverage", null, jpuppeteer.cdp.cdp.entity.profiler.GetBestEffortCoverageResponse.class);
+    }
+
+    /**
+    * @see #getBestEffortCoverage
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.profiler.GetBestEffortCoverageResponse> getBestEffortCoverageAsync(int timeout) {
+        return session.sendAsync("Profiler.getBestEffortCoverage", null, jpuppeteer.cdp.cdp.entity.profiler.GetBestEffortCoverageResponse.class, timeout);
     }
 
     /**
@@ -55,9 +85,19 @@ public class Profiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setSamplingIntervalAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetSamplingInterval(jpuppeteer.cdp.cdp.entity.profiler.SetSamplingIntervalRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Profiler.setSamplingInterval", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Profiler.setSamplingInterval", request, Void.class);
+    }
+
+    /**
+    * @see #setSamplingInterval
+    */
+    public java.util.concurrent.CompletionStage<Void> setSamplingIntervalAsync(jpuppeteer.cdp.cdp.entity.profiler.SetSamplingIntervalRequest request, int timeout) {
+        return session.sendAsync("Profiler.setSamplingInterval", request, timeout);
     }
 
     /**
@@ -67,9 +107,19 @@ public class Profiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #startAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStart() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Profiler.start");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Profiler.start", null, Void.class);
+    }
+
+    /**
+    * @see #start
+    */
+    public java.util.concurrent.CompletionStage<Void> startAsync(int timeout) {
+        return session.sendAsync("Profiler.start", null, timeout);
     }
 
     /**
@@ -80,9 +130,19 @@ public class Profiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #startPreciseCoverageAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStartPreciseCoverage(jpuppeteer.cdp.cdp.entity.profiler.StartPreciseCoverageRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Profiler.startPreciseCoverage", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Profiler.startPreciseCoverage", request, Void.class);
+    }
+
+    /**
+    * @see #startPreciseCoverage
+    */
+    public java.util.concurrent.CompletionStage<Void> startPreciseCoverageAsync(jpuppeteer.cdp.cdp.entity.profiler.StartPreciseCoverageRequest request, int timeout) {
+        return session.sendAsync("Profiler.startPreciseCoverage", request, timeout);
     }
 
     /**
@@ -93,9 +153,19 @@ public class Profiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #startTypeProfileAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStartTypeProfile() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Profiler.startTypeProfile");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Profiler.startTypeProfile", null, Void.class);
+    }
+
+    /**
+    * @see #startTypeProfile
+    */
+    public java.util.concurrent.CompletionStage<Void> startTypeProfileAsync(int timeout) {
+        return session.sendAsync("Profiler.startTypeProfile", null, timeout);
     }
 
     /**
@@ -105,9 +175,19 @@ public class Profiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #stopAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.profiler.StopResponse> asyncStop() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Profiler.stop");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.profiler.StopResponse>(future, jpuppeteer.cdp.cdp.entity.profiler.StopResponse.class);
+        return session.asyncSend("Profiler.stop", null, jpuppeteer.cdp.cdp.entity.profiler.StopResponse.class);
+    }
+
+    /**
+    * @see #stop
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.profiler.StopResponse> stopAsync(int timeout) {
+        return session.sendAsync("Profiler.stop", null, jpuppeteer.cdp.cdp.entity.profiler.StopResponse.class, timeout);
     }
 
     /**
@@ -118,9 +198,19 @@ public class Profiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #stopPreciseCoverageAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStopPreciseCoverage() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Profiler.stopPreciseCoverage");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Profiler.stopPreciseCoverage", null, Void.class);
+    }
+
+    /**
+    * @see #stopPreciseCoverage
+    */
+    public java.util.concurrent.CompletionStage<Void> stopPreciseCoverageAsync(int timeout) {
+        return session.sendAsync("Profiler.stopPreciseCoverage", null, timeout);
     }
 
     /**
@@ -131,9 +221,19 @@ public class Profiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #stopTypeProfileAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStopTypeProfile() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Profiler.stopTypeProfile");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Profiler.stopTypeProfile", null, Void.class);
+    }
+
+    /**
+    * @see #stopTypeProfile
+    */
+    public java.util.concurrent.CompletionStage<Void> stopTypeProfileAsync(int timeout) {
+        return session.sendAsync("Profiler.stopTypeProfile", null, timeout);
     }
 
     /**
@@ -144,9 +244,19 @@ public class Profiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #takePreciseCoverageAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.profiler.TakePreciseCoverageResponse> asyncTakePreciseCoverage() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Profiler.takePreciseCoverage");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.profiler.TakePreciseCoverageResponse>(future, jpuppeteer.cdp.cdp.entity.profiler.TakePreciseCoverageResponse.class);
+        return session.asyncSend("Profiler.takePreciseCoverage", null, jpuppeteer.cdp.cdp.entity.profiler.TakePreciseCoverageResponse.class);
+    }
+
+    /**
+    * @see #takePreciseCoverage
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.profiler.TakePreciseCoverageResponse> takePreciseCoverageAsync(int timeout) {
+        return session.sendAsync("Profiler.takePreciseCoverage", null, jpuppeteer.cdp.cdp.entity.profiler.TakePreciseCoverageResponse.class, timeout);
     }
 
     /**
@@ -157,9 +267,19 @@ public class Profiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #takeTypeProfileAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.profiler.TakeTypeProfileResponse> asyncTakeTypeProfile() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Profiler.takeTypeProfile");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.profiler.TakeTypeProfileResponse>(future, jpuppeteer.cdp.cdp.entity.profiler.TakeTypeProfileResponse.class);
+        return session.asyncSend("Profiler.takeTypeProfile", null, jpuppeteer.cdp.cdp.entity.profiler.TakeTypeProfileResponse.class);
+    }
+
+    /**
+    * @see #takeTypeProfile
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.profiler.TakeTypeProfileResponse> takeTypeProfileAsync(int timeout) {
+        return session.sendAsync("Profiler.takeTypeProfile", null, jpuppeteer.cdp.cdp.entity.profiler.TakeTypeProfileResponse.class, timeout);
     }
 
     /**
@@ -170,9 +290,19 @@ public class Profiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableRuntimeCallStatsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnableRuntimeCallStats() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Profiler.enableRuntimeCallStats");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Profiler.enableRuntimeCallStats", null, Void.class);
+    }
+
+    /**
+    * @see #enableRuntimeCallStats
+    */
+    public java.util.concurrent.CompletionStage<Void> enableRuntimeCallStatsAsync(int timeout) {
+        return session.sendAsync("Profiler.enableRuntimeCallStats", null, timeout);
     }
 
     /**
@@ -183,9 +313,19 @@ public class Profiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableRuntimeCallStatsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisableRuntimeCallStats() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Profiler.disableRuntimeCallStats");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Profiler.disableRuntimeCallStats", null, Void.class);
+    }
+
+    /**
+    * @see #disableRuntimeCallStats
+    */
+    public java.util.concurrent.CompletionStage<Void> disableRuntimeCallStatsAsync(int timeout) {
+        return session.sendAsync("Profiler.disableRuntimeCallStats", null, timeout);
     }
 
     /**
@@ -196,8 +336,18 @@ public class Profiler {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getRuntimeCallStatsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.profiler.GetRuntimeCallStatsResponse> asyncGetRuntimeCallStats() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Profiler.getRuntimeCallStats");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.profiler.GetRuntimeCallStatsResponse>(future, jpuppeteer.cdp.cdp.entity.profiler.GetRuntimeCallStatsResponse.class);
+        return session.asyncSend("Profiler.getRuntimeCallStats", null, jpuppeteer.cdp.cdp.entity.profiler.GetRuntimeCallStatsResponse.class);
+    }
+
+    /**
+    * @see #getRuntimeCallStats
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.profiler.GetRuntimeCallStatsResponse> getRuntimeCallStatsAsync(int timeout) {
+        return session.sendAsync("Profiler.getRuntimeCallStats", null, jpuppeteer.cdp.cdp.entity.profiler.GetRuntimeCallStatsResponse.class, timeout);
     }
 }
\ No newline at end of file
@@ -18,9 +18,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #awaitPromiseAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.runtime.AwaitPromiseResponse> asyncAwaitPromise(jpuppeteer.cdp.cdp.entity.runtime.AwaitPromiseRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.awaitPromise", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.runtime.AwaitPromiseResponse>(future, jpuppeteer.cdp.cdp.entity.runtime.AwaitPromiseResponse.class);
+        return session.asyncSend("Runtime.awaitPromise", request, jpuppeteer.cdp.cdp.entity.runtime.AwaitPromiseResponse.class);
+    }
+
+    /**
+    * @see #awaitPromise
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.runtime.AwaitPromiseResponse> awaitPromiseAsync(jpuppeteer.cdp.cdp.entity.runtime.AwaitPromiseRequest request, int timeout) {
+        return session.sendAsync("Runtime.awaitPromise", request, jpuppeteer.cdp.cdp.entity.runtime.AwaitPromiseResponse.class, timeout);
     }
 
     /**
@@ -31,9 +41,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #callFunctionOnAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.runtime.CallFunctionOnResponse> asyncCallFunctionOn(jpuppeteer.cdp.cdp.entity.runtime.CallFunctionOnRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.callFunctionOn", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.runtime.CallFunctionOnResponse>(future, jpuppeteer.cdp.cdp.entity.runtime.CallFunctionOnResponse.class);
+        return session.asyncSend("Runtime.callFunctionOn", request, jpuppeteer.cdp.cdp.entity.runtime.CallFunctionOnResponse.class);
+    }
+
+    /**
+    * @see #callFunctionOn
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.runtime.CallFunctionOnResponse> callFunctionOnAsync(jpuppeteer.cdp.cdp.entity.runtime.CallFunctionOnRequest request, int timeout) {
+        return session.sendAsync("Runtime.callFunctionOn", request, jpuppeteer.cdp.cdp.entity.runtime.CallFunctionOnResponse.class, timeout);
     }
 
     /**
@@ -44,9 +64,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #compileScriptAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.runtime.CompileScriptResponse> asyncCompileScript(jpuppeteer.cdp.cdp.entity.runtime.CompileScriptRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.compileScript", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.runtime.CompileScriptResponse>(future, jpuppeteer.cdp.cdp.entity.runtime.CompileScriptResponse.class);
+        return session.asyncSend("Runtime.compileScript", request, jpuppeteer.cdp.cdp.entity.runtime.CompileScriptResponse.class);
+    }
+
+    /**
+    * @see #compileScript
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.runtime.CompileScriptResponse> compileScriptAsync(jpuppeteer.cdp.cdp.entity.runtime.CompileScriptRequest request, int timeout) {
+        return session.sendAsync("Runtime.compileScript", request, jpuppeteer.cdp.cdp.entity.runtime.CompileScriptResponse.class, timeout);
     }
 
     /**
@@ -57,9 +87,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Runtime.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("Runtime.disable", null, timeout);
     }
 
     /**
@@ -70,9 +110,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #discardConsoleEntriesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDiscardConsoleEntries() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.discardConsoleEntries");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Runtime.discardConsoleEntries", null, Void.class);
+    }
+
+    /**
+    * @see #discardConsoleEntries
+    */
+    public java.util.concurrent.CompletionStage<Void> discardConsoleEntriesAsync(int timeout) {
+        return session.sendAsync("Runtime.discardConsoleEntries", null, timeout);
     }
 
     /**
@@ -83,9 +133,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Runtime.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("Runtime.enable", null, timeout);
     }
 
     /**
@@ -96,9 +156,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #evaluateAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.runtime.EvaluateResponse> asyncEvaluate(jpuppeteer.cdp.cdp.entity.runtime.EvaluateRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.evaluate", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.runtime.EvaluateResponse>(future, jpuppeteer.cdp.cdp.entity.runtime.EvaluateResponse.class);
+        return session.asyncSend("Runtime.evaluate", request, jpuppeteer.cdp.cdp.entity.runtime.EvaluateResponse.class);
+    }
+
+    /**
+    * @see #evaluate
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.runtime.EvaluateResponse> evaluateAsync(jpuppeteer.cdp.cdp.entity.runtime.EvaluateRequest request, int timeout) {
+        return session.sendAsync("Runtime.evaluate", request, jpuppeteer.cdp.cdp.entity.runtime.EvaluateResponse.class, timeout);
     }
 
     /**
@@ -109,9 +179,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getIsolateIdAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.runtime.GetIsolateIdResponse> asyncGetIsolateId() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.getIsolateId");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.runtime.GetIsolateIdResponse>(future, jpuppeteer.cdp.cdp.entity.runtime.GetIsolateIdResponse.class);
+        return session.asyncSend("Runtime.getIsolateId", null, jpuppeteer.cdp.cdp.entity.runtime.GetIsolateIdResponse.class);
+    }
+
+    /**
+    * @see #getIsolateId
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.runtime.GetIsolateIdResponse> getIsolateIdAsync(int timeout) {
+        return session.sendAsync("Runtime.getIsolateId", null, jpuppeteer.cdp.cdp.entity.runtime.GetIsolateIdResponse.class, timeout);
     }
 
     /**
@@ -122,9 +202,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getHeapUsageAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.runtime.GetHeapUsageResponse> asyncGetHeapUsage() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.getHeapUsage");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.runtime.GetHeapUsageResponse>(future, jpuppeteer.cdp.cdp.entity.runtime.GetHeapUsageResponse.class);
+        return session.asyncSend("Runtime.getHeapUsage", null, jpuppeteer.cdp.cdp.entity.runtime.GetHeapUsageResponse.class);
+    }
+
+    /**
+    * @see #getHeapUsage
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.runtime.GetHeapUsageResponse> getHeapUsageAsync(int timeout) {
+        return session.sendAsync("Runtime.getHeapUsage", null, jpuppeteer.cdp.cdp.entity.runtime.GetHeapUsageResponse.class, timeout);
     }
 
     /**
@@ -135,9 +225,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getPropertiesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.runtime.GetPropertiesResponse> asyncGetProperties(jpuppeteer.cdp.cdp.entity.runtime.GetPropertiesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.getProperties", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.runtime.GetPropertiesResponse>(future, jpuppeteer.cdp.cdp.entity.runtime.GetPropertiesResponse.class);
+        return session.asyncSend("Runtime.getProperties", request, jpuppeteer.cdp.cdp.entity.runtime.GetPropertiesResponse.class);
+    }
+
+    /**
+    * @see #getProperties
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.runtime.GetPropertiesResponse> getPropertiesAsync(jpuppeteer.cdp.cdp.entity.runtime.GetPropertiesRequest request, int timeout) {
+        return session.sendAsync("Runtime.getProperties", request, jpuppeteer.cdp.cdp.entity.runtime.GetPropertiesResponse.class, timeout);
     }
 
     /**
@@ -148,9 +248,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #globalLexicalScopeNamesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.runtime.GlobalLexicalScopeNamesResponse> asyncGlobalLexicalScopeNames(jpuppeteer.cdp.cdp.entity.runtime.GlobalLexicalScopeNamesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.globalLexicalScopeNames", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.runtime.GlobalLexicalScopeNamesResponse>(future, jpuppeteer.cdp.cdp.entity.runtime.GlobalLexicalScopeNamesResponse.class);
+        return session.asyncSend("Runtime.globalLexicalScopeNames", request, jpuppeteer.cdp.cdp.entity.runtime.GlobalLexicalScopeNamesResponse.class);
+    }
+
+    /**
+    * @see #globalLexicalScopeNames
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.runtime.GlobalLexicalScopeNamesResponse> globalLexicalScopeNamesAsync(jpuppeteer.cdp.cdp.entity.runtime.GlobalLexicalScopeNamesRequest request, int timeout) {
+        return session.sendAsync("Runtime.globalLexicalScopeNames", request, jpuppeteer.cdp.cdp.entity.runtime.GlobalLexicalScopeNamesResponse.class, timeout);
     }
 
     /**
@@ -160,9 +270,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #queryObjectsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.runtime.QueryObjectsResponse> asyncQueryObjects(jpuppeteer.cdp.cdp.entity.runtime.QueryObjectsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.queryObjects", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.runtime.QueryObjectsResponse>(future, jpuppeteer.cdp.cdp.entity.runtime.QueryObjectsResponse.class);
+        return session.asyncSend("Runtime.queryObjects", request, jpuppeteer.cdp.cdp.entity.runtime.QueryObjectsResponse.class);
+    }
+
+    /**
+    * @see #queryObjects
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.runtime.QueryObjectsResponse> queryObjectsAsync(jpuppeteer.cdp.cdp.entity.runtime.QueryObjectsRequest request, int timeout) {
+        return session.sendAsync("Runtime.queryObjects", request, jpuppeteer.cdp.cdp.entity.runtime.QueryObjectsResponse.class, timeout);
     }
 
     /**
@@ -173,9 +293,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #releaseObjectAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncReleaseObject(jpuppeteer.cdp.cdp.entity.runtime.ReleaseObjectRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.releaseObject", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Runtime.releaseObject", request, Void.class);
+    }
+
+    /**
+    * @see #releaseObject
+    */
+    public java.util.concurrent.CompletionStage<Void> releaseObjectAsync(jpuppeteer.cdp.cdp.entity.runtime.ReleaseObjectRequest request, int timeout) {
+        return session.sendAsync("Runtime.releaseObject", request, timeout);
     }
 
     /**
@@ -186,9 +316,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #releaseObjectGroupAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncReleaseObjectGroup(jpuppeteer.cdp.cdp.entity.runtime.ReleaseObjectGroupRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.releaseObjectGroup", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Runtime.releaseObjectGroup", request, Void.class);
+    }
+
+    /**
+    * @see #releaseObjectGroup
+    */
+    public java.util.concurrent.CompletionStage<Void> releaseObjectGroupAsync(jpuppeteer.cdp.cdp.entity.runtime.ReleaseObjectGroupRequest request, int timeout) {
+        return session.sendAsync("Runtime.releaseObjectGroup", request, timeout);
     }
 
     /**
@@ -199,9 +339,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #runIfWaitingForDebuggerAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncRunIfWaitingForDebugger() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.runIfWaitingForDebugger");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Runtime.runIfWaitingForDebugger", null, Void.class);
+    }
+
+    /**
+    * @see #runIfWaitingForDebugger
+    */
+    public java.util.concurrent.CompletionStage<Void> runIfWaitingForDebuggerAsync(int timeout) {
+        return session.sendAsync("Runtime.runIfWaitingForDebugger", null, timeout);
     }
 
     /**
@@ -212,9 +362,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #runScriptAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.runtime.RunScriptResponse> asyncRunScript(jpuppeteer.cdp.cdp.entity.runtime.RunScriptRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.runScript", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.runtime.RunScriptResponse>(future, jpuppeteer.cdp.cdp.entity.runtime.RunScriptResponse.class);
+        return session.asyncSend("Runtime.runScript", request, jpuppeteer.cdp.cdp.entity.runtime.RunScriptResponse.class);
+    }
+
+    /**
+    * @see #runScript
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.runtime.RunScriptResponse> runScriptAsync(jpuppeteer.cdp.cdp.entity.runtime.RunScriptRequest request, int timeout) {
+        return session.sendAsync("Runtime.runScript", request, jpuppeteer.cdp.cdp.entity.runtime.RunScriptResponse.class, timeout);
     }
 
     /**
@@ -225,9 +385,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setAsyncCallStackDepthAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetAsyncCallStackDepth(jpuppeteer.cdp.cdp.entity.runtime.SetAsyncCallStackDepthRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.setAsyncCallStackDepth", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Runtime.setAsyncCallStackDepth", request, Void.class);
+    }
+
+    /**
+    * @see #setAsyncCallStackDepth
+    */
+    public java.util.concurrent.CompletionStage<Void> setAsyncCallStackDepthAsync(jpuppeteer.cdp.cdp.entity.runtime.SetAsyncCallStackDepthRequest request, int timeout) {
+        return session.sendAsync("Runtime.setAsyncCallStackDepth", request, timeout);
     }
 
     /**
@@ -237,9 +407,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setCustomObjectFormatterEnabledAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetCustomObjectFormatterEnabled(jpuppeteer.cdp.cdp.entity.runtime.SetCustomObjectFormatterEnabledRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.setCustomObjectFormatterEnabled", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Runtime.setCustomObjectFormatterEnabled", request, Void.class);
+    }
+
+    /**
+    * @see #setCustomObjectFormatterEnabled
+    */
+    public java.util.concurrent.CompletionStage<Void> setCustomObjectFormatterEnabledAsync(jpuppeteer.cdp.cdp.entity.runtime.SetCustomObjectFormatterEnabledRequest request, int timeout) {
+        return session.sendAsync("Runtime.setCustomObjectFormatterEnabled", request, timeout);
     }
 
     /**
@@ -249,9 +429,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setMaxCallStackSizeToCaptureAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetMaxCallStackSizeToCapture(jpuppeteer.cdp.cdp.entity.runtime.SetMaxCallStackSizeToCaptureRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.setMaxCallStackSizeToCapture", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Runtime.setMaxCallStackSizeToCapture", request, Void.class);
+    }
+
+    /**
+    * @see #setMaxCallStackSizeToCapture
+    */
+    public java.util.concurrent.CompletionStage<Void> setMaxCallStackSizeToCaptureAsync(jpuppeteer.cdp.cdp.entity.runtime.SetMaxCallStackSizeToCaptureRequest request, int timeout) {
+        return session.sendAsync("Runtime.setMaxCallStackSizeToCapture", request, timeout);
     }
 
     /**
@@ -262,9 +452,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #terminateExecutionAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncTerminateExecution() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.terminateExecution");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Runtime.terminateExecution", null, Void.class);
+    }
+
+    /**
+    * @see #terminateExecution
+    */
+    public java.util.concurrent.CompletionStage<Void> terminateExecutionAsync(int timeout) {
+        return session.sendAsync("Runtime.terminateExecution", null, timeout);
     }
 
     /**
@@ -275,9 +475,19 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #addBindingAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncAddBinding(jpuppeteer.cdp.cdp.entity.runtime.AddBindingRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.addBinding", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Runtime.addBinding", request, Void.class);
+    }
+
+    /**
+    * @see #addBinding
+    */
+    public java.util.concurrent.CompletionStage<Void> addBindingAsync(jpuppeteer.cdp.cdp.entity.runtime.AddBindingRequest request, int timeout) {
+        return session.sendAsync("Runtime.addBinding", request, timeout);
     }
 
     /**
@@ -288,8 +498,18 @@ public class Runtime {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #removeBindingAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncRemoveBinding(jpuppeteer.cdp.cdp.entity.runtime.RemoveBindingRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Runtime.removeBinding", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Runtime.removeBinding", request, Void.class);
+    }
+
+    /**
+    * @see #removeBinding
+    */
+    public java.util.concurrent.CompletionStage<Void> removeBindingAsync(jpuppeteer.cdp.cdp.entity.runtime.RemoveBindingRequest request, int timeout) {
+        return session.sendAsync("Runtime.removeBinding", request, timeout);
     }
 }
\ No newline at end of file
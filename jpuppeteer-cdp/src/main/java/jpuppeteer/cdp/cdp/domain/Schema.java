@@ -18,8 +18,18 @@ public class Schema {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getDomainsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.schema.GetDomainsResponse> asyncGetDomains() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Schema.getDomains");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.schema.GetDomainsResponse>(future, jpuppeteer.cdp.cdp.entity.schema.GetDomainsResponse.class);
+        return session.asyncSend("Schema.getDomains", null, jpuppeteer.cdp.cdp.entity.schema.GetDomainsResponse.class);
+    }
+
+    /**
+    * @see #getDomains
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.schema.GetDomainsResponse> getDomainsAsync(int timeout) {
+        return session.sendAsync("Schema.getDomains", null, jpuppeteer.cdp.cdp.entity.schema.GetDomainsResponse.class, timeout);
     }
 }
\ No newline at end of file
@@ -18,9 +18,19 @@ public class Security {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Security.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Security.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("Security.disable", null, timeout);
     }
 
     /**
@@ -31,9 +41,19 @@ public class Security {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Security.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Security.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("Security.enable", null, timeout);
     }
 
     /**
@@ -44,9 +64,19 @@ public class Security {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setIgnoreCertificateErrorsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetIgnoreCertificateErrors(jpuppeteer.cdp.cdp.entity.security.SetIgnoreCertificateErrorsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Security.setIgnoreCertificateErrors", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Security.setIgnoreCertificateErrors", request, Void.class);
+    }
+
+    /**
+    * @see #setIgnoreCertificateErrors
+    */
+    public java.util.concurrent.CompletionStage<Void> setIgnoreCertificateErrorsAsync(jpuppeteer.cdp.cdp.entity.security.SetIgnoreCertificateErrorsRequest request, int timeout) {
+        return session.sendAsync("Security.setIgnoreCertificateErrors", request, timeout);
     }
 
     /**
@@ -57,9 +87,19 @@ public class Security {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #handleCertificateErrorAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncHandleCertificateError(jpuppeteer.cdp.cdp.entity.security.HandleCertificateErrorRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Security.handleCertificateError", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Security.handleCertificateError", request, Void.class);
+    }
+
+    /**
+    * @see #handleCertificateError
+    */
+    public java.util.concurrent.CompletionStage<Void> handleCertificateErrorAsync(jpuppeteer.cdp.cdp.entity.security.HandleCertificateErrorRequest request, int timeout) {
+        return session.sendAsync("Security.handleCertificateError", request, timeout);
     }
 
     /**
@@ -70,8 +110,18 @@ public class Security {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setOverrideCertificateErrorsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetOverrideCertificateErrors(jpuppeteer.cdp.cdp.entity.security.SetOverrideCertificateErrorsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Security.setOverrideCertificateErrors", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Security.setOverrideCertificateErrors", request, Void.class);
+    }
+
+    /**
+    * @see #setOverrideCertificateErrors
+    */
+    public java.util.concurrent.CompletionStage<Void> setOverrideCertificateErrorsAsync(jpuppeteer.cdp.cdp.entity.security.SetOverrideCertificateErrorsRequest request, int timeout) {
+        return session.sendAsync("Security.setOverrideCertificateErrors", request, timeout);
     }
 }
\ No newline at end of file
@@ -19,9 +19,19 @@ public class ServiceWorker {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #deliverPushMessageAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDeliverPushMessage(jpuppeteer.cdp.cdp.entity.serviceworker.DeliverPushMessageRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("ServiceWorker.deliverPushMessage", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("ServiceWorker.deliverPushMessage", request, Void.class);
+    }
+
+    /**
+    * @see #deliverPushMessage
+    */
+    public java.util.concurrent.CompletionStage<Void> deliverPushMessageAsync(jpuppeteer.cdp.cdp.entity.serviceworker.DeliverPushMessageRequest request, int timeout) {
+        return session.sendAsync("ServiceWorker.deliverPushMessage", request, timeout);
     }
 
     /**
@@ -32,9 +42,19 @@ public class ServiceWorker {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("ServiceWorker.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("ServiceWorker.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("ServiceWorker.disable", null, timeout);
     }
 
     /**
@@ -45,9 +65,19 @@ public class ServiceWorker {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #dispatchSyncEventAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDispatchSyncEvent(jpuppeteer.cdp.cdp.entity.serviceworker.DispatchSyncEventRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("ServiceWorker.dispatchSyncEvent", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("ServiceWorker.dispatchSyncEvent", request, Void.class);
+    }
+
+    /**
+    * @see #dispatchSyncEvent
+    */
+    public java.util.concurrent.CompletionStage<Void> dispatchSyncEventAsync(jpuppeteer.cdp.cdp.entity.serviceworker.DispatchSyncEventRequest request, int timeout) {
+        return session.sendAsync("ServiceWorker.dispatchSyncEvent", request, timeout);
     }
 
     /**
@@ -58,9 +88,19 @@ public class ServiceWorker {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #dispatchPeriodicSyncEventAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDispatchPeriodicSyncEvent(jpuppeteer.cdp.cdp.entity.serviceworker.DispatchPeriodicSyncEventRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("ServiceWorker.dispatchPeriodicSyncEvent", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("ServiceWorker.dispatchPeriodicSyncEvent", request, Void.class);
+    }
+
+    /**
+    * @see #dispatchPeriodicSyncEvent
+    */
+    public java.util.concurrent.CompletionStage<Void> dispatchPeriodicSyncEventAsync(jpuppeteer.cdp.cdp.entity.serviceworker.DispatchPeriodicSyncEventRequest request, int timeout) {
+        return session.sendAsync("ServiceWorker.dispatchPeriodicSyncEvent", request, timeout);
     }
 
     /**
@@ -71,9 +111,19 @@ public class ServiceWorker {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("ServiceWorker.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("ServiceWorker.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("ServiceWorker.enable", null, timeout);
     }
 
     /**
@@ -84,9 +134,19 @@ public class ServiceWorker {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #inspectWorkerAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncInspectWorker(jpuppeteer.cdp.cdp.entity.serviceworker.InspectWorkerRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("ServiceWorker.inspectWorker", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("ServiceWorker.inspectWorker", request, Void.class);
+    }
+
+    /**
+    * @see #inspectWorker
+    */
+    public java.util.concurrent.CompletionStage<Void> inspectWorkerAsync(jpuppeteer.cdp.cdp.entity.serviceworker.InspectWorkerRequest request, int timeout) {
+        return session.sendAsync("ServiceWorker.inspectWorker", request, timeout);
     }
 
     /**
@@ -97,9 +157,19 @@ public class ServiceWorker {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setForceUpdateOnPageLoadAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetForceUpdateOnPageLoad(jpuppeteer.cdp.cdp.entity.serviceworker.SetForceUpdateOnPageLoadRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("ServiceWorker.setForceUpdateOnPageLoad", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("ServiceWorker.setForceUpdateOnPageLoad", request, Void.class);
+    }
+
+    /**
+    * @see #setForceUpdateOnPageLoad
+    */
+    public java.util.concurrent.CompletionStage<Void> setForceUpdateOnPageLoadAsync(jpuppeteer.cdp.cdp.entity.serviceworker.SetForceUpdateOnPageLoadRequest request, int timeout) {
+        return session.sendAsync("ServiceWorker.setForceUpdateOnPageLoad", request, timeout);
     }
 
     /**
@@ -110,9 +180,19 @@ public class ServiceWorker {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #skipWaitingAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSkipWaiting(jpuppeteer.cdp.cdp.entity.serviceworker.SkipWaitingRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("ServiceWorker.skipWaiting", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("ServiceWorker.skipWaiting", request, Void.class);
+    }
+
+    /**
+    * @see #skipWaiting
+    */
+    public java.util.concurrent.CompletionStage<Void> skipWaitingAsync(jpuppeteer.cdp.cdp.entity.serviceworker.SkipWaitingRequest request, int timeout) {
+        return session.sendAsync("ServiceWorker.skipWaiting", request, timeout);
     }
 
     /**
@@ -123,9 +203,19 @@ public class ServiceWorker {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #startWorkerAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStartWorker(jpuppeteer.cdp.cdp.entity.serviceworker.StartWorkerRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("ServiceWorker.startWorker", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("ServiceWorker.startWorker", request, Void.class);
+    }
+
+    /**
+    * @see #startWorker
+    */
+    public java.util.concurrent.CompletionStage<Void> startWorkerAsync(jpuppeteer.cdp.cdp.entity.serviceworker.StartWorkerRequest request, int timeout) {
+        return session.sendAsync("ServiceWorker.startWorker", request, timeout);
     }
 
     /**
@@ -136,9 +226,19 @@ public class ServiceWorker {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #stopAllWorkersAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStopAllWorkers() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("ServiceWorker.stopAllWorkers");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("ServiceWorker.stopAllWorkers", null, Void.class);
+    }
+
+    /**
+    * @see #stopAllWorkers
+    */
+    public java.util.concurrent.CompletionStage<Void> stopAllWorkersAsync(int timeout) {
+        return session.sendAsync("ServiceWorker.stopAllWorkers", null, timeout);
     }
 
     /**
@@ -149,9 +249,19 @@ public class ServiceWorker {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #stopWorkerAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStopWorker(jpuppeteer.cdp.cdp.entity.serviceworker.StopWorkerRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("ServiceWorker.stopWorker", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("ServiceWorker.stopWorker", request, Void.class);
+    }
+
+    /**
+    * @see #stopWorker
+    */
+    public java.util.concurrent.CompletionStage<Void> stopWorkerAsync(jpuppeteer.cdp.cdp.entity.serviceworker.StopWorkerRequest request, int timeout) {
+        return session.sendAsync("ServiceWorker.stopWorker", request, timeout);
     }
 
     /**
@@ -162,9 +272,19 @@ public class ServiceWorker {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #unregisterAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncUnregister(jpuppeteer.cdp.cdp.entity.serviceworker.UnregisterRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("ServiceWorker.unregister", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("ServiceWorker.unregister", request, Void.class);
+    }
+
+    /**
+    * @see #unregister
+    */
+    public java.util.concurrent.CompletionStage<Void> unregisterAsync(jpuppeteer.cdp.cdp.entity.serviceworker.UnregisterRequest request, int timeout) {
+        return session.sendAsync("ServiceWorker.unregister", request, timeout);
     }
 
     /**
@@ -175,8 +295,18 @@ public class ServiceWorker {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #updateRegistrationAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncUpdateRegistration(jpuppeteer.cdp.cdp.entity.serviceworker.UpdateRegistrationRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("ServiceWorker.updateRegistration", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("ServiceWorker.updateRegistration", request, Void.class);
+    }
+
+    /**
+    * @see #updateRegistration
+    */
+    public java.util.concurrent.CompletionStage<Void> updateRegistrationAsync(jpuppeteer.cdp.cdp.entity.serviceworker.UpdateRegistrationRequest request, int timeout) {
+        return session.sendAsync("ServiceWorker.updateRegistration", request, timeout);
     }
 }
\ No newline at end of file
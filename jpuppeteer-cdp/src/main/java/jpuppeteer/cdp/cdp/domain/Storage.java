@@ -20,9 +20,19 @@ public class Storage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #clearDataForOriginAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClearDataForOrigin(jpuppeteer.cdp.cdp.entity.storage.ClearDataForOriginRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Storage.clearDataForOrigin", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Storage.clearDataForOrigin", request, Void.class);
+    }
+
+    /**
+    * @see #clearDataForOrigin
+    */
+    public java.util.concurrent.CompletionStage<Void> clearDataForOriginAsync(jpuppeteer.cdp.cdp.entity.storage.ClearDataForOriginRequest request, int timeout) {
+        return connection.sendAsync("Storage.clearDataForOrigin", request, timeout);
     }
 
     /**
@@ -34,9 +44,19 @@ public class Storage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getCookiesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.storage.GetCookiesResponse> asyncGetCookies(jpuppeteer.cdp.cdp.entity.storage.GetCookiesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Storage.getCookies", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.storage.GetCookiesResponse>(future, jpuppeteer.cdp.cdp.entity.storage.GetCookiesResponse.class);
+        return connection.asyncSend("Storage.getCookies", request, jpuppeteer.cdp.cdp.entity.storage.GetCookiesResponse.class);
+    }
+
+    /**
+    * @see #getCookies
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.storage.GetCookiesResponse> getCookiesAsync(jpuppeteer.cdp.cdp.entity.storage.GetCookiesRequest request, int timeout) {
+        return connection.sendAsync("Storage.getCookies", request, jpuppeteer.cdp.cdp.entity.storage.GetCookiesResponse.class, timeout);
     }
 
     /**
@@ -48,9 +68,19 @@ public class Storage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setCookiesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetCookies(jpuppeteer.cdp.cdp.entity.storage.SetCookiesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Storage.setCookies", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Storage.setCookies", request, Void.class);
+    }
+
+    /**
+    * @see #setCookies
+    */
+    public java.util.concurrent.CompletionStage<Void> setCookiesAsync(jpuppeteer.cdp.cdp.entity.storage.SetCookiesRequest request, int timeout) {
+        return connection.sendAsync("Storage.setCookies", request, timeout);
     }
 
     /**
@@ -62,9 +92,19 @@ public class Storage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #clearCookiesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClearCookies(jpuppeteer.cdp.cdp.entity.storage.ClearCookiesRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Storage.clearCookies", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Storage.clearCookies", request, Void.class);
+    }
+
+    /**
+    * @see #clearCookies
+    */
+    public java.util.concurrent.CompletionStage<Void> clearCookiesAsync(jpuppeteer.cdp.cdp.entity.storage.ClearCookiesRequest request, int timeout) {
+        return connection.sendAsync("Storage.clearCookies", request, timeout);
     }
 
     /**
@@ -76,9 +116,19 @@ public class Storage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getUsageAndQuotaAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.storage.GetUsageAndQuotaResponse> asyncGetUsageAndQuota(jpuppeteer.cdp.cdp.entity.storage.GetUsageAndQuotaRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Storage.getUsageAndQuota", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.storage.GetUsageAndQuotaResponse>(future, jpuppeteer.cdp.cdp.entity.storage.GetUsageAndQuotaResponse.class);
+        return connection.asyncSend("Storage.getUsageAndQuota", request, jpuppeteer.cdp.cdp.entity.storage.GetUsageAndQuotaResponse.class);
+    }
+
+    /**
+    * @see #getUsageAndQuota
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.storage.GetUsageAndQuotaResponse> getUsageAndQuotaAsync(jpuppeteer.cdp.cdp.entity.storage.GetUsageAndQuotaRequest request, int timeout) {
+        return connection.sendAsync("Storage.getUsageAndQuota", request, jpuppeteer.cdp.cdp.entity.storage.GetUsageAndQuotaResponse.class, timeout);
     }
 
     /**
@@ -90,9 +140,19 @@ public class Storage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #trackCacheStorageForOriginAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncTrackCacheStorageForOrigin(jpuppeteer.cdp.cdp.entity.storage.TrackCacheStorageForOriginRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Storage.trackCacheStorageForOrigin", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Storage.trackCacheStorageForOrigin", request, Void.class);
+    }
+
+    /**
+    * @see #trackCacheStorageForOrigin
+    */
+    public java.util.concurrent.CompletionStage<Void> trackCacheStorageForOriginAsync(jpuppeteer.cdp.cdp.entity.storage.TrackCacheStorageForOriginRequest request, int timeout) {
+        return connection.sendAsync("Storage.trackCacheStorageForOrigin", request, timeout);
     }
 
     /**
@@ -104,9 +164,19 @@ public class Storage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #trackIndexedDBForOriginAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncTrackIndexedDBForOrigin(jpuppeteer.cdp.cdp.entity.storage.TrackIndexedDBForOriginRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Storage.trackIndexedDBForOrigin", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Storage.trackIndexedDBForOrigin", request, Void.class);
+    }
+
+    /**
+    * @see #trackIndexedDBForOrigin
+    */
+    public java.util.concurrent.CompletionStage<Void> trackIndexedDBForOriginAsync(jpuppeteer.cdp.cdp.entity.storage.TrackIndexedDBForOriginRequest request, int timeout) {
+        return connection.sendAsync("Storage.trackIndexedDBForOrigin", request, timeout);
     }
 
     /**
@@ -118,9 +188,19 @@ public class Storage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #untrackCacheStorageForOriginAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncUntrackCacheStorageForOrigin(jpuppeteer.cdp.cdp.entity.storage.UntrackCacheStorageForOriginRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Storage.untrackCacheStorageForOrigin", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Storage.untrackCacheStorageForOrigin", request, Void.class);
+    }
+
+    /**
+    * @see #untrackCacheStorageForOrigin
+    */
+    public java.util.concurrent.CompletionStage<Void> untrackCacheStorageForOriginAsync(jpuppeteer.cdp.cdp.entity.storage.UntrackCacheStorageForOriginRequest request, int timeout) {
+        return connection.sendAsync("Storage.untrackCacheStorageForOrigin", request, timeout);
     }
 
     /**
@@ -132,8 +212,18 @@ public class Storage {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #untrackIndexedDBForOriginAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncUntrackIndexedDBForOrigin(jpuppeteer.cdp.cdp.entity.storage.UntrackIndexedDBForOriginRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Storage.untrackIndexedDBForOrigin", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Storage.untrackIndexedDBForOrigin", request, Void.class);
+    }
+
+    /**
+    * @see #untrackIndexedDBForOrigin
+    */
+    public java.util.concurrent.CompletionStage<Void> untrackIndexedDBForOriginAsync(jpuppeteer.cdp.cdp.entity.storage.UntrackIndexedDBForOriginRequest request, int timeout) {
+        return connection.sendAsync("Storage.untrackIndexedDBForOrigin", request, timeout);
     }
 }
\ No newline at end of file
@@ -20,9 +20,19 @@ public class SystemInfo {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getInfoAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.systeminfo.GetInfoResponse> asyncGetInfo() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("SystemInfo.getInfo");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.systeminfo.GetInfoResponse>(future, jpuppeteer.cdp.cdp.entity.systeminfo.GetInfoResponse.class);
+        return session.asyncSend("SystemInfo.getInfo", null, jpuppeteer.cdp.cdp.entity.systeminfo.GetInfoResponse.class);
+    }
+
+    /**
+    * @see #getInfo
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.systeminfo.GetInfoResponse> getInfoAsync(int timeout) {
+        return session.sendAsync("SystemInfo.getInfo", null, jpuppeteer.cdp.cdp.entity.systeminfo.GetInfoResponse.class, timeout);
     }
 
     /**
@@ -34,8 +44,18 @@ public class SystemInfo {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getProcessInfoAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.systeminfo.GetProcessInfoResponse> asyncGetProcessInfo() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("SystemInfo.getProcessInfo");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.systeminfo.GetProcessInfoResponse>(future, jpuppeteer.cdp.cdp.entity.systeminfo.GetProcessInfoResponse.class);
+        return session.asyncSend("SystemInfo.getProcessInfo", null, jpuppeteer.cdp.cdp.entity.systeminfo.GetProcessInfoResponse.class);
+    }
+
+    /**
+    * @see #getProcessInfo
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.systeminfo.GetProcessInfoResponse> getProcessInfoAsync(int timeout) {
+        return session.sendAsync("SystemInfo.getProcessInfo", null, jpuppeteer.cdp.cdp.entity.systeminfo.GetProcessInfoResponse.class, timeout);
     }
 }
\ No newline at end of file
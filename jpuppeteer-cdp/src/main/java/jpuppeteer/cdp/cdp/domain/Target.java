@@ -18,9 +18,19 @@ public class Target {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #activateTargetAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncActivateTarget(jpuppeteer.cdp.cdp.entity.target.ActivateTargetRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Target.activateTarget", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Target.activateTarget", request, Void.class);
+    }
+
+    /**
+    * @see #activateTarget
+    */
+    public java.util.concurrent.CompletionStage<Void> activateTargetAsync(jpuppeteer.cdp.cdp.entity.target.ActivateTargetRequest request, int timeout) {
+        return connection.sendAsync("Target.activateTarget", request, timeout);
     }
 
     /**
@@ -31,9 +41,19 @@ public class Target {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #attachToTargetAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.target.AttachToTargetResponse> asyncAttachToTarget(jpuppeteer.cdp.cdp.entity.target.AttachToTargetRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Target.attachToTarget", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.target.AttachToTargetResponse>(future, jpuppeteer.cdp.cdp.entity.target.AttachToTargetResponse.class);
+        return connection.asyncSend("Target.attachToTarget", request, jpuppeteer.cdp.cdp.entity.target.AttachToTargetResponse.class);
+    }
+
+    /**
+    * @see #attachToTarget
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.target.AttachToTargetResponse> attachToTargetAsync(jpuppeteer.cdp.cdp.entity.target.AttachToTargetRequest request, int timeout) {
+        return connection.sendAsync("Target.attachToTarget", request, jpuppeteer.cdp.cdp.entity.target.AttachToTargetResponse.class, timeout);
     }
 
     /**
@@ -44,9 +64,19 @@ public class Target {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #attachToBrowserTargetAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.target.AttachToBrowserTargetResponse> asyncAttachToBrowserTarget() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Target.attachToBrowserTarget");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.target.AttachToBrowserTargetResponse>(future, jpuppeteer.cdp.cdp.entity.target.AttachToBrowserTargetResponse.class);
+        return connection.asyncSend("Target.attachToBrowserTarget", null, jpuppeteer.cdp.cdp.entity.target.AttachToBrowserTargetResponse.class);
+    }
+
+    /**
+    * @see #attachToBrowserTarget
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.target.AttachToBrowserTargetResponse> attachToBrowserTargetAsync(int timeout) {
+        return connection.sendAsync("Target.attachToBrowserTarget", null, jpuppeteer.cdp.cdp.entity.target.AttachToBrowserTargetResponse.class, timeout);
     }
 
     /**
@@ -57,9 +87,19 @@ public class Target {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #closeTargetAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.target.CloseTargetResponse> asyncCloseTarget(jpuppeteer.cdp.cdp.entity.target.CloseTargetRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Target.closeTarget", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.target.CloseTargetResponse>(future, jpuppeteer.cdp.cdp.entity.target.CloseTargetResponse.class);
+        return connection.asyncSend("Target.closeTarget", request, jpuppeteer.cdp.cdp.entity.target.CloseTargetResponse.class);
+    }
+
+    /**
+    * @see #closeTarget
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.target.CloseTargetResponse> closeTargetAsync(jpuppeteer.cdp.cdp.entity.target.CloseTargetRequest request, int timeout) {
+        return connection.sendAsync("Target.closeTarget", request, jpuppeteer.cdp.cdp.entity.target.CloseTargetResponse.class, timeout);
     }
 
     /**
@@ -70,9 +110,19 @@ public class Target {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #exposeDevToolsProtocolAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncExposeDevToolsProtocol(jpuppeteer.cdp.cdp.entity.target.ExposeDevToolsProtocolRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Target.exposeDevToolsProtocol", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Target.exposeDevToolsProtocol", request, Void.class);
+    }
+
+    /**
+    * @see #exposeDevToolsProtocol
+    */
+    public java.util.concurrent.CompletionStage<Void> exposeDevToolsProtocolAsync(jpuppeteer.cdp.cdp.entity.target.ExposeDevToolsProtocolRequest request, int timeout) {
+        return connection.sendAsync("Target.exposeDevToolsProtocol", request, timeout);
     }
 
     /**
@@ -83,9 +133,19 @@ public class Target {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #createBrowserContextAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.target.CreateBrowserContextResponse> asyncCreateBrowserContext() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Target.createBrowserContext");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.target.CreateBrowserContextResponse>(future, jpuppeteer.cdp.cdp.entity.target.CreateBrowserContextResponse.class);
+        return connection.asyncSend("Target.createBrowserContext", null, jpuppeteer.cdp.cdp.entity.target.CreateBrowserContextResponse.class);
+    }
+
+    /**
+    * @see #createBrowserContext
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.target.CreateBrowserContextResponse> createBrowserContextAsync(int timeout) {
+        return connection.sendAsync("Target.createBrowserContext", null, jpuppeteer.cdp.cdp.entity.target.CreateBrowserContextResponse.class, timeout);
     }
 
     /**
@@ -96,9 +156,19 @@ public class Target {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getBrowserContextsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.target.GetBrowserContextsResponse> asyncGetBrowserContexts() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Target.getBrowserContexts");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.target.GetBrowserContextsResponse>(future, jpuppeteer.cdp.cdp.entity.target.GetBrowserContextsResponse.class);
+        return connection.asyncSend("Target.getBrowserContexts", null, jpuppeteer.cdp.cdp.entity.target.GetBrowserContextsResponse.class);
+    }
+
+    /**
+    * @see #getBrowserContexts
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.target.GetBrowserContextsResponse> getBrowserContextsAsync(int timeout) {
+        return connection.sendAsync("Target.getBrowserContexts", null, jpuppeteer.cdp.cdp.entity.target.GetBrowserContextsResponse.class, timeout);
     }
 
     /**
@@ -109,9 +179,19 @@ public class Target {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #createTargetAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.target.CreateTargetResponse> asyncCreateTarget(jpuppeteer.cdp.cdp.entity.target.CreateTargetRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Target.createTarget", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.target.CreateTargetResponse>(future, jpuppeteer.cdp.cdp.entity.target.CreateTargetResponse.class);
+        return connection.asyncSend("Target.createTarget", request, jpuppeteer.cdp.cdp.entity.target.CreateTargetResponse.class);
+    }
+
+    /**
+    * @see #createTarget
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.target.CreateTargetResponse> createTargetAsync(jpuppeteer.cdp.cdp.entity.target.CreateTargetRequest request, int timeout) {
+        return connection.sendAsync("Target.createTarget", request, jpuppeteer.cdp.cdp.entity.target.CreateTargetResponse.class, timeout);
     }
 
     /**
@@ -122,9 +202,19 @@ public class Target {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #detachFromTargetAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDetachFromTarget(jpuppeteer.cdp.cdp.entity.target.DetachFromTargetRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Target.detachFromTarget", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Target.detachFromTarget", request, Void.class);
+    }
+
+    /**
+    * @see #detachFromTarget
+    */
+    public java.util.concurrent.CompletionStage<Void> detachFromTargetAsync(jpuppeteer.cdp.cdp.entity.target.DetachFromTargetRequest request, int timeout) {
+        return connection.sendAsync("Target.detachFromTarget", request, timeout);
     }
 
     /**
@@ -135,9 +225,19 @@ public class Target {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disposeBrowserContextAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisposeBrowserContext(jpuppeteer.cdp.cdp.entity.target.DisposeBrowserContextRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Target.disposeBrowserContext", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Target.disposeBrowserContext", request, Void.class);
+    }
+
+    /**
+    * @see #disposeBrowserContext
+    */
+    public java.util.concurrent.CompletionStage<Void> disposeBrowserContextAsync(jpuppeteer.cdp.cdp.entity.target.DisposeBrowserContextRequest request, int timeout) {
+        return connection.sendAsync("Target.disposeBrowserContext", request, timeout);
     }
 
     /**
@@ -148,9 +248,19 @@ public class Target {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getTargetInfoAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.target.GetTargetInfoResponse> asyncGetTargetInfo(jpuppeteer.cdp.cdp.entity.target.GetTargetInfoRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Target.getTargetInfo", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.target.GetTargetInfoResponse>(future, jpuppeteer.cdp.cdp.entity.target.GetTargetInfoResponse.class);
+        return connection.asyncSend("Target.getTargetInfo", request, jpuppeteer.cdp.cdp.entity.target.GetTargetInfoResponse.class);
+    }
+
+    /**
+    * @see #getTargetInfo
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.target.GetTargetInfoResponse> getTargetInfoAsync(jpuppeteer.cdp.cdp.entity.target.GetTargetInfoRequest request, int timeout) {
+        return connection.sendAsync("Target.getTargetInfo", request, jpuppeteer.cdp.cdp.entity.target.GetTargetInfoResponse.class, timeout);
     }
 
     /**
@@ -161,9 +271,19 @@ public class Target {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getTargetsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.target.GetTargetsResponse> asyncGetTargets() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Target.getTargets");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.target.GetTargetsResponse>(future, jpuppeteer.cdp.cdp.entity.target.GetTargetsResponse.class);
+        return connection.asyncSend("Target.getTargets", null, jpuppeteer.cdp.cdp.entity.target.GetTargetsResponse.class);
+    }
+
+    /**
+    * @see #getTargets
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.target.GetTargetsResponse> getTargetsAsync(int timeout) {
+        return connection.sendAsync("Target.getTargets", null, jpuppeteer.cdp.cdp.entity.target.GetTargetsResponse.class, timeout);
     }
 
     /**
@@ -174,9 +294,19 @@ public class Target {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #sendMessageToTargetAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSendMessageToTarget(jpuppeteer.cdp.cdp.entity.target.SendMessageToTargetRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Target.sendMessageToTarget", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Target.sendMessageToTarget", request, Void.class);
+    }
+
+    /**
+    * @see #sendMessageToTarget
+    */
+    public java.util.concurrent.CompletionStage<Void> sendMessageToTargetAsync(jpuppeteer.cdp.cdp.entity.target.SendMessageToTargetRequest request, int timeout) {
+        return connection.sendAsync("Target.sendMessageToTarget", request, timeout);
     }
 
     /**
@@ -187,9 +317,19 @@ public class Target {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setAutoAttachAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetAutoAttach(jpuppeteer.cdp.cdp.entity.target.SetAutoAttachRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Target.setAutoAttach", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Target.setAutoAttach", request, Void.class);
+    }
+
+    /**
+    * @see #setAutoAttach
+    */
+    public java.util.concurrent.CompletionStage<Void> setAutoAttachAsync(jpuppeteer.cdp.cdp.entity.target.SetAutoAttachRequest request, int timeout) {
+        return connection.sendAsync("Target.setAutoAttach", request, timeout);
     }
 
     /**
@@ -200,9 +340,19 @@ public class Target {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setDiscoverTargetsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetDiscoverTargets(jpuppeteer.cdp.cdp.entity.target.SetDiscoverTargetsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Target.setDiscoverTargets", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Target.setDiscoverTargets", request, Void.class);
+    }
+
+    /**
+    * @see #setDiscoverTargets
+    */
+    public java.util.concurrent.CompletionStage<Void> setDiscoverTargetsAsync(jpuppeteer.cdp.cdp.entity.target.SetDiscoverTargetsRequest request, int timeout) {
+        return connection.sendAsync("Target.setDiscoverTargets", request, timeout);
     }
 
     /**
@@ -213,8 +363,18 @@ public class Target {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setRemoteLocationsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetRemoteLocations(jpuppeteer.cdp.cdp.entity.target.SetRemoteLocationsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = connection.asyncSend("Target.setRemoteLocations", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return connection.asyncSend("Target.setRemoteLocations", request, Void.class);
+    }
+
+    /**
+    * @see #setRemoteLocations
+    */
+    public java.util.concurrent.CompletionStage<Void> setRemoteLocationsAsync(jpuppeteer.cdp.cdp.entity.target.SetRemoteLocationsRequest request, int timeout) {
+        return connection.sendAsync("Target.setRemoteLocations", request, timeout);
     }
 }
\ No newline at end of file
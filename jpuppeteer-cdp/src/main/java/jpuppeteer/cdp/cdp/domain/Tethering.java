@@ -20,9 +20,19 @@ public class Tethering {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #bindAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncBind(jpuppeteer.cdp.cdp.entity.tethering.BindRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Tethering.bind", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Tethering.bind", request, Void.class);
+    }
+
+    /**
+    * @see #bind
+    */
+    public java.util.concurrent.CompletionStage<Void> bindAsync(jpuppeteer.cdp.cdp.entity.tethering.BindRequest request, int timeout) {
+        return session.sendAsync("Tethering.bind", request, timeout);
     }
 
     /**
@@ -34,8 +44,18 @@ public class Tethering {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #unbindAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncUnbind(jpuppeteer.cdp.cdp.entity.tethering.UnbindRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Tethering.unbind", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Tethering.unbind", request, Void.class);
+    }
+
+    /**
+    * @see #unbind
+    */
+    public java.util.concurrent.CompletionStage<Void> unbindAsync(jpuppeteer.cdp.cdp.entity.tethering.UnbindRequest request, int timeout) {
+        return session.sendAsync("Tethering.unbind", request, timeout);
     }
 }
\ No newline at end of file
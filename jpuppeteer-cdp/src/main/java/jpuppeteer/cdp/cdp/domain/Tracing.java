@@ -20,9 +20,19 @@ public class Tracing {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #endAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnd() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Tracing.end");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Tracing.end", null, Void.class);
+    }
+
+    /**
+    * @see #end
+    */
+    public java.util.concurrent.CompletionStage<Void> endAsync(int timeout) {
+        return session.sendAsync("Tracing.end", null, timeout);
     }
 
     /**
@@ -34,9 +44,19 @@ public class Tracing {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getCategoriesAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.tracing.GetCategoriesResponse> asyncGetCategories() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Tracing.getCategories");
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.tracing.GetCategoriesResponse>(future, jpuppeteer.cdp.cdp.entity.tracing.GetCategoriesResponse.class);
+        return session.asyncSend("Tracing.getCategories", null, jpuppeteer.cdp.cdp.entity.tracing.GetCategoriesResponse.class);
+    }
+
+    /**
+    * @see #getCategories
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.tracing.GetCategoriesResponse> getCategoriesAsync(int timeout) {
+        return session.sendAsync("Tracing.getCategories", null, jpuppeteer.cdp.cdp.entity.tracing.GetCategoriesResponse.class, timeout);
     }
 
     /**
@@ -48,9 +68,19 @@ public class Tracing {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #recordClockSyncMarkerAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncRecordClockSyncMarker(jpuppeteer.cdp.cdp.entity.tracing.RecordClockSyncMarkerRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Tracing.recordClockSyncMarker", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Tracing.recordClockSyncMarker", request, Void.class);
+    }
+
+    /**
+    * @see #recordClockSyncMarker
+    */
+    public java.util.concurrent.CompletionStage<Void> recordClockSyncMarkerAsync(jpuppeteer.cdp.cdp.entity.tracing.RecordClockSyncMarkerRequest request, int timeout) {
+        return session.sendAsync("Tracing.recordClockSyncMarker", request, timeout);
     }
 
     /**
@@ -62,9 +92,19 @@ public class Tracing {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #requestMemoryDumpAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.tracing.RequestMemoryDumpResponse> asyncRequestMemoryDump(jpuppeteer.cdp.cdp.entity.tracing.RequestMemoryDumpRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Tracing.requestMemoryDump", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.tracing.RequestMemoryDumpResponse>(future, jpuppeteer.cdp.cdp.entity.tracing.RequestMemoryDumpResponse.class);
+        return session.asyncSend("Tracing.requestMemoryDump", request, jpuppeteer.cdp.cdp.entity.tracing.RequestMemoryDumpResponse.class);
+    }
+
+    /**
+    * @see #requestMemoryDump
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.tracing.RequestMemoryDumpResponse> requestMemoryDumpAsync(jpuppeteer.cdp.cdp.entity.tracing.RequestMemoryDumpRequest request, int timeout) {
+        return session.sendAsync("Tracing.requestMemoryDump", request, jpuppeteer.cdp.cdp.entity.tracing.RequestMemoryDumpResponse.class, timeout);
     }
 
     /**
@@ -76,8 +116,18 @@ public class Tracing {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #startAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncStart(jpuppeteer.cdp.cdp.entity.tracing.StartRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("Tracing.start", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("Tracing.start", request, Void.class);
+    }
+
+    /**
+    * @see #start
+    */
+    public java.util.concurrent.CompletionStage<Void> startAsync(jpuppeteer.cdp.cdp.entity.tracing.StartRequest request, int timeout) {
+        return session.sendAsync("Tracing.start", request, timeout);
     }
 }
\ No newline at end of file
@@ -20,9 +20,19 @@ public class WebAudio {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("WebAudio.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("WebAudio.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("WebAudio.enable", null, timeout);
     }
 
     /**
@@ -34,9 +44,19 @@ public class WebAudio {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("WebAudio.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("WebAudio.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("WebAudio.disable", null, timeout);
     }
 
     /**
@@ -48,8 +68,18 @@ public class WebAudio {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getRealtimeDataAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.webaudio.GetRealtimeDataResponse> asyncGetRealtimeData(jpuppeteer.cdp.cdp.entity.webaudio.GetRealtimeDataRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("WebAudio.getRealtimeData", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.webaudio.GetRealtimeDataResponse>(future, jpuppeteer.cdp.cdp.entity.webaudio.GetRealtimeDataResponse.class);
+        return session.asyncSend("WebAudio.getRealtimeData", request, jpuppeteer.cdp.cdp.entity.webaudio.GetRealtimeDataResponse.class);
+    }
+
+    /**
+    * @see #getRealtimeData
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.webaudio.GetRealtimeDataResponse> getRealtimeDataAsync(jpuppeteer.cdp.cdp.entity.webaudio.GetRealtimeDataRequest request, int timeout) {
+        return session.sendAsync("WebAudio.getRealtimeData", request, jpuppeteer.cdp.cdp.entity.webaudio.GetRealtimeDataResponse.class, timeout);
     }
 }
\ No newline at end of file
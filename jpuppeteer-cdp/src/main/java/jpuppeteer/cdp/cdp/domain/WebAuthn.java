@@ -20,9 +20,19 @@ public class WebAuthn {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #enableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncEnable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("WebAuthn.enable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("WebAuthn.enable", null, Void.class);
+    }
+
+    /**
+    * @see #enable
+    */
+    public java.util.concurrent.CompletionStage<Void> enableAsync(int timeout) {
+        return session.sendAsync("WebAuthn.enable", null, timeout);
     }
 
     /**
@@ -34,9 +44,19 @@ public class WebAuthn {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #disableAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncDisable() {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("WebAuthn.disable");
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("WebAuthn.disable", null, Void.class);
+    }
+
+    /**
+    * @see #disable
+    */
+    public java.util.concurrent.CompletionStage<Void> disableAsync(int timeout) {
+        return session.sendAsync("WebAuthn.disable", null, timeout);
     }
 
     /**
@@ -48,9 +68,19 @@ public class WebAuthn {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #addVirtualAuthenticatorAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.webauthn.AddVirtualAuthenticatorResponse> asyncAddVirtualAuthenticator(jpuppeteer.cdp.cdp.entity.webauthn.AddVirtualAuthenticatorRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("WebAuthn.addVirtualAuthenticator", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.webauthn.AddVirtualAuthenticatorResponse>(future, jpuppeteer.cdp.cdp.entity.webauthn.AddVirtualAuthenticatorResponse.class);
+        return session.asyncSend("WebAuthn.addVirtualAuthenticator", request, jpuppeteer.cdp.cdp.entity.webauthn.AddVirtualAuthenticatorResponse.class);
+    }
+
+    /**
+    * @see #addVirtualAuthenticator
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.webauthn.AddVirtualAuthenticatorResponse> addVirtualAuthenticatorAsync(jpuppeteer.cdp.cdp.entity.webauthn.AddVirtualAuthenticatorRequest request, int timeout) {
+        return session.sendAsync("WebAuthn.addVirtualAuthenticator", request, jpuppeteer.cdp.cdp.entity.webauthn.AddVirtualAuthenticatorResponse.class, timeout);
     }
 
     /**
@@ -62,9 +92,19 @@ public class WebAuthn {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #removeVirtualAuthenticatorAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncRemoveVirtualAuthenticator(jpuppeteer.cdp.cdp.entity.webauthn.RemoveVirtualAuthenticatorRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("WebAuthn.removeVirtualAuthenticator", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("WebAuthn.removeVirtualAuthenticator", request, Void.class);
+    }
+
+    /**
+    * @see #removeVirtualAuthenticator
+    */
+    public java.util.concurrent.CompletionStage<Void> removeVirtualAuthenticatorAsync(jpuppeteer.cdp.cdp.entity.webauthn.RemoveVirtualAuthenticatorRequest request, int timeout) {
+        return session.sendAsync("WebAuthn.removeVirtualAuthenticator", request, timeout);
     }
 
     /**
@@ -76,9 +116,19 @@ public class WebAuthn {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #addCredentialAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncAddCredential(jpuppeteer.cdp.cdp.entity.webauthn.AddCredentialRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("WebAuthn.addCredential", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("WebAuthn.addCredential", request, Void.class);
+    }
+
+    /**
+    * @see #addCredential
+    */
+    public java.util.concurrent.CompletionStage<Void> addCredentialAsync(jpuppeteer.cdp.cdp.entity.webauthn.AddCredentialRequest request, int timeout) {
+        return session.sendAsync("WebAuthn.addCredential", request, timeout);
     }
 
     /**
@@ -90,9 +140,19 @@ public class WebAuthn {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getCredentialAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialResponse> asyncGetCredential(jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("WebAuthn.getCredential", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialResponse>(future, jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialResponse.class);
+        return session.asyncSend("WebAuthn.getCredential", request, jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialResponse.class);
+    }
+
+    /**
+    * @see #getCredential
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialResponse> getCredentialAsync(jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialRequest request, int timeout) {
+        return session.sendAsync("WebAuthn.getCredential", request, jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialResponse.class, timeout);
     }
 
     /**
@@ -104,9 +164,19 @@ public class WebAuthn {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #getCredentialsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialsResponse> asyncGetCredentials(jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("WebAuthn.getCredentials", request);
-        return new jpuppeteer.cdp.CDPFuture<jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialsResponse>(future, jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialsResponse.class);
+        return session.asyncSend("WebAuthn.getCredentials", request, jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialsResponse.class);
+    }
+
+    /**
+    * @see #getCredentials
+    */
+    public java.util.concurrent.CompletionStage<jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialsResponse> getCredentialsAsync(jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialsRequest request, int timeout) {
+        return session.sendAsync("WebAuthn.getCredentials", request, jpuppeteer.cdp.cdp.entity.webauthn.GetCredentialsResponse.class, timeout);
     }
 
     /**
@@ -118,9 +188,19 @@ public class WebAuthn {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #removeCredentialAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncRemoveCredential(jpuppeteer.cdp.cdp.entity.webauthn.RemoveCredentialRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("WebAuthn.removeCredential", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("WebAuthn.removeCredential", request, Void.class);
+    }
+
+    /**
+    * @see #removeCredential
+    */
+    public java.util.concurrent.CompletionStage<Void> removeCredentialAsync(jpuppeteer.cdp.cdp.entity.webauthn.RemoveCredentialRequest request, int timeout) {
+        return session.sendAsync("WebAuthn.removeCredential", request, timeout);
     }
 
     /**
@@ -132,9 +212,19 @@ public class WebAuthn {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #clearCredentialsAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncClearCredentials(jpuppeteer.cdp.cdp.entity.webauthn.ClearCredentialsRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("WebAuthn.clearCredentials", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("WebAuthn.clearCredentials", request, Void.class);
+    }
+
+    /**
+    * @see #clearCredentials
+    */
+    public java.util.concurrent.CompletionStage<Void> clearCredentialsAsync(jpuppeteer.cdp.cdp.entity.webauthn.ClearCredentialsRequest request, int timeout) {
+        return session.sendAsync("WebAuthn.clearCredentials", request, timeout);
     }
 
     /**
@@ -146,8 +236,18 @@ public class WebAuthn {
     }
 
 
+    /**
+    * @deprecated 请使用{@link #setUserVerifiedAsync}
+    */
+    @Deprecated
     public java.util.concurrent.Future<Void> asyncSetUserVerified(jpuppeteer.cdp.cdp.entity.webauthn.SetUserVerifiedRequest request) {
-        java.util.concurrent.Future<com.alibaba.fastjson.JSONObject> future = session.asyncSend("WebAuthn.setUserVerified", request);
-        return new jpuppeteer.cdp.CDPFuture<Void>(future, Void.class);
+        return session.asyncSend("WebAuthn.setUserVerified", request, Void.class);
+    }
+
+    /**
+    * @see #setUserVerified
+    */
+    public java.util.concurrent.CompletionStage<Void> setUserVerifiedAsync(jpuppeteer.cdp.cdp.entity.webauthn.SetUserVerifiedRequest request, int timeout) {
+        return session.sendAsync("WebAuthn.setUserVerified", request, timeout);
     }
 }
\ No newline at end of file
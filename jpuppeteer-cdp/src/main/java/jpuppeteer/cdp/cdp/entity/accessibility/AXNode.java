@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.accessibility;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AXNode {
+public class AXNode implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Unique identifier for this node.
@@ -60,5 +60,86 @@ public class AXNode {
     private Integer backendDOMNodeId;
 
 
+    public static AXNode decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AXNode object = new AXNode();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextString();
+                    break;
+                case "ignored":
+                    object.ignored = reader.nextBoolean();
+                    break;
+                case "ignoredReasons":
+                    object.ignoredReasons = reader.nextList(jpuppeteer.cdp.cdp.entity.accessibility.AXProperty::decode);
+                    break;
+                case "role":
+                    object.role = jpuppeteer.cdp.cdp.entity.accessibility.AXValue.decode(reader);
+                    break;
+                case "name":
+                    object.name = jpuppeteer.cdp.cdp.entity.accessibility.AXValue.decode(reader);
+                    break;
+                case "description":
+                    object.description = jpuppeteer.cdp.cdp.entity.accessibility.AXValue.decode(reader);
+                    break;
+                case "value":
+                    object.value = jpuppeteer.cdp.cdp.entity.accessibility.AXValue.decode(reader);
+                    break;
+                case "properties":
+                    object.properties = reader.nextList(jpuppeteer.cdp.cdp.entity.accessibility.AXProperty::decode);
+                    break;
+                case "childIds":
+                    object.childIds = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "backendDOMNodeId":
+                    object.backendDOMNodeId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (ignored != null) {
+            writer.name("ignored").value(ignored);
+        }
+        if (ignoredReasons != null) {
+            writer.name("ignoredReasons").value(ignoredReasons);
+        }
+        if (role != null) {
+            writer.name("role").value(role);
+        }
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (description != null) {
+            writer.name("description").value(description);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        if (properties != null) {
+            writer.name("properties").value(properties);
+        }
+        if (childIds != null) {
+            writer.name("childIds").value(childIds);
+        }
+        if (backendDOMNodeId != null) {
+            writer.name("backendDOMNodeId").value(backendDOMNodeId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
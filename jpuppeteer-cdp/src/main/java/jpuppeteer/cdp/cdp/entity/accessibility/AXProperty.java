@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.accessibility;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AXProperty {
+public class AXProperty implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The name of this property.
@@ -19,5 +19,38 @@ public class AXProperty {
     private jpuppeteer.cdp.cdp.entity.accessibility.AXValue value;
 
 
+    public static AXProperty decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AXProperty object = new AXProperty();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "value":
+                    object.value = jpuppeteer.cdp.cdp.entity.accessibility.AXValue.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
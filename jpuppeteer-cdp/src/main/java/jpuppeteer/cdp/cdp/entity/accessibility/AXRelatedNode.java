@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.accessibility;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AXRelatedNode {
+public class AXRelatedNode implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The BackendNodeId of the related DOM node.
@@ -24,5 +24,44 @@ public class AXRelatedNode {
     private String text;
 
 
+    public static AXRelatedNode decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AXRelatedNode object = new AXRelatedNode();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "backendDOMNodeId":
+                    object.backendDOMNodeId = reader.nextInteger();
+                    break;
+                case "idref":
+                    object.idref = reader.nextString();
+                    break;
+                case "text":
+                    object.text = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (backendDOMNodeId != null) {
+            writer.name("backendDOMNodeId").value(backendDOMNodeId);
+        }
+        if (idref != null) {
+            writer.name("idref").value(idref);
+        }
+        if (text != null) {
+            writer.name("text").value(text);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.accessibility;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AXValue {
+public class AXValue implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The type of this value.
@@ -30,5 +30,50 @@ public class AXValue {
     private java.util.List<jpuppeteer.cdp.cdp.entity.accessibility.AXValueSource> sources;
 
 
+    public static AXValue decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AXValue object = new AXValue();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "value":
+                    object.value = reader.nextAny();
+                    break;
+                case "relatedNodes":
+                    object.relatedNodes = reader.nextList(jpuppeteer.cdp.cdp.entity.accessibility.AXRelatedNode::decode);
+                    break;
+                case "sources":
+                    object.sources = reader.nextList(jpuppeteer.cdp.cdp.entity.accessibility.AXValueSource::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        if (relatedNodes != null) {
+            writer.name("relatedNodes").value(relatedNodes);
+        }
+        if (sources != null) {
+            writer.name("sources").value(sources);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.accessibility;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AXValueSource {
+public class AXValueSource implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * What type of source this is.
@@ -55,5 +55,80 @@ public class AXValueSource {
     private String invalidReason;
 
 
+    public static AXValueSource decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AXValueSource object = new AXValueSource();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "value":
+                    object.value = jpuppeteer.cdp.cdp.entity.accessibility.AXValue.decode(reader);
+                    break;
+                case "attribute":
+                    object.attribute = reader.nextString();
+                    break;
+                case "attributeValue":
+                    object.attributeValue = jpuppeteer.cdp.cdp.entity.accessibility.AXValue.decode(reader);
+                    break;
+                case "superseded":
+                    object.superseded = reader.nextBoolean();
+                    break;
+                case "nativeSource":
+                    object.nativeSource = reader.nextString();
+                    break;
+                case "nativeSourceValue":
+                    object.nativeSourceValue = jpuppeteer.cdp.cdp.entity.accessibility.AXValue.decode(reader);
+                    break;
+                case "invalid":
+                    object.invalid = reader.nextBoolean();
+                    break;
+                case "invalidReason":
+                    object.invalidReason = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        if (attribute != null) {
+            writer.name("attribute").value(attribute);
+        }
+        if (attributeValue != null) {
+            writer.name("attributeValue").value(attributeValue);
+        }
+        if (superseded != null) {
+            writer.name("superseded").value(superseded);
+        }
+        if (nativeSource != null) {
+            writer.name("nativeSource").value(nativeSource);
+        }
+        if (nativeSourceValue != null) {
+            writer.name("nativeSourceValue").value(nativeSourceValue);
+        }
+        if (invalid != null) {
+            writer.name("invalid").value(invalid);
+        }
+        if (invalidReason != null) {
+            writer.name("invalidReason").value(invalidReason);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
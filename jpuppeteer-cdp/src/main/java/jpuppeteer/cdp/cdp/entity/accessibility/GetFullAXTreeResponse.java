@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.accessibility;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetFullAXTreeResponse {
+public class GetFullAXTreeResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private java.util.List<jpuppeteer.cdp.cdp.entity.accessibility.AXNode> nodes;
 
 
+    public static GetFullAXTreeResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetFullAXTreeResponse object = new GetFullAXTreeResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodes":
+                    object.nodes = reader.nextList(jpuppeteer.cdp.cdp.entity.accessibility.AXNode::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodes != null) {
+            writer.name("nodes").value(nodes);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
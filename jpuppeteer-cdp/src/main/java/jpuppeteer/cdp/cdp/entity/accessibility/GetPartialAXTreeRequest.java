@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.accessibility;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetPartialAXTreeRequest {
+public class GetPartialAXTreeRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the node to get the partial accessibility tree for.
@@ -29,5 +29,50 @@ public class GetPartialAXTreeRequest {
     private Boolean fetchRelatives;
 
 
+    public static GetPartialAXTreeRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetPartialAXTreeRequest object = new GetPartialAXTreeRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "backendNodeId":
+                    object.backendNodeId = reader.nextInteger();
+                    break;
+                case "objectId":
+                    object.objectId = reader.nextString();
+                    break;
+                case "fetchRelatives":
+                    object.fetchRelatives = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (backendNodeId != null) {
+            writer.name("backendNodeId").value(backendNodeId);
+        }
+        if (objectId != null) {
+            writer.name("objectId").value(objectId);
+        }
+        if (fetchRelatives != null) {
+            writer.name("fetchRelatives").value(fetchRelatives);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.accessibility;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetPartialAXTreeResponse {
+public class GetPartialAXTreeResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The `Accessibility.AXNode` for this DOM node, if it exists, plus its ancestors, siblings and children, if requested.
@@ -14,5 +14,32 @@ public class GetPartialAXTreeResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.accessibility.AXNode> nodes;
 
 
+    public static GetPartialAXTreeResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetPartialAXTreeResponse object = new GetPartialAXTreeResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodes":
+                    object.nodes = reader.nextList(jpuppeteer.cdp.cdp.entity.accessibility.AXNode::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodes != null) {
+            writer.name("nodes").value(nodes);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.animation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Animation {
+public class Animation implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * `Animation`'s id.
@@ -60,5 +60,86 @@ public class Animation {
     private String cssId;
 
 
+    public static Animation decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Animation object = new Animation();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    object.id = reader.nextString();
+                    break;
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "pausedState":
+                    object.pausedState = reader.nextBoolean();
+                    break;
+                case "playState":
+                    object.playState = reader.nextString();
+                    break;
+                case "playbackRate":
+                    object.playbackRate = reader.nextDouble();
+                    break;
+                case "startTime":
+                    object.startTime = reader.nextDouble();
+                    break;
+                case "currentTime":
+                    object.currentTime = reader.nextDouble();
+                    break;
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "source":
+                    object.source = jpuppeteer.cdp.cdp.entity.animation.AnimationEffect.decode(reader);
+                    break;
+                case "cssId":
+                    object.cssId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (id != null) {
+            writer.name("id").value(id);
+        }
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (pausedState != null) {
+            writer.name("pausedState").value(pausedState);
+        }
+        if (playState != null) {
+            writer.name("playState").value(playState);
+        }
+        if (playbackRate != null) {
+            writer.name("playbackRate").value(playbackRate);
+        }
+        if (startTime != null) {
+            writer.name("startTime").value(startTime);
+        }
+        if (currentTime != null) {
+            writer.name("currentTime").value(currentTime);
+        }
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (source != null) {
+            writer.name("source").value(source);
+        }
+        if (cssId != null) {
+            writer.name("cssId").value(cssId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
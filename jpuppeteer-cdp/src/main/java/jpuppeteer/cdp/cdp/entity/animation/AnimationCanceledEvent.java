@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.animation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AnimationCanceledEvent {
+public class AnimationCanceledEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the animation that was cancelled.
@@ -15,5 +15,32 @@ public class AnimationCanceledEvent {
     private String id;
 
 
+    public static AnimationCanceledEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AnimationCanceledEvent object = new AnimationCanceledEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    object.id = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (id != null) {
+            writer.name("id").value(id);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
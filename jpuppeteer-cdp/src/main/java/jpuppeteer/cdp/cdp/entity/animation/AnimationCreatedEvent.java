@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.animation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AnimationCreatedEvent {
+public class AnimationCreatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the animation that was created.
@@ -15,5 +15,32 @@ public class AnimationCreatedEvent {
     private String id;
 
 
+    public static AnimationCreatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AnimationCreatedEvent object = new AnimationCreatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    object.id = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (id != null) {
+            writer.name("id").value(id);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
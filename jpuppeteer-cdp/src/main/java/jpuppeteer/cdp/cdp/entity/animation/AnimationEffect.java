@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.animation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AnimationEffect {
+public class AnimationEffect implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * `AnimationEffect`'s delay.
@@ -60,5 +60,86 @@ public class AnimationEffect {
     private String easing;
 
 
+    public static AnimationEffect decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AnimationEffect object = new AnimationEffect();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "delay":
+                    object.delay = reader.nextDouble();
+                    break;
+                case "endDelay":
+                    object.endDelay = reader.nextDouble();
+                    break;
+                case "iterationStart":
+                    object.iterationStart = reader.nextDouble();
+                    break;
+                case "iterations":
+                    object.iterations = reader.nextDouble();
+                    break;
+                case "duration":
+                    object.duration = reader.nextDouble();
+                    break;
+                case "direction":
+                    object.direction = reader.nextString();
+                    break;
+                case "fill":
+                    object.fill = reader.nextString();
+                    break;
+                case "backendNodeId":
+                    object.backendNodeId = reader.nextInteger();
+                    break;
+                case "keyframesRule":
+                    object.keyframesRule = jpuppeteer.cdp.cdp.entity.animation.KeyframesRule.decode(reader);
+                    break;
+                case "easing":
+                    object.easing = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (delay != null) {
+            writer.name("delay").value(delay);
+        }
+        if (endDelay != null) {
+            writer.name("endDelay").value(endDelay);
+        }
+        if (iterationStart != null) {
+            writer.name("iterationStart").value(iterationStart);
+        }
+        if (iterations != null) {
+            writer.name("iterations").value(iterations);
+        }
+        if (duration != null) {
+            writer.name("duration").value(duration);
+        }
+        if (direction != null) {
+            writer.name("direction").value(direction);
+        }
+        if (fill != null) {
+            writer.name("fill").value(fill);
+        }
+        if (backendNodeId != null) {
+            writer.name("backendNodeId").value(backendNodeId);
+        }
+        if (keyframesRule != null) {
+            writer.name("keyframesRule").value(keyframesRule);
+        }
+        if (easing != null) {
+            writer.name("easing").value(easing);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
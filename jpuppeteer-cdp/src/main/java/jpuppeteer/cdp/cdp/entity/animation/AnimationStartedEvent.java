@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.animation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AnimationStartedEvent {
+public class AnimationStartedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Animation that was started.
@@ -15,5 +15,32 @@ public class AnimationStartedEvent {
     private jpuppeteer.cdp.cdp.entity.animation.Animation animation;
 
 
+    public static AnimationStartedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AnimationStartedEvent object = new AnimationStartedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "animation":
+                    object.animation = jpuppeteer.cdp.cdp.entity.animation.Animation.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (animation != null) {
+            writer.name("animation").value(animation);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.animation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetCurrentTimeRequest {
+public class GetCurrentTimeRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of animation.
@@ -14,5 +14,32 @@ public class GetCurrentTimeRequest {
     private String id;
 
 
+    public static GetCurrentTimeRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetCurrentTimeRequest object = new GetCurrentTimeRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    object.id = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (id != null) {
+            writer.name("id").value(id);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.animation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetCurrentTimeResponse {
+public class GetCurrentTimeResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Current time of the page.
@@ -14,5 +14,32 @@ public class GetCurrentTimeResponse {
     private Double currentTime;
 
 
+    public static GetCurrentTimeResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetCurrentTimeResponse object = new GetCurrentTimeResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "currentTime":
+                    object.currentTime = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (currentTime != null) {
+            writer.name("currentTime").value(currentTime);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.animation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetPlaybackRateResponse {
+public class GetPlaybackRateResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Playback rate for animations on page.
@@ -14,5 +14,32 @@ public class GetPlaybackRateResponse {
     private Double playbackRate;
 
 
+    public static GetPlaybackRateResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetPlaybackRateResponse object = new GetPlaybackRateResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "playbackRate":
+                    object.playbackRate = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (playbackRate != null) {
+            writer.name("playbackRate").value(playbackRate);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.animation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class KeyframeStyle {
+public class KeyframeStyle implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Keyframe's time offset.
@@ -20,5 +20,38 @@ public class KeyframeStyle {
     private String easing;
 
 
+    public static KeyframeStyle decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        KeyframeStyle object = new KeyframeStyle();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "offset":
+                    object.offset = reader.nextString();
+                    break;
+                case "easing":
+                    object.easing = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (offset != null) {
+            writer.name("offset").value(offset);
+        }
+        if (easing != null) {
+            writer.name("easing").value(easing);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.animation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class KeyframesRule {
+public class KeyframesRule implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * CSS keyframed animation's name.
@@ -20,5 +20,38 @@ public class KeyframesRule {
     private java.util.List<jpuppeteer.cdp.cdp.entity.animation.KeyframeStyle> keyframes;
 
 
+    public static KeyframesRule decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        KeyframesRule object = new KeyframesRule();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "keyframes":
+                    object.keyframes = reader.nextList(jpuppeteer.cdp.cdp.entity.animation.KeyframeStyle::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (keyframes != null) {
+            writer.name("keyframes").value(keyframes);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.animation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ReleaseAnimationsRequest {
+public class ReleaseAnimationsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * List of animation ids to seek.
@@ -14,5 +14,32 @@ public class ReleaseAnimationsRequest {
     private java.util.List<String> animations;
 
 
+    public static ReleaseAnimationsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ReleaseAnimationsRequest object = new ReleaseAnimationsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "animations":
+                    object.animations = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (animations != null) {
+            writer.name("animations").value(animations);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.animation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ResolveAnimationRequest {
+public class ResolveAnimationRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Animation id.
@@ -14,5 +14,32 @@ public class ResolveAnimationRequest {
     private String animationId;
 
 
+    public static ResolveAnimationRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ResolveAnimationRequest object = new ResolveAnimationRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "animationId":
+                    object.animationId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (animationId != null) {
+            writer.name("animationId").value(animationId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.animation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ResolveAnimationResponse {
+public class ResolveAnimationResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Corresponding remote object.
@@ -14,5 +14,32 @@ public class ResolveAnimationResponse {
     private jpuppeteer.cdp.cdp.entity.runtime.RemoteObject remoteObject;
 
 
+    public static ResolveAnimationResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ResolveAnimationResponse object = new ResolveAnimationResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "remoteObject":
+                    object.remoteObject = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (remoteObject != null) {
+            writer.name("remoteObject").value(remoteObject);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
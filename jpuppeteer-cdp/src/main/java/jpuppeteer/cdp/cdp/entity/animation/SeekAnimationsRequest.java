@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.animation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SeekAnimationsRequest {
+public class SeekAnimationsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * List of animation ids to seek.
@@ -19,5 +19,38 @@ public class SeekAnimationsRequest {
     private Double currentTime;
 
 
+    public static SeekAnimationsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SeekAnimationsRequest object = new SeekAnimationsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "animations":
+                    object.animations = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "currentTime":
+                    object.currentTime = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (animations != null) {
+            writer.name("animations").value(animations);
+        }
+        if (currentTime != null) {
+            writer.name("currentTime").value(currentTime);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
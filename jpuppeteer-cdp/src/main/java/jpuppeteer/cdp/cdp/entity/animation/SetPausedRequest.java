@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.animation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetPausedRequest {
+public class SetPausedRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Animations to set the pause state of.
@@ -19,5 +19,38 @@ public class SetPausedRequest {
     private Boolean paused;
 
 
+    public static SetPausedRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetPausedRequest object = new SetPausedRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "animations":
+                    object.animations = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "paused":
+                    object.paused = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (animations != null) {
+            writer.name("animations").value(animations);
+        }
+        if (paused != null) {
+            writer.name("paused").value(paused);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
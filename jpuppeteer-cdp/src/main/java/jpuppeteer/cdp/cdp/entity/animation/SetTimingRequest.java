@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.animation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetTimingRequest {
+public class SetTimingRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Animation id.
@@ -24,5 +24,44 @@ public class SetTimingRequest {
     private Double delay;
 
 
+    public static SetTimingRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetTimingRequest object = new SetTimingRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "animationId":
+                    object.animationId = reader.nextString();
+                    break;
+                case "duration":
+                    object.duration = reader.nextDouble();
+                    break;
+                case "delay":
+                    object.delay = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (animationId != null) {
+            writer.name("animationId").value(animationId);
+        }
+        if (duration != null) {
+            writer.name("duration").value(duration);
+        }
+        if (delay != null) {
+            writer.name("delay").value(delay);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
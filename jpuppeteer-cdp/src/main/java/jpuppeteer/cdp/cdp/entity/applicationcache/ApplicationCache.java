@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.applicationcache;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ApplicationCache {
+public class ApplicationCache implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Manifest URL.
@@ -35,5 +35,56 @@ public class ApplicationCache {
     private java.util.List<jpuppeteer.cdp.cdp.entity.applicationcache.ApplicationCacheResource> resources;
 
 
+    public static ApplicationCache decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ApplicationCache object = new ApplicationCache();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "manifestURL":
+                    object.manifestURL = reader.nextString();
+                    break;
+                case "size":
+                    object.size = reader.nextDouble();
+                    break;
+                case "creationTime":
+                    object.creationTime = reader.nextDouble();
+                    break;
+                case "updateTime":
+                    object.updateTime = reader.nextDouble();
+                    break;
+                case "resources":
+                    object.resources = reader.nextList(jpuppeteer.cdp.cdp.entity.applicationcache.ApplicationCacheResource::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (manifestURL != null) {
+            writer.name("manifestURL").value(manifestURL);
+        }
+        if (size != null) {
+            writer.name("size").value(size);
+        }
+        if (creationTime != null) {
+            writer.name("creationTime").value(creationTime);
+        }
+        if (updateTime != null) {
+            writer.name("updateTime").value(updateTime);
+        }
+        if (resources != null) {
+            writer.name("resources").value(resources);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
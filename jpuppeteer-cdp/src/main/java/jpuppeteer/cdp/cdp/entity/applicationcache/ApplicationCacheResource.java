@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.applicationcache;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ApplicationCacheResource {
+public class ApplicationCacheResource implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Resource url.
@@ -25,5 +25,44 @@ public class ApplicationCacheResource {
     private String type;
 
 
+    public static ApplicationCacheResource decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ApplicationCacheResource object = new ApplicationCacheResource();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "size":
+                    object.size = reader.nextInteger();
+                    break;
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (size != null) {
+            writer.name("size").value(size);
+        }
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.applicationcache;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class FrameWithManifest {
+public class FrameWithManifest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Frame identifier.
@@ -25,5 +25,44 @@ public class FrameWithManifest {
     private Integer status;
 
 
+    public static FrameWithManifest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        FrameWithManifest object = new FrameWithManifest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                case "manifestURL":
+                    object.manifestURL = reader.nextString();
+                    break;
+                case "status":
+                    object.status = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (manifestURL != null) {
+            writer.name("manifestURL").value(manifestURL);
+        }
+        if (status != null) {
+            writer.name("status").value(status);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
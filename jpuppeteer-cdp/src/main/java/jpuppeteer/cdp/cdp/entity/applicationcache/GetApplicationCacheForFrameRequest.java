@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.applicationcache;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetApplicationCacheForFrameRequest {
+public class GetApplicationCacheForFrameRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the frame containing document whose application cache is retrieved.
@@ -14,5 +14,32 @@ public class GetApplicationCacheForFrameRequest {
     private String frameId;
 
 
+    public static GetApplicationCacheForFrameRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetApplicationCacheForFrameRequest object = new GetApplicationCacheForFrameRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.applicationcache;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetApplicationCacheForFrameResponse {
+public class GetApplicationCacheForFrameResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Relevant application cache data for the document in given frame.
@@ -14,5 +14,32 @@ public class GetApplicationCacheForFrameResponse {
     private jpuppeteer.cdp.cdp.entity.applicationcache.ApplicationCache applicationCache;
 
 
+    public static GetApplicationCacheForFrameResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetApplicationCacheForFrameResponse object = new GetApplicationCacheForFrameResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "applicationCache":
+                    object.applicationCache = jpuppeteer.cdp.cdp.entity.applicationcache.ApplicationCache.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (applicationCache != null) {
+            writer.name("applicationCache").value(applicationCache);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
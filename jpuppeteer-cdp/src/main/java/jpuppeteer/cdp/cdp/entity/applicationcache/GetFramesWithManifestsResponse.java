@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.applicationcache;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetFramesWithManifestsResponse {
+public class GetFramesWithManifestsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Array of frame identifiers with manifest urls for each frame containing a document associated with some application cache.
@@ -14,5 +14,32 @@ public class GetFramesWithManifestsResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.applicationcache.FrameWithManifest> frameIds;
 
 
+    public static GetFramesWithManifestsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetFramesWithManifestsResponse object = new GetFramesWithManifestsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameIds":
+                    object.frameIds = reader.nextList(jpuppeteer.cdp.cdp.entity.applicationcache.FrameWithManifest::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameIds != null) {
+            writer.name("frameIds").value(frameIds);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
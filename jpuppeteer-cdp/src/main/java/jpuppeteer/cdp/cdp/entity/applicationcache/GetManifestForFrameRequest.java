@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.applicationcache;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetManifestForFrameRequest {
+public class GetManifestForFrameRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the frame containing document whose manifest is retrieved.
@@ -14,5 +14,32 @@ public class GetManifestForFrameRequest {
     private String frameId;
 
 
+    public static GetManifestForFrameRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetManifestForFrameRequest object = new GetManifestForFrameRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
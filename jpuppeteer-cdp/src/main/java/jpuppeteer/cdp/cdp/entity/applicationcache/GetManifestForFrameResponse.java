@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.applicationcache;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetManifestForFrameResponse {
+public class GetManifestForFrameResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Manifest URL for document in the given frame.
@@ -14,5 +14,32 @@ public class GetManifestForFrameResponse {
     private String manifestURL;
 
 
+    public static GetManifestForFrameResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetManifestForFrameResponse object = new GetManifestForFrameResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "manifestURL":
+                    object.manifestURL = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (manifestURL != null) {
+            writer.name("manifestURL").value(manifestURL);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
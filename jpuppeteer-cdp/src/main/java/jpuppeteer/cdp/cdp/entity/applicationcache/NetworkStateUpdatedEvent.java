@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.applicationcache;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class NetworkStateUpdatedEvent {
+public class NetworkStateUpdatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private Boolean isNowOnline;
 
 
+    public static NetworkStateUpdatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        NetworkStateUpdatedEvent object = new NetworkStateUpdatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "isNowOnline":
+                    object.isNowOnline = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (isNowOnline != null) {
+            writer.name("isNowOnline").value(isNowOnline);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
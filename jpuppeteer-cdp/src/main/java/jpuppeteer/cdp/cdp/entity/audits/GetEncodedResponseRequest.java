@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.audits;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetEncodedResponseRequest {
+public class GetEncodedResponseRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the network request to get content for.
@@ -29,5 +29,50 @@ public class GetEncodedResponseRequest {
     private Boolean sizeOnly;
 
 
+    public static GetEncodedResponseRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetEncodedResponseRequest object = new GetEncodedResponseRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "encoding":
+                    object.encoding = reader.nextString();
+                    break;
+                case "quality":
+                    object.quality = reader.nextDouble();
+                    break;
+                case "sizeOnly":
+                    object.sizeOnly = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (encoding != null) {
+            writer.name("encoding").value(encoding);
+        }
+        if (quality != null) {
+            writer.name("quality").value(quality);
+        }
+        if (sizeOnly != null) {
+            writer.name("sizeOnly").value(sizeOnly);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.audits;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetEncodedResponseResponse {
+public class GetEncodedResponseResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The encoded body as a base64 string. Omitted if sizeOnly is true.
@@ -24,5 +24,44 @@ public class GetEncodedResponseResponse {
     private Integer encodedSize;
 
 
+    public static GetEncodedResponseResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetEncodedResponseResponse object = new GetEncodedResponseResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "body":
+                    object.body = reader.nextString();
+                    break;
+                case "originalSize":
+                    object.originalSize = reader.nextInteger();
+                    break;
+                case "encodedSize":
+                    object.encodedSize = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (body != null) {
+            writer.name("body").value(body);
+        }
+        if (originalSize != null) {
+            writer.name("originalSize").value(originalSize);
+        }
+        if (encodedSize != null) {
+            writer.name("encodedSize").value(encodedSize);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
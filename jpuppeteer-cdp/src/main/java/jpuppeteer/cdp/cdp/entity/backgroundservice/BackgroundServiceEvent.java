@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.backgroundservice;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class BackgroundServiceEvent {
+public class BackgroundServiceEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Timestamp of the event (in seconds).
@@ -44,5 +44,68 @@ public class BackgroundServiceEvent {
     private java.util.List<jpuppeteer.cdp.cdp.entity.backgroundservice.EventMetadata> eventMetadata;
 
 
+    public static BackgroundServiceEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        BackgroundServiceEvent object = new BackgroundServiceEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                case "origin":
+                    object.origin = reader.nextString();
+                    break;
+                case "serviceWorkerRegistrationId":
+                    object.serviceWorkerRegistrationId = reader.nextString();
+                    break;
+                case "service":
+                    object.service = reader.nextString();
+                    break;
+                case "eventName":
+                    object.eventName = reader.nextString();
+                    break;
+                case "instanceId":
+                    object.instanceId = reader.nextString();
+                    break;
+                case "eventMetadata":
+                    object.eventMetadata = reader.nextList(jpuppeteer.cdp.cdp.entity.backgroundservice.EventMetadata::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        if (origin != null) {
+            writer.name("origin").value(origin);
+        }
+        if (serviceWorkerRegistrationId != null) {
+            writer.name("serviceWorkerRegistrationId").value(serviceWorkerRegistrationId);
+        }
+        if (service != null) {
+            writer.name("service").value(service);
+        }
+        if (eventName != null) {
+            writer.name("eventName").value(eventName);
+        }
+        if (instanceId != null) {
+            writer.name("instanceId").value(instanceId);
+        }
+        if (eventMetadata != null) {
+            writer.name("eventMetadata").value(eventMetadata);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
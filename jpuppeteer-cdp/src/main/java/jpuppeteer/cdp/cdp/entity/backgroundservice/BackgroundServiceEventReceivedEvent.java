@@ -7,12 +7,39 @@ package jpuppeteer.cdp.cdp.entity.backgroundservice;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class BackgroundServiceEventReceivedEvent {
+public class BackgroundServiceEventReceivedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private jpuppeteer.cdp.cdp.entity.backgroundservice.BackgroundServiceEvent backgroundServiceEvent;
 
 
+    public static BackgroundServiceEventReceivedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        BackgroundServiceEventReceivedEvent object = new BackgroundServiceEventReceivedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "backgroundServiceEvent":
+                    object.backgroundServiceEvent = jpuppeteer.cdp.cdp.entity.backgroundservice.BackgroundServiceEvent.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (backgroundServiceEvent != null) {
+            writer.name("backgroundServiceEvent").value(backgroundServiceEvent);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
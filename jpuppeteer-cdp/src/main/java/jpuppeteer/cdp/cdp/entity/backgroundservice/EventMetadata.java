@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.backgroundservice;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class EventMetadata {
+public class EventMetadata implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -18,5 +18,38 @@ public class EventMetadata {
     private String value;
 
 
+    public static EventMetadata decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        EventMetadata object = new EventMetadata();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "key":
+                    object.key = reader.nextString();
+                    break;
+                case "value":
+                    object.value = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (key != null) {
+            writer.name("key").value(key);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.backgroundservice;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RecordingStateChangedEvent {
+public class RecordingStateChangedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -18,5 +18,38 @@ public class RecordingStateChangedEvent {
     private String service;
 
 
+    public static RecordingStateChangedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RecordingStateChangedEvent object = new RecordingStateChangedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "isRecording":
+                    object.isRecording = reader.nextBoolean();
+                    break;
+                case "service":
+                    object.service = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (isRecording != null) {
+            writer.name("isRecording").value(isRecording);
+        }
+        if (service != null) {
+            writer.name("service").value(service);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
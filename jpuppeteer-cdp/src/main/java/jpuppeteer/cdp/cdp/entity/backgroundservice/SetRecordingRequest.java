@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.backgroundservice;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetRecordingRequest {
+public class SetRecordingRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -17,5 +17,38 @@ public class SetRecordingRequest {
     private String service;
 
 
+    public static SetRecordingRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetRecordingRequest object = new SetRecordingRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "shouldRecord":
+                    object.shouldRecord = reader.nextBoolean();
+                    break;
+                case "service":
+                    object.service = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (shouldRecord != null) {
+            writer.name("shouldRecord").value(shouldRecord);
+        }
+        if (service != null) {
+            writer.name("service").value(service);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
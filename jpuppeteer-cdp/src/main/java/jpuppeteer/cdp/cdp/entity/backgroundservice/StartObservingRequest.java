@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.backgroundservice;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StartObservingRequest {
+public class StartObservingRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String service;
 
 
+    public static StartObservingRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StartObservingRequest object = new StartObservingRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "service":
+                    object.service = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (service != null) {
+            writer.name("service").value(service);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
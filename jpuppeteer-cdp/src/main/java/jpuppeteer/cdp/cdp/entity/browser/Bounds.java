@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.browser;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Bounds {
+public class Bounds implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The offset from the left edge of the screen to the window in pixels.
@@ -34,5 +34,56 @@ public class Bounds {
     private String windowState;
 
 
+    public static Bounds decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Bounds object = new Bounds();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "left":
+                    object.left = reader.nextInteger();
+                    break;
+                case "top":
+                    object.top = reader.nextInteger();
+                    break;
+                case "width":
+                    object.width = reader.nextInteger();
+                    break;
+                case "height":
+                    object.height = reader.nextInteger();
+                    break;
+                case "windowState":
+                    object.windowState = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (left != null) {
+            writer.name("left").value(left);
+        }
+        if (top != null) {
+            writer.name("top").value(top);
+        }
+        if (width != null) {
+            writer.name("width").value(width);
+        }
+        if (height != null) {
+            writer.name("height").value(height);
+        }
+        if (windowState != null) {
+            writer.name("windowState").value(windowState);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
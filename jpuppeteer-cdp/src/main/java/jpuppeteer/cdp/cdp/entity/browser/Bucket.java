@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.browser;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Bucket {
+public class Bucket implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Minimum value (inclusive).
@@ -24,5 +24,44 @@ public class Bucket {
     private Integer count;
 
 
+    public static Bucket decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Bucket object = new Bucket();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "low":
+                    object.low = reader.nextInteger();
+                    break;
+                case "high":
+                    object.high = reader.nextInteger();
+                    break;
+                case "count":
+                    object.count = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (low != null) {
+            writer.name("low").value(low);
+        }
+        if (high != null) {
+            writer.name("high").value(high);
+        }
+        if (count != null) {
+            writer.name("count").value(count);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.browser;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetBrowserCommandLineResponse {
+public class GetBrowserCommandLineResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Commandline parameters
@@ -13,5 +13,32 @@ public class GetBrowserCommandLineResponse {
     private java.util.List<String> arguments;
 
 
+    public static GetBrowserCommandLineResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetBrowserCommandLineResponse object = new GetBrowserCommandLineResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "arguments":
+                    object.arguments = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (arguments != null) {
+            writer.name("arguments").value(arguments);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.browser;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetHistogramRequest {
+public class GetHistogramRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Requested histogram name.
@@ -18,5 +18,38 @@ public class GetHistogramRequest {
     private Boolean delta;
 
 
+    public static GetHistogramRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetHistogramRequest object = new GetHistogramRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "delta":
+                    object.delta = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (delta != null) {
+            writer.name("delta").value(delta);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
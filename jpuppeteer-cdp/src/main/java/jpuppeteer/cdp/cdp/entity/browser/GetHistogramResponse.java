@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.browser;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetHistogramResponse {
+public class GetHistogramResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Histogram.
@@ -13,5 +13,32 @@ public class GetHistogramResponse {
     private jpuppeteer.cdp.cdp.entity.browser.Histogram histogram;
 
 
+    public static GetHistogramResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetHistogramResponse object = new GetHistogramResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "histogram":
+                    object.histogram = jpuppeteer.cdp.cdp.entity.browser.Histogram.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (histogram != null) {
+            writer.name("histogram").value(histogram);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
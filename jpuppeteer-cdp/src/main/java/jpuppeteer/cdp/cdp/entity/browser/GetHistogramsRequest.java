@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.browser;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetHistogramsRequest {
+public class GetHistogramsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Requested substring in name. Only histograms which have query as a substring in their name are extracted. An empty or absent query returns all histograms.
@@ -18,5 +18,38 @@ public class GetHistogramsRequest {
     private Boolean delta;
 
 
+    public static GetHistogramsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetHistogramsRequest object = new GetHistogramsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "query":
+                    object.query = reader.nextString();
+                    break;
+                case "delta":
+                    object.delta = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (query != null) {
+            writer.name("query").value(query);
+        }
+        if (delta != null) {
+            writer.name("delta").value(delta);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
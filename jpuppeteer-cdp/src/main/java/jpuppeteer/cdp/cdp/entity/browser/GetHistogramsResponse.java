@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.browser;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetHistogramsResponse {
+public class GetHistogramsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Histograms.
@@ -13,5 +13,32 @@ public class GetHistogramsResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.browser.Histogram> histograms;
 
 
+    public static GetHistogramsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetHistogramsResponse object = new GetHistogramsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "histograms":
+                    object.histograms = reader.nextList(jpuppeteer.cdp.cdp.entity.browser.Histogram::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (histograms != null) {
+            writer.name("histograms").value(histograms);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.browser;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetVersionResponse {
+public class GetVersionResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Protocol version.
@@ -33,5 +33,56 @@ public class GetVersionResponse {
     private String jsVersion;
 
 
+    public static GetVersionResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetVersionResponse object = new GetVersionResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "protocolVersion":
+                    object.protocolVersion = reader.nextString();
+                    break;
+                case "product":
+                    object.product = reader.nextString();
+                    break;
+                case "revision":
+                    object.revision = reader.nextString();
+                    break;
+                case "userAgent":
+                    object.userAgent = reader.nextString();
+                    break;
+                case "jsVersion":
+                    object.jsVersion = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (protocolVersion != null) {
+            writer.name("protocolVersion").value(protocolVersion);
+        }
+        if (product != null) {
+            writer.name("product").value(product);
+        }
+        if (revision != null) {
+            writer.name("revision").value(revision);
+        }
+        if (userAgent != null) {
+            writer.name("userAgent").value(userAgent);
+        }
+        if (jsVersion != null) {
+            writer.name("jsVersion").value(jsVersion);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.browser;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetWindowBoundsRequest {
+public class GetWindowBoundsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Browser window id.
@@ -13,5 +13,32 @@ public class GetWindowBoundsRequest {
     private Integer windowId;
 
 
+    public static GetWindowBoundsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetWindowBoundsRequest object = new GetWindowBoundsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "windowId":
+                    object.windowId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (windowId != null) {
+            writer.name("windowId").value(windowId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
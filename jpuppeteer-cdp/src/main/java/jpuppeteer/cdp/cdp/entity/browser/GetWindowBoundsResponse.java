@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.browser;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetWindowBoundsResponse {
+public class GetWindowBoundsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Bounds information of the window. When window state is 'minimized', the restored window position and size are returned.
@@ -13,5 +13,32 @@ public class GetWindowBoundsResponse {
     private jpuppeteer.cdp.cdp.entity.browser.Bounds bounds;
 
 
+    public static GetWindowBoundsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetWindowBoundsResponse object = new GetWindowBoundsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "bounds":
+                    object.bounds = jpuppeteer.cdp.cdp.entity.browser.Bounds.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (bounds != null) {
+            writer.name("bounds").value(bounds);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.browser;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetWindowForTargetRequest {
+public class GetWindowForTargetRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Devtools agent host id. If called as a part of the session, associated targetId is used.
@@ -13,5 +13,32 @@ public class GetWindowForTargetRequest {
     private String targetId;
 
 
+    public static GetWindowForTargetRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetWindowForTargetRequest object = new GetWindowForTargetRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "targetId":
+                    object.targetId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (targetId != null) {
+            writer.name("targetId").value(targetId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
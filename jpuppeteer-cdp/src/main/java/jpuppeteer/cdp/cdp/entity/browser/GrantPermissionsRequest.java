@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.browser;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GrantPermissionsRequest {
+public class GrantPermissionsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -21,5 +21,44 @@ public class GrantPermissionsRequest {
     private String browserContextId;
 
 
+    public static GrantPermissionsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GrantPermissionsRequest object = new GrantPermissionsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "origin":
+                    object.origin = reader.nextString();
+                    break;
+                case "permissions":
+                    object.permissions = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "browserContextId":
+                    object.browserContextId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (origin != null) {
+            writer.name("origin").value(origin);
+        }
+        if (permissions != null) {
+            writer.name("permissions").value(permissions);
+        }
+        if (browserContextId != null) {
+            writer.name("browserContextId").value(browserContextId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.browser;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Histogram {
+public class Histogram implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Name.
@@ -29,5 +29,50 @@ public class Histogram {
     private java.util.List<jpuppeteer.cdp.cdp.entity.browser.Bucket> buckets;
 
 
+    public static Histogram decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Histogram object = new Histogram();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "sum":
+                    object.sum = reader.nextInteger();
+                    break;
+                case "count":
+                    object.count = reader.nextInteger();
+                    break;
+                case "buckets":
+                    object.buckets = reader.nextList(jpuppeteer.cdp.cdp.entity.browser.Bucket::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (sum != null) {
+            writer.name("sum").value(sum);
+        }
+        if (count != null) {
+            writer.name("count").value(count);
+        }
+        if (buckets != null) {
+            writer.name("buckets").value(buckets);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.browser;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PermissionDescriptor {
+public class PermissionDescriptor implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Name of permission. See https://cs.chromium.org/chromium/src/third_party/blink/renderer/modules/permissions/permission_descriptor.idl for valid permission names.
@@ -34,5 +34,56 @@ public class PermissionDescriptor {
     private Boolean allowWithoutSanitization;
 
 
+    public static PermissionDescriptor decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PermissionDescriptor object = new PermissionDescriptor();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "sysex":
+                    object.sysex = reader.nextBoolean();
+                    break;
+                case "userVisibleOnly":
+                    object.userVisibleOnly = reader.nextBoolean();
+                    break;
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "allowWithoutSanitization":
+                    object.allowWithoutSanitization = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (sysex != null) {
+            writer.name("sysex").value(sysex);
+        }
+        if (userVisibleOnly != null) {
+            writer.name("userVisibleOnly").value(userVisibleOnly);
+        }
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (allowWithoutSanitization != null) {
+            writer.name("allowWithoutSanitization").value(allowWithoutSanitization);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
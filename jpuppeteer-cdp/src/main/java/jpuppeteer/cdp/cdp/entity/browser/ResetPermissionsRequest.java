@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.browser;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ResetPermissionsRequest {
+public class ResetPermissionsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * BrowserContext to reset permissions. When omitted, default browser context is used.
@@ -13,5 +13,32 @@ public class ResetPermissionsRequest {
     private String browserContextId;
 
 
+    public static ResetPermissionsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ResetPermissionsRequest object = new ResetPermissionsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "browserContextId":
+                    object.browserContextId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (browserContextId != null) {
+            writer.name("browserContextId").value(browserContextId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
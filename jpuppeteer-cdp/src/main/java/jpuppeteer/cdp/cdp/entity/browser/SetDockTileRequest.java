@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.browser;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetDockTileRequest {
+public class SetDockTileRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -17,5 +17,38 @@ public class SetDockTileRequest {
     private String image;
 
 
+    public static SetDockTileRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetDockTileRequest object = new SetDockTileRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "badgeLabel":
+                    object.badgeLabel = reader.nextString();
+                    break;
+                case "image":
+                    object.image = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (badgeLabel != null) {
+            writer.name("badgeLabel").value(badgeLabel);
+        }
+        if (image != null) {
+            writer.name("image").value(image);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.browser;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetPermissionRequest {
+public class SetPermissionRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Origin the permission applies to.
@@ -28,5 +28,50 @@ public class SetPermissionRequest {
     private String browserContextId;
 
 
+    public static SetPermissionRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetPermissionRequest object = new SetPermissionRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "origin":
+                    object.origin = reader.nextString();
+                    break;
+                case "permission":
+                    object.permission = jpuppeteer.cdp.cdp.entity.browser.PermissionDescriptor.decode(reader);
+                    break;
+                case "setting":
+                    object.setting = reader.nextString();
+                    break;
+                case "browserContextId":
+                    object.browserContextId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (origin != null) {
+            writer.name("origin").value(origin);
+        }
+        if (permission != null) {
+            writer.name("permission").value(permission);
+        }
+        if (setting != null) {
+            writer.name("setting").value(setting);
+        }
+        if (browserContextId != null) {
+            writer.name("browserContextId").value(browserContextId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.browser;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetWindowBoundsRequest {
+public class SetWindowBoundsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Browser window id.
@@ -18,5 +18,38 @@ public class SetWindowBoundsRequest {
     private jpuppeteer.cdp.cdp.entity.browser.Bounds bounds;
 
 
+    public static SetWindowBoundsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetWindowBoundsRequest object = new SetWindowBoundsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "windowId":
+                    object.windowId = reader.nextInteger();
+                    break;
+                case "bounds":
+                    object.bounds = jpuppeteer.cdp.cdp.entity.browser.Bounds.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (windowId != null) {
+            writer.name("windowId").value(windowId);
+        }
+        if (bounds != null) {
+            writer.name("bounds").value(bounds);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
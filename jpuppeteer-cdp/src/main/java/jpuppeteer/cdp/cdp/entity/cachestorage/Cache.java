@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.cachestorage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Cache {
+public class Cache implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * An opaque unique id of the cache.
@@ -25,5 +25,44 @@ public class Cache {
     private String cacheName;
 
 
+    public static Cache decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Cache object = new Cache();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "cacheId":
+                    object.cacheId = reader.nextString();
+                    break;
+                case "securityOrigin":
+                    object.securityOrigin = reader.nextString();
+                    break;
+                case "cacheName":
+                    object.cacheName = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (cacheId != null) {
+            writer.name("cacheId").value(cacheId);
+        }
+        if (securityOrigin != null) {
+            writer.name("securityOrigin").value(securityOrigin);
+        }
+        if (cacheName != null) {
+            writer.name("cacheName").value(cacheName);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.cachestorage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CachedResponse {
+public class CachedResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Entry content, base64-encoded.
@@ -15,5 +15,32 @@ public class CachedResponse {
     private String body;
 
 
+    public static CachedResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CachedResponse object = new CachedResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "body":
+                    object.body = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (body != null) {
+            writer.name("body").value(body);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.cachestorage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DataEntry {
+public class DataEntry implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Request URL.
@@ -50,5 +50,74 @@ public class DataEntry {
     private java.util.List<jpuppeteer.cdp.cdp.entity.cachestorage.Header> responseHeaders;
 
 
+    public static DataEntry decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DataEntry object = new DataEntry();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestURL":
+                    object.requestURL = reader.nextString();
+                    break;
+                case "requestMethod":
+                    object.requestMethod = reader.nextString();
+                    break;
+                case "requestHeaders":
+                    object.requestHeaders = reader.nextList(jpuppeteer.cdp.cdp.entity.cachestorage.Header::decode);
+                    break;
+                case "responseTime":
+                    object.responseTime = reader.nextDouble();
+                    break;
+                case "responseStatus":
+                    object.responseStatus = reader.nextInteger();
+                    break;
+                case "responseStatusText":
+                    object.responseStatusText = reader.nextString();
+                    break;
+                case "responseType":
+                    object.responseType = reader.nextString();
+                    break;
+                case "responseHeaders":
+                    object.responseHeaders = reader.nextList(jpuppeteer.cdp.cdp.entity.cachestorage.Header::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestURL != null) {
+            writer.name("requestURL").value(requestURL);
+        }
+        if (requestMethod != null) {
+            writer.name("requestMethod").value(requestMethod);
+        }
+        if (requestHeaders != null) {
+            writer.name("requestHeaders").value(requestHeaders);
+        }
+        if (responseTime != null) {
+            writer.name("responseTime").value(responseTime);
+        }
+        if (responseStatus != null) {
+            writer.name("responseStatus").value(responseStatus);
+        }
+        if (responseStatusText != null) {
+            writer.name("responseStatusText").value(responseStatusText);
+        }
+        if (responseType != null) {
+            writer.name("responseType").value(responseType);
+        }
+        if (responseHeaders != null) {
+            writer.name("responseHeaders").value(responseHeaders);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.cachestorage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DeleteCacheRequest {
+public class DeleteCacheRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of cache for deletion.
@@ -14,5 +14,32 @@ public class DeleteCacheRequest {
     private String cacheId;
 
 
+    public static DeleteCacheRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DeleteCacheRequest object = new DeleteCacheRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "cacheId":
+                    object.cacheId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (cacheId != null) {
+            writer.name("cacheId").value(cacheId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.cachestorage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DeleteEntryRequest {
+public class DeleteEntryRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of cache where the entry will be deleted.
@@ -19,5 +19,38 @@ public class DeleteEntryRequest {
     private String request;
 
 
+    public static DeleteEntryRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DeleteEntryRequest object = new DeleteEntryRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "cacheId":
+                    object.cacheId = reader.nextString();
+                    break;
+                case "request":
+                    object.request = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (cacheId != null) {
+            writer.name("cacheId").value(cacheId);
+        }
+        if (request != null) {
+            writer.name("request").value(request);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.cachestorage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Header {
+public class Header implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -17,5 +17,38 @@ public class Header {
     private String value;
 
 
+    public static Header decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Header object = new Header();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "value":
+                    object.value = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.cachestorage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RequestCacheNamesRequest {
+public class RequestCacheNamesRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Security origin.
@@ -14,5 +14,32 @@ public class RequestCacheNamesRequest {
     private String securityOrigin;
 
 
+    public static RequestCacheNamesRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RequestCacheNamesRequest object = new RequestCacheNamesRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "securityOrigin":
+                    object.securityOrigin = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (securityOrigin != null) {
+            writer.name("securityOrigin").value(securityOrigin);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.cachestorage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RequestCacheNamesResponse {
+public class RequestCacheNamesResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Caches for the security origin.
@@ -14,5 +14,32 @@ public class RequestCacheNamesResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.cachestorage.Cache> caches;
 
 
+    public static RequestCacheNamesResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RequestCacheNamesResponse object = new RequestCacheNamesResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "caches":
+                    object.caches = reader.nextList(jpuppeteer.cdp.cdp.entity.cachestorage.Cache::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (caches != null) {
+            writer.name("caches").value(caches);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
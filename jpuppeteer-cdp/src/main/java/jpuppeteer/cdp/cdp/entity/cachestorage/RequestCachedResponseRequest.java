@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.cachestorage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RequestCachedResponseRequest {
+public class RequestCachedResponseRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of cache that contains the entry.
@@ -24,5 +24,44 @@ public class RequestCachedResponseRequest {
     private java.util.List<jpuppeteer.cdp.cdp.entity.cachestorage.Header> requestHeaders;
 
 
+    public static RequestCachedResponseRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RequestCachedResponseRequest object = new RequestCachedResponseRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "cacheId":
+                    object.cacheId = reader.nextString();
+                    break;
+                case "requestURL":
+                    object.requestURL = reader.nextString();
+                    break;
+                case "requestHeaders":
+                    object.requestHeaders = reader.nextList(jpuppeteer.cdp.cdp.entity.cachestorage.Header::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (cacheId != null) {
+            writer.name("cacheId").value(cacheId);
+        }
+        if (requestURL != null) {
+            writer.name("requestURL").value(requestURL);
+        }
+        if (requestHeaders != null) {
+            writer.name("requestHeaders").value(requestHeaders);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
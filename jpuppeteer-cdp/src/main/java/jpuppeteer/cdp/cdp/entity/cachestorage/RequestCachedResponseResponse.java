@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.cachestorage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RequestCachedResponseResponse {
+public class RequestCachedResponseResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Response read from the cache.
@@ -14,5 +14,32 @@ public class RequestCachedResponseResponse {
     private jpuppeteer.cdp.cdp.entity.cachestorage.CachedResponse response;
 
 
+    public static RequestCachedResponseResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RequestCachedResponseResponse object = new RequestCachedResponseResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "response":
+                    object.response = jpuppeteer.cdp.cdp.entity.cachestorage.CachedResponse.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (response != null) {
+            writer.name("response").value(response);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
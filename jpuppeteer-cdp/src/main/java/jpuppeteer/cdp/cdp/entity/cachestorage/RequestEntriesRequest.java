@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.cachestorage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RequestEntriesRequest {
+public class RequestEntriesRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * ID of cache to get entries from.
@@ -29,5 +29,50 @@ public class RequestEntriesRequest {
     private String pathFilter;
 
 
+    public static RequestEntriesRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RequestEntriesRequest object = new RequestEntriesRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "cacheId":
+                    object.cacheId = reader.nextString();
+                    break;
+                case "skipCount":
+                    object.skipCount = reader.nextInteger();
+                    break;
+                case "pageSize":
+                    object.pageSize = reader.nextInteger();
+                    break;
+                case "pathFilter":
+                    object.pathFilter = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (cacheId != null) {
+            writer.name("cacheId").value(cacheId);
+        }
+        if (skipCount != null) {
+            writer.name("skipCount").value(skipCount);
+        }
+        if (pageSize != null) {
+            writer.name("pageSize").value(pageSize);
+        }
+        if (pathFilter != null) {
+            writer.name("pathFilter").value(pathFilter);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.cachestorage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RequestEntriesResponse {
+public class RequestEntriesResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Array of object store data entries.
@@ -19,5 +19,38 @@ public class RequestEntriesResponse {
     private Double returnCount;
 
 
+    public static RequestEntriesResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RequestEntriesResponse object = new RequestEntriesResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "cacheDataEntries":
+                    object.cacheDataEntries = reader.nextList(jpuppeteer.cdp.cdp.entity.cachestorage.DataEntry::decode);
+                    break;
+                case "returnCount":
+                    object.returnCount = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (cacheDataEntries != null) {
+            writer.name("cacheDataEntries").value(cacheDataEntries);
+        }
+        if (returnCount != null) {
+            writer.name("returnCount").value(returnCount);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.cast;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class EnableRequest {
+public class EnableRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String presentationUrl;
 
 
+    public static EnableRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        EnableRequest object = new EnableRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "presentationUrl":
+                    object.presentationUrl = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (presentationUrl != null) {
+            writer.name("presentationUrl").value(presentationUrl);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,12 +7,39 @@ package jpuppeteer.cdp.cdp.entity.cast;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class IssueUpdatedEvent {
+public class IssueUpdatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String issueMessage;
 
 
+    public static IssueUpdatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        IssueUpdatedEvent object = new IssueUpdatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "issueMessage":
+                    object.issueMessage = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (issueMessage != null) {
+            writer.name("issueMessage").value(issueMessage);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.cast;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetSinkToUseRequest {
+public class SetSinkToUseRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String sinkName;
 
 
+    public static SetSinkToUseRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetSinkToUseRequest object = new SetSinkToUseRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "sinkName":
+                    object.sinkName = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (sinkName != null) {
+            writer.name("sinkName").value(sinkName);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
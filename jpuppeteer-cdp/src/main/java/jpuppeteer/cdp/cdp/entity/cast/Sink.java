@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.cast;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Sink {
+public class Sink implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -22,5 +22,44 @@ public class Sink {
     private String session;
 
 
+    public static Sink decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Sink object = new Sink();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "id":
+                    object.id = reader.nextString();
+                    break;
+                case "session":
+                    object.session = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (id != null) {
+            writer.name("id").value(id);
+        }
+        if (session != null) {
+            writer.name("session").value(session);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
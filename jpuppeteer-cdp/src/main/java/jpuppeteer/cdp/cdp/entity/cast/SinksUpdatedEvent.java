@@ -7,12 +7,39 @@ package jpuppeteer.cdp.cdp.entity.cast;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SinksUpdatedEvent {
+public class SinksUpdatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private java.util.List<jpuppeteer.cdp.cdp.entity.cast.Sink> sinks;
 
 
+    public static SinksUpdatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SinksUpdatedEvent object = new SinksUpdatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "sinks":
+                    object.sinks = reader.nextList(jpuppeteer.cdp.cdp.entity.cast.Sink::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (sinks != null) {
+            writer.name("sinks").value(sinks);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
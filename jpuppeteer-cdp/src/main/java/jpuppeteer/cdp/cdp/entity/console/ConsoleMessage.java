@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.console;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ConsoleMessage {
+public class ConsoleMessage implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Message source.
@@ -39,5 +39,62 @@ public class ConsoleMessage {
     private Integer column;
 
 
+    public static ConsoleMessage decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ConsoleMessage object = new ConsoleMessage();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "source":
+                    object.source = reader.nextString();
+                    break;
+                case "level":
+                    object.level = reader.nextString();
+                    break;
+                case "text":
+                    object.text = reader.nextString();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "line":
+                    object.line = reader.nextInteger();
+                    break;
+                case "column":
+                    object.column = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (source != null) {
+            writer.name("source").value(source);
+        }
+        if (level != null) {
+            writer.name("level").value(level);
+        }
+        if (text != null) {
+            writer.name("text").value(text);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (line != null) {
+            writer.name("line").value(line);
+        }
+        if (column != null) {
+            writer.name("column").value(column);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
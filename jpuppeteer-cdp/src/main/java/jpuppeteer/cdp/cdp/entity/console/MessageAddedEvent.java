@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.console;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class MessageAddedEvent {
+public class MessageAddedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Console message that has been added.
@@ -14,5 +14,32 @@ public class MessageAddedEvent {
     private jpuppeteer.cdp.cdp.entity.console.ConsoleMessage message;
 
 
+    public static MessageAddedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        MessageAddedEvent object = new MessageAddedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "message":
+                    object.message = jpuppeteer.cdp.cdp.entity.console.ConsoleMessage.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (message != null) {
+            writer.name("message").value(message);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AddRuleRequest {
+public class AddRuleRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The css style sheet identifier where a new rule should be inserted.
@@ -24,5 +24,44 @@ public class AddRuleRequest {
     private jpuppeteer.cdp.cdp.entity.css.SourceRange location;
 
 
+    public static AddRuleRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AddRuleRequest object = new AddRuleRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "styleSheetId":
+                    object.styleSheetId = reader.nextString();
+                    break;
+                case "ruleText":
+                    object.ruleText = reader.nextString();
+                    break;
+                case "location":
+                    object.location = jpuppeteer.cdp.cdp.entity.css.SourceRange.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (styleSheetId != null) {
+            writer.name("styleSheetId").value(styleSheetId);
+        }
+        if (ruleText != null) {
+            writer.name("ruleText").value(ruleText);
+        }
+        if (location != null) {
+            writer.name("location").value(location);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
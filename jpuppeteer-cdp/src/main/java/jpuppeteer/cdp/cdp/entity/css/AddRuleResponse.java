@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AddRuleResponse {
+public class AddRuleResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The newly created rule.
@@ -14,5 +14,32 @@ public class AddRuleResponse {
     private jpuppeteer.cdp.cdp.entity.css.CSSRule rule;
 
 
+    public static AddRuleResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AddRuleResponse object = new AddRuleResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "rule":
+                    object.rule = jpuppeteer.cdp.cdp.entity.css.CSSRule.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (rule != null) {
+            writer.name("rule").value(rule);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
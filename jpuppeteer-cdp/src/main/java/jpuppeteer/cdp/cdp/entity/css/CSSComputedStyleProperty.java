@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CSSComputedStyleProperty {
+public class CSSComputedStyleProperty implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Computed style property name.
@@ -19,5 +19,38 @@ public class CSSComputedStyleProperty {
     private String value;
 
 
+    public static CSSComputedStyleProperty decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CSSComputedStyleProperty object = new CSSComputedStyleProperty();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "value":
+                    object.value = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
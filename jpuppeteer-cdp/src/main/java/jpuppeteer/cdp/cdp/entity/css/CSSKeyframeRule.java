@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CSSKeyframeRule {
+public class CSSKeyframeRule implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The css style sheet identifier (absent for user agent stylesheet and user-specified stylesheet rules) this rule came from.
@@ -30,5 +30,50 @@ public class CSSKeyframeRule {
     private jpuppeteer.cdp.cdp.entity.css.CSSStyle style;
 
 
+    public static CSSKeyframeRule decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CSSKeyframeRule object = new CSSKeyframeRule();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "styleSheetId":
+                    object.styleSheetId = reader.nextString();
+                    break;
+                case "origin":
+                    object.origin = reader.nextString();
+                    break;
+                case "keyText":
+                    object.keyText = jpuppeteer.cdp.cdp.entity.css.Value.decode(reader);
+                    break;
+                case "style":
+                    object.style = jpuppeteer.cdp.cdp.entity.css.CSSStyle.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (styleSheetId != null) {
+            writer.name("styleSheetId").value(styleSheetId);
+        }
+        if (origin != null) {
+            writer.name("origin").value(origin);
+        }
+        if (keyText != null) {
+            writer.name("keyText").value(keyText);
+        }
+        if (style != null) {
+            writer.name("style").value(style);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
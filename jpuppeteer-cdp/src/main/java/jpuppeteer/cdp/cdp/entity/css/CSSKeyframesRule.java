@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CSSKeyframesRule {
+public class CSSKeyframesRule implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Animation name.
@@ -20,5 +20,38 @@ public class CSSKeyframesRule {
     private java.util.List<jpuppeteer.cdp.cdp.entity.css.CSSKeyframeRule> keyframes;
 
 
+    public static CSSKeyframesRule decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CSSKeyframesRule object = new CSSKeyframesRule();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "animationName":
+                    object.animationName = jpuppeteer.cdp.cdp.entity.css.Value.decode(reader);
+                    break;
+                case "keyframes":
+                    object.keyframes = reader.nextList(jpuppeteer.cdp.cdp.entity.css.CSSKeyframeRule::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (animationName != null) {
+            writer.name("animationName").value(animationName);
+        }
+        if (keyframes != null) {
+            writer.name("keyframes").value(keyframes);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
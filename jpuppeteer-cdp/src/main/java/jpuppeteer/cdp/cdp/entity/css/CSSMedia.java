@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CSSMedia {
+public class CSSMedia implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Media query text.
@@ -40,5 +40,62 @@ public class CSSMedia {
     private java.util.List<jpuppeteer.cdp.cdp.entity.css.MediaQuery> mediaList;
 
 
+    public static CSSMedia decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CSSMedia object = new CSSMedia();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "text":
+                    object.text = reader.nextString();
+                    break;
+                case "source":
+                    object.source = reader.nextString();
+                    break;
+                case "sourceURL":
+                    object.sourceURL = reader.nextString();
+                    break;
+                case "range":
+                    object.range = jpuppeteer.cdp.cdp.entity.css.SourceRange.decode(reader);
+                    break;
+                case "styleSheetId":
+                    object.styleSheetId = reader.nextString();
+                    break;
+                case "mediaList":
+                    object.mediaList = reader.nextList(jpuppeteer.cdp.cdp.entity.css.MediaQuery::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (text != null) {
+            writer.name("text").value(text);
+        }
+        if (source != null) {
+            writer.name("source").value(source);
+        }
+        if (sourceURL != null) {
+            writer.name("sourceURL").value(sourceURL);
+        }
+        if (range != null) {
+            writer.name("range").value(range);
+        }
+        if (styleSheetId != null) {
+            writer.name("styleSheetId").value(styleSheetId);
+        }
+        if (mediaList != null) {
+            writer.name("mediaList").value(mediaList);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
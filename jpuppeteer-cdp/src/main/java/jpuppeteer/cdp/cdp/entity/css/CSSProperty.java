@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CSSProperty {
+public class CSSProperty implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The property name.
@@ -50,5 +50,74 @@ public class CSSProperty {
     private jpuppeteer.cdp.cdp.entity.css.SourceRange range;
 
 
+    public static CSSProperty decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CSSProperty object = new CSSProperty();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "value":
+                    object.value = reader.nextString();
+                    break;
+                case "important":
+                    object.important = reader.nextBoolean();
+                    break;
+                case "implicit":
+                    object.implicit = reader.nextBoolean();
+                    break;
+                case "text":
+                    object.text = reader.nextString();
+                    break;
+                case "parsedOk":
+                    object.parsedOk = reader.nextBoolean();
+                    break;
+                case "disabled":
+                    object.disabled = reader.nextBoolean();
+                    break;
+                case "range":
+                    object.range = jpuppeteer.cdp.cdp.entity.css.SourceRange.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        if (important != null) {
+            writer.name("important").value(important);
+        }
+        if (implicit != null) {
+            writer.name("implicit").value(implicit);
+        }
+        if (text != null) {
+            writer.name("text").value(text);
+        }
+        if (parsedOk != null) {
+            writer.name("parsedOk").value(parsedOk);
+        }
+        if (disabled != null) {
+            writer.name("disabled").value(disabled);
+        }
+        if (range != null) {
+            writer.name("range").value(range);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
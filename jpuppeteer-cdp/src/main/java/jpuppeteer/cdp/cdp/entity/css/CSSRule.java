@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CSSRule {
+public class CSSRule implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The css style sheet identifier (absent for user agent stylesheet and user-specified stylesheet rules) this rule came from.
@@ -35,5 +35,56 @@ public class CSSRule {
     private java.util.List<jpuppeteer.cdp.cdp.entity.css.CSSMedia> media;
 
 
+    public static CSSRule decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CSSRule object = new CSSRule();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "styleSheetId":
+                    object.styleSheetId = reader.nextString();
+                    break;
+                case "selectorList":
+                    object.selectorList = jpuppeteer.cdp.cdp.entity.css.SelectorList.decode(reader);
+                    break;
+                case "origin":
+                    object.origin = reader.nextString();
+                    break;
+                case "style":
+                    object.style = jpuppeteer.cdp.cdp.entity.css.CSSStyle.decode(reader);
+                    break;
+                case "media":
+                    object.media = reader.nextList(jpuppeteer.cdp.cdp.entity.css.CSSMedia::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (styleSheetId != null) {
+            writer.name("styleSheetId").value(styleSheetId);
+        }
+        if (selectorList != null) {
+            writer.name("selectorList").value(selectorList);
+        }
+        if (origin != null) {
+            writer.name("origin").value(origin);
+        }
+        if (style != null) {
+            writer.name("style").value(style);
+        }
+        if (media != null) {
+            writer.name("media").value(media);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
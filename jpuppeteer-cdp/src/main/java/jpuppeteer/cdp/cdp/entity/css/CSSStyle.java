@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CSSStyle {
+public class CSSStyle implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The css style sheet identifier (absent for user agent stylesheet and user-specified stylesheet rules) this rule came from.
@@ -35,5 +35,56 @@ public class CSSStyle {
     private jpuppeteer.cdp.cdp.entity.css.SourceRange range;
 
 
+    public static CSSStyle decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CSSStyle object = new CSSStyle();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "styleSheetId":
+                    object.styleSheetId = reader.nextString();
+                    break;
+                case "cssProperties":
+                    object.cssProperties = reader.nextList(jpuppeteer.cdp.cdp.entity.css.CSSProperty::decode);
+                    break;
+                case "shorthandEntries":
+                    object.shorthandEntries = reader.nextList(jpuppeteer.cdp.cdp.entity.css.ShorthandEntry::decode);
+                    break;
+                case "cssText":
+                    object.cssText = reader.nextString();
+                    break;
+                case "range":
+                    object.range = jpuppeteer.cdp.cdp.entity.css.SourceRange.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (styleSheetId != null) {
+            writer.name("styleSheetId").value(styleSheetId);
+        }
+        if (cssProperties != null) {
+            writer.name("cssProperties").value(cssProperties);
+        }
+        if (shorthandEntries != null) {
+            writer.name("shorthandEntries").value(shorthandEntries);
+        }
+        if (cssText != null) {
+            writer.name("cssText").value(cssText);
+        }
+        if (range != null) {
+            writer.name("range").value(range);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CSSStyleSheetHeader {
+public class CSSStyleSheetHeader implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The stylesheet identifier.
@@ -85,5 +85,116 @@ public class CSSStyleSheetHeader {
     private Double endColumn;
 
 
+    public static CSSStyleSheetHeader decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CSSStyleSheetHeader object = new CSSStyleSheetHeader();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "styleSheetId":
+                    object.styleSheetId = reader.nextString();
+                    break;
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                case "sourceURL":
+                    object.sourceURL = reader.nextString();
+                    break;
+                case "sourceMapURL":
+                    object.sourceMapURL = reader.nextString();
+                    break;
+                case "origin":
+                    object.origin = reader.nextString();
+                    break;
+                case "title":
+                    object.title = reader.nextString();
+                    break;
+                case "ownerNode":
+                    object.ownerNode = reader.nextInteger();
+                    break;
+                case "disabled":
+                    object.disabled = reader.nextBoolean();
+                    break;
+                case "hasSourceURL":
+                    object.hasSourceURL = reader.nextBoolean();
+                    break;
+                case "isInline":
+                    object.isInline = reader.nextBoolean();
+                    break;
+                case "startLine":
+                    object.startLine = reader.nextDouble();
+                    break;
+                case "startColumn":
+                    object.startColumn = reader.nextDouble();
+                    break;
+                case "length":
+                    object.length = reader.nextDouble();
+                    break;
+                case "endLine":
+                    object.endLine = reader.nextDouble();
+                    break;
+                case "endColumn":
+                    object.endColumn = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (styleSheetId != null) {
+            writer.name("styleSheetId").value(styleSheetId);
+        }
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (sourceURL != null) {
+            writer.name("sourceURL").value(sourceURL);
+        }
+        if (sourceMapURL != null) {
+            writer.name("sourceMapURL").value(sourceMapURL);
+        }
+        if (origin != null) {
+            writer.name("origin").value(origin);
+        }
+        if (title != null) {
+            writer.name("title").value(title);
+        }
+        if (ownerNode != null) {
+            writer.name("ownerNode").value(ownerNode);
+        }
+        if (disabled != null) {
+            writer.name("disabled").value(disabled);
+        }
+        if (hasSourceURL != null) {
+            writer.name("hasSourceURL").value(hasSourceURL);
+        }
+        if (isInline != null) {
+            writer.name("isInline").value(isInline);
+        }
+        if (startLine != null) {
+            writer.name("startLine").value(startLine);
+        }
+        if (startColumn != null) {
+            writer.name("startColumn").value(startColumn);
+        }
+        if (length != null) {
+            writer.name("length").value(length);
+        }
+        if (endLine != null) {
+            writer.name("endLine").value(endLine);
+        }
+        if (endColumn != null) {
+            writer.name("endColumn").value(endColumn);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CollectClassNamesRequest {
+public class CollectClassNamesRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String styleSheetId;
 
 
+    public static CollectClassNamesRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CollectClassNamesRequest object = new CollectClassNamesRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "styleSheetId":
+                    object.styleSheetId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (styleSheetId != null) {
+            writer.name("styleSheetId").value(styleSheetId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CollectClassNamesResponse {
+public class CollectClassNamesResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Class name list.
@@ -14,5 +14,32 @@ public class CollectClassNamesResponse {
     private java.util.List<String> classNames;
 
 
+    public static CollectClassNamesResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CollectClassNamesResponse object = new CollectClassNamesResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "classNames":
+                    object.classNames = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (classNames != null) {
+            writer.name("classNames").value(classNames);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CreateStyleSheetRequest {
+public class CreateStyleSheetRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the frame where "via-inspector" stylesheet should be created.
@@ -14,5 +14,32 @@ public class CreateStyleSheetRequest {
     private String frameId;
 
 
+    public static CreateStyleSheetRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CreateStyleSheetRequest object = new CreateStyleSheetRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CreateStyleSheetResponse {
+public class CreateStyleSheetResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the created "via-inspector" stylesheet.
@@ -14,5 +14,32 @@ public class CreateStyleSheetResponse {
     private String styleSheetId;
 
 
+    public static CreateStyleSheetResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CreateStyleSheetResponse object = new CreateStyleSheetResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "styleSheetId":
+                    object.styleSheetId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (styleSheetId != null) {
+            writer.name("styleSheetId").value(styleSheetId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class FontFace {
+public class FontFace implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The font-family.
@@ -50,5 +50,74 @@ public class FontFace {
     private String platformFontFamily;
 
 
+    public static FontFace decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        FontFace object = new FontFace();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "fontFamily":
+                    object.fontFamily = reader.nextString();
+                    break;
+                case "fontStyle":
+                    object.fontStyle = reader.nextString();
+                    break;
+                case "fontVariant":
+                    object.fontVariant = reader.nextString();
+                    break;
+                case "fontWeight":
+                    object.fontWeight = reader.nextString();
+                    break;
+                case "fontStretch":
+                    object.fontStretch = reader.nextString();
+                    break;
+                case "unicodeRange":
+                    object.unicodeRange = reader.nextString();
+                    break;
+                case "src":
+                    object.src = reader.nextString();
+                    break;
+                case "platformFontFamily":
+                    object.platformFontFamily = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (fontFamily != null) {
+            writer.name("fontFamily").value(fontFamily);
+        }
+        if (fontStyle != null) {
+            writer.name("fontStyle").value(fontStyle);
+        }
+        if (fontVariant != null) {
+            writer.name("fontVariant").value(fontVariant);
+        }
+        if (fontWeight != null) {
+            writer.name("fontWeight").value(fontWeight);
+        }
+        if (fontStretch != null) {
+            writer.name("fontStretch").value(fontStretch);
+        }
+        if (unicodeRange != null) {
+            writer.name("unicodeRange").value(unicodeRange);
+        }
+        if (src != null) {
+            writer.name("src").value(src);
+        }
+        if (platformFontFamily != null) {
+            writer.name("platformFontFamily").value(platformFontFamily);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class FontsUpdatedEvent {
+public class FontsUpdatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The web font that has loaded.
@@ -15,5 +15,32 @@ public class FontsUpdatedEvent {
     private jpuppeteer.cdp.cdp.entity.css.FontFace font;
 
 
+    public static FontsUpdatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        FontsUpdatedEvent object = new FontsUpdatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "font":
+                    object.font = jpuppeteer.cdp.cdp.entity.css.FontFace.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (font != null) {
+            writer.name("font").value(font);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ForcePseudoStateRequest {
+public class ForcePseudoStateRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The element id for which to force the pseudo state.
@@ -19,5 +19,38 @@ public class ForcePseudoStateRequest {
     private java.util.List<String> forcedPseudoClasses;
 
 
+    public static ForcePseudoStateRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ForcePseudoStateRequest object = new ForcePseudoStateRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "forcedPseudoClasses":
+                    object.forcedPseudoClasses = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (forcedPseudoClasses != null) {
+            writer.name("forcedPseudoClasses").value(forcedPseudoClasses);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
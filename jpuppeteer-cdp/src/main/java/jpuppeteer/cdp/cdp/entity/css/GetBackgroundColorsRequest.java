@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetBackgroundColorsRequest {
+public class GetBackgroundColorsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the node to get background colors for.
@@ -14,5 +14,32 @@ public class GetBackgroundColorsRequest {
     private Integer nodeId;
 
 
+    public static GetBackgroundColorsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetBackgroundColorsRequest object = new GetBackgroundColorsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetBackgroundColorsResponse {
+public class GetBackgroundColorsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The range of background colors behind this element, if it contains any visible text. If no visible text is present, this will be undefined. In the case of a flat background color, this will consist of simply that color. In the case of a gradient, this will consist of each of the color stops. For anything more complicated, this will be an empty array. Images will be ignored (as if the image had failed to load).
@@ -24,5 +24,44 @@ public class GetBackgroundColorsResponse {
     private String computedFontWeight;
 
 
+    public static GetBackgroundColorsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetBackgroundColorsResponse object = new GetBackgroundColorsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "backgroundColors":
+                    object.backgroundColors = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "computedFontSize":
+                    object.computedFontSize = reader.nextString();
+                    break;
+                case "computedFontWeight":
+                    object.computedFontWeight = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (backgroundColors != null) {
+            writer.name("backgroundColors").value(backgroundColors);
+        }
+        if (computedFontSize != null) {
+            writer.name("computedFontSize").value(computedFontSize);
+        }
+        if (computedFontWeight != null) {
+            writer.name("computedFontWeight").value(computedFontWeight);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetComputedStyleForNodeResponse {
+public class GetComputedStyleForNodeResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Computed style for the specified DOM node.
@@ -14,5 +14,32 @@ public class GetComputedStyleForNodeResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.css.CSSComputedStyleProperty> computedStyle;
 
 
+    public static GetComputedStyleForNodeResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetComputedStyleForNodeResponse object = new GetComputedStyleForNodeResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "computedStyle":
+                    object.computedStyle = reader.nextList(jpuppeteer.cdp.cdp.entity.css.CSSComputedStyleProperty::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (computedStyle != null) {
+            writer.name("computedStyle").value(computedStyle);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
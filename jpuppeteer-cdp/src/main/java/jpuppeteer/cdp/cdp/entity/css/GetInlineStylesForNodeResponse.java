@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetInlineStylesForNodeResponse {
+public class GetInlineStylesForNodeResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Inline style for the specified DOM node.
@@ -19,5 +19,38 @@ public class GetInlineStylesForNodeResponse {
     private jpuppeteer.cdp.cdp.entity.css.CSSStyle attributesStyle;
 
 
+    public static GetInlineStylesForNodeResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetInlineStylesForNodeResponse object = new GetInlineStylesForNodeResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "inlineStyle":
+                    object.inlineStyle = jpuppeteer.cdp.cdp.entity.css.CSSStyle.decode(reader);
+                    break;
+                case "attributesStyle":
+                    object.attributesStyle = jpuppeteer.cdp.cdp.entity.css.CSSStyle.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (inlineStyle != null) {
+            writer.name("inlineStyle").value(inlineStyle);
+        }
+        if (attributesStyle != null) {
+            writer.name("attributesStyle").value(attributesStyle);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetMatchedStylesForNodeRequest {
+public class GetMatchedStylesForNodeRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private Integer nodeId;
 
 
+    public static GetMatchedStylesForNodeRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetMatchedStylesForNodeRequest object = new GetMatchedStylesForNodeRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetMatchedStylesForNodeResponse {
+public class GetMatchedStylesForNodeResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Inline style for the specified DOM node.
@@ -39,5 +39,62 @@ public class GetMatchedStylesForNodeResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.css.CSSKeyframesRule> cssKeyframesRules;
 
 
+    public static GetMatchedStylesForNodeResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetMatchedStylesForNodeResponse object = new GetMatchedStylesForNodeResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "inlineStyle":
+                    object.inlineStyle = jpuppeteer.cdp.cdp.entity.css.CSSStyle.decode(reader);
+                    break;
+                case "attributesStyle":
+                    object.attributesStyle = jpuppeteer.cdp.cdp.entity.css.CSSStyle.decode(reader);
+                    break;
+                case "matchedCSSRules":
+                    object.matchedCSSRules = reader.nextList(jpuppeteer.cdp.cdp.entity.css.RuleMatch::decode);
+                    break;
+                case "pseudoElements":
+                    object.pseudoElements = reader.nextList(jpuppeteer.cdp.cdp.entity.css.PseudoElementMatches::decode);
+                    break;
+                case "inherited":
+                    object.inherited = reader.nextList(jpuppeteer.cdp.cdp.entity.css.InheritedStyleEntry::decode);
+                    break;
+                case "cssKeyframesRules":
+                    object.cssKeyframesRules = reader.nextList(jpuppeteer.cdp.cdp.entity.css.CSSKeyframesRule::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (inlineStyle != null) {
+            writer.name("inlineStyle").value(inlineStyle);
+        }
+        if (attributesStyle != null) {
+            writer.name("attributesStyle").value(attributesStyle);
+        }
+        if (matchedCSSRules != null) {
+            writer.name("matchedCSSRules").value(matchedCSSRules);
+        }
+        if (pseudoElements != null) {
+            writer.name("pseudoElements").value(pseudoElements);
+        }
+        if (inherited != null) {
+            writer.name("inherited").value(inherited);
+        }
+        if (cssKeyframesRules != null) {
+            writer.name("cssKeyframesRules").value(cssKeyframesRules);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
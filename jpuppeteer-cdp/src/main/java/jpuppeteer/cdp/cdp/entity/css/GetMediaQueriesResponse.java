@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetMediaQueriesResponse {
+public class GetMediaQueriesResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private java.util.List<jpuppeteer.cdp.cdp.entity.css.CSSMedia> medias;
 
 
+    public static GetMediaQueriesResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetMediaQueriesResponse object = new GetMediaQueriesResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "medias":
+                    object.medias = reader.nextList(jpuppeteer.cdp.cdp.entity.css.CSSMedia::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (medias != null) {
+            writer.name("medias").value(medias);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetPlatformFontsForNodeResponse {
+public class GetPlatformFontsForNodeResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Usage statistics for every employed platform font.
@@ -14,5 +14,32 @@ public class GetPlatformFontsForNodeResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.css.PlatformFontUsage> fonts;
 
 
+    public static GetPlatformFontsForNodeResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetPlatformFontsForNodeResponse object = new GetPlatformFontsForNodeResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "fonts":
+                    object.fonts = reader.nextList(jpuppeteer.cdp.cdp.entity.css.PlatformFontUsage::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (fonts != null) {
+            writer.name("fonts").value(fonts);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
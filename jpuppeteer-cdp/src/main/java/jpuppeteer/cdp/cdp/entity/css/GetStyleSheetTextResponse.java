@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetStyleSheetTextResponse {
+public class GetStyleSheetTextResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The stylesheet text.
@@ -14,5 +14,32 @@ public class GetStyleSheetTextResponse {
     private String text;
 
 
+    public static GetStyleSheetTextResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetStyleSheetTextResponse object = new GetStyleSheetTextResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "text":
+                    object.text = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (text != null) {
+            writer.name("text").value(text);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class InheritedStyleEntry {
+public class InheritedStyleEntry implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The ancestor node's inline style, if any, in the style inheritance chain.
@@ -20,5 +20,38 @@ public class InheritedStyleEntry {
     private java.util.List<jpuppeteer.cdp.cdp.entity.css.RuleMatch> matchedCSSRules;
 
 
+    public static InheritedStyleEntry decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        InheritedStyleEntry object = new InheritedStyleEntry();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "inlineStyle":
+                    object.inlineStyle = jpuppeteer.cdp.cdp.entity.css.CSSStyle.decode(reader);
+                    break;
+                case "matchedCSSRules":
+                    object.matchedCSSRules = reader.nextList(jpuppeteer.cdp.cdp.entity.css.RuleMatch::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (inlineStyle != null) {
+            writer.name("inlineStyle").value(inlineStyle);
+        }
+        if (matchedCSSRules != null) {
+            writer.name("matchedCSSRules").value(matchedCSSRules);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
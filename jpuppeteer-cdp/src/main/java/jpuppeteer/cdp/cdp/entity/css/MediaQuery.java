@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class MediaQuery {
+public class MediaQuery implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Array of media query expressions.
@@ -20,5 +20,38 @@ public class MediaQuery {
     private Boolean active;
 
 
+    public static MediaQuery decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        MediaQuery object = new MediaQuery();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "expressions":
+                    object.expressions = reader.nextList(jpuppeteer.cdp.cdp.entity.css.MediaQueryExpression::decode);
+                    break;
+                case "active":
+                    object.active = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (expressions != null) {
+            writer.name("expressions").value(expressions);
+        }
+        if (active != null) {
+            writer.name("active").value(active);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class MediaQueryExpression {
+public class MediaQueryExpression implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Media query expression value.
@@ -35,5 +35,56 @@ public class MediaQueryExpression {
     private Double computedLength;
 
 
+    public static MediaQueryExpression decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        MediaQueryExpression object = new MediaQueryExpression();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "value":
+                    object.value = reader.nextDouble();
+                    break;
+                case "unit":
+                    object.unit = reader.nextString();
+                    break;
+                case "feature":
+                    object.feature = reader.nextString();
+                    break;
+                case "valueRange":
+                    object.valueRange = jpuppeteer.cdp.cdp.entity.css.SourceRange.decode(reader);
+                    break;
+                case "computedLength":
+                    object.computedLength = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        if (unit != null) {
+            writer.name("unit").value(unit);
+        }
+        if (feature != null) {
+            writer.name("feature").value(feature);
+        }
+        if (valueRange != null) {
+            writer.name("valueRange").value(valueRange);
+        }
+        if (computedLength != null) {
+            writer.name("computedLength").value(computedLength);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PlatformFontUsage {
+public class PlatformFontUsage implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Font's family name reported by platform.
@@ -25,5 +25,44 @@ public class PlatformFontUsage {
     private Double glyphCount;
 
 
+    public static PlatformFontUsage decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PlatformFontUsage object = new PlatformFontUsage();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "familyName":
+                    object.familyName = reader.nextString();
+                    break;
+                case "isCustomFont":
+                    object.isCustomFont = reader.nextBoolean();
+                    break;
+                case "glyphCount":
+                    object.glyphCount = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (familyName != null) {
+            writer.name("familyName").value(familyName);
+        }
+        if (isCustomFont != null) {
+            writer.name("isCustomFont").value(isCustomFont);
+        }
+        if (glyphCount != null) {
+            writer.name("glyphCount").value(glyphCount);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PseudoElementMatches {
+public class PseudoElementMatches implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Pseudo element type.
@@ -20,5 +20,38 @@ public class PseudoElementMatches {
     private java.util.List<jpuppeteer.cdp.cdp.entity.css.RuleMatch> matches;
 
 
+    public static PseudoElementMatches decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PseudoElementMatches object = new PseudoElementMatches();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "pseudoType":
+                    object.pseudoType = reader.nextString();
+                    break;
+                case "matches":
+                    object.matches = reader.nextList(jpuppeteer.cdp.cdp.entity.css.RuleMatch::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (pseudoType != null) {
+            writer.name("pseudoType").value(pseudoType);
+        }
+        if (matches != null) {
+            writer.name("matches").value(matches);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RuleMatch {
+public class RuleMatch implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * CSS rule in the match.
@@ -20,5 +20,38 @@ public class RuleMatch {
     private java.util.List<Integer> matchingSelectors;
 
 
+    public static RuleMatch decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RuleMatch object = new RuleMatch();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "rule":
+                    object.rule = jpuppeteer.cdp.cdp.entity.css.CSSRule.decode(reader);
+                    break;
+                case "matchingSelectors":
+                    object.matchingSelectors = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (rule != null) {
+            writer.name("rule").value(rule);
+        }
+        if (matchingSelectors != null) {
+            writer.name("matchingSelectors").value(matchingSelectors);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RuleUsage {
+public class RuleUsage implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The css style sheet identifier (absent for user agent stylesheet and user-specified stylesheet rules) this rule came from.
@@ -30,5 +30,50 @@ public class RuleUsage {
     private Boolean used;
 
 
+    public static RuleUsage decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RuleUsage object = new RuleUsage();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "styleSheetId":
+                    object.styleSheetId = reader.nextString();
+                    break;
+                case "startOffset":
+                    object.startOffset = reader.nextDouble();
+                    break;
+                case "endOffset":
+                    object.endOffset = reader.nextDouble();
+                    break;
+                case "used":
+                    object.used = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (styleSheetId != null) {
+            writer.name("styleSheetId").value(styleSheetId);
+        }
+        if (startOffset != null) {
+            writer.name("startOffset").value(startOffset);
+        }
+        if (endOffset != null) {
+            writer.name("endOffset").value(endOffset);
+        }
+        if (used != null) {
+            writer.name("used").value(used);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SelectorList {
+public class SelectorList implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Selectors in the list.
@@ -20,5 +20,38 @@ public class SelectorList {
     private String text;
 
 
+    public static SelectorList decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SelectorList object = new SelectorList();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "selectors":
+                    object.selectors = reader.nextList(jpuppeteer.cdp.cdp.entity.css.Value::decode);
+                    break;
+                case "text":
+                    object.text = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (selectors != null) {
+            writer.name("selectors").value(selectors);
+        }
+        if (text != null) {
+            writer.name("text").value(text);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetEffectivePropertyValueForNodeRequest {
+public class SetEffectivePropertyValueForNodeRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The element id for which to set property.
@@ -22,5 +22,44 @@ public class SetEffectivePropertyValueForNodeRequest {
     private String value;
 
 
+    public static SetEffectivePropertyValueForNodeRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetEffectivePropertyValueForNodeRequest object = new SetEffectivePropertyValueForNodeRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "propertyName":
+                    object.propertyName = reader.nextString();
+                    break;
+                case "value":
+                    object.value = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (propertyName != null) {
+            writer.name("propertyName").value(propertyName);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
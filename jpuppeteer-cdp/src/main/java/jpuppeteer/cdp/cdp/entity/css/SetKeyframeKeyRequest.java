@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetKeyframeKeyRequest {
+public class SetKeyframeKeyRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -21,5 +21,44 @@ public class SetKeyframeKeyRequest {
     private String keyText;
 
 
+    public static SetKeyframeKeyRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetKeyframeKeyRequest object = new SetKeyframeKeyRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "styleSheetId":
+                    object.styleSheetId = reader.nextString();
+                    break;
+                case "range":
+                    object.range = jpuppeteer.cdp.cdp.entity.css.SourceRange.decode(reader);
+                    break;
+                case "keyText":
+                    object.keyText = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (styleSheetId != null) {
+            writer.name("styleSheetId").value(styleSheetId);
+        }
+        if (range != null) {
+            writer.name("range").value(range);
+        }
+        if (keyText != null) {
+            writer.name("keyText").value(keyText);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
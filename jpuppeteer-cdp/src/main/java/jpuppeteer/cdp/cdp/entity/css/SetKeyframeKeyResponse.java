@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetKeyframeKeyResponse {
+public class SetKeyframeKeyResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The resulting key text after modification.
@@ -14,5 +14,32 @@ public class SetKeyframeKeyResponse {
     private jpuppeteer.cdp.cdp.entity.css.Value keyText;
 
 
+    public static SetKeyframeKeyResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetKeyframeKeyResponse object = new SetKeyframeKeyResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "keyText":
+                    object.keyText = jpuppeteer.cdp.cdp.entity.css.Value.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (keyText != null) {
+            writer.name("keyText").value(keyText);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetMediaTextResponse {
+public class SetMediaTextResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The resulting CSS media rule after modification.
@@ -14,5 +14,32 @@ public class SetMediaTextResponse {
     private jpuppeteer.cdp.cdp.entity.css.CSSMedia media;
 
 
+    public static SetMediaTextResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetMediaTextResponse object = new SetMediaTextResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "media":
+                    object.media = jpuppeteer.cdp.cdp.entity.css.CSSMedia.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (media != null) {
+            writer.name("media").value(media);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetRuleSelectorResponse {
+public class SetRuleSelectorResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The resulting selector list after modification.
@@ -14,5 +14,32 @@ public class SetRuleSelectorResponse {
     private jpuppeteer.cdp.cdp.entity.css.SelectorList selectorList;
 
 
+    public static SetRuleSelectorResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetRuleSelectorResponse object = new SetRuleSelectorResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "selectorList":
+                    object.selectorList = jpuppeteer.cdp.cdp.entity.css.SelectorList.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (selectorList != null) {
+            writer.name("selectorList").value(selectorList);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetStyleSheetTextRequest {
+public class SetStyleSheetTextRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -17,5 +17,38 @@ public class SetStyleSheetTextRequest {
     private String text;
 
 
+    public static SetStyleSheetTextRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetStyleSheetTextRequest object = new SetStyleSheetTextRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "styleSheetId":
+                    object.styleSheetId = reader.nextString();
+                    break;
+                case "text":
+                    object.text = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (styleSheetId != null) {
+            writer.name("styleSheetId").value(styleSheetId);
+        }
+        if (text != null) {
+            writer.name("text").value(text);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetStyleSheetTextResponse {
+public class SetStyleSheetTextResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * URL of source map associated with script (if any).
@@ -14,5 +14,32 @@ public class SetStyleSheetTextResponse {
     private String sourceMapURL;
 
 
+    public static SetStyleSheetTextResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetStyleSheetTextResponse object = new SetStyleSheetTextResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "sourceMapURL":
+                    object.sourceMapURL = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (sourceMapURL != null) {
+            writer.name("sourceMapURL").value(sourceMapURL);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
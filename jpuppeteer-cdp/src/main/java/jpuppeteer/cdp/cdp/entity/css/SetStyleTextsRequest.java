@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetStyleTextsRequest {
+public class SetStyleTextsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private java.util.List<jpuppeteer.cdp.cdp.entity.css.StyleDeclarationEdit> edits;
 
 
+    public static SetStyleTextsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetStyleTextsRequest object = new SetStyleTextsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "edits":
+                    object.edits = reader.nextList(jpuppeteer.cdp.cdp.entity.css.StyleDeclarationEdit::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (edits != null) {
+            writer.name("edits").value(edits);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetStyleTextsResponse {
+public class SetStyleTextsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The resulting styles after modification.
@@ -14,5 +14,32 @@ public class SetStyleTextsResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.css.CSSStyle> styles;
 
 
+    public static SetStyleTextsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetStyleTextsResponse object = new SetStyleTextsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "styles":
+                    object.styles = reader.nextList(jpuppeteer.cdp.cdp.entity.css.CSSStyle::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (styles != null) {
+            writer.name("styles").value(styles);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ShorthandEntry {
+public class ShorthandEntry implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Shorthand name.
@@ -24,5 +24,44 @@ public class ShorthandEntry {
     private Boolean important;
 
 
+    public static ShorthandEntry decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ShorthandEntry object = new ShorthandEntry();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "value":
+                    object.value = reader.nextString();
+                    break;
+                case "important":
+                    object.important = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        if (important != null) {
+            writer.name("important").value(important);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SourceRange {
+public class SourceRange implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Start line of range.
@@ -30,5 +30,50 @@ public class SourceRange {
     private Integer endColumn;
 
 
+    public static SourceRange decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SourceRange object = new SourceRange();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "startLine":
+                    object.startLine = reader.nextInteger();
+                    break;
+                case "startColumn":
+                    object.startColumn = reader.nextInteger();
+                    break;
+                case "endLine":
+                    object.endLine = reader.nextInteger();
+                    break;
+                case "endColumn":
+                    object.endColumn = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (startLine != null) {
+            writer.name("startLine").value(startLine);
+        }
+        if (startColumn != null) {
+            writer.name("startColumn").value(startColumn);
+        }
+        if (endLine != null) {
+            writer.name("endLine").value(endLine);
+        }
+        if (endColumn != null) {
+            writer.name("endColumn").value(endColumn);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StopRuleUsageTrackingResponse {
+public class StopRuleUsageTrackingResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private java.util.List<jpuppeteer.cdp.cdp.entity.css.RuleUsage> ruleUsage;
 
 
+    public static StopRuleUsageTrackingResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StopRuleUsageTrackingResponse object = new StopRuleUsageTrackingResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "ruleUsage":
+                    object.ruleUsage = reader.nextList(jpuppeteer.cdp.cdp.entity.css.RuleUsage::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (ruleUsage != null) {
+            writer.name("ruleUsage").value(ruleUsage);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
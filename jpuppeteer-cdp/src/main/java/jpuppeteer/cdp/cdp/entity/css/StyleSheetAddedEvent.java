@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StyleSheetAddedEvent {
+public class StyleSheetAddedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Added stylesheet metainfo.
@@ -15,5 +15,32 @@ public class StyleSheetAddedEvent {
     private jpuppeteer.cdp.cdp.entity.css.CSSStyleSheetHeader header;
 
 
+    public static StyleSheetAddedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StyleSheetAddedEvent object = new StyleSheetAddedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "header":
+                    object.header = jpuppeteer.cdp.cdp.entity.css.CSSStyleSheetHeader.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (header != null) {
+            writer.name("header").value(header);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
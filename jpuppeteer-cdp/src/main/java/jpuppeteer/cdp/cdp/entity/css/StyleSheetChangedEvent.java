@@ -7,12 +7,39 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StyleSheetChangedEvent {
+public class StyleSheetChangedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String styleSheetId;
 
 
+    public static StyleSheetChangedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StyleSheetChangedEvent object = new StyleSheetChangedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "styleSheetId":
+                    object.styleSheetId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (styleSheetId != null) {
+            writer.name("styleSheetId").value(styleSheetId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StyleSheetRemovedEvent {
+public class StyleSheetRemovedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the removed stylesheet.
@@ -15,5 +15,32 @@ public class StyleSheetRemovedEvent {
     private String styleSheetId;
 
 
+    public static StyleSheetRemovedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StyleSheetRemovedEvent object = new StyleSheetRemovedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "styleSheetId":
+                    object.styleSheetId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (styleSheetId != null) {
+            writer.name("styleSheetId").value(styleSheetId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class TakeCoverageDeltaResponse {
+public class TakeCoverageDeltaResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private java.util.List<jpuppeteer.cdp.cdp.entity.css.RuleUsage> coverage;
 
 
+    public static TakeCoverageDeltaResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        TakeCoverageDeltaResponse object = new TakeCoverageDeltaResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "coverage":
+                    object.coverage = reader.nextList(jpuppeteer.cdp.cdp.entity.css.RuleUsage::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (coverage != null) {
+            writer.name("coverage").value(coverage);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
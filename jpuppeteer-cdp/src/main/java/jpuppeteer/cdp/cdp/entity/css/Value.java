@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.css;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Value {
+public class Value implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Value text.
@@ -20,5 +20,38 @@ public class Value {
     private jpuppeteer.cdp.cdp.entity.css.SourceRange range;
 
 
+    public static Value decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Value object = new Value();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "text":
+                    object.text = reader.nextString();
+                    break;
+                case "range":
+                    object.range = jpuppeteer.cdp.cdp.entity.css.SourceRange.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (text != null) {
+            writer.name("text").value(text);
+        }
+        if (range != null) {
+            writer.name("range").value(range);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
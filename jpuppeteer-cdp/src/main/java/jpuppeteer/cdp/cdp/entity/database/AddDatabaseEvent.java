@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.database;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AddDatabaseEvent {
+public class AddDatabaseEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private jpuppeteer.cdp.cdp.entity.database.Database database;
 
 
+    public static AddDatabaseEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AddDatabaseEvent object = new AddDatabaseEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "database":
+                    object.database = jpuppeteer.cdp.cdp.entity.database.Database.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (database != null) {
+            writer.name("database").value(database);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.database;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Database {
+public class Database implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Database ID.
@@ -30,5 +30,50 @@ public class Database {
     private String version;
 
 
+    public static Database decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Database object = new Database();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    object.id = reader.nextString();
+                    break;
+                case "domain":
+                    object.domain = reader.nextString();
+                    break;
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "version":
+                    object.version = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (id != null) {
+            writer.name("id").value(id);
+        }
+        if (domain != null) {
+            writer.name("domain").value(domain);
+        }
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (version != null) {
+            writer.name("version").value(version);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
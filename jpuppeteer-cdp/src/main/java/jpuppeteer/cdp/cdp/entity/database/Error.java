@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.database;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Error {
+public class Error implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Error message.
@@ -20,5 +20,38 @@ public class Error {
     private Integer code;
 
 
+    public static Error decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Error object = new Error();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "message":
+                    object.message = reader.nextString();
+                    break;
+                case "code":
+                    object.code = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (message != null) {
+            writer.name("message").value(message);
+        }
+        if (code != null) {
+            writer.name("code").value(code);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.database;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ExecuteSQLRequest {
+public class ExecuteSQLRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -17,5 +17,38 @@ public class ExecuteSQLRequest {
     private String query;
 
 
+    public static ExecuteSQLRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ExecuteSQLRequest object = new ExecuteSQLRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "databaseId":
+                    object.databaseId = reader.nextString();
+                    break;
+                case "query":
+                    object.query = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (databaseId != null) {
+            writer.name("databaseId").value(databaseId);
+        }
+        if (query != null) {
+            writer.name("query").value(query);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.database;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ExecuteSQLResponse {
+public class ExecuteSQLResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -21,5 +21,44 @@ public class ExecuteSQLResponse {
     private jpuppeteer.cdp.cdp.entity.database.Error sqlError;
 
 
+    public static ExecuteSQLResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ExecuteSQLResponse object = new ExecuteSQLResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "columnNames":
+                    object.columnNames = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "values":
+                    object.values = reader.nextList(jpuppeteer.cdp.JsonReader::nextAny);
+                    break;
+                case "sqlError":
+                    object.sqlError = jpuppeteer.cdp.cdp.entity.database.Error.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (columnNames != null) {
+            writer.name("columnNames").value(columnNames);
+        }
+        if (values != null) {
+            writer.name("values").value(values);
+        }
+        if (sqlError != null) {
+            writer.name("sqlError").value(sqlError);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
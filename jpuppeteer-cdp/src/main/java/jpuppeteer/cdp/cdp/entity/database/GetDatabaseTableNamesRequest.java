@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.database;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetDatabaseTableNamesRequest {
+public class GetDatabaseTableNamesRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String databaseId;
 
 
+    public static GetDatabaseTableNamesRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetDatabaseTableNamesRequest object = new GetDatabaseTableNamesRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "databaseId":
+                    object.databaseId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (databaseId != null) {
+            writer.name("databaseId").value(databaseId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.database;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetDatabaseTableNamesResponse {
+public class GetDatabaseTableNamesResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private java.util.List<String> tableNames;
 
 
+    public static GetDatabaseTableNamesResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetDatabaseTableNamesResponse object = new GetDatabaseTableNamesResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "tableNames":
+                    object.tableNames = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (tableNames != null) {
+            writer.name("tableNames").value(tableNames);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class BreakLocation {
+public class BreakLocation implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Script identifier as reported in the `Debugger.scriptParsed`.
@@ -27,5 +27,50 @@ public class BreakLocation {
     private String type;
 
 
+    public static BreakLocation decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        BreakLocation object = new BreakLocation();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "scriptId":
+                    object.scriptId = reader.nextString();
+                    break;
+                case "lineNumber":
+                    object.lineNumber = reader.nextInteger();
+                    break;
+                case "columnNumber":
+                    object.columnNumber = reader.nextInteger();
+                    break;
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (scriptId != null) {
+            writer.name("scriptId").value(scriptId);
+        }
+        if (lineNumber != null) {
+            writer.name("lineNumber").value(lineNumber);
+        }
+        if (columnNumber != null) {
+            writer.name("columnNumber").value(columnNumber);
+        }
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
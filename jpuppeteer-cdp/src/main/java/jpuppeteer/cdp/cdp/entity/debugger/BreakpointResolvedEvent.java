@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class BreakpointResolvedEvent {
+public class BreakpointResolvedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Breakpoint unique identifier.
@@ -19,5 +19,38 @@ public class BreakpointResolvedEvent {
     private jpuppeteer.cdp.cdp.entity.debugger.Location location;
 
 
+    public static BreakpointResolvedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        BreakpointResolvedEvent object = new BreakpointResolvedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "breakpointId":
+                    object.breakpointId = reader.nextString();
+                    break;
+                case "location":
+                    object.location = jpuppeteer.cdp.cdp.entity.debugger.Location.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (breakpointId != null) {
+            writer.name("breakpointId").value(breakpointId);
+        }
+        if (location != null) {
+            writer.name("location").value(location);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
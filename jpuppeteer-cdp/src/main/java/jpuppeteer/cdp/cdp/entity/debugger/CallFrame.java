@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CallFrame {
+public class CallFrame implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Call frame identifier. This identifier is only valid while the virtual machine is paused.
@@ -49,5 +49,74 @@ public class CallFrame {
     private jpuppeteer.cdp.cdp.entity.runtime.RemoteObject returnValue;
 
 
+    public static CallFrame decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CallFrame object = new CallFrame();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "callFrameId":
+                    object.callFrameId = reader.nextString();
+                    break;
+                case "functionName":
+                    object.functionName = reader.nextString();
+                    break;
+                case "functionLocation":
+                    object.functionLocation = jpuppeteer.cdp.cdp.entity.debugger.Location.decode(reader);
+                    break;
+                case "location":
+                    object.location = jpuppeteer.cdp.cdp.entity.debugger.Location.decode(reader);
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "scopeChain":
+                    object.scopeChain = reader.nextList(jpuppeteer.cdp.cdp.entity.debugger.Scope::decode);
+                    break;
+                case "this":
+                    object.self = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                case "returnValue":
+                    object.returnValue = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (callFrameId != null) {
+            writer.name("callFrameId").value(callFrameId);
+        }
+        if (functionName != null) {
+            writer.name("functionName").value(functionName);
+        }
+        if (functionLocation != null) {
+            writer.name("functionLocation").value(functionLocation);
+        }
+        if (location != null) {
+            writer.name("location").value(location);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (scopeChain != null) {
+            writer.name("scopeChain").value(scopeChain);
+        }
+        if (self != null) {
+            writer.name("this").value(self);
+        }
+        if (returnValue != null) {
+            writer.name("returnValue").value(returnValue);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
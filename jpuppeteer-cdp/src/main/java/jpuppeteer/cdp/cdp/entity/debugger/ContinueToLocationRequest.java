@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ContinueToLocationRequest {
+public class ContinueToLocationRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Location to continue to.
@@ -17,5 +17,38 @@ public class ContinueToLocationRequest {
     private String targetCallFrames;
 
 
+    public static ContinueToLocationRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ContinueToLocationRequest object = new ContinueToLocationRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "location":
+                    object.location = jpuppeteer.cdp.cdp.entity.debugger.Location.decode(reader);
+                    break;
+                case "targetCallFrames":
+                    object.targetCallFrames = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (location != null) {
+            writer.name("location").value(location);
+        }
+        if (targetCallFrames != null) {
+            writer.name("targetCallFrames").value(targetCallFrames);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class EnableRequest {
+public class EnableRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The maximum size in bytes of collected scripts (not referenced by other heap objects) the debugger can hold. Puts no limit if paramter is omitted.
@@ -13,5 +13,32 @@ public class EnableRequest {
     private Double maxScriptsCacheSize;
 
 
+    public static EnableRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        EnableRequest object = new EnableRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "maxScriptsCacheSize":
+                    object.maxScriptsCacheSize = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (maxScriptsCacheSize != null) {
+            writer.name("maxScriptsCacheSize").value(maxScriptsCacheSize);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class EnableResponse {
+public class EnableResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Unique identifier of the debugger.
@@ -13,5 +13,32 @@ public class EnableResponse {
     private String debuggerId;
 
 
+    public static EnableResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        EnableResponse object = new EnableResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "debuggerId":
+                    object.debuggerId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (debuggerId != null) {
+            writer.name("debuggerId").value(debuggerId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
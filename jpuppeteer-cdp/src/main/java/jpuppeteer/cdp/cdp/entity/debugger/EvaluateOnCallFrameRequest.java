@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class EvaluateOnCallFrameRequest {
+public class EvaluateOnCallFrameRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Call frame identifier to evaluate on.
@@ -53,5 +53,80 @@ public class EvaluateOnCallFrameRequest {
     private Double timeout;
 
 
+    public static EvaluateOnCallFrameRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        EvaluateOnCallFrameRequest object = new EvaluateOnCallFrameRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "callFrameId":
+                    object.callFrameId = reader.nextString();
+                    break;
+                case "expression":
+                    object.expression = reader.nextString();
+                    break;
+                case "objectGroup":
+                    object.objectGroup = reader.nextString();
+                    break;
+                case "includeCommandLineAPI":
+                    object.includeCommandLineAPI = reader.nextBoolean();
+                    break;
+                case "silent":
+                    object.silent = reader.nextBoolean();
+                    break;
+                case "returnByValue":
+                    object.returnByValue = reader.nextBoolean();
+                    break;
+                case "generatePreview":
+                    object.generatePreview = reader.nextBoolean();
+                    break;
+                case "throwOnSideEffect":
+                    object.throwOnSideEffect = reader.nextBoolean();
+                    break;
+                case "timeout":
+                    object.timeout = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (callFrameId != null) {
+            writer.name("callFrameId").value(callFrameId);
+        }
+        if (expression != null) {
+            writer.name("expression").value(expression);
+        }
+        if (objectGroup != null) {
+            writer.name("objectGroup").value(objectGroup);
+        }
+        if (includeCommandLineAPI != null) {
+            writer.name("includeCommandLineAPI").value(includeCommandLineAPI);
+        }
+        if (silent != null) {
+            writer.name("silent").value(silent);
+        }
+        if (returnByValue != null) {
+            writer.name("returnByValue").value(returnByValue);
+        }
+        if (generatePreview != null) {
+            writer.name("generatePreview").value(generatePreview);
+        }
+        if (throwOnSideEffect != null) {
+            writer.name("throwOnSideEffect").value(throwOnSideEffect);
+        }
+        if (timeout != null) {
+            writer.name("timeout").value(timeout);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
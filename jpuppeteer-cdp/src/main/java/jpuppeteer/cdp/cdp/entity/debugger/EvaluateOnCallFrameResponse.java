@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class EvaluateOnCallFrameResponse {
+public class EvaluateOnCallFrameResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Object wrapper for the evaluation result.
@@ -18,5 +18,38 @@ public class EvaluateOnCallFrameResponse {
     private jpuppeteer.cdp.cdp.entity.runtime.ExceptionDetails exceptionDetails;
 
 
+    public static EvaluateOnCallFrameResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        EvaluateOnCallFrameResponse object = new EvaluateOnCallFrameResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "result":
+                    object.result = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                case "exceptionDetails":
+                    object.exceptionDetails = jpuppeteer.cdp.cdp.entity.runtime.ExceptionDetails.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (result != null) {
+            writer.name("result").value(result);
+        }
+        if (exceptionDetails != null) {
+            writer.name("exceptionDetails").value(exceptionDetails);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetPossibleBreakpointsRequest {
+public class GetPossibleBreakpointsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Start of range to search possible breakpoint locations in.
@@ -23,5 +23,44 @@ public class GetPossibleBreakpointsRequest {
     private Boolean restrictToFunction;
 
 
+    public static GetPossibleBreakpointsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetPossibleBreakpointsRequest object = new GetPossibleBreakpointsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "start":
+                    object.start = jpuppeteer.cdp.cdp.entity.debugger.Location.decode(reader);
+                    break;
+                case "end":
+                    object.end = jpuppeteer.cdp.cdp.entity.debugger.Location.decode(reader);
+                    break;
+                case "restrictToFunction":
+                    object.restrictToFunction = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (start != null) {
+            writer.name("start").value(start);
+        }
+        if (end != null) {
+            writer.name("end").value(end);
+        }
+        if (restrictToFunction != null) {
+            writer.name("restrictToFunction").value(restrictToFunction);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetPossibleBreakpointsResponse {
+public class GetPossibleBreakpointsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * List of the possible breakpoint locations.
@@ -13,5 +13,32 @@ public class GetPossibleBreakpointsResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.debugger.BreakLocation> locations;
 
 
+    public static GetPossibleBreakpointsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetPossibleBreakpointsResponse object = new GetPossibleBreakpointsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "locations":
+                    object.locations = reader.nextList(jpuppeteer.cdp.cdp.entity.debugger.BreakLocation::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (locations != null) {
+            writer.name("locations").value(locations);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetScriptSourceRequest {
+public class GetScriptSourceRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the script to get source for.
@@ -13,5 +13,32 @@ public class GetScriptSourceRequest {
     private String scriptId;
 
 
+    public static GetScriptSourceRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetScriptSourceRequest object = new GetScriptSourceRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "scriptId":
+                    object.scriptId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (scriptId != null) {
+            writer.name("scriptId").value(scriptId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetScriptSourceResponse {
+public class GetScriptSourceResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Script source (empty in case of Wasm bytecode).
@@ -18,5 +18,38 @@ public class GetScriptSourceResponse {
     private String bytecode;
 
 
+    public static GetScriptSourceResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetScriptSourceResponse object = new GetScriptSourceResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "scriptSource":
+                    object.scriptSource = reader.nextString();
+                    break;
+                case "bytecode":
+                    object.bytecode = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (scriptSource != null) {
+            writer.name("scriptSource").value(scriptSource);
+        }
+        if (bytecode != null) {
+            writer.name("bytecode").value(bytecode);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
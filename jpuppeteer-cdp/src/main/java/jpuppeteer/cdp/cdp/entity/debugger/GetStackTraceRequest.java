@@ -5,12 +5,39 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetStackTraceRequest {
+public class GetStackTraceRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private jpuppeteer.cdp.cdp.entity.runtime.StackTraceId stackTraceId;
 
 
+    public static GetStackTraceRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetStackTraceRequest object = new GetStackTraceRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "stackTraceId":
+                    object.stackTraceId = jpuppeteer.cdp.cdp.entity.runtime.StackTraceId.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (stackTraceId != null) {
+            writer.name("stackTraceId").value(stackTraceId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,12 +5,39 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetStackTraceResponse {
+public class GetStackTraceResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private jpuppeteer.cdp.cdp.entity.runtime.StackTrace stackTrace;
 
 
+    public static GetStackTraceResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetStackTraceResponse object = new GetStackTraceResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "stackTrace":
+                    object.stackTrace = jpuppeteer.cdp.cdp.entity.runtime.StackTrace.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (stackTrace != null) {
+            writer.name("stackTrace").value(stackTrace);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
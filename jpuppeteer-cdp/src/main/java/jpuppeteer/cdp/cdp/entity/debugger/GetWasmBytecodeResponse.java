@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetWasmBytecodeResponse {
+public class GetWasmBytecodeResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Script source.
@@ -13,5 +13,32 @@ public class GetWasmBytecodeResponse {
     private String bytecode;
 
 
+    public static GetWasmBytecodeResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetWasmBytecodeResponse object = new GetWasmBytecodeResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "bytecode":
+                    object.bytecode = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (bytecode != null) {
+            writer.name("bytecode").value(bytecode);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
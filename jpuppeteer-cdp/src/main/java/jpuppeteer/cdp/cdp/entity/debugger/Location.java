@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Location {
+public class Location implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Script identifier as reported in the `Debugger.scriptParsed`.
@@ -24,5 +24,44 @@ public class Location {
     private Integer columnNumber;
 
 
+    public static Location decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Location object = new Location();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "scriptId":
+                    object.scriptId = reader.nextString();
+                    break;
+                case "lineNumber":
+                    object.lineNumber = reader.nextInteger();
+                    break;
+                case "columnNumber":
+                    object.columnNumber = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (scriptId != null) {
+            writer.name("scriptId").value(scriptId);
+        }
+        if (lineNumber != null) {
+            writer.name("lineNumber").value(lineNumber);
+        }
+        if (columnNumber != null) {
+            writer.name("columnNumber").value(columnNumber);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
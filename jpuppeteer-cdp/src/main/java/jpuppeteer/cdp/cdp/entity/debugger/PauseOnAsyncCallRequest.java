@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PauseOnAsyncCallRequest {
+public class PauseOnAsyncCallRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Debugger will pause when async call with given stack trace is started.
@@ -13,5 +13,32 @@ public class PauseOnAsyncCallRequest {
     private jpuppeteer.cdp.cdp.entity.runtime.StackTraceId parentStackTraceId;
 
 
+    public static PauseOnAsyncCallRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PauseOnAsyncCallRequest object = new PauseOnAsyncCallRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "parentStackTraceId":
+                    object.parentStackTraceId = jpuppeteer.cdp.cdp.entity.runtime.StackTraceId.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (parentStackTraceId != null) {
+            writer.name("parentStackTraceId").value(parentStackTraceId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
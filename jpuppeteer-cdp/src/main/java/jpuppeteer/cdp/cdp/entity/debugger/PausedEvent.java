@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PausedEvent {
+public class PausedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Call stack the virtual machine stopped on.
@@ -44,5 +44,68 @@ public class PausedEvent {
     private jpuppeteer.cdp.cdp.entity.runtime.StackTraceId asyncCallStackTraceId;
 
 
+    public static PausedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PausedEvent object = new PausedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "callFrames":
+                    object.callFrames = reader.nextList(jpuppeteer.cdp.cdp.entity.debugger.CallFrame::decode);
+                    break;
+                case "reason":
+                    object.reason = reader.nextString();
+                    break;
+                case "data":
+                    object.data = reader.nextMap();
+                    break;
+                case "hitBreakpoints":
+                    object.hitBreakpoints = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "asyncStackTrace":
+                    object.asyncStackTrace = jpuppeteer.cdp.cdp.entity.runtime.StackTrace.decode(reader);
+                    break;
+                case "asyncStackTraceId":
+                    object.asyncStackTraceId = jpuppeteer.cdp.cdp.entity.runtime.StackTraceId.decode(reader);
+                    break;
+                case "asyncCallStackTraceId":
+                    object.asyncCallStackTraceId = jpuppeteer.cdp.cdp.entity.runtime.StackTraceId.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (callFrames != null) {
+            writer.name("callFrames").value(callFrames);
+        }
+        if (reason != null) {
+            writer.name("reason").value(reason);
+        }
+        if (data != null) {
+            writer.name("data").value(data);
+        }
+        if (hitBreakpoints != null) {
+            writer.name("hitBreakpoints").value(hitBreakpoints);
+        }
+        if (asyncStackTrace != null) {
+            writer.name("asyncStackTrace").value(asyncStackTrace);
+        }
+        if (asyncStackTraceId != null) {
+            writer.name("asyncStackTraceId").value(asyncStackTraceId);
+        }
+        if (asyncCallStackTraceId != null) {
+            writer.name("asyncCallStackTraceId").value(asyncCallStackTraceId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,12 +5,39 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RemoveBreakpointRequest {
+public class RemoveBreakpointRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String breakpointId;
 
 
+    public static RemoveBreakpointRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RemoveBreakpointRequest object = new RemoveBreakpointRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "breakpointId":
+                    object.breakpointId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (breakpointId != null) {
+            writer.name("breakpointId").value(breakpointId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RestartFrameRequest {
+public class RestartFrameRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Call frame identifier to evaluate on.
@@ -13,5 +13,32 @@ public class RestartFrameRequest {
     private String callFrameId;
 
 
+    public static RestartFrameRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RestartFrameRequest object = new RestartFrameRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "callFrameId":
+                    object.callFrameId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (callFrameId != null) {
+            writer.name("callFrameId").value(callFrameId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RestartFrameResponse {
+public class RestartFrameResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * New stack trace.
@@ -23,5 +23,44 @@ public class RestartFrameResponse {
     private jpuppeteer.cdp.cdp.entity.runtime.StackTraceId asyncStackTraceId;
 
 
+    public static RestartFrameResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RestartFrameResponse object = new RestartFrameResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "callFrames":
+                    object.callFrames = reader.nextList(jpuppeteer.cdp.cdp.entity.debugger.CallFrame::decode);
+                    break;
+                case "asyncStackTrace":
+                    object.asyncStackTrace = jpuppeteer.cdp.cdp.entity.runtime.StackTrace.decode(reader);
+                    break;
+                case "asyncStackTraceId":
+                    object.asyncStackTraceId = jpuppeteer.cdp.cdp.entity.runtime.StackTraceId.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (callFrames != null) {
+            writer.name("callFrames").value(callFrames);
+        }
+        if (asyncStackTrace != null) {
+            writer.name("asyncStackTrace").value(asyncStackTrace);
+        }
+        if (asyncStackTraceId != null) {
+            writer.name("asyncStackTraceId").value(asyncStackTraceId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
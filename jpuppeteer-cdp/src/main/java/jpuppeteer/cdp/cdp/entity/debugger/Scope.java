@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Scope {
+public class Scope implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Scope type.
@@ -33,5 +33,56 @@ public class Scope {
     private jpuppeteer.cdp.cdp.entity.debugger.Location endLocation;
 
 
+    public static Scope decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Scope object = new Scope();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "object":
+                    object.object = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "startLocation":
+                    object.startLocation = jpuppeteer.cdp.cdp.entity.debugger.Location.decode(reader);
+                    break;
+                case "endLocation":
+                    object.endLocation = jpuppeteer.cdp.cdp.entity.debugger.Location.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (object != null) {
+            writer.name("object").value(object);
+        }
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (startLocation != null) {
+            writer.name("startLocation").value(startLocation);
+        }
+        if (endLocation != null) {
+            writer.name("endLocation").value(endLocation);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ScriptFailedToParseEvent {
+public class ScriptFailedToParseEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the script parsed.
@@ -79,5 +79,110 @@ public class ScriptFailedToParseEvent {
     private jpuppeteer.cdp.cdp.entity.runtime.StackTrace stackTrace;
 
 
+    public static ScriptFailedToParseEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ScriptFailedToParseEvent object = new ScriptFailedToParseEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "scriptId":
+                    object.scriptId = reader.nextString();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "startLine":
+                    object.startLine = reader.nextInteger();
+                    break;
+                case "startColumn":
+                    object.startColumn = reader.nextInteger();
+                    break;
+                case "endLine":
+                    object.endLine = reader.nextInteger();
+                    break;
+                case "endColumn":
+                    object.endColumn = reader.nextInteger();
+                    break;
+                case "executionContextId":
+                    object.executionContextId = reader.nextInteger();
+                    break;
+                case "hash":
+                    object.hash = reader.nextString();
+                    break;
+                case "executionContextAuxData":
+                    object.executionContextAuxData = reader.nextMap();
+                    break;
+                case "sourceMapURL":
+                    object.sourceMapURL = reader.nextString();
+                    break;
+                case "hasSourceURL":
+                    object.hasSourceURL = reader.nextBoolean();
+                    break;
+                case "isModule":
+                    object.isModule = reader.nextBoolean();
+                    break;
+                case "length":
+                    object.length = reader.nextInteger();
+                    break;
+                case "stackTrace":
+                    object.stackTrace = jpuppeteer.cdp.cdp.entity.runtime.StackTrace.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (scriptId != null) {
+            writer.name("scriptId").value(scriptId);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (startLine != null) {
+            writer.name("startLine").value(startLine);
+        }
+        if (startColumn != null) {
+            writer.name("startColumn").value(startColumn);
+        }
+        if (endLine != null) {
+            writer.name("endLine").value(endLine);
+        }
+        if (endColumn != null) {
+            writer.name("endColumn").value(endColumn);
+        }
+        if (executionContextId != null) {
+            writer.name("executionContextId").value(executionContextId);
+        }
+        if (hash != null) {
+            writer.name("hash").value(hash);
+        }
+        if (executionContextAuxData != null) {
+            writer.name("executionContextAuxData").value(executionContextAuxData);
+        }
+        if (sourceMapURL != null) {
+            writer.name("sourceMapURL").value(sourceMapURL);
+        }
+        if (hasSourceURL != null) {
+            writer.name("hasSourceURL").value(hasSourceURL);
+        }
+        if (isModule != null) {
+            writer.name("isModule").value(isModule);
+        }
+        if (length != null) {
+            writer.name("length").value(length);
+        }
+        if (stackTrace != null) {
+            writer.name("stackTrace").value(stackTrace);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ScriptPosition {
+public class ScriptPosition implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -17,5 +17,38 @@ public class ScriptPosition {
     private Integer columnNumber;
 
 
+    public static ScriptPosition decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ScriptPosition object = new ScriptPosition();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "lineNumber":
+                    object.lineNumber = reader.nextInteger();
+                    break;
+                case "columnNumber":
+                    object.columnNumber = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (lineNumber != null) {
+            writer.name("lineNumber").value(lineNumber);
+        }
+        if (columnNumber != null) {
+            writer.name("columnNumber").value(columnNumber);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
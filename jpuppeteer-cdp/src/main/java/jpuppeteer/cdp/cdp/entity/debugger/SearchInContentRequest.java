@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SearchInContentRequest {
+public class SearchInContentRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the script to search in.
@@ -28,5 +28,50 @@ public class SearchInContentRequest {
     private Boolean isRegex;
 
 
+    public static SearchInContentRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SearchInContentRequest object = new SearchInContentRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "scriptId":
+                    object.scriptId = reader.nextString();
+                    break;
+                case "query":
+                    object.query = reader.nextString();
+                    break;
+                case "caseSensitive":
+                    object.caseSensitive = reader.nextBoolean();
+                    break;
+                case "isRegex":
+                    object.isRegex = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (scriptId != null) {
+            writer.name("scriptId").value(scriptId);
+        }
+        if (query != null) {
+            writer.name("query").value(query);
+        }
+        if (caseSensitive != null) {
+            writer.name("caseSensitive").value(caseSensitive);
+        }
+        if (isRegex != null) {
+            writer.name("isRegex").value(isRegex);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SearchInContentResponse {
+public class SearchInContentResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * List of search matches.
@@ -13,5 +13,32 @@ public class SearchInContentResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.debugger.SearchMatch> result;
 
 
+    public static SearchInContentResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SearchInContentResponse object = new SearchInContentResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "result":
+                    object.result = reader.nextList(jpuppeteer.cdp.cdp.entity.debugger.SearchMatch::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (result != null) {
+            writer.name("result").value(result);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SearchMatch {
+public class SearchMatch implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Line number in resource content.
@@ -19,5 +19,38 @@ public class SearchMatch {
     private String lineContent;
 
 
+    public static SearchMatch decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SearchMatch object = new SearchMatch();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "lineNumber":
+                    object.lineNumber = reader.nextDouble();
+                    break;
+                case "lineContent":
+                    object.lineContent = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (lineNumber != null) {
+            writer.name("lineNumber").value(lineNumber);
+        }
+        if (lineContent != null) {
+            writer.name("lineContent").value(lineContent);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetAsyncCallStackDepthRequest {
+public class SetAsyncCallStackDepthRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Maximum depth of async call stacks. Setting to `0` will effectively disable collecting async call stacks (default).
@@ -13,5 +13,32 @@ public class SetAsyncCallStackDepthRequest {
     private Integer maxDepth;
 
 
+    public static SetAsyncCallStackDepthRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetAsyncCallStackDepthRequest object = new SetAsyncCallStackDepthRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "maxDepth":
+                    object.maxDepth = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (maxDepth != null) {
+            writer.name("maxDepth").value(maxDepth);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetBlackboxPatternsRequest {
+public class SetBlackboxPatternsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Array of regexps that will be used to check script url for blackbox state.
@@ -13,5 +13,32 @@ public class SetBlackboxPatternsRequest {
     private java.util.List<String> patterns;
 
 
+    public static SetBlackboxPatternsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetBlackboxPatternsRequest object = new SetBlackboxPatternsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "patterns":
+                    object.patterns = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (patterns != null) {
+            writer.name("patterns").value(patterns);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
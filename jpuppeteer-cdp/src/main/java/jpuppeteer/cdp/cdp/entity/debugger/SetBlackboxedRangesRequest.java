@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetBlackboxedRangesRequest {
+public class SetBlackboxedRangesRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the script.
@@ -17,5 +17,38 @@ public class SetBlackboxedRangesRequest {
     private java.util.List<jpuppeteer.cdp.cdp.entity.debugger.ScriptPosition> positions;
 
 
+    public static SetBlackboxedRangesRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetBlackboxedRangesRequest object = new SetBlackboxedRangesRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "scriptId":
+                    object.scriptId = reader.nextString();
+                    break;
+                case "positions":
+                    object.positions = reader.nextList(jpuppeteer.cdp.cdp.entity.debugger.ScriptPosition::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (scriptId != null) {
+            writer.name("scriptId").value(scriptId);
+        }
+        if (positions != null) {
+            writer.name("positions").value(positions);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
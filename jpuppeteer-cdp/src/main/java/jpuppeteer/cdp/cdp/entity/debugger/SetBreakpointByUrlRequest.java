@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetBreakpointByUrlRequest {
+public class SetBreakpointByUrlRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Line number to set breakpoint at.
@@ -38,5 +38,62 @@ public class SetBreakpointByUrlRequest {
     private String condition;
 
 
+    public static SetBreakpointByUrlRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetBreakpointByUrlRequest object = new SetBreakpointByUrlRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "lineNumber":
+                    object.lineNumber = reader.nextInteger();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "urlRegex":
+                    object.urlRegex = reader.nextString();
+                    break;
+                case "scriptHash":
+                    object.scriptHash = reader.nextString();
+                    break;
+                case "columnNumber":
+                    object.columnNumber = reader.nextInteger();
+                    break;
+                case "condition":
+                    object.condition = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (lineNumber != null) {
+            writer.name("lineNumber").value(lineNumber);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (urlRegex != null) {
+            writer.name("urlRegex").value(urlRegex);
+        }
+        if (scriptHash != null) {
+            writer.name("scriptHash").value(scriptHash);
+        }
+        if (columnNumber != null) {
+            writer.name("columnNumber").value(columnNumber);
+        }
+        if (condition != null) {
+            writer.name("condition").value(condition);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetBreakpointByUrlResponse {
+public class SetBreakpointByUrlResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the created breakpoint for further reference.
@@ -18,5 +18,38 @@ public class SetBreakpointByUrlResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.debugger.Location> locations;
 
 
+    public static SetBreakpointByUrlResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetBreakpointByUrlResponse object = new SetBreakpointByUrlResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "breakpointId":
+                    object.breakpointId = reader.nextString();
+                    break;
+                case "locations":
+                    object.locations = reader.nextList(jpuppeteer.cdp.cdp.entity.debugger.Location::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (breakpointId != null) {
+            writer.name("breakpointId").value(breakpointId);
+        }
+        if (locations != null) {
+            writer.name("locations").value(locations);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
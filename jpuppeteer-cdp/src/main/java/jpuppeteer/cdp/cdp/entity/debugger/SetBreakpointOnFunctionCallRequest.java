@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetBreakpointOnFunctionCallRequest {
+public class SetBreakpointOnFunctionCallRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Function object id.
@@ -18,5 +18,38 @@ public class SetBreakpointOnFunctionCallRequest {
     private String condition;
 
 
+    public static SetBreakpointOnFunctionCallRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetBreakpointOnFunctionCallRequest object = new SetBreakpointOnFunctionCallRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "objectId":
+                    object.objectId = reader.nextString();
+                    break;
+                case "condition":
+                    object.condition = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (objectId != null) {
+            writer.name("objectId").value(objectId);
+        }
+        if (condition != null) {
+            writer.name("condition").value(condition);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetBreakpointRequest {
+public class SetBreakpointRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Location to set breakpoint in.
@@ -18,5 +18,38 @@ public class SetBreakpointRequest {
     private String condition;
 
 
+    public static SetBreakpointRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetBreakpointRequest object = new SetBreakpointRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "location":
+                    object.location = jpuppeteer.cdp.cdp.entity.debugger.Location.decode(reader);
+                    break;
+                case "condition":
+                    object.condition = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (location != null) {
+            writer.name("location").value(location);
+        }
+        if (condition != null) {
+            writer.name("condition").value(condition);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
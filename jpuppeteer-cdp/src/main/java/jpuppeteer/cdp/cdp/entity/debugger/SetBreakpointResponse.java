@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetBreakpointResponse {
+public class SetBreakpointResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the created breakpoint for further reference.
@@ -18,5 +18,38 @@ public class SetBreakpointResponse {
     private jpuppeteer.cdp.cdp.entity.debugger.Location actualLocation;
 
 
+    public static SetBreakpointResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetBreakpointResponse object = new SetBreakpointResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "breakpointId":
+                    object.breakpointId = reader.nextString();
+                    break;
+                case "actualLocation":
+                    object.actualLocation = jpuppeteer.cdp.cdp.entity.debugger.Location.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (breakpointId != null) {
+            writer.name("breakpointId").value(breakpointId);
+        }
+        if (actualLocation != null) {
+            writer.name("actualLocation").value(actualLocation);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
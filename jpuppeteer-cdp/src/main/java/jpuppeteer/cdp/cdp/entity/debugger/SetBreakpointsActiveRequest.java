@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetBreakpointsActiveRequest {
+public class SetBreakpointsActiveRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * New value for breakpoints active state.
@@ -13,5 +13,32 @@ public class SetBreakpointsActiveRequest {
     private Boolean active;
 
 
+    public static SetBreakpointsActiveRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetBreakpointsActiveRequest object = new SetBreakpointsActiveRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "active":
+                    object.active = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (active != null) {
+            writer.name("active").value(active);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetInstrumentationBreakpointResponse {
+public class SetInstrumentationBreakpointResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the created breakpoint for further reference.
@@ -13,5 +13,32 @@ public class SetInstrumentationBreakpointResponse {
     private String breakpointId;
 
 
+    public static SetInstrumentationBreakpointResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetInstrumentationBreakpointResponse object = new SetInstrumentationBreakpointResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "breakpointId":
+                    object.breakpointId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (breakpointId != null) {
+            writer.name("breakpointId").value(breakpointId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetPauseOnExceptionsRequest {
+public class SetPauseOnExceptionsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Pause on exceptions mode.
@@ -13,5 +13,32 @@ public class SetPauseOnExceptionsRequest {
     private String state;
 
 
+    public static SetPauseOnExceptionsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetPauseOnExceptionsRequest object = new SetPauseOnExceptionsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "state":
+                    object.state = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (state != null) {
+            writer.name("state").value(state);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
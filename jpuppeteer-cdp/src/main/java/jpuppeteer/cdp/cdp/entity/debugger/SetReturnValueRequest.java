@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetReturnValueRequest {
+public class SetReturnValueRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * New return value.
@@ -13,5 +13,32 @@ public class SetReturnValueRequest {
     private jpuppeteer.cdp.cdp.entity.runtime.CallArgument newValue;
 
 
+    public static SetReturnValueRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetReturnValueRequest object = new SetReturnValueRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "newValue":
+                    object.newValue = jpuppeteer.cdp.cdp.entity.runtime.CallArgument.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (newValue != null) {
+            writer.name("newValue").value(newValue);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetScriptSourceRequest {
+public class SetScriptSourceRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the script to edit.
@@ -23,5 +23,44 @@ public class SetScriptSourceRequest {
     private Boolean dryRun;
 
 
+    public static SetScriptSourceRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetScriptSourceRequest object = new SetScriptSourceRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "scriptId":
+                    object.scriptId = reader.nextString();
+                    break;
+                case "scriptSource":
+                    object.scriptSource = reader.nextString();
+                    break;
+                case "dryRun":
+                    object.dryRun = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (scriptId != null) {
+            writer.name("scriptId").value(scriptId);
+        }
+        if (scriptSource != null) {
+            writer.name("scriptSource").value(scriptSource);
+        }
+        if (dryRun != null) {
+            writer.name("dryRun").value(dryRun);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
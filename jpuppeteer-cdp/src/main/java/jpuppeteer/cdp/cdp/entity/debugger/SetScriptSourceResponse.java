@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetScriptSourceResponse {
+public class SetScriptSourceResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * New stack trace in case editing has happened while VM was stopped.
@@ -33,5 +33,56 @@ public class SetScriptSourceResponse {
     private jpuppeteer.cdp.cdp.entity.runtime.ExceptionDetails exceptionDetails;
 
 
+    public static SetScriptSourceResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetScriptSourceResponse object = new SetScriptSourceResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "callFrames":
+                    object.callFrames = reader.nextList(jpuppeteer.cdp.cdp.entity.debugger.CallFrame::decode);
+                    break;
+                case "stackChanged":
+                    object.stackChanged = reader.nextBoolean();
+                    break;
+                case "asyncStackTrace":
+                    object.asyncStackTrace = jpuppeteer.cdp.cdp.entity.runtime.StackTrace.decode(reader);
+                    break;
+                case "asyncStackTraceId":
+                    object.asyncStackTraceId = jpuppeteer.cdp.cdp.entity.runtime.StackTraceId.decode(reader);
+                    break;
+                case "exceptionDetails":
+                    object.exceptionDetails = jpuppeteer.cdp.cdp.entity.runtime.ExceptionDetails.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (callFrames != null) {
+            writer.name("callFrames").value(callFrames);
+        }
+        if (stackChanged != null) {
+            writer.name("stackChanged").value(stackChanged);
+        }
+        if (asyncStackTrace != null) {
+            writer.name("asyncStackTrace").value(asyncStackTrace);
+        }
+        if (asyncStackTraceId != null) {
+            writer.name("asyncStackTraceId").value(asyncStackTraceId);
+        }
+        if (exceptionDetails != null) {
+            writer.name("exceptionDetails").value(exceptionDetails);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
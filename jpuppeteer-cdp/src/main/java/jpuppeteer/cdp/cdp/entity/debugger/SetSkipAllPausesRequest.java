@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetSkipAllPausesRequest {
+public class SetSkipAllPausesRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * New value for skip pauses state.
@@ -13,5 +13,32 @@ public class SetSkipAllPausesRequest {
     private Boolean skip;
 
 
+    public static SetSkipAllPausesRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetSkipAllPausesRequest object = new SetSkipAllPausesRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "skip":
+                    object.skip = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (skip != null) {
+            writer.name("skip").value(skip);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
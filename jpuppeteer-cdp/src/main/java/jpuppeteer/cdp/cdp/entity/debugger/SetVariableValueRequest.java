@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetVariableValueRequest {
+public class SetVariableValueRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * 0-based number of scope as was listed in scope chain. Only 'local', 'closure' and 'catch' scope types are allowed. Other scopes could be manipulated manually.
@@ -28,5 +28,50 @@ public class SetVariableValueRequest {
     private String callFrameId;
 
 
+    public static SetVariableValueRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetVariableValueRequest object = new SetVariableValueRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "scopeNumber":
+                    object.scopeNumber = reader.nextInteger();
+                    break;
+                case "variableName":
+                    object.variableName = reader.nextString();
+                    break;
+                case "newValue":
+                    object.newValue = jpuppeteer.cdp.cdp.entity.runtime.CallArgument.decode(reader);
+                    break;
+                case "callFrameId":
+                    object.callFrameId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (scopeNumber != null) {
+            writer.name("scopeNumber").value(scopeNumber);
+        }
+        if (variableName != null) {
+            writer.name("variableName").value(variableName);
+        }
+        if (newValue != null) {
+            writer.name("newValue").value(newValue);
+        }
+        if (callFrameId != null) {
+            writer.name("callFrameId").value(callFrameId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
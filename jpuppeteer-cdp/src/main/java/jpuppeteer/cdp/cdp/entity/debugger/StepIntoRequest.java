@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.debugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StepIntoRequest {
+public class StepIntoRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Debugger will pause on the execution of the first async task which was scheduled before next pause.
@@ -13,5 +13,32 @@ public class StepIntoRequest {
     private Boolean breakOnAsyncCall;
 
 
+    public static StepIntoRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StepIntoRequest object = new StepIntoRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "breakOnAsyncCall":
+                    object.breakOnAsyncCall = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (breakOnAsyncCall != null) {
+            writer.name("breakOnAsyncCall").value(breakOnAsyncCall);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.deviceorientation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetDeviceOrientationOverrideRequest {
+public class SetDeviceOrientationOverrideRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Mock alpha
@@ -24,5 +24,44 @@ public class SetDeviceOrientationOverrideRequest {
     private Double gamma;
 
 
+    public static SetDeviceOrientationOverrideRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetDeviceOrientationOverrideRequest object = new SetDeviceOrientationOverrideRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "alpha":
+                    object.alpha = reader.nextDouble();
+                    break;
+                case "beta":
+                    object.beta = reader.nextDouble();
+                    break;
+                case "gamma":
+                    object.gamma = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (alpha != null) {
+            writer.name("alpha").value(alpha);
+        }
+        if (beta != null) {
+            writer.name("beta").value(beta);
+        }
+        if (gamma != null) {
+            writer.name("gamma").value(gamma);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AttributeModifiedEvent {
+public class AttributeModifiedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the node that has changed.
@@ -24,5 +24,44 @@ public class AttributeModifiedEvent {
     private String value;
 
 
+    public static AttributeModifiedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AttributeModifiedEvent object = new AttributeModifiedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "value":
+                    object.value = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
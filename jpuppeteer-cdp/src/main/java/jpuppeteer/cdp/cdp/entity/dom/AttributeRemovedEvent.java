@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AttributeRemovedEvent {
+public class AttributeRemovedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the node that has changed.
@@ -19,5 +19,38 @@ public class AttributeRemovedEvent {
     private String name;
 
 
+    public static AttributeRemovedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AttributeRemovedEvent object = new AttributeRemovedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class BackendNode {
+public class BackendNode implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * `Node`'s nodeType.
@@ -23,5 +23,44 @@ public class BackendNode {
     private Integer backendNodeId;
 
 
+    public static BackendNode decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        BackendNode object = new BackendNode();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeType":
+                    object.nodeType = reader.nextInteger();
+                    break;
+                case "nodeName":
+                    object.nodeName = reader.nextString();
+                    break;
+                case "backendNodeId":
+                    object.backendNodeId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeType != null) {
+            writer.name("nodeType").value(nodeType);
+        }
+        if (nodeName != null) {
+            writer.name("nodeName").value(nodeName);
+        }
+        if (backendNodeId != null) {
+            writer.name("backendNodeId").value(backendNodeId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
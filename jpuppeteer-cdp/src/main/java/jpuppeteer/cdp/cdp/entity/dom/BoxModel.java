@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class BoxModel {
+public class BoxModel implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Content box
@@ -44,5 +44,68 @@ public class BoxModel {
     private jpuppeteer.cdp.cdp.entity.dom.ShapeOutsideInfo shapeOutside;
 
 
+    public static BoxModel decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        BoxModel object = new BoxModel();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "content":
+                    object.content = reader.nextList(jpuppeteer.cdp.JsonReader::nextDouble);
+                    break;
+                case "padding":
+                    object.padding = reader.nextList(jpuppeteer.cdp.JsonReader::nextDouble);
+                    break;
+                case "border":
+                    object.border = reader.nextList(jpuppeteer.cdp.JsonReader::nextDouble);
+                    break;
+                case "margin":
+                    object.margin = reader.nextList(jpuppeteer.cdp.JsonReader::nextDouble);
+                    break;
+                case "width":
+                    object.width = reader.nextInteger();
+                    break;
+                case "height":
+                    object.height = reader.nextInteger();
+                    break;
+                case "shapeOutside":
+                    object.shapeOutside = jpuppeteer.cdp.cdp.entity.dom.ShapeOutsideInfo.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (content != null) {
+            writer.name("content").value(content);
+        }
+        if (padding != null) {
+            writer.name("padding").value(padding);
+        }
+        if (border != null) {
+            writer.name("border").value(border);
+        }
+        if (margin != null) {
+            writer.name("margin").value(margin);
+        }
+        if (width != null) {
+            writer.name("width").value(width);
+        }
+        if (height != null) {
+            writer.name("height").value(height);
+        }
+        if (shapeOutside != null) {
+            writer.name("shapeOutside").value(shapeOutside);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
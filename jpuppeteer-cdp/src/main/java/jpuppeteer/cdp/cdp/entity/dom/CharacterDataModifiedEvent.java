@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CharacterDataModifiedEvent {
+public class CharacterDataModifiedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the node that has changed.
@@ -19,5 +19,38 @@ public class CharacterDataModifiedEvent {
     private String characterData;
 
 
+    public static CharacterDataModifiedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CharacterDataModifiedEvent object = new CharacterDataModifiedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "characterData":
+                    object.characterData = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (characterData != null) {
+            writer.name("characterData").value(characterData);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ChildNodeCountUpdatedEvent {
+public class ChildNodeCountUpdatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the node that has changed.
@@ -19,5 +19,38 @@ public class ChildNodeCountUpdatedEvent {
     private Integer childNodeCount;
 
 
+    public static ChildNodeCountUpdatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ChildNodeCountUpdatedEvent object = new ChildNodeCountUpdatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "childNodeCount":
+                    object.childNodeCount = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (childNodeCount != null) {
+            writer.name("childNodeCount").value(childNodeCount);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ChildNodeInsertedEvent {
+public class ChildNodeInsertedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the node that has changed.
@@ -24,5 +24,44 @@ public class ChildNodeInsertedEvent {
     private jpuppeteer.cdp.cdp.entity.dom.Node node;
 
 
+    public static ChildNodeInsertedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ChildNodeInsertedEvent object = new ChildNodeInsertedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "parentNodeId":
+                    object.parentNodeId = reader.nextInteger();
+                    break;
+                case "previousNodeId":
+                    object.previousNodeId = reader.nextInteger();
+                    break;
+                case "node":
+                    object.node = jpuppeteer.cdp.cdp.entity.dom.Node.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (parentNodeId != null) {
+            writer.name("parentNodeId").value(parentNodeId);
+        }
+        if (previousNodeId != null) {
+            writer.name("previousNodeId").value(previousNodeId);
+        }
+        if (node != null) {
+            writer.name("node").value(node);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ChildNodeRemovedEvent {
+public class ChildNodeRemovedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Parent id.
@@ -19,5 +19,38 @@ public class ChildNodeRemovedEvent {
     private Integer nodeId;
 
 
+    public static ChildNodeRemovedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ChildNodeRemovedEvent object = new ChildNodeRemovedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "parentNodeId":
+                    object.parentNodeId = reader.nextInteger();
+                    break;
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (parentNodeId != null) {
+            writer.name("parentNodeId").value(parentNodeId);
+        }
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
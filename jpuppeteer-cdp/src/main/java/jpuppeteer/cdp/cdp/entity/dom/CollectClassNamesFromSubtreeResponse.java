@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CollectClassNamesFromSubtreeResponse {
+public class CollectClassNamesFromSubtreeResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Class name list.
@@ -13,5 +13,32 @@ public class CollectClassNamesFromSubtreeResponse {
     private java.util.List<String> classNames;
 
 
+    public static CollectClassNamesFromSubtreeResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CollectClassNamesFromSubtreeResponse object = new CollectClassNamesFromSubtreeResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "classNames":
+                    object.classNames = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (classNames != null) {
+            writer.name("classNames").value(classNames);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
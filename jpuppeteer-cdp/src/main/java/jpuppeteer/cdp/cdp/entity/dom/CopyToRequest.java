@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CopyToRequest {
+public class CopyToRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the node to copy.
@@ -23,5 +23,44 @@ public class CopyToRequest {
     private Integer insertBeforeNodeId;
 
 
+    public static CopyToRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CopyToRequest object = new CopyToRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "targetNodeId":
+                    object.targetNodeId = reader.nextInteger();
+                    break;
+                case "insertBeforeNodeId":
+                    object.insertBeforeNodeId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (targetNodeId != null) {
+            writer.name("targetNodeId").value(targetNodeId);
+        }
+        if (insertBeforeNodeId != null) {
+            writer.name("insertBeforeNodeId").value(insertBeforeNodeId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DescribeNodeRequest {
+public class DescribeNodeRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the node.
@@ -33,5 +33,56 @@ public class DescribeNodeRequest {
     private Boolean pierce;
 
 
+    public static DescribeNodeRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DescribeNodeRequest object = new DescribeNodeRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "backendNodeId":
+                    object.backendNodeId = reader.nextInteger();
+                    break;
+                case "objectId":
+                    object.objectId = reader.nextString();
+                    break;
+                case "depth":
+                    object.depth = reader.nextInteger();
+                    break;
+                case "pierce":
+                    object.pierce = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (backendNodeId != null) {
+            writer.name("backendNodeId").value(backendNodeId);
+        }
+        if (objectId != null) {
+            writer.name("objectId").value(objectId);
+        }
+        if (depth != null) {
+            writer.name("depth").value(depth);
+        }
+        if (pierce != null) {
+            writer.name("pierce").value(pierce);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
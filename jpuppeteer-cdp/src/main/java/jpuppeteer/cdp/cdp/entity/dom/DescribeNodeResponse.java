@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DescribeNodeResponse {
+public class DescribeNodeResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Node description.
@@ -13,5 +13,32 @@ public class DescribeNodeResponse {
     private jpuppeteer.cdp.cdp.entity.dom.Node node;
 
 
+    public static DescribeNodeResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DescribeNodeResponse object = new DescribeNodeResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "node":
+                    object.node = jpuppeteer.cdp.cdp.entity.dom.Node.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (node != null) {
+            writer.name("node").value(node);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
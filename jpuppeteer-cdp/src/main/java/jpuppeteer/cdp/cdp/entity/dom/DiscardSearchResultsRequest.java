@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DiscardSearchResultsRequest {
+public class DiscardSearchResultsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Unique search session identifier.
@@ -13,5 +13,32 @@ public class DiscardSearchResultsRequest {
     private String searchId;
 
 
+    public static DiscardSearchResultsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DiscardSearchResultsRequest object = new DiscardSearchResultsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "searchId":
+                    object.searchId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (searchId != null) {
+            writer.name("searchId").value(searchId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DistributedNodesUpdatedEvent {
+public class DistributedNodesUpdatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Insertion point where distrubuted nodes were updated.
@@ -19,5 +19,38 @@ public class DistributedNodesUpdatedEvent {
     private java.util.List<jpuppeteer.cdp.cdp.entity.dom.BackendNode> distributedNodes;
 
 
+    public static DistributedNodesUpdatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DistributedNodesUpdatedEvent object = new DistributedNodesUpdatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "insertionPointId":
+                    object.insertionPointId = reader.nextInteger();
+                    break;
+                case "distributedNodes":
+                    object.distributedNodes = reader.nextList(jpuppeteer.cdp.cdp.entity.dom.BackendNode::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (insertionPointId != null) {
+            writer.name("insertionPointId").value(insertionPointId);
+        }
+        if (distributedNodes != null) {
+            writer.name("distributedNodes").value(distributedNodes);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
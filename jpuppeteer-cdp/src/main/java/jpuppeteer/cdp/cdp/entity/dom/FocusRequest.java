@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class FocusRequest {
+public class FocusRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the node.
@@ -23,5 +23,44 @@ public class FocusRequest {
     private String objectId;
 
 
+    public static FocusRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        FocusRequest object = new FocusRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "backendNodeId":
+                    object.backendNodeId = reader.nextInteger();
+                    break;
+                case "objectId":
+                    object.objectId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (backendNodeId != null) {
+            writer.name("backendNodeId").value(backendNodeId);
+        }
+        if (objectId != null) {
+            writer.name("objectId").value(objectId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetAttributesResponse {
+public class GetAttributesResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * An interleaved array of node attribute names and values.
@@ -13,5 +13,32 @@ public class GetAttributesResponse {
     private java.util.List<String> attributes;
 
 
+    public static GetAttributesResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetAttributesResponse object = new GetAttributesResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "attributes":
+                    object.attributes = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (attributes != null) {
+            writer.name("attributes").value(attributes);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetBoxModelResponse {
+public class GetBoxModelResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Box model for the node.
@@ -13,5 +13,32 @@ public class GetBoxModelResponse {
     private jpuppeteer.cdp.cdp.entity.dom.BoxModel model;
 
 
+    public static GetBoxModelResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetBoxModelResponse object = new GetBoxModelResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "model":
+                    object.model = jpuppeteer.cdp.cdp.entity.dom.BoxModel.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (model != null) {
+            writer.name("model").value(model);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
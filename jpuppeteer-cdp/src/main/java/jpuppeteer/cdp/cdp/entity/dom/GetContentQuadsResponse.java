@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetContentQuadsResponse {
+public class GetContentQuadsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Quads that describe node layout relative to viewport.
@@ -13,5 +13,32 @@ public class GetContentQuadsResponse {
     private java.util.List<java.util.List<Double>> quads;
 
 
+    public static GetContentQuadsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetContentQuadsResponse object = new GetContentQuadsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "quads":
+                    object.quads = reader.nextList(r -> r.nextList(jpuppeteer.cdp.JsonReader::nextDouble));
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (quads != null) {
+            writer.name("quads").value(quads);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
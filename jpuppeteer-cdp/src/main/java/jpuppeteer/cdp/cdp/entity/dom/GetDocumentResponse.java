@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetDocumentResponse {
+public class GetDocumentResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Resulting node.
@@ -13,5 +13,32 @@ public class GetDocumentResponse {
     private jpuppeteer.cdp.cdp.entity.dom.Node root;
 
 
+    public static GetDocumentResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetDocumentResponse object = new GetDocumentResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "root":
+                    object.root = jpuppeteer.cdp.cdp.entity.dom.Node.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (root != null) {
+            writer.name("root").value(root);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetFileInfoRequest {
+public class GetFileInfoRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * JavaScript object id of the node wrapper.
@@ -13,5 +13,32 @@ public class GetFileInfoRequest {
     private String objectId;
 
 
+    public static GetFileInfoRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetFileInfoRequest object = new GetFileInfoRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "objectId":
+                    object.objectId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (objectId != null) {
+            writer.name("objectId").value(objectId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
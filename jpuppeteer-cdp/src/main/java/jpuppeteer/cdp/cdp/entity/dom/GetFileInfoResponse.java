@@ -5,12 +5,39 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetFileInfoResponse {
+public class GetFileInfoResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String path;
 
 
+    public static GetFileInfoResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetFileInfoResponse object = new GetFileInfoResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "path":
+                    object.path = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (path != null) {
+            writer.name("path").value(path);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
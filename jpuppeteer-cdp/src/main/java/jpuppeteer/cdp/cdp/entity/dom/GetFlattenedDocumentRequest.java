@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetFlattenedDocumentRequest {
+public class GetFlattenedDocumentRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The maximum depth at which children should be retrieved, defaults to 1. Use -1 for the entire subtree or provide an integer larger than 0.
@@ -18,5 +18,38 @@ public class GetFlattenedDocumentRequest {
     private Boolean pierce;
 
 
+    public static GetFlattenedDocumentRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetFlattenedDocumentRequest object = new GetFlattenedDocumentRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "depth":
+                    object.depth = reader.nextInteger();
+                    break;
+                case "pierce":
+                    object.pierce = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (depth != null) {
+            writer.name("depth").value(depth);
+        }
+        if (pierce != null) {
+            writer.name("pierce").value(pierce);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetFlattenedDocumentResponse {
+public class GetFlattenedDocumentResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Resulting node.
@@ -13,5 +13,32 @@ public class GetFlattenedDocumentResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.dom.Node> nodes;
 
 
+    public static GetFlattenedDocumentResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetFlattenedDocumentResponse object = new GetFlattenedDocumentResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodes":
+                    object.nodes = reader.nextList(jpuppeteer.cdp.cdp.entity.dom.Node::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodes != null) {
+            writer.name("nodes").value(nodes);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,12 +5,39 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetFrameOwnerRequest {
+public class GetFrameOwnerRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String frameId;
 
 
+    public static GetFrameOwnerRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetFrameOwnerRequest object = new GetFrameOwnerRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetNodeForLocationRequest {
+public class GetNodeForLocationRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * X coordinate.
@@ -28,5 +28,50 @@ public class GetNodeForLocationRequest {
     private Boolean ignorePointerEventsNone;
 
 
+    public static GetNodeForLocationRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetNodeForLocationRequest object = new GetNodeForLocationRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "x":
+                    object.x = reader.nextInteger();
+                    break;
+                case "y":
+                    object.y = reader.nextInteger();
+                    break;
+                case "includeUserAgentShadowDOM":
+                    object.includeUserAgentShadowDOM = reader.nextBoolean();
+                    break;
+                case "ignorePointerEventsNone":
+                    object.ignorePointerEventsNone = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (x != null) {
+            writer.name("x").value(x);
+        }
+        if (y != null) {
+            writer.name("y").value(y);
+        }
+        if (includeUserAgentShadowDOM != null) {
+            writer.name("includeUserAgentShadowDOM").value(includeUserAgentShadowDOM);
+        }
+        if (ignorePointerEventsNone != null) {
+            writer.name("ignorePointerEventsNone").value(ignorePointerEventsNone);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
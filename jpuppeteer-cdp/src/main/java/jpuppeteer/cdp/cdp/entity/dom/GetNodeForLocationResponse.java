@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetNodeForLocationResponse {
+public class GetNodeForLocationResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Resulting node.
@@ -23,5 +23,44 @@ public class GetNodeForLocationResponse {
     private Integer nodeId;
 
 
+    public static GetNodeForLocationResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetNodeForLocationResponse object = new GetNodeForLocationResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "backendNodeId":
+                    object.backendNodeId = reader.nextInteger();
+                    break;
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (backendNodeId != null) {
+            writer.name("backendNodeId").value(backendNodeId);
+        }
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetNodeStackTracesResponse {
+public class GetNodeStackTracesResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Creation stack trace, if available.
@@ -13,5 +13,32 @@ public class GetNodeStackTracesResponse {
     private jpuppeteer.cdp.cdp.entity.runtime.StackTrace creation;
 
 
+    public static GetNodeStackTracesResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetNodeStackTracesResponse object = new GetNodeStackTracesResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "creation":
+                    object.creation = jpuppeteer.cdp.cdp.entity.runtime.StackTrace.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (creation != null) {
+            writer.name("creation").value(creation);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
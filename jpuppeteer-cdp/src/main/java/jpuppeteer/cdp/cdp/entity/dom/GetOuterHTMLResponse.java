@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetOuterHTMLResponse {
+public class GetOuterHTMLResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Outer HTML markup.
@@ -13,5 +13,32 @@ public class GetOuterHTMLResponse {
     private String outerHTML;
 
 
+    public static GetOuterHTMLResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetOuterHTMLResponse object = new GetOuterHTMLResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "outerHTML":
+                    object.outerHTML = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (outerHTML != null) {
+            writer.name("outerHTML").value(outerHTML);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetRelayoutBoundaryRequest {
+public class GetRelayoutBoundaryRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the node.
@@ -13,5 +13,32 @@ public class GetRelayoutBoundaryRequest {
     private Integer nodeId;
 
 
+    public static GetRelayoutBoundaryRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetRelayoutBoundaryRequest object = new GetRelayoutBoundaryRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
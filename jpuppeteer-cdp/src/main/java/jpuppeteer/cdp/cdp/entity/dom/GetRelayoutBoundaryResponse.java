@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetRelayoutBoundaryResponse {
+public class GetRelayoutBoundaryResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Relayout boundary node id for the given node.
@@ -13,5 +13,32 @@ public class GetRelayoutBoundaryResponse {
     private Integer nodeId;
 
 
+    public static GetRelayoutBoundaryResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetRelayoutBoundaryResponse object = new GetRelayoutBoundaryResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
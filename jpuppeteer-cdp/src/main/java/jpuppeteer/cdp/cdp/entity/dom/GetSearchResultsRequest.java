@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetSearchResultsRequest {
+public class GetSearchResultsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Unique search session identifier.
@@ -23,5 +23,44 @@ public class GetSearchResultsRequest {
     private Integer toIndex;
 
 
+    public static GetSearchResultsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetSearchResultsRequest object = new GetSearchResultsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "searchId":
+                    object.searchId = reader.nextString();
+                    break;
+                case "fromIndex":
+                    object.fromIndex = reader.nextInteger();
+                    break;
+                case "toIndex":
+                    object.toIndex = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (searchId != null) {
+            writer.name("searchId").value(searchId);
+        }
+        if (fromIndex != null) {
+            writer.name("fromIndex").value(fromIndex);
+        }
+        if (toIndex != null) {
+            writer.name("toIndex").value(toIndex);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetSearchResultsResponse {
+public class GetSearchResultsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Ids of the search result nodes.
@@ -13,5 +13,32 @@ public class GetSearchResultsResponse {
     private java.util.List<Integer> nodeIds;
 
 
+    public static GetSearchResultsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetSearchResultsResponse object = new GetSearchResultsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeIds":
+                    object.nodeIds = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeIds != null) {
+            writer.name("nodeIds").value(nodeIds);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class InlineStyleInvalidatedEvent {
+public class InlineStyleInvalidatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Ids of the nodes for which the inline styles have been invalidated.
@@ -14,5 +14,32 @@ public class InlineStyleInvalidatedEvent {
     private java.util.List<Integer> nodeIds;
 
 
+    public static InlineStyleInvalidatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        InlineStyleInvalidatedEvent object = new InlineStyleInvalidatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeIds":
+                    object.nodeIds = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeIds != null) {
+            writer.name("nodeIds").value(nodeIds);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Node {
+public class Node implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Node identifier that is passed into the rest of the DOM messages as the `nodeId`. Backend will only push node with given `id` once. It is aware of all requested nodes and will only fire DOM events for nodes known to the client.
@@ -149,5 +149,194 @@ public class Node {
     private Boolean isSVG;
 
 
+    public static Node decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Node object = new Node();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "parentId":
+                    object.parentId = reader.nextInteger();
+                    break;
+                case "backendNodeId":
+                    object.backendNodeId = reader.nextInteger();
+                    break;
+                case "nodeType":
+                    object.nodeType = reader.nextInteger();
+                    break;
+                case "nodeName":
+                    object.nodeName = reader.nextString();
+                    break;
+                case "localName":
+                    object.localName = reader.nextString();
+                    break;
+                case "nodeValue":
+                    object.nodeValue = reader.nextString();
+                    break;
+                case "childNodeCount":
+                    object.childNodeCount = reader.nextInteger();
+                    break;
+                case "children":
+                    object.children = reader.nextList(jpuppeteer.cdp.cdp.entity.dom.Node::decode);
+                    break;
+                case "attributes":
+                    object.attributes = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "documentURL":
+                    object.documentURL = reader.nextString();
+                    break;
+                case "baseURL":
+                    object.baseURL = reader.nextString();
+                    break;
+                case "publicId":
+                    object.publicId = reader.nextString();
+                    break;
+                case "systemId":
+                    object.systemId = reader.nextString();
+                    break;
+                case "internalSubset":
+                    object.internalSubset = reader.nextString();
+                    break;
+                case "xmlVersion":
+                    object.xmlVersion = reader.nextString();
+                    break;
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "value":
+                    object.value = reader.nextString();
+                    break;
+                case "pseudoType":
+                    object.pseudoType = reader.nextString();
+                    break;
+                case "shadowRootType":
+                    object.shadowRootType = reader.nextString();
+                    break;
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                case "contentDocument":
+                    object.contentDocument = jpuppeteer.cdp.cdp.entity.dom.Node.decode(reader);
+                    break;
+                case "shadowRoots":
+                    object.shadowRoots = reader.nextList(jpuppeteer.cdp.cdp.entity.dom.Node::decode);
+                    break;
+                case "templateContent":
+                    object.templateContent = jpuppeteer.cdp.cdp.entity.dom.Node.decode(reader);
+                    break;
+                case "pseudoElements":
+                    object.pseudoElements = reader.nextList(jpuppeteer.cdp.cdp.entity.dom.Node::decode);
+                    break;
+                case "importedDocument":
+                    object.importedDocument = jpuppeteer.cdp.cdp.entity.dom.Node.decode(reader);
+                    break;
+                case "distributedNodes":
+                    object.distributedNodes = reader.nextList(jpuppeteer.cdp.cdp.entity.dom.BackendNode::decode);
+                    break;
+                case "isSVG":
+                    object.isSVG = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (parentId != null) {
+            writer.name("parentId").value(parentId);
+        }
+        if (backendNodeId != null) {
+            writer.name("backendNodeId").value(backendNodeId);
+        }
+        if (nodeType != null) {
+            writer.name("nodeType").value(nodeType);
+        }
+        if (nodeName != null) {
+            writer.name("nodeName").value(nodeName);
+        }
+        if (localName != null) {
+            writer.name("localName").value(localName);
+        }
+        if (nodeValue != null) {
+            writer.name("nodeValue").value(nodeValue);
+        }
+        if (childNodeCount != null) {
+            writer.name("childNodeCount").value(childNodeCount);
+        }
+        if (children != null) {
+            writer.name("children").value(children);
+        }
+        if (attributes != null) {
+            writer.name("attributes").value(attributes);
+        }
+        if (documentURL != null) {
+            writer.name("documentURL").value(documentURL);
+        }
+        if (baseURL != null) {
+            writer.name("baseURL").value(baseURL);
+        }
+        if (publicId != null) {
+            writer.name("publicId").value(publicId);
+        }
+        if (systemId != null) {
+            writer.name("systemId").value(systemId);
+        }
+        if (internalSubset != null) {
+            writer.name("internalSubset").value(internalSubset);
+        }
+        if (xmlVersion != null) {
+            writer.name("xmlVersion").value(xmlVersion);
+        }
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        if (pseudoType != null) {
+            writer.name("pseudoType").value(pseudoType);
+        }
+        if (shadowRootType != null) {
+            writer.name("shadowRootType").value(shadowRootType);
+        }
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (contentDocument != null) {
+            writer.name("contentDocument").value(contentDocument);
+        }
+        if (shadowRoots != null) {
+            writer.name("shadowRoots").value(shadowRoots);
+        }
+        if (templateContent != null) {
+            writer.name("templateContent").value(templateContent);
+        }
+        if (pseudoElements != null) {
+            writer.name("pseudoElements").value(pseudoElements);
+        }
+        if (importedDocument != null) {
+            writer.name("importedDocument").value(importedDocument);
+        }
+        if (distributedNodes != null) {
+            writer.name("distributedNodes").value(distributedNodes);
+        }
+        if (isSVG != null) {
+            writer.name("isSVG").value(isSVG);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
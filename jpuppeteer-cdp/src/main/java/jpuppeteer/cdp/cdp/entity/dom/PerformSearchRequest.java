@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PerformSearchRequest {
+public class PerformSearchRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Plain text or query selector or XPath search query.
@@ -18,5 +18,38 @@ public class PerformSearchRequest {
     private Boolean includeUserAgentShadowDOM;
 
 
+    public static PerformSearchRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PerformSearchRequest object = new PerformSearchRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "query":
+                    object.query = reader.nextString();
+                    break;
+                case "includeUserAgentShadowDOM":
+                    object.includeUserAgentShadowDOM = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (query != null) {
+            writer.name("query").value(query);
+        }
+        if (includeUserAgentShadowDOM != null) {
+            writer.name("includeUserAgentShadowDOM").value(includeUserAgentShadowDOM);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PerformSearchResponse {
+public class PerformSearchResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Unique search session identifier.
@@ -18,5 +18,38 @@ public class PerformSearchResponse {
     private Integer resultCount;
 
 
+    public static PerformSearchResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PerformSearchResponse object = new PerformSearchResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "searchId":
+                    object.searchId = reader.nextString();
+                    break;
+                case "resultCount":
+                    object.resultCount = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (searchId != null) {
+            writer.name("searchId").value(searchId);
+        }
+        if (resultCount != null) {
+            writer.name("resultCount").value(resultCount);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
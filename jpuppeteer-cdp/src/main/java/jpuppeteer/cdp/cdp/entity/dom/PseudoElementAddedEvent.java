@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PseudoElementAddedEvent {
+public class PseudoElementAddedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Pseudo element's parent element id.
@@ -19,5 +19,38 @@ public class PseudoElementAddedEvent {
     private jpuppeteer.cdp.cdp.entity.dom.Node pseudoElement;
 
 
+    public static PseudoElementAddedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PseudoElementAddedEvent object = new PseudoElementAddedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "parentId":
+                    object.parentId = reader.nextInteger();
+                    break;
+                case "pseudoElement":
+                    object.pseudoElement = jpuppeteer.cdp.cdp.entity.dom.Node.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (parentId != null) {
+            writer.name("parentId").value(parentId);
+        }
+        if (pseudoElement != null) {
+            writer.name("pseudoElement").value(pseudoElement);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
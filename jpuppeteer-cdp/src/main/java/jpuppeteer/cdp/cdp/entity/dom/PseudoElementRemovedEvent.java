@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PseudoElementRemovedEvent {
+public class PseudoElementRemovedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Pseudo element's parent element id.
@@ -19,5 +19,38 @@ public class PseudoElementRemovedEvent {
     private Integer pseudoElementId;
 
 
+    public static PseudoElementRemovedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PseudoElementRemovedEvent object = new PseudoElementRemovedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "parentId":
+                    object.parentId = reader.nextInteger();
+                    break;
+                case "pseudoElementId":
+                    object.pseudoElementId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (parentId != null) {
+            writer.name("parentId").value(parentId);
+        }
+        if (pseudoElementId != null) {
+            writer.name("pseudoElementId").value(pseudoElementId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
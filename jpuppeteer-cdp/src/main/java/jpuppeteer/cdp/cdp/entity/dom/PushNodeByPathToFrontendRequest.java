@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PushNodeByPathToFrontendRequest {
+public class PushNodeByPathToFrontendRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Path to node in the proprietary format.
@@ -13,5 +13,32 @@ public class PushNodeByPathToFrontendRequest {
     private String path;
 
 
+    public static PushNodeByPathToFrontendRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PushNodeByPathToFrontendRequest object = new PushNodeByPathToFrontendRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "path":
+                    object.path = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (path != null) {
+            writer.name("path").value(path);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
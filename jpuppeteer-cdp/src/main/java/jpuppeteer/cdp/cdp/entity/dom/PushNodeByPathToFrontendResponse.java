@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PushNodeByPathToFrontendResponse {
+public class PushNodeByPathToFrontendResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the node for given path.
@@ -13,5 +13,32 @@ public class PushNodeByPathToFrontendResponse {
     private Integer nodeId;
 
 
+    public static PushNodeByPathToFrontendResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PushNodeByPathToFrontendResponse object = new PushNodeByPathToFrontendResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PushNodesByBackendIdsToFrontendRequest {
+public class PushNodesByBackendIdsToFrontendRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The array of backend node ids.
@@ -13,5 +13,32 @@ public class PushNodesByBackendIdsToFrontendRequest {
     private java.util.List<Integer> backendNodeIds;
 
 
+    public static PushNodesByBackendIdsToFrontendRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PushNodesByBackendIdsToFrontendRequest object = new PushNodesByBackendIdsToFrontendRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "backendNodeIds":
+                    object.backendNodeIds = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (backendNodeIds != null) {
+            writer.name("backendNodeIds").value(backendNodeIds);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
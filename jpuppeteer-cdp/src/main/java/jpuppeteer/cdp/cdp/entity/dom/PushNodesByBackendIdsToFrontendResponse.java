@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PushNodesByBackendIdsToFrontendResponse {
+public class PushNodesByBackendIdsToFrontendResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The array of ids of pushed nodes that correspond to the backend ids specified in backendNodeIds.
@@ -13,5 +13,32 @@ public class PushNodesByBackendIdsToFrontendResponse {
     private java.util.List<Integer> nodeIds;
 
 
+    public static PushNodesByBackendIdsToFrontendResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PushNodesByBackendIdsToFrontendResponse object = new PushNodesByBackendIdsToFrontendResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeIds":
+                    object.nodeIds = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeIds != null) {
+            writer.name("nodeIds").value(nodeIds);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class QuerySelectorAllRequest {
+public class QuerySelectorAllRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the node to query upon.
@@ -18,5 +18,38 @@ public class QuerySelectorAllRequest {
     private String selector;
 
 
+    public static QuerySelectorAllRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        QuerySelectorAllRequest object = new QuerySelectorAllRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "selector":
+                    object.selector = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (selector != null) {
+            writer.name("selector").value(selector);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RGBA {
+public class RGBA implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The red component, in the [0-255] range.
@@ -29,5 +29,50 @@ public class RGBA {
     private Double a;
 
 
+    public static RGBA decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RGBA object = new RGBA();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "r":
+                    object.r = reader.nextInteger();
+                    break;
+                case "g":
+                    object.g = reader.nextInteger();
+                    break;
+                case "b":
+                    object.b = reader.nextInteger();
+                    break;
+                case "a":
+                    object.a = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (r != null) {
+            writer.name("r").value(r);
+        }
+        if (g != null) {
+            writer.name("g").value(g);
+        }
+        if (b != null) {
+            writer.name("b").value(b);
+        }
+        if (a != null) {
+            writer.name("a").value(a);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Rect {
+public class Rect implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * X coordinate
@@ -29,5 +29,50 @@ public class Rect {
     private Double height;
 
 
+    public static Rect decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Rect object = new Rect();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "x":
+                    object.x = reader.nextDouble();
+                    break;
+                case "y":
+                    object.y = reader.nextDouble();
+                    break;
+                case "width":
+                    object.width = reader.nextDouble();
+                    break;
+                case "height":
+                    object.height = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (x != null) {
+            writer.name("x").value(x);
+        }
+        if (y != null) {
+            writer.name("y").value(y);
+        }
+        if (width != null) {
+            writer.name("width").value(width);
+        }
+        if (height != null) {
+            writer.name("height").value(height);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
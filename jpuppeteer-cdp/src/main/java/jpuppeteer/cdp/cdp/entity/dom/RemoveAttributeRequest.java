@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RemoveAttributeRequest {
+public class RemoveAttributeRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the element to remove attribute from.
@@ -18,5 +18,38 @@ public class RemoveAttributeRequest {
     private String name;
 
 
+    public static RemoveAttributeRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RemoveAttributeRequest object = new RemoveAttributeRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RequestChildNodesRequest {
+public class RequestChildNodesRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the node to get children for.
@@ -23,5 +23,44 @@ public class RequestChildNodesRequest {
     private Boolean pierce;
 
 
+    public static RequestChildNodesRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RequestChildNodesRequest object = new RequestChildNodesRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "depth":
+                    object.depth = reader.nextInteger();
+                    break;
+                case "pierce":
+                    object.pierce = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (depth != null) {
+            writer.name("depth").value(depth);
+        }
+        if (pierce != null) {
+            writer.name("pierce").value(pierce);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ResolveNodeRequest {
+public class ResolveNodeRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the node to resolve.
@@ -28,5 +28,50 @@ public class ResolveNodeRequest {
     private Integer executionContextId;
 
 
+    public static ResolveNodeRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ResolveNodeRequest object = new ResolveNodeRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "backendNodeId":
+                    object.backendNodeId = reader.nextInteger();
+                    break;
+                case "objectGroup":
+                    object.objectGroup = reader.nextString();
+                    break;
+                case "executionContextId":
+                    object.executionContextId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (backendNodeId != null) {
+            writer.name("backendNodeId").value(backendNodeId);
+        }
+        if (objectGroup != null) {
+            writer.name("objectGroup").value(objectGroup);
+        }
+        if (executionContextId != null) {
+            writer.name("executionContextId").value(executionContextId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ResolveNodeResponse {
+public class ResolveNodeResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * JavaScript object wrapper for given node.
@@ -13,5 +13,32 @@ public class ResolveNodeResponse {
     private jpuppeteer.cdp.cdp.entity.runtime.RemoteObject object;
 
 
+    public static ResolveNodeResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ResolveNodeResponse object = new ResolveNodeResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "object":
+                    object.object = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (object != null) {
+            writer.name("object").value(object);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
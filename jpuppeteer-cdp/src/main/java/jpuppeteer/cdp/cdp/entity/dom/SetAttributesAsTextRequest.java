@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetAttributesAsTextRequest {
+public class SetAttributesAsTextRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the element to set attributes for.
@@ -23,5 +23,44 @@ public class SetAttributesAsTextRequest {
     private String name;
 
 
+    public static SetAttributesAsTextRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetAttributesAsTextRequest object = new SetAttributesAsTextRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "text":
+                    object.text = reader.nextString();
+                    break;
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (text != null) {
+            writer.name("text").value(text);
+        }
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
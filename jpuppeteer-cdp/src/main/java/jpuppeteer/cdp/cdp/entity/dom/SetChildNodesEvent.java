@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetChildNodesEvent {
+public class SetChildNodesEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Parent node id to populate with children.
@@ -19,5 +19,38 @@ public class SetChildNodesEvent {
     private java.util.List<jpuppeteer.cdp.cdp.entity.dom.Node> nodes;
 
 
+    public static SetChildNodesEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetChildNodesEvent object = new SetChildNodesEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "parentId":
+                    object.parentId = reader.nextInteger();
+                    break;
+                case "nodes":
+                    object.nodes = reader.nextList(jpuppeteer.cdp.cdp.entity.dom.Node::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (parentId != null) {
+            writer.name("parentId").value(parentId);
+        }
+        if (nodes != null) {
+            writer.name("nodes").value(nodes);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetNodeStackTracesEnabledRequest {
+public class SetNodeStackTracesEnabledRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Enable or disable.
@@ -13,5 +13,32 @@ public class SetNodeStackTracesEnabledRequest {
     private Boolean enable;
 
 
+    public static SetNodeStackTracesEnabledRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetNodeStackTracesEnabledRequest object = new SetNodeStackTracesEnabledRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "enable":
+                    object.enable = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (enable != null) {
+            writer.name("enable").value(enable);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetOuterHTMLRequest {
+public class SetOuterHTMLRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the node to set markup for.
@@ -18,5 +18,38 @@ public class SetOuterHTMLRequest {
     private String outerHTML;
 
 
+    public static SetOuterHTMLRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetOuterHTMLRequest object = new SetOuterHTMLRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "outerHTML":
+                    object.outerHTML = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (outerHTML != null) {
+            writer.name("outerHTML").value(outerHTML);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
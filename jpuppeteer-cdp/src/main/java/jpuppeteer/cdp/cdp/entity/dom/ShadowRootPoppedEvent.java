@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ShadowRootPoppedEvent {
+public class ShadowRootPoppedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Host element id.
@@ -19,5 +19,38 @@ public class ShadowRootPoppedEvent {
     private Integer rootId;
 
 
+    public static ShadowRootPoppedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ShadowRootPoppedEvent object = new ShadowRootPoppedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "hostId":
+                    object.hostId = reader.nextInteger();
+                    break;
+                case "rootId":
+                    object.rootId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (hostId != null) {
+            writer.name("hostId").value(hostId);
+        }
+        if (rootId != null) {
+            writer.name("rootId").value(rootId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
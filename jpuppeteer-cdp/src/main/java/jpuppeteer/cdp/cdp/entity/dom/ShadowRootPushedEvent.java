@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ShadowRootPushedEvent {
+public class ShadowRootPushedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Host element id.
@@ -19,5 +19,38 @@ public class ShadowRootPushedEvent {
     private jpuppeteer.cdp.cdp.entity.dom.Node root;
 
 
+    public static ShadowRootPushedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ShadowRootPushedEvent object = new ShadowRootPushedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "hostId":
+                    object.hostId = reader.nextInteger();
+                    break;
+                case "root":
+                    object.root = jpuppeteer.cdp.cdp.entity.dom.Node.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (hostId != null) {
+            writer.name("hostId").value(hostId);
+        }
+        if (root != null) {
+            writer.name("root").value(root);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
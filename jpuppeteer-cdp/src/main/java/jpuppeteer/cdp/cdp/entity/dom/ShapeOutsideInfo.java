@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.dom;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ShapeOutsideInfo {
+public class ShapeOutsideInfo implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Shape bounds
@@ -24,5 +24,44 @@ public class ShapeOutsideInfo {
     private java.util.List<Object> marginShape;
 
 
+    public static ShapeOutsideInfo decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ShapeOutsideInfo object = new ShapeOutsideInfo();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "bounds":
+                    object.bounds = reader.nextList(jpuppeteer.cdp.JsonReader::nextDouble);
+                    break;
+                case "shape":
+                    object.shape = reader.nextList(jpuppeteer.cdp.JsonReader::nextAny);
+                    break;
+                case "marginShape":
+                    object.marginShape = reader.nextList(jpuppeteer.cdp.JsonReader::nextAny);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (bounds != null) {
+            writer.name("bounds").value(bounds);
+        }
+        if (shape != null) {
+            writer.name("shape").value(shape);
+        }
+        if (marginShape != null) {
+            writer.name("marginShape").value(marginShape);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
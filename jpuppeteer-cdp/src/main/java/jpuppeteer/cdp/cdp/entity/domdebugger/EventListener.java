@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.domdebugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class EventListener {
+public class EventListener implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * `EventListener`'s type.
@@ -59,5 +59,86 @@ public class EventListener {
     private Integer backendNodeId;
 
 
+    public static EventListener decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        EventListener object = new EventListener();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "useCapture":
+                    object.useCapture = reader.nextBoolean();
+                    break;
+                case "passive":
+                    object.passive = reader.nextBoolean();
+                    break;
+                case "once":
+                    object.once = reader.nextBoolean();
+                    break;
+                case "scriptId":
+                    object.scriptId = reader.nextString();
+                    break;
+                case "lineNumber":
+                    object.lineNumber = reader.nextInteger();
+                    break;
+                case "columnNumber":
+                    object.columnNumber = reader.nextInteger();
+                    break;
+                case "handler":
+                    object.handler = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                case "originalHandler":
+                    object.originalHandler = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                case "backendNodeId":
+                    object.backendNodeId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (useCapture != null) {
+            writer.name("useCapture").value(useCapture);
+        }
+        if (passive != null) {
+            writer.name("passive").value(passive);
+        }
+        if (once != null) {
+            writer.name("once").value(once);
+        }
+        if (scriptId != null) {
+            writer.name("scriptId").value(scriptId);
+        }
+        if (lineNumber != null) {
+            writer.name("lineNumber").value(lineNumber);
+        }
+        if (columnNumber != null) {
+            writer.name("columnNumber").value(columnNumber);
+        }
+        if (handler != null) {
+            writer.name("handler").value(handler);
+        }
+        if (originalHandler != null) {
+            writer.name("originalHandler").value(originalHandler);
+        }
+        if (backendNodeId != null) {
+            writer.name("backendNodeId").value(backendNodeId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
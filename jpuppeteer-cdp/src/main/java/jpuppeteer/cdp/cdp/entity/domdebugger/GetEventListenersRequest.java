@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.domdebugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetEventListenersRequest {
+public class GetEventListenersRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the object to return listeners for.
@@ -23,5 +23,44 @@ public class GetEventListenersRequest {
     private Boolean pierce;
 
 
+    public static GetEventListenersRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetEventListenersRequest object = new GetEventListenersRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "objectId":
+                    object.objectId = reader.nextString();
+                    break;
+                case "depth":
+                    object.depth = reader.nextInteger();
+                    break;
+                case "pierce":
+                    object.pierce = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (objectId != null) {
+            writer.name("objectId").value(objectId);
+        }
+        if (depth != null) {
+            writer.name("depth").value(depth);
+        }
+        if (pierce != null) {
+            writer.name("pierce").value(pierce);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.domdebugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetEventListenersResponse {
+public class GetEventListenersResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Array of relevant listeners.
@@ -13,5 +13,32 @@ public class GetEventListenersResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.domdebugger.EventListener> listeners;
 
 
+    public static GetEventListenersResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetEventListenersResponse object = new GetEventListenersResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "listeners":
+                    object.listeners = reader.nextList(jpuppeteer.cdp.cdp.entity.domdebugger.EventListener::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (listeners != null) {
+            writer.name("listeners").value(listeners);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.domdebugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RemoveDOMBreakpointRequest {
+public class RemoveDOMBreakpointRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the node to remove breakpoint from.
@@ -18,5 +18,38 @@ public class RemoveDOMBreakpointRequest {
     private String type;
 
 
+    public static RemoveDOMBreakpointRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RemoveDOMBreakpointRequest object = new RemoveDOMBreakpointRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.domdebugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RemoveEventListenerBreakpointRequest {
+public class RemoveEventListenerBreakpointRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Event name.
@@ -18,5 +18,38 @@ public class RemoveEventListenerBreakpointRequest {
     private String targetName;
 
 
+    public static RemoveEventListenerBreakpointRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RemoveEventListenerBreakpointRequest object = new RemoveEventListenerBreakpointRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "eventName":
+                    object.eventName = reader.nextString();
+                    break;
+                case "targetName":
+                    object.targetName = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (eventName != null) {
+            writer.name("eventName").value(eventName);
+        }
+        if (targetName != null) {
+            writer.name("targetName").value(targetName);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
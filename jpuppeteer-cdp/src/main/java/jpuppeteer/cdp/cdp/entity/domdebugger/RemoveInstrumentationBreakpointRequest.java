@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.domdebugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RemoveInstrumentationBreakpointRequest {
+public class RemoveInstrumentationBreakpointRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Instrumentation name to stop on.
@@ -13,5 +13,32 @@ public class RemoveInstrumentationBreakpointRequest {
     private String eventName;
 
 
+    public static RemoveInstrumentationBreakpointRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RemoveInstrumentationBreakpointRequest object = new RemoveInstrumentationBreakpointRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "eventName":
+                    object.eventName = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (eventName != null) {
+            writer.name("eventName").value(eventName);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.domdebugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RemoveXHRBreakpointRequest {
+public class RemoveXHRBreakpointRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Resource URL substring.
@@ -13,5 +13,32 @@ public class RemoveXHRBreakpointRequest {
     private String url;
 
 
+    public static RemoveXHRBreakpointRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RemoveXHRBreakpointRequest object = new RemoveXHRBreakpointRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
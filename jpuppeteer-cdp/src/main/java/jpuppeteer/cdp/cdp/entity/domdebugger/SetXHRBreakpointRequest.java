@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.domdebugger;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetXHRBreakpointRequest {
+public class SetXHRBreakpointRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Resource URL substring. All XHRs having this substring in the URL will get stopped upon.
@@ -13,5 +13,32 @@ public class SetXHRBreakpointRequest {
     private String url;
 
 
+    public static SetXHRBreakpointRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetXHRBreakpointRequest object = new SetXHRBreakpointRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
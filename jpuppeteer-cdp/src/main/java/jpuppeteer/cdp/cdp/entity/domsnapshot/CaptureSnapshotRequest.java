@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.domsnapshot;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CaptureSnapshotRequest {
+public class CaptureSnapshotRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Whitelist of computed styles to return.
@@ -24,5 +24,44 @@ public class CaptureSnapshotRequest {
     private Boolean includeDOMRects;
 
 
+    public static CaptureSnapshotRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CaptureSnapshotRequest object = new CaptureSnapshotRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "computedStyles":
+                    object.computedStyles = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "includePaintOrder":
+                    object.includePaintOrder = reader.nextBoolean();
+                    break;
+                case "includeDOMRects":
+                    object.includeDOMRects = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (computedStyles != null) {
+            writer.name("computedStyles").value(computedStyles);
+        }
+        if (includePaintOrder != null) {
+            writer.name("includePaintOrder").value(includePaintOrder);
+        }
+        if (includeDOMRects != null) {
+            writer.name("includeDOMRects").value(includeDOMRects);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.domsnapshot;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CaptureSnapshotResponse {
+public class CaptureSnapshotResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The nodes in the DOM tree. The DOMNode at index 0 corresponds to the root document.
@@ -19,5 +19,38 @@ public class CaptureSnapshotResponse {
     private java.util.List<String> strings;
 
 
+    public static CaptureSnapshotResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CaptureSnapshotResponse object = new CaptureSnapshotResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "documents":
+                    object.documents = reader.nextList(jpuppeteer.cdp.cdp.entity.domsnapshot.DocumentSnapshot::decode);
+                    break;
+                case "strings":
+                    object.strings = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (documents != null) {
+            writer.name("documents").value(documents);
+        }
+        if (strings != null) {
+            writer.name("strings").value(strings);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.domsnapshot;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ComputedStyle {
+public class ComputedStyle implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Name/value pairs of computed style properties.
@@ -15,5 +15,32 @@ public class ComputedStyle {
     private java.util.List<jpuppeteer.cdp.cdp.entity.domsnapshot.NameValue> properties;
 
 
+    public static ComputedStyle decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ComputedStyle object = new ComputedStyle();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "properties":
+                    object.properties = reader.nextList(jpuppeteer.cdp.cdp.entity.domsnapshot.NameValue::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (properties != null) {
+            writer.name("properties").value(properties);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.domsnapshot;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DOMNode {
+public class DOMNode implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * `Node`'s nodeType.
@@ -149,5 +149,194 @@ public class DOMNode {
     private Double scrollOffsetY;
 
 
+    public static DOMNode decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DOMNode object = new DOMNode();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeType":
+                    object.nodeType = reader.nextInteger();
+                    break;
+                case "nodeName":
+                    object.nodeName = reader.nextString();
+                    break;
+                case "nodeValue":
+                    object.nodeValue = reader.nextString();
+                    break;
+                case "textValue":
+                    object.textValue = reader.nextString();
+                    break;
+                case "inputValue":
+                    object.inputValue = reader.nextString();
+                    break;
+                case "inputChecked":
+                    object.inputChecked = reader.nextBoolean();
+                    break;
+                case "optionSelected":
+                    object.optionSelected = reader.nextBoolean();
+                    break;
+                case "backendNodeId":
+                    object.backendNodeId = reader.nextInteger();
+                    break;
+                case "childNodeIndexes":
+                    object.childNodeIndexes = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                case "attributes":
+                    object.attributes = reader.nextList(jpuppeteer.cdp.cdp.entity.domsnapshot.NameValue::decode);
+                    break;
+                case "pseudoElementIndexes":
+                    object.pseudoElementIndexes = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                case "layoutNodeIndex":
+                    object.layoutNodeIndex = reader.nextInteger();
+                    break;
+                case "documentURL":
+                    object.documentURL = reader.nextString();
+                    break;
+                case "baseURL":
+                    object.baseURL = reader.nextString();
+                    break;
+                case "contentLanguage":
+                    object.contentLanguage = reader.nextString();
+                    break;
+                case "documentEncoding":
+                    object.documentEncoding = reader.nextString();
+                    break;
+                case "publicId":
+                    object.publicId = reader.nextString();
+                    break;
+                case "systemId":
+                    object.systemId = reader.nextString();
+                    break;
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                case "contentDocumentIndex":
+                    object.contentDocumentIndex = reader.nextInteger();
+                    break;
+                case "pseudoType":
+                    object.pseudoType = reader.nextString();
+                    break;
+                case "shadowRootType":
+                    object.shadowRootType = reader.nextString();
+                    break;
+                case "isClickable":
+                    object.isClickable = reader.nextBoolean();
+                    break;
+                case "eventListeners":
+                    object.eventListeners = reader.nextList(jpuppeteer.cdp.cdp.entity.domdebugger.EventListener::decode);
+                    break;
+                case "currentSourceURL":
+                    object.currentSourceURL = reader.nextString();
+                    break;
+                case "originURL":
+                    object.originURL = reader.nextString();
+                    break;
+                case "scrollOffsetX":
+                    object.scrollOffsetX = reader.nextDouble();
+                    break;
+                case "scrollOffsetY":
+                    object.scrollOffsetY = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeType != null) {
+            writer.name("nodeType").value(nodeType);
+        }
+        if (nodeName != null) {
+            writer.name("nodeName").value(nodeName);
+        }
+        if (nodeValue != null) {
+            writer.name("nodeValue").value(nodeValue);
+        }
+        if (textValue != null) {
+            writer.name("textValue").value(textValue);
+        }
+        if (inputValue != null) {
+            writer.name("inputValue").value(inputValue);
+        }
+        if (inputChecked != null) {
+            writer.name("inputChecked").value(inputChecked);
+        }
+        if (optionSelected != null) {
+            writer.name("optionSelected").value(optionSelected);
+        }
+        if (backendNodeId != null) {
+            writer.name("backendNodeId").value(backendNodeId);
+        }
+        if (childNodeIndexes != null) {
+            writer.name("childNodeIndexes").value(childNodeIndexes);
+        }
+        if (attributes != null) {
+            writer.name("attributes").value(attributes);
+        }
+        if (pseudoElementIndexes != null) {
+            writer.name("pseudoElementIndexes").value(pseudoElementIndexes);
+        }
+        if (layoutNodeIndex != null) {
+            writer.name("layoutNodeIndex").value(layoutNodeIndex);
+        }
+        if (documentURL != null) {
+            writer.name("documentURL").value(documentURL);
+        }
+        if (baseURL != null) {
+            writer.name("baseURL").value(baseURL);
+        }
+        if (contentLanguage != null) {
+            writer.name("contentLanguage").value(contentLanguage);
+        }
+        if (documentEncoding != null) {
+            writer.name("documentEncoding").value(documentEncoding);
+        }
+        if (publicId != null) {
+            writer.name("publicId").value(publicId);
+        }
+        if (systemId != null) {
+            writer.name("systemId").value(systemId);
+        }
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (contentDocumentIndex != null) {
+            writer.name("contentDocumentIndex").value(contentDocumentIndex);
+        }
+        if (pseudoType != null) {
+            writer.name("pseudoType").value(pseudoType);
+        }
+        if (shadowRootType != null) {
+            writer.name("shadowRootType").value(shadowRootType);
+        }
+        if (isClickable != null) {
+            writer.name("isClickable").value(isClickable);
+        }
+        if (eventListeners != null) {
+            writer.name("eventListeners").value(eventListeners);
+        }
+        if (currentSourceURL != null) {
+            writer.name("currentSourceURL").value(currentSourceURL);
+        }
+        if (originURL != null) {
+            writer.name("originURL").value(originURL);
+        }
+        if (scrollOffsetX != null) {
+            writer.name("scrollOffsetX").value(scrollOffsetX);
+        }
+        if (scrollOffsetY != null) {
+            writer.name("scrollOffsetY").value(scrollOffsetY);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
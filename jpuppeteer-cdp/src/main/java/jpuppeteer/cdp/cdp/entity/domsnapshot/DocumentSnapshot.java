@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.domsnapshot;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DocumentSnapshot {
+public class DocumentSnapshot implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Document URL that `Document` or `FrameOwner` node points to.
@@ -85,5 +85,116 @@ public class DocumentSnapshot {
     private Double contentHeight;
 
 
+    public static DocumentSnapshot decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DocumentSnapshot object = new DocumentSnapshot();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "documentURL":
+                    object.documentURL = reader.nextInteger();
+                    break;
+                case "title":
+                    object.title = reader.nextInteger();
+                    break;
+                case "baseURL":
+                    object.baseURL = reader.nextInteger();
+                    break;
+                case "contentLanguage":
+                    object.contentLanguage = reader.nextInteger();
+                    break;
+                case "encodingName":
+                    object.encodingName = reader.nextInteger();
+                    break;
+                case "publicId":
+                    object.publicId = reader.nextInteger();
+                    break;
+                case "systemId":
+                    object.systemId = reader.nextInteger();
+                    break;
+                case "frameId":
+                    object.frameId = reader.nextInteger();
+                    break;
+                case "nodes":
+                    object.nodes = jpuppeteer.cdp.cdp.entity.domsnapshot.NodeTreeSnapshot.decode(reader);
+                    break;
+                case "layout":
+                    object.layout = jpuppeteer.cdp.cdp.entity.domsnapshot.LayoutTreeSnapshot.decode(reader);
+                    break;
+                case "textBoxes":
+                    object.textBoxes = jpuppeteer.cdp.cdp.entity.domsnapshot.TextBoxSnapshot.decode(reader);
+                    break;
+                case "scrollOffsetX":
+                    object.scrollOffsetX = reader.nextDouble();
+                    break;
+                case "scrollOffsetY":
+                    object.scrollOffsetY = reader.nextDouble();
+                    break;
+                case "contentWidth":
+                    object.contentWidth = reader.nextDouble();
+                    break;
+                case "contentHeight":
+                    object.contentHeight = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (documentURL != null) {
+            writer.name("documentURL").value(documentURL);
+        }
+        if (title != null) {
+            writer.name("title").value(title);
+        }
+        if (baseURL != null) {
+            writer.name("baseURL").value(baseURL);
+        }
+        if (contentLanguage != null) {
+            writer.name("contentLanguage").value(contentLanguage);
+        }
+        if (encodingName != null) {
+            writer.name("encodingName").value(encodingName);
+        }
+        if (publicId != null) {
+            writer.name("publicId").value(publicId);
+        }
+        if (systemId != null) {
+            writer.name("systemId").value(systemId);
+        }
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (nodes != null) {
+            writer.name("nodes").value(nodes);
+        }
+        if (layout != null) {
+            writer.name("layout").value(layout);
+        }
+        if (textBoxes != null) {
+            writer.name("textBoxes").value(textBoxes);
+        }
+        if (scrollOffsetX != null) {
+            writer.name("scrollOffsetX").value(scrollOffsetX);
+        }
+        if (scrollOffsetY != null) {
+            writer.name("scrollOffsetY").value(scrollOffsetY);
+        }
+        if (contentWidth != null) {
+            writer.name("contentWidth").value(contentWidth);
+        }
+        if (contentHeight != null) {
+            writer.name("contentHeight").value(contentHeight);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.domsnapshot;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetSnapshotRequest {
+public class GetSnapshotRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Whitelist of computed styles to return.
@@ -29,5 +29,50 @@ public class GetSnapshotRequest {
     private Boolean includeUserAgentShadowTree;
 
 
+    public static GetSnapshotRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetSnapshotRequest object = new GetSnapshotRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "computedStyleWhitelist":
+                    object.computedStyleWhitelist = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "includeEventListeners":
+                    object.includeEventListeners = reader.nextBoolean();
+                    break;
+                case "includePaintOrder":
+                    object.includePaintOrder = reader.nextBoolean();
+                    break;
+                case "includeUserAgentShadowTree":
+                    object.includeUserAgentShadowTree = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (computedStyleWhitelist != null) {
+            writer.name("computedStyleWhitelist").value(computedStyleWhitelist);
+        }
+        if (includeEventListeners != null) {
+            writer.name("includeEventListeners").value(includeEventListeners);
+        }
+        if (includePaintOrder != null) {
+            writer.name("includePaintOrder").value(includePaintOrder);
+        }
+        if (includeUserAgentShadowTree != null) {
+            writer.name("includeUserAgentShadowTree").value(includeUserAgentShadowTree);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.domsnapshot;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetSnapshotResponse {
+public class GetSnapshotResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The nodes in the DOM tree. The DOMNode at index 0 corresponds to the root document.
@@ -24,5 +24,44 @@ public class GetSnapshotResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.domsnapshot.ComputedStyle> computedStyles;
 
 
+    public static GetSnapshotResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetSnapshotResponse object = new GetSnapshotResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "domNodes":
+                    object.domNodes = reader.nextList(jpuppeteer.cdp.cdp.entity.domsnapshot.DOMNode::decode);
+                    break;
+                case "layoutTreeNodes":
+                    object.layoutTreeNodes = reader.nextList(jpuppeteer.cdp.cdp.entity.domsnapshot.LayoutTreeNode::decode);
+                    break;
+                case "computedStyles":
+                    object.computedStyles = reader.nextList(jpuppeteer.cdp.cdp.entity.domsnapshot.ComputedStyle::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (domNodes != null) {
+            writer.name("domNodes").value(domNodes);
+        }
+        if (layoutTreeNodes != null) {
+            writer.name("layoutTreeNodes").value(layoutTreeNodes);
+        }
+        if (computedStyles != null) {
+            writer.name("computedStyles").value(computedStyles);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.domsnapshot;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class InlineTextBox {
+public class InlineTextBox implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The bounding box in document coordinates. Note that scroll offset of the document is ignored.
@@ -25,5 +25,44 @@ public class InlineTextBox {
     private Integer numCharacters;
 
 
+    public static InlineTextBox decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        InlineTextBox object = new InlineTextBox();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "boundingBox":
+                    object.boundingBox = jpuppeteer.cdp.cdp.entity.dom.Rect.decode(reader);
+                    break;
+                case "startCharacterIndex":
+                    object.startCharacterIndex = reader.nextInteger();
+                    break;
+                case "numCharacters":
+                    object.numCharacters = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (boundingBox != null) {
+            writer.name("boundingBox").value(boundingBox);
+        }
+        if (startCharacterIndex != null) {
+            writer.name("startCharacterIndex").value(startCharacterIndex);
+        }
+        if (numCharacters != null) {
+            writer.name("numCharacters").value(numCharacters);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
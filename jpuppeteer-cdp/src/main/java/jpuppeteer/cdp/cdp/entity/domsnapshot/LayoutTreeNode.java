@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.domsnapshot;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class LayoutTreeNode {
+public class LayoutTreeNode implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The index of the related DOM node in the `domNodes` array returned by `getSnapshot`.
@@ -45,5 +45,68 @@ public class LayoutTreeNode {
     private Boolean isStackingContext;
 
 
+    public static LayoutTreeNode decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        LayoutTreeNode object = new LayoutTreeNode();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "domNodeIndex":
+                    object.domNodeIndex = reader.nextInteger();
+                    break;
+                case "boundingBox":
+                    object.boundingBox = jpuppeteer.cdp.cdp.entity.dom.Rect.decode(reader);
+                    break;
+                case "layoutText":
+                    object.layoutText = reader.nextString();
+                    break;
+                case "inlineTextNodes":
+                    object.inlineTextNodes = reader.nextList(jpuppeteer.cdp.cdp.entity.domsnapshot.InlineTextBox::decode);
+                    break;
+                case "styleIndex":
+                    object.styleIndex = reader.nextInteger();
+                    break;
+                case "paintOrder":
+                    object.paintOrder = reader.nextInteger();
+                    break;
+                case "isStackingContext":
+                    object.isStackingContext = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (domNodeIndex != null) {
+            writer.name("domNodeIndex").value(domNodeIndex);
+        }
+        if (boundingBox != null) {
+            writer.name("boundingBox").value(boundingBox);
+        }
+        if (layoutText != null) {
+            writer.name("layoutText").value(layoutText);
+        }
+        if (inlineTextNodes != null) {
+            writer.name("inlineTextNodes").value(inlineTextNodes);
+        }
+        if (styleIndex != null) {
+            writer.name("styleIndex").value(styleIndex);
+        }
+        if (paintOrder != null) {
+            writer.name("paintOrder").value(paintOrder);
+        }
+        if (isStackingContext != null) {
+            writer.name("isStackingContext").value(isStackingContext);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.domsnapshot;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class LayoutTreeSnapshot {
+public class LayoutTreeSnapshot implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Index of the corresponding node in the `NodeTreeSnapshot` array returned by `captureSnapshot`.
@@ -55,5 +55,80 @@ public class LayoutTreeSnapshot {
     private java.util.List<java.util.List<Double>> clientRects;
 
 
+    public static LayoutTreeSnapshot decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        LayoutTreeSnapshot object = new LayoutTreeSnapshot();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeIndex":
+                    object.nodeIndex = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                case "styles":
+                    object.styles = reader.nextList(r -> r.nextList(jpuppeteer.cdp.JsonReader::nextInteger));
+                    break;
+                case "bounds":
+                    object.bounds = reader.nextList(r -> r.nextList(jpuppeteer.cdp.JsonReader::nextDouble));
+                    break;
+                case "text":
+                    object.text = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                case "stackingContexts":
+                    object.stackingContexts = jpuppeteer.cdp.cdp.entity.domsnapshot.RareBooleanData.decode(reader);
+                    break;
+                case "paintOrders":
+                    object.paintOrders = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                case "offsetRects":
+                    object.offsetRects = reader.nextList(r -> r.nextList(jpuppeteer.cdp.JsonReader::nextDouble));
+                    break;
+                case "scrollRects":
+                    object.scrollRects = reader.nextList(r -> r.nextList(jpuppeteer.cdp.JsonReader::nextDouble));
+                    break;
+                case "clientRects":
+                    object.clientRects = reader.nextList(r -> r.nextList(jpuppeteer.cdp.JsonReader::nextDouble));
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeIndex != null) {
+            writer.name("nodeIndex").value(nodeIndex);
+        }
+        if (styles != null) {
+            writer.name("styles").value(styles);
+        }
+        if (bounds != null) {
+            writer.name("bounds").value(bounds);
+        }
+        if (text != null) {
+            writer.name("text").value(text);
+        }
+        if (stackingContexts != null) {
+            writer.name("stackingContexts").value(stackingContexts);
+        }
+        if (paintOrders != null) {
+            writer.name("paintOrders").value(paintOrders);
+        }
+        if (offsetRects != null) {
+            writer.name("offsetRects").value(offsetRects);
+        }
+        if (scrollRects != null) {
+            writer.name("scrollRects").value(scrollRects);
+        }
+        if (clientRects != null) {
+            writer.name("clientRects").value(clientRects);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.domsnapshot;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class NodeTreeSnapshot {
+public class NodeTreeSnapshot implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Parent node index.
@@ -85,5 +85,116 @@ public class NodeTreeSnapshot {
     private jpuppeteer.cdp.cdp.entity.domsnapshot.RareStringData originURL;
 
 
+    public static NodeTreeSnapshot decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        NodeTreeSnapshot object = new NodeTreeSnapshot();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "parentIndex":
+                    object.parentIndex = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                case "nodeType":
+                    object.nodeType = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                case "nodeName":
+                    object.nodeName = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                case "nodeValue":
+                    object.nodeValue = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                case "backendNodeId":
+                    object.backendNodeId = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                case "attributes":
+                    object.attributes = reader.nextList(r -> r.nextList(jpuppeteer.cdp.JsonReader::nextInteger));
+                    break;
+                case "textValue":
+                    object.textValue = jpuppeteer.cdp.cdp.entity.domsnapshot.RareStringData.decode(reader);
+                    break;
+                case "inputValue":
+                    object.inputValue = jpuppeteer.cdp.cdp.entity.domsnapshot.RareStringData.decode(reader);
+                    break;
+                case "inputChecked":
+                    object.inputChecked = jpuppeteer.cdp.cdp.entity.domsnapshot.RareBooleanData.decode(reader);
+                    break;
+                case "optionSelected":
+                    object.optionSelected = jpuppeteer.cdp.cdp.entity.domsnapshot.RareBooleanData.decode(reader);
+                    break;
+                case "contentDocumentIndex":
+                    object.contentDocumentIndex = jpuppeteer.cdp.cdp.entity.domsnapshot.RareIntegerData.decode(reader);
+                    break;
+                case "pseudoType":
+                    object.pseudoType = jpuppeteer.cdp.cdp.entity.domsnapshot.RareStringData.decode(reader);
+                    break;
+                case "isClickable":
+                    object.isClickable = jpuppeteer.cdp.cdp.entity.domsnapshot.RareBooleanData.decode(reader);
+                    break;
+                case "currentSourceURL":
+                    object.currentSourceURL = jpuppeteer.cdp.cdp.entity.domsnapshot.RareStringData.decode(reader);
+                    break;
+                case "originURL":
+                    object.originURL = jpuppeteer.cdp.cdp.entity.domsnapshot.RareStringData.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (parentIndex != null) {
+            writer.name("parentIndex").value(parentIndex);
+        }
+        if (nodeType != null) {
+            writer.name("nodeType").value(nodeType);
+        }
+        if (nodeName != null) {
+            writer.name("nodeName").value(nodeName);
+        }
+        if (nodeValue != null) {
+            writer.name("nodeValue").value(nodeValue);
+        }
+        if (backendNodeId != null) {
+            writer.name("backendNodeId").value(backendNodeId);
+        }
+        if (attributes != null) {
+            writer.name("attributes").value(attributes);
+        }
+        if (textValue != null) {
+            writer.name("textValue").value(textValue);
+        }
+        if (inputValue != null) {
+            writer.name("inputValue").value(inputValue);
+        }
+        if (inputChecked != null) {
+            writer.name("inputChecked").value(inputChecked);
+        }
+        if (optionSelected != null) {
+            writer.name("optionSelected").value(optionSelected);
+        }
+        if (contentDocumentIndex != null) {
+            writer.name("contentDocumentIndex").value(contentDocumentIndex);
+        }
+        if (pseudoType != null) {
+            writer.name("pseudoType").value(pseudoType);
+        }
+        if (isClickable != null) {
+            writer.name("isClickable").value(isClickable);
+        }
+        if (currentSourceURL != null) {
+            writer.name("currentSourceURL").value(currentSourceURL);
+        }
+        if (originURL != null) {
+            writer.name("originURL").value(originURL);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
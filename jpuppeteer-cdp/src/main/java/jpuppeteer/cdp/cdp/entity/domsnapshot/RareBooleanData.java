@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.domsnapshot;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RareBooleanData {
+public class RareBooleanData implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private java.util.List<Integer> index;
 
 
+    public static RareBooleanData decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RareBooleanData object = new RareBooleanData();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "index":
+                    object.index = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (index != null) {
+            writer.name("index").value(index);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.domsnapshot;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RareStringData {
+public class RareStringData implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -18,5 +18,38 @@ public class RareStringData {
     private java.util.List<Integer> value;
 
 
+    public static RareStringData decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RareStringData object = new RareStringData();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "index":
+                    object.index = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                case "value":
+                    object.value = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (index != null) {
+            writer.name("index").value(index);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.domsnapshot;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class TextBoxSnapshot {
+public class TextBoxSnapshot implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Index of the layout tree node that owns this box collection.
@@ -30,5 +30,50 @@ public class TextBoxSnapshot {
     private java.util.List<Integer> length;
 
 
+    public static TextBoxSnapshot decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        TextBoxSnapshot object = new TextBoxSnapshot();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "layoutIndex":
+                    object.layoutIndex = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                case "bounds":
+                    object.bounds = reader.nextList(r -> r.nextList(jpuppeteer.cdp.JsonReader::nextDouble));
+                    break;
+                case "start":
+                    object.start = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                case "length":
+                    object.length = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (layoutIndex != null) {
+            writer.name("layoutIndex").value(layoutIndex);
+        }
+        if (bounds != null) {
+            writer.name("bounds").value(bounds);
+        }
+        if (start != null) {
+            writer.name("start").value(start);
+        }
+        if (length != null) {
+            writer.name("length").value(length);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.domstorage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ClearRequest {
+public class ClearRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private jpuppeteer.cdp.cdp.entity.domstorage.StorageId storageId;
 
 
+    public static ClearRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ClearRequest object = new ClearRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "storageId":
+                    object.storageId = jpuppeteer.cdp.cdp.entity.domstorage.StorageId.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (storageId != null) {
+            writer.name("storageId").value(storageId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
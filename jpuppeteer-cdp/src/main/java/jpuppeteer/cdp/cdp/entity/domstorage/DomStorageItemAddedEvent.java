@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.domstorage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DomStorageItemAddedEvent {
+public class DomStorageItemAddedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -21,5 +21,44 @@ public class DomStorageItemAddedEvent {
     private String newValue;
 
 
+    public static DomStorageItemAddedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DomStorageItemAddedEvent object = new DomStorageItemAddedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "storageId":
+                    object.storageId = jpuppeteer.cdp.cdp.entity.domstorage.StorageId.decode(reader);
+                    break;
+                case "key":
+                    object.key = reader.nextString();
+                    break;
+                case "newValue":
+                    object.newValue = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (storageId != null) {
+            writer.name("storageId").value(storageId);
+        }
+        if (key != null) {
+            writer.name("key").value(key);
+        }
+        if (newValue != null) {
+            writer.name("newValue").value(newValue);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.domstorage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DomStorageItemRemovedEvent {
+public class DomStorageItemRemovedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -17,5 +17,38 @@ public class DomStorageItemRemovedEvent {
     private String key;
 
 
+    public static DomStorageItemRemovedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DomStorageItemRemovedEvent object = new DomStorageItemRemovedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "storageId":
+                    object.storageId = jpuppeteer.cdp.cdp.entity.domstorage.StorageId.decode(reader);
+                    break;
+                case "key":
+                    object.key = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (storageId != null) {
+            writer.name("storageId").value(storageId);
+        }
+        if (key != null) {
+            writer.name("key").value(key);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.domstorage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DomStorageItemUpdatedEvent {
+public class DomStorageItemUpdatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -25,5 +25,50 @@ public class DomStorageItemUpdatedEvent {
     private String newValue;
 
 
+    public static DomStorageItemUpdatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DomStorageItemUpdatedEvent object = new DomStorageItemUpdatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "storageId":
+                    object.storageId = jpuppeteer.cdp.cdp.entity.domstorage.StorageId.decode(reader);
+                    break;
+                case "key":
+                    object.key = reader.nextString();
+                    break;
+                case "oldValue":
+                    object.oldValue = reader.nextString();
+                    break;
+                case "newValue":
+                    object.newValue = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (storageId != null) {
+            writer.name("storageId").value(storageId);
+        }
+        if (key != null) {
+            writer.name("key").value(key);
+        }
+        if (oldValue != null) {
+            writer.name("oldValue").value(oldValue);
+        }
+        if (newValue != null) {
+            writer.name("newValue").value(newValue);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
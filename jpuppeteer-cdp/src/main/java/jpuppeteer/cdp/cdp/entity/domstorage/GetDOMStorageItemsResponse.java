@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.domstorage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetDOMStorageItemsResponse {
+public class GetDOMStorageItemsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private java.util.List<java.util.List<String>> entries;
 
 
+    public static GetDOMStorageItemsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetDOMStorageItemsResponse object = new GetDOMStorageItemsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "entries":
+                    object.entries = reader.nextList(r -> r.nextList(jpuppeteer.cdp.JsonReader::nextString));
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (entries != null) {
+            writer.name("entries").value(entries);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.domstorage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StorageId {
+public class StorageId implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Security origin for the storage.
@@ -20,5 +20,38 @@ public class StorageId {
     private Boolean isLocalStorage;
 
 
+    public static StorageId decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StorageId object = new StorageId();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "securityOrigin":
+                    object.securityOrigin = reader.nextString();
+                    break;
+                case "isLocalStorage":
+                    object.isLocalStorage = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (securityOrigin != null) {
+            writer.name("securityOrigin").value(securityOrigin);
+        }
+        if (isLocalStorage != null) {
+            writer.name("isLocalStorage").value(isLocalStorage);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CanEmulateResponse {
+public class CanEmulateResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * True if emulation is supported.
@@ -13,5 +13,32 @@ public class CanEmulateResponse {
     private Boolean result;
 
 
+    public static CanEmulateResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CanEmulateResponse object = new CanEmulateResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "result":
+                    object.result = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (result != null) {
+            writer.name("result").value(result);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
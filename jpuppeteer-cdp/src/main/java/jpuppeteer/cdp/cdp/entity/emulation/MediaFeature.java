@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class MediaFeature {
+public class MediaFeature implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -16,5 +16,38 @@ public class MediaFeature {
     private String value;
 
 
+    public static MediaFeature decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        MediaFeature object = new MediaFeature();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "value":
+                    object.value = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
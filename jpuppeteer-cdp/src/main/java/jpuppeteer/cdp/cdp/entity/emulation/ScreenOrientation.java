@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ScreenOrientation {
+public class ScreenOrientation implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Orientation type.
@@ -19,5 +19,38 @@ public class ScreenOrientation {
     private Integer angle;
 
 
+    public static ScreenOrientation decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ScreenOrientation object = new ScreenOrientation();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "angle":
+                    object.angle = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (angle != null) {
+            writer.name("angle").value(angle);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetCPUThrottlingRateRequest {
+public class SetCPUThrottlingRateRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Throttling rate as a slowdown factor (1 is no throttle, 2 is 2x slowdown, etc).
@@ -13,5 +13,32 @@ public class SetCPUThrottlingRateRequest {
     private Double rate;
 
 
+    public static SetCPUThrottlingRateRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetCPUThrottlingRateRequest object = new SetCPUThrottlingRateRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "rate":
+                    object.rate = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (rate != null) {
+            writer.name("rate").value(rate);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
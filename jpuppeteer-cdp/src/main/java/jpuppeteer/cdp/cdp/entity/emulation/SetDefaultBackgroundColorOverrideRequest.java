@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetDefaultBackgroundColorOverrideRequest {
+public class SetDefaultBackgroundColorOverrideRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * RGBA of the default background color. If not specified, any existing override will be cleared.
@@ -13,5 +13,32 @@ public class SetDefaultBackgroundColorOverrideRequest {
     private jpuppeteer.cdp.cdp.entity.dom.RGBA color;
 
 
+    public static SetDefaultBackgroundColorOverrideRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetDefaultBackgroundColorOverrideRequest object = new SetDefaultBackgroundColorOverrideRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "color":
+                    object.color = jpuppeteer.cdp.cdp.entity.dom.RGBA.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (color != null) {
+            writer.name("color").value(color);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetDeviceMetricsOverrideRequest {
+public class SetDeviceMetricsOverrideRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Overriding width value in pixels (minimum 0, maximum 10000000). 0 disables the override.
@@ -68,5 +68,98 @@ public class SetDeviceMetricsOverrideRequest {
     private jpuppeteer.cdp.cdp.entity.page.Viewport viewport;
 
 
+    public static SetDeviceMetricsOverrideRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetDeviceMetricsOverrideRequest object = new SetDeviceMetricsOverrideRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "width":
+                    object.width = reader.nextInteger();
+                    break;
+                case "height":
+                    object.height = reader.nextInteger();
+                    break;
+                case "deviceScaleFactor":
+                    object.deviceScaleFactor = reader.nextDouble();
+                    break;
+                case "mobile":
+                    object.mobile = reader.nextBoolean();
+                    break;
+                case "scale":
+                    object.scale = reader.nextDouble();
+                    break;
+                case "screenWidth":
+                    object.screenWidth = reader.nextInteger();
+                    break;
+                case "screenHeight":
+                    object.screenHeight = reader.nextInteger();
+                    break;
+                case "positionX":
+                    object.positionX = reader.nextInteger();
+                    break;
+                case "positionY":
+                    object.positionY = reader.nextInteger();
+                    break;
+                case "dontSetVisibleSize":
+                    object.dontSetVisibleSize = reader.nextBoolean();
+                    break;
+                case "screenOrientation":
+                    object.screenOrientation = jpuppeteer.cdp.cdp.entity.emulation.ScreenOrientation.decode(reader);
+                    break;
+                case "viewport":
+                    object.viewport = jpuppeteer.cdp.cdp.entity.page.Viewport.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (width != null) {
+            writer.name("width").value(width);
+        }
+        if (height != null) {
+            writer.name("height").value(height);
+        }
+        if (deviceScaleFactor != null) {
+            writer.name("deviceScaleFactor").value(deviceScaleFactor);
+        }
+        if (mobile != null) {
+            writer.name("mobile").value(mobile);
+        }
+        if (scale != null) {
+            writer.name("scale").value(scale);
+        }
+        if (screenWidth != null) {
+            writer.name("screenWidth").value(screenWidth);
+        }
+        if (screenHeight != null) {
+            writer.name("screenHeight").value(screenHeight);
+        }
+        if (positionX != null) {
+            writer.name("positionX").value(positionX);
+        }
+        if (positionY != null) {
+            writer.name("positionY").value(positionY);
+        }
+        if (dontSetVisibleSize != null) {
+            writer.name("dontSetVisibleSize").value(dontSetVisibleSize);
+        }
+        if (screenOrientation != null) {
+            writer.name("screenOrientation").value(screenOrientation);
+        }
+        if (viewport != null) {
+            writer.name("viewport").value(viewport);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetDocumentCookieDisabledRequest {
+public class SetDocumentCookieDisabledRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Whether document.coookie API should be disabled.
@@ -13,5 +13,32 @@ public class SetDocumentCookieDisabledRequest {
     private Boolean disabled;
 
 
+    public static SetDocumentCookieDisabledRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetDocumentCookieDisabledRequest object = new SetDocumentCookieDisabledRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "disabled":
+                    object.disabled = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (disabled != null) {
+            writer.name("disabled").value(disabled);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetEmitTouchEventsForMouseRequest {
+public class SetEmitTouchEventsForMouseRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Whether touch emulation based on mouse input should be enabled.
@@ -18,5 +18,38 @@ public class SetEmitTouchEventsForMouseRequest {
     private String configuration;
 
 
+    public static SetEmitTouchEventsForMouseRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetEmitTouchEventsForMouseRequest object = new SetEmitTouchEventsForMouseRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "enabled":
+                    object.enabled = reader.nextBoolean();
+                    break;
+                case "configuration":
+                    object.configuration = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (enabled != null) {
+            writer.name("enabled").value(enabled);
+        }
+        if (configuration != null) {
+            writer.name("configuration").value(configuration);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetEmulatedMediaRequest {
+public class SetEmulatedMediaRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Media type to emulate. Empty string disables the override.
@@ -18,5 +18,38 @@ public class SetEmulatedMediaRequest {
     private java.util.List<jpuppeteer.cdp.cdp.entity.emulation.MediaFeature> features;
 
 
+    public static SetEmulatedMediaRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetEmulatedMediaRequest object = new SetEmulatedMediaRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "media":
+                    object.media = reader.nextString();
+                    break;
+                case "features":
+                    object.features = reader.nextList(jpuppeteer.cdp.cdp.entity.emulation.MediaFeature::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (media != null) {
+            writer.name("media").value(media);
+        }
+        if (features != null) {
+            writer.name("features").value(features);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
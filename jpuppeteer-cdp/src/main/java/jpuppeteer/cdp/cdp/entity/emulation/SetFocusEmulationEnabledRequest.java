@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetFocusEmulationEnabledRequest {
+public class SetFocusEmulationEnabledRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Whether to enable to disable focus emulation.
@@ -13,5 +13,32 @@ public class SetFocusEmulationEnabledRequest {
     private Boolean enabled;
 
 
+    public static SetFocusEmulationEnabledRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetFocusEmulationEnabledRequest object = new SetFocusEmulationEnabledRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "enabled":
+                    object.enabled = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (enabled != null) {
+            writer.name("enabled").value(enabled);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetGeolocationOverrideRequest {
+public class SetGeolocationOverrideRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Mock latitude
@@ -23,5 +23,44 @@ public class SetGeolocationOverrideRequest {
     private Double accuracy;
 
 
+    public static SetGeolocationOverrideRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetGeolocationOverrideRequest object = new SetGeolocationOverrideRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "latitude":
+                    object.latitude = reader.nextDouble();
+                    break;
+                case "longitude":
+                    object.longitude = reader.nextDouble();
+                    break;
+                case "accuracy":
+                    object.accuracy = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (latitude != null) {
+            writer.name("latitude").value(latitude);
+        }
+        if (longitude != null) {
+            writer.name("longitude").value(longitude);
+        }
+        if (accuracy != null) {
+            writer.name("accuracy").value(accuracy);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
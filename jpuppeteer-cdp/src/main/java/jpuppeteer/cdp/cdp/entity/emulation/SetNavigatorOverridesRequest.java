@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetNavigatorOverridesRequest {
+public class SetNavigatorOverridesRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The platform navigator.platform should return.
@@ -13,5 +13,32 @@ public class SetNavigatorOverridesRequest {
     private String platform;
 
 
+    public static SetNavigatorOverridesRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetNavigatorOverridesRequest object = new SetNavigatorOverridesRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "platform":
+                    object.platform = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (platform != null) {
+            writer.name("platform").value(platform);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetPageScaleFactorRequest {
+public class SetPageScaleFactorRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Page scale factor.
@@ -13,5 +13,32 @@ public class SetPageScaleFactorRequest {
     private Double pageScaleFactor;
 
 
+    public static SetPageScaleFactorRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetPageScaleFactorRequest object = new SetPageScaleFactorRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "pageScaleFactor":
+                    object.pageScaleFactor = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (pageScaleFactor != null) {
+            writer.name("pageScaleFactor").value(pageScaleFactor);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
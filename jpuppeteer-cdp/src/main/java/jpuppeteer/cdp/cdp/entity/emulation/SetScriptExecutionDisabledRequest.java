@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetScriptExecutionDisabledRequest {
+public class SetScriptExecutionDisabledRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Whether script execution should be disabled in the page.
@@ -13,5 +13,32 @@ public class SetScriptExecutionDisabledRequest {
     private Boolean value;
 
 
+    public static SetScriptExecutionDisabledRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetScriptExecutionDisabledRequest object = new SetScriptExecutionDisabledRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "value":
+                    object.value = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetScrollbarsHiddenRequest {
+public class SetScrollbarsHiddenRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Whether scrollbars should be always hidden.
@@ -13,5 +13,32 @@ public class SetScrollbarsHiddenRequest {
     private Boolean hidden;
 
 
+    public static SetScrollbarsHiddenRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetScrollbarsHiddenRequest object = new SetScrollbarsHiddenRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "hidden":
+                    object.hidden = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (hidden != null) {
+            writer.name("hidden").value(hidden);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetTimezoneOverrideRequest {
+public class SetTimezoneOverrideRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The timezone identifier. If empty, disables the override and restores default host system timezone.
@@ -13,5 +13,32 @@ public class SetTimezoneOverrideRequest {
     private String timezoneId;
 
 
+    public static SetTimezoneOverrideRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetTimezoneOverrideRequest object = new SetTimezoneOverrideRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "timezoneId":
+                    object.timezoneId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (timezoneId != null) {
+            writer.name("timezoneId").value(timezoneId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetTouchEmulationEnabledRequest {
+public class SetTouchEmulationEnabledRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Whether the touch event emulation should be enabled.
@@ -18,5 +18,38 @@ public class SetTouchEmulationEnabledRequest {
     private Integer maxTouchPoints;
 
 
+    public static SetTouchEmulationEnabledRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetTouchEmulationEnabledRequest object = new SetTouchEmulationEnabledRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "enabled":
+                    object.enabled = reader.nextBoolean();
+                    break;
+                case "maxTouchPoints":
+                    object.maxTouchPoints = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (enabled != null) {
+            writer.name("enabled").value(enabled);
+        }
+        if (maxTouchPoints != null) {
+            writer.name("maxTouchPoints").value(maxTouchPoints);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
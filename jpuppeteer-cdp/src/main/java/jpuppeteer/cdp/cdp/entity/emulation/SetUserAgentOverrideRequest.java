@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetUserAgentOverrideRequest {
+public class SetUserAgentOverrideRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * User agent to use.
@@ -23,5 +23,44 @@ public class SetUserAgentOverrideRequest {
     private String platform;
 
 
+    public static SetUserAgentOverrideRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetUserAgentOverrideRequest object = new SetUserAgentOverrideRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "userAgent":
+                    object.userAgent = reader.nextString();
+                    break;
+                case "acceptLanguage":
+                    object.acceptLanguage = reader.nextString();
+                    break;
+                case "platform":
+                    object.platform = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (userAgent != null) {
+            writer.name("userAgent").value(userAgent);
+        }
+        if (acceptLanguage != null) {
+            writer.name("acceptLanguage").value(acceptLanguage);
+        }
+        if (platform != null) {
+            writer.name("platform").value(platform);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
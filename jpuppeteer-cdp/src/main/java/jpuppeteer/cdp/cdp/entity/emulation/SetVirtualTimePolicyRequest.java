@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetVirtualTimePolicyRequest {
+public class SetVirtualTimePolicyRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -32,5 +32,56 @@ public class SetVirtualTimePolicyRequest {
     private Double initialVirtualTime;
 
 
+    public static SetVirtualTimePolicyRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetVirtualTimePolicyRequest object = new SetVirtualTimePolicyRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "policy":
+                    object.policy = reader.nextString();
+                    break;
+                case "budget":
+                    object.budget = reader.nextDouble();
+                    break;
+                case "maxVirtualTimeTaskStarvationCount":
+                    object.maxVirtualTimeTaskStarvationCount = reader.nextInteger();
+                    break;
+                case "waitForNavigation":
+                    object.waitForNavigation = reader.nextBoolean();
+                    break;
+                case "initialVirtualTime":
+                    object.initialVirtualTime = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (policy != null) {
+            writer.name("policy").value(policy);
+        }
+        if (budget != null) {
+            writer.name("budget").value(budget);
+        }
+        if (maxVirtualTimeTaskStarvationCount != null) {
+            writer.name("maxVirtualTimeTaskStarvationCount").value(maxVirtualTimeTaskStarvationCount);
+        }
+        if (waitForNavigation != null) {
+            writer.name("waitForNavigation").value(waitForNavigation);
+        }
+        if (initialVirtualTime != null) {
+            writer.name("initialVirtualTime").value(initialVirtualTime);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
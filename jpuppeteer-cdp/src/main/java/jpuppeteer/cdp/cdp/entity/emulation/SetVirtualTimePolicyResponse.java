@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetVirtualTimePolicyResponse {
+public class SetVirtualTimePolicyResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Absolute timestamp at which virtual time was first enabled (up time in milliseconds).
@@ -13,5 +13,32 @@ public class SetVirtualTimePolicyResponse {
     private Double virtualTimeTicksBase;
 
 
+    public static SetVirtualTimePolicyResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetVirtualTimePolicyResponse object = new SetVirtualTimePolicyResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "virtualTimeTicksBase":
+                    object.virtualTimeTicksBase = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (virtualTimeTicksBase != null) {
+            writer.name("virtualTimeTicksBase").value(virtualTimeTicksBase);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
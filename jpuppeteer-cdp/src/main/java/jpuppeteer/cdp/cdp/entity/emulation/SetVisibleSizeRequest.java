@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.emulation;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetVisibleSizeRequest {
+public class SetVisibleSizeRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Frame width (DIP).
@@ -18,5 +18,38 @@ public class SetVisibleSizeRequest {
     private Integer height;
 
 
+    public static SetVisibleSizeRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetVisibleSizeRequest object = new SetVisibleSizeRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "width":
+                    object.width = reader.nextInteger();
+                    break;
+                case "height":
+                    object.height = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (width != null) {
+            writer.name("width").value(width);
+        }
+        if (height != null) {
+            writer.name("height").value(height);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.fetch;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AuthChallenge {
+public class AuthChallenge implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Source of the authentication challenge.
@@ -30,5 +30,50 @@ public class AuthChallenge {
     private String realm;
 
 
+    public static AuthChallenge decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AuthChallenge object = new AuthChallenge();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "source":
+                    object.source = reader.nextString();
+                    break;
+                case "origin":
+                    object.origin = reader.nextString();
+                    break;
+                case "scheme":
+                    object.scheme = reader.nextString();
+                    break;
+                case "realm":
+                    object.realm = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (source != null) {
+            writer.name("source").value(source);
+        }
+        if (origin != null) {
+            writer.name("origin").value(origin);
+        }
+        if (scheme != null) {
+            writer.name("scheme").value(scheme);
+        }
+        if (realm != null) {
+            writer.name("realm").value(realm);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
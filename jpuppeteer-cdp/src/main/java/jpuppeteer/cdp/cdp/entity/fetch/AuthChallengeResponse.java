@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.fetch;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AuthChallengeResponse {
+public class AuthChallengeResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The decision on what to do in response to the authorization challenge.  Default means deferring to the default behavior of the net stack, which will likely either the Cancel authentication or display a popup dialog box.
@@ -25,5 +25,44 @@ public class AuthChallengeResponse {
     private String password;
 
 
+    public static AuthChallengeResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AuthChallengeResponse object = new AuthChallengeResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "response":
+                    object.response = reader.nextString();
+                    break;
+                case "username":
+                    object.username = reader.nextString();
+                    break;
+                case "password":
+                    object.password = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (response != null) {
+            writer.name("response").value(response);
+        }
+        if (username != null) {
+            writer.name("username").value(username);
+        }
+        if (password != null) {
+            writer.name("password").value(password);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.fetch;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AuthRequiredEvent {
+public class AuthRequiredEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Each request the page makes will have a unique id.
@@ -35,5 +35,56 @@ public class AuthRequiredEvent {
     private jpuppeteer.cdp.cdp.entity.fetch.AuthChallenge authChallenge;
 
 
+    public static AuthRequiredEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AuthRequiredEvent object = new AuthRequiredEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "request":
+                    object.request = jpuppeteer.cdp.cdp.entity.network.Request.decode(reader);
+                    break;
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                case "resourceType":
+                    object.resourceType = reader.nextString();
+                    break;
+                case "authChallenge":
+                    object.authChallenge = jpuppeteer.cdp.cdp.entity.fetch.AuthChallenge.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (request != null) {
+            writer.name("request").value(request);
+        }
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (resourceType != null) {
+            writer.name("resourceType").value(resourceType);
+        }
+        if (authChallenge != null) {
+            writer.name("authChallenge").value(authChallenge);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
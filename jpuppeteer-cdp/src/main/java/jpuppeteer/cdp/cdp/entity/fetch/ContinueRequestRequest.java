@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.fetch;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ContinueRequestRequest {
+public class ContinueRequestRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * An id the client received in requestPaused event.
@@ -34,5 +34,56 @@ public class ContinueRequestRequest {
     private java.util.List<jpuppeteer.cdp.cdp.entity.fetch.HeaderEntry> headers;
 
 
+    public static ContinueRequestRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ContinueRequestRequest object = new ContinueRequestRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "method":
+                    object.method = reader.nextString();
+                    break;
+                case "postData":
+                    object.postData = reader.nextString();
+                    break;
+                case "headers":
+                    object.headers = reader.nextList(jpuppeteer.cdp.cdp.entity.fetch.HeaderEntry::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (method != null) {
+            writer.name("method").value(method);
+        }
+        if (postData != null) {
+            writer.name("postData").value(postData);
+        }
+        if (headers != null) {
+            writer.name("headers").value(headers);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.fetch;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ContinueWithAuthRequest {
+public class ContinueWithAuthRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * An id the client received in authRequired event.
@@ -19,5 +19,38 @@ public class ContinueWithAuthRequest {
     private jpuppeteer.cdp.cdp.entity.fetch.AuthChallengeResponse authChallengeResponse;
 
 
+    public static ContinueWithAuthRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ContinueWithAuthRequest object = new ContinueWithAuthRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "authChallengeResponse":
+                    object.authChallengeResponse = jpuppeteer.cdp.cdp.entity.fetch.AuthChallengeResponse.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (authChallengeResponse != null) {
+            writer.name("authChallengeResponse").value(authChallengeResponse);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.fetch;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class EnableRequest {
+public class EnableRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * If specified, only requests matching any of these patterns will produce fetchRequested event and will be paused until clients response. If not set, all requests will be affected.
@@ -19,5 +19,38 @@ public class EnableRequest {
     private Boolean handleAuthRequests;
 
 
+    public static EnableRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        EnableRequest object = new EnableRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "patterns":
+                    object.patterns = reader.nextList(jpuppeteer.cdp.cdp.entity.fetch.RequestPattern::decode);
+                    break;
+                case "handleAuthRequests":
+                    object.handleAuthRequests = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (patterns != null) {
+            writer.name("patterns").value(patterns);
+        }
+        if (handleAuthRequests != null) {
+            writer.name("handleAuthRequests").value(handleAuthRequests);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
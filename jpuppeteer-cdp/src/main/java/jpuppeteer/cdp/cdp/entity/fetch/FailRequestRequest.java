@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.fetch;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class FailRequestRequest {
+public class FailRequestRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * An id the client received in requestPaused event.
@@ -19,5 +19,38 @@ public class FailRequestRequest {
     private String errorReason;
 
 
+    public static FailRequestRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        FailRequestRequest object = new FailRequestRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "errorReason":
+                    object.errorReason = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (errorReason != null) {
+            writer.name("errorReason").value(errorReason);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
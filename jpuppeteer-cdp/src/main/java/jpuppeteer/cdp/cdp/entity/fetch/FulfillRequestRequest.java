@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.fetch;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class FulfillRequestRequest {
+public class FulfillRequestRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * An id the client received in requestPaused event.
@@ -39,5 +39,62 @@ public class FulfillRequestRequest {
     private String responsePhrase;
 
 
+    public static FulfillRequestRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        FulfillRequestRequest object = new FulfillRequestRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "responseCode":
+                    object.responseCode = reader.nextInteger();
+                    break;
+                case "responseHeaders":
+                    object.responseHeaders = reader.nextList(jpuppeteer.cdp.cdp.entity.fetch.HeaderEntry::decode);
+                    break;
+                case "binaryResponseHeaders":
+                    object.binaryResponseHeaders = reader.nextString();
+                    break;
+                case "body":
+                    object.body = reader.nextString();
+                    break;
+                case "responsePhrase":
+                    object.responsePhrase = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (responseCode != null) {
+            writer.name("responseCode").value(responseCode);
+        }
+        if (responseHeaders != null) {
+            writer.name("responseHeaders").value(responseHeaders);
+        }
+        if (binaryResponseHeaders != null) {
+            writer.name("binaryResponseHeaders").value(binaryResponseHeaders);
+        }
+        if (body != null) {
+            writer.name("body").value(body);
+        }
+        if (responsePhrase != null) {
+            writer.name("responsePhrase").value(responsePhrase);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
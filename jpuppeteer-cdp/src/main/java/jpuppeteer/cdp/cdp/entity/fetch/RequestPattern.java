@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.fetch;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RequestPattern {
+public class RequestPattern implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Wildcards ('*' -> zero or more, '?' -> exactly one) are allowed. Escape character is backslash. Omitting is equivalent to "*".
@@ -24,5 +24,44 @@ public class RequestPattern {
     private String requestStage;
 
 
+    public static RequestPattern decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RequestPattern object = new RequestPattern();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "urlPattern":
+                    object.urlPattern = reader.nextString();
+                    break;
+                case "resourceType":
+                    object.resourceType = reader.nextString();
+                    break;
+                case "requestStage":
+                    object.requestStage = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (urlPattern != null) {
+            writer.name("urlPattern").value(urlPattern);
+        }
+        if (resourceType != null) {
+            writer.name("resourceType").value(resourceType);
+        }
+        if (requestStage != null) {
+            writer.name("requestStage").value(requestStage);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.fetch;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RequestPausedEvent {
+public class RequestPausedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Each request the page makes will have a unique id.
@@ -50,5 +50,74 @@ public class RequestPausedEvent {
     private String networkId;
 
 
+    public static RequestPausedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RequestPausedEvent object = new RequestPausedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "request":
+                    object.request = jpuppeteer.cdp.cdp.entity.network.Request.decode(reader);
+                    break;
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                case "resourceType":
+                    object.resourceType = reader.nextString();
+                    break;
+                case "responseErrorReason":
+                    object.responseErrorReason = reader.nextString();
+                    break;
+                case "responseStatusCode":
+                    object.responseStatusCode = reader.nextInteger();
+                    break;
+                case "responseHeaders":
+                    object.responseHeaders = reader.nextList(jpuppeteer.cdp.cdp.entity.fetch.HeaderEntry::decode);
+                    break;
+                case "networkId":
+                    object.networkId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (request != null) {
+            writer.name("request").value(request);
+        }
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (resourceType != null) {
+            writer.name("resourceType").value(resourceType);
+        }
+        if (responseErrorReason != null) {
+            writer.name("responseErrorReason").value(responseErrorReason);
+        }
+        if (responseStatusCode != null) {
+            writer.name("responseStatusCode").value(responseStatusCode);
+        }
+        if (responseHeaders != null) {
+            writer.name("responseHeaders").value(responseHeaders);
+        }
+        if (networkId != null) {
+            writer.name("networkId").value(networkId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
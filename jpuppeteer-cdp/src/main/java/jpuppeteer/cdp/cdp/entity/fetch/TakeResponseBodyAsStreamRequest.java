@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.fetch;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class TakeResponseBodyAsStreamRequest {
+public class TakeResponseBodyAsStreamRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String requestId;
 
 
+    public static TakeResponseBodyAsStreamRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        TakeResponseBodyAsStreamRequest object = new TakeResponseBodyAsStreamRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.fetch;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class TakeResponseBodyAsStreamResponse {
+public class TakeResponseBodyAsStreamResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String stream;
 
 
+    public static TakeResponseBodyAsStreamResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        TakeResponseBodyAsStreamResponse object = new TakeResponseBodyAsStreamResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "stream":
+                    object.stream = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (stream != null) {
+            writer.name("stream").value(stream);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
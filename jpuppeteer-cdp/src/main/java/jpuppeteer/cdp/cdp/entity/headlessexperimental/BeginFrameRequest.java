@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.headlessexperimental;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class BeginFrameRequest {
+public class BeginFrameRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Timestamp of this BeginFrame in Renderer TimeTicks (milliseconds of uptime). If not set, the current time will be used.
@@ -29,5 +29,50 @@ public class BeginFrameRequest {
     private jpuppeteer.cdp.cdp.entity.headlessexperimental.ScreenshotParams screenshot;
 
 
+    public static BeginFrameRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        BeginFrameRequest object = new BeginFrameRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameTimeTicks":
+                    object.frameTimeTicks = reader.nextDouble();
+                    break;
+                case "interval":
+                    object.interval = reader.nextDouble();
+                    break;
+                case "noDisplayUpdates":
+                    object.noDisplayUpdates = reader.nextBoolean();
+                    break;
+                case "screenshot":
+                    object.screenshot = jpuppeteer.cdp.cdp.entity.headlessexperimental.ScreenshotParams.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameTimeTicks != null) {
+            writer.name("frameTimeTicks").value(frameTimeTicks);
+        }
+        if (interval != null) {
+            writer.name("interval").value(interval);
+        }
+        if (noDisplayUpdates != null) {
+            writer.name("noDisplayUpdates").value(noDisplayUpdates);
+        }
+        if (screenshot != null) {
+            writer.name("screenshot").value(screenshot);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.headlessexperimental;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class BeginFrameResponse {
+public class BeginFrameResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Whether the BeginFrame resulted in damage and, thus, a new frame was committed to the display. Reported for diagnostic uses, may be removed in the future.
@@ -19,5 +19,38 @@ public class BeginFrameResponse {
     private String screenshotData;
 
 
+    public static BeginFrameResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        BeginFrameResponse object = new BeginFrameResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "hasDamage":
+                    object.hasDamage = reader.nextBoolean();
+                    break;
+                case "screenshotData":
+                    object.screenshotData = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (hasDamage != null) {
+            writer.name("hasDamage").value(hasDamage);
+        }
+        if (screenshotData != null) {
+            writer.name("screenshotData").value(screenshotData);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
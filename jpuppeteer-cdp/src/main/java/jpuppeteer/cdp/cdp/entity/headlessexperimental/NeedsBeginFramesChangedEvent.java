@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.headlessexperimental;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class NeedsBeginFramesChangedEvent {
+public class NeedsBeginFramesChangedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * True if BeginFrames are needed, false otherwise.
@@ -15,5 +15,32 @@ public class NeedsBeginFramesChangedEvent {
     private Boolean needsBeginFrames;
 
 
+    public static NeedsBeginFramesChangedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        NeedsBeginFramesChangedEvent object = new NeedsBeginFramesChangedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "needsBeginFrames":
+                    object.needsBeginFrames = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (needsBeginFrames != null) {
+            writer.name("needsBeginFrames").value(needsBeginFrames);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
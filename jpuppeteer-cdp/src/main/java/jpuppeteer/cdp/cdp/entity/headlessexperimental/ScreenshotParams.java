@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.headlessexperimental;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ScreenshotParams {
+public class ScreenshotParams implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Image compression format (defaults to png).
@@ -20,5 +20,38 @@ public class ScreenshotParams {
     private Integer quality;
 
 
+    public static ScreenshotParams decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ScreenshotParams object = new ScreenshotParams();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "format":
+                    object.format = reader.nextString();
+                    break;
+                case "quality":
+                    object.quality = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (format != null) {
+            writer.name("format").value(format);
+        }
+        if (quality != null) {
+            writer.name("quality").value(quality);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.heapprofiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AddHeapSnapshotChunkEvent {
+public class AddHeapSnapshotChunkEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String chunk;
 
 
+    public static AddHeapSnapshotChunkEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AddHeapSnapshotChunkEvent object = new AddHeapSnapshotChunkEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "chunk":
+                    object.chunk = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (chunk != null) {
+            writer.name("chunk").value(chunk);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.heapprofiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AddInspectedHeapObjectRequest {
+public class AddInspectedHeapObjectRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Heap snapshot object id to be accessible by means of $x command line API.
@@ -14,5 +14,32 @@ public class AddInspectedHeapObjectRequest {
     private String heapObjectId;
 
 
+    public static AddInspectedHeapObjectRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AddInspectedHeapObjectRequest object = new AddInspectedHeapObjectRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "heapObjectId":
+                    object.heapObjectId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (heapObjectId != null) {
+            writer.name("heapObjectId").value(heapObjectId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.heapprofiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetHeapObjectIdRequest {
+public class GetHeapObjectIdRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the object to get heap object id for.
@@ -14,5 +14,32 @@ public class GetHeapObjectIdRequest {
     private String objectId;
 
 
+    public static GetHeapObjectIdRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetHeapObjectIdRequest object = new GetHeapObjectIdRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "objectId":
+                    object.objectId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (objectId != null) {
+            writer.name("objectId").value(objectId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.heapprofiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetHeapObjectIdResponse {
+public class GetHeapObjectIdResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the heap snapshot object corresponding to the passed remote object id.
@@ -14,5 +14,32 @@ public class GetHeapObjectIdResponse {
     private String heapSnapshotObjectId;
 
 
+    public static GetHeapObjectIdResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetHeapObjectIdResponse object = new GetHeapObjectIdResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "heapSnapshotObjectId":
+                    object.heapSnapshotObjectId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (heapSnapshotObjectId != null) {
+            writer.name("heapSnapshotObjectId").value(heapSnapshotObjectId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
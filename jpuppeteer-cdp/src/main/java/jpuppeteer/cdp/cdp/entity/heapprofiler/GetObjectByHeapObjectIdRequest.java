@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.heapprofiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetObjectByHeapObjectIdRequest {
+public class GetObjectByHeapObjectIdRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -18,5 +18,38 @@ public class GetObjectByHeapObjectIdRequest {
     private String objectGroup;
 
 
+    public static GetObjectByHeapObjectIdRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetObjectByHeapObjectIdRequest object = new GetObjectByHeapObjectIdRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "objectId":
+                    object.objectId = reader.nextString();
+                    break;
+                case "objectGroup":
+                    object.objectGroup = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (objectId != null) {
+            writer.name("objectId").value(objectId);
+        }
+        if (objectGroup != null) {
+            writer.name("objectGroup").value(objectGroup);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
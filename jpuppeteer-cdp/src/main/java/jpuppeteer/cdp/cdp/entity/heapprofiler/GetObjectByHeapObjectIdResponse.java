@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.heapprofiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetObjectByHeapObjectIdResponse {
+public class GetObjectByHeapObjectIdResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Evaluation result.
@@ -14,5 +14,32 @@ public class GetObjectByHeapObjectIdResponse {
     private jpuppeteer.cdp.cdp.entity.runtime.RemoteObject result;
 
 
+    public static GetObjectByHeapObjectIdResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetObjectByHeapObjectIdResponse object = new GetObjectByHeapObjectIdResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "result":
+                    object.result = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (result != null) {
+            writer.name("result").value(result);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
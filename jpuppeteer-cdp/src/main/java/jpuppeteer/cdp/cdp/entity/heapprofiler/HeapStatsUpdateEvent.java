@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.heapprofiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class HeapStatsUpdateEvent {
+public class HeapStatsUpdateEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * An array of triplets. Each triplet describes a fragment. The first integer is the fragment index, the second integer is a total count of objects for the fragment, the third integer is a total size of the objects for the fragment.
@@ -15,5 +15,32 @@ public class HeapStatsUpdateEvent {
     private java.util.List<Integer> statsUpdate;
 
 
+    public static HeapStatsUpdateEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        HeapStatsUpdateEvent object = new HeapStatsUpdateEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "statsUpdate":
+                    object.statsUpdate = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (statsUpdate != null) {
+            writer.name("statsUpdate").value(statsUpdate);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
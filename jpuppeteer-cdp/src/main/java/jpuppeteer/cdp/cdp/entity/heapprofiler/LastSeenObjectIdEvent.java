@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.heapprofiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class LastSeenObjectIdEvent {
+public class LastSeenObjectIdEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -18,5 +18,38 @@ public class LastSeenObjectIdEvent {
     private Double timestamp;
 
 
+    public static LastSeenObjectIdEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        LastSeenObjectIdEvent object = new LastSeenObjectIdEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "lastSeenObjectId":
+                    object.lastSeenObjectId = reader.nextInteger();
+                    break;
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (lastSeenObjectId != null) {
+            writer.name("lastSeenObjectId").value(lastSeenObjectId);
+        }
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.heapprofiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ReportHeapSnapshotProgressEvent {
+public class ReportHeapSnapshotProgressEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -21,5 +21,44 @@ public class ReportHeapSnapshotProgressEvent {
     private Boolean finished;
 
 
+    public static ReportHeapSnapshotProgressEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ReportHeapSnapshotProgressEvent object = new ReportHeapSnapshotProgressEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "done":
+                    object.done = reader.nextInteger();
+                    break;
+                case "total":
+                    object.total = reader.nextInteger();
+                    break;
+                case "finished":
+                    object.finished = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (done != null) {
+            writer.name("done").value(done);
+        }
+        if (total != null) {
+            writer.name("total").value(total);
+        }
+        if (finished != null) {
+            writer.name("finished").value(finished);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
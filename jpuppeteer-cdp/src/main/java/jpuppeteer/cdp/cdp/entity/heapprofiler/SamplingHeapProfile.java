@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.heapprofiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SamplingHeapProfile {
+public class SamplingHeapProfile implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -18,5 +18,38 @@ public class SamplingHeapProfile {
     private java.util.List<jpuppeteer.cdp.cdp.entity.heapprofiler.SamplingHeapProfileSample> samples;
 
 
+    public static SamplingHeapProfile decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SamplingHeapProfile object = new SamplingHeapProfile();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "head":
+                    object.head = jpuppeteer.cdp.cdp.entity.heapprofiler.SamplingHeapProfileNode.decode(reader);
+                    break;
+                case "samples":
+                    object.samples = reader.nextList(jpuppeteer.cdp.cdp.entity.heapprofiler.SamplingHeapProfileSample::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (head != null) {
+            writer.name("head").value(head);
+        }
+        if (samples != null) {
+            writer.name("samples").value(samples);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.heapprofiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SamplingHeapProfileNode {
+public class SamplingHeapProfileNode implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Function location.
@@ -30,5 +30,50 @@ public class SamplingHeapProfileNode {
     private java.util.List<jpuppeteer.cdp.cdp.entity.heapprofiler.SamplingHeapProfileNode> children;
 
 
+    public static SamplingHeapProfileNode decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SamplingHeapProfileNode object = new SamplingHeapProfileNode();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "callFrame":
+                    object.callFrame = jpuppeteer.cdp.cdp.entity.runtime.CallFrame.decode(reader);
+                    break;
+                case "selfSize":
+                    object.selfSize = reader.nextDouble();
+                    break;
+                case "id":
+                    object.id = reader.nextInteger();
+                    break;
+                case "children":
+                    object.children = reader.nextList(jpuppeteer.cdp.cdp.entity.heapprofiler.SamplingHeapProfileNode::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (callFrame != null) {
+            writer.name("callFrame").value(callFrame);
+        }
+        if (selfSize != null) {
+            writer.name("selfSize").value(selfSize);
+        }
+        if (id != null) {
+            writer.name("id").value(id);
+        }
+        if (children != null) {
+            writer.name("children").value(children);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
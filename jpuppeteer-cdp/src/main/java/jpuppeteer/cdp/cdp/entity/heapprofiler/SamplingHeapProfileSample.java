@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.heapprofiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SamplingHeapProfileSample {
+public class SamplingHeapProfileSample implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Allocation size in bytes attributed to the sample.
@@ -25,5 +25,44 @@ public class SamplingHeapProfileSample {
     private Double ordinal;
 
 
+    public static SamplingHeapProfileSample decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SamplingHeapProfileSample object = new SamplingHeapProfileSample();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "size":
+                    object.size = reader.nextDouble();
+                    break;
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "ordinal":
+                    object.ordinal = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (size != null) {
+            writer.name("size").value(size);
+        }
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (ordinal != null) {
+            writer.name("ordinal").value(ordinal);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.heapprofiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StartSamplingRequest {
+public class StartSamplingRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Average sample interval in bytes. Poisson distribution is used for the intervals. The default value is 32768 bytes.
@@ -14,5 +14,32 @@ public class StartSamplingRequest {
     private Double samplingInterval;
 
 
+    public static StartSamplingRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StartSamplingRequest object = new StartSamplingRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "samplingInterval":
+                    object.samplingInterval = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (samplingInterval != null) {
+            writer.name("samplingInterval").value(samplingInterval);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.heapprofiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StartTrackingHeapObjectsRequest {
+public class StartTrackingHeapObjectsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private Boolean trackAllocations;
 
 
+    public static StartTrackingHeapObjectsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StartTrackingHeapObjectsRequest object = new StartTrackingHeapObjectsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "trackAllocations":
+                    object.trackAllocations = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (trackAllocations != null) {
+            writer.name("trackAllocations").value(trackAllocations);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
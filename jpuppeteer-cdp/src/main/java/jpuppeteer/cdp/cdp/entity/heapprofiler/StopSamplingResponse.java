@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.heapprofiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StopSamplingResponse {
+public class StopSamplingResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Recorded sampling heap profile.
@@ -14,5 +14,32 @@ public class StopSamplingResponse {
     private jpuppeteer.cdp.cdp.entity.heapprofiler.SamplingHeapProfile profile;
 
 
+    public static StopSamplingResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StopSamplingResponse object = new StopSamplingResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "profile":
+                    object.profile = jpuppeteer.cdp.cdp.entity.heapprofiler.SamplingHeapProfile.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (profile != null) {
+            writer.name("profile").value(profile);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
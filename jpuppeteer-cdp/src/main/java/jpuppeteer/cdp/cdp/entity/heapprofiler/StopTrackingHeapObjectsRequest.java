@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.heapprofiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StopTrackingHeapObjectsRequest {
+public class StopTrackingHeapObjectsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * If true 'reportHeapSnapshotProgress' events will be generated while snapshot is being taken when the tracking is stopped.
@@ -18,5 +18,38 @@ public class StopTrackingHeapObjectsRequest {
     private Boolean treatGlobalObjectsAsRoots;
 
 
+    public static StopTrackingHeapObjectsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StopTrackingHeapObjectsRequest object = new StopTrackingHeapObjectsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "reportProgress":
+                    object.reportProgress = reader.nextBoolean();
+                    break;
+                case "treatGlobalObjectsAsRoots":
+                    object.treatGlobalObjectsAsRoots = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (reportProgress != null) {
+            writer.name("reportProgress").value(reportProgress);
+        }
+        if (treatGlobalObjectsAsRoots != null) {
+            writer.name("treatGlobalObjectsAsRoots").value(treatGlobalObjectsAsRoots);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.heapprofiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class TakeHeapSnapshotRequest {
+public class TakeHeapSnapshotRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * If true 'reportHeapSnapshotProgress' events will be generated while snapshot is being taken.
@@ -19,5 +19,38 @@ public class TakeHeapSnapshotRequest {
     private Boolean treatGlobalObjectsAsRoots;
 
 
+    public static TakeHeapSnapshotRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        TakeHeapSnapshotRequest object = new TakeHeapSnapshotRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "reportProgress":
+                    object.reportProgress = reader.nextBoolean();
+                    break;
+                case "treatGlobalObjectsAsRoots":
+                    object.treatGlobalObjectsAsRoots = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (reportProgress != null) {
+            writer.name("reportProgress").value(reportProgress);
+        }
+        if (treatGlobalObjectsAsRoots != null) {
+            writer.name("treatGlobalObjectsAsRoots").value(treatGlobalObjectsAsRoots);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
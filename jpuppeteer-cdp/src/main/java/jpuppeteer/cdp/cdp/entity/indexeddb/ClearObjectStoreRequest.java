@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.indexeddb;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ClearObjectStoreRequest {
+public class ClearObjectStoreRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Security origin.
@@ -24,5 +24,44 @@ public class ClearObjectStoreRequest {
     private String objectStoreName;
 
 
+    public static ClearObjectStoreRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ClearObjectStoreRequest object = new ClearObjectStoreRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "securityOrigin":
+                    object.securityOrigin = reader.nextString();
+                    break;
+                case "databaseName":
+                    object.databaseName = reader.nextString();
+                    break;
+                case "objectStoreName":
+                    object.objectStoreName = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (securityOrigin != null) {
+            writer.name("securityOrigin").value(securityOrigin);
+        }
+        if (databaseName != null) {
+            writer.name("databaseName").value(databaseName);
+        }
+        if (objectStoreName != null) {
+            writer.name("objectStoreName").value(objectStoreName);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.indexeddb;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DataEntry {
+public class DataEntry implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Key object.
@@ -25,5 +25,44 @@ public class DataEntry {
     private jpuppeteer.cdp.cdp.entity.runtime.RemoteObject value;
 
 
+    public static DataEntry decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DataEntry object = new DataEntry();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "key":
+                    object.key = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                case "primaryKey":
+                    object.primaryKey = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                case "value":
+                    object.value = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (key != null) {
+            writer.name("key").value(key);
+        }
+        if (primaryKey != null) {
+            writer.name("primaryKey").value(primaryKey);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.indexeddb;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DatabaseWithObjectStores {
+public class DatabaseWithObjectStores implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Database name.
@@ -25,5 +25,44 @@ public class DatabaseWithObjectStores {
     private java.util.List<jpuppeteer.cdp.cdp.entity.indexeddb.ObjectStore> objectStores;
 
 
+    public static DatabaseWithObjectStores decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DatabaseWithObjectStores object = new DatabaseWithObjectStores();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "version":
+                    object.version = reader.nextDouble();
+                    break;
+                case "objectStores":
+                    object.objectStores = reader.nextList(jpuppeteer.cdp.cdp.entity.indexeddb.ObjectStore::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (version != null) {
+            writer.name("version").value(version);
+        }
+        if (objectStores != null) {
+            writer.name("objectStores").value(objectStores);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.indexeddb;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DeleteDatabaseRequest {
+public class DeleteDatabaseRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Security origin.
@@ -19,5 +19,38 @@ public class DeleteDatabaseRequest {
     private String databaseName;
 
 
+    public static DeleteDatabaseRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DeleteDatabaseRequest object = new DeleteDatabaseRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "securityOrigin":
+                    object.securityOrigin = reader.nextString();
+                    break;
+                case "databaseName":
+                    object.databaseName = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (securityOrigin != null) {
+            writer.name("securityOrigin").value(securityOrigin);
+        }
+        if (databaseName != null) {
+            writer.name("databaseName").value(databaseName);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
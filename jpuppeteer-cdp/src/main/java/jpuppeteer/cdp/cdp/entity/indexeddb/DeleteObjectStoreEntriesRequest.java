@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.indexeddb;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DeleteObjectStoreEntriesRequest {
+public class DeleteObjectStoreEntriesRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -26,5 +26,50 @@ public class DeleteObjectStoreEntriesRequest {
     private jpuppeteer.cdp.cdp.entity.indexeddb.KeyRange keyRange;
 
 
+    public static DeleteObjectStoreEntriesRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DeleteObjectStoreEntriesRequest object = new DeleteObjectStoreEntriesRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "securityOrigin":
+                    object.securityOrigin = reader.nextString();
+                    break;
+                case "databaseName":
+                    object.databaseName = reader.nextString();
+                    break;
+                case "objectStoreName":
+                    object.objectStoreName = reader.nextString();
+                    break;
+                case "keyRange":
+                    object.keyRange = jpuppeteer.cdp.cdp.entity.indexeddb.KeyRange.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (securityOrigin != null) {
+            writer.name("securityOrigin").value(securityOrigin);
+        }
+        if (databaseName != null) {
+            writer.name("databaseName").value(databaseName);
+        }
+        if (objectStoreName != null) {
+            writer.name("objectStoreName").value(objectStoreName);
+        }
+        if (keyRange != null) {
+            writer.name("keyRange").value(keyRange);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.indexeddb;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetMetadataResponse {
+public class GetMetadataResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * the entries count
@@ -19,5 +19,38 @@ public class GetMetadataResponse {
     private Double keyGeneratorValue;
 
 
+    public static GetMetadataResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetMetadataResponse object = new GetMetadataResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "entriesCount":
+                    object.entriesCount = reader.nextDouble();
+                    break;
+                case "keyGeneratorValue":
+                    object.keyGeneratorValue = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (entriesCount != null) {
+            writer.name("entriesCount").value(entriesCount);
+        }
+        if (keyGeneratorValue != null) {
+            writer.name("keyGeneratorValue").value(keyGeneratorValue);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
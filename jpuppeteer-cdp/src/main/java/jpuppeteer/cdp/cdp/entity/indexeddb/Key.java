@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.indexeddb;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Key {
+public class Key implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Key type.
@@ -35,5 +35,56 @@ public class Key {
     private java.util.List<jpuppeteer.cdp.cdp.entity.indexeddb.Key> array;
 
 
+    public static Key decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Key object = new Key();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "number":
+                    object.number = reader.nextDouble();
+                    break;
+                case "string":
+                    object.string = reader.nextString();
+                    break;
+                case "date":
+                    object.date = reader.nextDouble();
+                    break;
+                case "array":
+                    object.array = reader.nextList(jpuppeteer.cdp.cdp.entity.indexeddb.Key::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (number != null) {
+            writer.name("number").value(number);
+        }
+        if (string != null) {
+            writer.name("string").value(string);
+        }
+        if (date != null) {
+            writer.name("date").value(date);
+        }
+        if (array != null) {
+            writer.name("array").value(array);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
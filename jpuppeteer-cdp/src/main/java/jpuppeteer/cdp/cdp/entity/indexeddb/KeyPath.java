@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.indexeddb;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class KeyPath {
+public class KeyPath implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Key path type.
@@ -25,5 +25,44 @@ public class KeyPath {
     private java.util.List<String> array;
 
 
+    public static KeyPath decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        KeyPath object = new KeyPath();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "string":
+                    object.string = reader.nextString();
+                    break;
+                case "array":
+                    object.array = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (string != null) {
+            writer.name("string").value(string);
+        }
+        if (array != null) {
+            writer.name("array").value(array);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
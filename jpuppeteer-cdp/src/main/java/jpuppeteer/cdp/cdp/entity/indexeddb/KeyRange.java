@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.indexeddb;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class KeyRange {
+public class KeyRange implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Lower bound.
@@ -30,5 +30,50 @@ public class KeyRange {
     private Boolean upperOpen;
 
 
+    public static KeyRange decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        KeyRange object = new KeyRange();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "lower":
+                    object.lower = jpuppeteer.cdp.cdp.entity.indexeddb.Key.decode(reader);
+                    break;
+                case "upper":
+                    object.upper = jpuppeteer.cdp.cdp.entity.indexeddb.Key.decode(reader);
+                    break;
+                case "lowerOpen":
+                    object.lowerOpen = reader.nextBoolean();
+                    break;
+                case "upperOpen":
+                    object.upperOpen = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (lower != null) {
+            writer.name("lower").value(lower);
+        }
+        if (upper != null) {
+            writer.name("upper").value(upper);
+        }
+        if (lowerOpen != null) {
+            writer.name("lowerOpen").value(lowerOpen);
+        }
+        if (upperOpen != null) {
+            writer.name("upperOpen").value(upperOpen);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.indexeddb;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ObjectStore {
+public class ObjectStore implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Object store name.
@@ -30,5 +30,50 @@ public class ObjectStore {
     private java.util.List<jpuppeteer.cdp.cdp.entity.indexeddb.ObjectStoreIndex> indexes;
 
 
+    public static ObjectStore decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ObjectStore object = new ObjectStore();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "keyPath":
+                    object.keyPath = jpuppeteer.cdp.cdp.entity.indexeddb.KeyPath.decode(reader);
+                    break;
+                case "autoIncrement":
+                    object.autoIncrement = reader.nextBoolean();
+                    break;
+                case "indexes":
+                    object.indexes = reader.nextList(jpuppeteer.cdp.cdp.entity.indexeddb.ObjectStoreIndex::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (keyPath != null) {
+            writer.name("keyPath").value(keyPath);
+        }
+        if (autoIncrement != null) {
+            writer.name("autoIncrement").value(autoIncrement);
+        }
+        if (indexes != null) {
+            writer.name("indexes").value(indexes);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
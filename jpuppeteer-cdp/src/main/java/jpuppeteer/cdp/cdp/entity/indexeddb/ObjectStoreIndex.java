@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.indexeddb;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ObjectStoreIndex {
+public class ObjectStoreIndex implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Index name.
@@ -30,5 +30,50 @@ public class ObjectStoreIndex {
     private Boolean multiEntry;
 
 
+    public static ObjectStoreIndex decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ObjectStoreIndex object = new ObjectStoreIndex();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "keyPath":
+                    object.keyPath = jpuppeteer.cdp.cdp.entity.indexeddb.KeyPath.decode(reader);
+                    break;
+                case "unique":
+                    object.unique = reader.nextBoolean();
+                    break;
+                case "multiEntry":
+                    object.multiEntry = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (keyPath != null) {
+            writer.name("keyPath").value(keyPath);
+        }
+        if (unique != null) {
+            writer.name("unique").value(unique);
+        }
+        if (multiEntry != null) {
+            writer.name("multiEntry").value(multiEntry);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
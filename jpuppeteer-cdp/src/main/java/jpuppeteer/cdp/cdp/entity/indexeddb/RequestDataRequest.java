@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.indexeddb;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RequestDataRequest {
+public class RequestDataRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Security origin.
@@ -44,5 +44,68 @@ public class RequestDataRequest {
     private jpuppeteer.cdp.cdp.entity.indexeddb.KeyRange keyRange;
 
 
+    public static RequestDataRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RequestDataRequest object = new RequestDataRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "securityOrigin":
+                    object.securityOrigin = reader.nextString();
+                    break;
+                case "databaseName":
+                    object.databaseName = reader.nextString();
+                    break;
+                case "objectStoreName":
+                    object.objectStoreName = reader.nextString();
+                    break;
+                case "indexName":
+                    object.indexName = reader.nextString();
+                    break;
+                case "skipCount":
+                    object.skipCount = reader.nextInteger();
+                    break;
+                case "pageSize":
+                    object.pageSize = reader.nextInteger();
+                    break;
+                case "keyRange":
+                    object.keyRange = jpuppeteer.cdp.cdp.entity.indexeddb.KeyRange.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (securityOrigin != null) {
+            writer.name("securityOrigin").value(securityOrigin);
+        }
+        if (databaseName != null) {
+            writer.name("databaseName").value(databaseName);
+        }
+        if (objectStoreName != null) {
+            writer.name("objectStoreName").value(objectStoreName);
+        }
+        if (indexName != null) {
+            writer.name("indexName").value(indexName);
+        }
+        if (skipCount != null) {
+            writer.name("skipCount").value(skipCount);
+        }
+        if (pageSize != null) {
+            writer.name("pageSize").value(pageSize);
+        }
+        if (keyRange != null) {
+            writer.name("keyRange").value(keyRange);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.indexeddb;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RequestDataResponse {
+public class RequestDataResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Array of object store data entries.
@@ -19,5 +19,38 @@ public class RequestDataResponse {
     private Boolean hasMore;
 
 
+    public static RequestDataResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RequestDataResponse object = new RequestDataResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "objectStoreDataEntries":
+                    object.objectStoreDataEntries = reader.nextList(jpuppeteer.cdp.cdp.entity.indexeddb.DataEntry::decode);
+                    break;
+                case "hasMore":
+                    object.hasMore = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (objectStoreDataEntries != null) {
+            writer.name("objectStoreDataEntries").value(objectStoreDataEntries);
+        }
+        if (hasMore != null) {
+            writer.name("hasMore").value(hasMore);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.indexeddb;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RequestDatabaseNamesResponse {
+public class RequestDatabaseNamesResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Database names for origin.
@@ -14,5 +14,32 @@ public class RequestDatabaseNamesResponse {
     private java.util.List<String> databaseNames;
 
 
+    public static RequestDatabaseNamesResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RequestDatabaseNamesResponse object = new RequestDatabaseNamesResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "databaseNames":
+                    object.databaseNames = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (databaseNames != null) {
+            writer.name("databaseNames").value(databaseNames);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
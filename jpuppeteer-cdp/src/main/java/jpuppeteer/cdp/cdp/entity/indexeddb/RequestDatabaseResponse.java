@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.indexeddb;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RequestDatabaseResponse {
+public class RequestDatabaseResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Database with an array of object stores.
@@ -14,5 +14,32 @@ public class RequestDatabaseResponse {
     private jpuppeteer.cdp.cdp.entity.indexeddb.DatabaseWithObjectStores databaseWithObjectStores;
 
 
+    public static RequestDatabaseResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RequestDatabaseResponse object = new RequestDatabaseResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "databaseWithObjectStores":
+                    object.databaseWithObjectStores = jpuppeteer.cdp.cdp.entity.indexeddb.DatabaseWithObjectStores.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (databaseWithObjectStores != null) {
+            writer.name("databaseWithObjectStores").value(databaseWithObjectStores);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.input;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DispatchKeyEventRequest {
+public class DispatchKeyEventRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Type of the key event.
@@ -78,5 +78,110 @@ public class DispatchKeyEventRequest {
     private Integer location;
 
 
+    public static DispatchKeyEventRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DispatchKeyEventRequest object = new DispatchKeyEventRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "modifiers":
+                    object.modifiers = reader.nextInteger();
+                    break;
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                case "text":
+                    object.text = reader.nextString();
+                    break;
+                case "unmodifiedText":
+                    object.unmodifiedText = reader.nextString();
+                    break;
+                case "keyIdentifier":
+                    object.keyIdentifier = reader.nextString();
+                    break;
+                case "code":
+                    object.code = reader.nextString();
+                    break;
+                case "key":
+                    object.key = reader.nextString();
+                    break;
+                case "windowsVirtualKeyCode":
+                    object.windowsVirtualKeyCode = reader.nextInteger();
+                    break;
+                case "nativeVirtualKeyCode":
+                    object.nativeVirtualKeyCode = reader.nextInteger();
+                    break;
+                case "autoRepeat":
+                    object.autoRepeat = reader.nextBoolean();
+                    break;
+                case "isKeypad":
+                    object.isKeypad = reader.nextBoolean();
+                    break;
+                case "isSystemKey":
+                    object.isSystemKey = reader.nextBoolean();
+                    break;
+                case "location":
+                    object.location = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (modifiers != null) {
+            writer.name("modifiers").value(modifiers);
+        }
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        if (text != null) {
+            writer.name("text").value(text);
+        }
+        if (unmodifiedText != null) {
+            writer.name("unmodifiedText").value(unmodifiedText);
+        }
+        if (keyIdentifier != null) {
+            writer.name("keyIdentifier").value(keyIdentifier);
+        }
+        if (code != null) {
+            writer.name("code").value(code);
+        }
+        if (key != null) {
+            writer.name("key").value(key);
+        }
+        if (windowsVirtualKeyCode != null) {
+            writer.name("windowsVirtualKeyCode").value(windowsVirtualKeyCode);
+        }
+        if (nativeVirtualKeyCode != null) {
+            writer.name("nativeVirtualKeyCode").value(nativeVirtualKeyCode);
+        }
+        if (autoRepeat != null) {
+            writer.name("autoRepeat").value(autoRepeat);
+        }
+        if (isKeypad != null) {
+            writer.name("isKeypad").value(isKeypad);
+        }
+        if (isSystemKey != null) {
+            writer.name("isSystemKey").value(isSystemKey);
+        }
+        if (location != null) {
+            writer.name("location").value(location);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
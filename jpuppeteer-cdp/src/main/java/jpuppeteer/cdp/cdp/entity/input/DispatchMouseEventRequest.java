@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.input;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DispatchMouseEventRequest {
+public class DispatchMouseEventRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Type of the mouse event.
@@ -63,5 +63,92 @@ public class DispatchMouseEventRequest {
     private String pointerType;
 
 
+    public static DispatchMouseEventRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DispatchMouseEventRequest object = new DispatchMouseEventRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "x":
+                    object.x = reader.nextDouble();
+                    break;
+                case "y":
+                    object.y = reader.nextDouble();
+                    break;
+                case "modifiers":
+                    object.modifiers = reader.nextInteger();
+                    break;
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                case "button":
+                    object.button = reader.nextString();
+                    break;
+                case "buttons":
+                    object.buttons = reader.nextInteger();
+                    break;
+                case "clickCount":
+                    object.clickCount = reader.nextInteger();
+                    break;
+                case "deltaX":
+                    object.deltaX = reader.nextDouble();
+                    break;
+                case "deltaY":
+                    object.deltaY = reader.nextDouble();
+                    break;
+                case "pointerType":
+                    object.pointerType = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (x != null) {
+            writer.name("x").value(x);
+        }
+        if (y != null) {
+            writer.name("y").value(y);
+        }
+        if (modifiers != null) {
+            writer.name("modifiers").value(modifiers);
+        }
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        if (button != null) {
+            writer.name("button").value(button);
+        }
+        if (buttons != null) {
+            writer.name("buttons").value(buttons);
+        }
+        if (clickCount != null) {
+            writer.name("clickCount").value(clickCount);
+        }
+        if (deltaX != null) {
+            writer.name("deltaX").value(deltaX);
+        }
+        if (deltaY != null) {
+            writer.name("deltaY").value(deltaY);
+        }
+        if (pointerType != null) {
+            writer.name("pointerType").value(pointerType);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.input;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DispatchTouchEventRequest {
+public class DispatchTouchEventRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Type of the touch event. TouchEnd and TouchCancel must not contain any touch points, while TouchStart and TouchMove must contains at least one.
@@ -28,5 +28,50 @@ public class DispatchTouchEventRequest {
     private Double timestamp;
 
 
+    public static DispatchTouchEventRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DispatchTouchEventRequest object = new DispatchTouchEventRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "touchPoints":
+                    object.touchPoints = reader.nextList(jpuppeteer.cdp.cdp.entity.input.TouchPoint::decode);
+                    break;
+                case "modifiers":
+                    object.modifiers = reader.nextInteger();
+                    break;
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (touchPoints != null) {
+            writer.name("touchPoints").value(touchPoints);
+        }
+        if (modifiers != null) {
+            writer.name("modifiers").value(modifiers);
+        }
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
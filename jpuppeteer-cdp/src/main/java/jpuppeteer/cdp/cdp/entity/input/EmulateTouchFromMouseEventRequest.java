@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.input;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class EmulateTouchFromMouseEventRequest {
+public class EmulateTouchFromMouseEventRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Type of the mouse event.
@@ -53,5 +53,80 @@ public class EmulateTouchFromMouseEventRequest {
     private Integer clickCount;
 
 
+    public static EmulateTouchFromMouseEventRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        EmulateTouchFromMouseEventRequest object = new EmulateTouchFromMouseEventRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "x":
+                    object.x = reader.nextInteger();
+                    break;
+                case "y":
+                    object.y = reader.nextInteger();
+                    break;
+                case "button":
+                    object.button = reader.nextString();
+                    break;
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                case "deltaX":
+                    object.deltaX = reader.nextDouble();
+                    break;
+                case "deltaY":
+                    object.deltaY = reader.nextDouble();
+                    break;
+                case "modifiers":
+                    object.modifiers = reader.nextInteger();
+                    break;
+                case "clickCount":
+                    object.clickCount = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (x != null) {
+            writer.name("x").value(x);
+        }
+        if (y != null) {
+            writer.name("y").value(y);
+        }
+        if (button != null) {
+            writer.name("button").value(button);
+        }
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        if (deltaX != null) {
+            writer.name("deltaX").value(deltaX);
+        }
+        if (deltaY != null) {
+            writer.name("deltaY").value(deltaY);
+        }
+        if (modifiers != null) {
+            writer.name("modifiers").value(modifiers);
+        }
+        if (clickCount != null) {
+            writer.name("clickCount").value(clickCount);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.input;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class InsertTextRequest {
+public class InsertTextRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The text to insert.
@@ -13,5 +13,32 @@ public class InsertTextRequest {
     private String text;
 
 
+    public static InsertTextRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        InsertTextRequest object = new InsertTextRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "text":
+                    object.text = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (text != null) {
+            writer.name("text").value(text);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
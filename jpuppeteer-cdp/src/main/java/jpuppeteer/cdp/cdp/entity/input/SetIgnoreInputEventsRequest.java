@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.input;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetIgnoreInputEventsRequest {
+public class SetIgnoreInputEventsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Ignores input events processing when set to true.
@@ -13,5 +13,32 @@ public class SetIgnoreInputEventsRequest {
     private Boolean ignore;
 
 
+    public static SetIgnoreInputEventsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetIgnoreInputEventsRequest object = new SetIgnoreInputEventsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "ignore":
+                    object.ignore = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (ignore != null) {
+            writer.name("ignore").value(ignore);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
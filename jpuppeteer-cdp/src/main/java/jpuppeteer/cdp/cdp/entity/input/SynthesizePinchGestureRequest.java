@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.input;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SynthesizePinchGestureRequest {
+public class SynthesizePinchGestureRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * X coordinate of the start of the gesture in CSS pixels.
@@ -33,5 +33,56 @@ public class SynthesizePinchGestureRequest {
     private String gestureSourceType;
 
 
+    public static SynthesizePinchGestureRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SynthesizePinchGestureRequest object = new SynthesizePinchGestureRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "x":
+                    object.x = reader.nextDouble();
+                    break;
+                case "y":
+                    object.y = reader.nextDouble();
+                    break;
+                case "scaleFactor":
+                    object.scaleFactor = reader.nextDouble();
+                    break;
+                case "relativeSpeed":
+                    object.relativeSpeed = reader.nextInteger();
+                    break;
+                case "gestureSourceType":
+                    object.gestureSourceType = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (x != null) {
+            writer.name("x").value(x);
+        }
+        if (y != null) {
+            writer.name("y").value(y);
+        }
+        if (scaleFactor != null) {
+            writer.name("scaleFactor").value(scaleFactor);
+        }
+        if (relativeSpeed != null) {
+            writer.name("relativeSpeed").value(relativeSpeed);
+        }
+        if (gestureSourceType != null) {
+            writer.name("gestureSourceType").value(gestureSourceType);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
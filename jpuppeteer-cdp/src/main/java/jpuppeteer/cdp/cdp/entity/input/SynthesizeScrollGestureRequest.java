@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.input;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SynthesizeScrollGestureRequest {
+public class SynthesizeScrollGestureRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * X coordinate of the start of the gesture in CSS pixels.
@@ -68,5 +68,98 @@ public class SynthesizeScrollGestureRequest {
     private String interactionMarkerName;
 
 
+    public static SynthesizeScrollGestureRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SynthesizeScrollGestureRequest object = new SynthesizeScrollGestureRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "x":
+                    object.x = reader.nextDouble();
+                    break;
+                case "y":
+                    object.y = reader.nextDouble();
+                    break;
+                case "xDistance":
+                    object.xDistance = reader.nextDouble();
+                    break;
+                case "yDistance":
+                    object.yDistance = reader.nextDouble();
+                    break;
+                case "xOverscroll":
+                    object.xOverscroll = reader.nextDouble();
+                    break;
+                case "yOverscroll":
+                    object.yOverscroll = reader.nextDouble();
+                    break;
+                case "preventFling":
+                    object.preventFling = reader.nextBoolean();
+                    break;
+                case "speed":
+                    object.speed = reader.nextInteger();
+                    break;
+                case "gestureSourceType":
+                    object.gestureSourceType = reader.nextString();
+                    break;
+                case "repeatCount":
+                    object.repeatCount = reader.nextInteger();
+                    break;
+                case "repeatDelayMs":
+                    object.repeatDelayMs = reader.nextInteger();
+                    break;
+                case "interactionMarkerName":
+                    object.interactionMarkerName = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (x != null) {
+            writer.name("x").value(x);
+        }
+        if (y != null) {
+            writer.name("y").value(y);
+        }
+        if (xDistance != null) {
+            writer.name("xDistance").value(xDistance);
+        }
+        if (yDistance != null) {
+            writer.name("yDistance").value(yDistance);
+        }
+        if (xOverscroll != null) {
+            writer.name("xOverscroll").value(xOverscroll);
+        }
+        if (yOverscroll != null) {
+            writer.name("yOverscroll").value(yOverscroll);
+        }
+        if (preventFling != null) {
+            writer.name("preventFling").value(preventFling);
+        }
+        if (speed != null) {
+            writer.name("speed").value(speed);
+        }
+        if (gestureSourceType != null) {
+            writer.name("gestureSourceType").value(gestureSourceType);
+        }
+        if (repeatCount != null) {
+            writer.name("repeatCount").value(repeatCount);
+        }
+        if (repeatDelayMs != null) {
+            writer.name("repeatDelayMs").value(repeatDelayMs);
+        }
+        if (interactionMarkerName != null) {
+            writer.name("interactionMarkerName").value(interactionMarkerName);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.input;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SynthesizeTapGestureRequest {
+public class SynthesizeTapGestureRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * X coordinate of the start of the gesture in CSS pixels.
@@ -33,5 +33,56 @@ public class SynthesizeTapGestureRequest {
     private String gestureSourceType;
 
 
+    public static SynthesizeTapGestureRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SynthesizeTapGestureRequest object = new SynthesizeTapGestureRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "x":
+                    object.x = reader.nextDouble();
+                    break;
+                case "y":
+                    object.y = reader.nextDouble();
+                    break;
+                case "duration":
+                    object.duration = reader.nextInteger();
+                    break;
+                case "tapCount":
+                    object.tapCount = reader.nextInteger();
+                    break;
+                case "gestureSourceType":
+                    object.gestureSourceType = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (x != null) {
+            writer.name("x").value(x);
+        }
+        if (y != null) {
+            writer.name("y").value(y);
+        }
+        if (duration != null) {
+            writer.name("duration").value(duration);
+        }
+        if (tapCount != null) {
+            writer.name("tapCount").value(tapCount);
+        }
+        if (gestureSourceType != null) {
+            writer.name("gestureSourceType").value(gestureSourceType);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.input;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class TouchPoint {
+public class TouchPoint implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * X coordinate of the event relative to the main frame's viewport in CSS pixels.
@@ -43,5 +43,68 @@ public class TouchPoint {
     private Double id;
 
 
+    public static TouchPoint decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        TouchPoint object = new TouchPoint();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "x":
+                    object.x = reader.nextDouble();
+                    break;
+                case "y":
+                    object.y = reader.nextDouble();
+                    break;
+                case "radiusX":
+                    object.radiusX = reader.nextDouble();
+                    break;
+                case "radiusY":
+                    object.radiusY = reader.nextDouble();
+                    break;
+                case "rotationAngle":
+                    object.rotationAngle = reader.nextDouble();
+                    break;
+                case "force":
+                    object.force = reader.nextDouble();
+                    break;
+                case "id":
+                    object.id = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (x != null) {
+            writer.name("x").value(x);
+        }
+        if (y != null) {
+            writer.name("y").value(y);
+        }
+        if (radiusX != null) {
+            writer.name("radiusX").value(radiusX);
+        }
+        if (radiusY != null) {
+            writer.name("radiusY").value(radiusY);
+        }
+        if (rotationAngle != null) {
+            writer.name("rotationAngle").value(rotationAngle);
+        }
+        if (force != null) {
+            writer.name("force").value(force);
+        }
+        if (id != null) {
+            writer.name("id").value(id);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.inspector;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DetachedEvent {
+public class DetachedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The reason why connection has been terminated.
@@ -15,5 +15,32 @@ public class DetachedEvent {
     private String reason;
 
 
+    public static DetachedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DetachedEvent object = new DetachedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "reason":
+                    object.reason = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (reason != null) {
+            writer.name("reason").value(reason);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
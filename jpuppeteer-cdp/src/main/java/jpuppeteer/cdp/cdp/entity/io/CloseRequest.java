@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.io;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CloseRequest {
+public class CloseRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Handle of the stream to close.
@@ -13,5 +13,32 @@ public class CloseRequest {
     private String handle;
 
 
+    public static CloseRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CloseRequest object = new CloseRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "handle":
+                    object.handle = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (handle != null) {
+            writer.name("handle").value(handle);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.io;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ReadRequest {
+public class ReadRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Handle of the stream to read.
@@ -23,5 +23,44 @@ public class ReadRequest {
     private Integer size;
 
 
+    public static ReadRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ReadRequest object = new ReadRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "handle":
+                    object.handle = reader.nextString();
+                    break;
+                case "offset":
+                    object.offset = reader.nextInteger();
+                    break;
+                case "size":
+                    object.size = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (handle != null) {
+            writer.name("handle").value(handle);
+        }
+        if (offset != null) {
+            writer.name("offset").value(offset);
+        }
+        if (size != null) {
+            writer.name("size").value(size);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
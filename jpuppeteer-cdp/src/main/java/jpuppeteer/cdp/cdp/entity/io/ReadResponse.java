@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.io;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ReadResponse {
+public class ReadResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Set if the data is base64-encoded
@@ -23,5 +23,44 @@ public class ReadResponse {
     private Boolean eof;
 
 
+    public static ReadResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ReadResponse object = new ReadResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "base64Encoded":
+                    object.base64Encoded = reader.nextBoolean();
+                    break;
+                case "data":
+                    object.data = reader.nextString();
+                    break;
+                case "eof":
+                    object.eof = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (base64Encoded != null) {
+            writer.name("base64Encoded").value(base64Encoded);
+        }
+        if (data != null) {
+            writer.name("data").value(data);
+        }
+        if (eof != null) {
+            writer.name("eof").value(eof);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
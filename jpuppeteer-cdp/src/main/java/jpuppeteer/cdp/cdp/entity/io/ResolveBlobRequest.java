@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.io;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ResolveBlobRequest {
+public class ResolveBlobRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Object id of a Blob object wrapper.
@@ -13,5 +13,32 @@ public class ResolveBlobRequest {
     private String objectId;
 
 
+    public static ResolveBlobRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ResolveBlobRequest object = new ResolveBlobRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "objectId":
+                    object.objectId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (objectId != null) {
+            writer.name("objectId").value(objectId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.io;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ResolveBlobResponse {
+public class ResolveBlobResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * UUID of the specified Blob.
@@ -13,5 +13,32 @@ public class ResolveBlobResponse {
     private String uuid;
 
 
+    public static ResolveBlobResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ResolveBlobResponse object = new ResolveBlobResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "uuid":
+                    object.uuid = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (uuid != null) {
+            writer.name("uuid").value(uuid);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
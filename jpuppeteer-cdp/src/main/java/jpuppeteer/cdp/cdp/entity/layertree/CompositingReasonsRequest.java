@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.layertree;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CompositingReasonsRequest {
+public class CompositingReasonsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The id of the layer for which we want to get the reasons it was composited.
@@ -14,5 +14,32 @@ public class CompositingReasonsRequest {
     private String layerId;
 
 
+    public static CompositingReasonsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CompositingReasonsRequest object = new CompositingReasonsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "layerId":
+                    object.layerId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (layerId != null) {
+            writer.name("layerId").value(layerId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
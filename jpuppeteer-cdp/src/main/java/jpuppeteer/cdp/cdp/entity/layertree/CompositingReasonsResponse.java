@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.layertree;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CompositingReasonsResponse {
+public class CompositingReasonsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * A list of strings specifying reasons for the given layer to become composited.
@@ -14,5 +14,32 @@ public class CompositingReasonsResponse {
     private java.util.List<String> compositingReasons;
 
 
+    public static CompositingReasonsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CompositingReasonsResponse object = new CompositingReasonsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "compositingReasons":
+                    object.compositingReasons = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (compositingReasons != null) {
+            writer.name("compositingReasons").value(compositingReasons);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
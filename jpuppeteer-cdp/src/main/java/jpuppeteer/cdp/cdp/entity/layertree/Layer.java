@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.layertree;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Layer {
+public class Layer implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The unique id for this layer.
@@ -90,5 +90,122 @@ public class Layer {
     private jpuppeteer.cdp.cdp.entity.layertree.StickyPositionConstraint stickyPositionConstraint;
 
 
+    public static Layer decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Layer object = new Layer();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "layerId":
+                    object.layerId = reader.nextString();
+                    break;
+                case "parentLayerId":
+                    object.parentLayerId = reader.nextString();
+                    break;
+                case "backendNodeId":
+                    object.backendNodeId = reader.nextInteger();
+                    break;
+                case "offsetX":
+                    object.offsetX = reader.nextDouble();
+                    break;
+                case "offsetY":
+                    object.offsetY = reader.nextDouble();
+                    break;
+                case "width":
+                    object.width = reader.nextDouble();
+                    break;
+                case "height":
+                    object.height = reader.nextDouble();
+                    break;
+                case "transform":
+                    object.transform = reader.nextList(jpuppeteer.cdp.JsonReader::nextDouble);
+                    break;
+                case "anchorX":
+                    object.anchorX = reader.nextDouble();
+                    break;
+                case "anchorY":
+                    object.anchorY = reader.nextDouble();
+                    break;
+                case "anchorZ":
+                    object.anchorZ = reader.nextDouble();
+                    break;
+                case "paintCount":
+                    object.paintCount = reader.nextInteger();
+                    break;
+                case "drawsContent":
+                    object.drawsContent = reader.nextBoolean();
+                    break;
+                case "invisible":
+                    object.invisible = reader.nextBoolean();
+                    break;
+                case "scrollRects":
+                    object.scrollRects = reader.nextList(jpuppeteer.cdp.cdp.entity.layertree.ScrollRect::decode);
+                    break;
+                case "stickyPositionConstraint":
+                    object.stickyPositionConstraint = jpuppeteer.cdp.cdp.entity.layertree.StickyPositionConstraint.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (layerId != null) {
+            writer.name("layerId").value(layerId);
+        }
+        if (parentLayerId != null) {
+            writer.name("parentLayerId").value(parentLayerId);
+        }
+        if (backendNodeId != null) {
+            writer.name("backendNodeId").value(backendNodeId);
+        }
+        if (offsetX != null) {
+            writer.name("offsetX").value(offsetX);
+        }
+        if (offsetY != null) {
+            writer.name("offsetY").value(offsetY);
+        }
+        if (width != null) {
+            writer.name("width").value(width);
+        }
+        if (height != null) {
+            writer.name("height").value(height);
+        }
+        if (transform != null) {
+            writer.name("transform").value(transform);
+        }
+        if (anchorX != null) {
+            writer.name("anchorX").value(anchorX);
+        }
+        if (anchorY != null) {
+            writer.name("anchorY").value(anchorY);
+        }
+        if (anchorZ != null) {
+            writer.name("anchorZ").value(anchorZ);
+        }
+        if (paintCount != null) {
+            writer.name("paintCount").value(paintCount);
+        }
+        if (drawsContent != null) {
+            writer.name("drawsContent").value(drawsContent);
+        }
+        if (invisible != null) {
+            writer.name("invisible").value(invisible);
+        }
+        if (scrollRects != null) {
+            writer.name("scrollRects").value(scrollRects);
+        }
+        if (stickyPositionConstraint != null) {
+            writer.name("stickyPositionConstraint").value(stickyPositionConstraint);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.layertree;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class LayerPaintedEvent {
+public class LayerPaintedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The id of the painted layer.
@@ -19,5 +19,38 @@ public class LayerPaintedEvent {
     private jpuppeteer.cdp.cdp.entity.dom.Rect clip;
 
 
+    public static LayerPaintedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        LayerPaintedEvent object = new LayerPaintedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "layerId":
+                    object.layerId = reader.nextString();
+                    break;
+                case "clip":
+                    object.clip = jpuppeteer.cdp.cdp.entity.dom.Rect.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (layerId != null) {
+            writer.name("layerId").value(layerId);
+        }
+        if (clip != null) {
+            writer.name("clip").value(clip);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
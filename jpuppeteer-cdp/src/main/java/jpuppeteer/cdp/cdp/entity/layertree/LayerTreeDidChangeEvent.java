@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.layertree;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class LayerTreeDidChangeEvent {
+public class LayerTreeDidChangeEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Layer tree, absent if not in the comspositing mode.
@@ -14,5 +14,32 @@ public class LayerTreeDidChangeEvent {
     private java.util.List<jpuppeteer.cdp.cdp.entity.layertree.Layer> layers;
 
 
+    public static LayerTreeDidChangeEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        LayerTreeDidChangeEvent object = new LayerTreeDidChangeEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "layers":
+                    object.layers = reader.nextList(jpuppeteer.cdp.cdp.entity.layertree.Layer::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (layers != null) {
+            writer.name("layers").value(layers);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.layertree;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class LoadSnapshotRequest {
+public class LoadSnapshotRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * An array of tiles composing the snapshot.
@@ -14,5 +14,32 @@ public class LoadSnapshotRequest {
     private java.util.List<jpuppeteer.cdp.cdp.entity.layertree.PictureTile> tiles;
 
 
+    public static LoadSnapshotRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        LoadSnapshotRequest object = new LoadSnapshotRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "tiles":
+                    object.tiles = reader.nextList(jpuppeteer.cdp.cdp.entity.layertree.PictureTile::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (tiles != null) {
+            writer.name("tiles").value(tiles);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
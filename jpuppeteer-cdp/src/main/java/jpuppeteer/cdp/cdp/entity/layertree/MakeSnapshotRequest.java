@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.layertree;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class MakeSnapshotRequest {
+public class MakeSnapshotRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The id of the layer.
@@ -14,5 +14,32 @@ public class MakeSnapshotRequest {
     private String layerId;
 
 
+    public static MakeSnapshotRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        MakeSnapshotRequest object = new MakeSnapshotRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "layerId":
+                    object.layerId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (layerId != null) {
+            writer.name("layerId").value(layerId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.layertree;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PictureTile {
+public class PictureTile implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Offset from owning layer left boundary
@@ -25,5 +25,44 @@ public class PictureTile {
     private String picture;
 
 
+    public static PictureTile decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PictureTile object = new PictureTile();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "x":
+                    object.x = reader.nextDouble();
+                    break;
+                case "y":
+                    object.y = reader.nextDouble();
+                    break;
+                case "picture":
+                    object.picture = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (x != null) {
+            writer.name("x").value(x);
+        }
+        if (y != null) {
+            writer.name("y").value(y);
+        }
+        if (picture != null) {
+            writer.name("picture").value(picture);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
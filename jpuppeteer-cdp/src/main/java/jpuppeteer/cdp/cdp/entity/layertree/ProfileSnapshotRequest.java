@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.layertree;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ProfileSnapshotRequest {
+public class ProfileSnapshotRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The id of the layer snapshot.
@@ -29,5 +29,50 @@ public class ProfileSnapshotRequest {
     private jpuppeteer.cdp.cdp.entity.dom.Rect clipRect;
 
 
+    public static ProfileSnapshotRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ProfileSnapshotRequest object = new ProfileSnapshotRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "snapshotId":
+                    object.snapshotId = reader.nextString();
+                    break;
+                case "minRepeatCount":
+                    object.minRepeatCount = reader.nextInteger();
+                    break;
+                case "minDuration":
+                    object.minDuration = reader.nextDouble();
+                    break;
+                case "clipRect":
+                    object.clipRect = jpuppeteer.cdp.cdp.entity.dom.Rect.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (snapshotId != null) {
+            writer.name("snapshotId").value(snapshotId);
+        }
+        if (minRepeatCount != null) {
+            writer.name("minRepeatCount").value(minRepeatCount);
+        }
+        if (minDuration != null) {
+            writer.name("minDuration").value(minDuration);
+        }
+        if (clipRect != null) {
+            writer.name("clipRect").value(clipRect);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
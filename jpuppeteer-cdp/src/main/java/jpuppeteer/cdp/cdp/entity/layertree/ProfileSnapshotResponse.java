@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.layertree;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ProfileSnapshotResponse {
+public class ProfileSnapshotResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The array of paint profiles, one per run.
@@ -14,5 +14,32 @@ public class ProfileSnapshotResponse {
     private java.util.List<java.util.List<Double>> timings;
 
 
+    public static ProfileSnapshotResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ProfileSnapshotResponse object = new ProfileSnapshotResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "timings":
+                    object.timings = reader.nextList(r -> r.nextList(jpuppeteer.cdp.JsonReader::nextDouble));
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (timings != null) {
+            writer.name("timings").value(timings);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
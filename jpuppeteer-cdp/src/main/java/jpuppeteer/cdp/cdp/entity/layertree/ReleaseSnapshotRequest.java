@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.layertree;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ReleaseSnapshotRequest {
+public class ReleaseSnapshotRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The id of the layer snapshot.
@@ -14,5 +14,32 @@ public class ReleaseSnapshotRequest {
     private String snapshotId;
 
 
+    public static ReleaseSnapshotRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ReleaseSnapshotRequest object = new ReleaseSnapshotRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "snapshotId":
+                    object.snapshotId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (snapshotId != null) {
+            writer.name("snapshotId").value(snapshotId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
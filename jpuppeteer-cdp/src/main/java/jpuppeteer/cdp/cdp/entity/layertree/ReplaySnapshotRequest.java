@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.layertree;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ReplaySnapshotRequest {
+public class ReplaySnapshotRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The id of the layer snapshot.
@@ -29,5 +29,50 @@ public class ReplaySnapshotRequest {
     private Double scale;
 
 
+    public static ReplaySnapshotRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ReplaySnapshotRequest object = new ReplaySnapshotRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "snapshotId":
+                    object.snapshotId = reader.nextString();
+                    break;
+                case "fromStep":
+                    object.fromStep = reader.nextInteger();
+                    break;
+                case "toStep":
+                    object.toStep = reader.nextInteger();
+                    break;
+                case "scale":
+                    object.scale = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (snapshotId != null) {
+            writer.name("snapshotId").value(snapshotId);
+        }
+        if (fromStep != null) {
+            writer.name("fromStep").value(fromStep);
+        }
+        if (toStep != null) {
+            writer.name("toStep").value(toStep);
+        }
+        if (scale != null) {
+            writer.name("scale").value(scale);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.layertree;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ReplaySnapshotResponse {
+public class ReplaySnapshotResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * A data: URL for resulting image.
@@ -14,5 +14,32 @@ public class ReplaySnapshotResponse {
     private String dataURL;
 
 
+    public static ReplaySnapshotResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ReplaySnapshotResponse object = new ReplaySnapshotResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "dataURL":
+                    object.dataURL = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (dataURL != null) {
+            writer.name("dataURL").value(dataURL);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
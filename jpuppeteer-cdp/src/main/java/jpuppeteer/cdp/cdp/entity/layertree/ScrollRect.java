@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.layertree;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ScrollRect {
+public class ScrollRect implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Rectangle itself.
@@ -20,5 +20,38 @@ public class ScrollRect {
     private String type;
 
 
+    public static ScrollRect decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ScrollRect object = new ScrollRect();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "rect":
+                    object.rect = jpuppeteer.cdp.cdp.entity.dom.Rect.decode(reader);
+                    break;
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (rect != null) {
+            writer.name("rect").value(rect);
+        }
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.layertree;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SnapshotCommandLogRequest {
+public class SnapshotCommandLogRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The id of the layer snapshot.
@@ -14,5 +14,32 @@ public class SnapshotCommandLogRequest {
     private String snapshotId;
 
 
+    public static SnapshotCommandLogRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SnapshotCommandLogRequest object = new SnapshotCommandLogRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "snapshotId":
+                    object.snapshotId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (snapshotId != null) {
+            writer.name("snapshotId").value(snapshotId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.layertree;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SnapshotCommandLogResponse {
+public class SnapshotCommandLogResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The array of canvas function calls.
@@ -14,5 +14,32 @@ public class SnapshotCommandLogResponse {
     private java.util.List<java.util.Map<String, Object>> commandLog;
 
 
+    public static SnapshotCommandLogResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SnapshotCommandLogResponse object = new SnapshotCommandLogResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "commandLog":
+                    object.commandLog = reader.nextList(jpuppeteer.cdp.JsonReader::nextMap);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (commandLog != null) {
+            writer.name("commandLog").value(commandLog);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.layertree;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StickyPositionConstraint {
+public class StickyPositionConstraint implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Layout rectangle of the sticky element before being shifted
@@ -30,5 +30,50 @@ public class StickyPositionConstraint {
     private String nearestLayerShiftingContainingBlock;
 
 
+    public static StickyPositionConstraint decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StickyPositionConstraint object = new StickyPositionConstraint();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "stickyBoxRect":
+                    object.stickyBoxRect = jpuppeteer.cdp.cdp.entity.dom.Rect.decode(reader);
+                    break;
+                case "containingBlockRect":
+                    object.containingBlockRect = jpuppeteer.cdp.cdp.entity.dom.Rect.decode(reader);
+                    break;
+                case "nearestLayerShiftingStickyBox":
+                    object.nearestLayerShiftingStickyBox = reader.nextString();
+                    break;
+                case "nearestLayerShiftingContainingBlock":
+                    object.nearestLayerShiftingContainingBlock = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (stickyBoxRect != null) {
+            writer.name("stickyBoxRect").value(stickyBoxRect);
+        }
+        if (containingBlockRect != null) {
+            writer.name("containingBlockRect").value(containingBlockRect);
+        }
+        if (nearestLayerShiftingStickyBox != null) {
+            writer.name("nearestLayerShiftingStickyBox").value(nearestLayerShiftingStickyBox);
+        }
+        if (nearestLayerShiftingContainingBlock != null) {
+            writer.name("nearestLayerShiftingContainingBlock").value(nearestLayerShiftingContainingBlock);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.log;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class EntryAddedEvent {
+public class EntryAddedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The entry.
@@ -14,5 +14,32 @@ public class EntryAddedEvent {
     private jpuppeteer.cdp.cdp.entity.log.LogEntry entry;
 
 
+    public static EntryAddedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        EntryAddedEvent object = new EntryAddedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "entry":
+                    object.entry = jpuppeteer.cdp.cdp.entity.log.LogEntry.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (entry != null) {
+            writer.name("entry").value(entry);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
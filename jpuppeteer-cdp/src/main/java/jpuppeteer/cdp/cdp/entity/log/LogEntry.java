@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.log;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class LogEntry {
+public class LogEntry implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Log entry source.
@@ -59,5 +59,86 @@ public class LogEntry {
     private java.util.List<jpuppeteer.cdp.cdp.entity.runtime.RemoteObject> args;
 
 
+    public static LogEntry decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        LogEntry object = new LogEntry();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "source":
+                    object.source = reader.nextString();
+                    break;
+                case "level":
+                    object.level = reader.nextString();
+                    break;
+                case "text":
+                    object.text = reader.nextString();
+                    break;
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "lineNumber":
+                    object.lineNumber = reader.nextInteger();
+                    break;
+                case "stackTrace":
+                    object.stackTrace = jpuppeteer.cdp.cdp.entity.runtime.StackTrace.decode(reader);
+                    break;
+                case "networkRequestId":
+                    object.networkRequestId = reader.nextString();
+                    break;
+                case "workerId":
+                    object.workerId = reader.nextString();
+                    break;
+                case "args":
+                    object.args = reader.nextList(jpuppeteer.cdp.cdp.entity.runtime.RemoteObject::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (source != null) {
+            writer.name("source").value(source);
+        }
+        if (level != null) {
+            writer.name("level").value(level);
+        }
+        if (text != null) {
+            writer.name("text").value(text);
+        }
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (lineNumber != null) {
+            writer.name("lineNumber").value(lineNumber);
+        }
+        if (stackTrace != null) {
+            writer.name("stackTrace").value(stackTrace);
+        }
+        if (networkRequestId != null) {
+            writer.name("networkRequestId").value(networkRequestId);
+        }
+        if (workerId != null) {
+            writer.name("workerId").value(workerId);
+        }
+        if (args != null) {
+            writer.name("args").value(args);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.log;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StartViolationsReportRequest {
+public class StartViolationsReportRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Configuration for violations.
@@ -13,5 +13,32 @@ public class StartViolationsReportRequest {
     private java.util.List<jpuppeteer.cdp.cdp.entity.log.ViolationSetting> config;
 
 
+    public static StartViolationsReportRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StartViolationsReportRequest object = new StartViolationsReportRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "config":
+                    object.config = reader.nextList(jpuppeteer.cdp.cdp.entity.log.ViolationSetting::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (config != null) {
+            writer.name("config").value(config);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.log;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ViolationSetting {
+public class ViolationSetting implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Violation type.
@@ -19,5 +19,38 @@ public class ViolationSetting {
     private Double threshold;
 
 
+    public static ViolationSetting decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ViolationSetting object = new ViolationSetting();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "threshold":
+                    object.threshold = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (threshold != null) {
+            writer.name("threshold").value(threshold);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.media;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PlayerEventsAddedEvent {
+public class PlayerEventsAddedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -18,5 +18,38 @@ public class PlayerEventsAddedEvent {
     private java.util.List<jpuppeteer.cdp.cdp.entity.media.PlayerEvent> events;
 
 
+    public static PlayerEventsAddedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PlayerEventsAddedEvent object = new PlayerEventsAddedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "playerId":
+                    object.playerId = reader.nextString();
+                    break;
+                case "events":
+                    object.events = reader.nextList(jpuppeteer.cdp.cdp.entity.media.PlayerEvent::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (playerId != null) {
+            writer.name("playerId").value(playerId);
+        }
+        if (events != null) {
+            writer.name("events").value(events);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.media;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PlayerPropertiesChangedEvent {
+public class PlayerPropertiesChangedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -18,5 +18,38 @@ public class PlayerPropertiesChangedEvent {
     private java.util.List<jpuppeteer.cdp.cdp.entity.media.PlayerProperty> properties;
 
 
+    public static PlayerPropertiesChangedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PlayerPropertiesChangedEvent object = new PlayerPropertiesChangedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "playerId":
+                    object.playerId = reader.nextString();
+                    break;
+                case "properties":
+                    object.properties = reader.nextList(jpuppeteer.cdp.cdp.entity.media.PlayerProperty::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (playerId != null) {
+            writer.name("playerId").value(playerId);
+        }
+        if (properties != null) {
+            writer.name("properties").value(properties);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,12 +7,39 @@ package jpuppeteer.cdp.cdp.entity.media;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PlayersCreatedEvent {
+public class PlayersCreatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private java.util.List<String> players;
 
 
+    public static PlayersCreatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PlayersCreatedEvent object = new PlayersCreatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "players":
+                    object.players = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (players != null) {
+            writer.name("players").value(players);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
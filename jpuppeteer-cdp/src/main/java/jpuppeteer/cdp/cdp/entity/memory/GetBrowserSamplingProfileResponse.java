@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.memory;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetBrowserSamplingProfileResponse {
+public class GetBrowserSamplingProfileResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private jpuppeteer.cdp.cdp.entity.memory.SamplingProfile profile;
 
 
+    public static GetBrowserSamplingProfileResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetBrowserSamplingProfileResponse object = new GetBrowserSamplingProfileResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "profile":
+                    object.profile = jpuppeteer.cdp.cdp.entity.memory.SamplingProfile.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (profile != null) {
+            writer.name("profile").value(profile);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
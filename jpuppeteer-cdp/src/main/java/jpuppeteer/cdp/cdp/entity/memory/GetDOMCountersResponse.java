@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.memory;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetDOMCountersResponse {
+public class GetDOMCountersResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -21,5 +21,44 @@ public class GetDOMCountersResponse {
     private Integer jsEventListeners;
 
 
+    public static GetDOMCountersResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetDOMCountersResponse object = new GetDOMCountersResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "documents":
+                    object.documents = reader.nextInteger();
+                    break;
+                case "nodes":
+                    object.nodes = reader.nextInteger();
+                    break;
+                case "jsEventListeners":
+                    object.jsEventListeners = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (documents != null) {
+            writer.name("documents").value(documents);
+        }
+        if (nodes != null) {
+            writer.name("nodes").value(nodes);
+        }
+        if (jsEventListeners != null) {
+            writer.name("jsEventListeners").value(jsEventListeners);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
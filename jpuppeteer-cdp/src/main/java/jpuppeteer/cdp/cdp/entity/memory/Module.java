@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.memory;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Module {
+public class Module implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Name of the module.
@@ -30,5 +30,50 @@ public class Module {
     private Double size;
 
 
+    public static Module decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Module object = new Module();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "uuid":
+                    object.uuid = reader.nextString();
+                    break;
+                case "baseAddress":
+                    object.baseAddress = reader.nextString();
+                    break;
+                case "size":
+                    object.size = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (uuid != null) {
+            writer.name("uuid").value(uuid);
+        }
+        if (baseAddress != null) {
+            writer.name("baseAddress").value(baseAddress);
+        }
+        if (size != null) {
+            writer.name("size").value(size);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.memory;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SamplingProfile {
+public class SamplingProfile implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -18,5 +18,38 @@ public class SamplingProfile {
     private java.util.List<jpuppeteer.cdp.cdp.entity.memory.Module> modules;
 
 
+    public static SamplingProfile decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SamplingProfile object = new SamplingProfile();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "samples":
+                    object.samples = reader.nextList(jpuppeteer.cdp.cdp.entity.memory.SamplingProfileNode::decode);
+                    break;
+                case "modules":
+                    object.modules = reader.nextList(jpuppeteer.cdp.cdp.entity.memory.Module::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (samples != null) {
+            writer.name("samples").value(samples);
+        }
+        if (modules != null) {
+            writer.name("modules").value(modules);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.memory;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SamplingProfileNode {
+public class SamplingProfileNode implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Size of the sampled allocation.
@@ -25,5 +25,44 @@ public class SamplingProfileNode {
     private java.util.List<String> stack;
 
 
+    public static SamplingProfileNode decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SamplingProfileNode object = new SamplingProfileNode();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "size":
+                    object.size = reader.nextDouble();
+                    break;
+                case "total":
+                    object.total = reader.nextDouble();
+                    break;
+                case "stack":
+                    object.stack = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (size != null) {
+            writer.name("size").value(size);
+        }
+        if (total != null) {
+            writer.name("total").value(total);
+        }
+        if (stack != null) {
+            writer.name("stack").value(stack);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
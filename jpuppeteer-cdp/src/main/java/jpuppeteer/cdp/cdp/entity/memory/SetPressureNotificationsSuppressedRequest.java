@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.memory;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetPressureNotificationsSuppressedRequest {
+public class SetPressureNotificationsSuppressedRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * If true, memory pressure notifications will be suppressed.
@@ -14,5 +14,32 @@ public class SetPressureNotificationsSuppressedRequest {
     private Boolean suppressed;
 
 
+    public static SetPressureNotificationsSuppressedRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetPressureNotificationsSuppressedRequest object = new SetPressureNotificationsSuppressedRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "suppressed":
+                    object.suppressed = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (suppressed != null) {
+            writer.name("suppressed").value(suppressed);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.memory;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SimulatePressureNotificationRequest {
+public class SimulatePressureNotificationRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Memory pressure level of the notification.
@@ -14,5 +14,32 @@ public class SimulatePressureNotificationRequest {
     private String level;
 
 
+    public static SimulatePressureNotificationRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SimulatePressureNotificationRequest object = new SimulatePressureNotificationRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "level":
+                    object.level = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (level != null) {
+            writer.name("level").value(level);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
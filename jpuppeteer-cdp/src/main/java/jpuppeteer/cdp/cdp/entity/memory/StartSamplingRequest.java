@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.memory;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StartSamplingRequest {
+public class StartSamplingRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Average number of bytes between samples.
@@ -19,5 +19,38 @@ public class StartSamplingRequest {
     private Boolean suppressRandomness;
 
 
+    public static StartSamplingRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StartSamplingRequest object = new StartSamplingRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "samplingInterval":
+                    object.samplingInterval = reader.nextInteger();
+                    break;
+                case "suppressRandomness":
+                    object.suppressRandomness = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (samplingInterval != null) {
+            writer.name("samplingInterval").value(samplingInterval);
+        }
+        if (suppressRandomness != null) {
+            writer.name("suppressRandomness").value(suppressRandomness);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
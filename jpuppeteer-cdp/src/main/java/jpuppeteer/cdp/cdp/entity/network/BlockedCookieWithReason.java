@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class BlockedCookieWithReason {
+public class BlockedCookieWithReason implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The reason(s) the cookie was blocked.
@@ -19,5 +19,38 @@ public class BlockedCookieWithReason {
     private jpuppeteer.cdp.cdp.entity.network.Cookie cookie;
 
 
+    public static BlockedCookieWithReason decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        BlockedCookieWithReason object = new BlockedCookieWithReason();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "blockedReasons":
+                    object.blockedReasons = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "cookie":
+                    object.cookie = jpuppeteer.cdp.cdp.entity.network.Cookie.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (blockedReasons != null) {
+            writer.name("blockedReasons").value(blockedReasons);
+        }
+        if (cookie != null) {
+            writer.name("cookie").value(cookie);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class BlockedSetCookieWithReason {
+public class BlockedSetCookieWithReason implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The reason(s) this cookie was blocked.
@@ -24,5 +24,44 @@ public class BlockedSetCookieWithReason {
     private jpuppeteer.cdp.cdp.entity.network.Cookie cookie;
 
 
+    public static BlockedSetCookieWithReason decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        BlockedSetCookieWithReason object = new BlockedSetCookieWithReason();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "blockedReasons":
+                    object.blockedReasons = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "cookieLine":
+                    object.cookieLine = reader.nextString();
+                    break;
+                case "cookie":
+                    object.cookie = jpuppeteer.cdp.cdp.entity.network.Cookie.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (blockedReasons != null) {
+            writer.name("blockedReasons").value(blockedReasons);
+        }
+        if (cookieLine != null) {
+            writer.name("cookieLine").value(cookieLine);
+        }
+        if (cookie != null) {
+            writer.name("cookie").value(cookie);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CachedResource {
+public class CachedResource implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Resource URL. This is the url of the original network request.
@@ -29,5 +29,50 @@ public class CachedResource {
     private Double bodySize;
 
 
+    public static CachedResource decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CachedResource object = new CachedResource();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "response":
+                    object.response = jpuppeteer.cdp.cdp.entity.network.Response.decode(reader);
+                    break;
+                case "bodySize":
+                    object.bodySize = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (response != null) {
+            writer.name("response").value(response);
+        }
+        if (bodySize != null) {
+            writer.name("bodySize").value(bodySize);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
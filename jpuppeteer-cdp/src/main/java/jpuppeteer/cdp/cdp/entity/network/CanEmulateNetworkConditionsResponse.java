@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CanEmulateNetworkConditionsResponse {
+public class CanEmulateNetworkConditionsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * True if emulation of network conditions is supported.
@@ -13,5 +13,32 @@ public class CanEmulateNetworkConditionsResponse {
     private Boolean result;
 
 
+    public static CanEmulateNetworkConditionsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CanEmulateNetworkConditionsResponse object = new CanEmulateNetworkConditionsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "result":
+                    object.result = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (result != null) {
+            writer.name("result").value(result);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ContinueInterceptedRequestRequest {
+public class ContinueInterceptedRequestRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -47,5 +47,74 @@ public class ContinueInterceptedRequestRequest {
     private jpuppeteer.cdp.cdp.entity.network.AuthChallengeResponse authChallengeResponse;
 
 
+    public static ContinueInterceptedRequestRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ContinueInterceptedRequestRequest object = new ContinueInterceptedRequestRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "interceptionId":
+                    object.interceptionId = reader.nextString();
+                    break;
+                case "errorReason":
+                    object.errorReason = reader.nextString();
+                    break;
+                case "rawResponse":
+                    object.rawResponse = reader.nextString();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "method":
+                    object.method = reader.nextString();
+                    break;
+                case "postData":
+                    object.postData = reader.nextString();
+                    break;
+                case "headers":
+                    object.headers = reader.nextMap();
+                    break;
+                case "authChallengeResponse":
+                    object.authChallengeResponse = jpuppeteer.cdp.cdp.entity.network.AuthChallengeResponse.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (interceptionId != null) {
+            writer.name("interceptionId").value(interceptionId);
+        }
+        if (errorReason != null) {
+            writer.name("errorReason").value(errorReason);
+        }
+        if (rawResponse != null) {
+            writer.name("rawResponse").value(rawResponse);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (method != null) {
+            writer.name("method").value(method);
+        }
+        if (postData != null) {
+            writer.name("postData").value(postData);
+        }
+        if (headers != null) {
+            writer.name("headers").value(headers);
+        }
+        if (authChallengeResponse != null) {
+            writer.name("authChallengeResponse").value(authChallengeResponse);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Cookie {
+public class Cookie implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Cookie name.
@@ -64,5 +64,92 @@ public class Cookie {
     private String priority;
 
 
+    public static Cookie decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Cookie object = new Cookie();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "value":
+                    object.value = reader.nextString();
+                    break;
+                case "domain":
+                    object.domain = reader.nextString();
+                    break;
+                case "path":
+                    object.path = reader.nextString();
+                    break;
+                case "expires":
+                    object.expires = reader.nextDouble();
+                    break;
+                case "size":
+                    object.size = reader.nextInteger();
+                    break;
+                case "httpOnly":
+                    object.httpOnly = reader.nextBoolean();
+                    break;
+                case "secure":
+                    object.secure = reader.nextBoolean();
+                    break;
+                case "session":
+                    object.session = reader.nextBoolean();
+                    break;
+                case "sameSite":
+                    object.sameSite = reader.nextString();
+                    break;
+                case "priority":
+                    object.priority = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        if (domain != null) {
+            writer.name("domain").value(domain);
+        }
+        if (path != null) {
+            writer.name("path").value(path);
+        }
+        if (expires != null) {
+            writer.name("expires").value(expires);
+        }
+        if (size != null) {
+            writer.name("size").value(size);
+        }
+        if (httpOnly != null) {
+            writer.name("httpOnly").value(httpOnly);
+        }
+        if (secure != null) {
+            writer.name("secure").value(secure);
+        }
+        if (session != null) {
+            writer.name("session").value(session);
+        }
+        if (sameSite != null) {
+            writer.name("sameSite").value(sameSite);
+        }
+        if (priority != null) {
+            writer.name("priority").value(priority);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DataReceivedEvent {
+public class DataReceivedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Request identifier.
@@ -29,5 +29,50 @@ public class DataReceivedEvent {
     private Integer encodedDataLength;
 
 
+    public static DataReceivedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DataReceivedEvent object = new DataReceivedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                case "dataLength":
+                    object.dataLength = reader.nextInteger();
+                    break;
+                case "encodedDataLength":
+                    object.encodedDataLength = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        if (dataLength != null) {
+            writer.name("dataLength").value(dataLength);
+        }
+        if (encodedDataLength != null) {
+            writer.name("encodedDataLength").value(encodedDataLength);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
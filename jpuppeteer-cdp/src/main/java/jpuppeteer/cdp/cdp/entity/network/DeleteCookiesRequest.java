@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DeleteCookiesRequest {
+public class DeleteCookiesRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Name of the cookies to remove.
@@ -28,5 +28,50 @@ public class DeleteCookiesRequest {
     private String path;
 
 
+    public static DeleteCookiesRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DeleteCookiesRequest object = new DeleteCookiesRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "domain":
+                    object.domain = reader.nextString();
+                    break;
+                case "path":
+                    object.path = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (domain != null) {
+            writer.name("domain").value(domain);
+        }
+        if (path != null) {
+            writer.name("path").value(path);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
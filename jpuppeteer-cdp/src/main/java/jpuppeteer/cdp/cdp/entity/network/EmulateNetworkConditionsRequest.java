@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class EmulateNetworkConditionsRequest {
+public class EmulateNetworkConditionsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * True to emulate internet disconnection.
@@ -33,5 +33,56 @@ public class EmulateNetworkConditionsRequest {
     private String connectionType;
 
 
+    public static EmulateNetworkConditionsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        EmulateNetworkConditionsRequest object = new EmulateNetworkConditionsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "offline":
+                    object.offline = reader.nextBoolean();
+                    break;
+                case "latency":
+                    object.latency = reader.nextDouble();
+                    break;
+                case "downloadThroughput":
+                    object.downloadThroughput = reader.nextDouble();
+                    break;
+                case "uploadThroughput":
+                    object.uploadThroughput = reader.nextDouble();
+                    break;
+                case "connectionType":
+                    object.connectionType = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (offline != null) {
+            writer.name("offline").value(offline);
+        }
+        if (latency != null) {
+            writer.name("latency").value(latency);
+        }
+        if (downloadThroughput != null) {
+            writer.name("downloadThroughput").value(downloadThroughput);
+        }
+        if (uploadThroughput != null) {
+            writer.name("uploadThroughput").value(uploadThroughput);
+        }
+        if (connectionType != null) {
+            writer.name("connectionType").value(connectionType);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class EnableRequest {
+public class EnableRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Buffer size in bytes to use when preserving network payloads (XHRs, etc).
@@ -23,5 +23,44 @@ public class EnableRequest {
     private Integer maxPostDataSize;
 
 
+    public static EnableRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        EnableRequest object = new EnableRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "maxTotalBufferSize":
+                    object.maxTotalBufferSize = reader.nextInteger();
+                    break;
+                case "maxResourceBufferSize":
+                    object.maxResourceBufferSize = reader.nextInteger();
+                    break;
+                case "maxPostDataSize":
+                    object.maxPostDataSize = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (maxTotalBufferSize != null) {
+            writer.name("maxTotalBufferSize").value(maxTotalBufferSize);
+        }
+        if (maxResourceBufferSize != null) {
+            writer.name("maxResourceBufferSize").value(maxResourceBufferSize);
+        }
+        if (maxPostDataSize != null) {
+            writer.name("maxPostDataSize").value(maxPostDataSize);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
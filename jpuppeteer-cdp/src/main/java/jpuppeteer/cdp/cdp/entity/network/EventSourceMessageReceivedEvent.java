@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class EventSourceMessageReceivedEvent {
+public class EventSourceMessageReceivedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Request identifier.
@@ -34,5 +34,56 @@ public class EventSourceMessageReceivedEvent {
     private String data;
 
 
+    public static EventSourceMessageReceivedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        EventSourceMessageReceivedEvent object = new EventSourceMessageReceivedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                case "eventName":
+                    object.eventName = reader.nextString();
+                    break;
+                case "eventId":
+                    object.eventId = reader.nextString();
+                    break;
+                case "data":
+                    object.data = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        if (eventName != null) {
+            writer.name("eventName").value(eventName);
+        }
+        if (eventId != null) {
+            writer.name("eventId").value(eventId);
+        }
+        if (data != null) {
+            writer.name("data").value(data);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
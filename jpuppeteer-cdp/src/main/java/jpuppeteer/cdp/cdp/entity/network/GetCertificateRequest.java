@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetCertificateRequest {
+public class GetCertificateRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Origin to get certificate for.
@@ -13,5 +13,32 @@ public class GetCertificateRequest {
     private String origin;
 
 
+    public static GetCertificateRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetCertificateRequest object = new GetCertificateRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "origin":
+                    object.origin = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (origin != null) {
+            writer.name("origin").value(origin);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
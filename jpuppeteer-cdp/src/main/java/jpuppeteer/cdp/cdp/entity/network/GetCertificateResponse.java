@@ -5,12 +5,39 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetCertificateResponse {
+public class GetCertificateResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private java.util.List<String> tableNames;
 
 
+    public static GetCertificateResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetCertificateResponse object = new GetCertificateResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "tableNames":
+                    object.tableNames = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (tableNames != null) {
+            writer.name("tableNames").value(tableNames);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetCookiesRequest {
+public class GetCookiesRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The list of URLs for which applicable cookies will be fetched
@@ -13,5 +13,32 @@ public class GetCookiesRequest {
     private java.util.List<String> urls;
 
 
+    public static GetCookiesRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetCookiesRequest object = new GetCookiesRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "urls":
+                    object.urls = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (urls != null) {
+            writer.name("urls").value(urls);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
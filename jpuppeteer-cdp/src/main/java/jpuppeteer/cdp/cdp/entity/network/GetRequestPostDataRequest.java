@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetRequestPostDataRequest {
+public class GetRequestPostDataRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the network request to get content for.
@@ -13,5 +13,32 @@ public class GetRequestPostDataRequest {
     private String requestId;
 
 
+    public static GetRequestPostDataRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetRequestPostDataRequest object = new GetRequestPostDataRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetRequestPostDataResponse {
+public class GetRequestPostDataResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Request body string, omitting files from multipart requests
@@ -13,5 +13,32 @@ public class GetRequestPostDataResponse {
     private String postData;
 
 
+    public static GetRequestPostDataResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetRequestPostDataResponse object = new GetRequestPostDataResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "postData":
+                    object.postData = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (postData != null) {
+            writer.name("postData").value(postData);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetResponseBodyForInterceptionRequest {
+public class GetResponseBodyForInterceptionRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier for the intercepted request to get body for.
@@ -13,5 +13,32 @@ public class GetResponseBodyForInterceptionRequest {
     private String interceptionId;
 
 
+    public static GetResponseBodyForInterceptionRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetResponseBodyForInterceptionRequest object = new GetResponseBodyForInterceptionRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "interceptionId":
+                    object.interceptionId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (interceptionId != null) {
+            writer.name("interceptionId").value(interceptionId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetResponseBodyResponse {
+public class GetResponseBodyResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Response body.
@@ -18,5 +18,38 @@ public class GetResponseBodyResponse {
     private Boolean base64Encoded;
 
 
+    public static GetResponseBodyResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetResponseBodyResponse object = new GetResponseBodyResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "body":
+                    object.body = reader.nextString();
+                    break;
+                case "base64Encoded":
+                    object.base64Encoded = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (body != null) {
+            writer.name("body").value(body);
+        }
+        if (base64Encoded != null) {
+            writer.name("base64Encoded").value(base64Encoded);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Initiator {
+public class Initiator implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Type of this initiator.
@@ -29,5 +29,50 @@ public class Initiator {
     private Double lineNumber;
 
 
+    public static Initiator decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Initiator object = new Initiator();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "stack":
+                    object.stack = jpuppeteer.cdp.cdp.entity.runtime.StackTrace.decode(reader);
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "lineNumber":
+                    object.lineNumber = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (stack != null) {
+            writer.name("stack").value(stack);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (lineNumber != null) {
+            writer.name("lineNumber").value(lineNumber);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
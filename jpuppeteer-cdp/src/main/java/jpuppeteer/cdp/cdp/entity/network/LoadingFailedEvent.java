@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class LoadingFailedEvent {
+public class LoadingFailedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Request identifier.
@@ -39,5 +39,62 @@ public class LoadingFailedEvent {
     private String blockedReason;
 
 
+    public static LoadingFailedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        LoadingFailedEvent object = new LoadingFailedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "errorText":
+                    object.errorText = reader.nextString();
+                    break;
+                case "canceled":
+                    object.canceled = reader.nextBoolean();
+                    break;
+                case "blockedReason":
+                    object.blockedReason = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (errorText != null) {
+            writer.name("errorText").value(errorText);
+        }
+        if (canceled != null) {
+            writer.name("canceled").value(canceled);
+        }
+        if (blockedReason != null) {
+            writer.name("blockedReason").value(blockedReason);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
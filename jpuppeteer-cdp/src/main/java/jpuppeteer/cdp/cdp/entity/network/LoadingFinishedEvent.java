@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class LoadingFinishedEvent {
+public class LoadingFinishedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Request identifier.
@@ -29,5 +29,50 @@ public class LoadingFinishedEvent {
     private Boolean shouldReportCorbBlocking;
 
 
+    public static LoadingFinishedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        LoadingFinishedEvent object = new LoadingFinishedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                case "encodedDataLength":
+                    object.encodedDataLength = reader.nextDouble();
+                    break;
+                case "shouldReportCorbBlocking":
+                    object.shouldReportCorbBlocking = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        if (encodedDataLength != null) {
+            writer.name("encodedDataLength").value(encodedDataLength);
+        }
+        if (shouldReportCorbBlocking != null) {
+            writer.name("shouldReportCorbBlocking").value(shouldReportCorbBlocking);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ReplayXHRRequest {
+public class ReplayXHRRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of XHR to replay.
@@ -13,5 +13,32 @@ public class ReplayXHRRequest {
     private String requestId;
 
 
+    public static ReplayXHRRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ReplayXHRRequest object = new ReplayXHRRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Request {
+public class Request implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Request URL (without fragment).
@@ -59,5 +59,86 @@ public class Request {
     private Boolean isLinkPreload;
 
 
+    public static Request decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Request object = new Request();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "urlFragment":
+                    object.urlFragment = reader.nextString();
+                    break;
+                case "method":
+                    object.method = reader.nextString();
+                    break;
+                case "headers":
+                    object.headers = reader.nextMap();
+                    break;
+                case "postData":
+                    object.postData = reader.nextString();
+                    break;
+                case "hasPostData":
+                    object.hasPostData = reader.nextBoolean();
+                    break;
+                case "mixedContentType":
+                    object.mixedContentType = reader.nextString();
+                    break;
+                case "initialPriority":
+                    object.initialPriority = reader.nextString();
+                    break;
+                case "referrerPolicy":
+                    object.referrerPolicy = reader.nextString();
+                    break;
+                case "isLinkPreload":
+                    object.isLinkPreload = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (urlFragment != null) {
+            writer.name("urlFragment").value(urlFragment);
+        }
+        if (method != null) {
+            writer.name("method").value(method);
+        }
+        if (headers != null) {
+            writer.name("headers").value(headers);
+        }
+        if (postData != null) {
+            writer.name("postData").value(postData);
+        }
+        if (hasPostData != null) {
+            writer.name("hasPostData").value(hasPostData);
+        }
+        if (mixedContentType != null) {
+            writer.name("mixedContentType").value(mixedContentType);
+        }
+        if (initialPriority != null) {
+            writer.name("initialPriority").value(initialPriority);
+        }
+        if (referrerPolicy != null) {
+            writer.name("referrerPolicy").value(referrerPolicy);
+        }
+        if (isLinkPreload != null) {
+            writer.name("isLinkPreload").value(isLinkPreload);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RequestInterceptedEvent {
+public class RequestInterceptedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Each request the page makes will have a unique id, however if any redirects are encountered while processing that fetch, they will be reported with the same id as the original fetch. Likewise if HTTP authentication is needed then the same fetch id will be used.
@@ -68,5 +68,98 @@ public class RequestInterceptedEvent {
     private String requestId;
 
 
+    public static RequestInterceptedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RequestInterceptedEvent object = new RequestInterceptedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "interceptionId":
+                    object.interceptionId = reader.nextString();
+                    break;
+                case "request":
+                    object.request = jpuppeteer.cdp.cdp.entity.network.Request.decode(reader);
+                    break;
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                case "resourceType":
+                    object.resourceType = reader.nextString();
+                    break;
+                case "isNavigationRequest":
+                    object.isNavigationRequest = reader.nextBoolean();
+                    break;
+                case "isDownload":
+                    object.isDownload = reader.nextBoolean();
+                    break;
+                case "redirectUrl":
+                    object.redirectUrl = reader.nextString();
+                    break;
+                case "authChallenge":
+                    object.authChallenge = jpuppeteer.cdp.cdp.entity.network.AuthChallenge.decode(reader);
+                    break;
+                case "responseErrorReason":
+                    object.responseErrorReason = reader.nextString();
+                    break;
+                case "responseStatusCode":
+                    object.responseStatusCode = reader.nextInteger();
+                    break;
+                case "responseHeaders":
+                    object.responseHeaders = reader.nextMap();
+                    break;
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (interceptionId != null) {
+            writer.name("interceptionId").value(interceptionId);
+        }
+        if (request != null) {
+            writer.name("request").value(request);
+        }
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (resourceType != null) {
+            writer.name("resourceType").value(resourceType);
+        }
+        if (isNavigationRequest != null) {
+            writer.name("isNavigationRequest").value(isNavigationRequest);
+        }
+        if (isDownload != null) {
+            writer.name("isDownload").value(isDownload);
+        }
+        if (redirectUrl != null) {
+            writer.name("redirectUrl").value(redirectUrl);
+        }
+        if (authChallenge != null) {
+            writer.name("authChallenge").value(authChallenge);
+        }
+        if (responseErrorReason != null) {
+            writer.name("responseErrorReason").value(responseErrorReason);
+        }
+        if (responseStatusCode != null) {
+            writer.name("responseStatusCode").value(responseStatusCode);
+        }
+        if (responseHeaders != null) {
+            writer.name("responseHeaders").value(responseHeaders);
+        }
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
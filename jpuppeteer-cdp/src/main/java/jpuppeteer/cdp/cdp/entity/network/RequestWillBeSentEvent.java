@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RequestWillBeSentEvent {
+public class RequestWillBeSentEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Request identifier.
@@ -64,5 +64,92 @@ public class RequestWillBeSentEvent {
     private Boolean hasUserGesture;
 
 
+    public static RequestWillBeSentEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RequestWillBeSentEvent object = new RequestWillBeSentEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "loaderId":
+                    object.loaderId = reader.nextString();
+                    break;
+                case "documentURL":
+                    object.documentURL = reader.nextString();
+                    break;
+                case "request":
+                    object.request = jpuppeteer.cdp.cdp.entity.network.Request.decode(reader);
+                    break;
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                case "wallTime":
+                    object.wallTime = reader.nextDouble();
+                    break;
+                case "initiator":
+                    object.initiator = jpuppeteer.cdp.cdp.entity.network.Initiator.decode(reader);
+                    break;
+                case "redirectResponse":
+                    object.redirectResponse = jpuppeteer.cdp.cdp.entity.network.Response.decode(reader);
+                    break;
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                case "hasUserGesture":
+                    object.hasUserGesture = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (loaderId != null) {
+            writer.name("loaderId").value(loaderId);
+        }
+        if (documentURL != null) {
+            writer.name("documentURL").value(documentURL);
+        }
+        if (request != null) {
+            writer.name("request").value(request);
+        }
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        if (wallTime != null) {
+            writer.name("wallTime").value(wallTime);
+        }
+        if (initiator != null) {
+            writer.name("initiator").value(initiator);
+        }
+        if (redirectResponse != null) {
+            writer.name("redirectResponse").value(redirectResponse);
+        }
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (hasUserGesture != null) {
+            writer.name("hasUserGesture").value(hasUserGesture);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RequestWillBeSentExtraInfoEvent {
+public class RequestWillBeSentExtraInfoEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Request identifier. Used to match this information to an existing requestWillBeSent event.
@@ -24,5 +24,44 @@ public class RequestWillBeSentExtraInfoEvent {
     private java.util.Map<String, Object> headers;
 
 
+    public static RequestWillBeSentExtraInfoEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RequestWillBeSentExtraInfoEvent object = new RequestWillBeSentExtraInfoEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "blockedCookies":
+                    object.blockedCookies = reader.nextList(jpuppeteer.cdp.cdp.entity.network.BlockedCookieWithReason::decode);
+                    break;
+                case "headers":
+                    object.headers = reader.nextMap();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (blockedCookies != null) {
+            writer.name("blockedCookies").value(blockedCookies);
+        }
+        if (headers != null) {
+            writer.name("headers").value(headers);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
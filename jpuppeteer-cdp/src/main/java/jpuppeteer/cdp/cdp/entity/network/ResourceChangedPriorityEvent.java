@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ResourceChangedPriorityEvent {
+public class ResourceChangedPriorityEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Request identifier.
@@ -24,5 +24,44 @@ public class ResourceChangedPriorityEvent {
     private Double timestamp;
 
 
+    public static ResourceChangedPriorityEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ResourceChangedPriorityEvent object = new ResourceChangedPriorityEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "newPriority":
+                    object.newPriority = reader.nextString();
+                    break;
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (newPriority != null) {
+            writer.name("newPriority").value(newPriority);
+        }
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ResourceTiming {
+public class ResourceTiming implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Timing's requestTime is a baseline in seconds, while the other numbers are ticks in milliseconds relatively to this requestTime.
@@ -89,5 +89,122 @@ public class ResourceTiming {
     private Double receiveHeadersEnd;
 
 
+    public static ResourceTiming decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ResourceTiming object = new ResourceTiming();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestTime":
+                    object.requestTime = reader.nextDouble();
+                    break;
+                case "proxyStart":
+                    object.proxyStart = reader.nextDouble();
+                    break;
+                case "proxyEnd":
+                    object.proxyEnd = reader.nextDouble();
+                    break;
+                case "dnsStart":
+                    object.dnsStart = reader.nextDouble();
+                    break;
+                case "dnsEnd":
+                    object.dnsEnd = reader.nextDouble();
+                    break;
+                case "connectStart":
+                    object.connectStart = reader.nextDouble();
+                    break;
+                case "connectEnd":
+                    object.connectEnd = reader.nextDouble();
+                    break;
+                case "sslStart":
+                    object.sslStart = reader.nextDouble();
+                    break;
+                case "sslEnd":
+                    object.sslEnd = reader.nextDouble();
+                    break;
+                case "workerStart":
+                    object.workerStart = reader.nextDouble();
+                    break;
+                case "workerReady":
+                    object.workerReady = reader.nextDouble();
+                    break;
+                case "sendStart":
+                    object.sendStart = reader.nextDouble();
+                    break;
+                case "sendEnd":
+                    object.sendEnd = reader.nextDouble();
+                    break;
+                case "pushStart":
+                    object.pushStart = reader.nextDouble();
+                    break;
+                case "pushEnd":
+                    object.pushEnd = reader.nextDouble();
+                    break;
+                case "receiveHeadersEnd":
+                    object.receiveHeadersEnd = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestTime != null) {
+            writer.name("requestTime").value(requestTime);
+        }
+        if (proxyStart != null) {
+            writer.name("proxyStart").value(proxyStart);
+        }
+        if (proxyEnd != null) {
+            writer.name("proxyEnd").value(proxyEnd);
+        }
+        if (dnsStart != null) {
+            writer.name("dnsStart").value(dnsStart);
+        }
+        if (dnsEnd != null) {
+            writer.name("dnsEnd").value(dnsEnd);
+        }
+        if (connectStart != null) {
+            writer.name("connectStart").value(connectStart);
+        }
+        if (connectEnd != null) {
+            writer.name("connectEnd").value(connectEnd);
+        }
+        if (sslStart != null) {
+            writer.name("sslStart").value(sslStart);
+        }
+        if (sslEnd != null) {
+            writer.name("sslEnd").value(sslEnd);
+        }
+        if (workerStart != null) {
+            writer.name("workerStart").value(workerStart);
+        }
+        if (workerReady != null) {
+            writer.name("workerReady").value(workerReady);
+        }
+        if (sendStart != null) {
+            writer.name("sendStart").value(sendStart);
+        }
+        if (sendEnd != null) {
+            writer.name("sendEnd").value(sendEnd);
+        }
+        if (pushStart != null) {
+            writer.name("pushStart").value(pushStart);
+        }
+        if (pushEnd != null) {
+            writer.name("pushEnd").value(pushEnd);
+        }
+        if (receiveHeadersEnd != null) {
+            writer.name("receiveHeadersEnd").value(receiveHeadersEnd);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
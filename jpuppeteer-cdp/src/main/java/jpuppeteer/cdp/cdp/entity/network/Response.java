@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Response {
+public class Response implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Response URL. This URL can be different from CachedResource.url in case of redirect.
@@ -109,5 +109,146 @@ public class Response {
     private jpuppeteer.cdp.cdp.entity.network.SecurityDetails securityDetails;
 
 
+    public static Response decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Response object = new Response();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "status":
+                    object.status = reader.nextInteger();
+                    break;
+                case "statusText":
+                    object.statusText = reader.nextString();
+                    break;
+                case "headers":
+                    object.headers = reader.nextMap();
+                    break;
+                case "headersText":
+                    object.headersText = reader.nextString();
+                    break;
+                case "mimeType":
+                    object.mimeType = reader.nextString();
+                    break;
+                case "requestHeaders":
+                    object.requestHeaders = reader.nextMap();
+                    break;
+                case "requestHeadersText":
+                    object.requestHeadersText = reader.nextString();
+                    break;
+                case "connectionReused":
+                    object.connectionReused = reader.nextBoolean();
+                    break;
+                case "connectionId":
+                    object.connectionId = reader.nextDouble();
+                    break;
+                case "remoteIPAddress":
+                    object.remoteIPAddress = reader.nextString();
+                    break;
+                case "remotePort":
+                    object.remotePort = reader.nextInteger();
+                    break;
+                case "fromDiskCache":
+                    object.fromDiskCache = reader.nextBoolean();
+                    break;
+                case "fromServiceWorker":
+                    object.fromServiceWorker = reader.nextBoolean();
+                    break;
+                case "fromPrefetchCache":
+                    object.fromPrefetchCache = reader.nextBoolean();
+                    break;
+                case "encodedDataLength":
+                    object.encodedDataLength = reader.nextDouble();
+                    break;
+                case "timing":
+                    object.timing = jpuppeteer.cdp.cdp.entity.network.ResourceTiming.decode(reader);
+                    break;
+                case "protocol":
+                    object.protocol = reader.nextString();
+                    break;
+                case "securityState":
+                    object.securityState = reader.nextString();
+                    break;
+                case "securityDetails":
+                    object.securityDetails = jpuppeteer.cdp.cdp.entity.network.SecurityDetails.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (status != null) {
+            writer.name("status").value(status);
+        }
+        if (statusText != null) {
+            writer.name("statusText").value(statusText);
+        }
+        if (headers != null) {
+            writer.name("headers").value(headers);
+        }
+        if (headersText != null) {
+            writer.name("headersText").value(headersText);
+        }
+        if (mimeType != null) {
+            writer.name("mimeType").value(mimeType);
+        }
+        if (requestHeaders != null) {
+            writer.name("requestHeaders").value(requestHeaders);
+        }
+        if (requestHeadersText != null) {
+            writer.name("requestHeadersText").value(requestHeadersText);
+        }
+        if (connectionReused != null) {
+            writer.name("connectionReused").value(connectionReused);
+        }
+        if (connectionId != null) {
+            writer.name("connectionId").value(connectionId);
+        }
+        if (remoteIPAddress != null) {
+            writer.name("remoteIPAddress").value(remoteIPAddress);
+        }
+        if (remotePort != null) {
+            writer.name("remotePort").value(remotePort);
+        }
+        if (fromDiskCache != null) {
+            writer.name("fromDiskCache").value(fromDiskCache);
+        }
+        if (fromServiceWorker != null) {
+            writer.name("fromServiceWorker").value(fromServiceWorker);
+        }
+        if (fromPrefetchCache != null) {
+            writer.name("fromPrefetchCache").value(fromPrefetchCache);
+        }
+        if (encodedDataLength != null) {
+            writer.name("encodedDataLength").value(encodedDataLength);
+        }
+        if (timing != null) {
+            writer.name("timing").value(timing);
+        }
+        if (protocol != null) {
+            writer.name("protocol").value(protocol);
+        }
+        if (securityState != null) {
+            writer.name("securityState").value(securityState);
+        }
+        if (securityDetails != null) {
+            writer.name("securityDetails").value(securityDetails);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ResponseReceivedEvent {
+public class ResponseReceivedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Request identifier.
@@ -39,5 +39,62 @@ public class ResponseReceivedEvent {
     private String frameId;
 
 
+    public static ResponseReceivedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ResponseReceivedEvent object = new ResponseReceivedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "loaderId":
+                    object.loaderId = reader.nextString();
+                    break;
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "response":
+                    object.response = jpuppeteer.cdp.cdp.entity.network.Response.decode(reader);
+                    break;
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (loaderId != null) {
+            writer.name("loaderId").value(loaderId);
+        }
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (response != null) {
+            writer.name("response").value(response);
+        }
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ResponseReceivedExtraInfoEvent {
+public class ResponseReceivedExtraInfoEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Request identifier. Used to match this information to another responseReceived event.
@@ -29,5 +29,50 @@ public class ResponseReceivedExtraInfoEvent {
     private String headersText;
 
 
+    public static ResponseReceivedExtraInfoEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ResponseReceivedExtraInfoEvent object = new ResponseReceivedExtraInfoEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "blockedCookies":
+                    object.blockedCookies = reader.nextList(jpuppeteer.cdp.cdp.entity.network.BlockedSetCookieWithReason::decode);
+                    break;
+                case "headers":
+                    object.headers = reader.nextMap();
+                    break;
+                case "headersText":
+                    object.headersText = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (blockedCookies != null) {
+            writer.name("blockedCookies").value(blockedCookies);
+        }
+        if (headers != null) {
+            writer.name("headers").value(headers);
+        }
+        if (headersText != null) {
+            writer.name("headersText").value(headersText);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SearchInResponseBodyRequest {
+public class SearchInResponseBodyRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the network response to search.
@@ -28,5 +28,50 @@ public class SearchInResponseBodyRequest {
     private Boolean isRegex;
 
 
+    public static SearchInResponseBodyRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SearchInResponseBodyRequest object = new SearchInResponseBodyRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "query":
+                    object.query = reader.nextString();
+                    break;
+                case "caseSensitive":
+                    object.caseSensitive = reader.nextBoolean();
+                    break;
+                case "isRegex":
+                    object.isRegex = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (query != null) {
+            writer.name("query").value(query);
+        }
+        if (caseSensitive != null) {
+            writer.name("caseSensitive").value(caseSensitive);
+        }
+        if (isRegex != null) {
+            writer.name("isRegex").value(isRegex);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SecurityDetails {
+public class SecurityDetails implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Protocol name (e.g. "TLS 1.2" or "QUIC").
@@ -74,5 +74,104 @@ public class SecurityDetails {
     private String certificateTransparencyCompliance;
 
 
+    public static SecurityDetails decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SecurityDetails object = new SecurityDetails();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "protocol":
+                    object.protocol = reader.nextString();
+                    break;
+                case "keyExchange":
+                    object.keyExchange = reader.nextString();
+                    break;
+                case "keyExchangeGroup":
+                    object.keyExchangeGroup = reader.nextString();
+                    break;
+                case "cipher":
+                    object.cipher = reader.nextString();
+                    break;
+                case "mac":
+                    object.mac = reader.nextString();
+                    break;
+                case "certificateId":
+                    object.certificateId = reader.nextInteger();
+                    break;
+                case "subjectName":
+                    object.subjectName = reader.nextString();
+                    break;
+                case "sanList":
+                    object.sanList = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "issuer":
+                    object.issuer = reader.nextString();
+                    break;
+                case "validFrom":
+                    object.validFrom = reader.nextDouble();
+                    break;
+                case "validTo":
+                    object.validTo = reader.nextDouble();
+                    break;
+                case "signedCertificateTimestampList":
+                    object.signedCertificateTimestampList = reader.nextList(jpuppeteer.cdp.cdp.entity.network.SignedCertificateTimestamp::decode);
+                    break;
+                case "certificateTransparencyCompliance":
+                    object.certificateTransparencyCompliance = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (protocol != null) {
+            writer.name("protocol").value(protocol);
+        }
+        if (keyExchange != null) {
+            writer.name("keyExchange").value(keyExchange);
+        }
+        if (keyExchangeGroup != null) {
+            writer.name("keyExchangeGroup").value(keyExchangeGroup);
+        }
+        if (cipher != null) {
+            writer.name("cipher").value(cipher);
+        }
+        if (mac != null) {
+            writer.name("mac").value(mac);
+        }
+        if (certificateId != null) {
+            writer.name("certificateId").value(certificateId);
+        }
+        if (subjectName != null) {
+            writer.name("subjectName").value(subjectName);
+        }
+        if (sanList != null) {
+            writer.name("sanList").value(sanList);
+        }
+        if (issuer != null) {
+            writer.name("issuer").value(issuer);
+        }
+        if (validFrom != null) {
+            writer.name("validFrom").value(validFrom);
+        }
+        if (validTo != null) {
+            writer.name("validTo").value(validTo);
+        }
+        if (signedCertificateTimestampList != null) {
+            writer.name("signedCertificateTimestampList").value(signedCertificateTimestampList);
+        }
+        if (certificateTransparencyCompliance != null) {
+            writer.name("certificateTransparencyCompliance").value(certificateTransparencyCompliance);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetBlockedURLsRequest {
+public class SetBlockedURLsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * URL patterns to block. Wildcards ('*') are allowed.
@@ -13,5 +13,32 @@ public class SetBlockedURLsRequest {
     private java.util.List<String> urls;
 
 
+    public static SetBlockedURLsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetBlockedURLsRequest object = new SetBlockedURLsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "urls":
+                    object.urls = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (urls != null) {
+            writer.name("urls").value(urls);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
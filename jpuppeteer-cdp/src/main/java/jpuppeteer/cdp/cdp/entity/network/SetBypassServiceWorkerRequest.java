@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetBypassServiceWorkerRequest {
+public class SetBypassServiceWorkerRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Bypass service worker and load from network.
@@ -13,5 +13,32 @@ public class SetBypassServiceWorkerRequest {
     private Boolean bypass;
 
 
+    public static SetBypassServiceWorkerRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetBypassServiceWorkerRequest object = new SetBypassServiceWorkerRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "bypass":
+                    object.bypass = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (bypass != null) {
+            writer.name("bypass").value(bypass);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
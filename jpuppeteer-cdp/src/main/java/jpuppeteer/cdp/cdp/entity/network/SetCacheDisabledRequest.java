@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetCacheDisabledRequest {
+public class SetCacheDisabledRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Cache disabled state.
@@ -13,5 +13,32 @@ public class SetCacheDisabledRequest {
     private Boolean cacheDisabled;
 
 
+    public static SetCacheDisabledRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetCacheDisabledRequest object = new SetCacheDisabledRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "cacheDisabled":
+                    object.cacheDisabled = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (cacheDisabled != null) {
+            writer.name("cacheDisabled").value(cacheDisabled);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
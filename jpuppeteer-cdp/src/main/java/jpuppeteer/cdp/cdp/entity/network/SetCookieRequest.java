@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetCookieRequest {
+public class SetCookieRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Cookie name.
@@ -58,5 +58,86 @@ public class SetCookieRequest {
     private String priority;
 
 
+    public static SetCookieRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetCookieRequest object = new SetCookieRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "value":
+                    object.value = reader.nextString();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "domain":
+                    object.domain = reader.nextString();
+                    break;
+                case "path":
+                    object.path = reader.nextString();
+                    break;
+                case "secure":
+                    object.secure = reader.nextBoolean();
+                    break;
+                case "httpOnly":
+                    object.httpOnly = reader.nextBoolean();
+                    break;
+                case "sameSite":
+                    object.sameSite = reader.nextString();
+                    break;
+                case "expires":
+                    object.expires = reader.nextDouble();
+                    break;
+                case "priority":
+                    object.priority = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (domain != null) {
+            writer.name("domain").value(domain);
+        }
+        if (path != null) {
+            writer.name("path").value(path);
+        }
+        if (secure != null) {
+            writer.name("secure").value(secure);
+        }
+        if (httpOnly != null) {
+            writer.name("httpOnly").value(httpOnly);
+        }
+        if (sameSite != null) {
+            writer.name("sameSite").value(sameSite);
+        }
+        if (expires != null) {
+            writer.name("expires").value(expires);
+        }
+        if (priority != null) {
+            writer.name("priority").value(priority);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetCookieResponse {
+public class SetCookieResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * True if successfully set cookie.
@@ -13,5 +13,32 @@ public class SetCookieResponse {
     private Boolean success;
 
 
+    public static SetCookieResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetCookieResponse object = new SetCookieResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "success":
+                    object.success = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (success != null) {
+            writer.name("success").value(success);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
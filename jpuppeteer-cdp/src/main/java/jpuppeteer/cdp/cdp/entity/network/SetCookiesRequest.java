@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetCookiesRequest {
+public class SetCookiesRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Cookies to be set.
@@ -13,5 +13,32 @@ public class SetCookiesRequest {
     private java.util.List<jpuppeteer.cdp.cdp.entity.network.CookieParam> cookies;
 
 
+    public static SetCookiesRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetCookiesRequest object = new SetCookiesRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "cookies":
+                    object.cookies = reader.nextList(jpuppeteer.cdp.cdp.entity.network.CookieParam::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (cookies != null) {
+            writer.name("cookies").value(cookies);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetDataSizeLimitsForTestRequest {
+public class SetDataSizeLimitsForTestRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Maximum total buffer size.
@@ -18,5 +18,38 @@ public class SetDataSizeLimitsForTestRequest {
     private Integer maxResourceSize;
 
 
+    public static SetDataSizeLimitsForTestRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetDataSizeLimitsForTestRequest object = new SetDataSizeLimitsForTestRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "maxTotalSize":
+                    object.maxTotalSize = reader.nextInteger();
+                    break;
+                case "maxResourceSize":
+                    object.maxResourceSize = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (maxTotalSize != null) {
+            writer.name("maxTotalSize").value(maxTotalSize);
+        }
+        if (maxResourceSize != null) {
+            writer.name("maxResourceSize").value(maxResourceSize);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetExtraHTTPHeadersRequest {
+public class SetExtraHTTPHeadersRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Map with extra HTTP headers.
@@ -13,5 +13,32 @@ public class SetExtraHTTPHeadersRequest {
     private java.util.Map<String, Object> headers;
 
 
+    public static SetExtraHTTPHeadersRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetExtraHTTPHeadersRequest object = new SetExtraHTTPHeadersRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "headers":
+                    object.headers = reader.nextMap();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (headers != null) {
+            writer.name("headers").value(headers);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetRequestInterceptionRequest {
+public class SetRequestInterceptionRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Requests matching any of these patterns will be forwarded and wait for the corresponding continueInterceptedRequest call.
@@ -13,5 +13,32 @@ public class SetRequestInterceptionRequest {
     private java.util.List<jpuppeteer.cdp.cdp.entity.network.RequestPattern> patterns;
 
 
+    public static SetRequestInterceptionRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetRequestInterceptionRequest object = new SetRequestInterceptionRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "patterns":
+                    object.patterns = reader.nextList(jpuppeteer.cdp.cdp.entity.network.RequestPattern::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (patterns != null) {
+            writer.name("patterns").value(patterns);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
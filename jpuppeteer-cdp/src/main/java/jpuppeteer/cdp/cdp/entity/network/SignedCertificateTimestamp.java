@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SignedCertificateTimestamp {
+public class SignedCertificateTimestamp implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Validation status.
@@ -49,5 +49,74 @@ public class SignedCertificateTimestamp {
     private String signatureData;
 
 
+    public static SignedCertificateTimestamp decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SignedCertificateTimestamp object = new SignedCertificateTimestamp();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "status":
+                    object.status = reader.nextString();
+                    break;
+                case "origin":
+                    object.origin = reader.nextString();
+                    break;
+                case "logDescription":
+                    object.logDescription = reader.nextString();
+                    break;
+                case "logId":
+                    object.logId = reader.nextString();
+                    break;
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                case "hashAlgorithm":
+                    object.hashAlgorithm = reader.nextString();
+                    break;
+                case "signatureAlgorithm":
+                    object.signatureAlgorithm = reader.nextString();
+                    break;
+                case "signatureData":
+                    object.signatureData = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (status != null) {
+            writer.name("status").value(status);
+        }
+        if (origin != null) {
+            writer.name("origin").value(origin);
+        }
+        if (logDescription != null) {
+            writer.name("logDescription").value(logDescription);
+        }
+        if (logId != null) {
+            writer.name("logId").value(logId);
+        }
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        if (hashAlgorithm != null) {
+            writer.name("hashAlgorithm").value(hashAlgorithm);
+        }
+        if (signatureAlgorithm != null) {
+            writer.name("signatureAlgorithm").value(signatureAlgorithm);
+        }
+        if (signatureData != null) {
+            writer.name("signatureData").value(signatureData);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SignedExchangeError {
+public class SignedExchangeError implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Error message.
@@ -24,5 +24,44 @@ public class SignedExchangeError {
     private String errorField;
 
 
+    public static SignedExchangeError decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SignedExchangeError object = new SignedExchangeError();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "message":
+                    object.message = reader.nextString();
+                    break;
+                case "signatureIndex":
+                    object.signatureIndex = reader.nextInteger();
+                    break;
+                case "errorField":
+                    object.errorField = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (message != null) {
+            writer.name("message").value(message);
+        }
+        if (signatureIndex != null) {
+            writer.name("signatureIndex").value(signatureIndex);
+        }
+        if (errorField != null) {
+            writer.name("errorField").value(errorField);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
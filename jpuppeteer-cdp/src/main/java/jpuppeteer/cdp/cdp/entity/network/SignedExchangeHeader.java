@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SignedExchangeHeader {
+public class SignedExchangeHeader implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Signed exchange request URL.
@@ -34,5 +34,56 @@ public class SignedExchangeHeader {
     private String headerIntegrity;
 
 
+    public static SignedExchangeHeader decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SignedExchangeHeader object = new SignedExchangeHeader();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestUrl":
+                    object.requestUrl = reader.nextString();
+                    break;
+                case "responseCode":
+                    object.responseCode = reader.nextInteger();
+                    break;
+                case "responseHeaders":
+                    object.responseHeaders = reader.nextMap();
+                    break;
+                case "signatures":
+                    object.signatures = reader.nextList(jpuppeteer.cdp.cdp.entity.network.SignedExchangeSignature::decode);
+                    break;
+                case "headerIntegrity":
+                    object.headerIntegrity = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestUrl != null) {
+            writer.name("requestUrl").value(requestUrl);
+        }
+        if (responseCode != null) {
+            writer.name("responseCode").value(responseCode);
+        }
+        if (responseHeaders != null) {
+            writer.name("responseHeaders").value(responseHeaders);
+        }
+        if (signatures != null) {
+            writer.name("signatures").value(signatures);
+        }
+        if (headerIntegrity != null) {
+            writer.name("headerIntegrity").value(headerIntegrity);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
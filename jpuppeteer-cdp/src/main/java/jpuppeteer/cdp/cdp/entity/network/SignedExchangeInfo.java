@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SignedExchangeInfo {
+public class SignedExchangeInfo implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The outer response of signed HTTP exchange which was received from network.
@@ -29,5 +29,50 @@ public class SignedExchangeInfo {
     private java.util.List<jpuppeteer.cdp.cdp.entity.network.SignedExchangeError> errors;
 
 
+    public static SignedExchangeInfo decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SignedExchangeInfo object = new SignedExchangeInfo();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "outerResponse":
+                    object.outerResponse = jpuppeteer.cdp.cdp.entity.network.Response.decode(reader);
+                    break;
+                case "header":
+                    object.header = jpuppeteer.cdp.cdp.entity.network.SignedExchangeHeader.decode(reader);
+                    break;
+                case "securityDetails":
+                    object.securityDetails = jpuppeteer.cdp.cdp.entity.network.SecurityDetails.decode(reader);
+                    break;
+                case "errors":
+                    object.errors = reader.nextList(jpuppeteer.cdp.cdp.entity.network.SignedExchangeError::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (outerResponse != null) {
+            writer.name("outerResponse").value(outerResponse);
+        }
+        if (header != null) {
+            writer.name("header").value(header);
+        }
+        if (securityDetails != null) {
+            writer.name("securityDetails").value(securityDetails);
+        }
+        if (errors != null) {
+            writer.name("errors").value(errors);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SignedExchangeReceivedEvent {
+public class SignedExchangeReceivedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Request identifier.
@@ -19,5 +19,38 @@ public class SignedExchangeReceivedEvent {
     private jpuppeteer.cdp.cdp.entity.network.SignedExchangeInfo info;
 
 
+    public static SignedExchangeReceivedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SignedExchangeReceivedEvent object = new SignedExchangeReceivedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "info":
+                    object.info = jpuppeteer.cdp.cdp.entity.network.SignedExchangeInfo.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (info != null) {
+            writer.name("info").value(info);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SignedExchangeSignature {
+public class SignedExchangeSignature implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Signed exchange signature label.
@@ -54,5 +54,80 @@ public class SignedExchangeSignature {
     private java.util.List<String> certificates;
 
 
+    public static SignedExchangeSignature decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SignedExchangeSignature object = new SignedExchangeSignature();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "label":
+                    object.label = reader.nextString();
+                    break;
+                case "signature":
+                    object.signature = reader.nextString();
+                    break;
+                case "integrity":
+                    object.integrity = reader.nextString();
+                    break;
+                case "certUrl":
+                    object.certUrl = reader.nextString();
+                    break;
+                case "certSha256":
+                    object.certSha256 = reader.nextString();
+                    break;
+                case "validityUrl":
+                    object.validityUrl = reader.nextString();
+                    break;
+                case "date":
+                    object.date = reader.nextInteger();
+                    break;
+                case "expires":
+                    object.expires = reader.nextInteger();
+                    break;
+                case "certificates":
+                    object.certificates = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (label != null) {
+            writer.name("label").value(label);
+        }
+        if (signature != null) {
+            writer.name("signature").value(signature);
+        }
+        if (integrity != null) {
+            writer.name("integrity").value(integrity);
+        }
+        if (certUrl != null) {
+            writer.name("certUrl").value(certUrl);
+        }
+        if (certSha256 != null) {
+            writer.name("certSha256").value(certSha256);
+        }
+        if (validityUrl != null) {
+            writer.name("validityUrl").value(validityUrl);
+        }
+        if (date != null) {
+            writer.name("date").value(date);
+        }
+        if (expires != null) {
+            writer.name("expires").value(expires);
+        }
+        if (certificates != null) {
+            writer.name("certificates").value(certificates);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
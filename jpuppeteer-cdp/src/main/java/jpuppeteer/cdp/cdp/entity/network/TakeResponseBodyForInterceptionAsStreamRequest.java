@@ -5,12 +5,39 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class TakeResponseBodyForInterceptionAsStreamRequest {
+public class TakeResponseBodyForInterceptionAsStreamRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String interceptionId;
 
 
+    public static TakeResponseBodyForInterceptionAsStreamRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        TakeResponseBodyForInterceptionAsStreamRequest object = new TakeResponseBodyForInterceptionAsStreamRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "interceptionId":
+                    object.interceptionId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (interceptionId != null) {
+            writer.name("interceptionId").value(interceptionId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
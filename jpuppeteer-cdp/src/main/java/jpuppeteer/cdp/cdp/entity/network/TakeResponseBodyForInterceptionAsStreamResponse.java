@@ -5,12 +5,39 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class TakeResponseBodyForInterceptionAsStreamResponse {
+public class TakeResponseBodyForInterceptionAsStreamResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String stream;
 
 
+    public static TakeResponseBodyForInterceptionAsStreamResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        TakeResponseBodyForInterceptionAsStreamResponse object = new TakeResponseBodyForInterceptionAsStreamResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "stream":
+                    object.stream = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (stream != null) {
+            writer.name("stream").value(stream);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class WebSocketCreatedEvent {
+public class WebSocketCreatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Request identifier.
@@ -24,5 +24,44 @@ public class WebSocketCreatedEvent {
     private jpuppeteer.cdp.cdp.entity.network.Initiator initiator;
 
 
+    public static WebSocketCreatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        WebSocketCreatedEvent object = new WebSocketCreatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "initiator":
+                    object.initiator = jpuppeteer.cdp.cdp.entity.network.Initiator.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (initiator != null) {
+            writer.name("initiator").value(initiator);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
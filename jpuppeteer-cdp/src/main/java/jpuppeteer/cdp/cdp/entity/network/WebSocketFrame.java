@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class WebSocketFrame {
+public class WebSocketFrame implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * WebSocket message opcode.
@@ -24,5 +24,44 @@ public class WebSocketFrame {
     private String payloadData;
 
 
+    public static WebSocketFrame decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        WebSocketFrame object = new WebSocketFrame();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "opcode":
+                    object.opcode = reader.nextDouble();
+                    break;
+                case "mask":
+                    object.mask = reader.nextBoolean();
+                    break;
+                case "payloadData":
+                    object.payloadData = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (opcode != null) {
+            writer.name("opcode").value(opcode);
+        }
+        if (mask != null) {
+            writer.name("mask").value(mask);
+        }
+        if (payloadData != null) {
+            writer.name("payloadData").value(payloadData);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class WebSocketFrameErrorEvent {
+public class WebSocketFrameErrorEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Request identifier.
@@ -24,5 +24,44 @@ public class WebSocketFrameErrorEvent {
     private String errorMessage;
 
 
+    public static WebSocketFrameErrorEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        WebSocketFrameErrorEvent object = new WebSocketFrameErrorEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                case "errorMessage":
+                    object.errorMessage = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        if (errorMessage != null) {
+            writer.name("errorMessage").value(errorMessage);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
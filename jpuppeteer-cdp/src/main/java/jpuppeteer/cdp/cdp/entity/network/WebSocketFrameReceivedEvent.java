@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class WebSocketFrameReceivedEvent {
+public class WebSocketFrameReceivedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Request identifier.
@@ -24,5 +24,44 @@ public class WebSocketFrameReceivedEvent {
     private jpuppeteer.cdp.cdp.entity.network.WebSocketFrame response;
 
 
+    public static WebSocketFrameReceivedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        WebSocketFrameReceivedEvent object = new WebSocketFrameReceivedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                case "response":
+                    object.response = jpuppeteer.cdp.cdp.entity.network.WebSocketFrame.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        if (response != null) {
+            writer.name("response").value(response);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class WebSocketRequest {
+public class WebSocketRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * HTTP request headers.
@@ -14,5 +14,32 @@ public class WebSocketRequest {
     private java.util.Map<String, Object> headers;
 
 
+    public static WebSocketRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        WebSocketRequest object = new WebSocketRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "headers":
+                    object.headers = reader.nextMap();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (headers != null) {
+            writer.name("headers").value(headers);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
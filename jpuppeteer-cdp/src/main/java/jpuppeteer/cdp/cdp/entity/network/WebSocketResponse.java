@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class WebSocketResponse {
+public class WebSocketResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * HTTP response status code.
@@ -39,5 +39,62 @@ public class WebSocketResponse {
     private String requestHeadersText;
 
 
+    public static WebSocketResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        WebSocketResponse object = new WebSocketResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "status":
+                    object.status = reader.nextInteger();
+                    break;
+                case "statusText":
+                    object.statusText = reader.nextString();
+                    break;
+                case "headers":
+                    object.headers = reader.nextMap();
+                    break;
+                case "headersText":
+                    object.headersText = reader.nextString();
+                    break;
+                case "requestHeaders":
+                    object.requestHeaders = reader.nextMap();
+                    break;
+                case "requestHeadersText":
+                    object.requestHeadersText = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (status != null) {
+            writer.name("status").value(status);
+        }
+        if (statusText != null) {
+            writer.name("statusText").value(statusText);
+        }
+        if (headers != null) {
+            writer.name("headers").value(headers);
+        }
+        if (headersText != null) {
+            writer.name("headersText").value(headersText);
+        }
+        if (requestHeaders != null) {
+            writer.name("requestHeaders").value(requestHeaders);
+        }
+        if (requestHeadersText != null) {
+            writer.name("requestHeadersText").value(requestHeadersText);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.network;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class WebSocketWillSendHandshakeRequestEvent {
+public class WebSocketWillSendHandshakeRequestEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Request identifier.
@@ -29,5 +29,50 @@ public class WebSocketWillSendHandshakeRequestEvent {
     private jpuppeteer.cdp.cdp.entity.network.WebSocketRequest request;
 
 
+    public static WebSocketWillSendHandshakeRequestEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        WebSocketWillSendHandshakeRequestEvent object = new WebSocketWillSendHandshakeRequestEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "requestId":
+                    object.requestId = reader.nextString();
+                    break;
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                case "wallTime":
+                    object.wallTime = reader.nextDouble();
+                    break;
+                case "request":
+                    object.request = jpuppeteer.cdp.cdp.entity.network.WebSocketRequest.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (requestId != null) {
+            writer.name("requestId").value(requestId);
+        }
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        if (wallTime != null) {
+            writer.name("wallTime").value(wallTime);
+        }
+        if (request != null) {
+            writer.name("request").value(request);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.overlay;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetHighlightObjectForTestRequest {
+public class GetHighlightObjectForTestRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the node to get highlight object for.
@@ -24,5 +24,44 @@ public class GetHighlightObjectForTestRequest {
     private Boolean includeStyle;
 
 
+    public static GetHighlightObjectForTestRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetHighlightObjectForTestRequest object = new GetHighlightObjectForTestRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "includeDistance":
+                    object.includeDistance = reader.nextBoolean();
+                    break;
+                case "includeStyle":
+                    object.includeStyle = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (includeDistance != null) {
+            writer.name("includeDistance").value(includeDistance);
+        }
+        if (includeStyle != null) {
+            writer.name("includeStyle").value(includeStyle);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
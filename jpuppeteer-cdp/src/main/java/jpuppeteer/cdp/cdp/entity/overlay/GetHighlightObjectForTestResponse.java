@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.overlay;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetHighlightObjectForTestResponse {
+public class GetHighlightObjectForTestResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Highlight data for the node.
@@ -14,5 +14,32 @@ public class GetHighlightObjectForTestResponse {
     private java.util.Map<String, Object> highlight;
 
 
+    public static GetHighlightObjectForTestResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetHighlightObjectForTestResponse object = new GetHighlightObjectForTestResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "highlight":
+                    object.highlight = reader.nextMap();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (highlight != null) {
+            writer.name("highlight").value(highlight);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
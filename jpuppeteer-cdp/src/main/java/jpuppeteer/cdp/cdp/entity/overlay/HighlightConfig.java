@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.overlay;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class HighlightConfig {
+public class HighlightConfig implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Whether the node info tooltip should be shown (default: false).
@@ -70,5 +70,98 @@ public class HighlightConfig {
     private jpuppeteer.cdp.cdp.entity.dom.RGBA cssGridColor;
 
 
+    public static HighlightConfig decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        HighlightConfig object = new HighlightConfig();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "showInfo":
+                    object.showInfo = reader.nextBoolean();
+                    break;
+                case "showStyles":
+                    object.showStyles = reader.nextBoolean();
+                    break;
+                case "showRulers":
+                    object.showRulers = reader.nextBoolean();
+                    break;
+                case "showExtensionLines":
+                    object.showExtensionLines = reader.nextBoolean();
+                    break;
+                case "contentColor":
+                    object.contentColor = jpuppeteer.cdp.cdp.entity.dom.RGBA.decode(reader);
+                    break;
+                case "paddingColor":
+                    object.paddingColor = jpuppeteer.cdp.cdp.entity.dom.RGBA.decode(reader);
+                    break;
+                case "borderColor":
+                    object.borderColor = jpuppeteer.cdp.cdp.entity.dom.RGBA.decode(reader);
+                    break;
+                case "marginColor":
+                    object.marginColor = jpuppeteer.cdp.cdp.entity.dom.RGBA.decode(reader);
+                    break;
+                case "eventTargetColor":
+                    object.eventTargetColor = jpuppeteer.cdp.cdp.entity.dom.RGBA.decode(reader);
+                    break;
+                case "shapeColor":
+                    object.shapeColor = jpuppeteer.cdp.cdp.entity.dom.RGBA.decode(reader);
+                    break;
+                case "shapeMarginColor":
+                    object.shapeMarginColor = jpuppeteer.cdp.cdp.entity.dom.RGBA.decode(reader);
+                    break;
+                case "cssGridColor":
+                    object.cssGridColor = jpuppeteer.cdp.cdp.entity.dom.RGBA.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (showInfo != null) {
+            writer.name("showInfo").value(showInfo);
+        }
+        if (showStyles != null) {
+            writer.name("showStyles").value(showStyles);
+        }
+        if (showRulers != null) {
+            writer.name("showRulers").value(showRulers);
+        }
+        if (showExtensionLines != null) {
+            writer.name("showExtensionLines").value(showExtensionLines);
+        }
+        if (contentColor != null) {
+            writer.name("contentColor").value(contentColor);
+        }
+        if (paddingColor != null) {
+            writer.name("paddingColor").value(paddingColor);
+        }
+        if (borderColor != null) {
+            writer.name("borderColor").value(borderColor);
+        }
+        if (marginColor != null) {
+            writer.name("marginColor").value(marginColor);
+        }
+        if (eventTargetColor != null) {
+            writer.name("eventTargetColor").value(eventTargetColor);
+        }
+        if (shapeColor != null) {
+            writer.name("shapeColor").value(shapeColor);
+        }
+        if (shapeMarginColor != null) {
+            writer.name("shapeMarginColor").value(shapeMarginColor);
+        }
+        if (cssGridColor != null) {
+            writer.name("cssGridColor").value(cssGridColor);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.overlay;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class HighlightFrameRequest {
+public class HighlightFrameRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the frame to highlight.
@@ -24,5 +24,44 @@ public class HighlightFrameRequest {
     private jpuppeteer.cdp.cdp.entity.dom.RGBA contentOutlineColor;
 
 
+    public static HighlightFrameRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        HighlightFrameRequest object = new HighlightFrameRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                case "contentColor":
+                    object.contentColor = jpuppeteer.cdp.cdp.entity.dom.RGBA.decode(reader);
+                    break;
+                case "contentOutlineColor":
+                    object.contentOutlineColor = jpuppeteer.cdp.cdp.entity.dom.RGBA.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (contentColor != null) {
+            writer.name("contentColor").value(contentColor);
+        }
+        if (contentOutlineColor != null) {
+            writer.name("contentOutlineColor").value(contentOutlineColor);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.overlay;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class HighlightNodeRequest {
+public class HighlightNodeRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * A descriptor for the highlight appearance.
@@ -34,5 +34,56 @@ public class HighlightNodeRequest {
     private String selector;
 
 
+    public static HighlightNodeRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        HighlightNodeRequest object = new HighlightNodeRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "highlightConfig":
+                    object.highlightConfig = jpuppeteer.cdp.cdp.entity.overlay.HighlightConfig.decode(reader);
+                    break;
+                case "nodeId":
+                    object.nodeId = reader.nextInteger();
+                    break;
+                case "backendNodeId":
+                    object.backendNodeId = reader.nextInteger();
+                    break;
+                case "objectId":
+                    object.objectId = reader.nextString();
+                    break;
+                case "selector":
+                    object.selector = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (highlightConfig != null) {
+            writer.name("highlightConfig").value(highlightConfig);
+        }
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (backendNodeId != null) {
+            writer.name("backendNodeId").value(backendNodeId);
+        }
+        if (objectId != null) {
+            writer.name("objectId").value(objectId);
+        }
+        if (selector != null) {
+            writer.name("selector").value(selector);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.overlay;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class HighlightQuadRequest {
+public class HighlightQuadRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Quad to highlight
@@ -24,5 +24,44 @@ public class HighlightQuadRequest {
     private jpuppeteer.cdp.cdp.entity.dom.RGBA outlineColor;
 
 
+    public static HighlightQuadRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        HighlightQuadRequest object = new HighlightQuadRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "quad":
+                    object.quad = reader.nextList(jpuppeteer.cdp.JsonReader::nextDouble);
+                    break;
+                case "color":
+                    object.color = jpuppeteer.cdp.cdp.entity.dom.RGBA.decode(reader);
+                    break;
+                case "outlineColor":
+                    object.outlineColor = jpuppeteer.cdp.cdp.entity.dom.RGBA.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (quad != null) {
+            writer.name("quad").value(quad);
+        }
+        if (color != null) {
+            writer.name("color").value(color);
+        }
+        if (outlineColor != null) {
+            writer.name("outlineColor").value(outlineColor);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
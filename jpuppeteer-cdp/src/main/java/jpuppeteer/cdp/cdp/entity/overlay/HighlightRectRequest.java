@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.overlay;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class HighlightRectRequest {
+public class HighlightRectRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * X coordinate
@@ -39,5 +39,62 @@ public class HighlightRectRequest {
     private jpuppeteer.cdp.cdp.entity.dom.RGBA outlineColor;
 
 
+    public static HighlightRectRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        HighlightRectRequest object = new HighlightRectRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "x":
+                    object.x = reader.nextInteger();
+                    break;
+                case "y":
+                    object.y = reader.nextInteger();
+                    break;
+                case "width":
+                    object.width = reader.nextInteger();
+                    break;
+                case "height":
+                    object.height = reader.nextInteger();
+                    break;
+                case "color":
+                    object.color = jpuppeteer.cdp.cdp.entity.dom.RGBA.decode(reader);
+                    break;
+                case "outlineColor":
+                    object.outlineColor = jpuppeteer.cdp.cdp.entity.dom.RGBA.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (x != null) {
+            writer.name("x").value(x);
+        }
+        if (y != null) {
+            writer.name("y").value(y);
+        }
+        if (width != null) {
+            writer.name("width").value(width);
+        }
+        if (height != null) {
+            writer.name("height").value(height);
+        }
+        if (color != null) {
+            writer.name("color").value(color);
+        }
+        if (outlineColor != null) {
+            writer.name("outlineColor").value(outlineColor);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
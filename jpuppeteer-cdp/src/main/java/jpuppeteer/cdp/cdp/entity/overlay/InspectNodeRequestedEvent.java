@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.overlay;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class InspectNodeRequestedEvent {
+public class InspectNodeRequestedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the node to inspect.
@@ -15,5 +15,32 @@ public class InspectNodeRequestedEvent {
     private Integer backendNodeId;
 
 
+    public static InspectNodeRequestedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        InspectNodeRequestedEvent object = new InspectNodeRequestedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "backendNodeId":
+                    object.backendNodeId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (backendNodeId != null) {
+            writer.name("backendNodeId").value(backendNodeId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.overlay;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ScreenshotRequestedEvent {
+public class ScreenshotRequestedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Viewport to capture, in device independent pixels (dip).
@@ -15,5 +15,32 @@ public class ScreenshotRequestedEvent {
     private jpuppeteer.cdp.cdp.entity.page.Viewport viewport;
 
 
+    public static ScreenshotRequestedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ScreenshotRequestedEvent object = new ScreenshotRequestedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "viewport":
+                    object.viewport = jpuppeteer.cdp.cdp.entity.page.Viewport.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (viewport != null) {
+            writer.name("viewport").value(viewport);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.overlay;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetInspectModeRequest {
+public class SetInspectModeRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Set an inspection mode.
@@ -19,5 +19,38 @@ public class SetInspectModeRequest {
     private jpuppeteer.cdp.cdp.entity.overlay.HighlightConfig highlightConfig;
 
 
+    public static SetInspectModeRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetInspectModeRequest object = new SetInspectModeRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "mode":
+                    object.mode = reader.nextString();
+                    break;
+                case "highlightConfig":
+                    object.highlightConfig = jpuppeteer.cdp.cdp.entity.overlay.HighlightConfig.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (mode != null) {
+            writer.name("mode").value(mode);
+        }
+        if (highlightConfig != null) {
+            writer.name("highlightConfig").value(highlightConfig);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.overlay;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetPausedInDebuggerMessageRequest {
+public class SetPausedInDebuggerMessageRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The message to display, also triggers resume and step over controls.
@@ -14,5 +14,32 @@ public class SetPausedInDebuggerMessageRequest {
     private String message;
 
 
+    public static SetPausedInDebuggerMessageRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetPausedInDebuggerMessageRequest object = new SetPausedInDebuggerMessageRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "message":
+                    object.message = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (message != null) {
+            writer.name("message").value(message);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
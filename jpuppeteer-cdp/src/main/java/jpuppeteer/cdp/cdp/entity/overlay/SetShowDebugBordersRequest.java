@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.overlay;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetShowDebugBordersRequest {
+public class SetShowDebugBordersRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * True for showing debug borders
@@ -14,5 +14,32 @@ public class SetShowDebugBordersRequest {
     private Boolean show;
 
 
+    public static SetShowDebugBordersRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetShowDebugBordersRequest object = new SetShowDebugBordersRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "show":
+                    object.show = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (show != null) {
+            writer.name("show").value(show);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.overlay;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetShowLayoutShiftRegionsRequest {
+public class SetShowLayoutShiftRegionsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * True for showing layout shift regions
@@ -14,5 +14,32 @@ public class SetShowLayoutShiftRegionsRequest {
     private Boolean result;
 
 
+    public static SetShowLayoutShiftRegionsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetShowLayoutShiftRegionsRequest object = new SetShowLayoutShiftRegionsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "result":
+                    object.result = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (result != null) {
+            writer.name("result").value(result);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
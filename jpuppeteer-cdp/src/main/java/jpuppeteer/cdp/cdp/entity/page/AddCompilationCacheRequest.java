@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AddCompilationCacheRequest {
+public class AddCompilationCacheRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -17,5 +17,38 @@ public class AddCompilationCacheRequest {
     private String data;
 
 
+    public static AddCompilationCacheRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AddCompilationCacheRequest object = new AddCompilationCacheRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "data":
+                    object.data = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (data != null) {
+            writer.name("data").value(data);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
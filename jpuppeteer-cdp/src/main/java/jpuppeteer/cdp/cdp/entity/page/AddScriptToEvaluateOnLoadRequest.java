@@ -5,12 +5,39 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AddScriptToEvaluateOnLoadRequest {
+public class AddScriptToEvaluateOnLoadRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String scriptSource;
 
 
+    public static AddScriptToEvaluateOnLoadRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AddScriptToEvaluateOnLoadRequest object = new AddScriptToEvaluateOnLoadRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "scriptSource":
+                    object.scriptSource = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (scriptSource != null) {
+            writer.name("scriptSource").value(scriptSource);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AddScriptToEvaluateOnLoadResponse {
+public class AddScriptToEvaluateOnLoadResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the added script.
@@ -13,5 +13,32 @@ public class AddScriptToEvaluateOnLoadResponse {
     private String identifier;
 
 
+    public static AddScriptToEvaluateOnLoadResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AddScriptToEvaluateOnLoadResponse object = new AddScriptToEvaluateOnLoadResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "identifier":
+                    object.identifier = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (identifier != null) {
+            writer.name("identifier").value(identifier);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
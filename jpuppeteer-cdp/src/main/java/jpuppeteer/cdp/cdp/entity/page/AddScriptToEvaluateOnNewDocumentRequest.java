@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AddScriptToEvaluateOnNewDocumentRequest {
+public class AddScriptToEvaluateOnNewDocumentRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -17,5 +17,38 @@ public class AddScriptToEvaluateOnNewDocumentRequest {
     private String worldName;
 
 
+    public static AddScriptToEvaluateOnNewDocumentRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AddScriptToEvaluateOnNewDocumentRequest object = new AddScriptToEvaluateOnNewDocumentRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "source":
+                    object.source = reader.nextString();
+                    break;
+                case "worldName":
+                    object.worldName = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (source != null) {
+            writer.name("source").value(source);
+        }
+        if (worldName != null) {
+            writer.name("worldName").value(worldName);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
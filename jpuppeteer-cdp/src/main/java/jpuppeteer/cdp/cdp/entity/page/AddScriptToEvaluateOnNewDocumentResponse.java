@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AddScriptToEvaluateOnNewDocumentResponse {
+public class AddScriptToEvaluateOnNewDocumentResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the added script.
@@ -13,5 +13,32 @@ public class AddScriptToEvaluateOnNewDocumentResponse {
     private String identifier;
 
 
+    public static AddScriptToEvaluateOnNewDocumentResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AddScriptToEvaluateOnNewDocumentResponse object = new AddScriptToEvaluateOnNewDocumentResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "identifier":
+                    object.identifier = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (identifier != null) {
+            writer.name("identifier").value(identifier);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AppManifestError {
+public class AppManifestError implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Error message.
@@ -29,5 +29,50 @@ public class AppManifestError {
     private Integer column;
 
 
+    public static AppManifestError decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AppManifestError object = new AppManifestError();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "message":
+                    object.message = reader.nextString();
+                    break;
+                case "critical":
+                    object.critical = reader.nextInteger();
+                    break;
+                case "line":
+                    object.line = reader.nextInteger();
+                    break;
+                case "column":
+                    object.column = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (message != null) {
+            writer.name("message").value(message);
+        }
+        if (critical != null) {
+            writer.name("critical").value(critical);
+        }
+        if (line != null) {
+            writer.name("line").value(line);
+        }
+        if (column != null) {
+            writer.name("column").value(column);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
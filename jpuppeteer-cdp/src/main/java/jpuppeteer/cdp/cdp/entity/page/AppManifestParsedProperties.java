@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AppManifestParsedProperties {
+public class AppManifestParsedProperties implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Computed scope value
@@ -14,5 +14,32 @@ public class AppManifestParsedProperties {
     private String scope;
 
 
+    public static AppManifestParsedProperties decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AppManifestParsedProperties object = new AppManifestParsedProperties();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "scope":
+                    object.scope = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (scope != null) {
+            writer.name("scope").value(scope);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
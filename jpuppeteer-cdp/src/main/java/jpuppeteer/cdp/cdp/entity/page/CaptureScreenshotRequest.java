@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CaptureScreenshotRequest {
+public class CaptureScreenshotRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Image compression format (defaults to png).
@@ -28,5 +28,50 @@ public class CaptureScreenshotRequest {
     private Boolean fromSurface;
 
 
+    public static CaptureScreenshotRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CaptureScreenshotRequest object = new CaptureScreenshotRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "format":
+                    object.format = reader.nextString();
+                    break;
+                case "quality":
+                    object.quality = reader.nextInteger();
+                    break;
+                case "clip":
+                    object.clip = jpuppeteer.cdp.cdp.entity.page.Viewport.decode(reader);
+                    break;
+                case "fromSurface":
+                    object.fromSurface = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (format != null) {
+            writer.name("format").value(format);
+        }
+        if (quality != null) {
+            writer.name("quality").value(quality);
+        }
+        if (clip != null) {
+            writer.name("clip").value(clip);
+        }
+        if (fromSurface != null) {
+            writer.name("fromSurface").value(fromSurface);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CaptureScreenshotResponse {
+public class CaptureScreenshotResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Base64-encoded image data.
@@ -13,5 +13,32 @@ public class CaptureScreenshotResponse {
     private String data;
 
 
+    public static CaptureScreenshotResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CaptureScreenshotResponse object = new CaptureScreenshotResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "data":
+                    object.data = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (data != null) {
+            writer.name("data").value(data);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
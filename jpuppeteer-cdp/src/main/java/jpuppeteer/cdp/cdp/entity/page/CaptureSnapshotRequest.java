@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CaptureSnapshotRequest {
+public class CaptureSnapshotRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Format (defaults to mhtml).
@@ -13,5 +13,32 @@ public class CaptureSnapshotRequest {
     private String format;
 
 
+    public static CaptureSnapshotRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CaptureSnapshotRequest object = new CaptureSnapshotRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "format":
+                    object.format = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (format != null) {
+            writer.name("format").value(format);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CreateIsolatedWorldRequest {
+public class CreateIsolatedWorldRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the frame in which the isolated world should be created.
@@ -23,5 +23,44 @@ public class CreateIsolatedWorldRequest {
     private Boolean grantUniveralAccess;
 
 
+    public static CreateIsolatedWorldRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CreateIsolatedWorldRequest object = new CreateIsolatedWorldRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                case "worldName":
+                    object.worldName = reader.nextString();
+                    break;
+                case "grantUniveralAccess":
+                    object.grantUniveralAccess = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (worldName != null) {
+            writer.name("worldName").value(worldName);
+        }
+        if (grantUniveralAccess != null) {
+            writer.name("grantUniveralAccess").value(grantUniveralAccess);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
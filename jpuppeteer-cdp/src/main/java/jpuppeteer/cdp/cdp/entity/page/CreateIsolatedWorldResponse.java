@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CreateIsolatedWorldResponse {
+public class CreateIsolatedWorldResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Execution context of the isolated world.
@@ -13,5 +13,32 @@ public class CreateIsolatedWorldResponse {
     private Integer executionContextId;
 
 
+    public static CreateIsolatedWorldResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CreateIsolatedWorldResponse object = new CreateIsolatedWorldResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "executionContextId":
+                    object.executionContextId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (executionContextId != null) {
+            writer.name("executionContextId").value(executionContextId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
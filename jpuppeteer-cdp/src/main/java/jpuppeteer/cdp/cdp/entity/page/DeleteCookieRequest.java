@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DeleteCookieRequest {
+public class DeleteCookieRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Name of the cookie to remove.
@@ -18,5 +18,38 @@ public class DeleteCookieRequest {
     private String url;
 
 
+    public static DeleteCookieRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DeleteCookieRequest object = new DeleteCookieRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "cookieName":
+                    object.cookieName = reader.nextString();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (cookieName != null) {
+            writer.name("cookieName").value(cookieName);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,12 +5,39 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DomContentEventFiredEvent {
+public class DomContentEventFiredEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private Double timestamp;
 
 
+    public static DomContentEventFiredEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DomContentEventFiredEvent object = new DomContentEventFiredEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
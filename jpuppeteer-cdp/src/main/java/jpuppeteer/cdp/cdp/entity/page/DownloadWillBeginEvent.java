@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DownloadWillBeginEvent {
+public class DownloadWillBeginEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the frame that caused download to begin.
@@ -19,5 +19,38 @@ public class DownloadWillBeginEvent {
     private String url;
 
 
+    public static DownloadWillBeginEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DownloadWillBeginEvent object = new DownloadWillBeginEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
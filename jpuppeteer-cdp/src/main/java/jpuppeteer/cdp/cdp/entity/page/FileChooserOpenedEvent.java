@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class FileChooserOpenedEvent {
+public class FileChooserOpenedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the frame containing input node.
@@ -24,5 +24,44 @@ public class FileChooserOpenedEvent {
     private String mode;
 
 
+    public static FileChooserOpenedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        FileChooserOpenedEvent object = new FileChooserOpenedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                case "backendNodeId":
+                    object.backendNodeId = reader.nextInteger();
+                    break;
+                case "mode":
+                    object.mode = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (backendNodeId != null) {
+            writer.name("backendNodeId").value(backendNodeId);
+        }
+        if (mode != null) {
+            writer.name("mode").value(mode);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
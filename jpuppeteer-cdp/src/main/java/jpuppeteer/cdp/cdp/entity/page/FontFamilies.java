@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class FontFamilies {
+public class FontFamilies implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The standard font-family.
@@ -44,5 +44,68 @@ public class FontFamilies {
     private String pictograph;
 
 
+    public static FontFamilies decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        FontFamilies object = new FontFamilies();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "standard":
+                    object.standard = reader.nextString();
+                    break;
+                case "fixed":
+                    object.fixed = reader.nextString();
+                    break;
+                case "serif":
+                    object.serif = reader.nextString();
+                    break;
+                case "sansSerif":
+                    object.sansSerif = reader.nextString();
+                    break;
+                case "cursive":
+                    object.cursive = reader.nextString();
+                    break;
+                case "fantasy":
+                    object.fantasy = reader.nextString();
+                    break;
+                case "pictograph":
+                    object.pictograph = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (standard != null) {
+            writer.name("standard").value(standard);
+        }
+        if (fixed != null) {
+            writer.name("fixed").value(fixed);
+        }
+        if (serif != null) {
+            writer.name("serif").value(serif);
+        }
+        if (sansSerif != null) {
+            writer.name("sansSerif").value(sansSerif);
+        }
+        if (cursive != null) {
+            writer.name("cursive").value(cursive);
+        }
+        if (fantasy != null) {
+            writer.name("fantasy").value(fantasy);
+        }
+        if (pictograph != null) {
+            writer.name("pictograph").value(pictograph);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
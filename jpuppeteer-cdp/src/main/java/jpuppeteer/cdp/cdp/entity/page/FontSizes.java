@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class FontSizes {
+public class FontSizes implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Default standard font size.
@@ -19,5 +19,38 @@ public class FontSizes {
     private Integer fixed;
 
 
+    public static FontSizes decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        FontSizes object = new FontSizes();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "standard":
+                    object.standard = reader.nextInteger();
+                    break;
+                case "fixed":
+                    object.fixed = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (standard != null) {
+            writer.name("standard").value(standard);
+        }
+        if (fixed != null) {
+            writer.name("fixed").value(fixed);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Frame {
+public class Frame implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Frame unique identifier.
@@ -54,5 +54,80 @@ public class Frame {
     private String unreachableUrl;
 
 
+    public static Frame decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Frame object = new Frame();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    object.id = reader.nextString();
+                    break;
+                case "parentId":
+                    object.parentId = reader.nextString();
+                    break;
+                case "loaderId":
+                    object.loaderId = reader.nextString();
+                    break;
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "urlFragment":
+                    object.urlFragment = reader.nextString();
+                    break;
+                case "securityOrigin":
+                    object.securityOrigin = reader.nextString();
+                    break;
+                case "mimeType":
+                    object.mimeType = reader.nextString();
+                    break;
+                case "unreachableUrl":
+                    object.unreachableUrl = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (id != null) {
+            writer.name("id").value(id);
+        }
+        if (parentId != null) {
+            writer.name("parentId").value(parentId);
+        }
+        if (loaderId != null) {
+            writer.name("loaderId").value(loaderId);
+        }
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (urlFragment != null) {
+            writer.name("urlFragment").value(urlFragment);
+        }
+        if (securityOrigin != null) {
+            writer.name("securityOrigin").value(securityOrigin);
+        }
+        if (mimeType != null) {
+            writer.name("mimeType").value(mimeType);
+        }
+        if (unreachableUrl != null) {
+            writer.name("unreachableUrl").value(unreachableUrl);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class FrameAttachedEvent {
+public class FrameAttachedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the frame that has been attached.
@@ -24,5 +24,44 @@ public class FrameAttachedEvent {
     private jpuppeteer.cdp.cdp.entity.runtime.StackTrace stack;
 
 
+    public static FrameAttachedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        FrameAttachedEvent object = new FrameAttachedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                case "parentFrameId":
+                    object.parentFrameId = reader.nextString();
+                    break;
+                case "stack":
+                    object.stack = jpuppeteer.cdp.cdp.entity.runtime.StackTrace.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (parentFrameId != null) {
+            writer.name("parentFrameId").value(parentFrameId);
+        }
+        if (stack != null) {
+            writer.name("stack").value(stack);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class FrameClearedScheduledNavigationEvent {
+public class FrameClearedScheduledNavigationEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the frame that has cleared its scheduled navigation.
@@ -14,5 +14,32 @@ public class FrameClearedScheduledNavigationEvent {
     private String frameId;
 
 
+    public static FrameClearedScheduledNavigationEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        FrameClearedScheduledNavigationEvent object = new FrameClearedScheduledNavigationEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class FrameNavigatedEvent {
+public class FrameNavigatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Frame object.
@@ -14,5 +14,32 @@ public class FrameNavigatedEvent {
     private jpuppeteer.cdp.cdp.entity.page.Frame frame;
 
 
+    public static FrameNavigatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        FrameNavigatedEvent object = new FrameNavigatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frame":
+                    object.frame = jpuppeteer.cdp.cdp.entity.page.Frame.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frame != null) {
+            writer.name("frame").value(frame);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
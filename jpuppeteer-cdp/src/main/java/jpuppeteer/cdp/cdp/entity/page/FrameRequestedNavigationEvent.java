@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class FrameRequestedNavigationEvent {
+public class FrameRequestedNavigationEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the frame that is being navigated.
@@ -24,5 +24,44 @@ public class FrameRequestedNavigationEvent {
     private String url;
 
 
+    public static FrameRequestedNavigationEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        FrameRequestedNavigationEvent object = new FrameRequestedNavigationEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                case "reason":
+                    object.reason = reader.nextString();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (reason != null) {
+            writer.name("reason").value(reason);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
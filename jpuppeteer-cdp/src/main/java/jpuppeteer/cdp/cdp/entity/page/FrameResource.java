@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class FrameResource {
+public class FrameResource implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Resource URL.
@@ -44,5 +44,68 @@ public class FrameResource {
     private Boolean canceled;
 
 
+    public static FrameResource decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        FrameResource object = new FrameResource();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "mimeType":
+                    object.mimeType = reader.nextString();
+                    break;
+                case "lastModified":
+                    object.lastModified = reader.nextDouble();
+                    break;
+                case "contentSize":
+                    object.contentSize = reader.nextDouble();
+                    break;
+                case "failed":
+                    object.failed = reader.nextBoolean();
+                    break;
+                case "canceled":
+                    object.canceled = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (mimeType != null) {
+            writer.name("mimeType").value(mimeType);
+        }
+        if (lastModified != null) {
+            writer.name("lastModified").value(lastModified);
+        }
+        if (contentSize != null) {
+            writer.name("contentSize").value(contentSize);
+        }
+        if (failed != null) {
+            writer.name("failed").value(failed);
+        }
+        if (canceled != null) {
+            writer.name("canceled").value(canceled);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class FrameResourceTree {
+public class FrameResourceTree implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Frame information for this tree item.
@@ -24,5 +24,44 @@ public class FrameResourceTree {
     private java.util.List<jpuppeteer.cdp.cdp.entity.page.FrameResource> resources;
 
 
+    public static FrameResourceTree decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        FrameResourceTree object = new FrameResourceTree();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frame":
+                    object.frame = jpuppeteer.cdp.cdp.entity.page.Frame.decode(reader);
+                    break;
+                case "childFrames":
+                    object.childFrames = reader.nextList(jpuppeteer.cdp.cdp.entity.page.FrameResourceTree::decode);
+                    break;
+                case "resources":
+                    object.resources = reader.nextList(jpuppeteer.cdp.cdp.entity.page.FrameResource::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frame != null) {
+            writer.name("frame").value(frame);
+        }
+        if (childFrames != null) {
+            writer.name("childFrames").value(childFrames);
+        }
+        if (resources != null) {
+            writer.name("resources").value(resources);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
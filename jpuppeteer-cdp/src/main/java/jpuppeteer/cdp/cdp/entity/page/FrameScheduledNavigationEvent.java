@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class FrameScheduledNavigationEvent {
+public class FrameScheduledNavigationEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the frame that has scheduled a navigation.
@@ -29,5 +29,50 @@ public class FrameScheduledNavigationEvent {
     private String url;
 
 
+    public static FrameScheduledNavigationEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        FrameScheduledNavigationEvent object = new FrameScheduledNavigationEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                case "delay":
+                    object.delay = reader.nextDouble();
+                    break;
+                case "reason":
+                    object.reason = reader.nextString();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (delay != null) {
+            writer.name("delay").value(delay);
+        }
+        if (reason != null) {
+            writer.name("reason").value(reason);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class FrameTree {
+public class FrameTree implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Frame information for this tree item.
@@ -19,5 +19,38 @@ public class FrameTree {
     private java.util.List<jpuppeteer.cdp.cdp.entity.page.FrameTree> childFrames;
 
 
+    public static FrameTree decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        FrameTree object = new FrameTree();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frame":
+                    object.frame = jpuppeteer.cdp.cdp.entity.page.Frame.decode(reader);
+                    break;
+                case "childFrames":
+                    object.childFrames = reader.nextList(jpuppeteer.cdp.cdp.entity.page.FrameTree::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frame != null) {
+            writer.name("frame").value(frame);
+        }
+        if (childFrames != null) {
+            writer.name("childFrames").value(childFrames);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
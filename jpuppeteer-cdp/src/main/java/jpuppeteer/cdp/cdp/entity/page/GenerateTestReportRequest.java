@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GenerateTestReportRequest {
+public class GenerateTestReportRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Message to be displayed in the report.
@@ -18,5 +18,38 @@ public class GenerateTestReportRequest {
     private String group;
 
 
+    public static GenerateTestReportRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GenerateTestReportRequest object = new GenerateTestReportRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "message":
+                    object.message = reader.nextString();
+                    break;
+                case "group":
+                    object.group = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (message != null) {
+            writer.name("message").value(message);
+        }
+        if (group != null) {
+            writer.name("group").value(group);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
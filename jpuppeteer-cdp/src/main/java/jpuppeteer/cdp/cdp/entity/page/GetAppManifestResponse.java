@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetAppManifestResponse {
+public class GetAppManifestResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Manifest location.
@@ -27,5 +27,50 @@ public class GetAppManifestResponse {
     private jpuppeteer.cdp.cdp.entity.page.AppManifestParsedProperties parsed;
 
 
+    public static GetAppManifestResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetAppManifestResponse object = new GetAppManifestResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "errors":
+                    object.errors = reader.nextList(jpuppeteer.cdp.cdp.entity.page.AppManifestError::decode);
+                    break;
+                case "data":
+                    object.data = reader.nextString();
+                    break;
+                case "parsed":
+                    object.parsed = jpuppeteer.cdp.cdp.entity.page.AppManifestParsedProperties.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (errors != null) {
+            writer.name("errors").value(errors);
+        }
+        if (data != null) {
+            writer.name("data").value(data);
+        }
+        if (parsed != null) {
+            writer.name("parsed").value(parsed);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
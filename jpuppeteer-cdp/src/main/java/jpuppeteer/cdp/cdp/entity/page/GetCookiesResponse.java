@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetCookiesResponse {
+public class GetCookiesResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Array of cookie objects.
@@ -13,5 +13,32 @@ public class GetCookiesResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.network.Cookie> cookies;
 
 
+    public static GetCookiesResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetCookiesResponse object = new GetCookiesResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "cookies":
+                    object.cookies = reader.nextList(jpuppeteer.cdp.cdp.entity.network.Cookie::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (cookies != null) {
+            writer.name("cookies").value(cookies);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
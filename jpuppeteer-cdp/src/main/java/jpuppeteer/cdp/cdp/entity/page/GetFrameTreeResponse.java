@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetFrameTreeResponse {
+public class GetFrameTreeResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Present frame tree structure.
@@ -13,5 +13,32 @@ public class GetFrameTreeResponse {
     private jpuppeteer.cdp.cdp.entity.page.FrameTree frameTree;
 
 
+    public static GetFrameTreeResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetFrameTreeResponse object = new GetFrameTreeResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameTree":
+                    object.frameTree = jpuppeteer.cdp.cdp.entity.page.FrameTree.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameTree != null) {
+            writer.name("frameTree").value(frameTree);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
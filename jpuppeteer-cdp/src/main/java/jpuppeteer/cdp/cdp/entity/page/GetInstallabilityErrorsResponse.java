@@ -5,12 +5,39 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetInstallabilityErrorsResponse {
+public class GetInstallabilityErrorsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private java.util.List<String> errors;
 
 
+    public static GetInstallabilityErrorsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetInstallabilityErrorsResponse object = new GetInstallabilityErrorsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "errors":
+                    object.errors = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (errors != null) {
+            writer.name("errors").value(errors);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetLayoutMetricsResponse {
+public class GetLayoutMetricsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Metrics relating to the layout viewport.
@@ -23,5 +23,44 @@ public class GetLayoutMetricsResponse {
     private jpuppeteer.cdp.cdp.entity.dom.Rect contentSize;
 
 
+    public static GetLayoutMetricsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetLayoutMetricsResponse object = new GetLayoutMetricsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "layoutViewport":
+                    object.layoutViewport = jpuppeteer.cdp.cdp.entity.page.LayoutViewport.decode(reader);
+                    break;
+                case "visualViewport":
+                    object.visualViewport = jpuppeteer.cdp.cdp.entity.page.VisualViewport.decode(reader);
+                    break;
+                case "contentSize":
+                    object.contentSize = jpuppeteer.cdp.cdp.entity.dom.Rect.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (layoutViewport != null) {
+            writer.name("layoutViewport").value(layoutViewport);
+        }
+        if (visualViewport != null) {
+            writer.name("visualViewport").value(visualViewport);
+        }
+        if (contentSize != null) {
+            writer.name("contentSize").value(contentSize);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
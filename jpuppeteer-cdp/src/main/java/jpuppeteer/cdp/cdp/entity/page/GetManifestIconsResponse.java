@@ -5,12 +5,39 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetManifestIconsResponse {
+public class GetManifestIconsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String primaryIcon;
 
 
+    public static GetManifestIconsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetManifestIconsResponse object = new GetManifestIconsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "primaryIcon":
+                    object.primaryIcon = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (primaryIcon != null) {
+            writer.name("primaryIcon").value(primaryIcon);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetNavigationHistoryResponse {
+public class GetNavigationHistoryResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Index of the current navigation history entry.
@@ -18,5 +18,38 @@ public class GetNavigationHistoryResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.page.NavigationEntry> entries;
 
 
+    public static GetNavigationHistoryResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetNavigationHistoryResponse object = new GetNavigationHistoryResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "currentIndex":
+                    object.currentIndex = reader.nextInteger();
+                    break;
+                case "entries":
+                    object.entries = reader.nextList(jpuppeteer.cdp.cdp.entity.page.NavigationEntry::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (currentIndex != null) {
+            writer.name("currentIndex").value(currentIndex);
+        }
+        if (entries != null) {
+            writer.name("entries").value(entries);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetResourceContentResponse {
+public class GetResourceContentResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Resource content.
@@ -18,5 +18,38 @@ public class GetResourceContentResponse {
     private Boolean base64Encoded;
 
 
+    public static GetResourceContentResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetResourceContentResponse object = new GetResourceContentResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "content":
+                    object.content = reader.nextString();
+                    break;
+                case "base64Encoded":
+                    object.base64Encoded = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (content != null) {
+            writer.name("content").value(content);
+        }
+        if (base64Encoded != null) {
+            writer.name("base64Encoded").value(base64Encoded);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
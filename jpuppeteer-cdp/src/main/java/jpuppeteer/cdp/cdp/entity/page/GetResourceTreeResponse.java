@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetResourceTreeResponse {
+public class GetResourceTreeResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Present frame / resource tree structure.
@@ -13,5 +13,32 @@ public class GetResourceTreeResponse {
     private jpuppeteer.cdp.cdp.entity.page.FrameResourceTree frameTree;
 
 
+    public static GetResourceTreeResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetResourceTreeResponse object = new GetResourceTreeResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameTree":
+                    object.frameTree = jpuppeteer.cdp.cdp.entity.page.FrameResourceTree.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameTree != null) {
+            writer.name("frameTree").value(frameTree);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class HandleJavaScriptDialogRequest {
+public class HandleJavaScriptDialogRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Whether to accept or dismiss the dialog.
@@ -18,5 +18,38 @@ public class HandleJavaScriptDialogRequest {
     private String promptText;
 
 
+    public static HandleJavaScriptDialogRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        HandleJavaScriptDialogRequest object = new HandleJavaScriptDialogRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "accept":
+                    object.accept = reader.nextBoolean();
+                    break;
+                case "promptText":
+                    object.promptText = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (accept != null) {
+            writer.name("accept").value(accept);
+        }
+        if (promptText != null) {
+            writer.name("promptText").value(promptText);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class JavascriptDialogClosedEvent {
+public class JavascriptDialogClosedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Whether dialog was confirmed.
@@ -19,5 +19,38 @@ public class JavascriptDialogClosedEvent {
     private String userInput;
 
 
+    public static JavascriptDialogClosedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        JavascriptDialogClosedEvent object = new JavascriptDialogClosedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "result":
+                    object.result = reader.nextBoolean();
+                    break;
+                case "userInput":
+                    object.userInput = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (result != null) {
+            writer.name("result").value(result);
+        }
+        if (userInput != null) {
+            writer.name("userInput").value(userInput);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
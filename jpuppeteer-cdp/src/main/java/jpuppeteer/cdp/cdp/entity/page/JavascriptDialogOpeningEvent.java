@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class JavascriptDialogOpeningEvent {
+public class JavascriptDialogOpeningEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Frame url.
@@ -34,5 +34,56 @@ public class JavascriptDialogOpeningEvent {
     private String defaultPrompt;
 
 
+    public static JavascriptDialogOpeningEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        JavascriptDialogOpeningEvent object = new JavascriptDialogOpeningEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "message":
+                    object.message = reader.nextString();
+                    break;
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "hasBrowserHandler":
+                    object.hasBrowserHandler = reader.nextBoolean();
+                    break;
+                case "defaultPrompt":
+                    object.defaultPrompt = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (message != null) {
+            writer.name("message").value(message);
+        }
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (hasBrowserHandler != null) {
+            writer.name("hasBrowserHandler").value(hasBrowserHandler);
+        }
+        if (defaultPrompt != null) {
+            writer.name("defaultPrompt").value(defaultPrompt);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class LayoutViewport {
+public class LayoutViewport implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Horizontal offset relative to the document (CSS pixels).
@@ -29,5 +29,50 @@ public class LayoutViewport {
     private Integer clientHeight;
 
 
+    public static LayoutViewport decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        LayoutViewport object = new LayoutViewport();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "pageX":
+                    object.pageX = reader.nextInteger();
+                    break;
+                case "pageY":
+                    object.pageY = reader.nextInteger();
+                    break;
+                case "clientWidth":
+                    object.clientWidth = reader.nextInteger();
+                    break;
+                case "clientHeight":
+                    object.clientHeight = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (pageX != null) {
+            writer.name("pageX").value(pageX);
+        }
+        if (pageY != null) {
+            writer.name("pageY").value(pageY);
+        }
+        if (clientWidth != null) {
+            writer.name("clientWidth").value(clientWidth);
+        }
+        if (clientHeight != null) {
+            writer.name("clientHeight").value(clientHeight);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class NavigateRequest {
+public class NavigateRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * URL to navigate the page to.
@@ -28,5 +28,50 @@ public class NavigateRequest {
     private String frameId;
 
 
+    public static NavigateRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        NavigateRequest object = new NavigateRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "referrer":
+                    object.referrer = reader.nextString();
+                    break;
+                case "transitionType":
+                    object.transitionType = reader.nextString();
+                    break;
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (referrer != null) {
+            writer.name("referrer").value(referrer);
+        }
+        if (transitionType != null) {
+            writer.name("transitionType").value(transitionType);
+        }
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class NavigateResponse {
+public class NavigateResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Frame id that has navigated (or failed to navigate)
@@ -23,5 +23,44 @@ public class NavigateResponse {
     private String errorText;
 
 
+    public static NavigateResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        NavigateResponse object = new NavigateResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                case "loaderId":
+                    object.loaderId = reader.nextString();
+                    break;
+                case "errorText":
+                    object.errorText = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (loaderId != null) {
+            writer.name("loaderId").value(loaderId);
+        }
+        if (errorText != null) {
+            writer.name("errorText").value(errorText);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class NavigateToHistoryEntryRequest {
+public class NavigateToHistoryEntryRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Unique id of the entry to navigate to.
@@ -13,5 +13,32 @@ public class NavigateToHistoryEntryRequest {
     private Integer entryId;
 
 
+    public static NavigateToHistoryEntryRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        NavigateToHistoryEntryRequest object = new NavigateToHistoryEntryRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "entryId":
+                    object.entryId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (entryId != null) {
+            writer.name("entryId").value(entryId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class NavigationEntry {
+public class NavigationEntry implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Unique id of the navigation history entry.
@@ -34,5 +34,56 @@ public class NavigationEntry {
     private String transitionType;
 
 
+    public static NavigationEntry decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        NavigationEntry object = new NavigationEntry();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    object.id = reader.nextInteger();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "userTypedURL":
+                    object.userTypedURL = reader.nextString();
+                    break;
+                case "title":
+                    object.title = reader.nextString();
+                    break;
+                case "transitionType":
+                    object.transitionType = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (id != null) {
+            writer.name("id").value(id);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (userTypedURL != null) {
+            writer.name("userTypedURL").value(userTypedURL);
+        }
+        if (title != null) {
+            writer.name("title").value(title);
+        }
+        if (transitionType != null) {
+            writer.name("transitionType").value(transitionType);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
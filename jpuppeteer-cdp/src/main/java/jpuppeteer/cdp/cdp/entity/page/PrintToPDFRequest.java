@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PrintToPDFRequest {
+public class PrintToPDFRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Paper orientation. Defaults to false.
@@ -88,5 +88,122 @@ public class PrintToPDFRequest {
     private String transferMode;
 
 
+    public static PrintToPDFRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PrintToPDFRequest object = new PrintToPDFRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "landscape":
+                    object.landscape = reader.nextBoolean();
+                    break;
+                case "displayHeaderFooter":
+                    object.displayHeaderFooter = reader.nextBoolean();
+                    break;
+                case "printBackground":
+                    object.printBackground = reader.nextBoolean();
+                    break;
+                case "scale":
+                    object.scale = reader.nextDouble();
+                    break;
+                case "paperWidth":
+                    object.paperWidth = reader.nextDouble();
+                    break;
+                case "paperHeight":
+                    object.paperHeight = reader.nextDouble();
+                    break;
+                case "marginTop":
+                    object.marginTop = reader.nextDouble();
+                    break;
+                case "marginBottom":
+                    object.marginBottom = reader.nextDouble();
+                    break;
+                case "marginLeft":
+                    object.marginLeft = reader.nextDouble();
+                    break;
+                case "marginRight":
+                    object.marginRight = reader.nextDouble();
+                    break;
+                case "pageRanges":
+                    object.pageRanges = reader.nextString();
+                    break;
+                case "ignoreInvalidPageRanges":
+                    object.ignoreInvalidPageRanges = reader.nextBoolean();
+                    break;
+                case "headerTemplate":
+                    object.headerTemplate = reader.nextString();
+                    break;
+                case "footerTemplate":
+                    object.footerTemplate = reader.nextString();
+                    break;
+                case "preferCSSPageSize":
+                    object.preferCSSPageSize = reader.nextBoolean();
+                    break;
+                case "transferMode":
+                    object.transferMode = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (landscape != null) {
+            writer.name("landscape").value(landscape);
+        }
+        if (displayHeaderFooter != null) {
+            writer.name("displayHeaderFooter").value(displayHeaderFooter);
+        }
+        if (printBackground != null) {
+            writer.name("printBackground").value(printBackground);
+        }
+        if (scale != null) {
+            writer.name("scale").value(scale);
+        }
+        if (paperWidth != null) {
+            writer.name("paperWidth").value(paperWidth);
+        }
+        if (paperHeight != null) {
+            writer.name("paperHeight").value(paperHeight);
+        }
+        if (marginTop != null) {
+            writer.name("marginTop").value(marginTop);
+        }
+        if (marginBottom != null) {
+            writer.name("marginBottom").value(marginBottom);
+        }
+        if (marginLeft != null) {
+            writer.name("marginLeft").value(marginLeft);
+        }
+        if (marginRight != null) {
+            writer.name("marginRight").value(marginRight);
+        }
+        if (pageRanges != null) {
+            writer.name("pageRanges").value(pageRanges);
+        }
+        if (ignoreInvalidPageRanges != null) {
+            writer.name("ignoreInvalidPageRanges").value(ignoreInvalidPageRanges);
+        }
+        if (headerTemplate != null) {
+            writer.name("headerTemplate").value(headerTemplate);
+        }
+        if (footerTemplate != null) {
+            writer.name("footerTemplate").value(footerTemplate);
+        }
+        if (preferCSSPageSize != null) {
+            writer.name("preferCSSPageSize").value(preferCSSPageSize);
+        }
+        if (transferMode != null) {
+            writer.name("transferMode").value(transferMode);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
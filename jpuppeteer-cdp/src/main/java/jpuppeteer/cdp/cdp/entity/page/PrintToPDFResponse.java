@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PrintToPDFResponse {
+public class PrintToPDFResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Base64-encoded pdf data. Empty if |returnAsStream| is specified.
@@ -18,5 +18,38 @@ public class PrintToPDFResponse {
     private String stream;
 
 
+    public static PrintToPDFResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PrintToPDFResponse object = new PrintToPDFResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "data":
+                    object.data = reader.nextString();
+                    break;
+                case "stream":
+                    object.stream = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (data != null) {
+            writer.name("data").value(data);
+        }
+        if (stream != null) {
+            writer.name("stream").value(stream);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
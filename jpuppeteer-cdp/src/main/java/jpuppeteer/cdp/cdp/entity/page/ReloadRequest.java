@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ReloadRequest {
+public class ReloadRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * If true, browser cache is ignored (as if the user pressed Shift+refresh).
@@ -18,5 +18,38 @@ public class ReloadRequest {
     private String scriptToEvaluateOnLoad;
 
 
+    public static ReloadRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ReloadRequest object = new ReloadRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "ignoreCache":
+                    object.ignoreCache = reader.nextBoolean();
+                    break;
+                case "scriptToEvaluateOnLoad":
+                    object.scriptToEvaluateOnLoad = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (ignoreCache != null) {
+            writer.name("ignoreCache").value(ignoreCache);
+        }
+        if (scriptToEvaluateOnLoad != null) {
+            writer.name("scriptToEvaluateOnLoad").value(scriptToEvaluateOnLoad);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,12 +5,39 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RemoveScriptToEvaluateOnLoadRequest {
+public class RemoveScriptToEvaluateOnLoadRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String identifier;
 
 
+    public static RemoveScriptToEvaluateOnLoadRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RemoveScriptToEvaluateOnLoadRequest object = new RemoveScriptToEvaluateOnLoadRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "identifier":
+                    object.identifier = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (identifier != null) {
+            writer.name("identifier").value(identifier);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ScreencastFrameAckRequest {
+public class ScreencastFrameAckRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Frame number.
@@ -13,5 +13,32 @@ public class ScreencastFrameAckRequest {
     private Integer sessionId;
 
 
+    public static ScreencastFrameAckRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ScreencastFrameAckRequest object = new ScreencastFrameAckRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "sessionId":
+                    object.sessionId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (sessionId != null) {
+            writer.name("sessionId").value(sessionId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ScreencastFrameEvent {
+public class ScreencastFrameEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Base64-encoded compressed image.
@@ -24,5 +24,44 @@ public class ScreencastFrameEvent {
     private Integer sessionId;
 
 
+    public static ScreencastFrameEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ScreencastFrameEvent object = new ScreencastFrameEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "data":
+                    object.data = reader.nextString();
+                    break;
+                case "metadata":
+                    object.metadata = jpuppeteer.cdp.cdp.entity.page.ScreencastFrameMetadata.decode(reader);
+                    break;
+                case "sessionId":
+                    object.sessionId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (data != null) {
+            writer.name("data").value(data);
+        }
+        if (metadata != null) {
+            writer.name("metadata").value(metadata);
+        }
+        if (sessionId != null) {
+            writer.name("sessionId").value(sessionId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
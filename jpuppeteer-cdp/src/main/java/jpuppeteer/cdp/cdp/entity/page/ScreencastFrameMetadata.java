@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ScreencastFrameMetadata {
+public class ScreencastFrameMetadata implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Top offset in DIP.
@@ -44,5 +44,68 @@ public class ScreencastFrameMetadata {
     private Double timestamp;
 
 
+    public static ScreencastFrameMetadata decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ScreencastFrameMetadata object = new ScreencastFrameMetadata();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "offsetTop":
+                    object.offsetTop = reader.nextDouble();
+                    break;
+                case "pageScaleFactor":
+                    object.pageScaleFactor = reader.nextDouble();
+                    break;
+                case "deviceWidth":
+                    object.deviceWidth = reader.nextDouble();
+                    break;
+                case "deviceHeight":
+                    object.deviceHeight = reader.nextDouble();
+                    break;
+                case "scrollOffsetX":
+                    object.scrollOffsetX = reader.nextDouble();
+                    break;
+                case "scrollOffsetY":
+                    object.scrollOffsetY = reader.nextDouble();
+                    break;
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (offsetTop != null) {
+            writer.name("offsetTop").value(offsetTop);
+        }
+        if (pageScaleFactor != null) {
+            writer.name("pageScaleFactor").value(pageScaleFactor);
+        }
+        if (deviceWidth != null) {
+            writer.name("deviceWidth").value(deviceWidth);
+        }
+        if (deviceHeight != null) {
+            writer.name("deviceHeight").value(deviceHeight);
+        }
+        if (scrollOffsetX != null) {
+            writer.name("scrollOffsetX").value(scrollOffsetX);
+        }
+        if (scrollOffsetY != null) {
+            writer.name("scrollOffsetY").value(scrollOffsetY);
+        }
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ScreencastVisibilityChangedEvent {
+public class ScreencastVisibilityChangedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * True if the page is visible.
@@ -14,5 +14,32 @@ public class ScreencastVisibilityChangedEvent {
     private Boolean visible;
 
 
+    public static ScreencastVisibilityChangedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ScreencastVisibilityChangedEvent object = new ScreencastVisibilityChangedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "visible":
+                    object.visible = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (visible != null) {
+            writer.name("visible").value(visible);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
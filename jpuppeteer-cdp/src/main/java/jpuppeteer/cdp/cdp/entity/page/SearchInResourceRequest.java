@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SearchInResourceRequest {
+public class SearchInResourceRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Frame id for resource to search in.
@@ -33,5 +33,56 @@ public class SearchInResourceRequest {
     private Boolean isRegex;
 
 
+    public static SearchInResourceRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SearchInResourceRequest object = new SearchInResourceRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "query":
+                    object.query = reader.nextString();
+                    break;
+                case "caseSensitive":
+                    object.caseSensitive = reader.nextBoolean();
+                    break;
+                case "isRegex":
+                    object.isRegex = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (query != null) {
+            writer.name("query").value(query);
+        }
+        if (caseSensitive != null) {
+            writer.name("caseSensitive").value(caseSensitive);
+        }
+        if (isRegex != null) {
+            writer.name("isRegex").value(isRegex);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetAdBlockingEnabledRequest {
+public class SetAdBlockingEnabledRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Whether to block ads.
@@ -13,5 +13,32 @@ public class SetAdBlockingEnabledRequest {
     private Boolean enabled;
 
 
+    public static SetAdBlockingEnabledRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetAdBlockingEnabledRequest object = new SetAdBlockingEnabledRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "enabled":
+                    object.enabled = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (enabled != null) {
+            writer.name("enabled").value(enabled);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
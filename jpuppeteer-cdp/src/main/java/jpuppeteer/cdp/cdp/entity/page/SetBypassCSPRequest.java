@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetBypassCSPRequest {
+public class SetBypassCSPRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Whether to bypass page CSP.
@@ -13,5 +13,32 @@ public class SetBypassCSPRequest {
     private Boolean enabled;
 
 
+    public static SetBypassCSPRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetBypassCSPRequest object = new SetBypassCSPRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "enabled":
+                    object.enabled = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (enabled != null) {
+            writer.name("enabled").value(enabled);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
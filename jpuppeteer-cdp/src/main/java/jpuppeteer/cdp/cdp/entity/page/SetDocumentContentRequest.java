@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetDocumentContentRequest {
+public class SetDocumentContentRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Frame id to set HTML for.
@@ -18,5 +18,38 @@ public class SetDocumentContentRequest {
     private String html;
 
 
+    public static SetDocumentContentRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetDocumentContentRequest object = new SetDocumentContentRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "frameId":
+                    object.frameId = reader.nextString();
+                    break;
+                case "html":
+                    object.html = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (frameId != null) {
+            writer.name("frameId").value(frameId);
+        }
+        if (html != null) {
+            writer.name("html").value(html);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
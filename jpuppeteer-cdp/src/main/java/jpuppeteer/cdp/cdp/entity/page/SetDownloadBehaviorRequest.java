@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetDownloadBehaviorRequest {
+public class SetDownloadBehaviorRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Whether to allow all or deny all download requests, or use default Chrome behavior if available (otherwise deny).
@@ -18,5 +18,38 @@ public class SetDownloadBehaviorRequest {
     private String downloadPath;
 
 
+    public static SetDownloadBehaviorRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetDownloadBehaviorRequest object = new SetDownloadBehaviorRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "behavior":
+                    object.behavior = reader.nextString();
+                    break;
+                case "downloadPath":
+                    object.downloadPath = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (behavior != null) {
+            writer.name("behavior").value(behavior);
+        }
+        if (downloadPath != null) {
+            writer.name("downloadPath").value(downloadPath);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetFontFamiliesRequest {
+public class SetFontFamiliesRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Specifies font families to set. If a font family is not specified, it won't be changed.
@@ -13,5 +13,32 @@ public class SetFontFamiliesRequest {
     private jpuppeteer.cdp.cdp.entity.page.FontFamilies fontFamilies;
 
 
+    public static SetFontFamiliesRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetFontFamiliesRequest object = new SetFontFamiliesRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "fontFamilies":
+                    object.fontFamilies = jpuppeteer.cdp.cdp.entity.page.FontFamilies.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (fontFamilies != null) {
+            writer.name("fontFamilies").value(fontFamilies);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
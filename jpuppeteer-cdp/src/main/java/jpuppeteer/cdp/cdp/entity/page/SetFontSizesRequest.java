@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetFontSizesRequest {
+public class SetFontSizesRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Specifies font sizes to set. If a font size is not specified, it won't be changed.
@@ -13,5 +13,32 @@ public class SetFontSizesRequest {
     private jpuppeteer.cdp.cdp.entity.page.FontSizes fontSizes;
 
 
+    public static SetFontSizesRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetFontSizesRequest object = new SetFontSizesRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "fontSizes":
+                    object.fontSizes = jpuppeteer.cdp.cdp.entity.page.FontSizes.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (fontSizes != null) {
+            writer.name("fontSizes").value(fontSizes);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
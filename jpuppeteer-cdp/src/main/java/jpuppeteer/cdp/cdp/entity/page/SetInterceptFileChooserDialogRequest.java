@@ -5,12 +5,39 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetInterceptFileChooserDialogRequest {
+public class SetInterceptFileChooserDialogRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private Boolean enabled;
 
 
+    public static SetInterceptFileChooserDialogRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetInterceptFileChooserDialogRequest object = new SetInterceptFileChooserDialogRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "enabled":
+                    object.enabled = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (enabled != null) {
+            writer.name("enabled").value(enabled);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetLifecycleEventsEnabledRequest {
+public class SetLifecycleEventsEnabledRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * If true, starts emitting lifecycle events.
@@ -13,5 +13,32 @@ public class SetLifecycleEventsEnabledRequest {
     private Boolean enabled;
 
 
+    public static SetLifecycleEventsEnabledRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetLifecycleEventsEnabledRequest object = new SetLifecycleEventsEnabledRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "enabled":
+                    object.enabled = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (enabled != null) {
+            writer.name("enabled").value(enabled);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetTouchEmulationEnabledRequest {
+public class SetTouchEmulationEnabledRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Whether the touch event emulation should be enabled.
@@ -18,5 +18,38 @@ public class SetTouchEmulationEnabledRequest {
     private String configuration;
 
 
+    public static SetTouchEmulationEnabledRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetTouchEmulationEnabledRequest object = new SetTouchEmulationEnabledRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "enabled":
+                    object.enabled = reader.nextBoolean();
+                    break;
+                case "configuration":
+                    object.configuration = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (enabled != null) {
+            writer.name("enabled").value(enabled);
+        }
+        if (configuration != null) {
+            writer.name("configuration").value(configuration);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetWebLifecycleStateRequest {
+public class SetWebLifecycleStateRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Target lifecycle state
@@ -13,5 +13,32 @@ public class SetWebLifecycleStateRequest {
     private String state;
 
 
+    public static SetWebLifecycleStateRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetWebLifecycleStateRequest object = new SetWebLifecycleStateRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "state":
+                    object.state = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (state != null) {
+            writer.name("state").value(state);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
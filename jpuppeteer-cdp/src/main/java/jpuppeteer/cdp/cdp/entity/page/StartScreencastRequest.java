@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StartScreencastRequest {
+public class StartScreencastRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Image compression format.
@@ -33,5 +33,56 @@ public class StartScreencastRequest {
     private Integer everyNthFrame;
 
 
+    public static StartScreencastRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StartScreencastRequest object = new StartScreencastRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "format":
+                    object.format = reader.nextString();
+                    break;
+                case "quality":
+                    object.quality = reader.nextInteger();
+                    break;
+                case "maxWidth":
+                    object.maxWidth = reader.nextInteger();
+                    break;
+                case "maxHeight":
+                    object.maxHeight = reader.nextInteger();
+                    break;
+                case "everyNthFrame":
+                    object.everyNthFrame = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (format != null) {
+            writer.name("format").value(format);
+        }
+        if (quality != null) {
+            writer.name("quality").value(quality);
+        }
+        if (maxWidth != null) {
+            writer.name("maxWidth").value(maxWidth);
+        }
+        if (maxHeight != null) {
+            writer.name("maxHeight").value(maxHeight);
+        }
+        if (everyNthFrame != null) {
+            writer.name("everyNthFrame").value(everyNthFrame);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
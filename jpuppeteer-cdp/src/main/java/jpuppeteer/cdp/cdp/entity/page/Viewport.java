@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Viewport {
+public class Viewport implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * X offset in device independent pixels (dip).
@@ -34,5 +34,56 @@ public class Viewport {
     private Double scale;
 
 
+    public static Viewport decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Viewport object = new Viewport();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "x":
+                    object.x = reader.nextDouble();
+                    break;
+                case "y":
+                    object.y = reader.nextDouble();
+                    break;
+                case "width":
+                    object.width = reader.nextDouble();
+                    break;
+                case "height":
+                    object.height = reader.nextDouble();
+                    break;
+                case "scale":
+                    object.scale = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (x != null) {
+            writer.name("x").value(x);
+        }
+        if (y != null) {
+            writer.name("y").value(y);
+        }
+        if (width != null) {
+            writer.name("width").value(width);
+        }
+        if (height != null) {
+            writer.name("height").value(height);
+        }
+        if (scale != null) {
+            writer.name("scale").value(scale);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
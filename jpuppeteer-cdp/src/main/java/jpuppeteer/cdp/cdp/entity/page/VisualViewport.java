@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class VisualViewport {
+public class VisualViewport implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Horizontal offset relative to the layout viewport (CSS pixels).
@@ -49,5 +49,74 @@ public class VisualViewport {
     private Double zoom;
 
 
+    public static VisualViewport decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        VisualViewport object = new VisualViewport();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "offsetX":
+                    object.offsetX = reader.nextDouble();
+                    break;
+                case "offsetY":
+                    object.offsetY = reader.nextDouble();
+                    break;
+                case "pageX":
+                    object.pageX = reader.nextDouble();
+                    break;
+                case "pageY":
+                    object.pageY = reader.nextDouble();
+                    break;
+                case "clientWidth":
+                    object.clientWidth = reader.nextDouble();
+                    break;
+                case "clientHeight":
+                    object.clientHeight = reader.nextDouble();
+                    break;
+                case "scale":
+                    object.scale = reader.nextDouble();
+                    break;
+                case "zoom":
+                    object.zoom = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (offsetX != null) {
+            writer.name("offsetX").value(offsetX);
+        }
+        if (offsetY != null) {
+            writer.name("offsetY").value(offsetY);
+        }
+        if (pageX != null) {
+            writer.name("pageX").value(pageX);
+        }
+        if (pageY != null) {
+            writer.name("pageY").value(pageY);
+        }
+        if (clientWidth != null) {
+            writer.name("clientWidth").value(clientWidth);
+        }
+        if (clientHeight != null) {
+            writer.name("clientHeight").value(clientHeight);
+        }
+        if (scale != null) {
+            writer.name("scale").value(scale);
+        }
+        if (zoom != null) {
+            writer.name("zoom").value(zoom);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.page;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class WindowOpenEvent {
+public class WindowOpenEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The URL for the new window.
@@ -29,5 +29,50 @@ public class WindowOpenEvent {
     private Boolean userGesture;
 
 
+    public static WindowOpenEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        WindowOpenEvent object = new WindowOpenEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "windowName":
+                    object.windowName = reader.nextString();
+                    break;
+                case "windowFeatures":
+                    object.windowFeatures = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "userGesture":
+                    object.userGesture = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (windowName != null) {
+            writer.name("windowName").value(windowName);
+        }
+        if (windowFeatures != null) {
+            writer.name("windowFeatures").value(windowFeatures);
+        }
+        if (userGesture != null) {
+            writer.name("userGesture").value(userGesture);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
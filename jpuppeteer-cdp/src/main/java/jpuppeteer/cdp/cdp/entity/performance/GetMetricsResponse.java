@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.performance;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetMetricsResponse {
+public class GetMetricsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Current values for run-time metrics.
@@ -13,5 +13,32 @@ public class GetMetricsResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.performance.Metric> metrics;
 
 
+    public static GetMetricsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetMetricsResponse object = new GetMetricsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "metrics":
+                    object.metrics = reader.nextList(jpuppeteer.cdp.cdp.entity.performance.Metric::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (metrics != null) {
+            writer.name("metrics").value(metrics);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.performance;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Metric {
+public class Metric implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Metric name.
@@ -19,5 +19,38 @@ public class Metric {
     private Double value;
 
 
+    public static Metric decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Metric object = new Metric();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "value":
+                    object.value = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
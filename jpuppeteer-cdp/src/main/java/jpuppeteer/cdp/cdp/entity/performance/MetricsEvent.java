@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.performance;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class MetricsEvent {
+public class MetricsEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Current values of the metrics.
@@ -19,5 +19,38 @@ public class MetricsEvent {
     private String title;
 
 
+    public static MetricsEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        MetricsEvent object = new MetricsEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "metrics":
+                    object.metrics = reader.nextList(jpuppeteer.cdp.cdp.entity.performance.Metric::decode);
+                    break;
+                case "title":
+                    object.title = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (metrics != null) {
+            writer.name("metrics").value(metrics);
+        }
+        if (title != null) {
+            writer.name("title").value(title);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
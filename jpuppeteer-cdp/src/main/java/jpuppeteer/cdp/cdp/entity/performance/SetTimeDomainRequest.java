@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.performance;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetTimeDomainRequest {
+public class SetTimeDomainRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Time domain
@@ -13,5 +13,32 @@ public class SetTimeDomainRequest {
     private String timeDomain;
 
 
+    public static SetTimeDomainRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetTimeDomainRequest object = new SetTimeDomainRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "timeDomain":
+                    object.timeDomain = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (timeDomain != null) {
+            writer.name("timeDomain").value(timeDomain);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.profiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ConsoleProfileFinishedEvent {
+public class ConsoleProfileFinishedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -26,5 +26,50 @@ public class ConsoleProfileFinishedEvent {
     private String title;
 
 
+    public static ConsoleProfileFinishedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ConsoleProfileFinishedEvent object = new ConsoleProfileFinishedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    object.id = reader.nextString();
+                    break;
+                case "location":
+                    object.location = jpuppeteer.cdp.cdp.entity.debugger.Location.decode(reader);
+                    break;
+                case "profile":
+                    object.profile = jpuppeteer.cdp.cdp.entity.profiler.Profile.decode(reader);
+                    break;
+                case "title":
+                    object.title = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (id != null) {
+            writer.name("id").value(id);
+        }
+        if (location != null) {
+            writer.name("location").value(location);
+        }
+        if (profile != null) {
+            writer.name("profile").value(profile);
+        }
+        if (title != null) {
+            writer.name("title").value(title);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.profiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ConsoleProfileStartedEvent {
+public class ConsoleProfileStartedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -23,5 +23,44 @@ public class ConsoleProfileStartedEvent {
     private String title;
 
 
+    public static ConsoleProfileStartedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ConsoleProfileStartedEvent object = new ConsoleProfileStartedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    object.id = reader.nextString();
+                    break;
+                case "location":
+                    object.location = jpuppeteer.cdp.cdp.entity.debugger.Location.decode(reader);
+                    break;
+                case "title":
+                    object.title = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (id != null) {
+            writer.name("id").value(id);
+        }
+        if (location != null) {
+            writer.name("location").value(location);
+        }
+        if (title != null) {
+            writer.name("title").value(title);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.profiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CounterInfo {
+public class CounterInfo implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Counter name.
@@ -19,5 +19,38 @@ public class CounterInfo {
     private Integer value;
 
 
+    public static CounterInfo decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CounterInfo object = new CounterInfo();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "value":
+                    object.value = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.profiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CoverageRange {
+public class CoverageRange implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * JavaScript script source offset for the range start.
@@ -24,5 +24,44 @@ public class CoverageRange {
     private Integer count;
 
 
+    public static CoverageRange decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CoverageRange object = new CoverageRange();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "startOffset":
+                    object.startOffset = reader.nextInteger();
+                    break;
+                case "endOffset":
+                    object.endOffset = reader.nextInteger();
+                    break;
+                case "count":
+                    object.count = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (startOffset != null) {
+            writer.name("startOffset").value(startOffset);
+        }
+        if (endOffset != null) {
+            writer.name("endOffset").value(endOffset);
+        }
+        if (count != null) {
+            writer.name("count").value(count);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
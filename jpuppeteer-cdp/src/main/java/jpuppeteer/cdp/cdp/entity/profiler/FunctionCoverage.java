@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.profiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class FunctionCoverage {
+public class FunctionCoverage implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * JavaScript function name.
@@ -24,5 +24,44 @@ public class FunctionCoverage {
     private Boolean isBlockCoverage;
 
 
+    public static FunctionCoverage decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        FunctionCoverage object = new FunctionCoverage();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "functionName":
+                    object.functionName = reader.nextString();
+                    break;
+                case "ranges":
+                    object.ranges = reader.nextList(jpuppeteer.cdp.cdp.entity.profiler.CoverageRange::decode);
+                    break;
+                case "isBlockCoverage":
+                    object.isBlockCoverage = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (functionName != null) {
+            writer.name("functionName").value(functionName);
+        }
+        if (ranges != null) {
+            writer.name("ranges").value(ranges);
+        }
+        if (isBlockCoverage != null) {
+            writer.name("isBlockCoverage").value(isBlockCoverage);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.profiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetBestEffortCoverageResponse {
+public class GetBestEffortCoverageResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Coverage data for the current isolate.
@@ -13,5 +13,32 @@ public class GetBestEffortCoverageResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.profiler.ScriptCoverage> result;
 
 
+    public static GetBestEffortCoverageResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetBestEffortCoverageResponse object = new GetBestEffortCoverageResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "result":
+                    object.result = reader.nextList(jpuppeteer.cdp.cdp.entity.profiler.ScriptCoverage::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (result != null) {
+            writer.name("result").value(result);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.profiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetRuntimeCallStatsResponse {
+public class GetRuntimeCallStatsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Collected counter information.
@@ -13,5 +13,32 @@ public class GetRuntimeCallStatsResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.profiler.CounterInfo> result;
 
 
+    public static GetRuntimeCallStatsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetRuntimeCallStatsResponse object = new GetRuntimeCallStatsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "result":
+                    object.result = reader.nextList(jpuppeteer.cdp.cdp.entity.profiler.CounterInfo::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (result != null) {
+            writer.name("result").value(result);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.profiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PositionTickInfo {
+public class PositionTickInfo implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Source line number (1-based).
@@ -19,5 +19,38 @@ public class PositionTickInfo {
     private Integer ticks;
 
 
+    public static PositionTickInfo decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PositionTickInfo object = new PositionTickInfo();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "line":
+                    object.line = reader.nextInteger();
+                    break;
+                case "ticks":
+                    object.ticks = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (line != null) {
+            writer.name("line").value(line);
+        }
+        if (ticks != null) {
+            writer.name("ticks").value(ticks);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.profiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Profile {
+public class Profile implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The list of profile nodes. First item is the root node.
@@ -34,5 +34,56 @@ public class Profile {
     private java.util.List<Integer> timeDeltas;
 
 
+    public static Profile decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Profile object = new Profile();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodes":
+                    object.nodes = reader.nextList(jpuppeteer.cdp.cdp.entity.profiler.ProfileNode::decode);
+                    break;
+                case "startTime":
+                    object.startTime = reader.nextDouble();
+                    break;
+                case "endTime":
+                    object.endTime = reader.nextDouble();
+                    break;
+                case "samples":
+                    object.samples = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                case "timeDeltas":
+                    object.timeDeltas = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodes != null) {
+            writer.name("nodes").value(nodes);
+        }
+        if (startTime != null) {
+            writer.name("startTime").value(startTime);
+        }
+        if (endTime != null) {
+            writer.name("endTime").value(endTime);
+        }
+        if (samples != null) {
+            writer.name("samples").value(samples);
+        }
+        if (timeDeltas != null) {
+            writer.name("timeDeltas").value(timeDeltas);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.profiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ProfileNode {
+public class ProfileNode implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Unique id of the node.
@@ -39,5 +39,62 @@ public class ProfileNode {
     private java.util.List<jpuppeteer.cdp.cdp.entity.profiler.PositionTickInfo> positionTicks;
 
 
+    public static ProfileNode decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ProfileNode object = new ProfileNode();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    object.id = reader.nextInteger();
+                    break;
+                case "callFrame":
+                    object.callFrame = jpuppeteer.cdp.cdp.entity.runtime.CallFrame.decode(reader);
+                    break;
+                case "hitCount":
+                    object.hitCount = reader.nextInteger();
+                    break;
+                case "children":
+                    object.children = reader.nextList(jpuppeteer.cdp.JsonReader::nextInteger);
+                    break;
+                case "deoptReason":
+                    object.deoptReason = reader.nextString();
+                    break;
+                case "positionTicks":
+                    object.positionTicks = reader.nextList(jpuppeteer.cdp.cdp.entity.profiler.PositionTickInfo::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (id != null) {
+            writer.name("id").value(id);
+        }
+        if (callFrame != null) {
+            writer.name("callFrame").value(callFrame);
+        }
+        if (hitCount != null) {
+            writer.name("hitCount").value(hitCount);
+        }
+        if (children != null) {
+            writer.name("children").value(children);
+        }
+        if (deoptReason != null) {
+            writer.name("deoptReason").value(deoptReason);
+        }
+        if (positionTicks != null) {
+            writer.name("positionTicks").value(positionTicks);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
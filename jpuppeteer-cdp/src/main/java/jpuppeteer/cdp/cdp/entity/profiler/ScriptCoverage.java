@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.profiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ScriptCoverage {
+public class ScriptCoverage implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * JavaScript script id.
@@ -24,5 +24,44 @@ public class ScriptCoverage {
     private java.util.List<jpuppeteer.cdp.cdp.entity.profiler.FunctionCoverage> functions;
 
 
+    public static ScriptCoverage decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ScriptCoverage object = new ScriptCoverage();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "scriptId":
+                    object.scriptId = reader.nextString();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "functions":
+                    object.functions = reader.nextList(jpuppeteer.cdp.cdp.entity.profiler.FunctionCoverage::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (scriptId != null) {
+            writer.name("scriptId").value(scriptId);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (functions != null) {
+            writer.name("functions").value(functions);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
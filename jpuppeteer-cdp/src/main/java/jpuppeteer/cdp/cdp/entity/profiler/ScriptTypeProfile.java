@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.profiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ScriptTypeProfile {
+public class ScriptTypeProfile implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * JavaScript script id.
@@ -24,5 +24,44 @@ public class ScriptTypeProfile {
     private java.util.List<jpuppeteer.cdp.cdp.entity.profiler.TypeProfileEntry> entries;
 
 
+    public static ScriptTypeProfile decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ScriptTypeProfile object = new ScriptTypeProfile();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "scriptId":
+                    object.scriptId = reader.nextString();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "entries":
+                    object.entries = reader.nextList(jpuppeteer.cdp.cdp.entity.profiler.TypeProfileEntry::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (scriptId != null) {
+            writer.name("scriptId").value(scriptId);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (entries != null) {
+            writer.name("entries").value(entries);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
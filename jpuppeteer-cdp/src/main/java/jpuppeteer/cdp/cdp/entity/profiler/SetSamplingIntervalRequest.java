@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.profiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetSamplingIntervalRequest {
+public class SetSamplingIntervalRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * New sampling interval in microseconds.
@@ -13,5 +13,32 @@ public class SetSamplingIntervalRequest {
     private Integer interval;
 
 
+    public static SetSamplingIntervalRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetSamplingIntervalRequest object = new SetSamplingIntervalRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "interval":
+                    object.interval = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (interval != null) {
+            writer.name("interval").value(interval);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.profiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StartPreciseCoverageRequest {
+public class StartPreciseCoverageRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Collect accurate call counts beyond simple 'covered' or 'not covered'.
@@ -18,5 +18,38 @@ public class StartPreciseCoverageRequest {
     private Boolean detailed;
 
 
+    public static StartPreciseCoverageRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StartPreciseCoverageRequest object = new StartPreciseCoverageRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "callCount":
+                    object.callCount = reader.nextBoolean();
+                    break;
+                case "detailed":
+                    object.detailed = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (callCount != null) {
+            writer.name("callCount").value(callCount);
+        }
+        if (detailed != null) {
+            writer.name("detailed").value(detailed);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
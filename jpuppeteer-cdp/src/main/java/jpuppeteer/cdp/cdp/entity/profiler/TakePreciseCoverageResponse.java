@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.profiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class TakePreciseCoverageResponse {
+public class TakePreciseCoverageResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Coverage data for the current isolate.
@@ -13,5 +13,32 @@ public class TakePreciseCoverageResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.profiler.ScriptCoverage> result;
 
 
+    public static TakePreciseCoverageResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        TakePreciseCoverageResponse object = new TakePreciseCoverageResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "result":
+                    object.result = reader.nextList(jpuppeteer.cdp.cdp.entity.profiler.ScriptCoverage::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (result != null) {
+            writer.name("result").value(result);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.profiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class TakeTypeProfileResponse {
+public class TakeTypeProfileResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Type profile for all scripts since startTypeProfile() was turned on.
@@ -13,5 +13,32 @@ public class TakeTypeProfileResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.profiler.ScriptTypeProfile> result;
 
 
+    public static TakeTypeProfileResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        TakeTypeProfileResponse object = new TakeTypeProfileResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "result":
+                    object.result = reader.nextList(jpuppeteer.cdp.cdp.entity.profiler.ScriptTypeProfile::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (result != null) {
+            writer.name("result").value(result);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
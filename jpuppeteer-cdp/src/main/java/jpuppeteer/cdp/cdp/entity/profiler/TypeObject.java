@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.profiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class TypeObject {
+public class TypeObject implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Name of a type collected with type profiling.
@@ -14,5 +14,32 @@ public class TypeObject {
     private String name;
 
 
+    public static TypeObject decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        TypeObject object = new TypeObject();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
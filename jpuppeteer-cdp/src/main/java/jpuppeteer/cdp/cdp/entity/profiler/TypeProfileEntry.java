@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.profiler;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class TypeProfileEntry {
+public class TypeProfileEntry implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Source offset of the parameter or end of function for return values.
@@ -19,5 +19,38 @@ public class TypeProfileEntry {
     private java.util.List<jpuppeteer.cdp.cdp.entity.profiler.TypeObject> types;
 
 
+    public static TypeProfileEntry decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        TypeProfileEntry object = new TypeProfileEntry();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "offset":
+                    object.offset = reader.nextInteger();
+                    break;
+                case "types":
+                    object.types = reader.nextList(jpuppeteer.cdp.cdp.entity.profiler.TypeObject::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (offset != null) {
+            writer.name("offset").value(offset);
+        }
+        if (types != null) {
+            writer.name("types").value(types);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
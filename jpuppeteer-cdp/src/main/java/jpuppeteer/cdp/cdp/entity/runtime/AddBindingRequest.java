@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AddBindingRequest {
+public class AddBindingRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -16,5 +16,38 @@ public class AddBindingRequest {
     private Integer executionContextId;
 
 
+    public static AddBindingRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AddBindingRequest object = new AddBindingRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "executionContextId":
+                    object.executionContextId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (executionContextId != null) {
+            writer.name("executionContextId").value(executionContextId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AwaitPromiseRequest {
+public class AwaitPromiseRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the promise.
@@ -23,5 +23,44 @@ public class AwaitPromiseRequest {
     private Boolean generatePreview;
 
 
+    public static AwaitPromiseRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AwaitPromiseRequest object = new AwaitPromiseRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "promiseObjectId":
+                    object.promiseObjectId = reader.nextString();
+                    break;
+                case "returnByValue":
+                    object.returnByValue = reader.nextBoolean();
+                    break;
+                case "generatePreview":
+                    object.generatePreview = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (promiseObjectId != null) {
+            writer.name("promiseObjectId").value(promiseObjectId);
+        }
+        if (returnByValue != null) {
+            writer.name("returnByValue").value(returnByValue);
+        }
+        if (generatePreview != null) {
+            writer.name("generatePreview").value(generatePreview);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class BindingCalledEvent {
+public class BindingCalledEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -22,5 +22,44 @@ public class BindingCalledEvent {
     private Integer executionContextId;
 
 
+    public static BindingCalledEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        BindingCalledEvent object = new BindingCalledEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "payload":
+                    object.payload = reader.nextString();
+                    break;
+                case "executionContextId":
+                    object.executionContextId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (payload != null) {
+            writer.name("payload").value(payload);
+        }
+        if (executionContextId != null) {
+            writer.name("executionContextId").value(executionContextId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
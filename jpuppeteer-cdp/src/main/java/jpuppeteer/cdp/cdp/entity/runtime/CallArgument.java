@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CallArgument {
+public class CallArgument implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Primitive value or serializable javascript object.
@@ -24,5 +24,44 @@ public class CallArgument {
     private String objectId;
 
 
+    public static CallArgument decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CallArgument object = new CallArgument();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "value":
+                    object.value = reader.nextAny();
+                    break;
+                case "unserializableValue":
+                    object.unserializableValue = reader.nextString();
+                    break;
+                case "objectId":
+                    object.objectId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        if (unserializableValue != null) {
+            writer.name("unserializableValue").value(unserializableValue);
+        }
+        if (objectId != null) {
+            writer.name("objectId").value(objectId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
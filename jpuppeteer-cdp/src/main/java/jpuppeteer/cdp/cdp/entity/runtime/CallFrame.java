@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CallFrame {
+public class CallFrame implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * JavaScript function name.
@@ -34,5 +34,56 @@ public class CallFrame {
     private Integer columnNumber;
 
 
+    public static CallFrame decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CallFrame object = new CallFrame();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "functionName":
+                    object.functionName = reader.nextString();
+                    break;
+                case "scriptId":
+                    object.scriptId = reader.nextString();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "lineNumber":
+                    object.lineNumber = reader.nextInteger();
+                    break;
+                case "columnNumber":
+                    object.columnNumber = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (functionName != null) {
+            writer.name("functionName").value(functionName);
+        }
+        if (scriptId != null) {
+            writer.name("scriptId").value(scriptId);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (lineNumber != null) {
+            writer.name("lineNumber").value(lineNumber);
+        }
+        if (columnNumber != null) {
+            writer.name("columnNumber").value(columnNumber);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CallFunctionOnRequest {
+public class CallFunctionOnRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Declaration of the function to call.
@@ -58,5 +58,86 @@ public class CallFunctionOnRequest {
     private String objectGroup;
 
 
+    public static CallFunctionOnRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CallFunctionOnRequest object = new CallFunctionOnRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "functionDeclaration":
+                    object.functionDeclaration = reader.nextString();
+                    break;
+                case "objectId":
+                    object.objectId = reader.nextString();
+                    break;
+                case "arguments":
+                    object.arguments = reader.nextList(jpuppeteer.cdp.cdp.entity.runtime.CallArgument::decode);
+                    break;
+                case "silent":
+                    object.silent = reader.nextBoolean();
+                    break;
+                case "returnByValue":
+                    object.returnByValue = reader.nextBoolean();
+                    break;
+                case "generatePreview":
+                    object.generatePreview = reader.nextBoolean();
+                    break;
+                case "userGesture":
+                    object.userGesture = reader.nextBoolean();
+                    break;
+                case "awaitPromise":
+                    object.awaitPromise = reader.nextBoolean();
+                    break;
+                case "executionContextId":
+                    object.executionContextId = reader.nextInteger();
+                    break;
+                case "objectGroup":
+                    object.objectGroup = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (functionDeclaration != null) {
+            writer.name("functionDeclaration").value(functionDeclaration);
+        }
+        if (objectId != null) {
+            writer.name("objectId").value(objectId);
+        }
+        if (arguments != null) {
+            writer.name("arguments").value(arguments);
+        }
+        if (silent != null) {
+            writer.name("silent").value(silent);
+        }
+        if (returnByValue != null) {
+            writer.name("returnByValue").value(returnByValue);
+        }
+        if (generatePreview != null) {
+            writer.name("generatePreview").value(generatePreview);
+        }
+        if (userGesture != null) {
+            writer.name("userGesture").value(userGesture);
+        }
+        if (awaitPromise != null) {
+            writer.name("awaitPromise").value(awaitPromise);
+        }
+        if (executionContextId != null) {
+            writer.name("executionContextId").value(executionContextId);
+        }
+        if (objectGroup != null) {
+            writer.name("objectGroup").value(objectGroup);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
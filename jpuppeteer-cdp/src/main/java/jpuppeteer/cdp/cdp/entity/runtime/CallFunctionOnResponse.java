@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CallFunctionOnResponse {
+public class CallFunctionOnResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Call result.
@@ -18,5 +18,38 @@ public class CallFunctionOnResponse {
     private jpuppeteer.cdp.cdp.entity.runtime.ExceptionDetails exceptionDetails;
 
 
+    public static CallFunctionOnResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CallFunctionOnResponse object = new CallFunctionOnResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "result":
+                    object.result = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                case "exceptionDetails":
+                    object.exceptionDetails = jpuppeteer.cdp.cdp.entity.runtime.ExceptionDetails.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (result != null) {
+            writer.name("result").value(result);
+        }
+        if (exceptionDetails != null) {
+            writer.name("exceptionDetails").value(exceptionDetails);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CompileScriptRequest {
+public class CompileScriptRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Expression to compile.
@@ -28,5 +28,50 @@ public class CompileScriptRequest {
     private Integer executionContextId;
 
 
+    public static CompileScriptRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CompileScriptRequest object = new CompileScriptRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "expression":
+                    object.expression = reader.nextString();
+                    break;
+                case "sourceURL":
+                    object.sourceURL = reader.nextString();
+                    break;
+                case "persistScript":
+                    object.persistScript = reader.nextBoolean();
+                    break;
+                case "executionContextId":
+                    object.executionContextId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (expression != null) {
+            writer.name("expression").value(expression);
+        }
+        if (sourceURL != null) {
+            writer.name("sourceURL").value(sourceURL);
+        }
+        if (persistScript != null) {
+            writer.name("persistScript").value(persistScript);
+        }
+        if (executionContextId != null) {
+            writer.name("executionContextId").value(executionContextId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CompileScriptResponse {
+public class CompileScriptResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the script.
@@ -18,5 +18,38 @@ public class CompileScriptResponse {
     private jpuppeteer.cdp.cdp.entity.runtime.ExceptionDetails exceptionDetails;
 
 
+    public static CompileScriptResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CompileScriptResponse object = new CompileScriptResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "scriptId":
+                    object.scriptId = reader.nextString();
+                    break;
+                case "exceptionDetails":
+                    object.exceptionDetails = jpuppeteer.cdp.cdp.entity.runtime.ExceptionDetails.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (scriptId != null) {
+            writer.name("scriptId").value(scriptId);
+        }
+        if (exceptionDetails != null) {
+            writer.name("exceptionDetails").value(exceptionDetails);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
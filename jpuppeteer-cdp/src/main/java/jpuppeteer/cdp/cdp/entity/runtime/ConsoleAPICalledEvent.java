@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ConsoleAPICalledEvent {
+public class ConsoleAPICalledEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Type of the call.
@@ -39,5 +39,62 @@ public class ConsoleAPICalledEvent {
     private String context;
 
 
+    public static ConsoleAPICalledEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ConsoleAPICalledEvent object = new ConsoleAPICalledEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "args":
+                    object.args = reader.nextList(jpuppeteer.cdp.cdp.entity.runtime.RemoteObject::decode);
+                    break;
+                case "executionContextId":
+                    object.executionContextId = reader.nextInteger();
+                    break;
+                case "timestamp":
+                    object.timestamp = reader.nextDouble();
+                    break;
+                case "stackTrace":
+                    object.stackTrace = jpuppeteer.cdp.cdp.entity.runtime.StackTrace.decode(reader);
+                    break;
+                case "context":
+                    object.context = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (args != null) {
+            writer.name("args").value(args);
+        }
+        if (executionContextId != null) {
+            writer.name("executionContextId").value(executionContextId);
+        }
+        if (timestamp != null) {
+            writer.name("timestamp").value(timestamp);
+        }
+        if (stackTrace != null) {
+            writer.name("stackTrace").value(stackTrace);
+        }
+        if (context != null) {
+            writer.name("context").value(context);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CustomPreview {
+public class CustomPreview implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The JSON-stringified result of formatter.header(object, config) call. It contains json ML array that represents RemoteObject.
@@ -18,5 +18,38 @@ public class CustomPreview {
     private String bodyGetterId;
 
 
+    public static CustomPreview decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CustomPreview object = new CustomPreview();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "header":
+                    object.header = reader.nextString();
+                    break;
+                case "bodyGetterId":
+                    object.bodyGetterId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (header != null) {
+            writer.name("header").value(header);
+        }
+        if (bodyGetterId != null) {
+            writer.name("bodyGetterId").value(bodyGetterId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
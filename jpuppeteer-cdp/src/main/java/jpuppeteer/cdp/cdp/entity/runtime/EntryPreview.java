@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class EntryPreview {
+public class EntryPreview implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Preview of the key. Specified for map-like collection entries.
@@ -18,5 +18,38 @@ public class EntryPreview {
     private jpuppeteer.cdp.cdp.entity.runtime.ObjectPreview value;
 
 
+    public static EntryPreview decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        EntryPreview object = new EntryPreview();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "key":
+                    object.key = jpuppeteer.cdp.cdp.entity.runtime.ObjectPreview.decode(reader);
+                    break;
+                case "value":
+                    object.value = jpuppeteer.cdp.cdp.entity.runtime.ObjectPreview.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (key != null) {
+            writer.name("key").value(key);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class EvaluateRequest {
+public class EvaluateRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Expression to evaluate.
@@ -73,5 +73,104 @@ public class EvaluateRequest {
     private Boolean replMode;
 
 
+    public static EvaluateRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        EvaluateRequest object = new EvaluateRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "expression":
+                    object.expression = reader.nextString();
+                    break;
+                case "objectGroup":
+                    object.objectGroup = reader.nextString();
+                    break;
+                case "includeCommandLineAPI":
+                    object.includeCommandLineAPI = reader.nextBoolean();
+                    break;
+                case "silent":
+                    object.silent = reader.nextBoolean();
+                    break;
+                case "contextId":
+                    object.contextId = reader.nextInteger();
+                    break;
+                case "returnByValue":
+                    object.returnByValue = reader.nextBoolean();
+                    break;
+                case "generatePreview":
+                    object.generatePreview = reader.nextBoolean();
+                    break;
+                case "userGesture":
+                    object.userGesture = reader.nextBoolean();
+                    break;
+                case "awaitPromise":
+                    object.awaitPromise = reader.nextBoolean();
+                    break;
+                case "throwOnSideEffect":
+                    object.throwOnSideEffect = reader.nextBoolean();
+                    break;
+                case "timeout":
+                    object.timeout = reader.nextDouble();
+                    break;
+                case "disableBreaks":
+                    object.disableBreaks = reader.nextBoolean();
+                    break;
+                case "replMode":
+                    object.replMode = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (expression != null) {
+            writer.name("expression").value(expression);
+        }
+        if (objectGroup != null) {
+            writer.name("objectGroup").value(objectGroup);
+        }
+        if (includeCommandLineAPI != null) {
+            writer.name("includeCommandLineAPI").value(includeCommandLineAPI);
+        }
+        if (silent != null) {
+            writer.name("silent").value(silent);
+        }
+        if (contextId != null) {
+            writer.name("contextId").value(contextId);
+        }
+        if (returnByValue != null) {
+            writer.name("returnByValue").value(returnByValue);
+        }
+        if (generatePreview != null) {
+            writer.name("generatePreview").value(generatePreview);
+        }
+        if (userGesture != null) {
+            writer.name("userGesture").value(userGesture);
+        }
+        if (awaitPromise != null) {
+            writer.name("awaitPromise").value(awaitPromise);
+        }
+        if (throwOnSideEffect != null) {
+            writer.name("throwOnSideEffect").value(throwOnSideEffect);
+        }
+        if (timeout != null) {
+            writer.name("timeout").value(timeout);
+        }
+        if (disableBreaks != null) {
+            writer.name("disableBreaks").value(disableBreaks);
+        }
+        if (replMode != null) {
+            writer.name("replMode").value(replMode);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
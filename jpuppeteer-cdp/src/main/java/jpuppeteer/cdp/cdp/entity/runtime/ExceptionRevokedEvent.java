@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ExceptionRevokedEvent {
+public class ExceptionRevokedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Reason describing why exception was revoked.
@@ -19,5 +19,38 @@ public class ExceptionRevokedEvent {
     private Integer exceptionId;
 
 
+    public static ExceptionRevokedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ExceptionRevokedEvent object = new ExceptionRevokedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "reason":
+                    object.reason = reader.nextString();
+                    break;
+                case "exceptionId":
+                    object.exceptionId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (reason != null) {
+            writer.name("reason").value(reason);
+        }
+        if (exceptionId != null) {
+            writer.name("exceptionId").value(exceptionId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ExecutionContextCreatedEvent {
+public class ExecutionContextCreatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * A newly created execution context.
@@ -14,5 +14,32 @@ public class ExecutionContextCreatedEvent {
     private jpuppeteer.cdp.cdp.entity.runtime.ExecutionContextDescription context;
 
 
+    public static ExecutionContextCreatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ExecutionContextCreatedEvent object = new ExecutionContextCreatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "context":
+                    object.context = jpuppeteer.cdp.cdp.entity.runtime.ExecutionContextDescription.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (context != null) {
+            writer.name("context").value(context);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ExecutionContextDescription {
+public class ExecutionContextDescription implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Unique id of the execution context. It can be used to specify in which execution context script evaluation should be performed.
@@ -29,5 +29,50 @@ public class ExecutionContextDescription {
     private java.util.Map<String, Object> auxData;
 
 
+    public static ExecutionContextDescription decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ExecutionContextDescription object = new ExecutionContextDescription();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    object.id = reader.nextInteger();
+                    break;
+                case "origin":
+                    object.origin = reader.nextString();
+                    break;
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "auxData":
+                    object.auxData = reader.nextMap();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (id != null) {
+            writer.name("id").value(id);
+        }
+        if (origin != null) {
+            writer.name("origin").value(origin);
+        }
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (auxData != null) {
+            writer.name("auxData").value(auxData);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
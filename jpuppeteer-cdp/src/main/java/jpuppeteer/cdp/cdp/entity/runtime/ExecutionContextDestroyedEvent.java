@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ExecutionContextDestroyedEvent {
+public class ExecutionContextDestroyedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the destroyed context
@@ -14,5 +14,32 @@ public class ExecutionContextDestroyedEvent {
     private Integer executionContextId;
 
 
+    public static ExecutionContextDestroyedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ExecutionContextDestroyedEvent object = new ExecutionContextDestroyedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "executionContextId":
+                    object.executionContextId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (executionContextId != null) {
+            writer.name("executionContextId").value(executionContextId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetHeapUsageResponse {
+public class GetHeapUsageResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Used heap size in bytes.
@@ -18,5 +18,38 @@ public class GetHeapUsageResponse {
     private Double totalSize;
 
 
+    public static GetHeapUsageResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetHeapUsageResponse object = new GetHeapUsageResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "usedSize":
+                    object.usedSize = reader.nextDouble();
+                    break;
+                case "totalSize":
+                    object.totalSize = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (usedSize != null) {
+            writer.name("usedSize").value(usedSize);
+        }
+        if (totalSize != null) {
+            writer.name("totalSize").value(totalSize);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
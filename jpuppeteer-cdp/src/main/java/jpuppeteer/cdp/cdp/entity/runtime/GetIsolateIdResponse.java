@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetIsolateIdResponse {
+public class GetIsolateIdResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The isolate id.
@@ -13,5 +13,32 @@ public class GetIsolateIdResponse {
     private String id;
 
 
+    public static GetIsolateIdResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetIsolateIdResponse object = new GetIsolateIdResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    object.id = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (id != null) {
+            writer.name("id").value(id);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
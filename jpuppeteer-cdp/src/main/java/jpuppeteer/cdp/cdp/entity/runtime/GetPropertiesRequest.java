@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetPropertiesRequest {
+public class GetPropertiesRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the object to return properties for.
@@ -28,5 +28,50 @@ public class GetPropertiesRequest {
     private Boolean generatePreview;
 
 
+    public static GetPropertiesRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetPropertiesRequest object = new GetPropertiesRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "objectId":
+                    object.objectId = reader.nextString();
+                    break;
+                case "ownProperties":
+                    object.ownProperties = reader.nextBoolean();
+                    break;
+                case "accessorPropertiesOnly":
+                    object.accessorPropertiesOnly = reader.nextBoolean();
+                    break;
+                case "generatePreview":
+                    object.generatePreview = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (objectId != null) {
+            writer.name("objectId").value(objectId);
+        }
+        if (ownProperties != null) {
+            writer.name("ownProperties").value(ownProperties);
+        }
+        if (accessorPropertiesOnly != null) {
+            writer.name("accessorPropertiesOnly").value(accessorPropertiesOnly);
+        }
+        if (generatePreview != null) {
+            writer.name("generatePreview").value(generatePreview);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
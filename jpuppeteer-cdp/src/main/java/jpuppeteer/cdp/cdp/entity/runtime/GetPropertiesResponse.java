@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetPropertiesResponse {
+public class GetPropertiesResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Object properties.
@@ -28,5 +28,50 @@ public class GetPropertiesResponse {
     private jpuppeteer.cdp.cdp.entity.runtime.ExceptionDetails exceptionDetails;
 
 
+    public static GetPropertiesResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetPropertiesResponse object = new GetPropertiesResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "result":
+                    object.result = reader.nextList(jpuppeteer.cdp.cdp.entity.runtime.PropertyDescriptor::decode);
+                    break;
+                case "internalProperties":
+                    object.internalProperties = reader.nextList(jpuppeteer.cdp.cdp.entity.runtime.InternalPropertyDescriptor::decode);
+                    break;
+                case "privateProperties":
+                    object.privateProperties = reader.nextList(jpuppeteer.cdp.cdp.entity.runtime.PrivatePropertyDescriptor::decode);
+                    break;
+                case "exceptionDetails":
+                    object.exceptionDetails = jpuppeteer.cdp.cdp.entity.runtime.ExceptionDetails.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (result != null) {
+            writer.name("result").value(result);
+        }
+        if (internalProperties != null) {
+            writer.name("internalProperties").value(internalProperties);
+        }
+        if (privateProperties != null) {
+            writer.name("privateProperties").value(privateProperties);
+        }
+        if (exceptionDetails != null) {
+            writer.name("exceptionDetails").value(exceptionDetails);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GlobalLexicalScopeNamesRequest {
+public class GlobalLexicalScopeNamesRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Specifies in which execution context to lookup global scope variables.
@@ -13,5 +13,32 @@ public class GlobalLexicalScopeNamesRequest {
     private Integer executionContextId;
 
 
+    public static GlobalLexicalScopeNamesRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GlobalLexicalScopeNamesRequest object = new GlobalLexicalScopeNamesRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "executionContextId":
+                    object.executionContextId = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (executionContextId != null) {
+            writer.name("executionContextId").value(executionContextId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
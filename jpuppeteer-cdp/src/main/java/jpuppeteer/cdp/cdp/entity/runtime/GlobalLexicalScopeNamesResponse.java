@@ -5,12 +5,39 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GlobalLexicalScopeNamesResponse {
+public class GlobalLexicalScopeNamesResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private java.util.List<String> names;
 
 
+    public static GlobalLexicalScopeNamesResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GlobalLexicalScopeNamesResponse object = new GlobalLexicalScopeNamesResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "names":
+                    object.names = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (names != null) {
+            writer.name("names").value(names);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class InspectRequestedEvent {
+public class InspectRequestedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -17,5 +17,38 @@ public class InspectRequestedEvent {
     private java.util.Map<String, Object> hints;
 
 
+    public static InspectRequestedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        InspectRequestedEvent object = new InspectRequestedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "object":
+                    object.object = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                case "hints":
+                    object.hints = reader.nextMap();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (object != null) {
+            writer.name("object").value(object);
+        }
+        if (hints != null) {
+            writer.name("hints").value(hints);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
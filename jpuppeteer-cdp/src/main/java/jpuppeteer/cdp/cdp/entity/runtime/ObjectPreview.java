@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ObjectPreview {
+public class ObjectPreview implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Object type.
@@ -39,5 +39,62 @@ public class ObjectPreview {
     private java.util.List<jpuppeteer.cdp.cdp.entity.runtime.EntryPreview> entries;
 
 
+    public static ObjectPreview decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ObjectPreview object = new ObjectPreview();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "subtype":
+                    object.subtype = reader.nextString();
+                    break;
+                case "description":
+                    object.description = reader.nextString();
+                    break;
+                case "overflow":
+                    object.overflow = reader.nextBoolean();
+                    break;
+                case "properties":
+                    object.properties = reader.nextList(jpuppeteer.cdp.cdp.entity.runtime.PropertyPreview::decode);
+                    break;
+                case "entries":
+                    object.entries = reader.nextList(jpuppeteer.cdp.cdp.entity.runtime.EntryPreview::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (subtype != null) {
+            writer.name("subtype").value(subtype);
+        }
+        if (description != null) {
+            writer.name("description").value(description);
+        }
+        if (overflow != null) {
+            writer.name("overflow").value(overflow);
+        }
+        if (properties != null) {
+            writer.name("properties").value(properties);
+        }
+        if (entries != null) {
+            writer.name("entries").value(entries);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
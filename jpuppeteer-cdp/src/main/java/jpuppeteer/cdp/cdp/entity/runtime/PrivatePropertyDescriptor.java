@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PrivatePropertyDescriptor {
+public class PrivatePropertyDescriptor implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Private property name.
@@ -29,5 +29,50 @@ public class PrivatePropertyDescriptor {
     private jpuppeteer.cdp.cdp.entity.runtime.RemoteObject set;
 
 
+    public static PrivatePropertyDescriptor decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PrivatePropertyDescriptor object = new PrivatePropertyDescriptor();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "value":
+                    object.value = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                case "get":
+                    object.get = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                case "set":
+                    object.set = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        if (get != null) {
+            writer.name("get").value(get);
+        }
+        if (set != null) {
+            writer.name("set").value(set);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PropertyDescriptor {
+public class PropertyDescriptor implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Property name or symbol description.
@@ -59,5 +59,86 @@ public class PropertyDescriptor {
     private jpuppeteer.cdp.cdp.entity.runtime.RemoteObject symbol;
 
 
+    public static PropertyDescriptor decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PropertyDescriptor object = new PropertyDescriptor();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "value":
+                    object.value = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                case "writable":
+                    object.writable = reader.nextBoolean();
+                    break;
+                case "get":
+                    object.get = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                case "set":
+                    object.set = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                case "configurable":
+                    object.configurable = reader.nextBoolean();
+                    break;
+                case "enumerable":
+                    object.enumerable = reader.nextBoolean();
+                    break;
+                case "wasThrown":
+                    object.wasThrown = reader.nextBoolean();
+                    break;
+                case "isOwn":
+                    object.isOwn = reader.nextBoolean();
+                    break;
+                case "symbol":
+                    object.symbol = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        if (writable != null) {
+            writer.name("writable").value(writable);
+        }
+        if (get != null) {
+            writer.name("get").value(get);
+        }
+        if (set != null) {
+            writer.name("set").value(set);
+        }
+        if (configurable != null) {
+            writer.name("configurable").value(configurable);
+        }
+        if (enumerable != null) {
+            writer.name("enumerable").value(enumerable);
+        }
+        if (wasThrown != null) {
+            writer.name("wasThrown").value(wasThrown);
+        }
+        if (isOwn != null) {
+            writer.name("isOwn").value(isOwn);
+        }
+        if (symbol != null) {
+            writer.name("symbol").value(symbol);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
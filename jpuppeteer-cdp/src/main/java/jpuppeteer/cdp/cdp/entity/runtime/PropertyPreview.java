@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class PropertyPreview {
+public class PropertyPreview implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Property name.
@@ -33,5 +33,56 @@ public class PropertyPreview {
     private String subtype;
 
 
+    public static PropertyPreview decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        PropertyPreview object = new PropertyPreview();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "value":
+                    object.value = reader.nextString();
+                    break;
+                case "valuePreview":
+                    object.valuePreview = jpuppeteer.cdp.cdp.entity.runtime.ObjectPreview.decode(reader);
+                    break;
+                case "subtype":
+                    object.subtype = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        if (valuePreview != null) {
+            writer.name("valuePreview").value(valuePreview);
+        }
+        if (subtype != null) {
+            writer.name("subtype").value(subtype);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
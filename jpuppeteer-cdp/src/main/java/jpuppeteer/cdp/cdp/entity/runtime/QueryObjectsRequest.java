@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class QueryObjectsRequest {
+public class QueryObjectsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of the prototype to return objects for.
@@ -18,5 +18,38 @@ public class QueryObjectsRequest {
     private String objectGroup;
 
 
+    public static QueryObjectsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        QueryObjectsRequest object = new QueryObjectsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "prototypeObjectId":
+                    object.prototypeObjectId = reader.nextString();
+                    break;
+                case "objectGroup":
+                    object.objectGroup = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (prototypeObjectId != null) {
+            writer.name("prototypeObjectId").value(prototypeObjectId);
+        }
+        if (objectGroup != null) {
+            writer.name("objectGroup").value(objectGroup);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class QueryObjectsResponse {
+public class QueryObjectsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Array with objects.
@@ -13,5 +13,32 @@ public class QueryObjectsResponse {
     private jpuppeteer.cdp.cdp.entity.runtime.RemoteObject objects;
 
 
+    public static QueryObjectsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        QueryObjectsResponse object = new QueryObjectsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "objects":
+                    object.objects = jpuppeteer.cdp.cdp.entity.runtime.RemoteObject.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (objects != null) {
+            writer.name("objects").value(objects);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ReleaseObjectGroupRequest {
+public class ReleaseObjectGroupRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Symbolic object group name.
@@ -13,5 +13,32 @@ public class ReleaseObjectGroupRequest {
     private String objectGroup;
 
 
+    public static ReleaseObjectGroupRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ReleaseObjectGroupRequest object = new ReleaseObjectGroupRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "objectGroup":
+                    object.objectGroup = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (objectGroup != null) {
+            writer.name("objectGroup").value(objectGroup);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
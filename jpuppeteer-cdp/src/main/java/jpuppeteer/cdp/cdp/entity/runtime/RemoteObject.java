@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RemoteObject {
+public class RemoteObject implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Object type.
@@ -53,5 +53,80 @@ public class RemoteObject {
     private jpuppeteer.cdp.cdp.entity.runtime.CustomPreview customPreview;
 
 
+    public static RemoteObject decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RemoteObject object = new RemoteObject();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "subtype":
+                    object.subtype = reader.nextString();
+                    break;
+                case "className":
+                    object.className = reader.nextString();
+                    break;
+                case "value":
+                    object.value = reader.nextAny();
+                    break;
+                case "unserializableValue":
+                    object.unserializableValue = reader.nextString();
+                    break;
+                case "description":
+                    object.description = reader.nextString();
+                    break;
+                case "objectId":
+                    object.objectId = reader.nextString();
+                    break;
+                case "preview":
+                    object.preview = jpuppeteer.cdp.cdp.entity.runtime.ObjectPreview.decode(reader);
+                    break;
+                case "customPreview":
+                    object.customPreview = jpuppeteer.cdp.cdp.entity.runtime.CustomPreview.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (subtype != null) {
+            writer.name("subtype").value(subtype);
+        }
+        if (className != null) {
+            writer.name("className").value(className);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        if (unserializableValue != null) {
+            writer.name("unserializableValue").value(unserializableValue);
+        }
+        if (description != null) {
+            writer.name("description").value(description);
+        }
+        if (objectId != null) {
+            writer.name("objectId").value(objectId);
+        }
+        if (preview != null) {
+            writer.name("preview").value(preview);
+        }
+        if (customPreview != null) {
+            writer.name("customPreview").value(customPreview);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
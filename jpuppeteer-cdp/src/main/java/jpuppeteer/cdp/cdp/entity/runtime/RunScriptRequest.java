@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RunScriptRequest {
+public class RunScriptRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id of the script to run.
@@ -48,5 +48,74 @@ public class RunScriptRequest {
     private Boolean awaitPromise;
 
 
+    public static RunScriptRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RunScriptRequest object = new RunScriptRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "scriptId":
+                    object.scriptId = reader.nextString();
+                    break;
+                case "executionContextId":
+                    object.executionContextId = reader.nextInteger();
+                    break;
+                case "objectGroup":
+                    object.objectGroup = reader.nextString();
+                    break;
+                case "silent":
+                    object.silent = reader.nextBoolean();
+                    break;
+                case "includeCommandLineAPI":
+                    object.includeCommandLineAPI = reader.nextBoolean();
+                    break;
+                case "returnByValue":
+                    object.returnByValue = reader.nextBoolean();
+                    break;
+                case "generatePreview":
+                    object.generatePreview = reader.nextBoolean();
+                    break;
+                case "awaitPromise":
+                    object.awaitPromise = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (scriptId != null) {
+            writer.name("scriptId").value(scriptId);
+        }
+        if (executionContextId != null) {
+            writer.name("executionContextId").value(executionContextId);
+        }
+        if (objectGroup != null) {
+            writer.name("objectGroup").value(objectGroup);
+        }
+        if (silent != null) {
+            writer.name("silent").value(silent);
+        }
+        if (includeCommandLineAPI != null) {
+            writer.name("includeCommandLineAPI").value(includeCommandLineAPI);
+        }
+        if (returnByValue != null) {
+            writer.name("returnByValue").value(returnByValue);
+        }
+        if (generatePreview != null) {
+            writer.name("generatePreview").value(generatePreview);
+        }
+        if (awaitPromise != null) {
+            writer.name("awaitPromise").value(awaitPromise);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
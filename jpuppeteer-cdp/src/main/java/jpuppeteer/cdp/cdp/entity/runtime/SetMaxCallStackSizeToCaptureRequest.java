@@ -5,12 +5,39 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetMaxCallStackSizeToCaptureRequest {
+public class SetMaxCallStackSizeToCaptureRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private Integer size;
 
 
+    public static SetMaxCallStackSizeToCaptureRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetMaxCallStackSizeToCaptureRequest object = new SetMaxCallStackSizeToCaptureRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "size":
+                    object.size = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (size != null) {
+            writer.name("size").value(size);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.runtime;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StackTrace {
+public class StackTrace implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * String label of this stack trace. For async traces this may be a name of the function that initiated the async call.
@@ -29,5 +29,50 @@ public class StackTrace {
     private jpuppeteer.cdp.cdp.entity.runtime.StackTraceId parentId;
 
 
+    public static StackTrace decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StackTrace object = new StackTrace();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "description":
+                    object.description = reader.nextString();
+                    break;
+                case "callFrames":
+                    object.callFrames = reader.nextList(jpuppeteer.cdp.cdp.entity.runtime.CallFrame::decode);
+                    break;
+                case "parent":
+                    object.parent = jpuppeteer.cdp.cdp.entity.runtime.StackTrace.decode(reader);
+                    break;
+                case "parentId":
+                    object.parentId = jpuppeteer.cdp.cdp.entity.runtime.StackTraceId.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (description != null) {
+            writer.name("description").value(description);
+        }
+        if (callFrames != null) {
+            writer.name("callFrames").value(callFrames);
+        }
+        if (parent != null) {
+            writer.name("parent").value(parent);
+        }
+        if (parentId != null) {
+            writer.name("parentId").value(parentId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.schema;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Domain {
+public class Domain implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Domain name.
@@ -19,5 +19,38 @@ public class Domain {
     private String version;
 
 
+    public static Domain decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Domain object = new Domain();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    object.name = reader.nextString();
+                    break;
+                case "version":
+                    object.version = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (name != null) {
+            writer.name("name").value(name);
+        }
+        if (version != null) {
+            writer.name("version").value(version);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
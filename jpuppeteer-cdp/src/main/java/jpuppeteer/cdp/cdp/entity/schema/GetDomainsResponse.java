@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.schema;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetDomainsResponse {
+public class GetDomainsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * List of supported domains.
@@ -13,5 +13,32 @@ public class GetDomainsResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.schema.Domain> domains;
 
 
+    public static GetDomainsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetDomainsResponse object = new GetDomainsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "domains":
+                    object.domains = reader.nextList(jpuppeteer.cdp.cdp.entity.schema.Domain::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (domains != null) {
+            writer.name("domains").value(domains);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
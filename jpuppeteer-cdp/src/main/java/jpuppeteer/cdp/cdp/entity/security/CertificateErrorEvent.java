@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.security;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CertificateErrorEvent {
+public class CertificateErrorEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The ID of the event.
@@ -24,5 +24,44 @@ public class CertificateErrorEvent {
     private String requestURL;
 
 
+    public static CertificateErrorEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CertificateErrorEvent object = new CertificateErrorEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "eventId":
+                    object.eventId = reader.nextInteger();
+                    break;
+                case "errorType":
+                    object.errorType = reader.nextString();
+                    break;
+                case "requestURL":
+                    object.requestURL = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (eventId != null) {
+            writer.name("eventId").value(eventId);
+        }
+        if (errorType != null) {
+            writer.name("errorType").value(errorType);
+        }
+        if (requestURL != null) {
+            writer.name("requestURL").value(requestURL);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
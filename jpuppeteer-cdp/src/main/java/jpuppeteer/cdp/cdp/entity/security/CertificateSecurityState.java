@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.security;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CertificateSecurityState {
+public class CertificateSecurityState implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Protocol name (e.g. "TLS 1.2" or "QUIC").
@@ -99,5 +99,134 @@ public class CertificateSecurityState {
     private Boolean obsoleteSslSignature;
 
 
+    public static CertificateSecurityState decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CertificateSecurityState object = new CertificateSecurityState();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "protocol":
+                    object.protocol = reader.nextString();
+                    break;
+                case "keyExchange":
+                    object.keyExchange = reader.nextString();
+                    break;
+                case "keyExchangeGroup":
+                    object.keyExchangeGroup = reader.nextString();
+                    break;
+                case "cipher":
+                    object.cipher = reader.nextString();
+                    break;
+                case "mac":
+                    object.mac = reader.nextString();
+                    break;
+                case "certificate":
+                    object.certificate = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "subjectName":
+                    object.subjectName = reader.nextString();
+                    break;
+                case "issuer":
+                    object.issuer = reader.nextString();
+                    break;
+                case "validFrom":
+                    object.validFrom = reader.nextDouble();
+                    break;
+                case "validTo":
+                    object.validTo = reader.nextDouble();
+                    break;
+                case "certificateNetworkError":
+                    object.certificateNetworkError = reader.nextString();
+                    break;
+                case "certificateHasWeakSignature":
+                    object.certificateHasWeakSignature = reader.nextBoolean();
+                    break;
+                case "certificateHasSha1Signature":
+                    object.certificateHasSha1Signature = reader.nextBoolean();
+                    break;
+                case "modernSSL":
+                    object.modernSSL = reader.nextBoolean();
+                    break;
+                case "obsoleteSslProtocol":
+                    object.obsoleteSslProtocol = reader.nextBoolean();
+                    break;
+                case "obsoleteSslKeyExchange":
+                    object.obsoleteSslKeyExchange = reader.nextBoolean();
+                    break;
+                case "obsoleteSslCipher":
+                    object.obsoleteSslCipher = reader.nextBoolean();
+                    break;
+                case "obsoleteSslSignature":
+                    object.obsoleteSslSignature = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (protocol != null) {
+            writer.name("protocol").value(protocol);
+        }
+        if (keyExchange != null) {
+            writer.name("keyExchange").value(keyExchange);
+        }
+        if (keyExchangeGroup != null) {
+            writer.name("keyExchangeGroup").value(keyExchangeGroup);
+        }
+        if (cipher != null) {
+            writer.name("cipher").value(cipher);
+        }
+        if (mac != null) {
+            writer.name("mac").value(mac);
+        }
+        if (certificate != null) {
+            writer.name("certificate").value(certificate);
+        }
+        if (subjectName != null) {
+            writer.name("subjectName").value(subjectName);
+        }
+        if (issuer != null) {
+            writer.name("issuer").value(issuer);
+        }
+        if (validFrom != null) {
+            writer.name("validFrom").value(validFrom);
+        }
+        if (validTo != null) {
+            writer.name("validTo").value(validTo);
+        }
+        if (certificateNetworkError != null) {
+            writer.name("certificateNetworkError").value(certificateNetworkError);
+        }
+        if (certificateHasWeakSignature != null) {
+            writer.name("certificateHasWeakSignature").value(certificateHasWeakSignature);
+        }
+        if (certificateHasSha1Signature != null) {
+            writer.name("certificateHasSha1Signature").value(certificateHasSha1Signature);
+        }
+        if (modernSSL != null) {
+            writer.name("modernSSL").value(modernSSL);
+        }
+        if (obsoleteSslProtocol != null) {
+            writer.name("obsoleteSslProtocol").value(obsoleteSslProtocol);
+        }
+        if (obsoleteSslKeyExchange != null) {
+            writer.name("obsoleteSslKeyExchange").value(obsoleteSslKeyExchange);
+        }
+        if (obsoleteSslCipher != null) {
+            writer.name("obsoleteSslCipher").value(obsoleteSslCipher);
+        }
+        if (obsoleteSslSignature != null) {
+            writer.name("obsoleteSslSignature").value(obsoleteSslSignature);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
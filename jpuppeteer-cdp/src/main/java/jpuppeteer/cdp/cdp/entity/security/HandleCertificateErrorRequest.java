@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.security;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class HandleCertificateErrorRequest {
+public class HandleCertificateErrorRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The ID of the event.
@@ -18,5 +18,38 @@ public class HandleCertificateErrorRequest {
     private String action;
 
 
+    public static HandleCertificateErrorRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        HandleCertificateErrorRequest object = new HandleCertificateErrorRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "eventId":
+                    object.eventId = reader.nextInteger();
+                    break;
+                case "action":
+                    object.action = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (eventId != null) {
+            writer.name("eventId").value(eventId);
+        }
+        if (action != null) {
+            writer.name("action").value(action);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.security;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class InsecureContentStatus {
+public class InsecureContentStatus implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Always false.
@@ -44,5 +44,68 @@ public class InsecureContentStatus {
     private String displayedInsecureContentStyle;
 
 
+    public static InsecureContentStatus decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        InsecureContentStatus object = new InsecureContentStatus();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "ranMixedContent":
+                    object.ranMixedContent = reader.nextBoolean();
+                    break;
+                case "displayedMixedContent":
+                    object.displayedMixedContent = reader.nextBoolean();
+                    break;
+                case "containedMixedForm":
+                    object.containedMixedForm = reader.nextBoolean();
+                    break;
+                case "ranContentWithCertErrors":
+                    object.ranContentWithCertErrors = reader.nextBoolean();
+                    break;
+                case "displayedContentWithCertErrors":
+                    object.displayedContentWithCertErrors = reader.nextBoolean();
+                    break;
+                case "ranInsecureContentStyle":
+                    object.ranInsecureContentStyle = reader.nextString();
+                    break;
+                case "displayedInsecureContentStyle":
+                    object.displayedInsecureContentStyle = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (ranMixedContent != null) {
+            writer.name("ranMixedContent").value(ranMixedContent);
+        }
+        if (displayedMixedContent != null) {
+            writer.name("displayedMixedContent").value(displayedMixedContent);
+        }
+        if (containedMixedForm != null) {
+            writer.name("containedMixedForm").value(containedMixedForm);
+        }
+        if (ranContentWithCertErrors != null) {
+            writer.name("ranContentWithCertErrors").value(ranContentWithCertErrors);
+        }
+        if (displayedContentWithCertErrors != null) {
+            writer.name("displayedContentWithCertErrors").value(displayedContentWithCertErrors);
+        }
+        if (ranInsecureContentStyle != null) {
+            writer.name("ranInsecureContentStyle").value(ranInsecureContentStyle);
+        }
+        if (displayedInsecureContentStyle != null) {
+            writer.name("displayedInsecureContentStyle").value(displayedInsecureContentStyle);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
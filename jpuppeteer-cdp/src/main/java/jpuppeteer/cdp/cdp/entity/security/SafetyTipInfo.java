@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.security;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SafetyTipInfo {
+public class SafetyTipInfo implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Describes whether the page triggers any safety tips or reputation warnings. Default is unknown.
@@ -18,5 +18,38 @@ public class SafetyTipInfo {
     private String safeUrl;
 
 
+    public static SafetyTipInfo decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SafetyTipInfo object = new SafetyTipInfo();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "safetyTipStatus":
+                    object.safetyTipStatus = reader.nextString();
+                    break;
+                case "safeUrl":
+                    object.safeUrl = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (safetyTipStatus != null) {
+            writer.name("safetyTipStatus").value(safetyTipStatus);
+        }
+        if (safeUrl != null) {
+            writer.name("safeUrl").value(safeUrl);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.security;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SecurityStateChangedEvent {
+public class SecurityStateChangedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Security state.
@@ -34,5 +34,56 @@ public class SecurityStateChangedEvent {
     private String summary;
 
 
+    public static SecurityStateChangedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SecurityStateChangedEvent object = new SecurityStateChangedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "securityState":
+                    object.securityState = reader.nextString();
+                    break;
+                case "schemeIsCryptographic":
+                    object.schemeIsCryptographic = reader.nextBoolean();
+                    break;
+                case "explanations":
+                    object.explanations = reader.nextList(jpuppeteer.cdp.cdp.entity.security.SecurityStateExplanation::decode);
+                    break;
+                case "insecureContentStatus":
+                    object.insecureContentStatus = jpuppeteer.cdp.cdp.entity.security.InsecureContentStatus.decode(reader);
+                    break;
+                case "summary":
+                    object.summary = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (securityState != null) {
+            writer.name("securityState").value(securityState);
+        }
+        if (schemeIsCryptographic != null) {
+            writer.name("schemeIsCryptographic").value(schemeIsCryptographic);
+        }
+        if (explanations != null) {
+            writer.name("explanations").value(explanations);
+        }
+        if (insecureContentStatus != null) {
+            writer.name("insecureContentStatus").value(insecureContentStatus);
+        }
+        if (summary != null) {
+            writer.name("summary").value(summary);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.security;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SecurityStateExplanation {
+public class SecurityStateExplanation implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Security state representing the severity of the factor being explained.
@@ -44,5 +44,68 @@ public class SecurityStateExplanation {
     private java.util.List<String> recommendations;
 
 
+    public static SecurityStateExplanation decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SecurityStateExplanation object = new SecurityStateExplanation();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "securityState":
+                    object.securityState = reader.nextString();
+                    break;
+                case "title":
+                    object.title = reader.nextString();
+                    break;
+                case "summary":
+                    object.summary = reader.nextString();
+                    break;
+                case "description":
+                    object.description = reader.nextString();
+                    break;
+                case "mixedContentType":
+                    object.mixedContentType = reader.nextString();
+                    break;
+                case "certificate":
+                    object.certificate = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "recommendations":
+                    object.recommendations = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (securityState != null) {
+            writer.name("securityState").value(securityState);
+        }
+        if (title != null) {
+            writer.name("title").value(title);
+        }
+        if (summary != null) {
+            writer.name("summary").value(summary);
+        }
+        if (description != null) {
+            writer.name("description").value(description);
+        }
+        if (mixedContentType != null) {
+            writer.name("mixedContentType").value(mixedContentType);
+        }
+        if (certificate != null) {
+            writer.name("certificate").value(certificate);
+        }
+        if (recommendations != null) {
+            writer.name("recommendations").value(recommendations);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.security;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetIgnoreCertificateErrorsRequest {
+public class SetIgnoreCertificateErrorsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * If true, all certificate errors will be ignored.
@@ -13,5 +13,32 @@ public class SetIgnoreCertificateErrorsRequest {
     private Boolean ignore;
 
 
+    public static SetIgnoreCertificateErrorsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetIgnoreCertificateErrorsRequest object = new SetIgnoreCertificateErrorsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "ignore":
+                    object.ignore = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (ignore != null) {
+            writer.name("ignore").value(ignore);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.security;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetOverrideCertificateErrorsRequest {
+public class SetOverrideCertificateErrorsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * If true, certificate errors will be overridden.
@@ -13,5 +13,32 @@ public class SetOverrideCertificateErrorsRequest {
     private Boolean override;
 
 
+    public static SetOverrideCertificateErrorsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetOverrideCertificateErrorsRequest object = new SetOverrideCertificateErrorsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "override":
+                    object.override = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (override != null) {
+            writer.name("override").value(override);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.security;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class VisibleSecurityState {
+public class VisibleSecurityState implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The security level of the page.
@@ -29,5 +29,50 @@ public class VisibleSecurityState {
     private java.util.List<String> securityStateIssueIds;
 
 
+    public static VisibleSecurityState decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        VisibleSecurityState object = new VisibleSecurityState();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "securityState":
+                    object.securityState = reader.nextString();
+                    break;
+                case "certificateSecurityState":
+                    object.certificateSecurityState = jpuppeteer.cdp.cdp.entity.security.CertificateSecurityState.decode(reader);
+                    break;
+                case "safetyTipInfo":
+                    object.safetyTipInfo = jpuppeteer.cdp.cdp.entity.security.SafetyTipInfo.decode(reader);
+                    break;
+                case "securityStateIssueIds":
+                    object.securityStateIssueIds = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (securityState != null) {
+            writer.name("securityState").value(securityState);
+        }
+        if (certificateSecurityState != null) {
+            writer.name("certificateSecurityState").value(certificateSecurityState);
+        }
+        if (safetyTipInfo != null) {
+            writer.name("safetyTipInfo").value(safetyTipInfo);
+        }
+        if (securityStateIssueIds != null) {
+            writer.name("securityStateIssueIds").value(securityStateIssueIds);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
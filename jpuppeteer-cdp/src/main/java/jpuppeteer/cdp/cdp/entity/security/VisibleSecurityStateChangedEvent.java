@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.security;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class VisibleSecurityStateChangedEvent {
+public class VisibleSecurityStateChangedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Security state information about the page.
@@ -14,5 +14,32 @@ public class VisibleSecurityStateChangedEvent {
     private jpuppeteer.cdp.cdp.entity.security.VisibleSecurityState visibleSecurityState;
 
 
+    public static VisibleSecurityStateChangedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        VisibleSecurityStateChangedEvent object = new VisibleSecurityStateChangedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "visibleSecurityState":
+                    object.visibleSecurityState = jpuppeteer.cdp.cdp.entity.security.VisibleSecurityState.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (visibleSecurityState != null) {
+            writer.name("visibleSecurityState").value(visibleSecurityState);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.serviceworker;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DeliverPushMessageRequest {
+public class DeliverPushMessageRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -21,5 +21,44 @@ public class DeliverPushMessageRequest {
     private String data;
 
 
+    public static DeliverPushMessageRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DeliverPushMessageRequest object = new DeliverPushMessageRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "origin":
+                    object.origin = reader.nextString();
+                    break;
+                case "registrationId":
+                    object.registrationId = reader.nextString();
+                    break;
+                case "data":
+                    object.data = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (origin != null) {
+            writer.name("origin").value(origin);
+        }
+        if (registrationId != null) {
+            writer.name("registrationId").value(registrationId);
+        }
+        if (data != null) {
+            writer.name("data").value(data);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.serviceworker;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DispatchPeriodicSyncEventRequest {
+public class DispatchPeriodicSyncEventRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -21,5 +21,44 @@ public class DispatchPeriodicSyncEventRequest {
     private String tag;
 
 
+    public static DispatchPeriodicSyncEventRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DispatchPeriodicSyncEventRequest object = new DispatchPeriodicSyncEventRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "origin":
+                    object.origin = reader.nextString();
+                    break;
+                case "registrationId":
+                    object.registrationId = reader.nextString();
+                    break;
+                case "tag":
+                    object.tag = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (origin != null) {
+            writer.name("origin").value(origin);
+        }
+        if (registrationId != null) {
+            writer.name("registrationId").value(registrationId);
+        }
+        if (tag != null) {
+            writer.name("tag").value(tag);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.serviceworker;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DispatchSyncEventRequest {
+public class DispatchSyncEventRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -25,5 +25,50 @@ public class DispatchSyncEventRequest {
     private Boolean lastChance;
 
 
+    public static DispatchSyncEventRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DispatchSyncEventRequest object = new DispatchSyncEventRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "origin":
+                    object.origin = reader.nextString();
+                    break;
+                case "registrationId":
+                    object.registrationId = reader.nextString();
+                    break;
+                case "tag":
+                    object.tag = reader.nextString();
+                    break;
+                case "lastChance":
+                    object.lastChance = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (origin != null) {
+            writer.name("origin").value(origin);
+        }
+        if (registrationId != null) {
+            writer.name("registrationId").value(registrationId);
+        }
+        if (tag != null) {
+            writer.name("tag").value(tag);
+        }
+        if (lastChance != null) {
+            writer.name("lastChance").value(lastChance);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.serviceworker;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ServiceWorkerErrorMessage {
+public class ServiceWorkerErrorMessage implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -34,5 +34,62 @@ public class ServiceWorkerErrorMessage {
     private Integer columnNumber;
 
 
+    public static ServiceWorkerErrorMessage decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ServiceWorkerErrorMessage object = new ServiceWorkerErrorMessage();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "errorMessage":
+                    object.errorMessage = reader.nextString();
+                    break;
+                case "registrationId":
+                    object.registrationId = reader.nextString();
+                    break;
+                case "versionId":
+                    object.versionId = reader.nextString();
+                    break;
+                case "sourceURL":
+                    object.sourceURL = reader.nextString();
+                    break;
+                case "lineNumber":
+                    object.lineNumber = reader.nextInteger();
+                    break;
+                case "columnNumber":
+                    object.columnNumber = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (errorMessage != null) {
+            writer.name("errorMessage").value(errorMessage);
+        }
+        if (registrationId != null) {
+            writer.name("registrationId").value(registrationId);
+        }
+        if (versionId != null) {
+            writer.name("versionId").value(versionId);
+        }
+        if (sourceURL != null) {
+            writer.name("sourceURL").value(sourceURL);
+        }
+        if (lineNumber != null) {
+            writer.name("lineNumber").value(lineNumber);
+        }
+        if (columnNumber != null) {
+            writer.name("columnNumber").value(columnNumber);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.serviceworker;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ServiceWorkerRegistration {
+public class ServiceWorkerRegistration implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -22,5 +22,44 @@ public class ServiceWorkerRegistration {
     private Boolean isDeleted;
 
 
+    public static ServiceWorkerRegistration decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ServiceWorkerRegistration object = new ServiceWorkerRegistration();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "registrationId":
+                    object.registrationId = reader.nextString();
+                    break;
+                case "scopeURL":
+                    object.scopeURL = reader.nextString();
+                    break;
+                case "isDeleted":
+                    object.isDeleted = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (registrationId != null) {
+            writer.name("registrationId").value(registrationId);
+        }
+        if (scopeURL != null) {
+            writer.name("scopeURL").value(scopeURL);
+        }
+        if (isDeleted != null) {
+            writer.name("isDeleted").value(isDeleted);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
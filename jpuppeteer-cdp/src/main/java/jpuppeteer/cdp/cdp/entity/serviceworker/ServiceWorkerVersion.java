@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.serviceworker;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ServiceWorkerVersion {
+public class ServiceWorkerVersion implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -48,5 +48,80 @@ public class ServiceWorkerVersion {
     private String targetId;
 
 
+    public static ServiceWorkerVersion decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ServiceWorkerVersion object = new ServiceWorkerVersion();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "versionId":
+                    object.versionId = reader.nextString();
+                    break;
+                case "registrationId":
+                    object.registrationId = reader.nextString();
+                    break;
+                case "scriptURL":
+                    object.scriptURL = reader.nextString();
+                    break;
+                case "runningStatus":
+                    object.runningStatus = reader.nextString();
+                    break;
+                case "status":
+                    object.status = reader.nextString();
+                    break;
+                case "scriptLastModified":
+                    object.scriptLastModified = reader.nextDouble();
+                    break;
+                case "scriptResponseTime":
+                    object.scriptResponseTime = reader.nextDouble();
+                    break;
+                case "controlledClients":
+                    object.controlledClients = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "targetId":
+                    object.targetId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (versionId != null) {
+            writer.name("versionId").value(versionId);
+        }
+        if (registrationId != null) {
+            writer.name("registrationId").value(registrationId);
+        }
+        if (scriptURL != null) {
+            writer.name("scriptURL").value(scriptURL);
+        }
+        if (runningStatus != null) {
+            writer.name("runningStatus").value(runningStatus);
+        }
+        if (status != null) {
+            writer.name("status").value(status);
+        }
+        if (scriptLastModified != null) {
+            writer.name("scriptLastModified").value(scriptLastModified);
+        }
+        if (scriptResponseTime != null) {
+            writer.name("scriptResponseTime").value(scriptResponseTime);
+        }
+        if (controlledClients != null) {
+            writer.name("controlledClients").value(controlledClients);
+        }
+        if (targetId != null) {
+            writer.name("targetId").value(targetId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.serviceworker;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetForceUpdateOnPageLoadRequest {
+public class SetForceUpdateOnPageLoadRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private Boolean forceUpdateOnPageLoad;
 
 
+    public static SetForceUpdateOnPageLoadRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetForceUpdateOnPageLoadRequest object = new SetForceUpdateOnPageLoadRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "forceUpdateOnPageLoad":
+                    object.forceUpdateOnPageLoad = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (forceUpdateOnPageLoad != null) {
+            writer.name("forceUpdateOnPageLoad").value(forceUpdateOnPageLoad);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
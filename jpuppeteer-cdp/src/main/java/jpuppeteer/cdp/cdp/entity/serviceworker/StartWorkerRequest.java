@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.serviceworker;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StartWorkerRequest {
+public class StartWorkerRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String scopeURL;
 
 
+    public static StartWorkerRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StartWorkerRequest object = new StartWorkerRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "scopeURL":
+                    object.scopeURL = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (scopeURL != null) {
+            writer.name("scopeURL").value(scopeURL);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
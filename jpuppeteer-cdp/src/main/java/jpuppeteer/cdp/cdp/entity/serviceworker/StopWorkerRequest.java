@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.serviceworker;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StopWorkerRequest {
+public class StopWorkerRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String versionId;
 
 
+    public static StopWorkerRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StopWorkerRequest object = new StopWorkerRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "versionId":
+                    object.versionId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (versionId != null) {
+            writer.name("versionId").value(versionId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
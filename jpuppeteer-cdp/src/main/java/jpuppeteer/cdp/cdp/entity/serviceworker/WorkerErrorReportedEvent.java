@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.serviceworker;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class WorkerErrorReportedEvent {
+public class WorkerErrorReportedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private jpuppeteer.cdp.cdp.entity.serviceworker.ServiceWorkerErrorMessage errorMessage;
 
 
+    public static WorkerErrorReportedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        WorkerErrorReportedEvent object = new WorkerErrorReportedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "errorMessage":
+                    object.errorMessage = jpuppeteer.cdp.cdp.entity.serviceworker.ServiceWorkerErrorMessage.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (errorMessage != null) {
+            writer.name("errorMessage").value(errorMessage);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
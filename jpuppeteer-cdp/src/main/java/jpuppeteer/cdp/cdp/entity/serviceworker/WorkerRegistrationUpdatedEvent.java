@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.serviceworker;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class WorkerRegistrationUpdatedEvent {
+public class WorkerRegistrationUpdatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private java.util.List<jpuppeteer.cdp.cdp.entity.serviceworker.ServiceWorkerRegistration> registrations;
 
 
+    public static WorkerRegistrationUpdatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        WorkerRegistrationUpdatedEvent object = new WorkerRegistrationUpdatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "registrations":
+                    object.registrations = reader.nextList(jpuppeteer.cdp.cdp.entity.serviceworker.ServiceWorkerRegistration::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (registrations != null) {
+            writer.name("registrations").value(registrations);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.serviceworker;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class WorkerVersionUpdatedEvent {
+public class WorkerVersionUpdatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private java.util.List<jpuppeteer.cdp.cdp.entity.serviceworker.ServiceWorkerVersion> versions;
 
 
+    public static WorkerVersionUpdatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        WorkerVersionUpdatedEvent object = new WorkerVersionUpdatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "versions":
+                    object.versions = reader.nextList(jpuppeteer.cdp.cdp.entity.serviceworker.ServiceWorkerVersion::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (versions != null) {
+            writer.name("versions").value(versions);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.storage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CacheStorageContentUpdatedEvent {
+public class CacheStorageContentUpdatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Origin to update.
@@ -20,5 +20,38 @@ public class CacheStorageContentUpdatedEvent {
     private String cacheName;
 
 
+    public static CacheStorageContentUpdatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CacheStorageContentUpdatedEvent object = new CacheStorageContentUpdatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "origin":
+                    object.origin = reader.nextString();
+                    break;
+                case "cacheName":
+                    object.cacheName = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (origin != null) {
+            writer.name("origin").value(origin);
+        }
+        if (cacheName != null) {
+            writer.name("cacheName").value(cacheName);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.storage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CacheStorageListUpdatedEvent {
+public class CacheStorageListUpdatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Origin to update.
@@ -15,5 +15,32 @@ public class CacheStorageListUpdatedEvent {
     private String origin;
 
 
+    public static CacheStorageListUpdatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CacheStorageListUpdatedEvent object = new CacheStorageListUpdatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "origin":
+                    object.origin = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (origin != null) {
+            writer.name("origin").value(origin);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
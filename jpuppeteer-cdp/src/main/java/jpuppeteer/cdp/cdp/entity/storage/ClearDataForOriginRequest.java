@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.storage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ClearDataForOriginRequest {
+public class ClearDataForOriginRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Security origin.
@@ -19,5 +19,38 @@ public class ClearDataForOriginRequest {
     private String storageTypes;
 
 
+    public static ClearDataForOriginRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ClearDataForOriginRequest object = new ClearDataForOriginRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "origin":
+                    object.origin = reader.nextString();
+                    break;
+                case "storageTypes":
+                    object.storageTypes = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (origin != null) {
+            writer.name("origin").value(origin);
+        }
+        if (storageTypes != null) {
+            writer.name("storageTypes").value(storageTypes);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
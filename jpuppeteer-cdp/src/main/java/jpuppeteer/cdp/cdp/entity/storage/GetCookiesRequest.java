@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.storage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetCookiesRequest {
+public class GetCookiesRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Browser context to use when called on the browser endpoint.
@@ -14,5 +14,32 @@ public class GetCookiesRequest {
     private String browserContextId;
 
 
+    public static GetCookiesRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetCookiesRequest object = new GetCookiesRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "browserContextId":
+                    object.browserContextId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (browserContextId != null) {
+            writer.name("browserContextId").value(browserContextId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
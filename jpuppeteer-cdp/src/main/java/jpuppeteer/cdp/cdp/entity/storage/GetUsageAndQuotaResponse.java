@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.storage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetUsageAndQuotaResponse {
+public class GetUsageAndQuotaResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Storage usage (bytes).
@@ -24,5 +24,44 @@ public class GetUsageAndQuotaResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.storage.UsageForType> usageBreakdown;
 
 
+    public static GetUsageAndQuotaResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetUsageAndQuotaResponse object = new GetUsageAndQuotaResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "usage":
+                    object.usage = reader.nextDouble();
+                    break;
+                case "quota":
+                    object.quota = reader.nextDouble();
+                    break;
+                case "usageBreakdown":
+                    object.usageBreakdown = reader.nextList(jpuppeteer.cdp.cdp.entity.storage.UsageForType::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (usage != null) {
+            writer.name("usage").value(usage);
+        }
+        if (quota != null) {
+            writer.name("quota").value(quota);
+        }
+        if (usageBreakdown != null) {
+            writer.name("usageBreakdown").value(usageBreakdown);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.storage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class IndexedDBContentUpdatedEvent {
+public class IndexedDBContentUpdatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Origin to update.
@@ -25,5 +25,44 @@ public class IndexedDBContentUpdatedEvent {
     private String objectStoreName;
 
 
+    public static IndexedDBContentUpdatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        IndexedDBContentUpdatedEvent object = new IndexedDBContentUpdatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "origin":
+                    object.origin = reader.nextString();
+                    break;
+                case "databaseName":
+                    object.databaseName = reader.nextString();
+                    break;
+                case "objectStoreName":
+                    object.objectStoreName = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (origin != null) {
+            writer.name("origin").value(origin);
+        }
+        if (databaseName != null) {
+            writer.name("databaseName").value(databaseName);
+        }
+        if (objectStoreName != null) {
+            writer.name("objectStoreName").value(objectStoreName);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.storage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class IndexedDBListUpdatedEvent {
+public class IndexedDBListUpdatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Origin to update.
@@ -15,5 +15,32 @@ public class IndexedDBListUpdatedEvent {
     private String origin;
 
 
+    public static IndexedDBListUpdatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        IndexedDBListUpdatedEvent object = new IndexedDBListUpdatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "origin":
+                    object.origin = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (origin != null) {
+            writer.name("origin").value(origin);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.storage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class TrackIndexedDBForOriginRequest {
+public class TrackIndexedDBForOriginRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Security origin.
@@ -14,5 +14,32 @@ public class TrackIndexedDBForOriginRequest {
     private String origin;
 
 
+    public static TrackIndexedDBForOriginRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        TrackIndexedDBForOriginRequest object = new TrackIndexedDBForOriginRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "origin":
+                    object.origin = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (origin != null) {
+            writer.name("origin").value(origin);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.storage;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class UsageForType {
+public class UsageForType implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Name of storage type.
@@ -20,5 +20,38 @@ public class UsageForType {
     private Double usage;
 
 
+    public static UsageForType decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        UsageForType object = new UsageForType();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "storageType":
+                    object.storageType = reader.nextString();
+                    break;
+                case "usage":
+                    object.usage = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (storageType != null) {
+            writer.name("storageType").value(storageType);
+        }
+        if (usage != null) {
+            writer.name("usage").value(usage);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
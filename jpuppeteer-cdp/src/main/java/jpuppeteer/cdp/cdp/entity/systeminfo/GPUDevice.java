@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.systeminfo;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GPUDevice {
+public class GPUDevice implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * PCI ID of the GPU vendor, if available; 0 otherwise.
@@ -50,5 +50,74 @@ public class GPUDevice {
     private String driverVersion;
 
 
+    public static GPUDevice decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GPUDevice object = new GPUDevice();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "vendorId":
+                    object.vendorId = reader.nextDouble();
+                    break;
+                case "deviceId":
+                    object.deviceId = reader.nextDouble();
+                    break;
+                case "subSysId":
+                    object.subSysId = reader.nextDouble();
+                    break;
+                case "revision":
+                    object.revision = reader.nextDouble();
+                    break;
+                case "vendorString":
+                    object.vendorString = reader.nextString();
+                    break;
+                case "deviceString":
+                    object.deviceString = reader.nextString();
+                    break;
+                case "driverVendor":
+                    object.driverVendor = reader.nextString();
+                    break;
+                case "driverVersion":
+                    object.driverVersion = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (vendorId != null) {
+            writer.name("vendorId").value(vendorId);
+        }
+        if (deviceId != null) {
+            writer.name("deviceId").value(deviceId);
+        }
+        if (subSysId != null) {
+            writer.name("subSysId").value(subSysId);
+        }
+        if (revision != null) {
+            writer.name("revision").value(revision);
+        }
+        if (vendorString != null) {
+            writer.name("vendorString").value(vendorString);
+        }
+        if (deviceString != null) {
+            writer.name("deviceString").value(deviceString);
+        }
+        if (driverVendor != null) {
+            writer.name("driverVendor").value(driverVendor);
+        }
+        if (driverVersion != null) {
+            writer.name("driverVersion").value(driverVersion);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.systeminfo;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GPUInfo {
+public class GPUInfo implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The graphics devices on the system. Element 0 is the primary GPU.
@@ -45,5 +45,68 @@ public class GPUInfo {
     private java.util.List<jpuppeteer.cdp.cdp.entity.systeminfo.ImageDecodeAcceleratorCapability> imageDecoding;
 
 
+    public static GPUInfo decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GPUInfo object = new GPUInfo();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "devices":
+                    object.devices = reader.nextList(jpuppeteer.cdp.cdp.entity.systeminfo.GPUDevice::decode);
+                    break;
+                case "auxAttributes":
+                    object.auxAttributes = reader.nextMap();
+                    break;
+                case "featureStatus":
+                    object.featureStatus = reader.nextMap();
+                    break;
+                case "driverBugWorkarounds":
+                    object.driverBugWorkarounds = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "videoDecoding":
+                    object.videoDecoding = reader.nextList(jpuppeteer.cdp.cdp.entity.systeminfo.VideoDecodeAcceleratorCapability::decode);
+                    break;
+                case "videoEncoding":
+                    object.videoEncoding = reader.nextList(jpuppeteer.cdp.cdp.entity.systeminfo.VideoEncodeAcceleratorCapability::decode);
+                    break;
+                case "imageDecoding":
+                    object.imageDecoding = reader.nextList(jpuppeteer.cdp.cdp.entity.systeminfo.ImageDecodeAcceleratorCapability::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (devices != null) {
+            writer.name("devices").value(devices);
+        }
+        if (auxAttributes != null) {
+            writer.name("auxAttributes").value(auxAttributes);
+        }
+        if (featureStatus != null) {
+            writer.name("featureStatus").value(featureStatus);
+        }
+        if (driverBugWorkarounds != null) {
+            writer.name("driverBugWorkarounds").value(driverBugWorkarounds);
+        }
+        if (videoDecoding != null) {
+            writer.name("videoDecoding").value(videoDecoding);
+        }
+        if (videoEncoding != null) {
+            writer.name("videoEncoding").value(videoEncoding);
+        }
+        if (imageDecoding != null) {
+            writer.name("imageDecoding").value(imageDecoding);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
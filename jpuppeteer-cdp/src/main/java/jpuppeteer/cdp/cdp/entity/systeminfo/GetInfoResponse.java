@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.systeminfo;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetInfoResponse {
+public class GetInfoResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Information about the GPUs on the system.
@@ -29,5 +29,50 @@ public class GetInfoResponse {
     private String commandLine;
 
 
+    public static GetInfoResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetInfoResponse object = new GetInfoResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "gpu":
+                    object.gpu = jpuppeteer.cdp.cdp.entity.systeminfo.GPUInfo.decode(reader);
+                    break;
+                case "modelName":
+                    object.modelName = reader.nextString();
+                    break;
+                case "modelVersion":
+                    object.modelVersion = reader.nextString();
+                    break;
+                case "commandLine":
+                    object.commandLine = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (gpu != null) {
+            writer.name("gpu").value(gpu);
+        }
+        if (modelName != null) {
+            writer.name("modelName").value(modelName);
+        }
+        if (modelVersion != null) {
+            writer.name("modelVersion").value(modelVersion);
+        }
+        if (commandLine != null) {
+            writer.name("commandLine").value(commandLine);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
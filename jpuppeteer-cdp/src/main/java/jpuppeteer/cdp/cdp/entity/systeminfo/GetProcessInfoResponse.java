@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.systeminfo;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetProcessInfoResponse {
+public class GetProcessInfoResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * An array of process info blocks.
@@ -14,5 +14,32 @@ public class GetProcessInfoResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.systeminfo.ProcessInfo> processInfo;
 
 
+    public static GetProcessInfoResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetProcessInfoResponse object = new GetProcessInfoResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "processInfo":
+                    object.processInfo = reader.nextList(jpuppeteer.cdp.cdp.entity.systeminfo.ProcessInfo::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (processInfo != null) {
+            writer.name("processInfo").value(processInfo);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
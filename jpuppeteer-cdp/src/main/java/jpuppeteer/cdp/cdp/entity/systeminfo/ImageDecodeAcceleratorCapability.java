@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.systeminfo;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ImageDecodeAcceleratorCapability {
+public class ImageDecodeAcceleratorCapability implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Image coded, e.g. Jpeg.
@@ -30,5 +30,50 @@ public class ImageDecodeAcceleratorCapability {
     private java.util.List<String> subsamplings;
 
 
+    public static ImageDecodeAcceleratorCapability decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ImageDecodeAcceleratorCapability object = new ImageDecodeAcceleratorCapability();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "imageType":
+                    object.imageType = reader.nextString();
+                    break;
+                case "maxDimensions":
+                    object.maxDimensions = jpuppeteer.cdp.cdp.entity.systeminfo.Size.decode(reader);
+                    break;
+                case "minDimensions":
+                    object.minDimensions = jpuppeteer.cdp.cdp.entity.systeminfo.Size.decode(reader);
+                    break;
+                case "subsamplings":
+                    object.subsamplings = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (imageType != null) {
+            writer.name("imageType").value(imageType);
+        }
+        if (maxDimensions != null) {
+            writer.name("maxDimensions").value(maxDimensions);
+        }
+        if (minDimensions != null) {
+            writer.name("minDimensions").value(minDimensions);
+        }
+        if (subsamplings != null) {
+            writer.name("subsamplings").value(subsamplings);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
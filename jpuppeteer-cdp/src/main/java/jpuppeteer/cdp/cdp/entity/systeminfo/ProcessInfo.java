@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.systeminfo;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ProcessInfo {
+public class ProcessInfo implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Specifies process type.
@@ -25,5 +25,44 @@ public class ProcessInfo {
     private Double cpuTime;
 
 
+    public static ProcessInfo decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ProcessInfo object = new ProcessInfo();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "id":
+                    object.id = reader.nextInteger();
+                    break;
+                case "cpuTime":
+                    object.cpuTime = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (id != null) {
+            writer.name("id").value(id);
+        }
+        if (cpuTime != null) {
+            writer.name("cpuTime").value(cpuTime);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
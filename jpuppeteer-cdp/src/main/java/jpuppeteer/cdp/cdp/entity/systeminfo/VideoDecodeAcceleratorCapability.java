@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.systeminfo;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class VideoDecodeAcceleratorCapability {
+public class VideoDecodeAcceleratorCapability implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Video codec profile that is supported, e.g. VP9 Profile 2.
@@ -25,5 +25,44 @@ public class VideoDecodeAcceleratorCapability {
     private jpuppeteer.cdp.cdp.entity.systeminfo.Size minResolution;
 
 
+    public static VideoDecodeAcceleratorCapability decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        VideoDecodeAcceleratorCapability object = new VideoDecodeAcceleratorCapability();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "profile":
+                    object.profile = reader.nextString();
+                    break;
+                case "maxResolution":
+                    object.maxResolution = jpuppeteer.cdp.cdp.entity.systeminfo.Size.decode(reader);
+                    break;
+                case "minResolution":
+                    object.minResolution = jpuppeteer.cdp.cdp.entity.systeminfo.Size.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (profile != null) {
+            writer.name("profile").value(profile);
+        }
+        if (maxResolution != null) {
+            writer.name("maxResolution").value(maxResolution);
+        }
+        if (minResolution != null) {
+            writer.name("minResolution").value(minResolution);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
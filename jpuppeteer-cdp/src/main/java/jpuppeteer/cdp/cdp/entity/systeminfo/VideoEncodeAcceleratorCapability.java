@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.systeminfo;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class VideoEncodeAcceleratorCapability {
+public class VideoEncodeAcceleratorCapability implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Video codec profile that is supported, e.g H264 Main.
@@ -29,5 +29,50 @@ public class VideoEncodeAcceleratorCapability {
     private Integer maxFramerateDenominator;
 
 
+    public static VideoEncodeAcceleratorCapability decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        VideoEncodeAcceleratorCapability object = new VideoEncodeAcceleratorCapability();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "profile":
+                    object.profile = reader.nextString();
+                    break;
+                case "maxResolution":
+                    object.maxResolution = jpuppeteer.cdp.cdp.entity.systeminfo.Size.decode(reader);
+                    break;
+                case "maxFramerateNumerator":
+                    object.maxFramerateNumerator = reader.nextInteger();
+                    break;
+                case "maxFramerateDenominator":
+                    object.maxFramerateDenominator = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (profile != null) {
+            writer.name("profile").value(profile);
+        }
+        if (maxResolution != null) {
+            writer.name("maxResolution").value(maxResolution);
+        }
+        if (maxFramerateNumerator != null) {
+            writer.name("maxFramerateNumerator").value(maxFramerateNumerator);
+        }
+        if (maxFramerateDenominator != null) {
+            writer.name("maxFramerateDenominator").value(maxFramerateDenominator);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,12 +5,39 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ActivateTargetRequest {
+public class ActivateTargetRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String targetId;
 
 
+    public static ActivateTargetRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ActivateTargetRequest object = new ActivateTargetRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "targetId":
+                    object.targetId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (targetId != null) {
+            writer.name("targetId").value(targetId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
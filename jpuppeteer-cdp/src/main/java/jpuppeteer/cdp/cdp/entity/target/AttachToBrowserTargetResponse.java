@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AttachToBrowserTargetResponse {
+public class AttachToBrowserTargetResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id assigned to the session.
@@ -13,5 +13,32 @@ public class AttachToBrowserTargetResponse {
     private String sessionId;
 
 
+    public static AttachToBrowserTargetResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AttachToBrowserTargetResponse object = new AttachToBrowserTargetResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "sessionId":
+                    object.sessionId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (sessionId != null) {
+            writer.name("sessionId").value(sessionId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
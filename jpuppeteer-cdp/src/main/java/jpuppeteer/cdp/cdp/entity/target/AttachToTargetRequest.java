@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AttachToTargetRequest {
+public class AttachToTargetRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -17,5 +17,38 @@ public class AttachToTargetRequest {
     private Boolean flatten;
 
 
+    public static AttachToTargetRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AttachToTargetRequest object = new AttachToTargetRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "targetId":
+                    object.targetId = reader.nextString();
+                    break;
+                case "flatten":
+                    object.flatten = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (targetId != null) {
+            writer.name("targetId").value(targetId);
+        }
+        if (flatten != null) {
+            writer.name("flatten").value(flatten);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AttachToTargetResponse {
+public class AttachToTargetResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Id assigned to the session.
@@ -13,5 +13,32 @@ public class AttachToTargetResponse {
     private String sessionId;
 
 
+    public static AttachToTargetResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AttachToTargetResponse object = new AttachToTargetResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "sessionId":
+                    object.sessionId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (sessionId != null) {
+            writer.name("sessionId").value(sessionId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
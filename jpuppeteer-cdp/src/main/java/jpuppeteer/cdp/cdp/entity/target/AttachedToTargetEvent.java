@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AttachedToTargetEvent {
+public class AttachedToTargetEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier assigned to the session used to send/receive messages.
@@ -22,5 +22,44 @@ public class AttachedToTargetEvent {
     private Boolean waitingForDebugger;
 
 
+    public static AttachedToTargetEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AttachedToTargetEvent object = new AttachedToTargetEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "sessionId":
+                    object.sessionId = reader.nextString();
+                    break;
+                case "targetInfo":
+                    object.targetInfo = jpuppeteer.cdp.cdp.entity.target.TargetInfo.decode(reader);
+                    break;
+                case "waitingForDebugger":
+                    object.waitingForDebugger = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (sessionId != null) {
+            writer.name("sessionId").value(sessionId);
+        }
+        if (targetInfo != null) {
+            writer.name("targetInfo").value(targetInfo);
+        }
+        if (waitingForDebugger != null) {
+            writer.name("waitingForDebugger").value(waitingForDebugger);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
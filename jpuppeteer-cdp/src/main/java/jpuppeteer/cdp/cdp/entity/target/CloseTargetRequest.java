@@ -5,12 +5,39 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CloseTargetRequest {
+public class CloseTargetRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String targetId;
 
 
+    public static CloseTargetRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CloseTargetRequest object = new CloseTargetRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "targetId":
+                    object.targetId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (targetId != null) {
+            writer.name("targetId").value(targetId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
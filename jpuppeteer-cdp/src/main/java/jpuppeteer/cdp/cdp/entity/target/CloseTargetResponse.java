@@ -5,12 +5,39 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CloseTargetResponse {
+public class CloseTargetResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private Boolean success;
 
 
+    public static CloseTargetResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CloseTargetResponse object = new CloseTargetResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "success":
+                    object.success = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (success != null) {
+            writer.name("success").value(success);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CreateBrowserContextResponse {
+public class CreateBrowserContextResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The id of the context created.
@@ -13,5 +13,32 @@ public class CreateBrowserContextResponse {
     private String browserContextId;
 
 
+    public static CreateBrowserContextResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CreateBrowserContextResponse object = new CreateBrowserContextResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "browserContextId":
+                    object.browserContextId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (browserContextId != null) {
+            writer.name("browserContextId").value(browserContextId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CreateTargetRequest {
+public class CreateTargetRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The initial URL the page will be navigated to.
@@ -43,5 +43,68 @@ public class CreateTargetRequest {
     private Boolean background;
 
 
+    public static CreateTargetRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CreateTargetRequest object = new CreateTargetRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "width":
+                    object.width = reader.nextInteger();
+                    break;
+                case "height":
+                    object.height = reader.nextInteger();
+                    break;
+                case "browserContextId":
+                    object.browserContextId = reader.nextString();
+                    break;
+                case "enableBeginFrameControl":
+                    object.enableBeginFrameControl = reader.nextBoolean();
+                    break;
+                case "newWindow":
+                    object.newWindow = reader.nextBoolean();
+                    break;
+                case "background":
+                    object.background = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (width != null) {
+            writer.name("width").value(width);
+        }
+        if (height != null) {
+            writer.name("height").value(height);
+        }
+        if (browserContextId != null) {
+            writer.name("browserContextId").value(browserContextId);
+        }
+        if (enableBeginFrameControl != null) {
+            writer.name("enableBeginFrameControl").value(enableBeginFrameControl);
+        }
+        if (newWindow != null) {
+            writer.name("newWindow").value(newWindow);
+        }
+        if (background != null) {
+            writer.name("background").value(background);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
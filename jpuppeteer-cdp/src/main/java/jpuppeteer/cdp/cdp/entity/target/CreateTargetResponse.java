@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class CreateTargetResponse {
+public class CreateTargetResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The id of the page opened.
@@ -13,5 +13,32 @@ public class CreateTargetResponse {
     private String targetId;
 
 
+    public static CreateTargetResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        CreateTargetResponse object = new CreateTargetResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "targetId":
+                    object.targetId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (targetId != null) {
+            writer.name("targetId").value(targetId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
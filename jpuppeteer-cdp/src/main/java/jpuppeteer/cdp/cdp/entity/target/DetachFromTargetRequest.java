@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DetachFromTargetRequest {
+public class DetachFromTargetRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Session to detach.
@@ -18,5 +18,38 @@ public class DetachFromTargetRequest {
     private String targetId;
 
 
+    public static DetachFromTargetRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DetachFromTargetRequest object = new DetachFromTargetRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "sessionId":
+                    object.sessionId = reader.nextString();
+                    break;
+                case "targetId":
+                    object.targetId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (sessionId != null) {
+            writer.name("sessionId").value(sessionId);
+        }
+        if (targetId != null) {
+            writer.name("targetId").value(targetId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ExposeDevToolsProtocolRequest {
+public class ExposeDevToolsProtocolRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -17,5 +17,38 @@ public class ExposeDevToolsProtocolRequest {
     private String bindingName;
 
 
+    public static ExposeDevToolsProtocolRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ExposeDevToolsProtocolRequest object = new ExposeDevToolsProtocolRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "targetId":
+                    object.targetId = reader.nextString();
+                    break;
+                case "bindingName":
+                    object.bindingName = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (targetId != null) {
+            writer.name("targetId").value(targetId);
+        }
+        if (bindingName != null) {
+            writer.name("bindingName").value(bindingName);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
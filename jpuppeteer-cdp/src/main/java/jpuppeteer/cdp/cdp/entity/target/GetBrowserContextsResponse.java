@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetBrowserContextsResponse {
+public class GetBrowserContextsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * An array of browser context ids.
@@ -13,5 +13,32 @@ public class GetBrowserContextsResponse {
     private java.util.List<String> browserContextIds;
 
 
+    public static GetBrowserContextsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetBrowserContextsResponse object = new GetBrowserContextsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "browserContextIds":
+                    object.browserContextIds = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (browserContextIds != null) {
+            writer.name("browserContextIds").value(browserContextIds);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
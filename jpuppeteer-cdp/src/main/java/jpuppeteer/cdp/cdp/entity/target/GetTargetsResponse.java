@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetTargetsResponse {
+public class GetTargetsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The list of targets.
@@ -13,5 +13,32 @@ public class GetTargetsResponse {
     private java.util.List<jpuppeteer.cdp.cdp.entity.target.TargetInfo> targetInfos;
 
 
+    public static GetTargetsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetTargetsResponse object = new GetTargetsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "targetInfos":
+                    object.targetInfos = reader.nextList(jpuppeteer.cdp.cdp.entity.target.TargetInfo::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (targetInfos != null) {
+            writer.name("targetInfos").value(targetInfos);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
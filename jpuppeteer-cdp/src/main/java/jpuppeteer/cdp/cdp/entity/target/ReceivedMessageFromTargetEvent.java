@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ReceivedMessageFromTargetEvent {
+public class ReceivedMessageFromTargetEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Identifier of a session which sends a message.
@@ -23,5 +23,44 @@ public class ReceivedMessageFromTargetEvent {
     private String targetId;
 
 
+    public static ReceivedMessageFromTargetEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ReceivedMessageFromTargetEvent object = new ReceivedMessageFromTargetEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "sessionId":
+                    object.sessionId = reader.nextString();
+                    break;
+                case "message":
+                    object.message = reader.nextString();
+                    break;
+                case "targetId":
+                    object.targetId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (sessionId != null) {
+            writer.name("sessionId").value(sessionId);
+        }
+        if (message != null) {
+            writer.name("message").value(message);
+        }
+        if (targetId != null) {
+            writer.name("targetId").value(targetId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RemoteLocation {
+public class RemoteLocation implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -16,5 +16,38 @@ public class RemoteLocation {
     private Integer port;
 
 
+    public static RemoteLocation decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RemoteLocation object = new RemoteLocation();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "host":
+                    object.host = reader.nextString();
+                    break;
+                case "port":
+                    object.port = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (host != null) {
+            writer.name("host").value(host);
+        }
+        if (port != null) {
+            writer.name("port").value(port);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
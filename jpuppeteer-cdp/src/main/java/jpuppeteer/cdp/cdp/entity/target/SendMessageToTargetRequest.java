@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SendMessageToTargetRequest {
+public class SendMessageToTargetRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -22,5 +22,44 @@ public class SendMessageToTargetRequest {
     private String targetId;
 
 
+    public static SendMessageToTargetRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SendMessageToTargetRequest object = new SendMessageToTargetRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "message":
+                    object.message = reader.nextString();
+                    break;
+                case "sessionId":
+                    object.sessionId = reader.nextString();
+                    break;
+                case "targetId":
+                    object.targetId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (message != null) {
+            writer.name("message").value(message);
+        }
+        if (sessionId != null) {
+            writer.name("sessionId").value(sessionId);
+        }
+        if (targetId != null) {
+            writer.name("targetId").value(targetId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
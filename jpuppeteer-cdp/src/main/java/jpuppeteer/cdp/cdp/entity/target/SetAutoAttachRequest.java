@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetAutoAttachRequest {
+public class SetAutoAttachRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Whether to auto-attach to related targets.
@@ -28,5 +28,50 @@ public class SetAutoAttachRequest {
     private Boolean windowOpen;
 
 
+    public static SetAutoAttachRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetAutoAttachRequest object = new SetAutoAttachRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "autoAttach":
+                    object.autoAttach = reader.nextBoolean();
+                    break;
+                case "waitForDebuggerOnStart":
+                    object.waitForDebuggerOnStart = reader.nextBoolean();
+                    break;
+                case "flatten":
+                    object.flatten = reader.nextBoolean();
+                    break;
+                case "windowOpen":
+                    object.windowOpen = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (autoAttach != null) {
+            writer.name("autoAttach").value(autoAttach);
+        }
+        if (waitForDebuggerOnStart != null) {
+            writer.name("waitForDebuggerOnStart").value(waitForDebuggerOnStart);
+        }
+        if (flatten != null) {
+            writer.name("flatten").value(flatten);
+        }
+        if (windowOpen != null) {
+            writer.name("windowOpen").value(windowOpen);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
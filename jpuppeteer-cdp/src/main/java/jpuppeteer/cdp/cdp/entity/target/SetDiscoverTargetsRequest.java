@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetDiscoverTargetsRequest {
+public class SetDiscoverTargetsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Whether to discover available targets.
@@ -13,5 +13,32 @@ public class SetDiscoverTargetsRequest {
     private Boolean discover;
 
 
+    public static SetDiscoverTargetsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetDiscoverTargetsRequest object = new SetDiscoverTargetsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "discover":
+                    object.discover = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (discover != null) {
+            writer.name("discover").value(discover);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetRemoteLocationsRequest {
+public class SetRemoteLocationsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * List of remote locations.
@@ -13,5 +13,32 @@ public class SetRemoteLocationsRequest {
     private java.util.List<jpuppeteer.cdp.cdp.entity.target.RemoteLocation> locations;
 
 
+    public static SetRemoteLocationsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetRemoteLocationsRequest object = new SetRemoteLocationsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "locations":
+                    object.locations = reader.nextList(jpuppeteer.cdp.cdp.entity.target.RemoteLocation::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (locations != null) {
+            writer.name("locations").value(locations);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
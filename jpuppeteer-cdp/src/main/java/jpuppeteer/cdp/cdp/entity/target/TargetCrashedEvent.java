@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class TargetCrashedEvent {
+public class TargetCrashedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -23,5 +23,44 @@ public class TargetCrashedEvent {
     private Integer errorCode;
 
 
+    public static TargetCrashedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        TargetCrashedEvent object = new TargetCrashedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "targetId":
+                    object.targetId = reader.nextString();
+                    break;
+                case "status":
+                    object.status = reader.nextString();
+                    break;
+                case "errorCode":
+                    object.errorCode = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (targetId != null) {
+            writer.name("targetId").value(targetId);
+        }
+        if (status != null) {
+            writer.name("status").value(status);
+        }
+        if (errorCode != null) {
+            writer.name("errorCode").value(errorCode);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class TargetCreatedEvent {
+public class TargetCreatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private jpuppeteer.cdp.cdp.entity.target.TargetInfo targetInfo;
 
 
+    public static TargetCreatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        TargetCreatedEvent object = new TargetCreatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "targetInfo":
+                    object.targetInfo = jpuppeteer.cdp.cdp.entity.target.TargetInfo.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (targetInfo != null) {
+            writer.name("targetInfo").value(targetInfo);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package jpuppeteer.cdp.cdp.entity.target;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class TargetInfo {
+public class TargetInfo implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -38,5 +38,68 @@ public class TargetInfo {
     private String browserContextId;
 
 
+    public static TargetInfo decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        TargetInfo object = new TargetInfo();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "targetId":
+                    object.targetId = reader.nextString();
+                    break;
+                case "type":
+                    object.type = reader.nextString();
+                    break;
+                case "title":
+                    object.title = reader.nextString();
+                    break;
+                case "url":
+                    object.url = reader.nextString();
+                    break;
+                case "attached":
+                    object.attached = reader.nextBoolean();
+                    break;
+                case "openerId":
+                    object.openerId = reader.nextString();
+                    break;
+                case "browserContextId":
+                    object.browserContextId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (targetId != null) {
+            writer.name("targetId").value(targetId);
+        }
+        if (type != null) {
+            writer.name("type").value(type);
+        }
+        if (title != null) {
+            writer.name("title").value(title);
+        }
+        if (url != null) {
+            writer.name("url").value(url);
+        }
+        if (attached != null) {
+            writer.name("attached").value(attached);
+        }
+        if (openerId != null) {
+            writer.name("openerId").value(openerId);
+        }
+        if (browserContextId != null) {
+            writer.name("browserContextId").value(browserContextId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.tethering;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AcceptedEvent {
+public class AcceptedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Port number that was successfully bound.
@@ -20,5 +20,38 @@ public class AcceptedEvent {
     private String connectionId;
 
 
+    public static AcceptedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AcceptedEvent object = new AcceptedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "port":
+                    object.port = reader.nextInteger();
+                    break;
+                case "connectionId":
+                    object.connectionId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (port != null) {
+            writer.name("port").value(port);
+        }
+        if (connectionId != null) {
+            writer.name("connectionId").value(connectionId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
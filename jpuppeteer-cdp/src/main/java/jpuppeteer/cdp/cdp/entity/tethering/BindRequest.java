@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.tethering;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class BindRequest {
+public class BindRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Port number to bind.
@@ -14,5 +14,32 @@ public class BindRequest {
     private Integer port;
 
 
+    public static BindRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        BindRequest object = new BindRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "port":
+                    object.port = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (port != null) {
+            writer.name("port").value(port);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.tethering;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class UnbindRequest {
+public class UnbindRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Port number to unbind.
@@ -14,5 +14,32 @@ public class UnbindRequest {
     private Integer port;
 
 
+    public static UnbindRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        UnbindRequest object = new UnbindRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "port":
+                    object.port = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (port != null) {
+            writer.name("port").value(port);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
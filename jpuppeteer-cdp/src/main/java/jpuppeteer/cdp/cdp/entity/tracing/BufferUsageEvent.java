@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.tracing;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class BufferUsageEvent {
+public class BufferUsageEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * A number in range [0..1] that indicates the used size of event buffer as a fraction of its total size.
@@ -24,5 +24,44 @@ public class BufferUsageEvent {
     private Double value;
 
 
+    public static BufferUsageEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        BufferUsageEvent object = new BufferUsageEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "percentFull":
+                    object.percentFull = reader.nextDouble();
+                    break;
+                case "eventCount":
+                    object.eventCount = reader.nextDouble();
+                    break;
+                case "value":
+                    object.value = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (percentFull != null) {
+            writer.name("percentFull").value(percentFull);
+        }
+        if (eventCount != null) {
+            writer.name("eventCount").value(eventCount);
+        }
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
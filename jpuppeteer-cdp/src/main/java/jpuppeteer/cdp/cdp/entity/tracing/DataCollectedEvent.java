@@ -7,12 +7,39 @@ package jpuppeteer.cdp.cdp.entity.tracing;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class DataCollectedEvent {
+public class DataCollectedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private java.util.List<java.util.Map<String, Object>> value;
 
 
+    public static DataCollectedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        DataCollectedEvent object = new DataCollectedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "value":
+                    object.value = reader.nextList(jpuppeteer.cdp.JsonReader::nextMap);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.tracing;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetCategoriesResponse {
+public class GetCategoriesResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * A list of supported tracing categories.
@@ -14,5 +14,32 @@ public class GetCategoriesResponse {
     private java.util.List<String> categories;
 
 
+    public static GetCategoriesResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetCategoriesResponse object = new GetCategoriesResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "categories":
+                    object.categories = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (categories != null) {
+            writer.name("categories").value(categories);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.tracing;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RecordClockSyncMarkerRequest {
+public class RecordClockSyncMarkerRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The ID of this clock sync marker
@@ -14,5 +14,32 @@ public class RecordClockSyncMarkerRequest {
     private String syncId;
 
 
+    public static RecordClockSyncMarkerRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RecordClockSyncMarkerRequest object = new RecordClockSyncMarkerRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "syncId":
+                    object.syncId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (syncId != null) {
+            writer.name("syncId").value(syncId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.tracing;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RequestMemoryDumpRequest {
+public class RequestMemoryDumpRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Enables more deterministic results by forcing garbage collection
@@ -14,5 +14,32 @@ public class RequestMemoryDumpRequest {
     private Boolean deterministic;
 
 
+    public static RequestMemoryDumpRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RequestMemoryDumpRequest object = new RequestMemoryDumpRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "deterministic":
+                    object.deterministic = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (deterministic != null) {
+            writer.name("deterministic").value(deterministic);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
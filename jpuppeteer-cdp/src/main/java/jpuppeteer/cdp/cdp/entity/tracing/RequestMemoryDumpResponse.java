@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.tracing;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class RequestMemoryDumpResponse {
+public class RequestMemoryDumpResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * GUID of the resulting global memory dump.
@@ -19,5 +19,38 @@ public class RequestMemoryDumpResponse {
     private Boolean success;
 
 
+    public static RequestMemoryDumpResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        RequestMemoryDumpResponse object = new RequestMemoryDumpResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "dumpGuid":
+                    object.dumpGuid = reader.nextString();
+                    break;
+                case "success":
+                    object.success = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (dumpGuid != null) {
+            writer.name("dumpGuid").value(dumpGuid);
+        }
+        if (success != null) {
+            writer.name("success").value(success);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.tracing;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class StartRequest {
+public class StartRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Category/tag filter
@@ -43,5 +43,68 @@ public class StartRequest {
     private jpuppeteer.cdp.cdp.entity.tracing.TraceConfig traceConfig;
 
 
+    public static StartRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        StartRequest object = new StartRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "categories":
+                    object.categories = reader.nextString();
+                    break;
+                case "options":
+                    object.options = reader.nextString();
+                    break;
+                case "bufferUsageReportingInterval":
+                    object.bufferUsageReportingInterval = reader.nextDouble();
+                    break;
+                case "transferMode":
+                    object.transferMode = reader.nextString();
+                    break;
+                case "streamFormat":
+                    object.streamFormat = reader.nextString();
+                    break;
+                case "streamCompression":
+                    object.streamCompression = reader.nextString();
+                    break;
+                case "traceConfig":
+                    object.traceConfig = jpuppeteer.cdp.cdp.entity.tracing.TraceConfig.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (categories != null) {
+            writer.name("categories").value(categories);
+        }
+        if (options != null) {
+            writer.name("options").value(options);
+        }
+        if (bufferUsageReportingInterval != null) {
+            writer.name("bufferUsageReportingInterval").value(bufferUsageReportingInterval);
+        }
+        if (transferMode != null) {
+            writer.name("transferMode").value(transferMode);
+        }
+        if (streamFormat != null) {
+            writer.name("streamFormat").value(streamFormat);
+        }
+        if (streamCompression != null) {
+            writer.name("streamCompression").value(streamCompression);
+        }
+        if (traceConfig != null) {
+            writer.name("traceConfig").value(traceConfig);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.tracing;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class TraceConfig {
+public class TraceConfig implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Controls how the trace buffer stores data.
@@ -49,5 +49,74 @@ public class TraceConfig {
     private java.util.Map<String, Object> memoryDumpConfig;
 
 
+    public static TraceConfig decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        TraceConfig object = new TraceConfig();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "recordMode":
+                    object.recordMode = reader.nextString();
+                    break;
+                case "enableSampling":
+                    object.enableSampling = reader.nextBoolean();
+                    break;
+                case "enableSystrace":
+                    object.enableSystrace = reader.nextBoolean();
+                    break;
+                case "enableArgumentFilter":
+                    object.enableArgumentFilter = reader.nextBoolean();
+                    break;
+                case "includedCategories":
+                    object.includedCategories = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "excludedCategories":
+                    object.excludedCategories = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "syntheticDelays":
+                    object.syntheticDelays = reader.nextList(jpuppeteer.cdp.JsonReader::nextString);
+                    break;
+                case "memoryDumpConfig":
+                    object.memoryDumpConfig = reader.nextMap();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (recordMode != null) {
+            writer.name("recordMode").value(recordMode);
+        }
+        if (enableSampling != null) {
+            writer.name("enableSampling").value(enableSampling);
+        }
+        if (enableSystrace != null) {
+            writer.name("enableSystrace").value(enableSystrace);
+        }
+        if (enableArgumentFilter != null) {
+            writer.name("enableArgumentFilter").value(enableArgumentFilter);
+        }
+        if (includedCategories != null) {
+            writer.name("includedCategories").value(includedCategories);
+        }
+        if (excludedCategories != null) {
+            writer.name("excludedCategories").value(excludedCategories);
+        }
+        if (syntheticDelays != null) {
+            writer.name("syntheticDelays").value(syntheticDelays);
+        }
+        if (memoryDumpConfig != null) {
+            writer.name("memoryDumpConfig").value(memoryDumpConfig);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
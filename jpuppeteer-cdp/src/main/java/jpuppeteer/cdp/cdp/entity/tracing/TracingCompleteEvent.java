@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.tracing;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class TracingCompleteEvent {
+public class TracingCompleteEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * Indicates whether some trace data is known to have been lost, e.g. because the trace ring buffer wrapped around.
@@ -30,5 +30,50 @@ public class TracingCompleteEvent {
     private String streamCompression;
 
 
+    public static TracingCompleteEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        TracingCompleteEvent object = new TracingCompleteEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "dataLossOccurred":
+                    object.dataLossOccurred = reader.nextBoolean();
+                    break;
+                case "stream":
+                    object.stream = reader.nextString();
+                    break;
+                case "traceFormat":
+                    object.traceFormat = reader.nextString();
+                    break;
+                case "streamCompression":
+                    object.streamCompression = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (dataLossOccurred != null) {
+            writer.name("dataLossOccurred").value(dataLossOccurred);
+        }
+        if (stream != null) {
+            writer.name("stream").value(stream);
+        }
+        if (traceFormat != null) {
+            writer.name("traceFormat").value(traceFormat);
+        }
+        if (streamCompression != null) {
+            writer.name("streamCompression").value(streamCompression);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.webaudio;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AudioListener {
+public class AudioListener implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -18,5 +18,38 @@ public class AudioListener {
     private String contextId;
 
 
+    public static AudioListener decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AudioListener object = new AudioListener();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "listenerId":
+                    object.listenerId = reader.nextString();
+                    break;
+                case "contextId":
+                    object.contextId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (listenerId != null) {
+            writer.name("listenerId").value(listenerId);
+        }
+        if (contextId != null) {
+            writer.name("contextId").value(contextId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,12 +7,39 @@ package jpuppeteer.cdp.cdp.entity.webaudio;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AudioListenerCreatedEvent {
+public class AudioListenerCreatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private jpuppeteer.cdp.cdp.entity.webaudio.AudioListener listener;
 
 
+    public static AudioListenerCreatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AudioListenerCreatedEvent object = new AudioListenerCreatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "listener":
+                    object.listener = jpuppeteer.cdp.cdp.entity.webaudio.AudioListener.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (listener != null) {
+            writer.name("listener").value(listener);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
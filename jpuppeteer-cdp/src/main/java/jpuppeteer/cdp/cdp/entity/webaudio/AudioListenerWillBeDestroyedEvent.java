@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.webaudio;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AudioListenerWillBeDestroyedEvent {
+public class AudioListenerWillBeDestroyedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -18,5 +18,38 @@ public class AudioListenerWillBeDestroyedEvent {
     private String listenerId;
 
 
+    public static AudioListenerWillBeDestroyedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AudioListenerWillBeDestroyedEvent object = new AudioListenerWillBeDestroyedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "contextId":
+                    object.contextId = reader.nextString();
+                    break;
+                case "listenerId":
+                    object.listenerId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (contextId != null) {
+            writer.name("contextId").value(contextId);
+        }
+        if (listenerId != null) {
+            writer.name("listenerId").value(listenerId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
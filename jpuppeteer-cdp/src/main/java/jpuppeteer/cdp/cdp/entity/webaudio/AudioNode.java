@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.webaudio;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AudioNode {
+public class AudioNode implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -42,5 +42,74 @@ public class AudioNode {
     private String channelInterpretation;
 
 
+    public static AudioNode decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AudioNode object = new AudioNode();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "nodeId":
+                    object.nodeId = reader.nextString();
+                    break;
+                case "contextId":
+                    object.contextId = reader.nextString();
+                    break;
+                case "nodeType":
+                    object.nodeType = reader.nextString();
+                    break;
+                case "numberOfInputs":
+                    object.numberOfInputs = reader.nextDouble();
+                    break;
+                case "numberOfOutputs":
+                    object.numberOfOutputs = reader.nextDouble();
+                    break;
+                case "channelCount":
+                    object.channelCount = reader.nextDouble();
+                    break;
+                case "channelCountMode":
+                    object.channelCountMode = reader.nextString();
+                    break;
+                case "channelInterpretation":
+                    object.channelInterpretation = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (contextId != null) {
+            writer.name("contextId").value(contextId);
+        }
+        if (nodeType != null) {
+            writer.name("nodeType").value(nodeType);
+        }
+        if (numberOfInputs != null) {
+            writer.name("numberOfInputs").value(numberOfInputs);
+        }
+        if (numberOfOutputs != null) {
+            writer.name("numberOfOutputs").value(numberOfOutputs);
+        }
+        if (channelCount != null) {
+            writer.name("channelCount").value(channelCount);
+        }
+        if (channelCountMode != null) {
+            writer.name("channelCountMode").value(channelCountMode);
+        }
+        if (channelInterpretation != null) {
+            writer.name("channelInterpretation").value(channelInterpretation);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
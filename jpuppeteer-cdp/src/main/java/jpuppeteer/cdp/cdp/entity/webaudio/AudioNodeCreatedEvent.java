@@ -7,12 +7,39 @@ package jpuppeteer.cdp.cdp.entity.webaudio;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AudioNodeCreatedEvent {
+public class AudioNodeCreatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private jpuppeteer.cdp.cdp.entity.webaudio.AudioNode node;
 
 
+    public static AudioNodeCreatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AudioNodeCreatedEvent object = new AudioNodeCreatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "node":
+                    object.node = jpuppeteer.cdp.cdp.entity.webaudio.AudioNode.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (node != null) {
+            writer.name("node").value(node);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.webaudio;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AudioNodeWillBeDestroyedEvent {
+public class AudioNodeWillBeDestroyedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -18,5 +18,38 @@ public class AudioNodeWillBeDestroyedEvent {
     private String nodeId;
 
 
+    public static AudioNodeWillBeDestroyedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AudioNodeWillBeDestroyedEvent object = new AudioNodeWillBeDestroyedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "contextId":
+                    object.contextId = reader.nextString();
+                    break;
+                case "nodeId":
+                    object.nodeId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (contextId != null) {
+            writer.name("contextId").value(contextId);
+        }
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.webaudio;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AudioParam {
+public class AudioParam implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -42,5 +42,74 @@ public class AudioParam {
     private Double maxValue;
 
 
+    public static AudioParam decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AudioParam object = new AudioParam();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "paramId":
+                    object.paramId = reader.nextString();
+                    break;
+                case "nodeId":
+                    object.nodeId = reader.nextString();
+                    break;
+                case "contextId":
+                    object.contextId = reader.nextString();
+                    break;
+                case "paramType":
+                    object.paramType = reader.nextString();
+                    break;
+                case "rate":
+                    object.rate = reader.nextString();
+                    break;
+                case "defaultValue":
+                    object.defaultValue = reader.nextDouble();
+                    break;
+                case "minValue":
+                    object.minValue = reader.nextDouble();
+                    break;
+                case "maxValue":
+                    object.maxValue = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (paramId != null) {
+            writer.name("paramId").value(paramId);
+        }
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (contextId != null) {
+            writer.name("contextId").value(contextId);
+        }
+        if (paramType != null) {
+            writer.name("paramType").value(paramType);
+        }
+        if (rate != null) {
+            writer.name("rate").value(rate);
+        }
+        if (defaultValue != null) {
+            writer.name("defaultValue").value(defaultValue);
+        }
+        if (minValue != null) {
+            writer.name("minValue").value(minValue);
+        }
+        if (maxValue != null) {
+            writer.name("maxValue").value(maxValue);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
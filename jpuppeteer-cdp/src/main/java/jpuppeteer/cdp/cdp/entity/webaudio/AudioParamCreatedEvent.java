@@ -7,12 +7,39 @@ package jpuppeteer.cdp.cdp.entity.webaudio;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AudioParamCreatedEvent {
+public class AudioParamCreatedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private jpuppeteer.cdp.cdp.entity.webaudio.AudioParam param;
 
 
+    public static AudioParamCreatedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AudioParamCreatedEvent object = new AudioParamCreatedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "param":
+                    object.param = jpuppeteer.cdp.cdp.entity.webaudio.AudioParam.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (param != null) {
+            writer.name("param").value(param);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
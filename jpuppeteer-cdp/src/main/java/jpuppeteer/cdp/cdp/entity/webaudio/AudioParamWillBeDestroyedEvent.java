@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.webaudio;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AudioParamWillBeDestroyedEvent {
+public class AudioParamWillBeDestroyedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -22,5 +22,44 @@ public class AudioParamWillBeDestroyedEvent {
     private String paramId;
 
 
+    public static AudioParamWillBeDestroyedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AudioParamWillBeDestroyedEvent object = new AudioParamWillBeDestroyedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "contextId":
+                    object.contextId = reader.nextString();
+                    break;
+                case "nodeId":
+                    object.nodeId = reader.nextString();
+                    break;
+                case "paramId":
+                    object.paramId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (contextId != null) {
+            writer.name("contextId").value(contextId);
+        }
+        if (nodeId != null) {
+            writer.name("nodeId").value(nodeId);
+        }
+        if (paramId != null) {
+            writer.name("paramId").value(paramId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
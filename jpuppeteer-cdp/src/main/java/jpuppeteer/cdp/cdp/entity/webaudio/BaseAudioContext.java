@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.webaudio;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class BaseAudioContext {
+public class BaseAudioContext implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -41,5 +41,68 @@ public class BaseAudioContext {
     private Double sampleRate;
 
 
+    public static BaseAudioContext decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        BaseAudioContext object = new BaseAudioContext();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "contextId":
+                    object.contextId = reader.nextString();
+                    break;
+                case "contextType":
+                    object.contextType = reader.nextString();
+                    break;
+                case "contextState":
+                    object.contextState = reader.nextString();
+                    break;
+                case "realtimeData":
+                    object.realtimeData = jpuppeteer.cdp.cdp.entity.webaudio.ContextRealtimeData.decode(reader);
+                    break;
+                case "callbackBufferSize":
+                    object.callbackBufferSize = reader.nextDouble();
+                    break;
+                case "maxOutputChannelCount":
+                    object.maxOutputChannelCount = reader.nextDouble();
+                    break;
+                case "sampleRate":
+                    object.sampleRate = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (contextId != null) {
+            writer.name("contextId").value(contextId);
+        }
+        if (contextType != null) {
+            writer.name("contextType").value(contextType);
+        }
+        if (contextState != null) {
+            writer.name("contextState").value(contextState);
+        }
+        if (realtimeData != null) {
+            writer.name("realtimeData").value(realtimeData);
+        }
+        if (callbackBufferSize != null) {
+            writer.name("callbackBufferSize").value(callbackBufferSize);
+        }
+        if (maxOutputChannelCount != null) {
+            writer.name("maxOutputChannelCount").value(maxOutputChannelCount);
+        }
+        if (sampleRate != null) {
+            writer.name("sampleRate").value(sampleRate);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
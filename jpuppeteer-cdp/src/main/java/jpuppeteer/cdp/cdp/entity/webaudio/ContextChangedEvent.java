@@ -7,12 +7,39 @@ package jpuppeteer.cdp.cdp.entity.webaudio;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ContextChangedEvent {
+public class ContextChangedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private jpuppeteer.cdp.cdp.entity.webaudio.BaseAudioContext context;
 
 
+    public static ContextChangedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ContextChangedEvent object = new ContextChangedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "context":
+                    object.context = jpuppeteer.cdp.cdp.entity.webaudio.BaseAudioContext.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (context != null) {
+            writer.name("context").value(context);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.webaudio;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ContextRealtimeData {
+public class ContextRealtimeData implements jpuppeteer.cdp.CDPWritable {
 
     /**
     * The current context time in second in BaseAudioContext.
@@ -30,5 +30,50 @@ public class ContextRealtimeData {
     private Double callbackIntervalVariance;
 
 
+    public static ContextRealtimeData decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ContextRealtimeData object = new ContextRealtimeData();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "currentTime":
+                    object.currentTime = reader.nextDouble();
+                    break;
+                case "renderCapacity":
+                    object.renderCapacity = reader.nextDouble();
+                    break;
+                case "callbackIntervalMean":
+                    object.callbackIntervalMean = reader.nextDouble();
+                    break;
+                case "callbackIntervalVariance":
+                    object.callbackIntervalVariance = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (currentTime != null) {
+            writer.name("currentTime").value(currentTime);
+        }
+        if (renderCapacity != null) {
+            writer.name("renderCapacity").value(renderCapacity);
+        }
+        if (callbackIntervalMean != null) {
+            writer.name("callbackIntervalMean").value(callbackIntervalMean);
+        }
+        if (callbackIntervalVariance != null) {
+            writer.name("callbackIntervalVariance").value(callbackIntervalVariance);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
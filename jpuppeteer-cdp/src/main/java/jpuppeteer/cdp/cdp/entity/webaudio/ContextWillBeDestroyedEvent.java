@@ -7,12 +7,39 @@ package jpuppeteer.cdp.cdp.entity.webaudio;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class ContextWillBeDestroyedEvent {
+public class ContextWillBeDestroyedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String contextId;
 
 
+    public static ContextWillBeDestroyedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        ContextWillBeDestroyedEvent object = new ContextWillBeDestroyedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "contextId":
+                    object.contextId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (contextId != null) {
+            writer.name("contextId").value(contextId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
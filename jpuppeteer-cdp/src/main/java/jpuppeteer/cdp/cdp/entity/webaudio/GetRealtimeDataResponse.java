@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.webaudio;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetRealtimeDataResponse {
+public class GetRealtimeDataResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private jpuppeteer.cdp.cdp.entity.webaudio.ContextRealtimeData realtimeData;
 
 
+    public static GetRealtimeDataResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetRealtimeDataResponse object = new GetRealtimeDataResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "realtimeData":
+                    object.realtimeData = jpuppeteer.cdp.cdp.entity.webaudio.ContextRealtimeData.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (realtimeData != null) {
+            writer.name("realtimeData").value(realtimeData);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
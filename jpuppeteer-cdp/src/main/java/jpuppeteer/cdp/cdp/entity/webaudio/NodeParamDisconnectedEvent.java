@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.webaudio;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class NodeParamDisconnectedEvent {
+public class NodeParamDisconnectedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -26,5 +26,50 @@ public class NodeParamDisconnectedEvent {
     private Double sourceOutputIndex;
 
 
+    public static NodeParamDisconnectedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        NodeParamDisconnectedEvent object = new NodeParamDisconnectedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "contextId":
+                    object.contextId = reader.nextString();
+                    break;
+                case "sourceId":
+                    object.sourceId = reader.nextString();
+                    break;
+                case "destinationId":
+                    object.destinationId = reader.nextString();
+                    break;
+                case "sourceOutputIndex":
+                    object.sourceOutputIndex = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (contextId != null) {
+            writer.name("contextId").value(contextId);
+        }
+        if (sourceId != null) {
+            writer.name("sourceId").value(sourceId);
+        }
+        if (destinationId != null) {
+            writer.name("destinationId").value(destinationId);
+        }
+        if (sourceOutputIndex != null) {
+            writer.name("sourceOutputIndex").value(sourceOutputIndex);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ package jpuppeteer.cdp.cdp.entity.webaudio;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class NodesConnectedEvent {
+public class NodesConnectedEvent implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -30,5 +30,56 @@ public class NodesConnectedEvent {
     private Double destinationInputIndex;
 
 
+    public static NodesConnectedEvent decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        NodesConnectedEvent object = new NodesConnectedEvent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "contextId":
+                    object.contextId = reader.nextString();
+                    break;
+                case "sourceId":
+                    object.sourceId = reader.nextString();
+                    break;
+                case "destinationId":
+                    object.destinationId = reader.nextString();
+                    break;
+                case "sourceOutputIndex":
+                    object.sourceOutputIndex = reader.nextDouble();
+                    break;
+                case "destinationInputIndex":
+                    object.destinationInputIndex = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (contextId != null) {
+            writer.name("contextId").value(contextId);
+        }
+        if (sourceId != null) {
+            writer.name("sourceId").value(sourceId);
+        }
+        if (destinationId != null) {
+            writer.name("destinationId").value(destinationId);
+        }
+        if (sourceOutputIndex != null) {
+            writer.name("sourceOutputIndex").value(sourceOutputIndex);
+        }
+        if (destinationInputIndex != null) {
+            writer.name("destinationInputIndex").value(destinationInputIndex);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
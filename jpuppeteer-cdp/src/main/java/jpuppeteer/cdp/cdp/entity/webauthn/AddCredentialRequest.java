@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.webauthn;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AddCredentialRequest {
+public class AddCredentialRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -17,5 +17,38 @@ public class AddCredentialRequest {
     private jpuppeteer.cdp.cdp.entity.webauthn.Credential credential;
 
 
+    public static AddCredentialRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AddCredentialRequest object = new AddCredentialRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "authenticatorId":
+                    object.authenticatorId = reader.nextString();
+                    break;
+                case "credential":
+                    object.credential = jpuppeteer.cdp.cdp.entity.webauthn.Credential.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (authenticatorId != null) {
+            writer.name("authenticatorId").value(authenticatorId);
+        }
+        if (credential != null) {
+            writer.name("credential").value(credential);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
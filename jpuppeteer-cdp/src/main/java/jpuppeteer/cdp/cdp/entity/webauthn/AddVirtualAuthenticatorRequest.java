@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.webauthn;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class AddVirtualAuthenticatorRequest {
+public class AddVirtualAuthenticatorRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private jpuppeteer.cdp.cdp.entity.webauthn.VirtualAuthenticatorOptions options;
 
 
+    public static AddVirtualAuthenticatorRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        AddVirtualAuthenticatorRequest object = new AddVirtualAuthenticatorRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "options":
+                    object.options = jpuppeteer.cdp.cdp.entity.webauthn.VirtualAuthenticatorOptions.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (options != null) {
+            writer.name("options").value(options);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.webauthn;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class Credential {
+public class Credential implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -37,5 +37,62 @@ public class Credential {
     private Integer signCount;
 
 
+    public static Credential decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        Credential object = new Credential();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "credentialId":
+                    object.credentialId = reader.nextString();
+                    break;
+                case "isResidentCredential":
+                    object.isResidentCredential = reader.nextBoolean();
+                    break;
+                case "rpId":
+                    object.rpId = reader.nextString();
+                    break;
+                case "privateKey":
+                    object.privateKey = reader.nextString();
+                    break;
+                case "userHandle":
+                    object.userHandle = reader.nextString();
+                    break;
+                case "signCount":
+                    object.signCount = reader.nextInteger();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (credentialId != null) {
+            writer.name("credentialId").value(credentialId);
+        }
+        if (isResidentCredential != null) {
+            writer.name("isResidentCredential").value(isResidentCredential);
+        }
+        if (rpId != null) {
+            writer.name("rpId").value(rpId);
+        }
+        if (privateKey != null) {
+            writer.name("privateKey").value(privateKey);
+        }
+        if (userHandle != null) {
+            writer.name("userHandle").value(userHandle);
+        }
+        if (signCount != null) {
+            writer.name("signCount").value(signCount);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.webauthn;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetCredentialRequest {
+public class GetCredentialRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -17,5 +17,38 @@ public class GetCredentialRequest {
     private String credentialId;
 
 
+    public static GetCredentialRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetCredentialRequest object = new GetCredentialRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "authenticatorId":
+                    object.authenticatorId = reader.nextString();
+                    break;
+                case "credentialId":
+                    object.credentialId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (authenticatorId != null) {
+            writer.name("authenticatorId").value(authenticatorId);
+        }
+        if (credentialId != null) {
+            writer.name("credentialId").value(credentialId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
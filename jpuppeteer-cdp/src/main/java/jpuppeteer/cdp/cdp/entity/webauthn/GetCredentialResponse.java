@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.webauthn;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetCredentialResponse {
+public class GetCredentialResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private jpuppeteer.cdp.cdp.entity.webauthn.Credential credential;
 
 
+    public static GetCredentialResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetCredentialResponse object = new GetCredentialResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "credential":
+                    object.credential = jpuppeteer.cdp.cdp.entity.webauthn.Credential.decode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (credential != null) {
+            writer.name("credential").value(credential);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
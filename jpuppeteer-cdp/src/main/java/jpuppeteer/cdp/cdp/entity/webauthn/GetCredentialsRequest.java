@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.webauthn;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetCredentialsRequest {
+public class GetCredentialsRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private String authenticatorId;
 
 
+    public static GetCredentialsRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetCredentialsRequest object = new GetCredentialsRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "authenticatorId":
+                    object.authenticatorId = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (authenticatorId != null) {
+            writer.name("authenticatorId").value(authenticatorId);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
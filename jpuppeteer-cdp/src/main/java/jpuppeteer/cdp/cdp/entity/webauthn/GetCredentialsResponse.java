@@ -6,12 +6,39 @@ package jpuppeteer.cdp.cdp.entity.webauthn;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class GetCredentialsResponse {
+public class GetCredentialsResponse implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
     private java.util.List<jpuppeteer.cdp.cdp.entity.webauthn.Credential> credentials;
 
 
+    public static GetCredentialsResponse decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        GetCredentialsResponse object = new GetCredentialsResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "credentials":
+                    object.credentials = reader.nextList(jpuppeteer.cdp.cdp.entity.webauthn.Credential::decode);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (credentials != null) {
+            writer.name("credentials").value(credentials);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.webauthn;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class SetUserVerifiedRequest {
+public class SetUserVerifiedRequest implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -17,5 +17,38 @@ public class SetUserVerifiedRequest {
     private Boolean isUserVerified;
 
 
+    public static SetUserVerifiedRequest decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        SetUserVerifiedRequest object = new SetUserVerifiedRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "authenticatorId":
+                    object.authenticatorId = reader.nextString();
+                    break;
+                case "isUserVerified":
+                    object.isUserVerified = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (authenticatorId != null) {
+            writer.name("authenticatorId").value(authenticatorId);
+        }
+        if (isUserVerified != null) {
+            writer.name("isUserVerified").value(isUserVerified);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ package jpuppeteer.cdp.cdp.entity.webauthn;
 @lombok.Setter
 @lombok.Getter
 @lombok.ToString
-public class VirtualAuthenticatorOptions {
+public class VirtualAuthenticatorOptions implements jpuppeteer.cdp.CDPWritable {
 
     /**
     */
@@ -37,5 +37,62 @@ public class VirtualAuthenticatorOptions {
     private Boolean isUserVerified;
 
 
+    public static VirtualAuthenticatorOptions decode(jpuppeteer.cdp.JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        VirtualAuthenticatorOptions object = new VirtualAuthenticatorOptions();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "protocol":
+                    object.protocol = reader.nextString();
+                    break;
+                case "transport":
+                    object.transport = reader.nextString();
+                    break;
+                case "hasResidentKey":
+                    object.hasResidentKey = reader.nextBoolean();
+                    break;
+                case "hasUserVerification":
+                    object.hasUserVerification = reader.nextBoolean();
+                    break;
+                case "automaticPresenceSimulation":
+                    object.automaticPresenceSimulation = reader.nextBoolean();
+                    break;
+                case "isUserVerified":
+                    object.isUserVerified = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public void write(jpuppeteer.cdp.JsonWriter writer) {
+        writer.beginObject();
+        if (protocol != null) {
+            writer.name("protocol").value(protocol);
+        }
+        if (transport != null) {
+            writer.name("transport").value(transport);
+        }
+        if (hasResidentKey != null) {
+            writer.name("hasResidentKey").value(hasResidentKey);
+        }
+        if (hasUserVerification != null) {
+            writer.name("hasUserVerification").value(hasUserVerification);
+        }
+        if (automaticPresenceSimulation != null) {
+            writer.name("automaticPresenceSimulation").value(automaticPresenceSimulation);
+        }
+        if (isUserVerified != null) {
+            writer.name("isUserVerified").value(isUserVerified);
+        }
+        writer.endObject();
+    }
 
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+package jpuppeteer.cdp;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class BinaryPayloadTest {
+
+    private static byte[] random(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * 跟chrome一样把base64中的'/'转义成'\/'
+     */
+    private static CDPMessage message(byte[] bytes) {
+        String base64 = Base64.getEncoder().encodeToString(bytes).replace("/", "\\/");
+        return CDPMessage.peek("{\"id\":1,\"result\":{\"base64Encoded\":true,\"body\":\"" + base64 + "\"},\"sessionId\":\"S\"}");
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    @Test
+    public void testPadding() {
+        for(int size = 0; size < 16; size++) {
+            byte[] bytes = random(size);
+            CDPMessage message = message(bytes);
+            assertArrayEquals("size=" + size, bytes, BinaryPayload.decodeBytes(message, BinaryPayload.BODY));
+            ByteBuffer buffer = BinaryPayload.decode(message, BinaryPayload.BODY);
+            assertEquals(0, buffer.position());
+            assertArrayEquals("size=" + size, bytes, toBytes(buffer));
+        }
+    }
+
+    @Test
+    public void testEscapedSlash() {
+        //0xff 0xff 0xff编码之后是////
+        byte[] bytes = new byte[3000];
+        for(int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i / 3 % 5 == 0 ? 0xff : i);
+        }
+        CDPMessage message = message(bytes);
+        assertTrue(message.text().contains("\\/\\/\\/\\/"));
+        assertArrayEquals(bytes, BinaryPayload.decodeBytes(message, BinaryPayload.BODY));
+    }
+
+    @Test
+    public void testChunkBoundary() throws IOException {
+        //分块的大小是64K, 不是3的倍数, 覆盖块边界前后以及多个块的情况
+        int chunk = 64 * 1024;
+        int[] sizes = {chunk - 3, chunk - 2, chunk - 1, chunk, chunk + 1, chunk + 2, 3 * chunk + 1, 5 * chunk - 1};
+        for(int size : sizes) {
+            byte[] bytes = random(size);
+            CDPMessage message = message(bytes);
+            assertArrayEquals("size=" + size, bytes, BinaryPayload.decodeBytes(message, BinaryPayload.BODY));
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(size, BinaryPayload.decode(message, BinaryPayload.BODY, out));
+            assertArrayEquals("size=" + size, bytes, out.toByteArray());
+
+            ByteArrayOutputStream channelOut = new ByteArrayOutputStream();
+            assertEquals(size, BinaryPayload.decode(message, BinaryPayload.BODY, Channels.newChannel(channelOut)));
+            assertArrayEquals("size=" + size, bytes, channelOut.toByteArray());
+        }
+    }
+
+    @Test
+    public void testTargetBuffer() {
+        int chunk = 64 * 1024;
+        ByteBuffer target = ByteBuffer.allocateDirect(4 * chunk);
+        for(int size : new int[]{0, 1, 2, 3, chunk - 1, chunk + 1, 3 * chunk}) {
+            byte[] bytes = random(size);
+            CDPMessage message = message(bytes);
+            assertEquals(size, BinaryPayload.decodedSize(message, BinaryPayload.BODY));
+            //从position开始写入, 前面的数据保持不变
+            target.clear();
+            target.put((byte) 7);
+            assertEquals(size, BinaryPayload.decode(message, BinaryPayload.BODY, target));
+            assertEquals(size + 1, target.position());
+            target.flip();
+            assertEquals(7, target.get());
+            assertArrayEquals("size=" + size, bytes, toBytes(target));
+        }
+        assertEquals(-1, BinaryPayload.decodedSize(message(new byte[1]), BinaryPayload.DATA));
+        assertEquals(-1, BinaryPayload.decode(message(new byte[1]), BinaryPayload.DATA, target));
+    }
+
+    @Test
+    public void testTargetOverflow() {
+        ByteBuffer target = ByteBuffer.allocate(100);
+        target.position(10);
+        try {
+            BinaryPayload.decode(message(random(91)), BinaryPayload.BODY, target);
+            fail();
+        } catch (BufferOverflowException e) {
+            //空间不够的时候不写入任何数据
+            assertEquals(10, target.position());
+        }
+        assertEquals(90, BinaryPayload.decode(message(random(90)), BinaryPayload.BODY, target));
+        assertFalse(target.hasRemaining());
+    }
+
+    @Test
+    public void testFields() throws IOException {
+        CDPMessage message = CDPMessage.peek("{\"id\":2,\"result\":{\"body\":\"a\\\"b\\u4e2d\",\"base64Encoded\":false}}");
+        assertTrue(BinaryPayload.has(message, BinaryPayload.BODY));
+        assertFalse(BinaryPayload.getBoolean(message, BinaryPayload.BASE64_ENCODED));
+        assertEquals("a\"b中", BinaryPayload.getString(message, BinaryPayload.BODY));
+
+        assertFalse(BinaryPayload.has(message, BinaryPayload.DATA));
+        assertNull(BinaryPayload.getString(message, BinaryPayload.DATA));
+        assertNull(BinaryPayload.decode(message, BinaryPayload.DATA));
+        assertNull(BinaryPayload.decodeBytes(message, BinaryPayload.DATA));
+        assertEquals(-1, BinaryPayload.decode(message, BinaryPayload.DATA, new ByteArrayOutputStream()));
+        assertTrue(BinaryPayload.getBoolean(message(new byte[1]), BinaryPayload.BASE64_ENCODED));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalCharacter() {
+        BinaryPayload.decode(CDPMessage.peek("{\"id\":3,\"result\":{\"data\":\"ab$d\"}}"), BinaryPayload.DATA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalLength() {
+        BinaryPayload.decode(CDPMessage.peek("{\"id\":4,\"result\":{\"data\":\"abcde\"}}"), BinaryPayload.DATA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotString() {
+        BinaryPayload.decode(CDPMessage.peek("{\"id\":5,\"result\":{\"data\":12}}"), BinaryPayload.DATA);
+    }
+}
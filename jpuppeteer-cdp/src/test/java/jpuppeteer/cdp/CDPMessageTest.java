@@ -0,0 +1,113 @@
+package jpuppeteer.cdp;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CDPMessageTest {
+
+    @Test
+    public void testEvent() {
+        String text = "{\"method\":\"Network.loadingFinished\",\"params\":{\"requestId\":\"1.2\",\"timestamp\":1.5},\"sessionId\":\"ABC-1\"}";
+        CDPMessage message = CDPMessage.peek(text);
+        assertTrue(message.isEvent());
+        assertNull(message.id());
+        assertEquals("Network.loadingFinished", message.method());
+        assertEquals("ABC-1", message.sessionId());
+        assertEquals("{\"requestId\":\"1.2\",\"timestamp\":1.5}", message.params());
+        assertEquals("1.2", message.paramsString("requestId"));
+        assertFalse(message.hasResult());
+        assertEquals("ABC-1", CDPMessage.sessionIdHint(text));
+    }
+
+    @Test
+    public void testNestedSessionId() {
+        //attachedToTarget的params中带着子target的sessionId
+        String params = "{\"sessionId\":\"CHILD\",\"targetInfo\":{\"targetId\":\"T1\",\"type\":\"page\"},\"waitingForDebugger\":false}";
+        String text = "{\"method\":\"Target.attachedToTarget\",\"params\":" + params + ",\"sessionId\":\"PARENT\"}";
+        CDPMessage message = CDPMessage.peek(text);
+        assertEquals("PARENT", message.sessionId());
+        assertEquals("CHILD", message.paramsString("sessionId"));
+        assertEquals("T1", message.paramsString("targetInfo", "targetId"));
+        assertEquals("PARENT", CDPMessage.sessionIdHint(text));
+
+        //browser级别的消息, 只有params中有sessionId
+        text = "{\"method\":\"Target.attachedToTarget\",\"params\":" + params + "}";
+        message = CDPMessage.peek(text);
+        assertNull(message.sessionId());
+        assertEquals("CHILD", message.paramsString("sessionId"));
+        assertNull(CDPMessage.sessionIdHint(text));
+
+        //params中最后一个key是sessionId
+        text = "{\"method\":\"Target.detachedFromTarget\",\"params\":{\"targetId\":\"T1\",\"sessionId\":\"CHILD\"}}";
+        assertNull(CDPMessage.peek(text).sessionId());
+        assertNull(CDPMessage.sessionIdHint(text));
+    }
+
+    @Test
+    public void testEscapedQuotes() {
+        String text = "{\"id\":7,\"result\":{\"value\":\"say \\\"hi\\\" }{ \\\\\",\"sessionId\":\"FAKE\"},\"sessionId\":\"S1\"}";
+        CDPMessage message = CDPMessage.peek(text);
+        assertEquals(Integer.valueOf(7), message.id());
+        assertEquals("S1", message.sessionId());
+        assertEquals("{\"value\":\"say \\\"hi\\\" }{ \\\\\",\"sessionId\":\"FAKE\"}", message.result());
+        assertEquals("S1", CDPMessage.sessionIdHint(text));
+        assertNull(CDPMessage.peek("{\"method\":\"a\\\"b\"}").sessionId());
+        assertEquals("a\"b", CDPMessage.peek("{\"method\":\"a\\\"b\"}").method());
+
+        //字符串的值中转义了一个像sessionId的片段, 不能当作最外层的sessionId
+        text = "{\"method\":\"Runtime.consoleAPICalled\",\"value\":\"x,\\\"sessionId\\\":\\\"FAKE\"}";
+        message = CDPMessage.peek(text);
+        assertNull(message.sessionId());
+        assertNull(CDPMessage.sessionIdHint(text));
+        text = "{\"method\":\"Runtime.consoleAPICalled\",\"value\":\"x,\\\"sessionId\\\":\\\"FAKE\\\"\"}";
+        assertNull(CDPMessage.peek(text).sessionId());
+        assertNull(CDPMessage.sessionIdHint(text));
+    }
+
+    @Test
+    public void testMissingSessionId() {
+        String text = "{\"id\":1,\"result\":{\"targetId\":\"T1\"}}";
+        CDPMessage message = CDPMessage.peek(text);
+        assertFalse(message.isEvent());
+        assertNull(message.sessionId());
+        assertEquals("{\"targetId\":\"T1\"}", message.result());
+        assertNull(CDPMessage.sessionIdHint(text));
+        assertNull(CDPMessage.sessionIdHint("{\"id\":2,\"error\":{\"code\":-32000,\"message\":\"Not found\"}}"));
+        assertNull(CDPMessage.sessionIdHint("{\"id\":3,\"result\":{},\"sessionId\":\"\"}"));
+        assertNull(CDPMessage.sessionIdHint("{\"id\":4,\"result\":{},\"sessionId\":null}"));
+        assertNull(CDPMessage.sessionIdHint("{\"id\":5,\"xsessionId\":\"S\"}"));
+        assertNull(CDPMessage.sessionIdHint(""));
+    }
+
+    @Test
+    public void testParamsEndingWithBraces() {
+        String text = "{\"method\":\"Page.frameNavigated\",\"params\":{\"frame\":{\"id\":\"F1\",\"url\":\"about:blank\"}}}";
+        CDPMessage message = CDPMessage.peek(text);
+        assertEquals("{\"frame\":{\"id\":\"F1\",\"url\":\"about:blank\"}}", message.params());
+        assertEquals("F1", message.paramsString("frame", "id"));
+        assertNull(message.sessionId());
+        assertNull(CDPMessage.sessionIdHint(text));
+
+        text = "{\"method\":\"Page.frameNavigated\",\"params\":{\"frame\":{\"id\":\"F1\",\"url\":\"about:blank\"}},\"sessionId\":\"S2\"}";
+        message = CDPMessage.peek(text);
+        assertEquals("{\"frame\":{\"id\":\"F1\",\"url\":\"about:blank\"}}", message.params());
+        assertEquals("S2", message.sessionId());
+        assertEquals("S2", CDPMessage.sessionIdHint(text));
+    }
+
+    @Test
+    public void testWhitespace() {
+        String text = " {\n  \"method\" : \"Page.loadEventFired\",\n  \"params\" : { \"timestamp\" : 1 },\n  \"sessionId\" : \"S3\"\n}\n";
+        CDPMessage message = CDPMessage.peek(text);
+        assertEquals("Page.loadEventFired", message.method());
+        assertEquals("{ \"timestamp\" : 1 }", message.params());
+        assertEquals("S3", message.sessionId());
+        assertEquals("S3", CDPMessage.sessionIdHint(text));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotObject() {
+        CDPMessage.peek("[1,2]");
+    }
+}
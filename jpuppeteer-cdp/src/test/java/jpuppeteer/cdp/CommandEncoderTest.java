@@ -0,0 +1,49 @@
+package jpuppeteer.cdp;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONObject;
+import jpuppeteer.cdp.cdp.entity.fetch.EnableRequest;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class CommandEncoderTest {
+
+    @Test
+    public void testEncode() {
+        EnableRequest params = new EnableRequest();
+        params.setHandleAuthRequests(true);
+        Map<String, Object> extra = new HashMap<>();
+        extra.put("sessionId", "ABC");
+        extra.put(CDPConnection.ID, 100);
+        String json = CommandEncoder.encode(7, "Fetch.enable", extra, params);
+        JSONObject object = JSON.parseObject(json);
+        //extra中的id不能覆盖命令的id
+        assertEquals(7, object.getIntValue(CDPConnection.ID));
+        assertEquals("Fetch.enable", object.getString(CDPConnection.METHOD));
+        assertEquals("ABC", object.getString("sessionId"));
+        assertEquals(true, object.getJSONObject(CDPConnection.PARAMS).getBoolean("handleAuthRequests"));
+        assertEquals(4, object.size());
+
+        //缓存的片段和缓冲区复用之后结果不变
+        assertEquals(json, CommandEncoder.encode(7, "Fetch.enable", extra, params));
+        assertEquals("{\"id\":8,\"method\":\"Browser.getVersion\"}", CommandEncoder.encode(8, "Browser.getVersion", null, null));
+    }
+
+    @Test
+    public void testLargeParams() {
+        StringBuilder script = new StringBuilder();
+        for(int i = 0; i < 100000; i++) {
+            script.append("\"\\");
+        }
+        Map<String, Object> params = new HashMap<>();
+        params.put("expression", script.toString());
+        String json = CommandEncoder.encode(1, "Runtime.evaluate", null, params);
+        assertEquals(script.toString(), JSON.parseObject(json).getJSONObject(CDPConnection.PARAMS).getString("expression"));
+        //超过上限的缓冲区不再复用
+        assertEquals("{\"id\":2,\"method\":\"Runtime.enable\"}", CommandEncoder.encode(2, "Runtime.enable", null, null));
+    }
+}
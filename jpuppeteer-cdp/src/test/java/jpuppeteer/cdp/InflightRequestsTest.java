@@ -0,0 +1,141 @@
+package jpuppeteer.cdp;
+
+import jpuppeteer.cdp.cdp.entity.browser.GetVersionResponse;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.*;
+
+public class InflightRequestsTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "inflight-test"));
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 写出的命令直接丢弃, 响应由测试通过recv送回
+     */
+    private static class NullConnection extends CDPConnection {
+
+        NullConnection() {
+            super("test", 1);
+        }
+
+        @Override
+        public void open() {
+        }
+
+        @Override
+        protected void writeBatch(List<OutboundQueue.Command> batch) {
+        }
+    }
+
+    private static Throwable cause(CompletableFuture<?> future) throws InterruptedException {
+        try {
+            future.get(3, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (TimeoutException e) {
+            fail("future not completed");
+        }
+        fail("future completed normally");
+        return null;
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        InflightRequests inflight = new InflightRequests("test", executor);
+        CompletableFuture<String> future = inflight.register(1, "Page.navigate", message -> "ok", 100, TimeUnit.MILLISECONDS);
+        assertEquals(1, inflight.size());
+        //超时在连接的执行器上结束, 后续回调不在共享的计时线程上执行
+        //先等待后续回调, 直接等待future的话jdk8可能在等待的线程上执行还没有执行的回调
+        CompletableFuture<String> thread = future.handle((v, e) -> Thread.currentThread().getName());
+        assertEquals("inflight-test", thread.get(3, TimeUnit.SECONDS));
+        Throwable cause = cause(future);
+        assertTrue(cause instanceof TimeoutException);
+        assertTrue(cause.getMessage().contains("id=1"));
+        assertTrue(cause.getMessage().contains("Page.navigate"));
+        assertEquals(0, inflight.size());
+        //超时之后的响应找不到对应的请求
+        assertNull(inflight.remove(1));
+    }
+
+    @Test
+    public void testComplete() throws Exception {
+        InflightRequests inflight = new InflightRequests("test", executor);
+        CompletableFuture<String> future = inflight.register(2, "Runtime.evaluate", CDPMessage::result, 100, TimeUnit.MILLISECONDS);
+        InflightRequests.Request<?> request = inflight.remove(2);
+        assertNotNull(request);
+        assertEquals("Runtime.evaluate", request.getMethod());
+        request.complete(CDPMessage.peek("{\"id\":2,\"result\":{\"a\":1}}"));
+        assertEquals("{\"a\":1}", future.get());
+        //响应之后超时任务已经取消, 不会再改变结果
+        Thread.sleep(200);
+        assertEquals("{\"a\":1}", future.get());
+        assertEquals(0, inflight.size());
+    }
+
+    @Test
+    public void testDecodeError() throws Exception {
+        InflightRequests inflight = new InflightRequests("test", executor);
+        CompletableFuture<String> future = inflight.register(3, "X.y", message -> {
+            throw new IllegalArgumentException("bad result");
+        }, 1, TimeUnit.SECONDS);
+        inflight.remove(3).complete(CDPMessage.peek("{\"id\":3,\"result\":{}}"));
+        assertTrue(cause(future) instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void testFailAll() throws Exception {
+        InflightRequests inflight = new InflightRequests("test", executor);
+        CompletableFuture<String> first = inflight.register(1, "A.a", message -> "a", 10, TimeUnit.SECONDS);
+        Thread.sleep(5);
+        CompletableFuture<String> second = inflight.register(2, "B.b", message -> "b", 10, TimeUnit.SECONDS);
+        List<InflightRequests.Request<?>> snapshot = inflight.snapshot();
+        assertEquals(2, snapshot.size());
+        assertEquals(1, snapshot.get(0).getId());
+        assertTrue(inflight.oldestAge(TimeUnit.MILLISECONDS) >= 5);
+
+        IOException cause = new IOException("closed");
+        assertEquals(2, inflight.failAll(cause));
+        assertSame(cause, cause(first));
+        assertSame(cause, cause(second));
+        assertEquals(0, inflight.size());
+        assertEquals(0, inflight.oldestAge(TimeUnit.MILLISECONDS));
+        assertEquals(0, inflight.failAll(cause));
+    }
+
+    @Test
+    public void testConnection() throws Exception {
+        NullConnection connection = new NullConnection();
+        try {
+            CompletableFuture<GetVersionResponse> version = connection.sendAsync("Browser.getVersion", null, GetVersionResponse.class, 30).toCompletableFuture();
+            CompletableFuture<Void> pending = connection.sendAsync("Page.enable", null, 30).toCompletableFuture();
+            assertEquals(2, connection.inflightCount());
+            connection.recv("{\"id\":0,\"result\":{\"product\":\"Chrome/80\"}}");
+            assertEquals("Chrome/80", version.get(3, TimeUnit.SECONDS).getProduct());
+            assertEquals(1, connection.inflightCount());
+            assertEquals("Page.enable", connection.inflightRequests().get(0).getMethod());
+
+            //断开连接的时候未完成的请求马上失败, 不等待超时
+            connection.close();
+            Throwable cause = cause(pending);
+            assertTrue(cause instanceof IOException);
+            assertEquals(0, connection.inflightCount());
+        } finally {
+            connection.close();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package jpuppeteer.cdp;
+
+import jpuppeteer.cdp.cdp.CDPCodecs;
+import jpuppeteer.cdp.cdp.entity.fetch.EnableRequest;
+import jpuppeteer.cdp.cdp.entity.network.LoadingFinishedEvent;
+import jpuppeteer.cdp.cdp.entity.network.Request;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class JsonReaderTest {
+
+    @Test
+    public void testScalars() {
+        JsonReader reader = new JsonReader(" { \"s\" : \"a\\\"b\\\\c\\/d\\n\\u4e2d\", \"i\":-12, \"d\":1.5e3, \"b\":true, \"n\":null, \"q\":\"42\" } ");
+        reader.beginObject();
+        assertTrue(reader.hasNext());
+        assertEquals("s", reader.nextName());
+        assertEquals("a\"b\\c/d\n中", reader.nextString());
+        assertTrue(reader.hasNext());
+        assertEquals("i", reader.nextName());
+        assertEquals(Integer.valueOf(-12), reader.nextInteger());
+        assertTrue(reader.hasNext());
+        assertEquals("d", reader.nextName());
+        assertEquals(Double.valueOf(1500), reader.nextDouble());
+        assertTrue(reader.hasNext());
+        assertEquals("b", reader.nextName());
+        assertEquals(Boolean.TRUE, reader.nextBoolean());
+        assertTrue(reader.hasNext());
+        assertEquals("n", reader.nextName());
+        assertNull(reader.nextString());
+        assertTrue(reader.hasNext());
+        assertEquals("q", reader.nextName());
+        //字符串形式的数字跟fastjson一样可以读成数字
+        assertEquals(Integer.valueOf(42), reader.nextInteger());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void testLargeNumbers() {
+        JsonReader reader = new JsonReader("[1234567890123456789012, 9007199254740993, 3]");
+        reader.beginArray();
+        assertTrue(reader.hasNext());
+        assertEquals(1.234567890123456789012e21, reader.nextDouble(), 1e6);
+        assertTrue(reader.hasNext());
+        assertEquals(9007199254740993d, reader.nextDouble(), 0);
+        assertTrue(reader.hasNext());
+        assertEquals(Double.valueOf(3), reader.nextDouble());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void testSkipValue() {
+        JsonReader reader = new JsonReader("{\"a\":{\"x\":[1,{\"y\":\"}]\\\"\"}]},\"b\":\"ok\"}");
+        reader.beginObject();
+        assertTrue(reader.hasNext());
+        assertEquals("a", reader.nextName());
+        reader.skipValue();
+        assertTrue(reader.hasNext());
+        assertEquals("b", reader.nextName());
+        assertEquals("ok", reader.nextString());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void testRange() {
+        String text = "{\"result\":{\"requestId\":\"1.2\",\"timestamp\":12.5},\"id\":3}";
+        int start = text.indexOf("{\"requestId\"");
+        int end = text.indexOf('}') + 1;
+        LoadingFinishedEvent event = LoadingFinishedEvent.decode(new JsonReader(text, start, end));
+        assertEquals("1.2", event.getRequestId());
+        assertEquals(Double.valueOf(12.5), event.getTimestamp());
+        assertNull(event.getEncodedDataLength());
+    }
+
+    @Test
+    public void testDecoder() {
+        String text = "{\"url\":\"https://example.com/?q=\\u0026\",\"method\":\"GET\",\"headers\":{\"Accept\":\"*/*\",\"X-N\":1},"
+                + "\"unknown\":[1,2,{\"z\":null}],\"hasPostData\":false,\"initialPriority\":\"High\"}";
+        Request request = CDPCodecs.decoder(Request.class).decode(new JsonReader(text));
+        assertEquals("https://example.com/?q=&", request.getUrl());
+        assertEquals("GET", request.getMethod());
+        Map<String, Object> headers = request.getHeaders();
+        assertEquals("*/*", headers.get("Accept"));
+        assertEquals(1, headers.get("X-N"));
+        assertEquals(Boolean.FALSE, request.getHasPostData());
+        assertEquals("High", request.getInitialPriority());
+        assertNull(request.getPostData());
+    }
+
+    @Test
+    public void testList() {
+        String text = "{\"patterns\":[{\"urlPattern\":\"*\",\"resourceType\":\"Image\"},{\"urlPattern\":\"*.js\"}],\"handleAuthRequests\":true}";
+        EnableRequest request = EnableRequest.decode(new JsonReader(text));
+        assertEquals(2, request.getPatterns().size());
+        assertEquals("Image", request.getPatterns().get(0).getResourceType());
+        assertEquals("*.js", request.getPatterns().get(1).getUrlPattern());
+        assertEquals(Boolean.TRUE, request.getHandleAuthRequests());
+
+        List<Integer> list = new JsonReader("[1, 2 ,3]").nextList(JsonReader::nextInteger);
+        assertEquals(Arrays.asList(1, 2, 3), list);
+        assertNull(new JsonReader("null").nextList(JsonReader::nextInteger));
+    }
+
+    @Test
+    public void testNameCache() {
+        JsonReader first = new JsonReader("{\"frameId\":1}");
+        first.beginObject();
+        String name = first.nextName();
+        JsonReader second = new JsonReader("{\"frameId\":2}");
+        second.beginObject();
+        assertSame(name, second.nextName());
+    }
+
+    @Test
+    public void testIntegerRange() {
+        JsonReader reader = new JsonReader("[2147483647, -2147483648, 1.9, \"-7\"]");
+        reader.beginArray();
+        assertTrue(reader.hasNext());
+        assertEquals(Integer.valueOf(Integer.MAX_VALUE), reader.nextInteger());
+        assertTrue(reader.hasNext());
+        assertEquals(Integer.valueOf(Integer.MIN_VALUE), reader.nextInteger());
+        assertTrue(reader.hasNext());
+        assertEquals(Integer.valueOf(1), reader.nextInteger());
+        assertTrue(reader.hasNext());
+        assertEquals(Integer.valueOf(-7), reader.nextInteger());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void testIntegerOverflow() {
+        //超出int范围的不能静默截断
+        for(String value : new String[]{"2147483648", "-2147483649", "12345678901234567890123", "3e10", "\"4294967296\""}) {
+            try {
+                new JsonReader(value).nextInteger();
+                fail(value);
+            } catch (IllegalArgumentException e) {
+                //expected
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnterminated() {
+        JsonReader reader = new JsonReader("{\"a\":\"abc");
+        reader.beginObject();
+        reader.nextName();
+        reader.nextString();
+    }
+}
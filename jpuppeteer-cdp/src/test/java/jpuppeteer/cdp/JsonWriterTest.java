@@ -0,0 +1,90 @@
+package jpuppeteer.cdp;
+
+import com.alibaba.fastjson.JSON;
+import jpuppeteer.cdp.cdp.entity.fetch.EnableRequest;
+import jpuppeteer.cdp.cdp.entity.fetch.RequestPattern;
+import jpuppeteer.cdp.cdp.entity.network.Request;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class JsonWriterTest {
+
+    private static String write(Object value) {
+        StringBuilder sb = new StringBuilder();
+        new JsonWriter(sb).value(value);
+        return sb.toString();
+    }
+
+    @Test
+    public void testEscape() {
+        String value = "a\"b\\c\n\r\t\b\f\u0001/中文";
+        String json = write(value);
+        assertEquals("\"a\\\"b\\\\c\\n\\r\\t\\b\\f\\u0001/中文\"", json);
+        assertEquals(value, JSON.parse(json));
+        assertEquals(value, new JsonReader(json).nextString());
+    }
+
+    @Test
+    public void testNumbers() {
+        assertEquals("[1,-2,1.5,null,null,12345678901]", write(Arrays.asList(1, -2, 1.5, Double.NaN, Double.POSITIVE_INFINITY, 12345678901L)));
+    }
+
+    @Test
+    public void testNested() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("skip", null);
+        map.put("list", Arrays.asList("x", Arrays.asList(), new HashMap<>()));
+        map.put("b", true);
+        assertEquals("{\"a\":1,\"list\":[\"x\",[],{}],\"b\":true}", write(map));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        Request request = new Request();
+        request.setUrl("https://example.com/?q=\"1\"&r=\\");
+        request.setMethod("POST");
+        Map<String, Object> headers = new LinkedHashMap<>();
+        headers.put("Content-Type", "application/json");
+        headers.put("X-Count", 3);
+        request.setHeaders(headers);
+        request.setPostData("{\"k\":\"v\"}\n");
+        request.setHasPostData(true);
+        String json = write(request);
+        //跟fastjson的序列化结果等价
+        assertEquals(JSON.parseObject(JSON.toJSONString(request)), JSON.parseObject(json));
+
+        Request decoded = Request.decode(new JsonReader(json));
+        assertEquals(request.getUrl(), decoded.getUrl());
+        assertEquals(request.getMethod(), decoded.getMethod());
+        assertEquals(request.getHeaders(), decoded.getHeaders());
+        assertEquals(request.getPostData(), decoded.getPostData());
+        assertEquals(request.getHasPostData(), decoded.getHasPostData());
+        assertNull(decoded.getReferrerPolicy());
+    }
+
+    @Test
+    public void testListRoundTrip() {
+        RequestPattern image = new RequestPattern();
+        image.setUrlPattern("*");
+        image.setResourceType("Image");
+        RequestPattern script = new RequestPattern();
+        script.setUrlPattern("*.js\\?*");
+        EnableRequest request = new EnableRequest();
+        request.setPatterns(Arrays.asList(image, script));
+        request.setHandleAuthRequests(false);
+        String json = write(request);
+        assertEquals("{\"patterns\":[{\"urlPattern\":\"*\",\"resourceType\":\"Image\"},{\"urlPattern\":\"*.js\\\\?*\"}],\"handleAuthRequests\":false}", json);
+
+        EnableRequest decoded = EnableRequest.decode(new JsonReader(json));
+        assertEquals(2, decoded.getPatterns().size());
+        assertEquals("*.js\\?*", decoded.getPatterns().get(1).getUrlPattern());
+        assertEquals(Boolean.FALSE, decoded.getHandleAuthRequests());
+    }
+}
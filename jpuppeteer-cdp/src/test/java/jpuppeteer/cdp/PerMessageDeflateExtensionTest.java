@@ -0,0 +1,135 @@
+package jpuppeteer.cdp;
+
+import org.java_websocket.exceptions.InvalidDataException;
+import org.java_websocket.framing.ContinuousFrame;
+import org.java_websocket.framing.FramedataImpl1;
+import org.java_websocket.framing.PingFrame;
+import org.java_websocket.framing.TextFrame;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+import static org.junit.Assert.*;
+
+public class PerMessageDeflateExtensionTest {
+
+    /**
+     * 跟浏览器一样用SYNC_FLUSH压缩并且去掉末尾的00 00 ff ff
+     */
+    private static byte[] compress(Deflater deflater, String text) {
+        deflater.setInput(text.getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int n;
+        while ((n = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH)) > 0) {
+            out.write(buffer, 0, n);
+        }
+        byte[] bytes = out.toByteArray();
+        return Arrays.copyOf(bytes, bytes.length - 4);
+    }
+
+    private static FramedataImpl1 frame(FramedataImpl1 frame, byte[] payload, boolean rsv1, boolean fin) {
+        frame.setPayload(ByteBuffer.wrap(payload));
+        frame.setRSV1(rsv1);
+        frame.setFin(fin);
+        return frame;
+    }
+
+    private static String text(FramedataImpl1 frame) {
+        ByteBuffer payload = frame.getPayloadData();
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String message(int size) {
+        StringBuilder sb = new StringBuilder("{\"id\":1,\"result\":{\"data\":\"");
+        for(int i = 0; sb.length() < size; i++) {
+            sb.append(Integer.toHexString(i * 31)).append('中');
+        }
+        return sb.append("\"}}").toString();
+    }
+
+    @Test
+    public void testNegotiate() {
+        PerMessageDeflateExtension extension = new PerMessageDeflateExtension();
+        assertEquals("permessage-deflate", extension.getProvidedExtensionAsClient());
+        assertFalse(extension.acceptProvidedExtensionAsClient("x-webkit-deflate-frame"));
+        assertTrue(extension.acceptProvidedExtensionAsClient("foo, permessage-deflate; server_no_context_takeover; client_max_window_bits=15"));
+        assertFalse(extension.acceptProvidedExtensionAsServer("permessage-deflate"));
+    }
+
+    @Test
+    public void testContextTakeover() throws InvalidDataException {
+        PerMessageDeflateExtension extension = new PerMessageDeflateExtension();
+        assertTrue(extension.acceptProvidedExtensionAsClient("permessage-deflate"));
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        //后面的消息引用前面消息中的内容, 解压的时候需要保留上下文
+        for(int i = 0; i < 3; i++) {
+            String text = message(20000);
+            FramedataImpl1 frame = frame(new TextFrame(), compress(deflater, text), true, true);
+            extension.decodeFrame(frame);
+            assertFalse(frame.isRSV1());
+            assertEquals(text, text(frame));
+        }
+    }
+
+    @Test
+    public void testNoContextTakeover() throws InvalidDataException {
+        PerMessageDeflateExtension extension = new PerMessageDeflateExtension();
+        assertTrue(extension.acceptProvidedExtensionAsClient("permessage-deflate; server_no_context_takeover"));
+        for(int i = 0; i < 3; i++) {
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            String text = message(1000 + i);
+            FramedataImpl1 frame = frame(new TextFrame(), compress(deflater, text), true, true);
+            extension.decodeFrame(frame);
+            assertEquals(text, text(frame));
+        }
+    }
+
+    @Test
+    public void testFragmented() throws InvalidDataException {
+        PerMessageDeflateExtension extension = new PerMessageDeflateExtension();
+        extension.acceptProvidedExtensionAsClient("permessage-deflate");
+        String text = message(200000);
+        byte[] compressed = compress(new Deflater(Deflater.DEFAULT_COMPRESSION, true), text);
+        int split1 = compressed.length / 3;
+        int split2 = compressed.length * 2 / 3;
+        //只有第一帧带RSV1, 中间插入的控制帧不受影响
+        FramedataImpl1 first = frame(new TextFrame(), Arrays.copyOfRange(compressed, 0, split1), true, false);
+        FramedataImpl1 ping = frame(new PingFrame(), "ping".getBytes(StandardCharsets.UTF_8), false, true);
+        FramedataImpl1 second = frame(new ContinuousFrame(), Arrays.copyOfRange(compressed, split1, split2), false, false);
+        FramedataImpl1 last = frame(new ContinuousFrame(), Arrays.copyOfRange(compressed, split2, compressed.length), false, true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for(FramedataImpl1 frame : Arrays.asList(first, ping, second, last)) {
+            extension.decodeFrame(frame);
+            if (frame == ping) {
+                assertEquals("ping", text(frame));
+                continue;
+            }
+            ByteBuffer payload = frame.getPayloadData();
+            out.write(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining());
+        }
+        assertEquals(text, new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testUncompressed() throws InvalidDataException {
+        PerMessageDeflateExtension extension = new PerMessageDeflateExtension();
+        extension.acceptProvidedExtensionAsClient("permessage-deflate");
+        FramedataImpl1 frame = frame(new TextFrame(), "{\"id\":1}".getBytes(StandardCharsets.UTF_8), false, true);
+        extension.decodeFrame(frame);
+        assertEquals("{\"id\":1}", text(frame));
+    }
+
+    @Test(expected = InvalidDataException.class)
+    public void testInvalidData() throws InvalidDataException {
+        PerMessageDeflateExtension extension = new PerMessageDeflateExtension();
+        extension.acceptProvidedExtensionAsClient("permessage-deflate");
+        extension.decodeFrame(frame(new TextFrame(), new byte[]{(byte) 0xff, (byte) 0xff, 0x01, 0x02}, true, true));
+    }
+}
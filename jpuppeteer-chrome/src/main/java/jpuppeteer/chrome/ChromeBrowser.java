@@ -4,7 +4,8 @@ import com.google.common.collect.MapMaker;
 import jpuppeteer.api.browser.Browser;
 import jpuppeteer.api.constant.PermissionType;
 import jpuppeteer.api.event.EventEmitter;
-import jpuppeteer.api.future.FutureFuture;
+import jpuppeteer.api.event.EventLoopGroup;
+import jpuppeteer.api.util.ConcurrentHashSet;
 import jpuppeteer.cdp.CDPConnection;
 import jpuppeteer.cdp.CDPEvent;
 import jpuppeteer.cdp.CDPSession;
@@ -23,6 +24,7 @@ import jpuppeteer.cdp.cdp.entity.storage.GetCookiesResponse;
 import jpuppeteer.cdp.cdp.entity.storage.SetCookiesRequest;
 import jpuppeteer.cdp.cdp.entity.target.*;
 import jpuppeteer.cdp.constant.TargetType;
+import jpuppeteer.chrome.constant.PageProfile;
 import jpuppeteer.chrome.event.type.ChromeContextEvent;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -30,11 +32,15 @@ import org.slf4j.LoggerFactory;
 
 import java.net.URI;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -63,9 +69,9 @@ public class ChromeBrowser implements EventEmitter<CDPEventType>, Browser {
     private Map<String/*targetId*/, ChromeContext> targetMap;
 
     /**
-     * 用来维护session跟context的关联关系, 以便发送事件的时候能快速找到对应的context
+     * contextMap只持有弱引用, connect之后接管的上下文没有调用方持有, 需要在这里保持强引用
      */
-    private Map<String/*sessionId*/, ChromeContext> sessionMap;
+    private final Set<ChromeContext> adoptedContexts;
 
     private Process process;
 
@@ -77,9 +83,20 @@ public class ChromeBrowser implements EventEmitter<CDPEventType>, Browser {
 
     private Storage storage;
 
+    /**
+     * context和page的事件都在这个group上执行, 不再每个context/page单独占用一个线程
+     */
+    private final EventLoopGroup eventLoopGroup;
+
     public ChromeBrowser(String name, Process process, CDPConnection connection) throws Exception {
+        this(name, process, connection, EventLoopGroup.defaultGroup());
+    }
+
+    public ChromeBrowser(String name, Process process, CDPConnection connection, EventLoopGroup eventLoopGroup) throws Exception {
         this.name = name;
+        this.eventLoopGroup = eventLoopGroup;
         this.contextCounter = new AtomicInteger(0);
+        this.adoptedContexts = new ConcurrentHashSet<>();
         this.process = process;
         this.connection = connection;
         this.browser = new jpuppeteer.cdp.cdp.domain.Browser(connection);
@@ -90,11 +107,13 @@ public class ChromeBrowser implements EventEmitter<CDPEventType>, Browser {
         this.contextMap = mapMaker.makeMap();
         this.contextMap.put(this.defaultContext.defaultPage().targetInfo().getBrowserContextId(), this.defaultContext);
         this.targetMap = mapMaker.makeMap();
-        this.sessionMap = mapMaker.makeMap();
 
         //由于在没有启动目标发现之前就有默认的page, 需要手动注册到map
-        this.targetMap.put(defaultContext.defaultPage().frameId(), defaultContext);
-        this.sessionMap.put(defaultContext.defaultPage().sessionId(), defaultContext);
+        registerPages(defaultContext);
+        if (process == null) {
+            //connect得到的浏览器, 接管其他使用者已经创建的上下文
+            adoptContexts();
+        }
         //此方法必须等默认上下文创建好了之后才能调用true
         this.setDiscoverTargets(true);
 
@@ -103,26 +122,12 @@ public class ChromeBrowser implements EventEmitter<CDPEventType>, Browser {
         addListener(TARGET_ATTACHEDTOTARGET, (CDPEvent event) -> handleTargetAttached(event));
         addListener(TARGET_TARGETDESTROYED, (CDPEvent event) -> handleTargetDestroyed(event));
         addListener(TARGET_TARGETINFOCHANGED, (CDPEvent event) -> handleTargetChanged(event));
+        //只取targetId作为key, 不解码整个TargetInfo
+        connection.coalesce(TARGET_TARGETINFOCHANGED, event -> ((CDPEvent) event).getString("targetInfo", "targetId"));
         addListener(TARGET_TARGETCRASHED, (CDPEvent event) -> handleTargetCrashed(event));
-        //传递事件
-        transmitSessionEvent(PAGE_LIFECYCLEEVENT, ChromeContextEvent.LIFECYCLEEVENT);
-        transmitSessionEvent(PAGE_DOMCONTENTEVENTFIRED, ChromeContextEvent.DOMCONTENTEVENTFIRED);
-        transmitSessionEvent(PAGE_LOADEVENTFIRED, ChromeContextEvent.LOADEVENTFIRED);
-        transmitSessionEvent(PAGE_FRAMEATTACHED, ChromeContextEvent.FRAMEATTACHED);
-        transmitSessionEvent(PAGE_FRAMEDETACHED, ChromeContextEvent.FRAMEDETACHED);
-        transmitSessionEvent(PAGE_FRAMENAVIGATED, ChromeContextEvent.FRAMENAVIGATED);
-        transmitSessionEvent(PAGE_JAVASCRIPTDIALOGOPENING, ChromeContextEvent.JAVASCRIPTDIALOGOPENING);
-        transmitSessionEvent(NETWORK_REQUESTWILLBESENT, ChromeContextEvent.REQUESTWILLBESENT);
-        transmitSessionEvent(NETWORK_RESPONSERECEIVED, ChromeContextEvent.RESPONSERECEIVED);
-        transmitSessionEvent(NETWORK_LOADINGFAILED, ChromeContextEvent.LOADINGFAILED);
-        transmitSessionEvent(NETWORK_LOADINGFINISHED, ChromeContextEvent.LOADINGFINISHED);
-        transmitSessionEvent(RUNTIME_EXCEPTIONTHROWN, ChromeContextEvent.EXCEPTIONTHROWN);
-        transmitSessionEvent(RUNTIME_EXECUTIONCONTEXTCREATED, ChromeContextEvent.EXECUTIONCONTEXTCREATED);
-        transmitSessionEvent(RUNTIME_EXECUTIONCONTEXTDESTROYED, ChromeContextEvent.EXECUTIONCONTEXTDESTROYED);
-        transmitSessionEvent(RUNTIME_EXECUTIONCONTEXTSCLEARED, ChromeContextEvent.EXECUTIONCONTEXTSCLEARED);
-        transmitSessionEvent(FETCH_REQUESTPAUSED, ChromeContextEvent.REQUESTPAUSED);
-        transmitSessionEvent(FETCH_AUTHREQUIRED, ChromeContextEvent.AUTHREQUIRED);
-        transmitSessionEvent(LOG_ENTRYADDED, ChromeContextEvent.ENTRYADDED);
+        if (connection instanceof WebSocketCDPConnection) {
+            ((WebSocketCDPConnection) connection).onReconnected(this::handleReconnected);
+        }
     }
 
 
@@ -141,18 +146,6 @@ public class ChromeBrowser implements EventEmitter<CDPEventType>, Browser {
         connection.emit(type, event);
     }
 
-    private void transmitSessionEvent(CDPEventType from, ChromeContextEvent to) {
-        addListener(from, (CDPEvent event) -> {
-            String sessionId = event.getSessionId();
-            ChromeContext context = sessionMap.get(sessionId);
-            if (context == null) {
-                //logger.error("transmit event failed:context not found, event={} sessionId={}", from.getName(), sessionId);
-                return;
-            }
-            context.emit(to, event);
-        });
-    }
-
     private void handleTargetCreated(CDPEvent event) {
         TargetCreatedEvent evt = event.getObject(TargetCreatedEvent.class);
         TargetInfo targetInfo = evt.getTargetInfo();
@@ -185,8 +178,6 @@ public class ChromeBrowser implements EventEmitter<CDPEventType>, Browser {
             //logger.error("target attached failed, context not found, targetId={}, contextId={}", targetId, contextId);
             return;
         }
-        String sessionId = evt.getSessionId();
-        sessionMap.put(sessionId, context);
         context.emit(ChromeContextEvent.ATTACHEDTOTARGET, evt);
         logger.info("target attached, targetId={}", targetId);
     }
@@ -201,7 +192,6 @@ public class ChromeBrowser implements EventEmitter<CDPEventType>, Browser {
             return;
         }
         targetMap.remove(targetId);
-        //@TODO 此处没有从sessionMap中移除, 等gc的时候清除
         context.emit(ChromeContextEvent.TARGETDESTROYED, targetId);
         logger.info("target destoryed, targetId={}", targetId);
     }
@@ -235,6 +225,63 @@ public class ChromeBrowser implements EventEmitter<CDPEventType>, Browser {
         logger.error("target crashed, targetId={}", targetId);
     }
 
+    /**
+     * 断线重连之后chrome已经detach了原来所有的session
+     * 重新开启目标发现, 由TargetCreated事件重新attach到还存在的页面(ChromeContext中沿用原来的页面对象)
+     * 已经不存在的context和页面从map中移除, 页面按照target销毁处理
+     */
+    private void handleReconnected() {
+        try {
+            Set<String> contextIds = new HashSet<>(target.getBrowserContexts(DEFAULT_TIMEOUT).getBrowserContextIds());
+            String defaultContextId = defaultContext.defaultPage().targetInfo().getBrowserContextId();
+            contextMap.keySet().removeIf(contextId -> {
+                boolean removed = !Objects.equals(contextId, defaultContextId) && !contextIds.contains(contextId);
+                if (removed) {
+                    logger.warn("browser context disappeared after reconnect, contextId={}", contextId);
+                }
+                return removed;
+            });
+            Set<String> targetIds = getTargets(null).stream()
+                    .map(TargetInfo::getTargetId)
+                    .collect(Collectors.toSet());
+            for(Map.Entry<String, ChromeContext> entry : targetMap.entrySet()) {
+                String targetId = entry.getKey();
+                if (!targetIds.contains(targetId)) {
+                    targetMap.remove(targetId);
+                    entry.getValue().emit(ChromeContextEvent.TARGETDESTROYED, targetId);
+                }
+            }
+            setDiscoverTargets(true);
+            logger.info("browser state restored after reconnect, contexts={}, targets={}", contextMap.size(), targetMap.size());
+        } catch (Exception e) {
+            logger.error("restore browser state failed after reconnect, error={}", e.getMessage(), e);
+        }
+    }
+
+    private void registerPages(ChromeContext context) throws Exception {
+        for(ChromePage page : context.pages()) {
+            targetMap.put(page.frameId(), context);
+        }
+    }
+
+    /**
+     * attach到已经存在的上下文中所有的页面, 不关闭也不创建页面
+     */
+    private void adoptContexts() throws Exception {
+        List<String> contextIds = target.getBrowserContexts(DEFAULT_TIMEOUT).getBrowserContextIds();
+        for(String contextId : contextIds) {
+            try {
+                ChromeContext context = new ChromeContext(nextContextName(), this, contextId, PageProfile.FULL, true);
+                adoptedContexts.add(context);
+                contextMap.put(contextId, context);
+                registerPages(context);
+                logger.info("browser context adopted, contextId={}, pages={}", contextId, context.pages().length);
+            } catch (Exception e) {
+                logger.error("adopt browser context failed, contextId={}, error={}", contextId, e.getMessage(), e);
+            }
+        }
+    }
+
     private String nextContextName() {
         return "Context[" + name + "]-" + contextCounter.getAndIncrement();
     }
@@ -271,8 +318,13 @@ public class ChromeBrowser implements EventEmitter<CDPEventType>, Browser {
     }
 
     protected Future<String> asyncAttachToTarget(String targetId) {
-        Future<AttachToTargetResponse> future = target.asyncAttachToTarget(buildAttachToTargetRequest(targetId));
-        return new FutureFuture<>(future, response -> response.getSessionId());
+        return target.attachToTargetAsync(buildAttachToTargetRequest(targetId), DEFAULT_TIMEOUT)
+                .thenApply(AttachToTargetResponse::getSessionId)
+                .toCompletableFuture();
+    }
+
+    public EventLoopGroup eventLoopGroup() {
+        return eventLoopGroup;
     }
 
     protected boolean closeTarget(String targetId) throws Exception {
@@ -305,6 +357,19 @@ public class ChromeBrowser implements EventEmitter<CDPEventType>, Browser {
         return createTarget(browserContextId, null);
     }
 
+    /**
+     * browserContextId为null的时候只返回默认上下文中的页面, 排除其他上下文的页面
+     */
+    protected List<TargetInfo> getPageTargets(String browserContextId) throws Exception {
+        Set<String> others = browserContextId != null ?
+                Collections.<String>emptySet() :
+                new HashSet<>(target.getBrowserContexts(DEFAULT_TIMEOUT).getBrowserContextIds());
+        return getTargets(browserContextId).stream()
+                .filter(targetInfo -> TargetType.PAGE.getValue().equals(targetInfo.getType()))
+                .filter(targetInfo -> !others.contains(targetInfo.getBrowserContextId()))
+                .collect(Collectors.toList());
+    }
+
     protected List<TargetInfo> getTargets(String browserContextId) throws Exception {
         GetTargetsResponse response = target.getTargets(DEFAULT_TIMEOUT);
         if (browserContextId == null) {
@@ -358,33 +423,56 @@ public class ChromeBrowser implements EventEmitter<CDPEventType>, Browser {
 
     @Override
     public synchronized void close() {
+        if (process == null) {
+            disconnect();
+            return;
+        }
         if (!process.isAlive()) {
             return;
         }
         try {
             //关闭打开的上下文
-            contextMap.forEach((browserContextId, context) -> {
-                try {
-                    context.close();
-                } catch (Exception e) {
-                    logger.error("close browser context failed, browserContextId={}, error={}", browserContextId, e.getMessage(), e);
-                }
-            });
+            closeContexts(true);
             //关闭浏览器
             browser.close(DEFAULT_TIMEOUT);
             connection.close();
             logger.info("browser closed");
-            while (process.isAlive()) {
-                logger.info("process is alive, waiting...");
-                TimeUnit.SECONDS.sleep(1);
+            if (!process.waitFor(DEFAULT_TIMEOUT, TimeUnit.SECONDS)) {
+                throw new TimeoutException("process still alive after " + DEFAULT_TIMEOUT + "s");
             }
             logger.info("browser process normally exited");
         } catch (Exception e) {
-            process.destroy();
+            process.destroyForcibly();
             logger.error("close browser failed force shutdown, error={}", e.getMessage(), e);
         }
     }
 
+    /**
+     * connect得到的浏览器不属于自己, 只关闭自己创建的上下文, 默认上下文和接管的上下文保持不变, 然后断开连接
+     */
+    private void disconnect() {
+        closeContexts(false);
+        try {
+            connection.close();
+            logger.info("browser disconnected");
+        } catch (Exception e) {
+            logger.error("disconnect browser failed, error={}", e.getMessage(), e);
+        }
+    }
+
+    private void closeContexts(boolean includeDefault) {
+        contextMap.forEach((browserContextId, context) -> {
+            if (!includeDefault && (context == defaultContext || context.adopted())) {
+                return;
+            }
+            try {
+                context.close();
+            } catch (Exception e) {
+                logger.error("close browser context failed, browserContextId={}, error={}", browserContextId, e.getMessage(), e);
+            }
+        });
+    }
+
     @Override
     public ChromeContext[] browserContexts() {
         List<ChromeContext> contextList = contextMap.values().stream()
@@ -396,13 +484,19 @@ public class ChromeBrowser implements EventEmitter<CDPEventType>, Browser {
 
     @Override
     public ChromeContext createContext() throws Exception {
+        return createContext(PageProfile.FULL);
+    }
+
+    /**
+     * @param profile 此context中的页面默认enable哪些domain
+     */
+    public ChromeContext createContext(PageProfile profile) throws Exception {
         CreateBrowserContextResponse response = target.createBrowserContext(DEFAULT_TIMEOUT);
         String contextId = response.getBrowserContextId();
         try {
-            ChromeContext context = new ChromeContext(nextContextName(), this, contextId);
+            ChromeContext context = new ChromeContext(nextContextName(), this, contextId, profile);
             contextMap.put(contextId, context);
             targetMap.put(context.defaultPage().frameId(), context);
-            sessionMap.put(context.defaultPage().sessionId(), context);
             logger.info("browser context created, contextId={}", contextId);
             return context;
         } catch (Exception e) {
@@ -427,7 +521,10 @@ public class ChromeBrowser implements EventEmitter<CDPEventType>, Browser {
         DisposeBrowserContextRequest request = new DisposeBrowserContextRequest();
         request.setBrowserContextId(browserContextId);
         target.disposeBrowserContext(request, DEFAULT_TIMEOUT);
-        contextMap.remove(browserContextId);
+        ChromeContext context = contextMap.remove(browserContextId);
+        if (context != null) {
+            adoptedContexts.remove(context);
+        }
         logger.info("browser context closed, contextId={}", browserContextId);
     }
 
@@ -437,6 +534,23 @@ public class ChromeBrowser implements EventEmitter<CDPEventType>, Browser {
         return response.getUserAgent();
     }
 
+    /**
+     * 用Browser.getVersion检查浏览器是否还能正常响应
+     */
+    public boolean ping(int timeout) {
+        try {
+            browser.getVersion(timeout);
+            return true;
+        } catch (Exception e) {
+            logger.warn("ping browser failed, name={}, error={}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
     @Override
     public String version() throws Exception {
         GetVersionResponse response = browser.getVersion(DEFAULT_TIMEOUT);
@@ -7,34 +7,22 @@ import jpuppeteer.api.constant.PermissionType;
 import jpuppeteer.api.event.DefaultEventEmitter;
 import jpuppeteer.api.future.DefaultPromise;
 import jpuppeteer.api.future.Promise;
-import jpuppeteer.cdp.CDPEvent;
-import jpuppeteer.cdp.cdp.entity.fetch.AuthRequiredEvent;
-import jpuppeteer.cdp.cdp.entity.fetch.RequestPausedEvent;
-import jpuppeteer.cdp.cdp.entity.log.EntryAddedEvent;
-import jpuppeteer.cdp.cdp.entity.network.LoadingFailedEvent;
-import jpuppeteer.cdp.cdp.entity.network.LoadingFinishedEvent;
-import jpuppeteer.cdp.cdp.entity.network.RequestWillBeSentEvent;
-import jpuppeteer.cdp.cdp.entity.network.ResponseReceivedEvent;
-import jpuppeteer.cdp.cdp.entity.page.*;
-import jpuppeteer.cdp.cdp.entity.runtime.ExecutionContextCreatedEvent;
-import jpuppeteer.cdp.cdp.entity.runtime.ExecutionContextDestroyedEvent;
+import jpuppeteer.api.util.ConcurrentHashSet;
 import jpuppeteer.cdp.cdp.entity.target.AttachedToTargetEvent;
 import jpuppeteer.cdp.cdp.entity.target.TargetCrashedEvent;
 import jpuppeteer.cdp.cdp.entity.target.TargetInfo;
 import jpuppeteer.cdp.constant.TargetType;
-import jpuppeteer.chrome.constant.LifecycleEventType;
-import jpuppeteer.chrome.event.*;
+import jpuppeteer.chrome.constant.PageProfile;
 import jpuppeteer.chrome.event.type.ChromeContextEvent;
 import jpuppeteer.chrome.event.type.ChromePageEvent;
-import jpuppeteer.chrome.util.URLUtils;
+import jpuppeteer.chrome.har.HarRecorder;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -57,120 +45,88 @@ public class ChromeContext extends DefaultEventEmitter<ChromeContextEvent> imple
 
     private Map<String/*targetId*/, ChromePage> targetMap;
 
-    private Map<String/*sessionId*/, ChromePage> sessionMap;
-
     /**
      * @see #newPage()
      */
     private Map<String/*uuid*/, Promise<ChromePage>> promiseMap;
 
-    private ChromePage defaultPage;
+    /**
+     * @see #newPage(PageProfile)
+     */
+    private Map<String/*uuid*/, PageProfile> profileMap;
+
+    /**
+     * 没有指定profile的页面(默认页, 页面打开的新页面除外)使用的profile
+     */
+    private final PageProfile profile;
+
+    private volatile ChromePage defaultPage;
+
+    /**
+     * connect之后接管的已经存在的上下文, 属于其他使用者, 断开连接的时候不关闭
+     */
+    private final boolean adopted;
+
+    /**
+     * 页面访问过的源, 复用context之前需要清除这些源的storage
+     */
+    private final Set<String> origins;
+
+    /**
+     * 新打开的页面也记录到这个recorder
+     */
+    private volatile HarRecorder harRecorder;
 
     public ChromeContext(String name, ChromeBrowser browser, String browserContextId) throws Exception {
-        super(Executors.newSingleThreadExecutor(r -> new Thread(r, name)));
+        this(name, browser, browserContextId, PageProfile.FULL);
+    }
+
+    public ChromeContext(String name, ChromeBrowser browser, String browserContextId, PageProfile profile) throws Exception {
+        this(name, browser, browserContextId, profile, false);
+    }
+
+    /**
+     * @param adopted 接管已经存在的上下文, attach到其中所有的页面, 没有页面的时候也不创建
+     */
+    ChromeContext(String name, ChromeBrowser browser, String browserContextId, PageProfile profile, boolean adopted) throws Exception {
+        super(browser.eventLoopGroup());
+        this.adopted = adopted;
         this.name = name;
+        this.profile = profile;
         this.pageCounter = new AtomicInteger(0);
         this.browser = browser;
         this.browserContextId = browserContextId;
         MapMaker mapMaker = new MapMaker().weakValues().concurrencyLevel(16);
         this.targetMap = mapMaker.makeMap();
-        this.sessionMap = mapMaker.makeMap();
         this.promiseMap = new ConcurrentHashMap<>();
+        this.profileMap = new ConcurrentHashMap<>();
+        this.origins = new ConcurrentHashSet<>();
         this.createDefaultPage();
 
         addListener(ATTACHEDTOTARGET, (AttachedToTargetEvent event) -> handleTargetAttached(event));
         addListener(TARGETDESTROYED, (String targetId) -> handleTargetDestroyed(targetId));
         addListener(TARGETINFOCHANGED, (TargetInfo targetInfo) -> handleTargetChanged(targetInfo));
+        //使用COALESCE策略的时候同一个target只需要处理最新的targetInfo
+        coalesce(TARGETINFOCHANGED, targetInfo -> ((TargetInfo) targetInfo).getTargetId());
         addListener(TARGETCRASHED, (TargetCrashedEvent event) -> handleTargetCrashed(event));
-
-        handleSessionEvent(FRAMEATTACHED, (pg, event) -> handleFrameAttached(pg, event), FrameAttachedEvent.class);
-        handleSessionEvent(FRAMENAVIGATED, (pg, event) -> handleFrameNavigated(pg, event), FrameNavigatedEvent.class);
-        handleSessionEvent(FRAMEDETACHED, (pg, event) -> handleFrameDetached(pg, event), FrameDetachedEvent.class);
-
-        handleSessionEvent(LIFECYCLEEVENT, (pg, event) -> {
-            ChromeFrame frame = pg.find(event.getFrameId());
-            if (frame == null) {
-                return;
-            }
-            pg.emit(ChromePageEvent.LIFECYCLEEVENT, new FrameLifecycleEvent(LifecycleEventType.findByName(event.getName()), frame));
-        }, LifecycleEvent.class);
-        handleSessionEvent(DOMCONTENTEVENTFIRED, (pg, event) -> pg.emit(ChromePageEvent.DOMCONTENTLOADED, event.getTimestamp()), DomContentEventFiredEvent.class);
-        handleSessionEvent(LOADEVENTFIRED, (pg, event) -> pg.emit(ChromePageEvent.LOAD, event.getTimestamp()), LoadEventFiredEvent.class);
-        handleSessionEvent(ENTRYADDED, (pg, event) -> pg.emit(ChromePageEvent.CONSOLE, event.getEntry()), EntryAddedEvent.class);
-        handleSessionEvent(JAVASCRIPTDIALOGOPENING, (pg, event) -> {
-            pg.emit(ChromePageEvent.DIALOG, new Dialog(pg.page, event.getType(), event.getMessage(), event.getDefaultPrompt()));
-        }, JavascriptDialogOpeningEvent.class);
-        transmitSessionEvent(EXCEPTIONTHROWN, ChromePageEvent.PAGEERROR);
-
-        handleSessionEvent(EXECUTIONCONTEXTCREATED, (pg, event) -> pg.handleExecutionCreated(event), ExecutionContextCreatedEvent.class);
-        handleSessionEvent(EXECUTIONCONTEXTDESTROYED, (pg, event) -> pg.handleExecutionDestroyed(event), ExecutionContextDestroyedEvent.class);
-        handleSessionEvent(EXECUTIONCONTEXTSCLEARED, (pg, event) -> pg.handleExecutionCleared(), null);
-
-        handleSessionEvent(REQUESTWILLBESENT, (pg, event) -> {
-            Request request = pg.handleRequest(event);
-            if (request != null) {
-                pg.emit(ChromePageEvent.REQUEST, request);
-            }
-        }, RequestWillBeSentEvent.class);
-
-        handleSessionEvent(RESPONSERECEIVED, (pg, event) -> {
-            Response response = pg.handleResponse(event);
-            if (response != null) {
-                pg.emit(ChromePageEvent.RESPONSE, response);
-            }
-        }, ResponseReceivedEvent.class);
-
-        handleSessionEvent(LOADINGFAILED, (pg, event) -> {
-            RequestFailed requestFailed = pg.handleRequestFailed(event);
-            if (requestFailed != null) {
-                pg.emit(ChromePageEvent.REQUESTFAILED, requestFailed);
-            }
-        }, LoadingFailedEvent.class);
-
-        handleSessionEvent(LOADINGFINISHED, (pg, event) -> {
-            RequestFinished requestFinished = pg.handleRequestFinished(event);
-            if (requestFinished != null) {
-                pg.emit(ChromePageEvent.REQUESTFINISHED, requestFinished);
-            }
-        }, LoadingFinishedEvent.class);
-
-        handleSessionEvent(REQUESTPAUSED, (pg, event) -> {
-            Request request = pg.handleRequestInterception(event);
-            if (request != null) {
-                pg.emit(ChromePageEvent.REQUEST, request);
-            }
-        }, RequestPausedEvent.class);
-
-        handleSessionEvent(AUTHREQUIRED, (pg, event) -> pg.doAuthenticate(event.getRequestId()), AuthRequiredEvent.class);
     }
 
     private String nextPageName() {
         return name + "-Page-" + pageCounter.getAndIncrement();
     }
 
-    private <T> void handleSessionEvent(ChromeContextEvent eventType, EventHandler<T> handler, Class<T> clazz) {
-        if (!CDPEvent.class.equals(eventType.getClazz())) {
-            throw new IllegalArgumentException("invaild event type:" + eventType.getClazz().getName());
-        }
-        addListener(eventType, (CDPEvent event) -> {
-            ChromePage pg = sessionMap.get(event.getSessionId());
-            if (pg == null) {
-                logger.error("handle event failed:session not found, event={} sessionId={}", eventType.name(), event.getSessionId());
-                return;
-            }
-            T evt = clazz != null ? event.getObject(clazz) : null;
-            handler.handle(pg, evt);
-        });
-    }
-
-    private void transmitSessionEvent(ChromeContextEvent from, ChromePageEvent to) {
-        handleSessionEvent(from, (pg, event) -> pg.emit(to, event), to.getClazz());
-    }
-
     private void handleTargetAttached(AttachedToTargetEvent event) {
         TargetInfo targetInfo = event.getTargetInfo();
         String targetId = targetInfo.getTargetId();
         String sessionId = event.getSessionId();
+        ChromePage existing = targetMap.get(targetId);
+        if (existing != null) {
+            //断线重连之后重新attach的页面沿用原来的对象
+            if (!Objects.equals(existing.sessionId(), sessionId)) {
+                existing.reattach(sessionId);
+            }
+            return;
+        }
         ChromePage opener = null;
         String openerId = targetInfo.getOpenerId();
         if (StringUtils.isNotEmpty(openerId)) {
@@ -183,43 +139,69 @@ public class ChromeContext extends DefaultEventEmitter<ChromeContextEvent> imple
 
         String url = targetInfo.getUrl();
         Promise<ChromePage> promise = null;
+        //页面打开的新页面跟opener一致
+        PageProfile pageProfile = opener != null ? opener.profile() : profile;
         if (url.startsWith(NEW_PAGE_URL_PREFIX)) {
             //newPage创建的页面
             String uuid = url.substring(NEW_PAGE_URL_PREFIX.length());
             if (StringUtils.isNotEmpty(uuid)) {
                 promise = promiseMap.get(uuid);
+                pageProfile = profileMap.getOrDefault(uuid, pageProfile);
             }
         }
 
         TargetType targetType = TargetType.findByValue(targetInfo.getType());
 
+        ChromePage page;
         try {
-            ChromePage page = new ChromePage(nextPageName(), this, browser.createSession(targetType, sessionId), targetInfo, opener);
-            targetMap.put(targetId, page);
-            sessionMap.put(sessionId, page);
-            if (promise != null) {
-                promise.setSuccess(page);
-            }
-            try {
-                emit(NEWPAGE, page);
-                if (opener != null) {
-                    opener.emit(ChromePageEvent.OPENPAGE, page);
-                }
-            } catch (Exception e) {
-                logger.error("emit newpage or openpage event failed, error={}", e.getMessage(), e);
-            }
+            //在事件线程上, 不能等待domain enable完成
+            page = new ChromePage(nextPageName(), this, browser.createSession(targetType, sessionId), targetInfo, opener, pageProfile, false);
         } catch (Exception e) {
             if (promise != null) {
                 promise.setFailure(e);
             }
             logger.error("create page instance failed, error={}", e.getMessage(), e);
+            return;
+        }
+        //先放进map, enable期间到达的target事件也能找到页面
+        targetMap.put(targetId, page);
+        HarRecorder harRecorder = this.harRecorder;
+        if (harRecorder != null) {
+            page.attachHarRecorder(harRecorder);
         }
+        ChromePage finalOpener = opener;
+        Promise<ChromePage> finalPromise = promise;
+        page.ready().whenComplete((v, e) -> {
+            if (e != null) {
+                targetMap.remove(targetId, page);
+                if (finalPromise != null) {
+                    finalPromise.setFailure(e);
+                }
+                logger.error("enable page domains failed, targetId={}, error={}", targetId, e.getMessage(), e);
+                return;
+            }
+            if (finalPromise != null) {
+                finalPromise.setSuccess(page);
+            }
+            if (defaultPage == null) {
+                //接管的上下文原来没有页面, 第一个attach的页面作为默认页
+                defaultPage = page;
+            }
+            try {
+                emit(NEWPAGE, page);
+                if (finalOpener != null) {
+                    finalOpener.emit(ChromePageEvent.OPENPAGE, page);
+                }
+            } catch (Exception ex) {
+                logger.error("emit newpage or openpage event failed, error={}", ex.getMessage(), ex);
+            }
+        });
     }
 
     private void handleTargetDestroyed(String targetId) {
         ChromePage pg = targetMap.remove(targetId);
         if (pg != null) {
-            //@TODO 此处没有从sessionMap中删除, sessionMap为value弱引用, 理论来说下一次垃圾回收的时候是会被干掉的
+            pg.handleTargetDestroyed();
             logger.info("target destroyed, targetId={}", targetId);
         }
     }
@@ -239,51 +221,17 @@ public class ChromeContext extends DefaultEventEmitter<ChromeContextEvent> imple
         }
     }
 
-    private void handleFrameAttached(ChromePage pg, FrameAttachedEvent event) {
-        ChromeFrame parent = pg.find(event.getParentFrameId());
-        if (parent == null) {
-            logger.warn("parent frame not found, parentId={}", event.getParentFrameId());
-            return;
-        }
-        pg.emit(ChromePageEvent.FRAMEATTACHED, parent.append(event.getFrameId()));
-        logger.info("frame attached, parent={}, frameId={}", event.getParentFrameId(), event.getFrameId());
-    }
-
-    private void handleFrameNavigated(ChromePage pg, FrameNavigatedEvent event) {
-        Frame frm = event.getFrame();
-        ChromeFrame frame = pg.find(frm.getId());
-        if (frame == null) {
-            logger.warn("navigated failed:frame not found, frameId={}", frm.getId());
-            return;
-        }
-        frame.setUrl(URLUtils.parse(frm.getUrl()));
-        frame.setName(frm.getName());
-        frame.setMimeType(frm.getMimeType());
-        frame.setUnreachableUrl(URLUtils.parse(frm.getUnreachableUrl()));
-        frame.setSecurityOrigin(frm.getSecurityOrigin());
-        pg.emit(ChromePageEvent.FRAMENAVIGATED, frame);
-    }
-
-    private void handleFrameDetached(ChromePage pg, FrameDetachedEvent event) {
-        ChromeFrame frame = pg.find(event.getFrameId());
-        if (frame == null) {
-            logger.warn("detached failed:frame not found, frameId={}", event.getFrameId());
-            return;
-        }
-        frame.remove();
-        pg.emit(ChromePageEvent.FRAMEDETACHED, frame);
-        logger.info("frame detached, parent={}, frameId={}", frame.parent.frameId, event.getFrameId());
-    }
-
     private void createDefaultPage() throws Exception {
-        List<TargetInfo> targets = browser.getTargets(browserContextId).stream()
-                .filter(targetInfo -> TargetType.PAGE.getValue().equals(targetInfo.getType()))
-                .collect(Collectors.toList());
-        TargetInfo targetInfo;
+        List<TargetInfo> targets = browser.getPageTargets(browserContextId);
         if (targets.size() == 0) {
+            if (adopted) {
+                //接管的上下文不替别人创建页面, 等有页面attach之后再作为默认页
+                return;
+            }
             //没有默认页
             //创建一个
             String targetId = browser.createTarget(browserContextId);
+            TargetInfo targetInfo;
             try {
                 targetInfo = browser.getTargets(browserContextId).stream()
                         .filter(tinfo -> targetId.equals(tinfo.getTargetId()))
@@ -293,13 +241,12 @@ public class ChromeContext extends DefaultEventEmitter<ChromeContextEvent> imple
                 browser.closeTarget(targetId);
                 throw e;
             }
-        } else if (targets.size() == 1) {
-            //有一个默认页
-            targetInfo = targets.get(0);
-        } else {
-            //有多个默认页
+            this.defaultPage = attachPage(targetInfo);
+            return;
+        }
+        if (browser.process() != null) {
+            //自己启动的浏览器有多个启动页
             //留下第一个, 其余的关闭掉
-            targetInfo = targets.get(0);
             for(int i=1; i<targets.size(); i++) {
                 String tid = targets.get(i).getTargetId();
                 try {
@@ -308,13 +255,42 @@ public class ChromeContext extends DefaultEventEmitter<ChromeContextEvent> imple
                     logger.error("close startup page failed, targetId={}", tid);
                 }
             }
+            this.defaultPage = attachPage(targets.get(0));
+            return;
+        }
+        //connect得到的浏览器中的页面可能属于其他使用者, 全部attach, 不关闭, 第一个作为默认页
+        this.defaultPage = attachPage(targets.get(0));
+        for(int i=1; i<targets.size(); i++) {
+            String tid = targets.get(i).getTargetId();
+            try {
+                attachPage(targets.get(i));
+            } catch (Exception e) {
+                logger.error("attach existing page failed, targetId={}, error={}", tid, e.getMessage(), e);
+            }
         }
+    }
+
+    private ChromePage attachPage(TargetInfo targetInfo) throws Exception {
         TargetType targetType = TargetType.findByValue(targetInfo.getType());
         String sessionId = browser.attachToTarget(targetInfo.getTargetId());
-        ChromePage page = new ChromePage(nextPageName(), this, browser.createSession(targetType, sessionId), targetInfo, null);
+        ChromePage page = new ChromePage(nextPageName(), this, browser.createSession(targetType, sessionId), targetInfo, null, profile);
         targetMap.put(targetInfo.getTargetId(), page);
-        sessionMap.put(sessionId, page);
-        this.defaultPage = page;
+        return page;
+    }
+
+    /**
+     * 接管的上下文在有页面之前没有默认页
+     */
+    private ChromePage requireDefaultPage() {
+        ChromePage page = defaultPage;
+        if (page == null) {
+            throw new IllegalStateException("browser context has no page, browserContextId=" + browserContextId);
+        }
+        return page;
+    }
+
+    boolean adopted() {
+        return adopted;
     }
 
     protected ChromePage defaultPage() {
@@ -322,6 +298,13 @@ public class ChromeContext extends DefaultEventEmitter<ChromeContextEvent> imple
     }
 
 
+    protected void visit(String origin) {
+        //about:blank, data:等没有源的页面不需要记录
+        if (StringUtils.startsWithAny(origin, "http://", "https://")) {
+            origins.add(origin);
+        }
+    }
+
     @Override
     public ChromeBrowser browser() {
         return browser;
@@ -337,11 +320,27 @@ public class ChromeContext extends DefaultEventEmitter<ChromeContextEvent> imple
         browser.grantPermissions(browserContextId, origin, permissions);
     }
 
+    public String name() {
+        return name;
+    }
+
+    public PageProfile profile() {
+        return profile;
+    }
+
     @Override
     public ChromePage newPage() throws Exception {
+        return newPage(profile);
+    }
+
+    /**
+     * @param profile 创建页面的时候enable哪些domain
+     */
+    public ChromePage newPage(PageProfile profile) throws Exception {
         String uuid = UUID.randomUUID().toString().replace("-", "");
         Promise<ChromePage> promise = new DefaultPromise<>();
         promiseMap.put(uuid, promise);
+        profileMap.put(uuid, profile);
         String targetId = browser.createTarget(browserContextId, uuid);
         try {
             ChromePage page = promise.get(5, TimeUnit.SECONDS);
@@ -356,9 +355,24 @@ public class ChromeContext extends DefaultEventEmitter<ChromeContextEvent> imple
             throw e;
         } finally {
             promiseMap.remove(uuid);
+            profileMap.remove(uuid);
+        }
+    }
+
+    /**
+     * 把context中所有页面(包括之后打开的页面)的网络请求记录到同一个HAR文件, 传null停止记录
+     */
+    public void setHarRecorder(HarRecorder recorder) throws Exception {
+        this.harRecorder = recorder;
+        for(ChromePage page : pages()) {
+            page.setHarRecorder(recorder);
         }
     }
 
+    public HarRecorder harRecorder() {
+        return harRecorder;
+    }
+
     @Override
     public ChromePage[] pages() throws Exception {
         List<ChromePage> pageList = targetMap.values().stream()
@@ -370,38 +384,57 @@ public class ChromeContext extends DefaultEventEmitter<ChromeContextEvent> imple
 
     @Override
     public void setCookies(Cookie... cookies) throws Exception {
-        defaultPage.setCookies(cookies);
+        requireDefaultPage().setCookies(cookies);
         //browser.setCookies(browserContextId, CookieUtils.toList(cookies));
     }
 
     @Override
     public void deleteCookies(String name, String domain, String path, String url) throws Exception {
-        defaultPage.deleteCookies(name, domain, path, url);
+        requireDefaultPage().deleteCookies(name, domain, path, url);
     }
 
     @Override
     public void clearCookies() throws Exception {
         if (browserContextId == null) {
             //初始上下文可以使用Network.clearBrowserCookies
-            defaultPage.doClearCookies();
+            requireDefaultPage().doClearCookies();
         } else {
-            //自己创建的上下文需要自己一个一个删除
-            List<Cookie> cookies = cookies();
-            List<Future> futures = new ArrayList<>(cookies.size());
-            for(Cookie cookie : cookies) {
-                futures.add(defaultPage.asyncDeleteCookies(cookie.getName(), cookie.getDomain(), cookie.getPath(), cookie.getUrl()));
+            //自己创建的上下文通过Storage.clearCookies一次清除
+            browser.clearCookies(browserContextId);
+        }
+    }
+
+    /**
+     * 把context恢复成刚创建时的状态, 供context池复用
+     * 关闭默认页之外的页面, 清除cookie以及访问过的源的storage, 再重置默认页
+     */
+    public void reset() throws Exception {
+        ChromePage defaultPage = requireDefaultPage();
+        for(Map.Entry<String, ChromePage> entry : targetMap.entrySet()) {
+            ChromePage page = entry.getValue();
+            if (page == null || page == defaultPage) {
+                continue;
             }
-            for(Future future : futures) {
-                future.get(1, TimeUnit.SECONDS);
+            try {
+                page.close();
+            } catch (Exception e) {
+                logger.error("close page failed, targetId={}, error={}", entry.getKey(), e.getMessage(), e);
             }
         }
-        //defaultPage.doClearCookies();
-        //browser.clearCookies(browserContextId);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(origins.size());
+        for(String origin : origins) {
+            origins.remove(origin);
+            futures.add(defaultPage.clearDataForOrigin(origin).toCompletableFuture());
+        }
+        clearCookies();
+        harRecorder = null;
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(ChromeBrowser.DEFAULT_TIMEOUT, TimeUnit.SECONDS);
+        defaultPage.reset();
     }
 
     @Override
     public List<Cookie> cookies(String... urls) throws Exception {
-        return defaultPage.doGetCookies(urls);
+        return requireDefaultPage().doGetCookies(urls);
 //        List<jpuppeteer.cdp.cdp.entity.network.Cookie> cookieList = browser.getCookies(browserContextId);
 //        Cookie[] cookies = new Cookie[cookieList.size()];
 //        for(int i = 0; i<cookieList.size(); i++) {
@@ -426,11 +459,4 @@ public class ChromeContext extends DefaultEventEmitter<ChromeContextEvent> imple
             super.close();
         }
     }
-
-    @FunctionalInterface
-    private interface EventHandler<T> {
-
-        void handle(ChromePage pg, T event);
-
-    }
 }
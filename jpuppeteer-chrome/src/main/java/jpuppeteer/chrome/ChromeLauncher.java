@@ -4,6 +4,7 @@ import jpuppeteer.api.browser.Launcher;
 import jpuppeteer.api.future.DefaultPromise;
 import jpuppeteer.api.future.Promise;
 import jpuppeteer.cdp.CDPConnection;
+import jpuppeteer.cdp.PipeCDPConnection;
 import jpuppeteer.cdp.WebSocketCDPConnection;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -13,7 +14,9 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.net.InetAddress;
 import java.net.URI;
+import java.net.UnknownHostException;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -24,6 +27,12 @@ public class ChromeLauncher implements Launcher {
 
     private static final Pattern LISTENING_PATTERN = Pattern.compile("^DevTools listening on (ws:\\/\\/.*)$");
 
+    /**
+     * pipe模式下chrome从fd 3读取, 向fd 4写入, java无法直接给子进程传递额外的fd, 借助sh把stdin/stdout重定向过去
+     * chrome自身的stdout输出重定向到stderr
+     */
+    private static final String PIPE_WRAPPER = "exec \"$0\" \"$@\" 3<&0 4>&1 0</dev/null 1>&2";
+
     private final String executable;
 
     public ChromeLauncher(String executable) {
@@ -33,10 +42,18 @@ public class ChromeLauncher implements Launcher {
     @Override
     public ChromeBrowser launch(String... args) throws Exception {
         ChromeArguments chromeArguments = ChromeArguments.parse(executable, args);
+        String[] command = chromeArguments.getCommand();
         if (chromeArguments.isPipe()) {
-            throw new Exception("unsupport pipe debug mode");
+            if (System.getProperty("os.name", "").toLowerCase().startsWith("windows")) {
+                throw new Exception("unsupport pipe debug mode on windows");
+            }
+            String[] wrapped = new String[command.length + 3];
+            wrapped[0] = "/bin/sh";
+            wrapped[1] = "-c";
+            wrapped[2] = PIPE_WRAPPER;
+            System.arraycopy(command, 0, wrapped, 3, command.length);
+            command = wrapped;
         }
-        String[] command = chromeArguments.getCommand();
         File exec = new File(executable);
         logger.info("command line: {}", StringUtils.join(command, " "));
         Process process = Runtime.getRuntime().exec(command, null, exec.getParentFile());
@@ -55,7 +72,7 @@ public class ChromeLauncher implements Launcher {
                             continue;
                         }
                         logger.debug(line);
-                        if (!promise.isDone() && !promise.isCancelled()) {
+                        if (!chromeArguments.isPipe() && !promise.isDone() && !promise.isCancelled()) {
                             Matcher matcher = LISTENING_PATTERN.matcher(line);
                             if (matcher.matches()) {
                                 promise.setSuccess(URI.create(matcher.group(1)));
@@ -73,19 +90,34 @@ public class ChromeLauncher implements Launcher {
 
         errThread.start();
 
-        URI uri;
+        String name;
+        CDPConnection connection;
+        if (chromeArguments.isPipe()) {
+            name = "pipe-" + Integer.toHexString(System.identityHashCode(process));
+            connection = new PipeCDPConnection(name, process);
+        } else {
+            URI uri;
+            try {
+                //等待5s, 等chrome启动成功, 如果5s没有启动成功, 则强制关闭chrome进程
+                uri = promise.get(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                errThread.interrupt();
+                process.destroy();
+                throw e;
+            }
+            logger.info("listening on {}", uri);
+            name = uri.getHost() + ":" + uri.getPort();
+            connection = new WebSocketCDPConnection(uri);
+        }
+        ChromeBrowser browser;
         try {
-            //等待5s, 等chrome启动成功, 如果5s没有启动成功, 则强制关闭chrome进程
-            uri = promise.get(5, TimeUnit.SECONDS);
+            connection.open();
+            browser = new ChromeBrowser(name, process, connection);
         } catch (Exception e) {
             errThread.interrupt();
             process.destroy();
             throw e;
         }
-        logger.info("listening on {}", uri);
-        CDPConnection connection = new WebSocketCDPConnection(uri);
-        connection.open();
-        ChromeBrowser browser = new ChromeBrowser(uri.getHost() + ":" + uri.getPort(), process, connection);
 
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             browser.close();
@@ -102,6 +134,34 @@ public class ChromeLauncher implements Launcher {
         return browser;
     }
 
+    /**
+     * 连接一个已经在运行的浏览器(比如部署在单独的容器中), 没有子进程
+     * 远程连接使用permessage-deflate压缩, 断开之后自动重连并重新attach到还存在的页面
+     */
+    public static ChromeBrowser connect(URI wsEndpoint) throws Exception {
+        boolean remote = !isLoopback(wsEndpoint.getHost());
+        WebSocketCDPConnection connection = new WebSocketCDPConnection(wsEndpoint, CDPConnection.DEFAULT_WORKERS, remote);
+        connection.open();
+        try {
+            ChromeBrowser browser = new ChromeBrowser(wsEndpoint.getHost() + ":" + wsEndpoint.getPort(), null, connection);
+            //初始化成功之后才开启重连, 第一次就连接失败的直接抛出异常
+            connection.setReconnect(true);
+            logger.info("connected to {}, compress={}", wsEndpoint, remote);
+            return browser;
+        } catch (Exception e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    private static boolean isLoopback(String host) {
+        try {
+            return InetAddress.getByName(host).isLoopbackAddress();
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+
     private void delete(File file) {
         if (file.isDirectory()) {
             for(File f : file.listFiles()) {
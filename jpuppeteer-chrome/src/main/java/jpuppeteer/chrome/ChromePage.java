@@ -12,32 +12,42 @@ import jpuppeteer.api.constant.ResourceType;
 import jpuppeteer.api.constant.USKeyboardDefinition;
 import jpuppeteer.api.event.DefaultEventEmitter;
 import jpuppeteer.api.event.EventEmitter;
+import jpuppeteer.api.event.OverflowPolicy;
 import jpuppeteer.api.future.DefaultPromise;
 import jpuppeteer.api.future.Promise;
 import jpuppeteer.api.util.ConcurrentHashSet;
+import jpuppeteer.cdp.BinaryPayload;
+import jpuppeteer.cdp.CDPMessage;
 import jpuppeteer.cdp.CDPSession;
+import jpuppeteer.cdp.cdp.CDPEventType;
 import jpuppeteer.cdp.cdp.constant.emulation.ScreenOrientationType;
 import jpuppeteer.cdp.cdp.constant.fetch.AuthChallengeResponseResponse;
+import jpuppeteer.cdp.cdp.constant.fetch.RequestStage;
 import jpuppeteer.cdp.cdp.constant.input.DispatchKeyEventRequestType;
 import jpuppeteer.cdp.cdp.constant.input.DispatchMouseEventRequestPointerType;
 import jpuppeteer.cdp.cdp.constant.input.DispatchMouseEventRequestType;
 import jpuppeteer.cdp.cdp.constant.input.DispatchTouchEventRequestType;
 import jpuppeteer.cdp.cdp.constant.network.BlockedReason;
+import jpuppeteer.cdp.cdp.constant.network.ErrorReason;
 import jpuppeteer.cdp.cdp.constant.page.SetTouchEmulationEnabledRequestConfiguration;
 import jpuppeteer.cdp.cdp.domain.Runtime;
 import jpuppeteer.cdp.cdp.domain.*;
+import jpuppeteer.cdp.cdp.constant.storage.StorageType;
+import jpuppeteer.cdp.cdp.entity.storage.ClearDataForOriginRequest;
 import jpuppeteer.cdp.cdp.entity.emulation.SetDeviceMetricsOverrideRequest;
 import jpuppeteer.cdp.cdp.entity.emulation.SetGeolocationOverrideRequest;
 import jpuppeteer.cdp.cdp.entity.emulation.SetUserAgentOverrideRequest;
 import jpuppeteer.cdp.cdp.entity.emulation.*;
 import jpuppeteer.cdp.cdp.entity.fetch.AuthChallengeResponse;
 import jpuppeteer.cdp.cdp.entity.fetch.EnableRequest;
+import jpuppeteer.cdp.cdp.entity.fetch.GetResponseBodyRequest;
 import jpuppeteer.cdp.cdp.entity.fetch.RequestPattern;
 import jpuppeteer.cdp.cdp.entity.fetch.*;
 import jpuppeteer.cdp.cdp.entity.input.DispatchKeyEventRequest;
 import jpuppeteer.cdp.cdp.entity.input.DispatchMouseEventRequest;
 import jpuppeteer.cdp.cdp.entity.input.DispatchTouchEventRequest;
 import jpuppeteer.cdp.cdp.entity.input.TouchPoint;
+import jpuppeteer.cdp.cdp.entity.log.EntryAddedEvent;
 import jpuppeteer.cdp.cdp.entity.network.GetCookiesResponse;
 import jpuppeteer.cdp.cdp.entity.network.*;
 import jpuppeteer.cdp.cdp.entity.page.SetTouchEmulationEnabledRequest;
@@ -45,14 +55,27 @@ import jpuppeteer.cdp.cdp.entity.page.*;
 import jpuppeteer.cdp.cdp.entity.runtime.ExecutionContextCreatedEvent;
 import jpuppeteer.cdp.cdp.entity.runtime.ExecutionContextDestroyedEvent;
 import jpuppeteer.cdp.cdp.entity.target.TargetInfo;
+import jpuppeteer.chrome.block.BlockList;
+import jpuppeteer.chrome.cache.AssetCache;
+import jpuppeteer.chrome.cache.CachedResponse;
+import jpuppeteer.chrome.constant.LifecycleEventType;
+import jpuppeteer.chrome.constant.PageDomain;
+import jpuppeteer.chrome.constant.PageProfile;
 import jpuppeteer.chrome.entity.RequestEvent;
 import jpuppeteer.chrome.entity.SecurityDetails;
+import jpuppeteer.chrome.event.Dialog;
+import jpuppeteer.chrome.event.FrameLifecycleEvent;
 import jpuppeteer.chrome.event.Request;
 import jpuppeteer.chrome.event.RequestFailed;
 import jpuppeteer.chrome.event.RequestFinished;
 import jpuppeteer.chrome.event.Response;
 import jpuppeteer.chrome.event.type.ChromeContextEvent;
 import jpuppeteer.chrome.event.type.ChromePageEvent;
+import jpuppeteer.chrome.har.HarRecorder;
+import jpuppeteer.chrome.intercept.InterceptChain;
+import jpuppeteer.chrome.intercept.InterceptDecision;
+import jpuppeteer.chrome.intercept.InterceptHandler;
+import jpuppeteer.chrome.intercept.ResponseHandler;
 import jpuppeteer.chrome.util.CookieUtils;
 import jpuppeteer.chrome.util.HttpUtils;
 import jpuppeteer.chrome.util.URLUtils;
@@ -61,12 +84,16 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.OutputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import static jpuppeteer.cdp.cdp.CDPEventType.*;
 import static jpuppeteer.chrome.ChromeBrowser.DEFAULT_TIMEOUT;
 
 public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEvent>, Page {
@@ -95,6 +122,21 @@ public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEv
 
     private Device device;
 
+    private MediaType mediaType;
+
+    private SetGeolocationOverrideRequest geolocation;
+
+    private Map<String, Object> extraHTTPHeaders;
+
+    private boolean cacheDisabled;
+
+    private boolean bypassCSP;
+
+    /**
+     * evaluateOnNewDocument注入的脚本, reset的时候逐个移除
+     */
+    private final Set<String/*identifier*/> injectedScripts;
+
     private volatile boolean close;
 
     private Set<USKeyboardDefinition> pressedKeys;
@@ -107,17 +149,59 @@ public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEv
 
     private boolean requestInterceptionEnabled;
 
+    private boolean handleAuthRequests;
+
     private String username;
 
     private String password;
 
     private Map<String/*requestId*/, Request> requestMap;
 
+    private final InterceptChain interceptChain;
+
+    private volatile BlockList blockList;
+
+    private volatile AssetCache assetCache;
+
+    private volatile ResponseHandler responseHandler;
+
+    private volatile Executor responseExecutor;
+
+    private volatile Set<ResourceType> responseHandlerTypes = EnumSet.noneOf(ResourceType.class);
+
+    private volatile HarRecorder harRecorder;
+
+    /**
+     * 发出了条件请求, 等待响应阶段处理的缓存
+     */
+    private final Map<String/*interceptorId*/, CachedResponse> revalidating;
+
     private TargetInfo targetInfo;
 
-    private BlockingQueue<Runnable> eventQueue;
+    private final PageProfile profile;
+
+    /**
+     * 已经enable(或者正在enable)的domain, 同一个domain只会enable一次
+     */
+    private final Map<PageDomain, CompletableFuture<Void>> enabledDomains;
+
+    /**
+     * profile中的domain全部enable之后完成
+     */
+    private final CompletableFuture<Void> ready;
 
     public ChromePage(String name, ChromeContext browserContext, CDPSession session, TargetInfo targetInfo, ChromePage opener) throws Exception {
+        this(name, browserContext, session, targetInfo, opener, PageProfile.FULL);
+    }
+
+    public ChromePage(String name, ChromeContext browserContext, CDPSession session, TargetInfo targetInfo, ChromePage opener, PageProfile profile) throws Exception {
+        this(name, browserContext, session, targetInfo, opener, profile, true);
+    }
+
+    /**
+     * @param awaitEnabled 是否在构造函数中等待profile中的domain enable完成, 在事件线程上创建页面的时候不能等待, 通过{@link #ready()}异步得到结果
+     */
+    ChromePage(String name, ChromeContext browserContext, CDPSession session, TargetInfo targetInfo, ChromePage opener, PageProfile profile, boolean awaitEnabled) throws Exception {
         super(
                 null,
                 targetInfo.getTargetId(),
@@ -128,13 +212,7 @@ public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEv
                 new Input(session)
         );
         this.targetInfo = targetInfo;
-        this.eventQueue = new LinkedBlockingQueue<>();
-        this.events = new DefaultEventEmitter<>(
-                new ThreadPoolExecutor(
-                        1, 1, 0,
-                        TimeUnit.SECONDS, eventQueue, r -> new Thread(r, name)
-                )
-        );
+        this.events = new DefaultEventEmitter<>(browserContext.browser().eventLoopGroup());
         this.opener = opener;
         this.browserContext = browserContext;
         this.performance = new Performance(session);
@@ -148,55 +226,346 @@ public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEv
         this.close = false;
 
         this.pressedKeys = new ConcurrentHashSet<>();
+        this.injectedScripts = new ConcurrentHashSet<>();
         this.keyModifiers = 0;
         this.mouseX = 0;
         this.mouseY = 0;
         this.requestInterceptionEnabled = false;
         this.requestMap = new MapMaker().weakValues().concurrencyLevel(16).makeMap();
+        this.interceptChain = new InterceptChain();
+        this.revalidating = new ConcurrentHashMap<>();
+        this.profile = profile;
+        this.enabledDomains = new ConcurrentHashMap<>();
+
+        //本页面的协议事件从解码线程直接交给页面自己的事件线程, 处理之后在同一个线程上执行listener
+        session.setExecutor(events.executor());
+        //必须在enable之前订阅, 否则会丢失enable之后马上到达的事件
+        subscribeSessionEvents();
+
+        //只enable profile中的domain, 其他的等到有listener的时候再enable
+        List<CompletableFuture<Void>> enableFutures = new ArrayList<>();
+        for(PageDomain domain : profile.domains()) {
+            enableFutures.add(enable(domain));
+        }
+        this.ready = CompletableFuture.allOf(enableFutures.toArray(new CompletableFuture<?>[0]));
 
-        List<Future> enableFutures = new ArrayList<>();
-        enableFutures.add(enablePage());
-        enableFutures.add(enablePageLifecycleEvent());
-        enableFutures.add(enableNetwork());
-        enableFutures.add(enableLog());
-        enableFutures.add(enableRuntime());
-        enableFutures.add(enableDom());
-
-        for(Future future : enableFutures) {
-            future.get();
+        if (awaitEnabled) {
+            ready.get(DEFAULT_TIMEOUT, TimeUnit.SECONDS);
         }
+    }
 
+    CompletableFuture<Void> ready() {
+        return ready;
     }
 
     protected String sessionId() {
         return session.sessionId();
     }
 
+    private <T> void subscribe(CDPEventType type, Consumer<T> handler, Class<T> clazz) {
+        session.subscribe(type, event -> handler.accept(clazz != null ? event.getObject(clazz) : null));
+    }
+
+    private void transmit(CDPEventType from, ChromePageEvent to) {
+        subscribe(from, event -> emit(to, event), to.getClazz());
+    }
+
+    /**
+     * 本页面的事件由connection直接分发过来, 在这里解析并转换成页面事件
+     */
+    private void subscribeSessionEvents() {
+        subscribe(PAGE_FRAMEATTACHED, this::handleFrameAttached, FrameAttachedEvent.class);
+        subscribe(PAGE_FRAMENAVIGATED, this::handleFrameNavigated, FrameNavigatedEvent.class);
+        subscribe(PAGE_FRAMEDETACHED, this::handleFrameDetached, FrameDetachedEvent.class);
+
+        subscribe(PAGE_LIFECYCLEEVENT, (LifecycleEvent event) -> {
+            ChromeFrame frame = find(event.getFrameId());
+            if (frame == null) {
+                return;
+            }
+            emit(ChromePageEvent.LIFECYCLEEVENT, new FrameLifecycleEvent(LifecycleEventType.findByName(event.getName()), frame));
+        }, LifecycleEvent.class);
+        subscribe(PAGE_DOMCONTENTEVENTFIRED, (DomContentEventFiredEvent event) -> {
+            HarRecorder harRecorder = this.harRecorder;
+            if (harRecorder != null) {
+                harRecorder.domContentEventFired(this, event.getTimestamp());
+            }
+            emit(ChromePageEvent.DOMCONTENTLOADED, event.getTimestamp());
+        }, DomContentEventFiredEvent.class);
+        subscribe(PAGE_LOADEVENTFIRED, (LoadEventFiredEvent event) -> {
+            HarRecorder harRecorder = this.harRecorder;
+            if (harRecorder != null) {
+                harRecorder.loadEventFired(this, event.getTimestamp());
+            }
+            emit(ChromePageEvent.LOAD, event.getTimestamp());
+        }, LoadEventFiredEvent.class);
+        subscribe(LOG_ENTRYADDED, (EntryAddedEvent event) -> emit(ChromePageEvent.CONSOLE, event.getEntry()), EntryAddedEvent.class);
+        subscribe(PAGE_JAVASCRIPTDIALOGOPENING, (JavascriptDialogOpeningEvent event) -> {
+            emit(ChromePageEvent.DIALOG, new Dialog(page, event.getType(), event.getMessage(), event.getDefaultPrompt()));
+        }, JavascriptDialogOpeningEvent.class);
+        transmit(RUNTIME_EXCEPTIONTHROWN, ChromePageEvent.PAGEERROR);
+
+        subscribe(RUNTIME_EXECUTIONCONTEXTCREATED, this::handleExecutionCreated, ExecutionContextCreatedEvent.class);
+        subscribe(RUNTIME_EXECUTIONCONTEXTDESTROYED, this::handleExecutionDestroyed, ExecutionContextDestroyedEvent.class);
+        subscribe(RUNTIME_EXECUTIONCONTEXTSCLEARED, event -> handleExecutionCleared(), null);
+
+        //HAR直接使用原始的事件, 不经过requestMap, 开启拦截的时候也能记录
+        subscribe(NETWORK_REQUESTWILLBESENT, (RequestWillBeSentEvent event) -> {
+            HarRecorder harRecorder = this.harRecorder;
+            if (harRecorder != null) {
+                harRecorder.requestWillBeSent(this, event);
+            }
+            Request request = handleRequest(event);
+            if (request != null) {
+                emit(ChromePageEvent.REQUEST, request);
+            }
+        }, RequestWillBeSentEvent.class);
+
+        subscribe(NETWORK_RESPONSERECEIVED, (ResponseReceivedEvent event) -> {
+            HarRecorder harRecorder = this.harRecorder;
+            if (harRecorder != null) {
+                harRecorder.responseReceived(this, event);
+            }
+            Response response = handleResponse(event);
+            if (response != null) {
+                emit(ChromePageEvent.RESPONSE, response);
+            }
+        }, ResponseReceivedEvent.class);
+
+        subscribe(NETWORK_LOADINGFAILED, (LoadingFailedEvent event) -> {
+            HarRecorder harRecorder = this.harRecorder;
+            if (harRecorder != null) {
+                harRecorder.loadingFailed(this, event);
+            }
+            RequestFailed requestFailed = handleRequestFailed(event);
+            if (requestFailed != null) {
+                emit(ChromePageEvent.REQUESTFAILED, requestFailed);
+            }
+        }, LoadingFailedEvent.class);
+
+        subscribe(NETWORK_LOADINGFINISHED, (LoadingFinishedEvent event) -> {
+            HarRecorder harRecorder = this.harRecorder;
+            if (harRecorder != null) {
+                harRecorder.loadingFinished(this, event);
+            }
+            RequestFinished requestFinished = handleRequestFinished(event);
+            if (requestFinished != null) {
+                emit(ChromePageEvent.REQUESTFINISHED, requestFinished);
+            }
+        }, LoadingFinishedEvent.class);
+
+        subscribe(FETCH_REQUESTPAUSED, (RequestPausedEvent event) -> {
+            if (event.getResponseStatusCode() != null || event.getResponseErrorReason() != null) {
+                //只有缓存和响应处理器会在响应阶段拦截
+                handleResponsePaused(event);
+                return;
+            }
+            if (handleBlocked(event) || handleCached(event)) {
+                return;
+            }
+            if (!requestInterceptionEnabled) {
+                //只为屏蔽列表或者缓存暂停的请求, 直接放行
+                continueRequest(event.getRequestId());
+                return;
+            }
+            Request request = handleRequestInterception(event);
+            if (request != null) {
+                emit(ChromePageEvent.REQUEST, request);
+                if (!interceptChain.isEmpty()) {
+                    interceptChain.intercept(request);
+                }
+            }
+        }, RequestPausedEvent.class);
+
+        subscribe(FETCH_AUTHREQUIRED, (AuthRequiredEvent event) -> doAuthenticate(event.getRequestId()), AuthRequiredEvent.class);
+    }
+
+    private void handleFrameAttached(FrameAttachedEvent event) {
+        ChromeFrame parent = find(event.getParentFrameId());
+        if (parent == null) {
+            logger.warn("parent frame not found, parentId={}", event.getParentFrameId());
+            return;
+        }
+        emit(ChromePageEvent.FRAMEATTACHED, parent.append(event.getFrameId()));
+        logger.info("frame attached, parent={}, frameId={}", event.getParentFrameId(), event.getFrameId());
+    }
+
+    private void handleFrameNavigated(FrameNavigatedEvent event) {
+        jpuppeteer.cdp.cdp.entity.page.Frame frm = event.getFrame();
+        ChromeFrame frame = find(frm.getId());
+        if (frame == null) {
+            logger.warn("navigated failed:frame not found, frameId={}", frm.getId());
+            return;
+        }
+        frame.setUrl(URLUtils.parse(frm.getUrl()));
+        frame.setName(frm.getName());
+        frame.setMimeType(frm.getMimeType());
+        frame.setUnreachableUrl(URLUtils.parse(frm.getUnreachableUrl()));
+        frame.setSecurityOrigin(frm.getSecurityOrigin());
+        browserContext.visit(frm.getSecurityOrigin());
+        emit(ChromePageEvent.FRAMENAVIGATED, frame);
+    }
+
+    private void handleFrameDetached(FrameDetachedEvent event) {
+        ChromeFrame frame = find(event.getFrameId());
+        if (frame == null) {
+            logger.warn("detached failed:frame not found, frameId={}", event.getFrameId());
+            return;
+        }
+        frame.remove();
+        emit(ChromePageEvent.FRAMEDETACHED, frame);
+        logger.info("frame detached, parent={}, frameId={}", frame.parent.frameId, event.getFrameId());
+    }
+
+    /**
+     * target销毁之后不再接收本页面的事件
+     */
+    protected void handleTargetDestroyed() {
+        session.close();
+    }
+
+    /**
+     * 断线重连之后用新的sessionId重新绑定, 新的session上什么都没有enable, 需要恢复之前的状态
+     * 恢复通过本类设置的拦截, 缓存, 额外请求头, 屏蔽列表, UA, 设备, 地理位置, 媒体类型和CSP绕过, evaluateOnNewDocument注入的脚本和直接通过domain对象发送的命令不会恢复
+     * 在事件线程上调用, 所有命令都异步发送
+     */
+    protected void reattach(String sessionId) {
+        session.rebind(sessionId);
+        List<PageDomain> domains = new ArrayList<>(enabledDomains.keySet());
+        enabledDomains.clear();
+        for(PageDomain domain : domains) {
+            enable(domain);
+        }
+        EnableRequest enableRequest = buildEnableRequest(requestInterceptionEnabled, handleAuthRequests);
+        if (enableRequest != null) {
+            warnOnFailure(fetch.enableAsync(enableRequest, DEFAULT_TIMEOUT), "fetch.enable");
+        }
+        if (cacheDisabled) {
+            SetCacheDisabledRequest cacheRequest = new SetCacheDisabledRequest();
+            cacheRequest.setCacheDisabled(true);
+            warnOnFailure(network.setCacheDisabledAsync(cacheRequest, DEFAULT_TIMEOUT), "network.setCacheDisabled");
+        }
+        if (extraHTTPHeaders != null) {
+            SetExtraHTTPHeadersRequest headersRequest = new SetExtraHTTPHeadersRequest();
+            headersRequest.setHeaders(extraHTTPHeaders);
+            warnOnFailure(network.setExtraHTTPHeadersAsync(headersRequest, DEFAULT_TIMEOUT), "network.setExtraHTTPHeaders");
+        }
+        if (blockList != null) {
+            warnOnFailure(network.setBlockedURLsAsync(buildBlockedURLsRequest(blockList), DEFAULT_TIMEOUT), "network.setBlockedURLs");
+        }
+        if (userAgent != null) {
+            warnOnFailure(emulation.setUserAgentOverrideAsync(buildUserAgentRequest(userAgent), DEFAULT_TIMEOUT), "emulation.setUserAgentOverride");
+        }
+        if (device != null) {
+            if (device.isHasTouch()) {
+                warnOnFailure(page.setTouchEmulationEnabledAsync(buildTouchEmulationRequest(), DEFAULT_TIMEOUT), "page.setTouchEmulationEnabled");
+            }
+            warnOnFailure(emulation.setDeviceMetricsOverrideAsync(buildDeviceMetricsRequest(device), DEFAULT_TIMEOUT), "emulation.setDeviceMetricsOverride");
+        }
+        if (geolocation != null) {
+            warnOnFailure(emulation.setGeolocationOverrideAsync(geolocation, DEFAULT_TIMEOUT), "emulation.setGeolocationOverride");
+        }
+        if (mediaType != null) {
+            SetEmulatedMediaRequest mediaRequest = new SetEmulatedMediaRequest();
+            mediaRequest.setMedia(mediaType.getValue());
+            warnOnFailure(emulation.setEmulatedMediaAsync(mediaRequest, DEFAULT_TIMEOUT), "emulation.setEmulatedMedia");
+        }
+        if (bypassCSP) {
+            SetBypassCSPRequest cspRequest = new SetBypassCSPRequest();
+            cspRequest.setEnabled(true);
+            warnOnFailure(page.setBypassCSPAsync(cspRequest, DEFAULT_TIMEOUT), "page.setBypassCSP");
+        }
+        //注入的脚本跟着旧的session一起失效了, 它们的identifier在新session上没有意义
+        injectedScripts.clear();
+        logger.info("page reattached, targetId={}, sessionId={}", frameId, sessionId);
+    }
+
+    private void warnOnFailure(CompletionStage<Void> stage, String method) {
+        stage.whenComplete((v, e) -> {
+            if (e != null) {
+                logger.warn("restore page state failed, method={}, targetId={}, error={}", method, frameId, e.getMessage());
+            }
+        });
+    }
+
+
+    public PageProfile profile() {
+        return profile;
+    }
+
+    /**
+     * enable失败的话会从表中移除, 下一次调用时重试
+     */
+    protected CompletableFuture<Void> enable(PageDomain domain) {
+        CompletableFuture<Void> future = enabledDomains.get(domain);
+        if (future != null) {
+            return future;
+        }
+        CompletableFuture<Void> promise = new CompletableFuture<>();
+        future = enabledDomains.putIfAbsent(domain, promise);
+        if (future != null) {
+            return future;
+        }
+        doEnable(domain).whenComplete((v, e) -> {
+            if (e != null) {
+                enabledDomains.remove(domain, promise);
+                logger.warn("enable domain failed, domain={}, error={}", domain, e.getMessage());
+                promise.completeExceptionally(e);
+            } else {
+                promise.complete(null);
+            }
+        });
+        return promise;
+    }
+
+    public boolean isEnabled(PageDomain domain) {
+        CompletableFuture<Void> future = enabledDomains.get(domain);
+        return future != null && future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    private CompletionStage<Void> doEnable(PageDomain domain) {
+        switch (domain) {
+            case PAGE:
+                return enablePage();
+            case LIFECYCLE:
+                return enablePageLifecycleEvent();
+            case RUNTIME:
+                return enableRuntime();
+            case NETWORK:
+                return enableNetwork();
+            case LOG:
+                return enableLog();
+            case DOM:
+                return enableDom();
+            default:
+                throw new IllegalArgumentException("unknown domain " + domain);
+        }
+    }
 
-    protected Future<Void> enablePage() {
-        return page.asyncEnable();
+    protected CompletionStage<Void> enablePage() {
+        return page.enableAsync(DEFAULT_TIMEOUT);
     }
 
-    protected Future<Void> enablePageLifecycleEvent() {
+    protected CompletionStage<Void> enablePageLifecycleEvent() {
         SetLifecycleEventsEnabledRequest request = new SetLifecycleEventsEnabledRequest();
         request.setEnabled(true);
-        return page.asyncSetLifecycleEventsEnabled(request);
+        return page.setLifecycleEventsEnabledAsync(request, DEFAULT_TIMEOUT);
     }
 
-    protected Future<Void> enableNetwork() {
-        return network.asyncEnable(null);
+    protected CompletionStage<Void> enableNetwork() {
+        return network.enableAsync(null, DEFAULT_TIMEOUT);
     }
 
-    protected Future<Void> enableLog() {
-        return log.asyncEnable();
+    protected CompletionStage<Void> enableLog() {
+        return log.enableAsync(DEFAULT_TIMEOUT);
     }
 
-    protected Future<Void> enableRuntime() {
-        return runtime.asyncEnable();
+    protected CompletionStage<Void> enableRuntime() {
+        return runtime.enableAsync(DEFAULT_TIMEOUT);
     }
 
-    protected Future<Void> enableDom() {
-        return dom.asyncEnable();
+    protected CompletionStage<Void> enableDom() {
+        return dom.enableAsync(DEFAULT_TIMEOUT);
     }
 
     protected void doAuthenticate(String requestId) {
@@ -212,21 +581,178 @@ public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEv
         ContinueWithAuthRequest request = new ContinueWithAuthRequest();
         request.setAuthChallengeResponse(authChallenge);
         request.setRequestId(requestId);
-        try {
-            fetch.continueWithAuth(request, DEFAULT_TIMEOUT);
-        } catch (Exception e) {
-            logger.error("auth failed, error={}", e.getMessage(), e);
+        //在事件线程上调用, 不能等待响应
+        fetch.continueWithAuthAsync(request, DEFAULT_TIMEOUT).whenComplete((v, e) -> {
+            if (e != null) {
+                logger.error("auth failed, error={}", e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * 命中屏蔽列表的请求直接终止, 不会发出REQUEST事件(Network已经发出过)
+     * @return 请求是否已经处理
+     */
+    private boolean handleBlocked(RequestPausedEvent event) {
+        BlockList blockList = this.blockList;
+        if (blockList != null && blockList.matches(event.getRequest().getUrl(), ResourceType.findByValue(event.getResourceType()))) {
+            FailRequestRequest request = new FailRequestRequest();
+            request.setRequestId(event.getRequestId());
+            request.setErrorReason(ErrorReason.BLOCKEDBYCLIENT.getValue());
+            fetch.failRequestAsync(request, DEFAULT_TIMEOUT).whenComplete((v, e) -> {
+                if (e != null) {
+                    logger.error("block request failed, interceptorId={}, error={}", event.getRequestId(), e.getMessage(), e);
+                }
+            });
+            return true;
         }
+        return false;
     }
 
-    protected void continueRequest(String interceptorId) {
+    /**
+     * 新鲜的缓存直接返回, 过期的缓存在没有开启拦截的时候发出条件请求重新验证(开启拦截的时候由使用者决定请求, 按没有命中处理)
+     * @return 请求是否已经处理
+     */
+    private boolean handleCached(RequestPausedEvent event) {
+        AssetCache assetCache = this.assetCache;
+        jpuppeteer.cdp.cdp.entity.network.Request req = event.getRequest();
+        if (assetCache == null || !assetCache.accepts(req.getMethod(), ResourceType.findByValue(event.getResourceType()))) {
+            return false;
+        }
+        CachedResponse cached = assetCache.lookup(req.getUrl(), req.getHeaders());
+        if (cached == null) {
+            return false;
+        }
+        String interceptorId = event.getRequestId();
+        if (cached.isFresh()) {
+            FulfillRequestRequest request = assetCache.buildFulfillRequest(interceptorId, cached);
+            if (request == null) {
+                //刚刚被淘汰
+                return false;
+            }
+            fetch.fulfillRequestAsync(request, DEFAULT_TIMEOUT).whenComplete((v, e) -> {
+                if (e != null) {
+                    logger.error("fulfill request from cache failed, interceptorId={}, error={}", interceptorId, e.getMessage(), e);
+                }
+            });
+            return true;
+        }
+        if (requestInterceptionEnabled || !cached.hasValidators()) {
+            return false;
+        }
         ContinueRequestRequest request = new ContinueRequestRequest();
         request.setRequestId(interceptorId);
-        try {
-            fetch.continueRequest(request, DEFAULT_TIMEOUT);
-        } catch (Exception e) {
-            logger.error("continue request failed, interceptorId={}, error={}", interceptorId, e.getMessage(), e);
+        request.setHeaders(assetCache.conditionalHeaders(cached, req.getHeaders()));
+        revalidating.put(interceptorId, cached);
+        fetch.continueRequestAsync(request, DEFAULT_TIMEOUT).whenComplete((v, e) -> {
+            if (e != null) {
+                revalidating.remove(interceptorId);
+                logger.error("revalidate request failed, interceptorId={}, error={}", interceptorId, e.getMessage(), e);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 重新验证返回304的用缓存的响应体返回, 可以缓存的响应取出响应体存入缓存之后放行
+     */
+    private void handleResponsePaused(RequestPausedEvent event) {
+        String interceptorId = event.getRequestId();
+        CachedResponse revalidate = revalidating.remove(interceptorId);
+        ResponseHandler responseHandler = this.responseHandler;
+        Executor responseExecutor = this.responseExecutor;
+        if (revalidate == null && responseHandler != null && responseExecutor != null && event.getResponseErrorReason() == null
+                && responseHandlerTypes.contains(ResourceType.findByValue(event.getResourceType()))) {
+            handlePausedResponse(event, responseHandler, responseExecutor);
+            return;
+        }
+        AssetCache assetCache = this.assetCache;
+        Integer status = event.getResponseStatusCode();
+        jpuppeteer.cdp.cdp.entity.network.Request req = event.getRequest();
+        if (assetCache == null || status == null) {
+            continueRequest(interceptorId);
+            return;
         }
+        if (revalidate != null && status == 304) {
+            CachedResponse cached = assetCache.revalidated(revalidate, event.getResponseHeaders());
+            FulfillRequestRequest request = cached != null ? assetCache.buildFulfillRequest(interceptorId, cached) : null;
+            if (request == null) {
+                logger.warn("cached response evicted during revalidation, url={}", req.getUrl());
+                continueRequest(interceptorId);
+                return;
+            }
+            fetch.fulfillRequestAsync(request, DEFAULT_TIMEOUT).whenComplete((v, e) -> {
+                if (e != null) {
+                    logger.error("fulfill request from cache failed, interceptorId={}, error={}", interceptorId, e.getMessage(), e);
+                }
+            });
+            return;
+        }
+        if (!assetCache.isStorable(req.getHeaders(), status, event.getResponseHeaders())) {
+            continueRequest(interceptorId);
+            return;
+        }
+        GetResponseBodyRequest request = new GetResponseBodyRequest();
+        request.setRequestId(interceptorId);
+        //取原始消息, 响应体由BinaryPayload直接解码到缓存的映射文件中, 不经过JSONObject和堆上的byte[]
+        session.sendRaw("Fetch.getResponseBody", request, DEFAULT_TIMEOUT).whenComplete((message, e) -> {
+            if (e != null) {
+                logger.warn("get response body failed, url={}, error={}", req.getUrl(), e.getMessage());
+            } else {
+                assetCache.store(req.getUrl(), req.getHeaders(), status, event.getResponseHeaders(), message);
+            }
+            continueRequest(interceptorId);
+        });
+    }
+
+    private void handlePausedResponse(RequestPausedEvent event, ResponseHandler responseHandler, Executor responseExecutor) {
+        Map<String, Object> headerMap = new LinkedHashMap<>();
+        if (event.getResponseHeaders() != null) {
+            for(HeaderEntry entry : event.getResponseHeaders()) {
+                headerMap.merge(entry.getName(), entry.getValue(), (a, b) -> a + "\n" + b);
+            }
+        }
+        String requestId = event.getNetworkId();
+        Response response = Response.builder()
+                .session(session)
+                .network(network)
+                .fetch(fetch)
+                .interceptorId(event.getRequestId())
+                .requestId(requestId)
+                .type(event.getResourceType())
+                .frame(find(event.getFrameId()))
+                .request(requestId != null ? requestMap.get(requestId) : null)
+                .url(URLUtils.parse(event.getRequest().getUrl()))
+                .status(event.getResponseStatusCode())
+                .headers(HttpUtils.parseHeader(headerMap))
+                .build();
+        //不在session的事件线程上执行处理器
+        responseExecutor.execute(() -> {
+            try {
+                responseHandler.handle(response);
+            } catch (Exception e) {
+                logger.error("response handler failed, url={}, error={}", event.getRequest().getUrl(), e.getMessage(), e);
+            } finally {
+                //处理器没有关闭的流在这里关闭, 否则请求会一直暂停
+                response.closeBodyStream();
+                //没有取走响应体的照常放行
+                response.continueAsync().whenComplete((v, e) -> {
+                    if (e != null) {
+                        logger.error("continue response failed, interceptorId={}, error={}", event.getRequestId(), e.getMessage(), e);
+                    }
+                });
+            }
+        });
+    }
+
+    protected void continueRequest(String interceptorId) {
+        ContinueRequestRequest request = new ContinueRequestRequest();
+        request.setRequestId(interceptorId);
+        fetch.continueRequestAsync(request, DEFAULT_TIMEOUT).whenComplete((v, e) -> {
+            if (e != null) {
+                logger.error("continue request failed, interceptorId={}, error={}", interceptorId, e.getMessage(), e);
+            }
+        });
     }
 
     private Request handleRequestEvent(RequestEvent event) {
@@ -386,7 +912,7 @@ public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEv
         this.mouseX = 0;
         this.mouseY = 0;
         //在target change的时候清空事件队列, 前面的那些事件都不需要了
-        this.eventQueue.clear();
+        this.events.clearQueue();
     }
 
     protected FrameTree getFrameTree() throws Exception {
@@ -401,6 +927,11 @@ public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEv
     @Override
     public void addListener(ChromePageEvent type, Consumer<?> consumer) {
         events.addListener(type, consumer);
+        PageDomain domain = PageDomain.of(type);
+        if (domain != null && !enabledDomains.containsKey(domain)) {
+            //第一次监听的时候才enable, 不阻塞调用方
+            enable(domain);
+        }
     }
 
     @Override
@@ -408,9 +939,105 @@ public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEv
         events.removeListener(type, consumer);
     }
 
+    /**
+     * 把页面恢复成刚创建时的状态, 供页面池复用
+     * 已经enable的domain保持不变, 只撤销调用方做过的修改
+     */
+    public void reset() throws Exception {
+        events.removeAllListeners();
+        events.clearQueue();
+        if (requestInterceptionEnabled) {
+            disableRequestInterception();
+        }
+        if (cacheDisabled) {
+            setCacheEnable(true);
+        }
+        interceptChain.clear();
+        if (blockList != null) {
+            setBlockList(null);
+        }
+        if (assetCache != null) {
+            setAssetCache(null);
+        }
+        if (responseHandler != null) {
+            setResponseHandler(null, (Executor) null);
+        }
+        if (harRecorder != null) {
+            setHarRecorder(null);
+        }
+        interceptChain.setTimeout(0, TimeUnit.MILLISECONDS, InterceptDecision.continues());
+        username = null;
+        password = null;
+        if (extraHTTPHeaders != null) {
+            setExtraHTTPHeaders();
+        }
+        if (device != null) {
+            emulation.clearDeviceMetricsOverride(DEFAULT_TIMEOUT);
+            if (device.isHasTouch()) {
+                SetTouchEmulationEnabledRequest request = new SetTouchEmulationEnabledRequest();
+                request.setEnabled(false);
+                page.setTouchEmulationEnabled(request, DEFAULT_TIMEOUT);
+            }
+            device = null;
+        }
+        if (geolocation != null) {
+            emulation.clearGeolocationOverride(DEFAULT_TIMEOUT);
+            geolocation = null;
+        }
+        if (mediaType != null) {
+            //空字符串表示取消模拟
+            SetEmulatedMediaRequest request = new SetEmulatedMediaRequest();
+            request.setMedia("");
+            emulation.setEmulatedMedia(request, DEFAULT_TIMEOUT);
+            mediaType = null;
+        }
+        if (userAgent != null) {
+            //没有清除UA的命令, 只能设置回浏览器默认的UA
+            SetUserAgentOverrideRequest request = new SetUserAgentOverrideRequest();
+            request.setUserAgent(browserContext.browser().userAgent());
+            emulation.setUserAgentOverride(request, DEFAULT_TIMEOUT);
+            userAgent = null;
+        }
+        for(String identifier : injectedScripts) {
+            RemoveScriptToEvaluateOnNewDocumentRequest request = new RemoveScriptToEvaluateOnNewDocumentRequest();
+            request.setIdentifier(identifier);
+            page.removeScriptToEvaluateOnNewDocument(request, DEFAULT_TIMEOUT);
+            injectedScripts.remove(identifier);
+        }
+        if (bypassCSP) {
+            setByPassCSP(false);
+        }
+        navigate("about:blank", null);
+        page.resetNavigationHistory(DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * 在页面的事件线程上(处理协议事件的时候)直接执行listener, 其他线程发布的事件进入队列
+     */
     @Override
     public void emit(ChromePageEvent type, Object event) {
-        events.emit(type, event);
+        if (events.inEventLoop()) {
+            events.emitNow(type, event);
+        } else {
+            events.emit(type, event);
+        }
+    }
+
+    /**
+     * 默认事件队列是无界的, listener处理不过来的时候可以限制队列长度
+     * 协议事件也先进入页面的有界任务队列再在页面的事件线程上处理, 跟其他线程发布的事件一样受容量和溢出策略的限制
+     * BLOCK策略下队列满了会阻塞连接的解码线程, 这时listener中不要同步等待本页面的请求结果, DROP_*策略下被丢弃的协议事件不会再更新页面的状态
+     */
+    public void setEventQueueCapacity(int capacity, OverflowPolicy policy) {
+        events.setQueueCapacity(capacity, policy);
+    }
+
+    public int eventQueueDepth() {
+        return events.queueDepth();
+    }
+
+    public long droppedEvents() {
+        return events.droppedCount();
     }
 
     @Override
@@ -422,25 +1049,211 @@ public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEv
         }
     }
 
-    @Override
-    public void enableRequestInterception(boolean handleAuthRequest) throws Exception {
+    /**
+     * 合并拦截所有请求, 屏蔽列表以及缓存需要的pattern
+     * @return 不需要拦截的时候返回null
+     */
+    private EnableRequest buildEnableRequest(boolean interceptAll, boolean handleAuthRequest) {
+        List<RequestPattern> patterns = new ArrayList<>();
+        BlockList blockList = this.blockList;
+        AssetCache assetCache = this.assetCache;
+        if (interceptAll) {
+            RequestPattern pattern = new RequestPattern();
+            pattern.setUrlPattern("*");
+            patterns.add(pattern);
+        } else if (blockList != null) {
+            patterns.addAll(blockList.requestPatterns());
+        }
+        Set<ResourceType> responseTypes = EnumSet.noneOf(ResourceType.class);
+        if (assetCache != null) {
+            responseTypes.addAll(assetCache.resourceTypes());
+            if (!interceptAll) {
+                for(ResourceType type : assetCache.resourceTypes()) {
+                    patterns.add(buildTypePattern(type, RequestStage.REQUEST));
+                }
+            }
+        }
+        if (responseHandler != null) {
+            responseTypes.addAll(responseHandlerTypes);
+        }
+        for(ResourceType type : responseTypes) {
+            patterns.add(buildTypePattern(type, RequestStage.RESPONSE));
+        }
+        if (patterns.isEmpty()) {
+            return null;
+        }
         EnableRequest request = new EnableRequest();
+        request.setPatterns(patterns);
+        request.setHandleAuthRequests(interceptAll && handleAuthRequest);
+        return request;
+    }
+
+    private RequestPattern buildTypePattern(ResourceType type, RequestStage stage) {
         RequestPattern pattern = new RequestPattern();
         pattern.setUrlPattern("*");
-        request.setPatterns(Lists.newArrayList(pattern));
-        request.setHandleAuthRequests(handleAuthRequest);
-        fetch.enable(request, DEFAULT_TIMEOUT);
+        pattern.setResourceType(type.getValue());
+        pattern.setRequestStage(stage.getValue());
+        return pattern;
+    }
+
+    /**
+     * 屏蔽列表, 缓存或者响应处理器变化之后重新设置拦截的pattern
+     */
+    private void updateFetch() throws Exception {
+        EnableRequest request = buildEnableRequest(requestInterceptionEnabled, handleAuthRequests);
+        if (request != null) {
+            fetch.enable(request, DEFAULT_TIMEOUT);
+        } else {
+            fetch.disable(DEFAULT_TIMEOUT);
+        }
+    }
+
+    @Override
+    public void enableRequestInterception(boolean handleAuthRequest) throws Exception {
+        fetch.enable(buildEnableRequest(true, handleAuthRequest), DEFAULT_TIMEOUT);
         //启动拦截器的同时需要禁用缓存
         setCacheEnable(false);
         this.requestInterceptionEnabled = true;
+        this.handleAuthRequests = handleAuthRequest;
     }
 
     @Override
     public void disableRequestInterception() throws Exception {
-        fetch.disable(DEFAULT_TIMEOUT);
+        //只保留屏蔽列表和缓存需要的拦截
+        EnableRequest request = buildEnableRequest(false, false);
+        if (request != null) {
+            fetch.enable(request, DEFAULT_TIMEOUT);
+        } else {
+            fetch.disable(DEFAULT_TIMEOUT);
+        }
         this.requestInterceptionEnabled = false;
     }
 
+    private SetBlockedURLsRequest buildBlockedURLsRequest(BlockList blockList) {
+        SetBlockedURLsRequest request = new SetBlockedURLsRequest();
+        request.setUrls(blockList != null ? new ArrayList<>(blockList.blockedUrls()) : new ArrayList<>(0));
+        return request;
+    }
+
+    /**
+     * 设置屏蔽列表, 域名规则通过Network.setBlockedURLs交给浏览器, 其余的规则只暂停可能命中的请求
+     * 不需要开启拦截, 开启拦截之后屏蔽列表在拦截处理器和REQUEST事件之前生效, 传null取消屏蔽
+     */
+    public void setBlockList(BlockList blockList) throws Exception {
+        if (blockList != null) {
+            blockList.compile();
+            enable(PageDomain.NETWORK).get(DEFAULT_TIMEOUT, TimeUnit.SECONDS);
+        }
+        BlockList previous = this.blockList;
+        if (blockList != null || previous != null) {
+            network.setBlockedURLs(buildBlockedURLsRequest(blockList), DEFAULT_TIMEOUT);
+        }
+        this.blockList = blockList;
+        if (!requestInterceptionEnabled) {
+            //拦截所有请求的时候已经包含了屏蔽列表需要的请求
+            updateFetch();
+        }
+    }
+
+    public BlockList blockList() {
+        return blockList;
+    }
+
+    /**
+     * 设置静态资源缓存(可以在本进程的多个页面之间共用), 命中的请求不再发给服务器, 也不会经过拦截处理器和REQUEST事件, 传null取消
+     */
+    public void setAssetCache(AssetCache assetCache) throws Exception {
+        this.assetCache = assetCache;
+        revalidating.clear();
+        updateFetch();
+    }
+
+    public AssetCache assetCache() {
+        return assetCache;
+    }
+
+    /**
+     * 同{@link #setResponseHandler(ResponseHandler, Executor, ResourceType...)}, handler在浏览器共享的EventLoopGroup上执行, 不能阻塞
+     * 需要阻塞读取{@link Response#bodyStream()}的时候请传入自己的有界线程池
+     */
+    public void setResponseHandler(ResponseHandler handler, ResourceType... types) throws Exception {
+        setResponseHandler(handler, browserContext.browser().eventLoopGroup().next(), types);
+    }
+
+    /**
+     * 指定类型的响应在收到响应头之后暂停, 交给handler在executor上处理, handler中可以用{@link Response#bodyStream()}以固定的内存读取很大的响应体
+     * 取走响应体的请求在流关闭之后以Aborted结束, 页面拿不到响应体; 没有取走的照常放行. 传null取消
+     * @param executor 执行handler的线程池, 同时暂停的响应数受它的大小限制
+     */
+    public void setResponseHandler(ResponseHandler handler, Executor executor, ResourceType... types) throws Exception {
+        if (handler != null && types.length == 0) {
+            throw new IllegalArgumentException("at least one resource type required");
+        }
+        if (handler != null && executor == null) {
+            throw new IllegalArgumentException("executor required");
+        }
+        this.responseHandlerTypes = handler != null ? EnumSet.copyOf(Arrays.asList(types)) : EnumSet.noneOf(ResourceType.class);
+        this.responseExecutor = executor;
+        this.responseHandler = handler;
+        updateFetch();
+    }
+
+    /**
+     * 把本页面的网络请求记录到HAR文件, 同一个recorder可以给多个页面共用, 传null停止记录
+     * 停止记录之后recorder需要调用方自己关闭
+     */
+    public void setHarRecorder(HarRecorder recorder) throws Exception {
+        attachHarRecorder(recorder).get(DEFAULT_TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 不等待domain enable完成, 可以在事件线程上调用
+     */
+    CompletableFuture<Void> attachHarRecorder(HarRecorder recorder) {
+        HarRecorder previous = this.harRecorder;
+        this.harRecorder = recorder;
+        if (previous != null && previous != recorder) {
+            previous.detach(this);
+        }
+        if (recorder == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        //pageTimings需要Page domain的事件
+        return CompletableFuture.allOf(enable(PageDomain.NETWORK), enable(PageDomain.PAGE));
+    }
+
+    public HarRecorder harRecorder() {
+        return harRecorder;
+    }
+
+    /**
+     * 异步获取响应体的原始消息, 不解析成JSONObject, 由{@link BinaryPayload}读取body字段
+     */
+    public CompletionStage<CDPMessage> responseBodyAsync(String requestId) {
+        jpuppeteer.cdp.cdp.entity.network.GetResponseBodyRequest request = new jpuppeteer.cdp.cdp.entity.network.GetResponseBodyRequest();
+        request.setRequestId(requestId);
+        return session.sendRaw("Network.getResponseBody", request, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * 添加异步拦截处理器, 按添加的顺序执行, 需要先调用{@link #enableRequestInterception(boolean)}
+     * 有处理器的时候由处理器决定请求的去向, REQUEST事件仍然会发出, 只用来观察
+     */
+    public void addInterceptHandler(InterceptHandler handler) {
+        interceptChain.addHandler(handler);
+    }
+
+    public void removeInterceptHandler(InterceptHandler handler) {
+        interceptChain.removeHandler(handler);
+    }
+
+    /**
+     * 暂停的请求超过timeout还没有做出决定的时候按defaultDecision处理, 对REQUEST事件的listener同样有效
+     */
+    public void setInterceptTimeout(long timeout, TimeUnit unit, InterceptDecision defaultDecision) {
+        interceptChain.setTimeout(timeout, unit, defaultDecision);
+    }
+
     @Override
     public ChromePage opener() {
         return opener;
@@ -462,6 +1275,16 @@ public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEv
         network.deleteCookies(request, DEFAULT_TIMEOUT);
     }
 
+    /**
+     * 生成的Storage只能在浏览器的连接上发送, 这里直接通过页面的session发送, 清除的是页面所在context的数据
+     */
+    protected CompletionStage<Void> clearDataForOrigin(String origin) {
+        ClearDataForOriginRequest request = new ClearDataForOriginRequest();
+        request.setOrigin(origin);
+        request.setStorageTypes(StorageType.ALL.getValue());
+        return session.sendAsync("Storage.clearDataForOrigin", request, DEFAULT_TIMEOUT);
+    }
+
     protected void doClearCookies() throws Exception {
         network.clearBrowserCookies(DEFAULT_TIMEOUT);
     }
@@ -488,7 +1311,7 @@ public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEv
         request.setDomain(domain);
         request.setPath(path);
         request.setUrl(url);
-        return network.asyncDeleteCookies(request);
+        return network.deleteCookiesAsync(request, DEFAULT_TIMEOUT).toCompletableFuture();
     }
 
     @Override
@@ -709,6 +1532,7 @@ public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEv
             promise.get(1, TimeUnit.SECONDS);
         } finally {
             browserContext.removeListener(ChromeContextEvent.TARGETDESTROYED, consumer);
+            session.close();
             events.close();
             close = true;
         }
@@ -719,6 +1543,7 @@ public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEv
         SetEmulatedMediaRequest request = new SetEmulatedMediaRequest();
         request.setMedia(mediaType.getValue());
         emulation.setEmulatedMedia(request, DEFAULT_TIMEOUT);
+        this.mediaType = mediaType;
     }
 
     @Override
@@ -726,6 +1551,7 @@ public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEv
         AddScriptToEvaluateOnNewDocumentRequest request = new AddScriptToEvaluateOnNewDocumentRequest();
         request.setSource(script);
         AddScriptToEvaluateOnNewDocumentResponse response = page.addScriptToEvaluateOnNewDocument(request, DEFAULT_TIMEOUT);
+        injectedScripts.add(response.getIdentifier());
         return response.getIdentifier();
     }
 
@@ -739,13 +1565,16 @@ public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEv
         SetBypassCSPRequest request = new SetBypassCSPRequest();
         request.setEnabled(enable);
         page.setBypassCSP(request, DEFAULT_TIMEOUT);
+        this.bypassCSP = enable;
     }
 
     @Override
     public void setCacheEnable(boolean enable) throws Exception {
+        enable(PageDomain.NETWORK).get(DEFAULT_TIMEOUT, TimeUnit.SECONDS);
         SetCacheDisabledRequest request = new SetCacheDisabledRequest();
         request.setCacheDisabled(!enable);
         network.setCacheDisabled(request, DEFAULT_TIMEOUT);
+        this.cacheDisabled = !enable;
     }
 
     @Override
@@ -756,7 +1585,9 @@ public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEv
             headerMap.put(header.getName(), header.getValue());
         }
         request.setHeaders(headerMap);
+        enable(PageDomain.NETWORK).get(DEFAULT_TIMEOUT, TimeUnit.SECONDS);
         network.setExtraHTTPHeaders(request, DEFAULT_TIMEOUT);
+        this.extraHTTPHeaders = headers.length > 0 ? headerMap : null;
     }
 
     @Override
@@ -766,19 +1597,24 @@ public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEv
         request.setLongitude(longitude);
         request.setAccuracy(Integer.valueOf(accuracy).doubleValue());
         emulation.setGeolocationOverride(request, DEFAULT_TIMEOUT);
+        this.geolocation = request;
     }
 
-    @Override
-    public void setUserAgent(UserAgent userAgent) throws Exception {
+    private static SetUserAgentOverrideRequest buildUserAgentRequest(UserAgent userAgent) {
         SetUserAgentOverrideRequest request = new SetUserAgentOverrideRequest();
         request.setUserAgent(userAgent.getUserAgent());
         request.setAcceptLanguage(userAgent.getAcceptLanguage());
         request.setPlatform(userAgent.getPlatform());
-        emulation.setUserAgentOverride(request, DEFAULT_TIMEOUT);
+        return request;
     }
 
     @Override
-    public void setDevice(Device device) throws Exception {
+    public void setUserAgent(UserAgent userAgent) throws Exception {
+        emulation.setUserAgentOverride(buildUserAgentRequest(userAgent), DEFAULT_TIMEOUT);
+        this.userAgent = userAgent;
+    }
+
+    private static SetDeviceMetricsOverrideRequest buildDeviceMetricsRequest(Device device) {
         SetDeviceMetricsOverrideRequest request = new SetDeviceMetricsOverrideRequest();
         request.setWidth(device.getWidth());
         request.setHeight(device.getHeight());
@@ -790,13 +1626,23 @@ public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEv
             screen.setAngle(0);
             request.setScreenOrientation(screen);
         }
+        return request;
+    }
+
+    private static SetTouchEmulationEnabledRequest buildTouchEmulationRequest() {
+        SetTouchEmulationEnabledRequest request = new SetTouchEmulationEnabledRequest();
+        request.setEnabled(true);
+        request.setConfiguration(SetTouchEmulationEnabledRequestConfiguration.MOBILE.getValue());
+        return request;
+    }
+
+    @Override
+    public void setDevice(Device device) throws Exception {
         if (device.isHasTouch()) {
-            SetTouchEmulationEnabledRequest req = new SetTouchEmulationEnabledRequest();
-            req.setEnabled(true);
-            req.setConfiguration(SetTouchEmulationEnabledRequestConfiguration.MOBILE.getValue());
-            page.setTouchEmulationEnabled(req, DEFAULT_TIMEOUT);
+            page.setTouchEmulationEnabled(buildTouchEmulationRequest(), DEFAULT_TIMEOUT);
         }
-        emulation.setDeviceMetricsOverride(request, DEFAULT_TIMEOUT);
+        emulation.setDeviceMetricsOverride(buildDeviceMetricsRequest(device), DEFAULT_TIMEOUT);
+        this.device = device;
     }
 
     @Override
@@ -837,11 +1683,39 @@ public class ChromePage extends ChromeFrame implements EventEmitter<ChromePageEv
         page.reload(request, DEFAULT_TIMEOUT);
     }
 
-    @Override
-    public byte[] screenshot() throws Exception {
+    /**
+     * 截图/pdf的响应不经过JSONObject, 直接从原始消息中解码data字段
+     */
+    private CDPMessage captureScreenshot() throws Exception {
         CaptureScreenshotRequest request = new CaptureScreenshotRequest();
         request.setFormat("png");
-        CaptureScreenshotResponse response = page.captureScreenshot(request, DEFAULT_TIMEOUT);
-        return Base64.getDecoder().decode(response.getData());
+        return session.sendRaw("Page.captureScreenshot", request, DEFAULT_TIMEOUT).toCompletableFuture().get();
+    }
+
+    @Override
+    public byte[] screenshot() throws Exception {
+        return BinaryPayload.decodeBytes(captureScreenshot(), BinaryPayload.DATA);
+    }
+
+    @Override
+    public void screenshot(OutputStream out) throws Exception {
+        BinaryPayload.decode(captureScreenshot(), BinaryPayload.DATA, out);
+    }
+
+    /**
+     * 截图解码到调用方复用的buffer中(比如定时截图的时候复用同一个direct buffer), 从position开始写入
+     * @return 截图的字节数, 剩余空间不够的时候抛出BufferOverflowException, 不会写入任何数据
+     */
+    public int screenshot(ByteBuffer target) throws Exception {
+        return BinaryPayload.decode(captureScreenshot(), BinaryPayload.DATA, target);
+    }
+
+    public void pdf(PrintToPDFRequest request, OutputStream out) throws Exception {
+        CDPMessage message = session.sendRaw("Page.printToPDF", request, DEFAULT_TIMEOUT).toCompletableFuture().get();
+        BinaryPayload.decode(message, BinaryPayload.DATA, out);
+    }
+
+    public void pdf(OutputStream out) throws Exception {
+        pdf(new PrintToPDFRequest(), out);
     }
 }
@@ -0,0 +1,90 @@
+package jpuppeteer.chrome.block;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 多模式子串匹配, 一次扫描url就可以找出是否包含任意一条规则
+ * 添加完所有规则之后调用{@link #build()}, 之后只读, 可以多线程共享
+ */
+class AhoCorasick {
+
+    private final Node root = new Node();
+
+    private int size;
+
+    private boolean built;
+
+    void add(String pattern, int mask) {
+        if (built) {
+            throw new IllegalStateException("automaton already built");
+        }
+        Node node = root;
+        for(int i = 0; i < pattern.length(); i++) {
+            node = node.children.computeIfAbsent(pattern.charAt(i), k -> new Node());
+        }
+        if (node.isEmpty()) {
+            size++;
+        }
+        node.accept(mask);
+    }
+
+    /**
+     * 广度优先计算失配指针, 同时把失配链上的输出合并到当前节点, 匹配的时候不需要再沿着失配链查找输出
+     */
+    void build() {
+        Deque<Node> queue = new ArrayDeque<>();
+        for(Node child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for(Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                char c = entry.getKey();
+                Node child = entry.getValue();
+                Node fail = node.fail;
+                while (fail != null && !fail.children.containsKey(c)) {
+                    fail = fail.fail;
+                }
+                child.fail = fail == null ? root : fail.children.get(c);
+                child.merge(child.fail);
+                queue.add(child);
+            }
+        }
+        built = true;
+    }
+
+    boolean matches(String text, int typeBit) {
+        if (size == 0) {
+            return false;
+        }
+        Node node = root;
+        for(int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            Node next;
+            while ((next = node.children.get(c)) == null && node != root) {
+                node = node.fail;
+            }
+            node = next == null ? root : next;
+            if (node.matches(typeBit)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static class Node extends TypeMask {
+
+        private final Map<Character, Node> children = new HashMap<>(4);
+
+        private Node fail;
+
+    }
+}
@@ -0,0 +1,515 @@
+package jpuppeteer.chrome.block;
+
+import com.google.common.collect.Lists;
+import jpuppeteer.api.constant.ResourceType;
+import jpuppeteer.cdp.cdp.entity.fetch.RequestPattern;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 屏蔽列表, 支持按资源类型屏蔽以及EasyList格式的规则的一个子集:
+ * ||host^ 域名(含子域名), 普通子串, 带*和^通配符以及|锚点的规则, @@开头的例外规则, $image,script等资源类型选项
+ * 不支持正则规则, 元素隐藏规则以及domain=, match-case等选项, 这些规则会被忽略; $third-party视为总是满足
+ *
+ * 编译之后域名规则放在后缀字典树中, 子串规则放在Aho-Corasick自动机中, 一次扫描url就可以得出结果
+ * 规则不区分大小写, 浏览器端的匹配区分大小写, 所以只有域名规则(浏览器中url的scheme和域名总是小写)可以下推给浏览器:
+ * 不限定资源类型, 并且没有例外规则涉及该域名(例外规则的域名跟它相同或者互为上下级, 或者例外规则的文本中包含该域名)的域名规则,
+ * 通过Network.setBlockedURLs直接在浏览器中屏蔽; 不涉及具体域名的通用例外规则不会放行这些请求
+ * 其余的规则把字母替换成*生成Fetch RequestPattern, 只有可能命中的请求才会暂停下来由java判断,
+ * 替换之后几乎匹配所有url的模式(比如只由字母组成的子串规则)直接用*代替(限定了资源类型的只拦截这些类型), 有不限类型的*之后其余的模式都不需要了
+ */
+public class BlockList {
+
+    /**
+     * RequestPattern太多的时候浏览器端逐个匹配反而更慢, 超过之后直接拦截所有请求
+     */
+    private static final int MAX_PATTERNS = 256;
+
+    private static final Pattern HOST = Pattern.compile("[a-z0-9.\\-]+");
+
+    private static final Map<String, Set<ResourceType>> TYPE_OPTIONS;
+
+    private final List<Rule> rules;
+
+    private final Set<ResourceType> blockedTypes;
+
+    private volatile boolean compiled;
+
+    private int blockedTypeMask;
+
+    private RuleSet block;
+
+    private RuleSet allow;
+
+    private List<String> blockedUrls;
+
+    private List<RequestPattern> requestPatterns;
+
+    static {
+        TYPE_OPTIONS = new HashMap<>();
+        TYPE_OPTIONS.put("image", EnumSet.of(ResourceType.IMAGE));
+        TYPE_OPTIONS.put("script", EnumSet.of(ResourceType.SCRIPT));
+        TYPE_OPTIONS.put("stylesheet", EnumSet.of(ResourceType.STYLESHEET));
+        TYPE_OPTIONS.put("font", EnumSet.of(ResourceType.FONT));
+        TYPE_OPTIONS.put("media", EnumSet.of(ResourceType.MEDIA));
+        TYPE_OPTIONS.put("xmlhttprequest", EnumSet.of(ResourceType.XHR, ResourceType.FETCH));
+        TYPE_OPTIONS.put("websocket", EnumSet.of(ResourceType.WEBSOCKET));
+        TYPE_OPTIONS.put("ping", EnumSet.of(ResourceType.PING));
+        TYPE_OPTIONS.put("document", EnumSet.of(ResourceType.DOCUMENT));
+        TYPE_OPTIONS.put("subdocument", EnumSet.of(ResourceType.DOCUMENT));
+        TYPE_OPTIONS.put("other", EnumSet.of(ResourceType.OTHER));
+    }
+
+    public BlockList() {
+        this.rules = new ArrayList<>();
+        this.blockedTypes = EnumSet.noneOf(ResourceType.class);
+    }
+
+    /**
+     * 屏蔽指定类型的所有请求, 例如图片, 字体, 媒体
+     */
+    public synchronized void block(ResourceType... types) {
+        checkNotCompiled();
+        Collections.addAll(blockedTypes, types);
+    }
+
+    /**
+     * @return 不支持的规则返回false, 注释和空行同样返回false
+     */
+    public synchronized boolean addRule(String line) {
+        checkNotCompiled();
+        Rule rule = parse(line);
+        if (rule == null) {
+            return false;
+        }
+        if (rule.kind == RuleKind.TYPE) {
+            //只有资源类型选项的规则, 等同于block(types)
+            blockedTypes.addAll(rule.types);
+        } else {
+            rules.add(rule);
+        }
+        return true;
+    }
+
+    /**
+     * 按行读取规则列表
+     * @return 支持的规则数量
+     */
+    public int load(Reader reader) throws IOException {
+        BufferedReader br = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        int count = 0;
+        String line;
+        while ((line = br.readLine()) != null) {
+            if (addRule(line)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public synchronized int size() {
+        return rules.size() + blockedTypes.size();
+    }
+
+    /**
+     * 编译成匹配器以及下推给浏览器的规则, 只会编译一次, 之后不能再添加规则, 同一个列表可以在多个页面之间共享
+     */
+    public synchronized void compile() {
+        if (compiled) {
+            return;
+        }
+        blockedTypeMask = mask(blockedTypes);
+        block = new RuleSet();
+        allow = new RuleSet();
+        for(Rule rule : rules) {
+            if (rule.exception) {
+                allow.add(rule);
+            } else {
+                block.add(rule);
+            }
+        }
+        block.build();
+        allow.build();
+
+        Set<String> urls = new LinkedHashSet<>();
+        Map<String, RequestPattern> patterns = new LinkedHashMap<>();
+        for(ResourceType type : blockedTypes) {
+            addPattern(patterns, "*", type);
+        }
+        for(Rule rule : rules) {
+            if (rule.exception) {
+                continue;
+            }
+            if (rule.mask != 0 && (rule.mask & ~blockedTypeMask) == 0) {
+                //限定的资源类型已经全部屏蔽
+                continue;
+            }
+            if (rule.mask == 0 && rule.kind == RuleKind.HOST && !allow.overlaps(rule.text)) {
+                urls.addAll(rule.globs);
+                continue;
+            }
+            for(String glob : rule.globs) {
+                if (rule.kind != RuleKind.HOST) {
+                    glob = maskLetters(glob);
+                    if (matchesAll(glob)) {
+                        //只能暂停所有(限定类型的)请求, 否则这条规则永远不会生效
+                        glob = "*";
+                    }
+                }
+                if (rule.mask == 0) {
+                    addPattern(patterns, glob, null);
+                    continue;
+                }
+                for(ResourceType type : rule.types) {
+                    if (!blockedTypes.contains(type)) {
+                        addPattern(patterns, glob, type);
+                    }
+                }
+            }
+        }
+        if (patterns.size() > MAX_PATTERNS || patterns.containsKey("*")) {
+            //已经拦截所有请求, 其余的模式都是多余的
+            patterns.clear();
+            addPattern(patterns, "*", null);
+        }
+        this.blockedUrls = Collections.unmodifiableList(new ArrayList<>(urls));
+        this.requestPatterns = Collections.unmodifiableList(new ArrayList<>(patterns.values()));
+        this.compiled = true;
+    }
+
+    /**
+     * @return 通过Network.setBlockedURLs直接在浏览器中屏蔽的url模式
+     */
+    public List<String> blockedUrls() {
+        compile();
+        return blockedUrls;
+    }
+
+    /**
+     * @return 需要暂停下来由{@link #matches(String, ResourceType)}判断的请求
+     */
+    public List<RequestPattern> requestPatterns() {
+        compile();
+        return requestPatterns;
+    }
+
+    public boolean matches(String url, ResourceType type) {
+        compile();
+        String lower = url.toLowerCase();
+        String host = host(lower);
+        int bit = type != null ? 1 << type.ordinal() : 0;
+        if ((blockedTypeMask & bit) == 0 && !block.matches(lower, host, bit)) {
+            return false;
+        }
+        return !allow.matches(lower, host, bit);
+    }
+
+    private void checkNotCompiled() {
+        if (compiled) {
+            throw new IllegalStateException("block list already compiled");
+        }
+    }
+
+    private static int mask(Set<ResourceType> types) {
+        int mask = 0;
+        for(ResourceType type : types) {
+            mask |= 1 << type.ordinal();
+        }
+        return mask;
+    }
+
+    private static String host(String url) {
+        int start = url.indexOf("://");
+        if (start < 0) {
+            return null;
+        }
+        start += 3;
+        int end = start;
+        while (end < url.length()) {
+            char c = url.charAt(end);
+            if (c == '/' || c == '?' || c == '#' || c == ':') {
+                break;
+            }
+            if (c == '@') {
+                //跳过userinfo
+                start = end + 1;
+            }
+            end++;
+        }
+        return url.substring(start, end);
+    }
+
+    /**
+     * 把字母替换成*, 生成的模式不受url大小写的影响, 范围更大, 暂停之后再由java判断
+     */
+    private static String maskLetters(String glob) {
+        StringBuilder sb = new StringBuilder(glob.length());
+        for(int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                c = '*';
+            }
+            if (c != '*' || sb.length() == 0 || sb.charAt(sb.length() - 1) != '*') {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 去掉*之后只剩下每个url都有的分隔符(:/.), 这样的模式几乎匹配所有url
+     */
+    private static boolean matchesAll(String glob) {
+        return StringUtils.containsOnly(glob, '*', ':', '/', '.');
+    }
+
+    private static void addPattern(Map<String, RequestPattern> patterns, String glob, ResourceType type) {
+        //Fetch的urlPattern中?是通配符, \是转义符
+        String urlPattern = glob.replace("\\", "\\\\").replace("?", "\\?");
+        String key = type != null ? urlPattern + " " + type.getValue() : urlPattern;
+        if (patterns.containsKey(key)) {
+            return;
+        }
+        RequestPattern pattern = new RequestPattern();
+        pattern.setUrlPattern(urlPattern);
+        if (type != null) {
+            pattern.setResourceType(type.getValue());
+        }
+        patterns.put(key, pattern);
+    }
+
+    private static Rule parse(String line) {
+        String text = StringUtils.trimToEmpty(line);
+        if (text.isEmpty() || text.startsWith("!") || text.startsWith("[")) {
+            return null;
+        }
+        if (text.contains("##") || text.contains("#@#") || text.contains("#?#") || text.contains("#$#")) {
+            //元素隐藏规则
+            return null;
+        }
+        Rule rule = new Rule();
+        if (text.startsWith("@@")) {
+            rule.exception = true;
+            text = text.substring(2);
+        }
+        int index = text.lastIndexOf('$');
+        if (index >= 0) {
+            for(String option : text.substring(index + 1).toLowerCase().split(",")) {
+                option = option.trim();
+                Set<ResourceType> types = TYPE_OPTIONS.get(option);
+                if (types != null) {
+                    rule.types.addAll(types);
+                } else if (!"third-party".equals(option) && !"important".equals(option)) {
+                    return null;
+                }
+            }
+            text = text.substring(0, index);
+        }
+        rule.mask = mask(rule.types);
+        text = text.toLowerCase();
+        if (text.isEmpty() || "*".equals(text)) {
+            if (rule.exception || rule.types.isEmpty()) {
+                return null;
+            }
+            rule.kind = RuleKind.TYPE;
+            return rule;
+        }
+        if (text.length() > 1 && text.startsWith("/") && text.endsWith("/")) {
+            //正则规则
+            return null;
+        }
+        if (text.startsWith("||")) {
+            String host = StringUtils.removeEnd(text.substring(2), "^");
+            if (HOST.matcher(host).matches() && !host.startsWith(".") && !host.endsWith(".")) {
+                rule.kind = RuleKind.HOST;
+                rule.text = host;
+                rule.globs = Lists.newArrayList("*://" + host + "/*", "*://*." + host + "/*", "*://" + host + ":*", "*://*." + host + ":*");
+                return rule;
+            }
+        }
+        if (StringUtils.containsNone(text, '*', '^', '|')) {
+            rule.kind = RuleKind.SUBSTRING;
+            rule.text = text;
+            rule.globs = Lists.newArrayList("*" + text + "*");
+            return rule;
+        }
+        rule.kind = RuleKind.WILDCARD;
+        rule.text = text;
+        rule.host = anchorHost(text);
+        rule.regex = Pattern.compile(toRegex(text));
+        //带有^或者||的规则生成范围更大的模式, 暂停之后再由正则判断
+        String glob = StringUtils.removeStart(text, "||").replace('^', '*');
+        boolean start = text.startsWith("|") && !text.startsWith("||");
+        boolean end = text.endsWith("|") && text.length() > 1;
+        glob = StringUtils.removeEnd(StringUtils.removeStart(glob, "|"), "|").replace("|", "");
+        glob = (start ? "" : "*") + glob + (end ? "" : "*");
+        rule.globs = Lists.newArrayList(glob.replaceAll("\\*+", "*"));
+        return rule;
+    }
+
+    /**
+     * ||host或者|scheme://host开头的规则取出其中的域名, 没有锚定域名或者域名中带有通配符的返回null
+     */
+    private static String anchorHost(String text) {
+        int start;
+        if (text.startsWith("||")) {
+            start = 2;
+        } else if (text.startsWith("|") && text.indexOf("://") > 0) {
+            start = text.indexOf("://") + 3;
+        } else {
+            return null;
+        }
+        int end = start;
+        while (end < text.length() && "/^:|?".indexOf(text.charAt(end)) < 0) {
+            end++;
+        }
+        String host = text.substring(start, end);
+        return HOST.matcher(host).matches() ? host : null;
+    }
+
+    private static boolean isSameOrSubdomain(String host, String parent) {
+        return host.equals(parent) || host.endsWith("." + parent);
+    }
+
+    private static String toRegex(String text) {
+        StringBuilder sb = new StringBuilder();
+        int start = 0;
+        int end = text.length();
+        if (text.startsWith("||")) {
+            sb.append("^[a-z][a-z0-9+.\\-]*://([^/?#]*\\.)?");
+            start = 2;
+        } else if (text.startsWith("|")) {
+            sb.append('^');
+            start = 1;
+        }
+        boolean anchorEnd = end > start && text.charAt(end - 1) == '|';
+        if (anchorEnd) {
+            end--;
+        }
+        for(int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '*') {
+                sb.append(".*");
+            } else if (c == '^') {
+                sb.append("(?:[^a-z0-9_\\-.%]|$)");
+            } else {
+                sb.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        if (anchorEnd) {
+            sb.append('$');
+        }
+        return sb.toString();
+    }
+
+    private enum RuleKind {
+        TYPE,
+        HOST,
+        SUBSTRING,
+        WILDCARD,
+    }
+
+    private static class Rule {
+
+        private RuleKind kind;
+
+        private boolean exception;
+
+        private String text;
+
+        /**
+         * 通配符规则锚定的域名
+         */
+        private String host;
+
+        private Pattern regex;
+
+        private final Set<ResourceType> types = EnumSet.noneOf(ResourceType.class);
+
+        private int mask;
+
+        private List<String> globs;
+
+    }
+
+    private static class RuleSet {
+
+        private final HostTrie hosts = new HostTrie();
+
+        private final AhoCorasick substrings = new AhoCorasick();
+
+        private final List<Rule> wildcards = new ArrayList<>();
+
+        private final List<String> substringTexts = new ArrayList<>();
+
+        void add(Rule rule) {
+            switch (rule.kind) {
+                case HOST:
+                    hosts.add(rule.text, rule.mask);
+                    break;
+                case SUBSTRING:
+                    substrings.add(rule.text, rule.mask);
+                    substringTexts.add(rule.text);
+                    break;
+                default:
+                    wildcards.add(rule);
+            }
+        }
+
+        void build() {
+            substrings.build();
+        }
+
+        /**
+         * 是否有规则可能命中host或者它的子域名上的url, 不区分资源类型
+         */
+        boolean overlaps(String host) {
+            if (hosts.overlaps(host)) {
+                return true;
+            }
+            for(Rule rule : wildcards) {
+                if (rule.host != null) {
+                    if (isSameOrSubdomain(rule.host, host) || isSameOrSubdomain(host, rule.host)) {
+                        return true;
+                    }
+                } else if (rule.text.contains(host)) {
+                    return true;
+                }
+            }
+            for(String text : substringTexts) {
+                if (text.contains(host)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean matches(String url, String host, int bit) {
+            if (host != null && hosts.matches(host, bit)) {
+                return true;
+            }
+            if (substrings.matches(url, bit)) {
+                return true;
+            }
+            for(Rule rule : wildcards) {
+                if ((rule.mask == 0 || (rule.mask & bit) != 0) && rule.regex.matcher(url).find()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
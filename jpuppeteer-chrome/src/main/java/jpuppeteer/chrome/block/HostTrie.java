@@ -0,0 +1,79 @@
+package jpuppeteer.chrome.block;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 按域名后缀匹配的字典树, 以倒序的label为路径, 添加example.com之后a.example.com同样命中
+ */
+class HostTrie {
+
+    private final Node root = new Node();
+
+    private int size;
+
+    /**
+     * @param mask 规则限定的资源类型, 0表示所有类型
+     */
+    void add(String host, int mask) {
+        Node node = root;
+        String[] labels = host.split("\\.");
+        for(int i = labels.length - 1; i >= 0; i--) {
+            node = node.children.computeIfAbsent(labels[i], k -> new Node());
+        }
+        if (!node.terminal) {
+            size++;
+        }
+        node.terminal = true;
+        node.accept(mask);
+    }
+
+    boolean matches(String host, int typeBit) {
+        Node node = root;
+        int end = host.length();
+        while (end > 0) {
+            int start = host.lastIndexOf('.', end - 1);
+            node = node.children.get(host.substring(start + 1, end));
+            if (node == null) {
+                return false;
+            }
+            if (node.terminal && node.matches(typeBit)) {
+                return true;
+            }
+            end = start;
+        }
+        return false;
+    }
+
+    /**
+     * host或者它的上级域名在树中, 或者树中有host的子域名, 不区分资源类型
+     */
+    boolean overlaps(String host) {
+        Node node = root;
+        int end = host.length();
+        while (end > 0) {
+            int start = host.lastIndexOf('.', end - 1);
+            node = node.children.get(host.substring(start + 1, end));
+            if (node == null) {
+                return false;
+            }
+            if (node.terminal) {
+                return true;
+            }
+            end = start;
+        }
+        return !node.children.isEmpty();
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static class Node extends TypeMask {
+
+        private final Map<String, Node> children = new HashMap<>(4);
+
+        private boolean terminal;
+
+    }
+}
@@ -0,0 +1,38 @@
+package jpuppeteer.chrome.block;
+
+/**
+ * 规则限定的资源类型, 同一个节点上可能有多条规则, 任意一条命中即可
+ */
+class TypeMask {
+
+    /**
+     * 存在不限定资源类型的规则
+     */
+    private boolean any;
+
+    /**
+     * 限定了资源类型的规则的类型之和, 每个ResourceType占一位
+     */
+    private int mask;
+
+    void accept(int mask) {
+        if (mask == 0) {
+            any = true;
+        } else {
+            this.mask |= mask;
+        }
+    }
+
+    void merge(TypeMask other) {
+        any |= other.any;
+        mask |= other.mask;
+    }
+
+    boolean isEmpty() {
+        return !any && mask == 0;
+    }
+
+    boolean matches(int typeBit) {
+        return any || (mask & typeBit) != 0;
+    }
+}
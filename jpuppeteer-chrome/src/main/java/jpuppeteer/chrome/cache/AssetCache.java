@@ -0,0 +1,425 @@
+package jpuppeteer.chrome.cache;
+
+import com.google.common.base.Charsets;
+import jpuppeteer.api.constant.ResourceType;
+import jpuppeteer.cdp.BinaryPayload;
+import jpuppeteer.cdp.CDPMessage;
+import jpuppeteer.cdp.cdp.entity.fetch.FulfillRequestRequest;
+import jpuppeteer.cdp.cdp.entity.fetch.HeaderEntry;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 静态资源的进程内缓存, 在页面的拦截流程中使用: 命中的请求直接用Fetch.fulfillRequest返回, 没有命中的在响应阶段用Fetch.getResponseBody取出响应体存入缓存
+ * 响应体放在堆外(临时文件), 索引在java堆中, 超过容量之后按LRU淘汰, 索引以url加上Vary指定的请求头为key
+ * 遵循Cache-Control(no-store, private, no-cache, max-age, s-maxage), Expires以及Age, 过期之后带ETag/Last-Modified的响应用条件请求重新验证
+ * 同一个实例可以设置给本进程中任意多个浏览器的页面; 缓存不持久化, 不能在进程之间共享, close或者进程退出之后临时文件被删除
+ * 多个进程(比如每个进程connect同一个浏览器的多个worker)各自持有自己的缓存, 跨进程共享需要把索引放进映射文件并加文件锁, 目前没有支持
+ */
+public class AssetCache implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssetCache.class);
+
+    private static final Set<ResourceType> DEFAULT_TYPES = Collections.unmodifiableSet(EnumSet.of(ResourceType.SCRIPT, ResourceType.STYLESHEET, ResourceType.FONT, ResourceType.IMAGE));
+
+    /**
+     * 不保存的响应头, 取出的响应体已经解压, 长度和编码相关的头不再有效
+     */
+    private static final Set<String> SKIPPED_HEADERS = new HashSet<>(Arrays.asList("content-encoding", "content-length", "transfer-encoding", "connection", "keep-alive", "age"));
+
+    private final MappedStore store;
+
+    private final Set<ResourceType> resourceTypes;
+
+    private final int maxEntrySize;
+
+    /**
+     * 按访问顺序排列, 第一个是最久没有使用的
+     */
+    private final LinkedHashMap<String/*key*/, CachedResponse> entries;
+
+    private final Map<String/*url*/, Variants> variants;
+
+    private final AtomicLong hits;
+
+    private final AtomicLong misses;
+
+    private final AtomicLong revalidations;
+
+    private final AtomicLong evictions;
+
+    private boolean closed;
+
+    public AssetCache(File dir, long capacity) throws IOException {
+        this(dir, capacity, DEFAULT_TYPES.toArray(new ResourceType[0]));
+    }
+
+    /**
+     * @param dir 临时文件所在的目录, null表示系统临时目录, 每个实例创建自己的临时文件
+     * @param capacity 临时文件的大小(字节), 即缓存的容量
+     * @param types 缓存哪些类型的资源, 默认为脚本, 样式, 字体以及图片
+     */
+    public AssetCache(File dir, long capacity, ResourceType... types) throws IOException {
+        this.store = new MappedStore(dir, capacity);
+        this.resourceTypes = Collections.unmodifiableSet(types.length > 0 ? EnumSet.copyOf(Arrays.asList(types)) : EnumSet.noneOf(ResourceType.class));
+        //单个响应最多占用1/8的容量, 避免一个大文件把其他资源全部挤出去
+        this.maxEntrySize = (int) Math.min(Integer.MAX_VALUE, (long) store.totalBlocks() * MappedStore.BLOCK_SIZE / 8);
+        this.entries = new LinkedHashMap<>(256, 0.75f, true);
+        this.variants = new HashMap<>();
+        this.hits = new AtomicLong(0);
+        this.misses = new AtomicLong(0);
+        this.revalidations = new AtomicLong(0);
+        this.evictions = new AtomicLong(0);
+    }
+
+    public Set<ResourceType> resourceTypes() {
+        return resourceTypes;
+    }
+
+    public boolean accepts(String method, ResourceType type) {
+        return "GET".equalsIgnoreCase(method) && resourceTypes.contains(type);
+    }
+
+    /**
+     * @return 命中的响应, 可能已经过期, 需要调用方判断{@link CachedResponse#isFresh()}; 没有命中或者请求不允许使用缓存的时候返回null
+     */
+    public synchronized CachedResponse lookup(String url, Map<String, Object> requestHeaders) {
+        if (closed || bypass(requestHeaders)) {
+            misses.incrementAndGet();
+            return null;
+        }
+        Variants variant = variants.get(url);
+        CachedResponse cached = variant != null ? entries.get(key(url, variant.names, requestHeaders)) : null;
+        if (cached == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (cached.isFresh()) {
+            hits.incrementAndGet();
+        }
+        return cached;
+    }
+
+    /**
+     * 在取响应体之前判断, 不能缓存的响应就不用取了
+     */
+    public boolean isStorable(Map<String, Object> requestHeaders, int status, List<HeaderEntry> headers) {
+        return lifetime(requestHeaders, status, headers) >= 0;
+    }
+
+    /**
+     * @return 是否存入了缓存
+     */
+    public boolean store(String url, Map<String, Object> requestHeaders, int status, List<HeaderEntry> headers, byte[] body) {
+        return store(url, requestHeaders, status, headers, body.length, out -> out.write(body));
+    }
+
+    /**
+     * base64编码的响应体从Fetch.getResponseBody的原始消息直接解码到映射文件中, 不经过java堆; 文本响应体按UTF-8编码之后存入
+     * @return 是否存入了缓存
+     */
+    public boolean store(String url, Map<String, Object> requestHeaders, int status, List<HeaderEntry> headers, CDPMessage message) {
+        if (!BinaryPayload.getBoolean(message, BinaryPayload.BASE64_ENCODED)) {
+            String text = BinaryPayload.getString(message, BinaryPayload.BODY);
+            return text != null && store(url, requestHeaders, status, headers, text.getBytes(Charsets.UTF_8));
+        }
+        int length = BinaryPayload.decodedSize(message, BinaryPayload.BODY);
+        if (length < 0) {
+            return false;
+        }
+        return store(url, requestHeaders, status, headers, length, out -> BinaryPayload.decode(message, BinaryPayload.BODY, out));
+    }
+
+    /**
+     * 加锁分配块, 在锁外把响应体写进块中(解码可能很慢, 不能阻塞其他页面的lookup), 再加锁发布索引
+     */
+    private boolean store(String url, Map<String, Object> requestHeaders, int status, List<HeaderEntry> headers, int length, MappedStore.BlockWriter body) {
+        long lifetime = lifetime(requestHeaders, status, headers);
+        if (lifetime < 0 || length > maxEntrySize) {
+            return false;
+        }
+        int[] blocks = allocate(length);
+        if (blocks == null) {
+            return false;
+        }
+        try {
+            store.write(blocks, length, body);
+        } catch (IOException | RuntimeException e) {
+            //响应体解码失败, 释放已经分配的块
+            logger.warn("write cached response failed, url={}, error={}", url, e.getMessage());
+            synchronized (this) {
+                if (!closed) {
+                    store.free(blocks);
+                }
+            }
+            return false;
+        }
+        List<String> names = varyNames(headers);
+        String key = key(url, names, requestHeaders);
+        CachedResponse cached = new CachedResponse(url, key, status, length);
+        cached.blocks = blocks;
+        cached.update(filter(headers), System.currentTimeMillis() + lifetime);
+        return publish(cached, names);
+    }
+
+    /**
+     * 空间不足的时候按LRU淘汰
+     * @return 关闭或者容量不够的时候返回null
+     */
+    private synchronized int[] allocate(int length) {
+        if (closed) {
+            return null;
+        }
+        int needed = MappedStore.blocks(length);
+        Iterator<CachedResponse> iterator = entries.values().iterator();
+        while (store.freeBlocks() < needed && iterator.hasNext()) {
+            CachedResponse eldest = iterator.next();
+            iterator.remove();
+            remove(eldest);
+            evictions.incrementAndGet();
+        }
+        return store.allocate(length);
+    }
+
+    private synchronized boolean publish(CachedResponse cached, List<String> names) {
+        if (closed) {
+            //close之后映射文件已经删除, 块不需要再释放
+            return false;
+        }
+        Variants variant = variants.get(cached.getUrl());
+        if (variant != null && !variant.names.equals(names)) {
+            //Vary变化之后以前的变体都无法再命中
+            for(String key : new ArrayList<>(variant.keys)) {
+                remove(entries.remove(key));
+            }
+        }
+        //写入期间同一个key可能已经被别的页面存入, 用新的替换
+        remove(entries.remove(cached.getKey()));
+        entries.put(cached.getKey(), cached);
+        variants.computeIfAbsent(cached.getUrl(), k -> new Variants(names)).keys.add(cached.getKey());
+        return true;
+    }
+
+    /**
+     * 条件请求返回304之后用新的响应头刷新过期时间
+     * @return 已经被淘汰的返回null
+     */
+    public synchronized CachedResponse revalidated(CachedResponse cached, List<HeaderEntry> headers) {
+        if (closed || cached.evicted) {
+            return null;
+        }
+        List<HeaderEntry> merged = new ArrayList<>(cached.getHeaders());
+        for(HeaderEntry header : filter(headers)) {
+            merged.removeIf(h -> h.getName().equalsIgnoreCase(header.getName()));
+            merged.add(header);
+        }
+        long lifetime = CacheControl.freshness(CacheControl.parse(CacheControl.header(merged, "Cache-Control")), merged, System.currentTimeMillis());
+        cached.update(merged, System.currentTimeMillis() + lifetime);
+        revalidations.incrementAndGet();
+        return cached;
+    }
+
+    /**
+     * 在原始请求头的基础上加上If-None-Match/If-Modified-Since
+     */
+    public List<HeaderEntry> conditionalHeaders(CachedResponse cached, Map<String, Object> requestHeaders) {
+        List<HeaderEntry> headers = new ArrayList<>();
+        if (requestHeaders != null) {
+            for(Map.Entry<String, Object> entry : requestHeaders.entrySet()) {
+                headers.add(entry(entry.getKey(), String.valueOf(entry.getValue())));
+            }
+        }
+        if (cached.getEtag() != null) {
+            headers.add(entry("If-None-Match", cached.getEtag()));
+        }
+        if (cached.getLastModified() != null) {
+            headers.add(entry("If-Modified-Since", cached.getLastModified()));
+        }
+        return headers;
+    }
+
+    /**
+     * @return 响应已经被淘汰的时候返回null
+     */
+    public FulfillRequestRequest buildFulfillRequest(String interceptorId, CachedResponse cached) {
+        byte[] body;
+        synchronized (this) {
+            if (closed || cached.evicted) {
+                return null;
+            }
+            body = store.read(cached.blocks, cached.getLength());
+        }
+        List<HeaderEntry> headers = new ArrayList<>(cached.getHeaders());
+        headers.add(entry("Content-Length", String.valueOf(body.length)));
+        FulfillRequestRequest request = new FulfillRequestRequest();
+        request.setRequestId(interceptorId);
+        request.setResponseCode(cached.getStatus());
+        request.setResponseHeaders(headers);
+        request.setBody(new String(Base64.getEncoder().encode(body), Charsets.UTF_8));
+        return request;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long usedBytes() {
+        return (long) (store.totalBlocks() - store.freeBlocks()) * MappedStore.BLOCK_SIZE;
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    public long missCount() {
+        return misses.get();
+    }
+
+    public long revalidationCount() {
+        return revalidations.get();
+    }
+
+    public long evictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * 关闭之后所有的请求都不再命中, 缓存文件被删除
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for(CachedResponse cached : entries.values()) {
+            cached.evicted = true;
+        }
+        entries.clear();
+        variants.clear();
+        store.close();
+    }
+
+    private void remove(CachedResponse cached) {
+        if (cached == null) {
+            return;
+        }
+        cached.evicted = true;
+        store.free(cached.blocks);
+        Variants variant = variants.get(cached.getUrl());
+        if (variant != null) {
+            variant.keys.remove(cached.getKey());
+            if (variant.keys.isEmpty()) {
+                variants.remove(cached.getUrl());
+            }
+        }
+    }
+
+    /**
+     * @return 可以新鲜多久(毫秒), 不能缓存的返回-1
+     */
+    private static long lifetime(Map<String, Object> requestHeaders, int status, List<HeaderEntry> headers) {
+        if (status != 200 || bypass(requestHeaders)) {
+            return -1;
+        }
+        Map<String, String> directives = CacheControl.parse(CacheControl.header(headers, "Cache-Control"));
+        if (directives.containsKey("no-store") || directives.containsKey("private")) {
+            return -1;
+        }
+        //带Set-Cookie的响应不能放进共享缓存
+        if (CacheControl.header(headers, "Set-Cookie") != null || varyNames(headers).contains("*")) {
+            return -1;
+        }
+        long lifetime = CacheControl.freshness(directives, headers, System.currentTimeMillis());
+        if (lifetime <= 0 && CacheControl.header(headers, "ETag") == null && CacheControl.header(headers, "Last-Modified") == null) {
+            //既不新鲜也不能重新验证
+            return -1;
+        }
+        return lifetime;
+    }
+
+    /**
+     * 请求明确要求不使用缓存, 带认证信息或者只请求部分内容的时候不经过缓存
+     */
+    private static boolean bypass(Map<String, Object> requestHeaders) {
+        Map<String, String> directives = CacheControl.parse(CacheControl.header(requestHeaders, "Cache-Control"));
+        return directives.containsKey("no-cache") || directives.containsKey("no-store")
+                || StringUtils.containsIgnoreCase(CacheControl.header(requestHeaders, "Pragma"), "no-cache")
+                || CacheControl.header(requestHeaders, "Authorization") != null
+                || CacheControl.header(requestHeaders, "Range") != null;
+    }
+
+    private static List<String> varyNames(List<HeaderEntry> headers) {
+        String vary = CacheControl.header(headers, "Vary");
+        if (StringUtils.isBlank(vary)) {
+            return Collections.emptyList();
+        }
+        List<String> names = new ArrayList<>();
+        for(String name : vary.split(",")) {
+            if (StringUtils.isNotBlank(name)) {
+                names.add(name.trim().toLowerCase());
+            }
+        }
+        Collections.sort(names);
+        return names;
+    }
+
+    private static String key(String url, List<String> names, Map<String, Object> requestHeaders) {
+        if (names.isEmpty()) {
+            return url;
+        }
+        StringBuilder sb = new StringBuilder(url);
+        for(String name : names) {
+            sb.append('\n').append(name).append(':').append(StringUtils.defaultString(CacheControl.header(requestHeaders, name)));
+        }
+        return sb.toString();
+    }
+
+    private static List<HeaderEntry> filter(List<HeaderEntry> headers) {
+        List<HeaderEntry> filtered = new ArrayList<>();
+        if (headers != null) {
+            for(HeaderEntry header : headers) {
+                if (!SKIPPED_HEADERS.contains(header.getName().toLowerCase())) {
+                    filtered.add(header);
+                }
+            }
+        }
+        return filtered;
+    }
+
+    private static HeaderEntry entry(String name, String value) {
+        HeaderEntry entry = new HeaderEntry();
+        entry.setName(name);
+        entry.setValue(value);
+        return entry;
+    }
+
+    private static class Variants {
+
+        private final List<String> names;
+
+        private final Set<String> keys;
+
+        Variants(List<String> names) {
+            this.names = names;
+            this.keys = new HashSet<>();
+        }
+    }
+}
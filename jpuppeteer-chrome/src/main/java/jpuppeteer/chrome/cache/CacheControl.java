@@ -0,0 +1,105 @@
+package jpuppeteer.chrome.cache;
+
+import jpuppeteer.cdp.cdp.entity.fetch.HeaderEntry;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按照RFC 7234计算共享缓存中响应的新鲜度
+ */
+class CacheControl {
+
+    /**
+     * 没有显式过期时间时按Last-Modified估算, 最多1天
+     */
+    private static final long HEURISTIC_MAX = TimeUnit.DAYS.toMillis(1);
+
+    static Map<String, String> parse(String value) {
+        Map<String, String> directives = new HashMap<>();
+        if (StringUtils.isEmpty(value)) {
+            return directives;
+        }
+        for(String item : value.split(",")) {
+            String[] kv = item.split("=", 2);
+            String name = kv[0].trim().toLowerCase();
+            if (name.isEmpty()) {
+                continue;
+            }
+            directives.put(name, kv.length > 1 ? StringUtils.strip(kv[1].trim(), "\"") : "");
+        }
+        return directives;
+    }
+
+    static String header(List<HeaderEntry> headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        for(HeaderEntry header : headers) {
+            if (name.equalsIgnoreCase(header.getName())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    static String header(Map<String, Object> headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        for(Map.Entry<String, Object> entry : headers.entrySet()) {
+            if (name.equalsIgnoreCase(entry.getKey())) {
+                return entry.getValue() != null ? entry.getValue().toString() : null;
+            }
+        }
+        return null;
+    }
+
+    static Long parseDate(String value) {
+        if (StringUtils.isEmpty(value)) {
+            return null;
+        }
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return 响应从现在开始还能新鲜多久(毫秒), 需要重新验证的返回0
+     */
+    static long freshness(Map<String, String> directives, List<HeaderEntry> headers, long now) {
+        if (directives.containsKey("no-cache")) {
+            return 0;
+        }
+        long age = TimeUnit.SECONDS.toMillis(NumberUtils.toLong(header(headers, "Age"), 0));
+        //共享缓存优先使用s-maxage
+        String maxAge = directives.containsKey("s-maxage") ? directives.get("s-maxage") : directives.get("max-age");
+        if (maxAge != null) {
+            return Math.max(0, TimeUnit.SECONDS.toMillis(NumberUtils.toLong(maxAge, 0)) - age);
+        }
+        Long date = parseDate(header(headers, "Date"));
+        if (date == null) {
+            date = now;
+        }
+        String expires = header(headers, "Expires");
+        if (expires != null) {
+            //非法的Expires(比如0)视为已经过期
+            Long time = parseDate(expires);
+            return time == null ? 0 : Math.max(0, time - date - age);
+        }
+        Long lastModified = parseDate(header(headers, "Last-Modified"));
+        if (lastModified != null && lastModified < date) {
+            return Math.max(0, Math.min((date - lastModified) / 10, HEURISTIC_MAX) - age);
+        }
+        return 0;
+    }
+}
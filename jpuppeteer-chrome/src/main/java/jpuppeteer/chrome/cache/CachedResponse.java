@@ -0,0 +1,58 @@
+package jpuppeteer.chrome.cache;
+
+import jpuppeteer.cdp.cdp.entity.fetch.HeaderEntry;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CachedResponse {
+
+    private final String url;
+
+    private final String key;
+
+    private final int status;
+
+    private final int length;
+
+    private volatile List<HeaderEntry> headers;
+
+    /**
+     * 过期时间(毫秒时间戳)
+     */
+    private volatile long expires;
+
+    private volatile String etag;
+
+    private volatile String lastModified;
+
+    @Getter(AccessLevel.NONE)
+    int[] blocks;
+
+    @Getter(AccessLevel.NONE)
+    boolean evicted;
+
+    CachedResponse(String url, String key, int status, int length) {
+        this.url = url;
+        this.key = key;
+        this.status = status;
+        this.length = length;
+    }
+
+    void update(List<HeaderEntry> headers, long expires) {
+        this.headers = headers;
+        this.expires = expires;
+        this.etag = CacheControl.header(headers, "ETag");
+        this.lastModified = CacheControl.header(headers, "Last-Modified");
+    }
+
+    public boolean isFresh() {
+        return System.currentTimeMillis() < expires;
+    }
+
+    public boolean hasValidators() {
+        return etag != null || lastModified != null;
+    }
+}
@@ -0,0 +1,194 @@
+package jpuppeteer.chrome.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * 堆外的定长块存储, 临时文件按BLOCK_SIZE切成块, 每个响应体占用若干个不连续的块
+ * 映射文件只是为了把数据放到java堆外, 由操作系统的页缓存管理; 文件是本进程私有的临时文件, 不持久化, 块的分配信息只在内存中
+ * 块的分配, 释放和读取非线程安全, 由调用方加锁; 写入已经分配的块只访问这些块, 不需要加锁
+ */
+class MappedStore {
+
+    static final int BLOCK_SIZE = 4096;
+
+    /**
+     * 单个MappedByteBuffer不能超过2G, 默认按1G分段映射, BLOCK_SIZE整除段的大小, 一个块不会跨段
+     */
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    private final long segmentSize;
+
+    private final File file;
+
+    private final RandomAccessFile raf;
+
+    private final MappedByteBuffer[] segments;
+
+    /**
+     * 空闲块的栈
+     */
+    private final int[] free;
+
+    private int freeCount;
+
+    MappedStore(File dir, long capacity) throws IOException {
+        this(dir, capacity, SEGMENT_SIZE);
+    }
+
+    /**
+     * @param segmentSize 每段映射的大小, 必须是BLOCK_SIZE的整数倍
+     */
+    MappedStore(File dir, long capacity, long segmentSize) throws IOException {
+        long blocks = capacity / BLOCK_SIZE;
+        if (blocks <= 0 || blocks > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("invalid capacity " + capacity);
+        }
+        if (segmentSize <= 0 || segmentSize % BLOCK_SIZE != 0 || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("invalid segment size " + segmentSize);
+        }
+        this.segmentSize = segmentSize;
+        long size = blocks * BLOCK_SIZE;
+        this.file = File.createTempFile("jpuppeteer-cache-", ".dat", dir);
+        this.file.deleteOnExit();
+        this.raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(size);
+            FileChannel channel = raf.getChannel();
+            this.segments = new MappedByteBuffer[(int) ((size + segmentSize - 1) / segmentSize)];
+            for(int i = 0; i < segments.length; i++) {
+                long offset = i * segmentSize;
+                segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, offset, Math.min(segmentSize, size - offset));
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+        this.free = new int[(int) blocks];
+        for(int i = 0; i < free.length; i++) {
+            free[i] = free.length - 1 - i;
+        }
+        this.freeCount = free.length;
+    }
+
+    static int blocks(int length) {
+        return (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    }
+
+    int freeBlocks() {
+        return freeCount;
+    }
+
+    int totalBlocks() {
+        return free.length;
+    }
+
+    interface BlockWriter {
+
+        void write(OutputStream out) throws IOException;
+
+    }
+
+    /**
+     * 分配能放下length字节的块
+     * @return 空间不足的时候返回null
+     */
+    int[] allocate(int length) {
+        int n = blocks(length);
+        if (n > freeCount) {
+            return null;
+        }
+        int[] blocks = new int[n];
+        for(int i = 0; i < n; i++) {
+            blocks[i] = free[--freeCount];
+        }
+        return blocks;
+    }
+
+    /**
+     * 由writer直接写到{@link #allocate(int)}分配好的块中, 数据不需要先放在java堆上
+     * 失败的时候块不会被释放, 由调用方在加锁之后释放
+     * @throws IOException writer写入的字节数超过length
+     */
+    void write(int[] blocks, int length, BlockWriter writer) throws IOException {
+        writer.write(new BlocksOutputStream(blocks, length));
+    }
+
+    byte[] read(int[] blocks, int length) {
+        byte[] data = new byte[length];
+        for(int i = 0; i < blocks.length; i++) {
+            int offset = i * BLOCK_SIZE;
+            slice(blocks[i]).get(data, offset, Math.min(BLOCK_SIZE, length - offset));
+        }
+        return data;
+    }
+
+    void free(int[] blocks) {
+        for(int block : blocks) {
+            free[freeCount++] = block;
+        }
+    }
+
+    private ByteBuffer slice(int block) {
+        long position = (long) block * BLOCK_SIZE;
+        ByteBuffer buffer = segments[(int) (position / segmentSize)].duplicate();
+        buffer.position((int) (position % segmentSize));
+        return buffer;
+    }
+
+    /**
+     * 按顺序写到分配好的块中
+     */
+    private class BlocksOutputStream extends OutputStream {
+
+        private final int[] blocks;
+
+        private final int length;
+
+        private int position;
+
+        BlocksOutputStream(int[] blocks, int length) {
+            this.blocks = blocks;
+            this.length = length;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] data, int offset, int count) throws IOException {
+            if (count > length - position) {
+                throw new IOException("write beyond allocated length " + length);
+            }
+            while (count > 0) {
+                int inBlock = position % BLOCK_SIZE;
+                int n = Math.min(count, BLOCK_SIZE - inBlock);
+                ByteBuffer buffer = slice(blocks[position / BLOCK_SIZE]);
+                buffer.position(buffer.position() + inBlock);
+                buffer.put(data, offset, n);
+                position += n;
+                offset += n;
+                count -= n;
+            }
+        }
+    }
+
+    /**
+     * java8没有办法主动解除映射, 文件删除之后映射在gc的时候释放
+     */
+    void close() {
+        try {
+            raf.close();
+        } catch (IOException e) {
+            //ignore
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,337 @@
+package jpuppeteer.chrome.cluster;
+
+import jpuppeteer.api.util.HashedWheelTimer;
+import jpuppeteer.chrome.ChromeBrowser;
+import jpuppeteer.chrome.ChromeContext;
+import jpuppeteer.chrome.ChromeLauncher;
+import jpuppeteer.chrome.ChromePage;
+import jpuppeteer.chrome.constant.IsolationMode;
+import jpuppeteer.chrome.constant.PageProfile;
+import jpuppeteer.chrome.event.type.ChromePageEvent;
+import jpuppeteer.chrome.pool.BrowserPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 类似puppeteer-cluster的任务调度器, 任务排队之后由固定数量的工作线程执行
+ * 页面从负载最低的浏览器上借出, 每个浏览器同时打开的页面不超过maxConcurrency
+ * 执行过程中页面崩溃(TARGETCRASHED)的任务会重试, 超时的任务以TimeoutException结束
+ */
+public class Cluster implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(Cluster.class);
+
+    private static final HashedWheelTimer TIMER = new HashedWheelTimer("Cluster-Timer");
+
+    private final IsolationMode mode;
+
+    private final ChromeLauncher launcher;
+
+    private final String[] args;
+
+    /**
+     * BROWSER模式下每个任务单独启动浏览器, 不使用浏览器池
+     */
+    private final BrowserPool pool;
+
+    private final ThreadPoolExecutor executor;
+
+    private volatile long timeout;
+
+    private volatile int retries;
+
+    private volatile boolean closed;
+
+    private final AtomicInteger running;
+
+    private final AtomicLong completed;
+
+    private final AtomicLong failed;
+
+    private final AtomicLong retried;
+
+    private final AtomicLong totalLatency;
+
+    private final AtomicLong totalQueueTime;
+
+    /**
+     * @param browsers 启动多少个浏览器, BROWSER模式下为同时运行的浏览器数量
+     * @param maxConcurrency 每个浏览器同时执行的任务数量, BROWSER模式下忽略
+     */
+    public Cluster(ChromeLauncher launcher, IsolationMode mode, int browsers, int maxConcurrency, String... args) throws Exception {
+        if (browsers <= 0 || maxConcurrency <= 0) {
+            throw new IllegalArgumentException("browsers and maxConcurrency must be positive");
+        }
+        this.mode = mode;
+        this.launcher = launcher;
+        this.args = args;
+        int workers;
+        if (mode == IsolationMode.BROWSER) {
+            this.pool = null;
+            workers = browsers;
+        } else {
+            this.pool = new BrowserPool(launcher, browsers, args);
+            this.pool.setMaxLeases(maxConcurrency);
+            workers = browsers * maxConcurrency;
+        }
+        AtomicInteger counter = new AtomicInteger(0);
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "Cluster-Worker-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timeout = TimeUnit.SECONDS.toMillis(ChromeBrowser.DEFAULT_TIMEOUT);
+        this.retries = 1;
+        this.running = new AtomicInteger(0);
+        this.completed = new AtomicLong(0);
+        this.failed = new AtomicLong(0);
+        this.retried = new AtomicLong(0);
+        this.totalLatency = new AtomicLong(0);
+        this.totalQueueTime = new AtomicLong(0);
+    }
+
+    /**
+     * @param timeout 每个任务(每次尝试)的执行时间上限, 0表示不限制, 默认30s
+     */
+    public void setTimeout(long timeout, TimeUnit unit) {
+        this.timeout = unit.toMillis(timeout);
+    }
+
+    /**
+     * @param retries 页面崩溃之后最多重试几次, 默认1次
+     */
+    public void setRetries(int retries) {
+        this.retries = retries;
+    }
+
+    public BrowserPool browserPool() {
+        return pool;
+    }
+
+    public <T> CompletableFuture<T> submit(Task<T> task) {
+        if (closed) {
+            throw new IllegalStateException("cluster closed");
+        }
+        Job<T> job = new Job<>(task);
+        executor.execute(job);
+        return job.future;
+    }
+
+    /**
+     * 排队等待执行的任务数量
+     */
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int runningCount() {
+        return running.get();
+    }
+
+    public long completedCount() {
+        return completed.get();
+    }
+
+    public long failedCount() {
+        return failed.get();
+    }
+
+    public long retriedCount() {
+        return retried.get();
+    }
+
+    /**
+     * 已结束任务从提交到结束的平均耗时
+     */
+    public long averageLatency(TimeUnit unit) {
+        long count = completed.get() + failed.get();
+        return count == 0 ? 0 : unit.convert(totalLatency.get() / count, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 已结束任务从提交到第一次开始执行的平均排队时间
+     */
+    public long averageQueueTime(TimeUnit unit) {
+        long count = completed.get() + failed.get();
+        return count == 0 ? 0 : unit.convert(totalQueueTime.get() / count, TimeUnit.NANOSECONDS);
+    }
+
+    private Lease acquire() throws Exception {
+        switch (mode) {
+            case PAGE: {
+                ChromePage page = pool.acquirePage();
+                return new Lease(page, () -> pool.release(page));
+            }
+            case CONTEXT: {
+                ChromeContext context = pool.acquireContext(PageProfile.FULL, ChromeBrowser.DEFAULT_TIMEOUT, TimeUnit.SECONDS);
+                try {
+                    return new Lease(context.newPage(), () -> pool.release(context));
+                } catch (Exception e) {
+                    pool.release(context);
+                    throw e;
+                }
+            }
+            case BROWSER: {
+                ChromeBrowser browser = launcher.launch(args);
+                try {
+                    return new Lease(browser.defaultContext().newPage(), browser::close);
+                } catch (Exception e) {
+                    browser.close();
+                    throw e;
+                }
+            }
+            default:
+                throw new IllegalArgumentException("unknown isolation mode " + mode);
+        }
+    }
+
+    /**
+     * 等待正在执行的任务结束, 排队中的任务以CancellationException结束
+     * 等待期间被中断的时候不再等待, 保留中断标记之后继续关闭浏览器池
+     */
+    @Override
+    public void close() {
+        closed = true;
+        List<Runnable> queued = new ArrayList<>();
+        executor.getQueue().drainTo(queued);
+        executor.shutdown();
+        for(Runnable runnable : queued) {
+            ((Job<?>) runnable).future.completeExceptionally(new CancellationException("cluster closed"));
+        }
+        try {
+            executor.awaitTermination(ChromeBrowser.DEFAULT_TIMEOUT, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    private static class Lease {
+
+        private final ChromePage page;
+
+        private final Runnable release;
+
+        Lease(ChromePage page, Runnable release) {
+            this.page = page;
+            this.release = release;
+        }
+    }
+
+    private class Job<T> implements Runnable {
+
+        private final Task<T> task;
+
+        private final CompletableFuture<T> future;
+
+        private final long submitTime;
+
+        private int attempts;
+
+        Job(Task<T> task) {
+            this.task = task;
+            this.future = new CompletableFuture<>();
+            this.submitTime = System.nanoTime();
+        }
+
+        @Override
+        public void run() {
+            if (future.isDone()) {
+                //调用方已经取消
+                return;
+            }
+            if (attempts == 0) {
+                totalQueueTime.addAndGet(System.nanoTime() - submitTime);
+            }
+            attempts++;
+            running.incrementAndGet();
+            Thread worker = Thread.currentThread();
+            AtomicBoolean finished = new AtomicBoolean(false);
+            AtomicBoolean crashed = new AtomicBoolean(false);
+            //只能在本次执行结束之前中断, 否则会中断线程上的下一个任务
+            Runnable interrupt = () -> {
+                synchronized (finished) {
+                    if (!finished.get()) {
+                        worker.interrupt();
+                    }
+                }
+            };
+            HashedWheelTimer.Timeout timer = null;
+            Lease lease = null;
+            boolean retry = false;
+            try {
+                lease = acquire();
+                lease.page.addListener(ChromePageEvent.CRASHED, (Consumer<Object>) event -> {
+                    crashed.set(true);
+                    //崩溃之后页面上的调用要等到超时才会返回, 直接中断
+                    interrupt.run();
+                });
+                long timeout = Cluster.this.timeout;
+                if (timeout > 0) {
+                    timer = TIMER.newTimeout(() -> {
+                        if (future.completeExceptionally(new TimeoutException("task timeout after " + timeout + "ms"))) {
+                            interrupt.run();
+                        }
+                    }, timeout, TimeUnit.MILLISECONDS);
+                }
+                future.complete(task.execute(lease.page));
+            } catch (Throwable t) {
+                if (crashed.get() && attempts <= retries && !future.isDone() && !closed) {
+                    retry = true;
+                    logger.warn("page crashed, retry task, attempts={}", attempts);
+                } else {
+                    future.completeExceptionally(t);
+                }
+            } finally {
+                synchronized (finished) {
+                    finished.set(true);
+                    //清除中断标记, 线程还要继续执行其他任务
+                    Thread.interrupted();
+                }
+                if (timer != null) {
+                    timer.cancel();
+                }
+                if (lease != null) {
+                    try {
+                        lease.release.run();
+                    } catch (Exception e) {
+                        logger.warn("release page failed, error={}", e.getMessage(), e);
+                    }
+                }
+                running.decrementAndGet();
+            }
+            if (retry) {
+                retried.incrementAndGet();
+                try {
+                    executor.execute(this);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    //重试之前集群已经关闭
+                    future.completeExceptionally(new CancellationException("cluster closed"));
+                }
+            }
+            if (future.isCompletedExceptionally()) {
+                failed.incrementAndGet();
+            } else {
+                completed.incrementAndGet();
+            }
+            totalLatency.addAndGet(System.nanoTime() - submitTime);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package jpuppeteer.chrome.cluster;
+
+import jpuppeteer.chrome.ChromePage;
+
+@FunctionalInterface
+public interface Task<T> {
+
+    /**
+     * 在借出的页面上执行任务, 执行完之后页面由集群负责关闭, 不要在任务中保留页面的引用
+     */
+    T execute(ChromePage page) throws Exception;
+
+}
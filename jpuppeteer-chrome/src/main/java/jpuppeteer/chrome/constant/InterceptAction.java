@@ -0,0 +1,28 @@
+package jpuppeteer.chrome.constant;
+
+/**
+ * 拦截处理器对暂停请求的处理方式
+ */
+public enum InterceptAction {
+
+    /**
+     * 不处理, 交给下一个处理器
+     */
+    NEXT,
+
+    /**
+     * 放行, 可以修改url, method, header以及postData
+     */
+    CONTINUE,
+
+    /**
+     * 终止请求
+     */
+    ABORT,
+
+    /**
+     * 不发出请求, 直接返回指定的响应
+     */
+    FULFILL,
+    ;
+}
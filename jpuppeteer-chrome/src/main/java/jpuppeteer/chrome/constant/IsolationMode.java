@@ -0,0 +1,23 @@
+package jpuppeteer.chrome.constant;
+
+/**
+ * 集群中任务之间的隔离级别
+ */
+public enum IsolationMode {
+
+    /**
+     * 每个任务一个新页面, 同一个浏览器上的任务共享cookie和缓存
+     */
+    PAGE,
+
+    /**
+     * 每个任务一个新的context(无痕窗口), 任务之间互不影响
+     */
+    CONTEXT,
+
+    /**
+     * 每个任务单独启动一个浏览器, 隔离最彻底, 开销也最大
+     */
+    BROWSER,
+    ;
+}
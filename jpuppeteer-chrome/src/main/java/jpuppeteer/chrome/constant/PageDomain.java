@@ -0,0 +1,47 @@
+package jpuppeteer.chrome.constant;
+
+import jpuppeteer.chrome.event.type.ChromePageEvent;
+
+/**
+ * 页面需要enable的domain
+ */
+public enum PageDomain {
+
+    PAGE,
+    LIFECYCLE,
+    RUNTIME,
+    NETWORK,
+    LOG,
+    DOM,
+    ;
+
+    /**
+     * 监听此事件需要enable的domain, 不需要的返回null
+     */
+    public static PageDomain of(ChromePageEvent event) {
+        switch (event) {
+            case FRAMEATTACHED:
+            case FRAMEDETACHED:
+            case FRAMENAVIGATED:
+            case DOMCONTENTLOADED:
+            case LOAD:
+            case DIALOG:
+                return PAGE;
+            case LIFECYCLEEVENT:
+                return LIFECYCLE;
+            case PAGEERROR:
+                return RUNTIME;
+            case RESPONSE:
+            case REQUESTFAILED:
+            case REQUESTFINISHED:
+                return NETWORK;
+            case REQUEST:
+                //开启拦截之后由Fetch产生, 否则由Network产生
+                return NETWORK;
+            case CONSOLE:
+                return LOG;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package jpuppeteer.chrome.constant;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 创建页面的时候enable哪些domain, 其他的domain在第一次添加对应事件的listener的时候才enable
+ */
+public enum PageProfile {
+
+    /**
+     * 只能导航和执行脚本
+     */
+    MINIMAL(EnumSet.of(PageDomain.PAGE, PageDomain.RUNTIME)),
+
+    /**
+     * 抓取页面, 需要等待页面加载完成以及获取响应
+     */
+    SCRAPE(EnumSet.of(PageDomain.PAGE, PageDomain.LIFECYCLE, PageDomain.RUNTIME, PageDomain.NETWORK)),
+
+    /**
+     * 默认, 全部enable
+     */
+    FULL(EnumSet.allOf(PageDomain.class)),
+    ;
+
+    private final Set<PageDomain> domains;
+
+    PageProfile(Set<PageDomain> domains) {
+        this.domains = Collections.unmodifiableSet(domains);
+    }
+
+    public Set<PageDomain> domains() {
+        return domains;
+    }
+}
@@ -26,6 +26,8 @@ import org.slf4j.LoggerFactory;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import static jpuppeteer.chrome.ChromeBrowser.DEFAULT_TIMEOUT;
 
@@ -65,7 +67,7 @@ public class Request implements jpuppeteer.api.browser.Request {
     @Setter
     private Response response;
 
-    private String interceptorId;
+    private volatile String interceptorId;
 
     static {
         STATUS_TEXT = new HashMap<>();
@@ -188,25 +190,63 @@ public class Request implements jpuppeteer.api.browser.Request {
         return url;
     }
 
+    /**
+     * 取出拦截ID并置空, 保证同一个请求只会被放行/终止/完成一次
+     */
+    private synchronized String claim() {
+        String id = this.interceptorId;
+        this.interceptorId = null;
+        return id;
+    }
+
+    private static CompletionStage<Void> done() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static List<HeaderEntry> toEntries(List<Header> headers) {
+        List<HeaderEntry> entries = new ArrayList<>(headers.size());
+        for(Header header : headers) {
+            HeaderEntry entry = new HeaderEntry();
+            entry.setName(header.getName());
+            entry.setValue(StringUtils.join(header.getValues(), System.lineSeparator()));
+            entries.add(entry);
+        }
+        return entries;
+    }
+
     @Override
     public void abort() throws Exception {
+        abortAsync(ErrorReason.ABORTED).toCompletableFuture().get();
+    }
+
+    /**
+     * 异步终止请求, 不等待浏览器的响应, 可以在事件线程上调用
+     */
+    public CompletionStage<Void> abortAsync(ErrorReason errorReason) {
+        String interceptorId = claim();
         if (StringUtils.isEmpty(interceptorId)) {
             logger.warn("interceptorId undefined, requestId={}", requestId);
-            return;
+            return done();
         }
         FailRequestRequest request = new FailRequestRequest();
         request.setRequestId(interceptorId);
-        request.setErrorReason(ErrorReason.ABORTED.getValue());
-        fetch.failRequest(request, DEFAULT_TIMEOUT);
-        //终止请求成功之后, 置空拦截ID
-        this.interceptorId = null;
+        request.setErrorReason((errorReason != null ? errorReason : ErrorReason.ABORTED).getValue());
+        return fetch.failRequestAsync(request, DEFAULT_TIMEOUT);
     }
 
     @Override
     public void continues(jpuppeteer.api.browser.Request request) throws Exception {
+        continuesAsync(request).toCompletableFuture().get();
+    }
+
+    /**
+     * 异步放行请求, 不等待浏览器的响应, 可以在事件线程上调用
+     */
+    public CompletionStage<Void> continuesAsync(jpuppeteer.api.browser.Request request) {
+        String interceptorId = claim();
         if (StringUtils.isEmpty(interceptorId)) {
             logger.warn("interceptorId undefined, requestId={}", requestId);
-            return;
+            return done();
         }
         ContinueRequestRequest req = new ContinueRequestRequest();
         req.setRequestId(interceptorId);
@@ -221,55 +261,36 @@ public class Request implements jpuppeteer.api.browser.Request {
                 req.setPostData(request.postData());
             }
             if (CollectionUtils.isNotEmpty(request.headers())) {
-                List<HeaderEntry> entries = new ArrayList<>();
-                for (Header header : request.headers()) {
-                    HeaderEntry entry = new HeaderEntry();
-                    entry.setName(header.getName());
-                    entry.setValue(StringUtils.join(header.getValues(), System.lineSeparator()));
-                    entries.add(entry);
-                }
-                req.setHeaders(entries);
+                req.setHeaders(toEntries(request.headers()));
             }
         }
-        fetch.continueRequest(req, DEFAULT_TIMEOUT);
-        //放行请求成功之后, 置空拦截ID
-        this.interceptorId = null;
+        return fetch.continueRequestAsync(req, DEFAULT_TIMEOUT);
     }
 
     @Override
     public void respond(int statusCode, List<Header> headers, byte[] body) throws Exception {
-        if (StringUtils.isEmpty(interceptorId)) {
-            logger.warn("interceptorId undefined, requestId={}", requestId);
-            return;
-        }
+        respondAsync(statusCode, headers, body).toCompletableFuture().get();
+    }
+
+    /**
+     * 异步完成请求, 不等待浏览器的响应, 可以在事件线程上调用
+     */
+    public CompletionStage<Void> respondAsync(int statusCode, List<Header> headers, byte[] body) {
         if (!STATUS_TEXT.containsKey(statusCode)) {
             throw new RuntimeException("unknown statusCode " + statusCode);
         }
+        String interceptorId = claim();
+        if (StringUtils.isEmpty(interceptorId)) {
+            logger.warn("interceptorId undefined, requestId={}", requestId);
+            return done();
+        }
         FulfillRequestRequest request = new FulfillRequestRequest();
         request.setRequestId(interceptorId);
         request.setResponseCode(statusCode);
         request.setResponsePhrase(STATUS_TEXT.get(statusCode));
         Charset encoding = Charsets.UTF_8;
         if (CollectionUtils.isNotEmpty(headers)) {
-            List<HeaderEntry> entries = new ArrayList<>(headers.size());
-            for(Header header : headers) {
-                HeaderEntry entry = new HeaderEntry();
-                entry.setName(header.getName());
-                entry.setValue(StringUtils.join(header.getValues(), System.lineSeparator()));
-                entries.add(entry);
-//                if ("Content-Type".equalsIgnoreCase(header.getName())) {
-//                    String[] types = header.getValue().toLowerCase().split("charset=");
-//                    if (types.length == 2) {
-//                        try {
-//                            encoding = Charset.forName(types[1].trim());
-//                            logger.info("auto detected encoding success {}", encoding);
-//                        } catch (Exception e) {
-//                            logger.error("auto detected encoding failed, error={}", e.getMessage(), e);
-//                        }
-//                    }
-//                }
-            }
-            request.setResponseHeaders(entries);
+            request.setResponseHeaders(toEntries(headers));
         }
         if (body != null) {
             byte[] encodedBodyBytes = Base64.getEncoder().encode(body);
@@ -284,8 +305,6 @@ public class Request implements jpuppeteer.api.browser.Request {
             entry.setValue(String.valueOf(body.length));
             request.getResponseHeaders().add(entry);
         }
-        fetch.fulfillRequest(request, DEFAULT_TIMEOUT);
-        //完成请求成功之后, 置空拦截ID
-        this.interceptorId = null;
+        return fetch.fulfillRequestAsync(request, DEFAULT_TIMEOUT);
     }
 }
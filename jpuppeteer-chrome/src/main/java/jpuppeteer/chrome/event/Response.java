@@ -4,10 +4,15 @@ package jpuppeteer.chrome.event;
 import com.google.common.base.Charsets;
 import jpuppeteer.api.browser.Header;
 import jpuppeteer.api.browser.SecurityDetails;
+import jpuppeteer.cdp.BinaryPayload;
+import jpuppeteer.cdp.CDPMessage;
 import jpuppeteer.cdp.CDPSession;
+import jpuppeteer.cdp.cdp.domain.Fetch;
 import jpuppeteer.cdp.cdp.domain.Network;
+import jpuppeteer.cdp.cdp.entity.fetch.ContinueRequestRequest;
+import jpuppeteer.cdp.cdp.entity.fetch.TakeResponseBodyAsStreamRequest;
+import jpuppeteer.cdp.cdp.entity.fetch.TakeResponseBodyAsStreamResponse;
 import jpuppeteer.cdp.cdp.entity.network.GetResponseBodyRequest;
-import jpuppeteer.cdp.cdp.entity.network.GetResponseBodyResponse;
 import jpuppeteer.chrome.ChromeFrame;
 import lombok.Builder;
 import lombok.Setter;
@@ -15,10 +20,13 @@ import lombok.ToString;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.OutputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
-import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -31,12 +39,18 @@ public class Response implements jpuppeteer.api.browser.Response {
 
     private static final Logger logger = LoggerFactory.getLogger(Response.class);
 
+    private static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    private static final int DEFAULT_READ_AHEAD = 4;
+
     private static final Pattern PATTERN_CHARSET = Pattern.compile("charset=(.+)$", Pattern.CASE_INSENSITIVE);
 
     private transient CDPSession session;
 
     private transient Network network;
 
+    private transient Fetch fetch;
+
     private String requestId;
 
     private String loaderId;
@@ -64,6 +78,16 @@ public class Response implements jpuppeteer.api.browser.Response {
 
     private SecurityDetails securityDetails;
 
+    /**
+     * 在响应阶段暂停的响应才有, 取走响应体或者放行之后置空
+     */
+    private volatile String interceptorId;
+
+    /**
+     * 由{@link #bodyStream(int, int)}打开的流, 处理器返回之后由{@link #closeBodyStream()}关闭
+     */
+    private volatile ResponseBodyStream bodyStream;
+
     @Override
     public ChromeFrame frame() {
         return frame;
@@ -104,28 +128,46 @@ public class Response implements jpuppeteer.api.browser.Response {
         return statusText;
     }
 
+    private Charset charset() {
+        Charset contentEncoding = Charsets.UTF_8;
+        for(Header header : headers) {
+            if ("content-type".equalsIgnoreCase(header.getName())) {
+                Matcher matcher = PATTERN_CHARSET.matcher(header.getValue());
+                if (matcher.find(1)) {
+                    contentEncoding = Charset.forName(matcher.group(1));
+                }
+            }
+        }
+        return contentEncoding;
+    }
+
+    /**
+     * 响应体可能很大, 不经过JSONObject, 直接从原始消息中解码body字段
+     * 在响应阶段暂停的响应只能通过Fetch.getResponseBody获取
+     */
+    private CDPMessage getResponseBody() throws Exception {
+        String interceptorId = this.interceptorId;
+        if (interceptorId != null) {
+            jpuppeteer.cdp.cdp.entity.fetch.GetResponseBodyRequest req = new jpuppeteer.cdp.cdp.entity.fetch.GetResponseBodyRequest();
+            req.setRequestId(interceptorId);
+            return session.sendRaw("Fetch.getResponseBody", req, DEFAULT_TIMEOUT).toCompletableFuture().get();
+        }
+        GetResponseBodyRequest req = new GetResponseBodyRequest();
+        req.setRequestId(requestId);
+        return session.sendRaw("Network.getResponseBody", req, DEFAULT_TIMEOUT).toCompletableFuture().get();
+    }
+
     @Override
     public byte[] content() {
         if (content != null) {
             return content;
         }
-        GetResponseBodyRequest req = new GetResponseBodyRequest();
-        req.setRequestId(request.getRequestId());
         try {
-            GetResponseBodyResponse response = network.getResponseBody(req, DEFAULT_TIMEOUT);
-            if (Boolean.TRUE.equals(response.getBase64Encoded())) {
-                content = Base64.getDecoder().decode(response.getBody());
+            CDPMessage message = getResponseBody();
+            if (BinaryPayload.getBoolean(message, BinaryPayload.BASE64_ENCODED)) {
+                content = BinaryPayload.decodeBytes(message, BinaryPayload.BODY);
             } else {
-                Charset contentEncoding = Charsets.UTF_8;
-                for(Header header : headers) {
-                    if ("content-type".equalsIgnoreCase(header.getName())) {
-                        Matcher matcher = PATTERN_CHARSET.matcher(header.getValue());
-                        if (matcher.find(1)) {
-                            contentEncoding = Charset.forName(matcher.group(1));
-                        }
-                    }
-                }
-                content = response.getBody().getBytes(contentEncoding);
+                content = BinaryPayload.getString(message, BinaryPayload.BODY).getBytes(charset());
             }
         } catch (Exception e) {
             logger.error("getResponseBody error, error={}", e.getMessage(), e);
@@ -133,8 +175,92 @@ public class Response implements jpuppeteer.api.browser.Response {
         return content;
     }
 
+    @Override
+    public void content(OutputStream out) throws Exception {
+        if (content != null) {
+            out.write(content);
+            return;
+        }
+        CDPMessage message = getResponseBody();
+        if (BinaryPayload.getBoolean(message, BinaryPayload.BASE64_ENCODED)) {
+            BinaryPayload.decode(message, BinaryPayload.BODY, out);
+        } else {
+            out.write(BinaryPayload.getString(message, BinaryPayload.BODY).getBytes(charset()));
+        }
+    }
+
+    /**
+     * 响应体解码到调用方复用的buffer中, 从position开始写入, 不会缓存在本对象中
+     * @return 响应体的字节数
+     * @throws java.nio.BufferOverflowException 剩余空间不够
+     */
+    public int content(ByteBuffer target) throws Exception {
+        if (content != null) {
+            target.put(content);
+            return content.length;
+        }
+        CDPMessage message = getResponseBody();
+        if (BinaryPayload.getBoolean(message, BinaryPayload.BASE64_ENCODED)) {
+            return BinaryPayload.decode(message, BinaryPayload.BODY, target);
+        }
+        byte[] bytes = BinaryPayload.getString(message, BinaryPayload.BODY).getBytes(charset());
+        target.put(bytes);
+        return bytes.length;
+    }
+
     @Override
     public URL url() {
         return url;
     }
+
+    private synchronized String claim() {
+        String id = this.interceptorId;
+        this.interceptorId = null;
+        return id;
+    }
+
+    /**
+     * 以流的方式读取响应体, 只能读取一次, 只有在响应阶段暂停的响应(见ChromePage.setResponseHandler)才支持
+     * @param chunkSize 每次IO.read读取的字节数
+     * @param readAhead 同时在途的IO.read数量
+     */
+    public ResponseBodyStream bodyStream(int chunkSize, int readAhead) throws Exception {
+        String interceptorId = claim();
+        if (interceptorId == null) {
+            throw new IllegalStateException("response not paused or body already taken, url=" + url);
+        }
+        TakeResponseBodyAsStreamRequest request = new TakeResponseBodyAsStreamRequest();
+        request.setRequestId(interceptorId);
+        TakeResponseBodyAsStreamResponse response = fetch.takeResponseBodyAsStream(request, DEFAULT_TIMEOUT);
+        ResponseBodyStream stream = new ResponseBodyStream(session, fetch, interceptorId, response.getStream(), chunkSize, readAhead);
+        this.bodyStream = stream;
+        return stream;
+    }
+
+    /**
+     * 关闭处理器打开之后没有关闭的流, 流关闭的时候请求才会结束, 同时释放浏览器端的IO handle
+     */
+    public void closeBodyStream() {
+        ResponseBodyStream stream = this.bodyStream;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    public ResponseBodyStream bodyStream() throws Exception {
+        return bodyStream(DEFAULT_CHUNK_SIZE, DEFAULT_READ_AHEAD);
+    }
+
+    /**
+     * 放行暂停的响应, 已经取走响应体或者不是暂停的响应不做任何处理
+     */
+    public CompletionStage<Void> continueAsync() {
+        String interceptorId = claim();
+        if (interceptorId == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        ContinueRequestRequest request = new ContinueRequestRequest();
+        request.setRequestId(interceptorId);
+        return fetch.continueRequestAsync(request, DEFAULT_TIMEOUT);
+    }
 }
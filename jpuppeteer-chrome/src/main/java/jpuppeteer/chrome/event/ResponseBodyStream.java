@@ -0,0 +1,242 @@
+package jpuppeteer.chrome.event;
+
+import jpuppeteer.cdp.BinaryPayload;
+import jpuppeteer.cdp.CDPMessage;
+import jpuppeteer.cdp.CDPSession;
+import jpuppeteer.cdp.cdp.constant.network.ErrorReason;
+import jpuppeteer.cdp.cdp.domain.Fetch;
+import jpuppeteer.cdp.cdp.entity.fetch.FailRequestRequest;
+import jpuppeteer.cdp.cdp.entity.io.CloseRequest;
+import jpuppeteer.cdp.cdp.entity.io.ReadRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static jpuppeteer.chrome.ChromeBrowser.DEFAULT_TIMEOUT;
+
+/**
+ * 以IO.read分块读取Fetch.takeResponseBodyAsStream返回的流, 同时最多有readAhead个IO.read在途
+ * 浏览器按顺序处理同一个session上的命令, 所以预读的结果也是按顺序返回的, 内存占用不超过chunkSize * readAhead
+ * 非线程安全, 关闭之后请求以Aborted结束
+ */
+public class ResponseBodyStream extends InputStream {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseBodyStream.class);
+
+    private static final String EOF = "eof";
+
+    private final CDPSession session;
+
+    private final Fetch fetch;
+
+    private final String interceptorId;
+
+    private final String handle;
+
+    private final int chunkSize;
+
+    private final int readAhead;
+
+    private final Deque<CompletableFuture<CDPMessage>> inflight;
+
+    private ByteBuffer current;
+
+    /**
+     * base64的数据块都解码到这里, 每块的大小基本固定, 复用同一个buffer
+     */
+    private ByteBuffer decoded;
+
+    /**
+     * 已经收到eof, 不再发出新的IO.read
+     */
+    private boolean eof;
+
+    private volatile boolean closed;
+
+    private long position;
+
+    ResponseBodyStream(CDPSession session, Fetch fetch, String interceptorId, String handle, int chunkSize, int readAhead) {
+        if (chunkSize <= 0 || readAhead <= 0) {
+            throw new IllegalArgumentException("chunkSize and readAhead must be positive");
+        }
+        this.session = session;
+        this.fetch = fetch;
+        this.interceptorId = interceptorId;
+        this.handle = handle;
+        this.chunkSize = chunkSize;
+        this.readAhead = readAhead;
+        this.inflight = new ArrayDeque<>(readAhead);
+        fill();
+    }
+
+    private void fill() {
+        while (!eof && inflight.size() < readAhead) {
+            //流只支持顺序读取, 不能指定offset
+            ReadRequest request = new ReadRequest();
+            request.setHandle(handle);
+            request.setSize(chunkSize);
+            //数据块可能很大, 不经过JSONObject, 直接从原始消息中解码data字段
+            inflight.add(session.sendRaw("IO.read", request, DEFAULT_TIMEOUT).toCompletableFuture());
+        }
+    }
+
+    /**
+     * @return 下一块数据的原始消息, 已经读完的时候返回null
+     */
+    private CDPMessage next() throws IOException {
+        if (closed) {
+            throw new IOException("stream closed");
+        }
+        CompletableFuture<CDPMessage> future = inflight.poll();
+        if (future == null) {
+            return null;
+        }
+        CDPMessage message;
+        try {
+            message = future.get(DEFAULT_TIMEOUT, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("read interrupted", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IOException("IO.read failed, handle=" + handle, e);
+        }
+        if (BinaryPayload.getBoolean(message, EOF)) {
+            //后面预读的请求都会返回空数据
+            eof = true;
+            inflight.clear();
+        }
+        fill();
+        return message;
+    }
+
+    private boolean nextChunk() throws IOException {
+        while (current == null || !current.hasRemaining()) {
+            CDPMessage message = next();
+            if (message == null) {
+                return false;
+            }
+            if (BinaryPayload.getBoolean(message, BinaryPayload.BASE64_ENCODED)) {
+                current = decodeChunk(message);
+            } else {
+                String data = BinaryPayload.getString(message, BinaryPayload.DATA);
+                current = data != null ? ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8)) : null;
+            }
+        }
+        return true;
+    }
+
+    private ByteBuffer decodeChunk(CDPMessage message) {
+        int size = BinaryPayload.decodedSize(message, BinaryPayload.DATA);
+        if (size < 0) {
+            return null;
+        }
+        if (decoded == null || decoded.capacity() < size) {
+            decoded = ByteBuffer.allocate(size);
+        }
+        decoded.clear();
+        BinaryPayload.decode(message, BinaryPayload.DATA, decoded);
+        decoded.flip();
+        return decoded;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!nextChunk()) {
+            return -1;
+        }
+        position++;
+        return current.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!nextChunk()) {
+            return -1;
+        }
+        int n = Math.min(len, current.remaining());
+        current.get(b, off, n);
+        position += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return current != null ? current.remaining() : 0;
+    }
+
+    /**
+     * 把剩下的数据全部写入channel, base64直接解码到channel, 不会生成完整的byte[]
+     * @return 写出的字节数
+     */
+    public long transferTo(WritableByteChannel channel) throws IOException {
+        long total = 0;
+        if (current != null) {
+            while (current.hasRemaining()) {
+                total += channel.write(current);
+            }
+        }
+        CDPMessage message;
+        while ((message = next()) != null) {
+            if (BinaryPayload.getBoolean(message, BinaryPayload.BASE64_ENCODED)) {
+                total += Math.max(0, BinaryPayload.decode(message, BinaryPayload.DATA, channel));
+            } else {
+                String data = BinaryPayload.getString(message, BinaryPayload.DATA);
+                if (data != null) {
+                    ByteBuffer buffer = ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8));
+                    while (buffer.hasRemaining()) {
+                        total += channel.write(buffer);
+                    }
+                }
+            }
+        }
+        position += total;
+        return total;
+    }
+
+    /**
+     * @return 已经读取的字节数
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * 关闭流并结束请求, 取走响应体之后请求不能再原样放行, 页面会收到一个失败的请求
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        inflight.clear();
+        current = null;
+        decoded = null;
+        CloseRequest closeRequest = new CloseRequest();
+        closeRequest.setHandle(handle);
+        FailRequestRequest failRequest = new FailRequestRequest();
+        failRequest.setRequestId(interceptorId);
+        failRequest.setErrorReason(ErrorReason.ABORTED.getValue());
+        session.sendAsync("IO.close", closeRequest, DEFAULT_TIMEOUT)
+                .thenCompose(v -> fetch.failRequestAsync(failRequest, DEFAULT_TIMEOUT))
+                .whenComplete((v, e) -> {
+                    if (e != null) {
+                        logger.warn("close response stream failed, handle={}, error={}", handle, e.getMessage());
+                    }
+                });
+    }
+}
@@ -17,33 +17,53 @@ public enum ChromeContextEvent {
 //    DETACHEDFROMTARGET(CDPEventType.TARGET_DETACHEDFROMTARGET),
 //    RECEIVEDMESSAGEFROMTARGET(CDPEventType.TARGET_RECEIVEDMESSAGEFROMTARGET),
 //
+    //以下是原来由context转发的页面事件, 页面事件已经直接从连接投递给ChromePage, context上永远不会再触发这些事件
+    //只为了保持源码兼容而保留, 注册的listener不会被调用, 请改为监听对应的ChromePageEvent
     //page
-    LIFECYCLEEVENT(CDPEvent.class),
-    DOMCONTENTEVENTFIRED(CDPEvent.class),
-    LOADEVENTFIRED(CDPEvent.class),
-    FRAMEATTACHED(CDPEvent.class),
-    FRAMEDETACHED(CDPEvent.class),
-    FRAMENAVIGATED(CDPEvent.class),
-    JAVASCRIPTDIALOGOPENING(CDPEvent.class),
+    /** @deprecated 永远不会触发, 请监听{@link ChromePageEvent#LIFECYCLEEVENT} */
+    @Deprecated LIFECYCLEEVENT(CDPEvent.class),
+    /** @deprecated 永远不会触发, 请监听{@link ChromePageEvent#DOMCONTENTLOADED} */
+    @Deprecated DOMCONTENTEVENTFIRED(CDPEvent.class),
+    /** @deprecated 永远不会触发, 请监听{@link ChromePageEvent#LOAD} */
+    @Deprecated LOADEVENTFIRED(CDPEvent.class),
+    /** @deprecated 永远不会触发, 请监听{@link ChromePageEvent#FRAMEATTACHED} */
+    @Deprecated FRAMEATTACHED(CDPEvent.class),
+    /** @deprecated 永远不会触发, 请监听{@link ChromePageEvent#FRAMEDETACHED} */
+    @Deprecated FRAMEDETACHED(CDPEvent.class),
+    /** @deprecated 永远不会触发, 请监听{@link ChromePageEvent#FRAMENAVIGATED} */
+    @Deprecated FRAMENAVIGATED(CDPEvent.class),
+    /** @deprecated 永远不会触发, 请监听{@link ChromePageEvent#DIALOG} */
+    @Deprecated JAVASCRIPTDIALOGOPENING(CDPEvent.class),
 
     //network
-    REQUESTWILLBESENT(CDPEvent.class),
-    RESPONSERECEIVED(CDPEvent.class),
-    LOADINGFAILED(CDPEvent.class),
-    LOADINGFINISHED(CDPEvent.class),
+    /** @deprecated 永远不会触发, 请监听{@link ChromePageEvent#REQUEST} */
+    @Deprecated REQUESTWILLBESENT(CDPEvent.class),
+    /** @deprecated 永远不会触发, 请监听{@link ChromePageEvent#RESPONSE} */
+    @Deprecated RESPONSERECEIVED(CDPEvent.class),
+    /** @deprecated 永远不会触发, 请监听{@link ChromePageEvent#REQUESTFAILED} */
+    @Deprecated LOADINGFAILED(CDPEvent.class),
+    /** @deprecated 永远不会触发, 请监听{@link ChromePageEvent#REQUESTFINISHED} */
+    @Deprecated LOADINGFINISHED(CDPEvent.class),
 
     //runtime
-    EXCEPTIONTHROWN(CDPEvent.class),
-    EXECUTIONCONTEXTCREATED(CDPEvent.class),
-    EXECUTIONCONTEXTDESTROYED(CDPEvent.class),
-    EXECUTIONCONTEXTSCLEARED(CDPEvent.class),
+    /** @deprecated 永远不会触发, 请监听{@link ChromePageEvent#PAGEERROR} */
+    @Deprecated EXCEPTIONTHROWN(CDPEvent.class),
+    /** @deprecated 永远不会触发, 没有对应的页面事件, 执行上下文由页面内部维护 */
+    @Deprecated EXECUTIONCONTEXTCREATED(CDPEvent.class),
+    /** @deprecated 永远不会触发, 没有对应的页面事件, 执行上下文由页面内部维护 */
+    @Deprecated EXECUTIONCONTEXTDESTROYED(CDPEvent.class),
+    /** @deprecated 永远不会触发, 没有对应的页面事件, 执行上下文由页面内部维护 */
+    @Deprecated EXECUTIONCONTEXTSCLEARED(CDPEvent.class),
 
     //fetch
-    REQUESTPAUSED(CDPEvent.class),
-    AUTHREQUIRED(CDPEvent.class),
+    /** @deprecated 永远不会触发, 请求拦截请使用{@link ChromePage#enableRequestInterception(boolean)} */
+    @Deprecated REQUESTPAUSED(CDPEvent.class),
+    /** @deprecated 永远不会触发, 认证请使用{@link ChromePage#authenticate(String, String)} */
+    @Deprecated AUTHREQUIRED(CDPEvent.class),
 
     //log
-    ENTRYADDED(CDPEvent.class),
+    /** @deprecated 永远不会触发, 请监听{@link ChromePageEvent#CONSOLE} */
+    @Deprecated ENTRYADDED(CDPEvent.class),
 
     //open page
     NEWPAGE(ChromePage.class),//手工创建的页面不会触发此事件
@@ -45,13 +45,13 @@ public enum ChromePageEvent {
 
     ;
 
-    private Class clazz;
+    private Class<?> clazz;
 
-    ChromePageEvent(Class clazz) {
+    ChromePageEvent(Class<?> clazz) {
         this.clazz = clazz;
     }
 
-    public Class getClazz() {
+    public Class<?> getClazz() {
         return clazz;
     }
 }
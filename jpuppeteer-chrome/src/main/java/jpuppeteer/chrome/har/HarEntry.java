@@ -0,0 +1,52 @@
+package jpuppeteer.chrome.har;
+
+import jpuppeteer.cdp.cdp.entity.network.Request;
+import jpuppeteer.cdp.cdp.entity.network.Response;
+
+/**
+ * 一个请求从发出到结束收集到的信息, 直接引用CDP事件中的对象, 不做拷贝
+ */
+class HarEntry {
+
+    final String requestId;
+
+    final String pageref;
+
+    /**
+     * 墙上时间(毫秒时间戳)
+     */
+    final long startedDateTime;
+
+    /**
+     * 浏览器的单调时间(秒), 跟timing.requestTime以及结束事件的timestamp是同一个时钟
+     */
+    final double startTimestamp;
+
+    final String resourceType;
+
+    final Request request;
+
+    Response response;
+
+    /**
+     * 请求结束(完成, 失败或者重定向)的时间, 没有结束的为null
+     */
+    Double endTimestamp;
+
+    Double encodedDataLength;
+
+    String errorText;
+
+    String body;
+
+    boolean base64Encoded;
+
+    HarEntry(String requestId, String pageref, long startedDateTime, double startTimestamp, String resourceType, Request request) {
+        this.requestId = requestId;
+        this.pageref = pageref;
+        this.startedDateTime = startedDateTime;
+        this.startTimestamp = startTimestamp;
+        this.resourceType = resourceType;
+        this.request = request;
+    }
+}
@@ -0,0 +1,32 @@
+package jpuppeteer.chrome.har;
+
+/**
+ * 主frame的一次导航, 对应HAR中的一个page
+ */
+class HarPage {
+
+    final String id;
+
+    /**
+     * 墙上时间(毫秒时间戳)
+     */
+    final long startedDateTime;
+
+    /**
+     * 浏览器的单调时间(秒), 用来计算pageTimings
+     */
+    final double startTimestamp;
+
+    final String title;
+
+    volatile double onContentLoad = -1;
+
+    volatile double onLoad = -1;
+
+    HarPage(String id, long startedDateTime, double startTimestamp, String title) {
+        this.id = id;
+        this.startedDateTime = startedDateTime;
+        this.startTimestamp = startTimestamp;
+        this.title = title;
+    }
+}
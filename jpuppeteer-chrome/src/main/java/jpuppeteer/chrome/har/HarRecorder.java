@@ -0,0 +1,294 @@
+package jpuppeteer.chrome.har;
+
+import jpuppeteer.cdp.BinaryPayload;
+import jpuppeteer.cdp.cdp.entity.network.LoadingFailedEvent;
+import jpuppeteer.cdp.cdp.entity.network.LoadingFinishedEvent;
+import jpuppeteer.cdp.cdp.entity.network.RequestWillBeSentEvent;
+import jpuppeteer.cdp.cdp.entity.network.ResponseReceivedEvent;
+import jpuppeteer.chrome.ChromePage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static jpuppeteer.chrome.ChromeBrowser.DEFAULT_TIMEOUT;
+
+/**
+ * 把页面的网络请求以HAR 1.2的格式写到文件, 由{@link ChromePage#setHarRecorder(HarRecorder)}挂到页面上, 可以多个页面共用
+ * 请求结束之后马上写出并释放, 内存中只保留还没有结束的请求以及正在获取的响应体
+ * cookies不单独解析, 请求头和响应头中保留原始的Cookie/Set-Cookie
+ */
+public class HarRecorder implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HarRecorder.class);
+
+    private static final String DOCUMENT = "Document";
+
+    private final HarWriter writer;
+
+    private final Map<String/*frameId/requestId*/, HarEntry> pending;
+
+    /**
+     * 每个页面当前的HAR page
+     */
+    private final Map<ChromePage, HarPage> currentPages;
+
+    private final List<HarPage> pages;
+
+    private final AtomicInteger pageCounter;
+
+    private final AtomicInteger loadingBodies;
+
+    private final AtomicLong written;
+
+    private final AtomicLong dropped;
+
+    private volatile boolean captureBodies;
+
+    private volatile int maxBodySize;
+
+    private volatile int maxLoadingBodies;
+
+    private volatile int maxPending;
+
+    private volatile boolean closed;
+
+    public HarRecorder(File file) throws IOException {
+        this.writer = new HarWriter(file);
+        this.pending = new ConcurrentHashMap<>();
+        this.currentPages = new ConcurrentHashMap<>();
+        this.pages = new ArrayList<>();
+        this.pageCounter = new AtomicInteger(0);
+        this.loadingBodies = new AtomicInteger(0);
+        this.written = new AtomicLong(0);
+        this.dropped = new AtomicLong(0);
+        this.captureBodies = false;
+        this.maxBodySize = 1024 * 1024;
+        this.maxLoadingBodies = 16;
+        this.maxPending = 4096;
+        this.closed = false;
+    }
+
+    /**
+     * 是否记录响应体, 默认不记录
+     */
+    public void setCaptureBodies(boolean captureBodies) {
+        this.captureBodies = captureBodies;
+    }
+
+    /**
+     * 传输大小超过maxBodySize的响应体不记录, 默认1MB
+     */
+    public void setMaxBodySize(int maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
+
+    /**
+     * 同时获取的响应体个数, 超过的不记录响应体, 内存中的响应体不超过maxBodySize * maxLoadingBodies, 默认16
+     */
+    public void setMaxLoadingBodies(int maxLoadingBodies) {
+        this.maxLoadingBodies = maxLoadingBodies;
+    }
+
+    /**
+     * 还没有结束的请求个数上限, 超过的请求不记录, 默认4096
+     */
+    public void setMaxPending(int maxPending) {
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * @return 已经写出的entry数
+     */
+    public long written() {
+        return written.get();
+    }
+
+    /**
+     * @return 因为超过上限或者写出失败丢弃的entry数
+     */
+    public long dropped() {
+        return dropped.get();
+    }
+
+    private static String key(ChromePage page, String requestId) {
+        return page.frameId() + "/" + requestId;
+    }
+
+    public void requestWillBeSent(ChromePage page, RequestWillBeSentEvent event) {
+        if (closed) {
+            return;
+        }
+        String key = key(page, event.getRequestId());
+        if (event.getRedirectResponse() != null) {
+            //重定向沿用同一个requestId, 上一跳以重定向响应结束
+            HarEntry previous = pending.remove(key);
+            if (previous != null) {
+                previous.response = event.getRedirectResponse();
+                previous.endTimestamp = event.getTimestamp();
+                write(previous);
+            }
+        } else if (DOCUMENT.equals(event.getType()) && page.frameId().equals(event.getFrameId())
+                && event.getRequestId().equals(event.getLoaderId())) {
+            //主frame的导航开始新的page
+            HarPage harPage = new HarPage("page_" + pageCounter.incrementAndGet(), wallTime(event.getWallTime()), event.getTimestamp(), event.getRequest().getUrl());
+            synchronized (pages) {
+                pages.add(harPage);
+            }
+            currentPages.put(page, harPage);
+        }
+        if (pending.size() >= maxPending) {
+            dropped.incrementAndGet();
+            return;
+        }
+        HarPage harPage = currentPages.get(page);
+        HarEntry entry = new HarEntry(event.getRequestId(), harPage != null ? harPage.id : null,
+                wallTime(event.getWallTime()), event.getTimestamp(), event.getType(), event.getRequest());
+        pending.put(key, entry);
+    }
+
+    public void responseReceived(ChromePage page, ResponseReceivedEvent event) {
+        HarEntry entry = pending.get(key(page, event.getRequestId()));
+        if (entry != null) {
+            entry.response = event.getResponse();
+        }
+    }
+
+    public void loadingFinished(ChromePage page, LoadingFinishedEvent event) {
+        HarEntry entry = pending.remove(key(page, event.getRequestId()));
+        if (entry == null) {
+            return;
+        }
+        entry.endTimestamp = event.getTimestamp();
+        entry.encodedDataLength = event.getEncodedDataLength();
+        if (!shouldCaptureBody(entry)) {
+            write(entry);
+            return;
+        }
+        loadingBodies.incrementAndGet();
+        page.responseBodyAsync(event.getRequestId()).whenComplete((message, e) -> {
+            try {
+                if (e == null) {
+                    //保持原样, base64的响应体不解码
+                    entry.body = BinaryPayload.getString(message, BinaryPayload.BODY);
+                    entry.base64Encoded = BinaryPayload.getBoolean(message, BinaryPayload.BASE64_ENCODED);
+                } else {
+                    logger.debug("get response body failed, requestId={}, error={}", entry.requestId, e.getMessage());
+                }
+                write(entry);
+            } finally {
+                loadingBodies.decrementAndGet();
+            }
+        });
+    }
+
+    public void loadingFailed(ChromePage page, LoadingFailedEvent event) {
+        HarEntry entry = pending.remove(key(page, event.getRequestId()));
+        if (entry == null) {
+            return;
+        }
+        entry.endTimestamp = event.getTimestamp();
+        entry.errorText = event.getErrorText();
+        write(entry);
+    }
+
+    public void domContentEventFired(ChromePage page, Double timestamp) {
+        HarPage harPage = currentPages.get(page);
+        if (harPage != null && timestamp != null) {
+            harPage.onContentLoad = (timestamp - harPage.startTimestamp) * 1000;
+        }
+    }
+
+    public void loadEventFired(ChromePage page, Double timestamp) {
+        HarPage harPage = currentPages.get(page);
+        if (harPage != null && timestamp != null) {
+            harPage.onLoad = (timestamp - harPage.startTimestamp) * 1000;
+        }
+    }
+
+    /**
+     * 页面不再记录, 还没有结束的请求在close的时候写出
+     */
+    public void detach(ChromePage page) {
+        currentPages.remove(page);
+    }
+
+    private boolean shouldCaptureBody(HarEntry entry) {
+        if (!captureBodies || entry.response == null) {
+            return false;
+        }
+        int status = entry.response.getStatus() != null ? entry.response.getStatus() : 0;
+        if (status == 204 || status == 304 || (status >= 300 && status < 400)) {
+            return false;
+        }
+        if (entry.encodedDataLength == null || entry.encodedDataLength > maxBodySize) {
+            return false;
+        }
+        return loadingBodies.get() < maxLoadingBodies;
+    }
+
+    private void write(HarEntry entry) {
+        if (closed) {
+            dropped.incrementAndGet();
+            return;
+        }
+        try {
+            writer.writeEntry(entry);
+            written.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            //编码失败(比如异常的数据)不能抛到事件线程上, 跟写文件失败一样计入dropped
+            dropped.incrementAndGet();
+            logger.error("write har entry failed, requestId={}, error={}", entry.requestId, e.getMessage(), e);
+        }
+    }
+
+    private static long wallTime(Double wallTime) {
+        return wallTime != null ? (long) (wallTime * 1000) : System.currentTimeMillis();
+    }
+
+    /**
+     * 写出还没有结束的请求以及pages, 然后关闭文件, 之后到达的事件都会被忽略
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        //等正在获取的响应体写完
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(DEFAULT_TIMEOUT);
+        while (loadingBodies.get() > 0 && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        for(String key : new ArrayList<>(pending.keySet())) {
+            //跟loadingFinished/loadingFailed一样先从pending中移除, 移除成功的一方才写出, 同一个entry不会写两次
+            HarEntry entry = pending.remove(key);
+            if (entry != null) {
+                write(entry);
+            }
+        }
+        pending.clear();
+        closed = true;
+        currentPages.clear();
+        try {
+            synchronized (pages) {
+                writer.finish(pages);
+            }
+        } finally {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package jpuppeteer.chrome.har;
+
+import jpuppeteer.cdp.JsonWriter;
+import jpuppeteer.cdp.cdp.entity.network.ResourceTiming;
+import jpuppeteer.cdp.cdp.entity.network.Response;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 按HAR 1.2的格式把entry逐个写到文件中, 每个entry先编码到复用的StringBuilder再分段写出
+ * pages数组很小, 在entries数组之后写出
+ */
+class HarWriter implements Closeable {
+
+    private static final String CREATOR = "jpuppeteer";
+
+    private static final String CREATOR_VERSION = "1.0";
+
+    private static final String UNKNOWN_MIME_TYPE = "x-unknown";
+
+    private static final String[] TIMING_NAMES = {"blocked", "dns", "ssl", "connect", "send", "wait", "receive"};
+
+    private static final int SSL = 2;
+
+    private final Writer out;
+
+    private final StringBuilder sb;
+
+    private final JsonWriter json;
+
+    private final char[] chunk;
+
+    private boolean first;
+
+    private boolean finished;
+
+    HarWriter(File file) throws IOException {
+        this.out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8), 64 * 1024);
+        this.sb = new StringBuilder(16 * 1024);
+        this.json = new JsonWriter(sb);
+        this.chunk = new char[8192];
+        this.first = true;
+        this.finished = false;
+        json.beginObject().name("log").beginObject()
+                .name("version").value("1.2")
+                .name("creator").beginObject().name("name").value(CREATOR).name("version").value(CREATOR_VERSION).endObject()
+                .name("entries").beginArray();
+        flushBuffer();
+    }
+
+    synchronized void writeEntry(HarEntry entry) throws IOException {
+        if (finished) {
+            throw new IOException("har already finished");
+        }
+        try {
+            encodeEntry(entry);
+        } catch (RuntimeException e) {
+            //JsonWriter根据缓冲区最后一个字符判断逗号, 没有嵌套状态, 丢掉编码了一半的entry就能恢复
+            sb.setLength(0);
+            throw e;
+        }
+        //每个entry单独编码, JsonWriter看不到前一个entry, 编码成功之后再把逗号直接写到文件
+        if (!first) {
+            out.write(',');
+        }
+        first = false;
+        flushBuffer();
+    }
+
+    private void encodeEntry(HarEntry entry) {
+        Response response = entry.response;
+        String httpVersion = httpVersion(response != null ? response.getProtocol() : null);
+        json.beginObject();
+        if (entry.pageref != null) {
+            json.name("pageref").value(entry.pageref);
+        }
+        double[] timings = timings(entry);
+        //ssl已经包含在connect中
+        double time = 0;
+        for(int i = 0; i < timings.length; i++) {
+            if (i != SSL) {
+                time += Math.max(0, timings[i]);
+            }
+        }
+        json.name("startedDateTime").value(formatDate(entry.startedDateTime))
+                .name("time").value(round(time));
+        writeRequest(entry, httpVersion);
+        writeResponse(entry, httpVersion);
+        json.name("cache").beginObject().endObject();
+        json.name("timings").beginObject();
+        for(int i = 0; i < timings.length; i++) {
+            json.name(TIMING_NAMES[i]).value(round(timings[i]));
+        }
+        json.endObject();
+        if (response != null) {
+            if (StringUtils.isNotEmpty(response.getRemoteIPAddress())) {
+                //IPv6地址带着中括号
+                json.name("serverIPAddress").value(StringUtils.strip(response.getRemoteIPAddress(), "[]"));
+            }
+            if (response.getConnectionId() != null) {
+                json.name("connection").value(String.valueOf(response.getConnectionId().longValue()));
+            }
+            if (response.getConnectionReused() != null) {
+                json.name("_connectionReused").value(response.getConnectionReused());
+            }
+            if (Boolean.TRUE.equals(response.getFromDiskCache())) {
+                json.name("_fromDiskCache").value(true);
+            }
+            if (Boolean.TRUE.equals(response.getFromServiceWorker())) {
+                json.name("_fromServiceWorker").value(true);
+            }
+        }
+        if (entry.resourceType != null) {
+            json.name("_resourceType").value(entry.resourceType);
+        }
+        if (entry.encodedDataLength != null) {
+            json.name("_transferSize").value(entry.encodedDataLength.longValue());
+        }
+        if (entry.errorText != null) {
+            json.name("_error").value(entry.errorText);
+        }
+        json.endObject();
+    }
+
+    private void writeRequest(HarEntry entry, String httpVersion) {
+        jpuppeteer.cdp.cdp.entity.network.Request request = entry.request;
+        //响应中带的是实际发出的请求头(包括cookie), 比requestWillBeSent中的更完整
+        Map<String, Object> headers = entry.response != null && entry.response.getRequestHeaders() != null ?
+                entry.response.getRequestHeaders() : request.getHeaders();
+        String url = request.getUrl() + (request.getUrlFragment() != null ? request.getUrlFragment() : "");
+        json.name("request").beginObject()
+                .name("method").value(request.getMethod())
+                .name("url").value(url)
+                .name("httpVersion").value(httpVersion)
+                .name("cookies").beginArray().endArray();
+        writeHeaders(headers);
+        writeQueryString(request.getUrl());
+        String postData = request.getPostData();
+        if (postData != null) {
+            String mimeType = header(headers, "Content-Type");
+            json.name("postData").beginObject()
+                    .name("mimeType").value(mimeType != null ? mimeType : "")
+                    .name("text").value(postData)
+                    .endObject();
+        }
+        String headersText = entry.response != null ? entry.response.getRequestHeadersText() : null;
+        json.name("headersSize").value(headersText != null ? headersText.length() : -1)
+                .name("bodySize").value(postData != null ? utf8Length(postData) : 0)
+                .endObject();
+    }
+
+    private void writeResponse(HarEntry entry, String httpVersion) {
+        Response response = entry.response;
+        json.name("response").beginObject();
+        if (response == null) {
+            //没有收到响应就失败的请求, 跟devtools导出的格式一致
+            json.name("status").value(0)
+                    .name("statusText").value("")
+                    .name("httpVersion").value("")
+                    .name("cookies").beginArray().endArray()
+                    .name("headers").beginArray().endArray()
+                    .name("content").beginObject().name("size").value(0).name("mimeType").value(UNKNOWN_MIME_TYPE).endObject()
+                    .name("redirectURL").value("")
+                    .name("headersSize").value(-1)
+                    .name("bodySize").value(-1)
+                    .endObject();
+            return;
+        }
+        Map<String, Object> headers = response.getHeaders();
+        json.name("status").value(response.getStatus())
+                .name("statusText").value(response.getStatusText() != null ? response.getStatusText() : "")
+                .name("httpVersion").value(httpVersion)
+                .name("cookies").beginArray().endArray();
+        writeHeaders(headers);
+
+        json.name("content").beginObject();
+        String body = entry.body;
+        long size = 0;
+        if (body != null) {
+            size = entry.base64Encoded ? base64Length(body) : utf8Length(body);
+        }
+        json.name("size").value(size)
+                .name("mimeType").value(StringUtils.isNotEmpty(response.getMimeType()) ? response.getMimeType() : UNKNOWN_MIME_TYPE);
+        if (body != null) {
+            json.name("text").value(body);
+            if (entry.base64Encoded) {
+                json.name("encoding").value("base64");
+            }
+        }
+        json.endObject();
+
+        String location = header(headers, "Location");
+        String headersText = response.getHeadersText();
+        long headersSize = headersText != null ? headersText.length() : -1;
+        long bodySize = -1;
+        if (Boolean.TRUE.equals(response.getFromDiskCache()) || response.getStatus() == 304) {
+            bodySize = 0;
+        } else if (entry.encodedDataLength != null && headersSize >= 0) {
+            bodySize = Math.max(0, entry.encodedDataLength.longValue() - headersSize);
+        }
+        json.name("redirectURL").value(location != null ? location : "")
+                .name("headersSize").value(headersSize)
+                .name("bodySize").value(bodySize)
+                .endObject();
+    }
+
+    /**
+     * 按照devtools导出HAR的方式把ResourceTiming换算成HAR的timings(毫秒), 顺序同{@link #TIMING_NAMES}
+     */
+    private static double[] timings(HarEntry entry) {
+        Response response = entry.response;
+        ResourceTiming timing = response != null ? response.getTiming() : null;
+        double blocked = -1, dns = -1, connect = -1, ssl = -1, send = 0, wait = 0, receive = 0;
+        Double end = entry.endTimestamp;
+        if (timing != null && timing.getRequestTime() != null) {
+            double requestTime = timing.getRequestTime();
+            //从发出请求到浏览器开始处理的排队时间
+            blocked = Math.max(0, (requestTime - entry.startTimestamp) * 1000);
+            double blockedStart = leastNonNegative(timing.getDnsStart(), timing.getConnectStart(), timing.getSendStart());
+            if (blockedStart >= 0) {
+                blocked += blockedStart;
+            }
+            dns = span(timing.getDnsStart(), timing.getDnsEnd());
+            connect = span(timing.getConnectStart(), timing.getConnectEnd());
+            ssl = span(timing.getSslStart(), timing.getSslEnd());
+            double sendStart = value(timing.getSendStart());
+            double sendEnd = value(timing.getSendEnd());
+            double headersEnd = value(timing.getReceiveHeadersEnd());
+            send = Math.max(0, sendEnd - sendStart);
+            wait = Math.max(0, headersEnd - sendEnd);
+            if (end != null) {
+                receive = Math.max(0, (end - requestTime) * 1000 - headersEnd);
+            }
+        } else if (end != null) {
+            //缓存或者失败的请求没有timing, 整段时间都算作接收
+            receive = Math.max(0, (end - entry.startTimestamp) * 1000);
+        }
+        return new double[]{blocked, dns, ssl, connect, send, wait, receive};
+    }
+
+    synchronized void finish(Collection<HarPage> pages) throws IOException {
+        finished = true;
+        json.endArray();
+        json.name("pages").beginArray();
+        for(HarPage page : pages) {
+            json.beginObject()
+                    .name("startedDateTime").value(formatDate(page.startedDateTime))
+                    .name("id").value(page.id)
+                    .name("title").value(page.title)
+                    .name("pageTimings").beginObject()
+                    .name("onContentLoad").value(round(page.onContentLoad))
+                    .name("onLoad").value(round(page.onLoad))
+                    .endObject()
+                    .endObject();
+        }
+        json.endArray().endObject().endObject();
+        flushBuffer();
+    }
+
+    private void writeHeaders(Map<String, Object> headers) {
+        json.name("headers").beginArray();
+        if (headers != null) {
+            for(Map.Entry<String, Object> header : headers.entrySet()) {
+                if (header.getValue() == null) {
+                    continue;
+                }
+                String value = header.getValue().toString();
+                //同名的多个头(比如Set-Cookie)在CDP中以换行拼接
+                int start = 0;
+                int index;
+                while ((index = value.indexOf('\n', start)) >= 0) {
+                    writeNameValue(header.getKey(), value.substring(start, index));
+                    start = index + 1;
+                }
+                writeNameValue(header.getKey(), start == 0 ? value : value.substring(start));
+            }
+        }
+        json.endArray();
+    }
+
+    private void writeQueryString(String url) {
+        json.name("queryString").beginArray();
+        int start = url != null ? url.indexOf('?') : -1;
+        if (start >= 0) {
+            //保留原始的编码, 不做解码
+            int end = url.indexOf('#', start);
+            String query = url.substring(start + 1, end >= 0 ? end : url.length());
+            for(String pair : StringUtils.split(query, '&')) {
+                int eq = pair.indexOf('=');
+                writeNameValue(eq >= 0 ? pair.substring(0, eq) : pair, eq >= 0 ? pair.substring(eq + 1) : "");
+            }
+        }
+        json.endArray();
+    }
+
+    private void writeNameValue(String name, String value) {
+        json.beginObject().name("name").value(name).name("value").value(value).endObject();
+    }
+
+    private void flushBuffer() throws IOException {
+        int length = sb.length();
+        try {
+            for(int i = 0; i < length; i += chunk.length) {
+                int n = Math.min(chunk.length, length - i);
+                sb.getChars(i, i + n, chunk, 0);
+                out.write(chunk, 0, n);
+            }
+        } finally {
+            sb.setLength(0);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+
+    private static String header(Map<String, Object> headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        for(Map.Entry<String, Object> entry : headers.entrySet()) {
+            if (name.equalsIgnoreCase(entry.getKey())) {
+                return entry.getValue() != null ? entry.getValue().toString() : null;
+            }
+        }
+        return null;
+    }
+
+    private static String httpVersion(String protocol) {
+        if (protocol == null) {
+            return "";
+        }
+        switch (protocol) {
+            case "h2":
+                return "HTTP/2.0";
+            case "http/1.1":
+                return "HTTP/1.1";
+            case "http/1.0":
+                return "HTTP/1.0";
+            default:
+                return protocol.startsWith("h3") || protocol.startsWith("quic") ? "HTTP/3" : protocol.toUpperCase();
+        }
+    }
+
+    private static String formatDate(long millis) {
+        return DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(millis));
+    }
+
+    private static double value(Double value) {
+        return value != null ? value : -1;
+    }
+
+    private static double span(Double start, Double end) {
+        return start != null && end != null && start >= 0 && end >= 0 ? end - start : -1;
+    }
+
+    private static double leastNonNegative(Double... values) {
+        double least = -1;
+        for(Double value : values) {
+            if (value != null && value >= 0 && (least < 0 || value < least)) {
+                least = value;
+            }
+        }
+        return least;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    private static long base64Length(String base64) {
+        int length = base64.length();
+        int padding = 0;
+        while (padding < 2 && length - padding > 0 && base64.charAt(length - padding - 1) == '=') {
+            padding++;
+        }
+        return (long) length * 3 / 4 - padding;
+    }
+
+    private static long utf8Length(String value) {
+        long length = 0;
+        int count = value.length();
+        for(int i = 0; i < count; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
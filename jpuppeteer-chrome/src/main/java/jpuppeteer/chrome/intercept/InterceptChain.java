@@ -0,0 +1,136 @@
+package jpuppeteer.chrome.intercept;
+
+import jpuppeteer.api.util.HashedWheelTimer;
+import jpuppeteer.chrome.constant.InterceptAction;
+import jpuppeteer.chrome.event.Request;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按顺序执行拦截处理器, 第一个返回非NEXT的决定生效, 全部返回NEXT的请求直接放行
+ * 处理器都是异步的, 决定以异步命令发出, 不会阻塞事件线程, 一个慢的处理器不会影响同一页面上其他暂停的请求
+ * 设置了timeout的时候, 超时还没有做出决定的请求按默认决定处理
+ */
+public class InterceptChain {
+
+    private static final Logger logger = LoggerFactory.getLogger(InterceptChain.class);
+
+    private static final HashedWheelTimer TIMER = new HashedWheelTimer("Intercept-Timer");
+
+    private final List<InterceptHandler> handlers;
+
+    private volatile long timeout;
+
+    private volatile InterceptDecision defaultDecision;
+
+    public InterceptChain() {
+        this.handlers = new CopyOnWriteArrayList<>();
+        this.timeout = 0;
+        this.defaultDecision = InterceptDecision.continues();
+    }
+
+    public void addHandler(InterceptHandler handler) {
+        handlers.add(handler);
+    }
+
+    public void removeHandler(InterceptHandler handler) {
+        handlers.remove(handler);
+    }
+
+    public void clear() {
+        handlers.clear();
+    }
+
+    /**
+     * @param timeout 每个请求做出决定的时间上限, 0表示不限制
+     * @param defaultDecision 超时或者处理器出错的时候使用的决定
+     */
+    public void setTimeout(long timeout, TimeUnit unit, InterceptDecision defaultDecision) {
+        if (defaultDecision == null || defaultDecision.getAction() == InterceptAction.NEXT) {
+            throw new IllegalArgumentException("defaultDecision must be CONTINUE, ABORT or FULFILL");
+        }
+        this.timeout = unit.toMillis(timeout);
+        this.defaultDecision = defaultDecision;
+    }
+
+    /**
+     * 没有处理器也没有设置timeout的时候不做任何处理, 由REQUEST事件的listener决定
+     */
+    public boolean isEmpty() {
+        return handlers.isEmpty() && timeout <= 0;
+    }
+
+    public void intercept(Request request) {
+        InterceptDecision fallback = this.defaultDecision;
+        CompletableFuture<InterceptDecision> decision = new CompletableFuture<>();
+        long timeout = this.timeout;
+        HashedWheelTimer.Timeout timer = null;
+        if (timeout > 0) {
+            timer = TIMER.newTimeout(() -> {
+                if (decision.complete(fallback)) {
+                    logger.warn("intercept decision timeout, apply {}, url={}", fallback, request.url());
+                }
+            }, timeout, TimeUnit.MILLISECONDS);
+        }
+        //处理过程中增删处理器不影响已经暂停的请求
+        List<InterceptHandler> snapshot = new ArrayList<>(handlers);
+        if (!snapshot.isEmpty()) {
+            next(request, snapshot, 0, decision, fallback);
+        }
+        HashedWheelTimer.Timeout deadline = timer;
+        decision.thenCompose(d -> {
+            if (deadline != null) {
+                deadline.cancel();
+            }
+            if (request.getInterceptorId() == null) {
+                //已经由REQUEST事件的listener处理过了
+                return CompletableFuture.completedFuture(null);
+            }
+            return d.apply(request);
+        }).whenComplete((v, e) -> {
+            if (e != null) {
+                logger.warn("apply intercept decision failed, url={}, error={}", request.url(), e.getMessage());
+            }
+        });
+    }
+
+    private void next(Request request, List<InterceptHandler> handlers, int index, CompletableFuture<InterceptDecision> decision, InterceptDecision fallback) {
+        if (decision.isDone()) {
+            //已经超时
+            return;
+        }
+        if (index >= handlers.size()) {
+            decision.complete(InterceptDecision.continues());
+            return;
+        }
+        CompletionStage<InterceptDecision> stage;
+        try {
+            stage = handlers.get(index).intercept(request);
+        } catch (Throwable t) {
+            logger.warn("intercept handler failed, apply {}, url={}, error={}", fallback, request.url(), t.getMessage(), t);
+            decision.complete(fallback);
+            return;
+        }
+        if (stage == null) {
+            next(request, handlers, index + 1, decision, fallback);
+            return;
+        }
+        stage.whenComplete((d, e) -> {
+            if (e != null) {
+                logger.warn("intercept handler failed, apply {}, url={}, error={}", fallback, request.url(), e.getMessage(), e);
+                decision.complete(fallback);
+            } else if (d == null || d.getAction() == InterceptAction.NEXT) {
+                next(request, handlers, index + 1, decision, fallback);
+            } else {
+                decision.complete(d);
+            }
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package jpuppeteer.chrome.intercept;
+
+import jpuppeteer.api.browser.Header;
+import jpuppeteer.cdp.cdp.constant.network.ErrorReason;
+import jpuppeteer.chrome.constant.InterceptAction;
+import jpuppeteer.chrome.event.Request;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+@Getter
+public class InterceptDecision {
+
+    private static final InterceptDecision NEXT = new InterceptDecision(InterceptAction.NEXT);
+
+    private static final InterceptDecision CONTINUE = new InterceptDecision(InterceptAction.CONTINUE);
+
+    private static final InterceptDecision ABORT = abort(ErrorReason.ABORTED);
+
+    private final InterceptAction action;
+
+    /**
+     * CONTINUE时覆盖原请求的url, method, header以及postData, 为null的时候原样放行
+     */
+    private jpuppeteer.api.browser.Request override;
+
+    private ErrorReason errorReason;
+
+    private int statusCode;
+
+    private List<Header> headers;
+
+    private byte[] body;
+
+    private InterceptDecision(InterceptAction action) {
+        this.action = action;
+    }
+
+    public static InterceptDecision next() {
+        return NEXT;
+    }
+
+    public static InterceptDecision continues() {
+        return CONTINUE;
+    }
+
+    public static InterceptDecision continues(jpuppeteer.api.browser.Request override) {
+        InterceptDecision decision = new InterceptDecision(InterceptAction.CONTINUE);
+        decision.override = override;
+        return decision;
+    }
+
+    public static InterceptDecision abort() {
+        return ABORT;
+    }
+
+    public static InterceptDecision abort(ErrorReason errorReason) {
+        InterceptDecision decision = new InterceptDecision(InterceptAction.ABORT);
+        decision.errorReason = errorReason;
+        return decision;
+    }
+
+    public static InterceptDecision fulfill(int statusCode, List<Header> headers, byte[] body) {
+        InterceptDecision decision = new InterceptDecision(InterceptAction.FULFILL);
+        decision.statusCode = statusCode;
+        decision.headers = headers;
+        decision.body = body;
+        return decision;
+    }
+
+    /**
+     * 把决定发送给浏览器, 不等待响应
+     */
+    public CompletionStage<Void> apply(Request request) {
+        switch (action) {
+            case CONTINUE:
+                return request.continuesAsync(override);
+            case ABORT:
+                return request.abortAsync(errorReason);
+            case FULFILL:
+                return request.respondAsync(statusCode, headers, body);
+            default:
+                //NEXT走到最后等同于放行
+                return request.continuesAsync(null);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return action.name();
+    }
+}
@@ -0,0 +1,16 @@
+package jpuppeteer.chrome.intercept;
+
+import jpuppeteer.chrome.event.Request;
+
+import java.util.concurrent.CompletionStage;
+
+@FunctionalInterface
+public interface InterceptHandler {
+
+    /**
+     * 在事件线程上调用, 不能阻塞, 需要IO的处理器应该返回一个在其他线程上完成的CompletionStage
+     * 返回null或者{@link InterceptDecision#next()}表示交给下一个处理器
+     */
+    CompletionStage<InterceptDecision> intercept(Request request);
+
+}
@@ -0,0 +1,14 @@
+package jpuppeteer.chrome.intercept;
+
+import jpuppeteer.chrome.event.Response;
+
+@FunctionalInterface
+public interface ResponseHandler {
+
+    /**
+     * 在单独的线程上调用, 可以阻塞读取{@link Response#bodyStream()}
+     * 返回的时候没有读取响应体的响应照常放行, 打开的{@link Response#bodyStream()}如果还没有关闭会被关闭
+     */
+    void handle(Response response) throws Exception;
+
+}
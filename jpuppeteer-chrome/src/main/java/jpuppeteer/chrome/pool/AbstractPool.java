@@ -0,0 +1,237 @@
+package jpuppeteer.chrome.pool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 保持size个空闲对象的池, 在后台线程上创建, 重置和销毁对象
+ * 子类只负责怎么创建/重置/销毁, 补充数量和关闭时的并发处理都在这里
+ * 子类必须在构造方法的最后调用{@link #fill()}, 创建对象依赖子类的字段
+ */
+public abstract class AbstractPool<T> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AbstractPool.class);
+
+    private static final int MAX_WORKERS = 4;
+
+    private final String name;
+
+    private final String kind;
+
+    protected final int size;
+
+    private final BlockingQueue<T> idle;
+
+    private final Map<T, Boolean> leased;
+
+    /**
+     * 正在后台创建或者重置的对象数量, 计算还需要补充多少的时候要算上
+     */
+    private final AtomicInteger pending;
+
+    private final ExecutorService executor;
+
+    protected volatile boolean closed;
+
+    /**
+     * @param name 池的名字, 用作后台线程名的前缀
+     * @param kind 池中对象的名称, 只用于异常和日志
+     */
+    protected AbstractPool(String name, String kind, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+        this.name = name;
+        this.kind = kind;
+        this.size = size;
+        this.idle = new LinkedBlockingQueue<>();
+        this.leased = new ConcurrentHashMap<>();
+        this.pending = new AtomicInteger(0);
+        AtomicInteger counter = new AtomicInteger(0);
+        this.executor = Executors.newFixedThreadPool(Math.min(size, MAX_WORKERS), r -> {
+            Thread thread = new Thread(r, name + "-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    protected abstract T create() throws Exception;
+
+    /**
+     * 恢复到刚创建时的状态, 抛出异常的对象会被销毁
+     */
+    protected abstract void reset(T item) throws Exception;
+
+    /**
+     * 销毁对象, 不能抛出异常
+     */
+    protected abstract void dispose(T item);
+
+    /**
+     * 归还的时候是否还可以重置之后复用, 在后台线程上调用
+     */
+    protected boolean reusable(T item) {
+        return true;
+    }
+
+    /**
+     * 空闲的对象是否还能借出(例如页面在空闲的时候崩溃了)
+     */
+    protected boolean isAlive(T item) {
+        return true;
+    }
+
+    /**
+     * 借出一个对象, 使用完之后必须调用{@link #release(Object)}归还
+     * 池中没有空闲对象的时候最多等待timeout, 之后直接创建一个新的
+     */
+    public T acquire(long timeout, TimeUnit unit) throws Exception {
+        if (closed) {
+            throw new IllegalStateException(kind + " pool closed");
+        }
+        T item = poll();
+        if (item == null) {
+            fill();
+            item = idle.poll(timeout, unit);
+            if (item == null || !isAlive(item)) {
+                if (item != null) {
+                    //等待期间放回池中的对象已经失效
+                    dispose(item);
+                }
+                item = create();
+            }
+        }
+        leased.put(item, Boolean.TRUE);
+        //借出之后马上补充, 下一次acquire不需要等待
+        fill();
+        return item;
+    }
+
+    public T acquire() throws Exception {
+        return acquire(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 归还对象, 在后台重置之后放回池中, 不能复用的直接销毁
+     */
+    public void release(T item) {
+        if (leased.remove(item) == null) {
+            throw new IllegalArgumentException(kind + " not leased from this pool");
+        }
+        if (closed) {
+            //池已经关闭, executor不再接受任务, 直接销毁
+            dispose(item);
+            return;
+        }
+        pending.incrementAndGet();
+        try {
+            executor.execute(() -> recycle(item));
+        } catch (RejectedExecutionException e) {
+            //检查closed之后被并发关闭
+            pending.decrementAndGet();
+            dispose(item);
+        }
+    }
+
+    private void recycle(T item) {
+        try {
+            if (closed || !reusable(item) || idle.size() >= size) {
+                dispose(item);
+                return;
+            }
+            try {
+                reset(item);
+                if (closed) {
+                    dispose(item);
+                } else {
+                    idle.offer(item);
+                }
+            } catch (Exception e) {
+                //重置失败的对象不能再给别的任务使用
+                logger.warn("reset {} failed, it will be disposed, pool={}, error={}", kind, name, e.getMessage(), e);
+                dispose(item);
+            }
+        } finally {
+            pending.decrementAndGet();
+            fill();
+        }
+    }
+
+    public int idleCount() {
+        return idle.size();
+    }
+
+    public int leasedCount() {
+        return leased.size();
+    }
+
+    private T poll() {
+        T item;
+        while ((item = idle.poll()) != null) {
+            if (isAlive(item)) {
+                return item;
+            }
+            dispose(item);
+        }
+        return null;
+    }
+
+    protected final void fill() {
+        while (!closed) {
+            int n = pending.get();
+            if (idle.size() + n >= size) {
+                return;
+            }
+            if (pending.compareAndSet(n, n + 1)) {
+                try {
+                    executor.execute(this::refill);
+                } catch (RejectedExecutionException e) {
+                    pending.decrementAndGet();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void refill() {
+        try {
+            if (closed) {
+                return;
+            }
+            T item = create();
+            if (closed) {
+                dispose(item);
+            } else {
+                idle.offer(item);
+            }
+        } catch (Exception e) {
+            //创建失败不在这里重试, 下一次acquire/release的时候会再次补充
+            logger.warn("create {} failed, pool={}, error={}", kind, name, e.getMessage(), e);
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    /**
+     * 销毁所有空闲的对象, 借出的对象在归还的时候销毁
+     */
+    @Override
+    public void close() {
+        closed = true;
+        executor.shutdown();
+        T item;
+        while ((item = idle.poll()) != null) {
+            dispose(item);
+        }
+    }
+}
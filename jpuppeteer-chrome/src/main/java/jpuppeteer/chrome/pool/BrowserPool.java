@@ -0,0 +1,365 @@
+package jpuppeteer.chrome.pool;
+
+import jpuppeteer.chrome.ChromeBrowser;
+import jpuppeteer.chrome.ChromeContext;
+import jpuppeteer.chrome.ChromeLauncher;
+import jpuppeteer.chrome.ChromePage;
+import jpuppeteer.chrome.constant.PageProfile;
+import jpuppeteer.chrome.util.ProcessUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 同时运行多个浏览器, 从负载最低(借出最少)的浏览器上借出context或者page
+ * 浏览器服务了maxPages个页面, 运行超过maxAge或者RSS超过maxRss之后不再借出, 等借出的全部归还之后重启
+ * 后台定时用Browser.getVersion检查浏览器是否存活, 没有响应的浏览器直接重启
+ */
+public class BrowserPool implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserPool.class);
+
+    private static final int PING_TIMEOUT = 5;
+
+    private static final int CHECK_INTERVAL = 10;
+
+    private static final int MAX_WORKERS = 4;
+
+    private final ChromeLauncher launcher;
+
+    private final String[] args;
+
+    /**
+     * 所有字段的修改都在this上同步
+     */
+    private final List<Entry> entries;
+
+    private final Map<Object/*ChromeContext or ChromePage*/, Entry> leaseMap;
+
+    private final ScheduledExecutorService executor;
+
+    private volatile int maxPages;
+
+    private volatile long maxAge;
+
+    private volatile long maxRss;
+
+    private volatile int maxLeases;
+
+    private volatile boolean closed;
+
+    /**
+     * 并行启动size个浏览器, 全部启动成功之后返回
+     */
+    public BrowserPool(ChromeLauncher launcher, int size, String... args) throws Exception {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+        this.launcher = launcher;
+        this.args = args;
+        this.entries = new ArrayList<>(size);
+        this.leaseMap = new ConcurrentHashMap<>();
+        AtomicInteger counter = new AtomicInteger(0);
+        this.executor = Executors.newScheduledThreadPool(Math.min(size, MAX_WORKERS), r -> {
+            Thread thread = new Thread(r, "BrowserPool-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<ChromeBrowser>> futures = new ArrayList<>(size);
+        for(int i = 0; i < size; i++) {
+            futures.add(executor.submit(() -> launcher.launch(args)));
+        }
+        Exception error = null;
+        for(Future<ChromeBrowser> future : futures) {
+            try {
+                entries.add(new Entry(future.get()));
+            } catch (Exception e) {
+                error = e;
+            }
+        }
+        if (error != null) {
+            close();
+            throw error;
+        }
+        executor.scheduleWithFixedDelay(this::check, CHECK_INTERVAL, CHECK_INTERVAL, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @param maxPages 每个浏览器借出多少次之后重启, 0表示不限制
+     */
+    public void setMaxPages(int maxPages) {
+        this.maxPages = maxPages;
+    }
+
+    /**
+     * @param maxAge 每个浏览器运行多长时间之后重启, 0表示不限制
+     */
+    public void setMaxAge(long maxAge, TimeUnit unit) {
+        this.maxAge = unit.toMillis(maxAge);
+    }
+
+    /**
+     * @param maxRss 浏览器进程树的RSS(字节)超过多少之后重启, 0表示不限制, 只支持linux
+     */
+    public void setMaxRss(long maxRss) {
+        this.maxRss = maxRss;
+    }
+
+    /**
+     * @param maxLeases 每个浏览器同时最多借出多少个context/page, 所有浏览器都达到上限的时候acquire等待归还, 0表示不限制
+     */
+    public void setMaxLeases(int maxLeases) {
+        this.maxLeases = maxLeases;
+    }
+
+    public ChromeContext acquireContext(PageProfile profile, long timeout, TimeUnit unit) throws Exception {
+        Entry entry = lease(timeout, unit);
+        try {
+            ChromeContext context = entry.browser.createContext(profile);
+            leaseMap.put(context, entry);
+            return context;
+        } catch (Exception e) {
+            unlease(entry);
+            throw e;
+        }
+    }
+
+    public ChromeContext acquireContext() throws Exception {
+        return acquireContext(PageProfile.FULL, ChromeBrowser.DEFAULT_TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 在默认的context中创建页面, 同一个浏览器借出的页面共享cookie
+     */
+    public ChromePage acquirePage(long timeout, TimeUnit unit) throws Exception {
+        Entry entry = lease(timeout, unit);
+        try {
+            ChromePage page = entry.browser.defaultContext().newPage();
+            leaseMap.put(page, entry);
+            return page;
+        } catch (Exception e) {
+            unlease(entry);
+            throw e;
+        }
+    }
+
+    public ChromePage acquirePage() throws Exception {
+        return acquirePage(ChromeBrowser.DEFAULT_TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 关闭context并归还
+     */
+    public void release(ChromeContext context) {
+        Entry entry = leaseMap.remove(context);
+        if (entry == null) {
+            throw new IllegalArgumentException("context not leased from this pool");
+        }
+        try {
+            context.close();
+        } catch (Exception e) {
+            logger.warn("close context failed, error={}", e.getMessage(), e);
+        } finally {
+            unlease(entry);
+        }
+    }
+
+    /**
+     * 关闭页面并归还
+     */
+    public void release(ChromePage page) {
+        Entry entry = leaseMap.remove(page);
+        if (entry == null) {
+            throw new IllegalArgumentException("page not leased from this pool");
+        }
+        try {
+            if (!page.isClosed()) {
+                page.close();
+            }
+        } catch (Exception e) {
+            logger.warn("close page failed, error={}", e.getMessage(), e);
+        } finally {
+            unlease(entry);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized Entry lease(long timeout, TimeUnit unit) throws Exception {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (true) {
+            if (closed) {
+                throw new IllegalStateException("browser pool closed");
+            }
+            Entry best = null;
+            int maxLeases = this.maxLeases;
+            for(Entry entry : entries) {
+                if (entry.draining || (maxLeases > 0 && entry.leases >= maxLeases)) {
+                    continue;
+                }
+                if (best == null || entry.leases < best.leases) {
+                    best = entry;
+                }
+            }
+            if (best != null) {
+                best.leases++;
+                best.pages++;
+                if (best.expired()) {
+                    //这是最后一次借出, 之后等待归还重启
+                    best.draining = true;
+                }
+                return best;
+            }
+            //所有的浏览器都在重启或者已经达到并发上限
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException("no browser available");
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+    }
+
+    private void unlease(Entry entry) {
+        synchronized (this) {
+            entry.leases--;
+            if (!entry.draining && entry.expired()) {
+                entry.draining = true;
+            }
+            notifyAll();
+        }
+        restartIfDrained(entry, false);
+    }
+
+    private void restartIfDrained(Entry entry, boolean force) {
+        synchronized (this) {
+            if (closed || !entry.draining || entry.restarting || (entry.leases > 0 && !force)) {
+                return;
+            }
+            entry.restarting = true;
+        }
+        executor.execute(() -> restart(entry));
+    }
+
+    private void restart(Entry entry) {
+        logger.info("restart browser, name={}, pages={}, leases={}", entry.browser.name(), entry.pages, entry.leases);
+        entry.browser.close();
+        ChromeBrowser browser = null;
+        if (!closed) {
+            try {
+                browser = launcher.launch(args);
+            } catch (Exception e) {
+                //保留旧的entry, 下一次检查的时候再重试
+                logger.error("launch browser failed, error={}", e.getMessage(), e);
+            }
+        }
+        synchronized (this) {
+            int index = entries.indexOf(entry);
+            if (browser != null && !closed && index >= 0) {
+                entries.set(index, new Entry(browser));
+                browser = null;
+            } else {
+                entry.restarting = false;
+            }
+            notifyAll();
+        }
+        if (browser != null) {
+            browser.close();
+        }
+    }
+
+    private void check() {
+        List<Entry> snapshot;
+        synchronized (this) {
+            snapshot = new ArrayList<>(entries);
+        }
+        for(Entry entry : snapshot) {
+            if (closed) {
+                return;
+            }
+            if (entry.restarting) {
+                continue;
+            }
+            boolean force = false;
+            if (entry.draining) {
+                //重启失败的浏览器等待重试
+                force = entry.leases == 0;
+            } else if (!entry.browser.ping(PING_TIMEOUT)) {
+                //已经没有响应了, 借出的context和page也无法使用, 直接重启
+                logger.warn("browser not responding, name={}", entry.browser.name());
+                force = true;
+            } else if (maxRss > 0) {
+                long rss = ProcessUtils.rss(ProcessUtils.pid(entry.browser.process()));
+                if (rss > maxRss) {
+                    logger.info("browser rss exceeded, name={}, rss={}", entry.browser.name(), rss);
+                    synchronized (this) {
+                        entry.draining = true;
+                    }
+                }
+            }
+            synchronized (this) {
+                if (force || entry.expired()) {
+                    entry.draining = true;
+                }
+                notifyAll();
+            }
+            restartIfDrained(entry, force);
+        }
+    }
+
+    /**
+     * 关闭所有浏览器, 借出的context和page随之失效
+     */
+    @Override
+    public void close() {
+        List<Entry> snapshot;
+        synchronized (this) {
+            closed = true;
+            snapshot = new ArrayList<>(entries);
+            entries.clear();
+            notifyAll();
+        }
+        executor.shutdownNow();
+        for(Entry entry : snapshot) {
+            entry.browser.close();
+        }
+        leaseMap.clear();
+    }
+
+    private class Entry {
+
+        private final ChromeBrowser browser;
+
+        private final long startTime;
+
+        private int leases;
+
+        private int pages;
+
+        private volatile boolean draining;
+
+        private volatile boolean restarting;
+
+        Entry(ChromeBrowser browser) {
+            this.browser = browser;
+            this.startTime = System.currentTimeMillis();
+        }
+
+        boolean expired() {
+            int maxPages = BrowserPool.this.maxPages;
+            long maxAge = BrowserPool.this.maxAge;
+            return (maxPages > 0 && pages >= maxPages) || (maxAge > 0 && System.currentTimeMillis() - startTime >= maxAge);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package jpuppeteer.chrome.pool;
+
+import jpuppeteer.chrome.ChromeBrowser;
+import jpuppeteer.chrome.ChromeContext;
+import jpuppeteer.chrome.constant.PageProfile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 预先创建N个隔离的context(相当于无痕窗口), 每个任务借出一个, 任务之间互不影响
+ * 归还的时候根据reuse决定清空数据之后复用({@link ChromeContext#reset()}), 还是直接销毁并在后台创建新的
+ */
+public class ContextPool extends AbstractPool<ChromeContext> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContextPool.class);
+
+    private final ChromeBrowser browser;
+
+    private final PageProfile profile;
+
+    private final boolean reuse;
+
+    public ContextPool(ChromeBrowser browser, int size) {
+        this(browser, PageProfile.FULL, size, true);
+    }
+
+    /**
+     * @param size 保持多少个可以直接使用的context
+     * @param reuse true: 归还的时候清空数据复用, false: 归还的时候销毁, 在后台创建新的补上
+     */
+    public ContextPool(ChromeBrowser browser, PageProfile profile, int size, boolean reuse) {
+        super("ContextPool[" + browser.name() + "]", "context", size);
+        this.browser = browser;
+        this.profile = profile;
+        this.reuse = reuse;
+        fill();
+    }
+
+    @Override
+    protected ChromeContext create() throws Exception {
+        return browser.createContext(profile);
+    }
+
+    @Override
+    protected void reset(ChromeContext context) throws Exception {
+        context.reset();
+    }
+
+    @Override
+    protected boolean reusable(ChromeContext context) {
+        return reuse;
+    }
+
+    @Override
+    protected void dispose(ChromeContext context) {
+        try {
+            context.close();
+        } catch (Exception e) {
+            logger.warn("close context failed, error={}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package jpuppeteer.chrome.pool;
+
+import jpuppeteer.chrome.ChromeContext;
+import jpuppeteer.chrome.ChromePage;
+import jpuppeteer.chrome.constant.PageProfile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 在一个BrowserContext中预先创建好N个页面, 省掉每次newPage的createTarget, attach以及enable的开销
+ * 页面归还之后在后台重置状态(about:blank, 清空历史, 拦截器, header, 模拟设备等)再放回池中
+ * 使用次数达到maxUses的页面直接关闭, 由后台重新创建一个新的补上
+ */
+public class PagePool extends AbstractPool<ChromePage> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PagePool.class);
+
+    private static final int DEFAULT_MAX_USES = 100;
+
+    private final ChromeContext context;
+
+    private final PageProfile profile;
+
+    private final int maxUses;
+
+    /**
+     * 池中所有存活的页面(空闲的和借出的) -> 已经使用的次数
+     */
+    private final Map<ChromePage, Integer> uses;
+
+    public PagePool(ChromeContext context, int size) {
+        this(context, context.profile(), size, DEFAULT_MAX_USES);
+    }
+
+    /**
+     * @param size 保持多少个可以直接使用的页面
+     * @param maxUses 每个页面最多使用多少次, 之后关闭重新创建, 避免长时间使用导致页面内存泄漏
+     */
+    public PagePool(ChromeContext context, PageProfile profile, int size, int maxUses) {
+        super("PagePool[" + context.name() + "]", "page", size);
+        if (maxUses <= 0) {
+            throw new IllegalArgumentException("maxUses must be positive");
+        }
+        this.context = context;
+        this.profile = profile;
+        this.maxUses = maxUses;
+        this.uses = new ConcurrentHashMap<>();
+        fill();
+    }
+
+    public ChromeContext context() {
+        return context;
+    }
+
+    @Override
+    protected ChromePage create() throws Exception {
+        ChromePage page = context.newPage(profile);
+        uses.put(page, 0);
+        return page;
+    }
+
+    @Override
+    protected void reset(ChromePage page) throws Exception {
+        page.reset();
+    }
+
+    @Override
+    protected boolean reusable(ChromePage page) {
+        int count = uses.merge(page, 1, Integer::sum);
+        return !page.isClosed() && count < maxUses;
+    }
+
+    @Override
+    protected boolean isAlive(ChromePage page) {
+        //空闲的时候页面可能崩溃或者被关闭了
+        return !page.isClosed();
+    }
+
+    @Override
+    protected void dispose(ChromePage page) {
+        uses.remove(page);
+        if (page.isClosed()) {
+            return;
+        }
+        try {
+            page.close();
+        } catch (Exception e) {
+            logger.warn("close page failed, error={}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package jpuppeteer.chrome.util;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ProcessUtils {
+
+    private static final File PROC = new File("/proc");
+
+    /**
+     * java拿不到系统的页大小, x86和arm64的linux基本都是4K
+     */
+    private static final long PAGE_SIZE = 4096;
+
+    /**
+     * @return 进程id, 取不到的时候返回-1
+     */
+    public static long pid(Process process) {
+        if (process == null) {
+            return -1;
+        }
+        try {
+            //java9+
+            Method method = Process.class.getMethod("pid");
+            return (Long) method.invoke(process);
+        } catch (NoSuchMethodException e) {
+            //java8的UNIXProcess
+            try {
+                Field field = process.getClass().getDeclaredField("pid");
+                field.setAccessible(true);
+                return ((Number) field.get(process)).longValue();
+            } catch (Exception ex) {
+                return -1;
+            }
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    /**
+     * chrome是多进程的, 统计进程以及所有子孙进程的RSS之和
+     * @return 字节数, 不是linux或者进程不存在的时候返回-1
+     */
+    public static long rss(long pid) {
+        if (pid <= 0 || !new File(PROC, String.valueOf(pid)).isDirectory()) {
+            return -1;
+        }
+        File[] dirs = PROC.listFiles();
+        if (dirs == null) {
+            return -1;
+        }
+        Map<Long/*ppid*/, List<Long>> children = new HashMap<>();
+        for(File dir : dirs) {
+            if (!StringUtils.isNumeric(dir.getName())) {
+                continue;
+            }
+            long ppid = ppid(dir);
+            if (ppid > 0) {
+                children.computeIfAbsent(ppid, k -> new ArrayList<>()).add(Long.parseLong(dir.getName()));
+            }
+        }
+        long total = 0;
+        Deque<Long> queue = new ArrayDeque<>();
+        queue.add(pid);
+        while (!queue.isEmpty()) {
+            long current = queue.poll();
+            total += pages(current) * PAGE_SIZE;
+            List<Long> list = children.get(current);
+            if (list != null) {
+                queue.addAll(list);
+            }
+        }
+        return total;
+    }
+
+    private static String read(File file) {
+        try {
+            return new String(Files.readAllBytes(file.toPath()), StandardCharsets.US_ASCII);
+        } catch (IOException e) {
+            //进程在遍历的过程中退出了
+            return null;
+        }
+    }
+
+    private static long ppid(File dir) {
+        //格式为: pid (comm) state ppid ..., comm中可能有空格和括号
+        String stat = read(new File(dir, "stat"));
+        if (stat == null) {
+            return -1;
+        }
+        int index = stat.lastIndexOf(')');
+        if (index < 0) {
+            return -1;
+        }
+        String[] fields = StringUtils.split(stat.substring(index + 1), ' ');
+        return fields.length > 1 ? Long.parseLong(fields[1]) : -1;
+    }
+
+    private static long pages(long pid) {
+        //格式为: size resident shared ..., 单位是页
+        String statm = read(new File(new File(PROC, String.valueOf(pid)), "statm"));
+        if (statm == null) {
+            return 0;
+        }
+        String[] fields = StringUtils.split(statm, ' ');
+        return fields.length > 1 ? Long.parseLong(fields[1].trim()) : 0;
+    }
+}
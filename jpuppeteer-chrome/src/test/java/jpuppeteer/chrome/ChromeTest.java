@@ -7,6 +7,7 @@ import jpuppeteer.chrome.constant.LifecycleEventType;
 import jpuppeteer.chrome.event.FrameLifecycleEvent;
 import jpuppeteer.chrome.event.Request;
 import jpuppeteer.chrome.event.type.ChromePageEvent;
+import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.slf4j.Logger;
@@ -77,4 +78,29 @@ public class ChromeTest {
         TimeUnit.DAYS.sleep(1);
     }
 
+    @Test
+    public void testResetScriptsAndCSP() throws Exception {
+        ChromeBrowser browser = new ChromeLauncher(Constant.CHROME_EXECUTABLE_PATH).launch();
+        try {
+            ChromePage page = browser.defaultContext().defaultPage();
+            //禁止所有脚本的页面, 只有绕过CSP之后动态插入的内联脚本才会执行
+            String url = "data:text/html,<meta http-equiv=\"Content-Security-Policy\" content=\"script-src 'none'\"><body></body>";
+            String inline = "function(){var s=document.createElement('script');s.textContent='window.__inline=1';document.body.appendChild(s);return typeof window.__inline;}";
+            page.evaluateOnNewDocument("window.__injected = 1");
+            page.setByPassCSP(true);
+            page.navigate(url, null);
+            TimeUnit.SECONDS.sleep(1);
+            Assert.assertEquals("number", page.evaluate("function(){return typeof window.__injected;}", String.class));
+            Assert.assertEquals("number", page.evaluate(inline, String.class));
+
+            page.reset();
+            page.navigate(url, null);
+            TimeUnit.SECONDS.sleep(1);
+            Assert.assertEquals("undefined", page.evaluate("function(){return typeof window.__injected;}", String.class));
+            Assert.assertEquals("undefined", page.evaluate(inline, String.class));
+        } finally {
+            browser.close();
+        }
+    }
+
 }
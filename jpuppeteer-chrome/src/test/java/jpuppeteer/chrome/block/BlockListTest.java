@@ -0,0 +1,182 @@
+package jpuppeteer.chrome.block;
+
+import jpuppeteer.api.constant.ResourceType;
+import jpuppeteer.cdp.cdp.entity.fetch.RequestPattern;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class BlockListTest {
+
+    private static BlockList of(String... rules) {
+        BlockList blockList = new BlockList();
+        for(String rule : rules) {
+            assertTrue(rule, blockList.addRule(rule));
+        }
+        return blockList;
+    }
+
+    private static List<String> urlPatterns(BlockList blockList) {
+        List<String> patterns = new ArrayList<>();
+        for(RequestPattern pattern : blockList.requestPatterns()) {
+            patterns.add(pattern.getResourceType() != null ? pattern.getUrlPattern() + " " + pattern.getResourceType() : pattern.getUrlPattern());
+        }
+        return patterns;
+    }
+
+    @Test
+    public void testHost() {
+        BlockList blockList = of("||ads.example.com^");
+        assertTrue(blockList.matches("https://ads.example.com/banner.js", ResourceType.SCRIPT));
+        assertTrue(blockList.matches("http://cdn.ads.example.com:8080/a", ResourceType.IMAGE));
+        assertTrue(blockList.matches("https://user@ADS.Example.com/", ResourceType.DOCUMENT));
+        assertFalse(blockList.matches("https://badads.example.com/", ResourceType.SCRIPT));
+        assertFalse(blockList.matches("https://example.com/?u=ads.example.com", ResourceType.SCRIPT));
+        assertFalse(blockList.matches("https://ads.example.com.cn/", ResourceType.SCRIPT));
+    }
+
+    @Test
+    public void testSubstring() {
+        BlockList blockList = of("/Banner-");
+        assertTrue(blockList.matches("https://example.com/banner-1.png", ResourceType.IMAGE));
+        assertTrue(blockList.matches("https://example.com/BANNER-1.png", ResourceType.IMAGE));
+        assertFalse(blockList.matches("https://example.com/banners-1.png", ResourceType.IMAGE));
+    }
+
+    @Test
+    public void testAnchor() {
+        BlockList blockList = of("|https://track.", "swf|");
+        assertTrue(blockList.matches("https://track.example.com/", ResourceType.XHR));
+        assertFalse(blockList.matches("http://example.com/?r=https://track.", ResourceType.XHR));
+        assertTrue(blockList.matches("https://example.com/a.swf", ResourceType.OTHER));
+        assertFalse(blockList.matches("https://example.com/a.swf?x=1", ResourceType.OTHER));
+    }
+
+    @Test
+    public void testSeparator() {
+        BlockList blockList = of("||example.com^*/ad^");
+        assertTrue(blockList.matches("https://www.example.com/x/ad?id=1", ResourceType.SCRIPT));
+        assertTrue(blockList.matches("https://example.com/x/ad", ResourceType.SCRIPT));
+        assertFalse(blockList.matches("https://example.com/x/admin", ResourceType.SCRIPT));
+        assertFalse(blockList.matches("https://notexample.com/x/ad", ResourceType.SCRIPT));
+
+        BlockList wildcard = of("/ads/*.gif");
+        assertTrue(wildcard.matches("https://example.com/ads/x/1.gif", ResourceType.IMAGE));
+        assertFalse(wildcard.matches("https://example.com/ads/1.png", ResourceType.IMAGE));
+    }
+
+    @Test
+    public void testException() {
+        BlockList blockList = of("||example.com^", "@@||example.com/static/");
+        assertTrue(blockList.matches("https://example.com/ads.js", ResourceType.SCRIPT));
+        assertFalse(blockList.matches("https://example.com/static/app.js", ResourceType.SCRIPT));
+        //有例外规则的时候不能直接交给浏览器屏蔽
+        assertTrue(blockList.blockedUrls().isEmpty());
+        assertFalse(blockList.requestPatterns().isEmpty());
+    }
+
+    @Test
+    public void testExceptionOnlyWithholdsOverlappingHosts() {
+        BlockList blockList = of("||ads.example.com^", "||tracker.net^", "||example.org^", "@@||cdn.ads.example.com/lib.js", "@@||other.com^");
+        //只有例外规则涉及的域名需要暂停下来判断, 其余的仍然交给浏览器屏蔽
+        assertEquals(Arrays.asList("*://tracker.net/*", "*://*.tracker.net/*", "*://tracker.net:*", "*://*.tracker.net:*",
+                "*://example.org/*", "*://*.example.org/*", "*://example.org:*", "*://*.example.org:*"),
+                blockList.blockedUrls());
+        assertEquals(Arrays.asList("*://ads.example.com/*", "*://*.ads.example.com/*", "*://ads.example.com:*", "*://*.ads.example.com:*"),
+                urlPatterns(blockList));
+        assertTrue(blockList.matches("https://x.ads.example.com/a.js", ResourceType.SCRIPT));
+        assertFalse(blockList.matches("https://cdn.ads.example.com/lib.js", ResourceType.SCRIPT));
+    }
+
+    @Test
+    public void testMatchAllPatterns() {
+        //只由字母组成的规则替换之后匹配所有url, 只能拦截所有请求, 其余的模式都不需要了
+        BlockList blockList = of("banner", "/ads/*", "/Banner-");
+        assertEquals(Arrays.asList("*"), urlPatterns(blockList));
+        assertTrue(blockList.matches("https://example.com/banner.png", ResourceType.IMAGE));
+        assertTrue(blockList.matches("https://example.com/ads/1.js", ResourceType.SCRIPT));
+        assertFalse(blockList.matches("https://example.com/index.html", ResourceType.DOCUMENT));
+
+        //限定了资源类型的只拦截这些类型
+        BlockList typed = of("banner$image", "/Banner-");
+        assertEquals(Arrays.asList("* Image", "*/*-*"), urlPatterns(typed));
+        assertTrue(typed.matches("https://example.com/BANNER.png", ResourceType.IMAGE));
+        assertFalse(typed.matches("https://example.com/banner.js", ResourceType.SCRIPT));
+    }
+
+    @Test
+    public void testTypeOptions() {
+        BlockList blockList = of("||example.com^$script,image", "$font", "/track$xmlhttprequest");
+        assertTrue(blockList.matches("https://example.com/a.js", ResourceType.SCRIPT));
+        assertTrue(blockList.matches("https://example.com/a.png", ResourceType.IMAGE));
+        assertFalse(blockList.matches("https://example.com/", ResourceType.DOCUMENT));
+        assertTrue(blockList.matches("https://other.com/a.woff", ResourceType.FONT));
+        assertTrue(blockList.matches("https://other.com/track", ResourceType.XHR));
+        assertTrue(blockList.matches("https://other.com/track", ResourceType.FETCH));
+        assertFalse(blockList.matches("https://other.com/track", ResourceType.SCRIPT));
+    }
+
+    @Test
+    public void testBlockTypes() {
+        BlockList blockList = new BlockList();
+        blockList.block(ResourceType.IMAGE, ResourceType.MEDIA);
+        assertTrue(blockList.matches("https://example.com/a.png", ResourceType.IMAGE));
+        assertFalse(blockList.matches("https://example.com/a.js", ResourceType.SCRIPT));
+        assertEquals(Arrays.asList("* Image", "* Media"), urlPatterns(blockList));
+        assertTrue(blockList.blockedUrls().isEmpty());
+    }
+
+    @Test
+    public void testUnsupported() throws IOException {
+        BlockList blockList = new BlockList();
+        assertFalse(blockList.addRule(""));
+        assertFalse(blockList.addRule("! comment"));
+        assertFalse(blockList.addRule("[Adblock Plus 2.0]"));
+        assertFalse(blockList.addRule("example.com##.ad"));
+        assertFalse(blockList.addRule("/banner\\d+/"));
+        assertFalse(blockList.addRule("||example.com^$domain=foo.com"));
+        assertEquals(2, blockList.load(new StringReader("! list\n||a.com^\n\n/ads/x\nb.com#@#.ad\n")));
+        assertEquals(2, blockList.size());
+    }
+
+    @Test
+    public void testGeneratedPatterns() {
+        BlockList blockList = of("||ads.example.com^", "/Banner-", "|https://x.com/track?id=");
+        //只有域名规则交给浏览器屏蔽
+        assertEquals(Arrays.asList("*://ads.example.com/*", "*://*.ads.example.com/*", "*://ads.example.com:*", "*://*.ads.example.com:*"),
+                blockList.blockedUrls());
+        //其余的规则不能依赖浏览器区分大小写, 字母都替换成*, ?需要转义
+        assertEquals(Arrays.asList("*/*-*", "*://*.*/*\\?*=*"), urlPatterns(blockList));
+    }
+
+    @Test
+    public void testTypedHostPatterns() {
+        BlockList blockList = of("||example.com^$script");
+        assertTrue(blockList.blockedUrls().isEmpty());
+        assertEquals(Arrays.asList("*://example.com/* Script", "*://*.example.com/* Script", "*://example.com:* Script", "*://*.example.com:* Script"),
+                urlPatterns(blockList));
+    }
+
+    @Test
+    public void testTooManyPatterns() {
+        BlockList blockList = new BlockList();
+        for(int i = 0; i < 300; i++) {
+            blockList.addRule("||host" + i + ".com^$image");
+        }
+        assertEquals(Arrays.asList("*"), urlPatterns(blockList));
+        assertTrue(blockList.matches("https://host299.com/a.png", ResourceType.IMAGE));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCompiled() {
+        BlockList blockList = of("||example.com^");
+        blockList.compile();
+        blockList.addRule("||other.com^");
+    }
+}
@@ -0,0 +1,189 @@
+package jpuppeteer.chrome.cache;
+
+import jpuppeteer.cdp.CDPMessage;
+import jpuppeteer.cdp.cdp.entity.fetch.FulfillRequestRequest;
+import jpuppeteer.cdp.cdp.entity.fetch.HeaderEntry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static jpuppeteer.chrome.cache.CacheControlTest.headers;
+import static org.junit.Assert.*;
+
+public class AssetCacheTest {
+
+    private static final String URL = "https://example.com/a.js";
+
+    private static final List<HeaderEntry> FRESH = headers("Cache-Control", "max-age=3600", "Content-Type", "application/javascript");
+
+    private static final Map<String, Object> NO_HEADERS = Collections.emptyMap();
+
+    /**
+     * 16个块, 单个响应最多2个块
+     */
+    private AssetCache cache;
+
+    @Before
+    public void setUp() throws IOException {
+        cache = new AssetCache(null, 16 * MappedStore.BLOCK_SIZE);
+    }
+
+    @After
+    public void tearDown() {
+        cache.close();
+    }
+
+    private static Map<String, Object> requestHeaders(String... nameValues) {
+        Map<String, Object> headers = new HashMap<>();
+        for(int i = 0; i < nameValues.length; i += 2) {
+            headers.put(nameValues[i], nameValues[i + 1]);
+        }
+        return headers;
+    }
+
+    private static String body(FulfillRequestRequest request) {
+        return new String(Base64.getDecoder().decode(request.getBody()));
+    }
+
+    @Test
+    public void testStorable() {
+        assertTrue(cache.isStorable(NO_HEADERS, 200, FRESH));
+        assertFalse(cache.isStorable(NO_HEADERS, 404, FRESH));
+        assertFalse(cache.isStorable(NO_HEADERS, 200, headers("Cache-Control", "no-store, max-age=3600")));
+        assertFalse(cache.isStorable(NO_HEADERS, 200, headers("Cache-Control", "private, max-age=3600")));
+        assertFalse(cache.isStorable(NO_HEADERS, 200, headers("Cache-Control", "max-age=3600", "Set-Cookie", "a=1")));
+        assertFalse(cache.isStorable(NO_HEADERS, 200, headers("Cache-Control", "max-age=3600", "Vary", "*")));
+        //既不新鲜也没有验证器
+        assertFalse(cache.isStorable(NO_HEADERS, 200, headers("Cache-Control", "no-cache")));
+        assertTrue(cache.isStorable(NO_HEADERS, 200, headers("Cache-Control", "no-cache", "ETag", "\"1\"")));
+        //请求不允许使用缓存
+        assertFalse(cache.isStorable(requestHeaders("Cache-Control", "no-store"), 200, FRESH));
+        assertFalse(cache.isStorable(requestHeaders("Authorization", "Basic eA=="), 200, FRESH));
+        assertFalse(cache.store(URL, NO_HEADERS, 200, headers("Cache-Control", "no-store"), new byte[10]));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testStoreAndFulfill() {
+        assertTrue(cache.store(URL, NO_HEADERS, 200, headers("Cache-Control", "max-age=3600", "Content-Length", "999", "Content-Encoding", "gzip"), "alert(1)".getBytes()));
+        CachedResponse cached = cache.lookup(URL, NO_HEADERS);
+        assertNotNull(cached);
+        assertTrue(cached.isFresh());
+        assertEquals(1, cache.hitCount());
+        FulfillRequestRequest request = cache.buildFulfillRequest("I1", cached);
+        assertEquals("alert(1)", body(request));
+        assertEquals(200, request.getResponseCode().intValue());
+        //长度和编码相关的头换成解压之后的长度
+        assertNull(CacheControl.header(request.getResponseHeaders(), "Content-Encoding"));
+        assertEquals("8", CacheControl.header(request.getResponseHeaders(), "Content-Length"));
+        assertNull(cache.lookup(URL, requestHeaders("Cache-Control", "no-cache")));
+    }
+
+    @Test
+    public void testStoreMessage() {
+        byte[] bytes = new byte[5000];
+        for(int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        String base64 = Base64.getEncoder().encodeToString(bytes).replace("/", "\\/");
+        CDPMessage message = CDPMessage.peek("{\"id\":1,\"result\":{\"base64Encoded\":true,\"body\":\"" + base64 + "\"}}");
+        assertTrue(cache.store(URL, NO_HEADERS, 200, FRESH, message));
+        FulfillRequestRequest request = cache.buildFulfillRequest("I1", cache.lookup(URL, NO_HEADERS));
+        assertArrayEquals(bytes, Base64.getDecoder().decode(request.getBody()));
+
+        CDPMessage text = CDPMessage.peek("{\"id\":2,\"result\":{\"base64Encoded\":false,\"body\":\"body{}\"}}");
+        assertTrue(cache.store(URL, NO_HEADERS, 200, FRESH, text));
+        assertEquals("body{}", body(cache.buildFulfillRequest("I2", cache.lookup(URL, NO_HEADERS))));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testMustRevalidate() {
+        List<HeaderEntry> headers = headers("Cache-Control", "max-age=0, must-revalidate", "ETag", "\"v1\"");
+        assertTrue(cache.store(URL, NO_HEADERS, 200, headers, new byte[10]));
+        CachedResponse cached = cache.lookup(URL, NO_HEADERS);
+        assertNotNull(cached);
+        //过期的响应返回给调用方发条件请求, 不算命中
+        assertFalse(cached.isFresh());
+        assertEquals(0, cache.hitCount());
+        List<HeaderEntry> conditional = cache.conditionalHeaders(cached, NO_HEADERS);
+        assertEquals("\"v1\"", CacheControl.header(conditional, "If-None-Match"));
+
+        //304带回新的过期时间
+        assertSame(cached, cache.revalidated(cached, headers("Cache-Control", "max-age=60")));
+        assertTrue(cached.isFresh());
+        assertEquals(1, cache.revalidationCount());
+    }
+
+    @Test
+    public void testEvictionOrder() {
+        byte[] block = new byte[MappedStore.BLOCK_SIZE];
+        for(int i = 0; i < 16; i++) {
+            assertTrue(cache.store(URL + i, NO_HEADERS, 200, FRESH, block));
+        }
+        assertEquals(16, cache.size());
+        //访问之后0变成最近使用的, 1成为最久没有使用的
+        assertNotNull(cache.lookup(URL + 0, NO_HEADERS));
+        assertTrue(cache.store(URL + 16, NO_HEADERS, 200, FRESH, block));
+        assertEquals(1, cache.evictionCount());
+        assertNull(cache.lookup(URL + 1, NO_HEADERS));
+        assertNotNull(cache.lookup(URL + 0, NO_HEADERS));
+
+        //需要2个块的响应淘汰最久没有使用的2个
+        CachedResponse evicted = cache.lookup(URL + 2, NO_HEADERS);
+        cache.lookup(URL + 4, NO_HEADERS);
+        cache.lookup(URL + 2, NO_HEADERS);
+        assertTrue(cache.store(URL + 17, NO_HEADERS, 200, FRESH, new byte[MappedStore.BLOCK_SIZE + 1]));
+        assertEquals(3, cache.evictionCount());
+        assertNull(cache.lookup(URL + 3, NO_HEADERS));
+        assertNull(cache.lookup(URL + 5, NO_HEADERS));
+        assertNotNull(cache.lookup(URL + 4, NO_HEADERS));
+        assertSame(evicted, cache.lookup(URL + 2, NO_HEADERS));
+        assertEquals(15, cache.size());
+        assertEquals(16L * MappedStore.BLOCK_SIZE, cache.usedBytes());
+
+        //超过1/8容量的响应不缓存
+        assertFalse(cache.store(URL, NO_HEADERS, 200, FRESH, new byte[2 * MappedStore.BLOCK_SIZE + 1]));
+    }
+
+    @Test
+    public void testEvictedResponse() {
+        assertTrue(cache.store(URL, NO_HEADERS, 200, FRESH, new byte[10]));
+        CachedResponse cached = cache.lookup(URL, NO_HEADERS);
+        //同一个key再次存入之后旧的响应失效
+        assertTrue(cache.store(URL, NO_HEADERS, 200, FRESH, new byte[20]));
+        assertNull(cache.buildFulfillRequest("I1", cached));
+        assertNull(cache.revalidated(cached, FRESH));
+        assertEquals(20, cache.lookup(URL, NO_HEADERS).getLength());
+    }
+
+    @Test
+    public void testVary() {
+        List<HeaderEntry> headers = headers("Cache-Control", "max-age=3600", "Vary", "Accept-Encoding");
+        assertTrue(cache.store(URL, requestHeaders("Accept-Encoding", "gzip"), 200, headers, "gzip".getBytes()));
+        assertTrue(cache.store(URL, requestHeaders("accept-encoding", "br"), 200, headers, "br".getBytes()));
+        assertEquals(2, cache.size());
+        assertEquals("gzip", body(cache.buildFulfillRequest("I1", cache.lookup(URL, requestHeaders("ACCEPT-ENCODING", "gzip")))));
+        assertEquals("br", body(cache.buildFulfillRequest("I2", cache.lookup(URL, requestHeaders("Accept-Encoding", "br")))));
+        //请求头不一致的不能命中
+        assertNull(cache.lookup(URL, requestHeaders("Accept-Encoding", "deflate")));
+        assertNull(cache.lookup(URL, NO_HEADERS));
+
+        //Vary变化之后以前的变体全部失效
+        CachedResponse old = cache.lookup(URL, requestHeaders("Accept-Encoding", "gzip"));
+        List<HeaderEntry> changed = headers("Cache-Control", "max-age=3600", "Vary", "User-Agent");
+        assertTrue(cache.store(URL, requestHeaders("Accept-Encoding", "gzip", "User-Agent", "A"), 200, changed, "ua".getBytes()));
+        assertEquals(1, cache.size());
+        assertNull(cache.buildFulfillRequest("I3", old));
+        assertNull(cache.lookup(URL, requestHeaders("Accept-Encoding", "gzip")));
+        assertNull(cache.lookup(URL, requestHeaders("User-Agent", "B")));
+        assertEquals("ua", body(cache.buildFulfillRequest("I4", cache.lookup(URL, requestHeaders("User-Agent", "A")))));
+    }
+}
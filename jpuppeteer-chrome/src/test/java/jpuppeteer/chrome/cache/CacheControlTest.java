@@ -0,0 +1,85 @@
+package jpuppeteer.chrome.cache;
+
+import jpuppeteer.cdp.cdp.entity.fetch.HeaderEntry;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class CacheControlTest {
+
+    private static final long NOW = 1700000000000L;
+
+    static List<HeaderEntry> headers(String... nameValues) {
+        List<HeaderEntry> headers = new ArrayList<>();
+        for(int i = 0; i < nameValues.length; i += 2) {
+            HeaderEntry entry = new HeaderEntry();
+            entry.setName(nameValues[i]);
+            entry.setValue(nameValues[i + 1]);
+            headers.add(entry);
+        }
+        return headers;
+    }
+
+    private static String date(long millis) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(millis).atZone(ZoneOffset.UTC));
+    }
+
+    private static long freshness(String... nameValues) {
+        List<HeaderEntry> headers = headers(nameValues);
+        return CacheControl.freshness(CacheControl.parse(CacheControl.header(headers, "Cache-Control")), headers, NOW);
+    }
+
+    @Test
+    public void testParse() {
+        Map<String, String> directives = CacheControl.parse("Max-Age=60, no-store, private=\"Set-Cookie\",,");
+        assertEquals("60", directives.get("max-age"));
+        assertEquals("", directives.get("no-store"));
+        assertEquals("Set-Cookie", directives.get("private"));
+        assertEquals(3, directives.size());
+    }
+
+    @Test
+    public void testMaxAge() {
+        assertEquals(TimeUnit.SECONDS.toMillis(60), freshness("Cache-Control", "max-age=60"));
+        //Age表示响应在上游缓存中已经存在的时间
+        assertEquals(TimeUnit.SECONDS.toMillis(50), freshness("Cache-Control", "max-age=60", "Age", "10"));
+        assertEquals(0, freshness("Cache-Control", "max-age=60", "Age", "100"));
+        //共享缓存优先使用s-maxage
+        assertEquals(TimeUnit.SECONDS.toMillis(10), freshness("Cache-Control", "max-age=60, s-maxage=10"));
+        //max-age优先于Expires
+        assertEquals(TimeUnit.SECONDS.toMillis(60), freshness("Cache-Control", "max-age=60", "Expires", date(NOW + TimeUnit.HOURS.toMillis(1))));
+    }
+
+    @Test
+    public void testNoCacheAndMustRevalidate() {
+        assertEquals(0, freshness("Cache-Control", "no-cache, max-age=60"));
+        //must-revalidate只约束过期之后的行为, 不影响新鲜度
+        assertEquals(TimeUnit.SECONDS.toMillis(60), freshness("Cache-Control", "max-age=60, must-revalidate"));
+        assertEquals(0, freshness("Cache-Control", "max-age=0, must-revalidate"));
+    }
+
+    @Test
+    public void testExpires() {
+        long date = NOW - TimeUnit.MINUTES.toMillis(5);
+        assertEquals(TimeUnit.MINUTES.toMillis(10), freshness("Date", date(date), "Expires", date(date + TimeUnit.MINUTES.toMillis(10))));
+        assertEquals(0, freshness("Date", date(date), "Expires", date(date - 1000)));
+        //非法的Expires视为已经过期
+        assertEquals(0, freshness("Expires", "0"));
+    }
+
+    @Test
+    public void testHeuristic() {
+        //按Last-Modified到Date间隔的1/10估算, 最多1天
+        assertEquals(TimeUnit.HOURS.toMillis(1), freshness("Date", date(NOW), "Last-Modified", date(NOW - TimeUnit.HOURS.toMillis(10))));
+        assertEquals(TimeUnit.DAYS.toMillis(1), freshness("Date", date(NOW), "Last-Modified", date(NOW - TimeUnit.DAYS.toMillis(100))));
+        assertEquals(0, freshness("Date", date(NOW)));
+    }
+}
@@ -0,0 +1,93 @@
+package jpuppeteer.chrome.cache;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class MappedStoreTest {
+
+    private MappedStore store;
+
+    @After
+    public void tearDown() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    private static byte[] random(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private int[] write(byte[] data) throws IOException {
+        int[] blocks = store.allocate(data.length);
+        assertNotNull(blocks);
+        //每次写1000字节, 让一次写入跨越块的边界
+        store.write(blocks, data.length, out -> {
+            for(int offset = 0; offset < data.length; offset += 1000) {
+                out.write(data, offset, Math.min(1000, data.length - offset));
+            }
+        });
+        return blocks;
+    }
+
+    @Test
+    public void testSegmentBoundary() throws IOException {
+        //每段2个块, 5个块分成3段, 最后一段只有1个块
+        store = new MappedStore(null, 5 * MappedStore.BLOCK_SIZE, 2 * MappedStore.BLOCK_SIZE);
+        byte[] first = random(3 * MappedStore.BLOCK_SIZE - 100);
+        byte[] second = random(2 * MappedStore.BLOCK_SIZE);
+        int[] firstBlocks = write(first);
+        int[] secondBlocks = write(second);
+        assertEquals(3, firstBlocks.length);
+        assertEquals(2, secondBlocks.length);
+        assertEquals(0, store.freeBlocks());
+        Set<Integer> all = new HashSet<>();
+        for(int block : firstBlocks) {
+            all.add(block);
+        }
+        for(int block : secondBlocks) {
+            all.add(block);
+        }
+        assertEquals(new HashSet<>(Arrays.asList(0, 1, 2, 3, 4)), all);
+        assertArrayEquals(first, store.read(firstBlocks, first.length));
+        assertArrayEquals(second, store.read(secondBlocks, second.length));
+        assertNull(store.allocate(1));
+
+        //释放之后重新分配, 块的顺序不再连续
+        store.free(firstBlocks);
+        byte[] third = random(3 * MappedStore.BLOCK_SIZE);
+        int[] thirdBlocks = write(third);
+        assertArrayEquals(third, store.read(thirdBlocks, third.length));
+        assertArrayEquals(second, store.read(secondBlocks, second.length));
+    }
+
+    @Test
+    public void testWriteBeyondLength() throws IOException {
+        store = new MappedStore(null, 4 * MappedStore.BLOCK_SIZE);
+        int[] blocks = store.allocate(10);
+        try {
+            store.write(blocks, 10, out -> out.write(new byte[11]));
+            fail();
+        } catch (IOException e) {
+            //写入失败的块由调用方释放
+            assertEquals(3, store.freeBlocks());
+        }
+        store.free(blocks);
+        assertEquals(4, store.freeBlocks());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSegmentSize() throws IOException {
+        new MappedStore(null, 4 * MappedStore.BLOCK_SIZE, MappedStore.BLOCK_SIZE + 1);
+    }
+}
@@ -0,0 +1,165 @@
+package jpuppeteer.chrome.har;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONObject;
+import jpuppeteer.cdp.cdp.entity.network.Request;
+import jpuppeteer.cdp.cdp.entity.network.Response;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class HarWriterTest {
+
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("jpuppeteer-har-", ".har");
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    private static Request request(String method, String url) {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("Accept", "*/*");
+        Request request = new Request();
+        request.setMethod(method);
+        request.setUrl(url);
+        request.setHeaders(headers);
+        return request;
+    }
+
+    private static Response response(int status, String mimeType) {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("Content-Type", mimeType);
+        headers.put("Set-Cookie", "a=1\nb=2");
+        Response response = new Response();
+        response.setStatus(status);
+        response.setStatusText("OK");
+        response.setMimeType(mimeType);
+        response.setProtocol("h2");
+        response.setHeaders(headers);
+        return response;
+    }
+
+    private static HarEntry entry(String requestId, String pageref, Request request, Response response) {
+        HarEntry entry = new HarEntry(requestId, pageref, 1700000000000L, 100, "Script", request);
+        entry.response = response;
+        entry.endTimestamp = 100.5;
+        entry.encodedDataLength = 1234.0;
+        return entry;
+    }
+
+    private JSONObject read() throws IOException {
+        return JSON.parseObject(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+
+    private static void assertHas(JSONObject object, String... names) {
+        for(String name : names) {
+            assertTrue(name + " missing in " + object, object.containsKey(name));
+        }
+    }
+
+    @Test
+    public void testHar() throws IOException {
+        HarWriter writer = new HarWriter(file);
+        HarEntry first = entry("1", "page_1", request("GET", "https://example.com/a.js?x=1&y"), response(200, "application/javascript"));
+        first.body = "YWJj";
+        first.base64Encoded = true;
+        writer.writeEntry(first);
+        //没有请求的entry编码到一半失败, 不能在文件中留下半个entry或者多余的逗号
+        try {
+            writer.writeEntry(entry("2", "page_1", null, null));
+            fail();
+        } catch (RuntimeException e) {
+            //expected
+        }
+        HarEntry failed = entry("3", "page_2", request("POST", "https://example.com/api"), null);
+        failed.errorText = "net::ERR_FAILED";
+        writer.writeEntry(failed);
+        HarPage page1 = new HarPage("page_1", 1700000000000L, 100, "https://example.com/");
+        page1.onContentLoad = 120.5;
+        page1.onLoad = 300;
+        HarPage page2 = new HarPage("page_2", 1700000001000L, 101, "https://example.com/next");
+        writer.finish(Arrays.asList(page1, page2));
+        writer.close();
+
+        JSONObject log = read().getJSONObject("log");
+        assertEquals("1.2", log.getString("version"));
+        assertHas(log.getJSONObject("creator"), "name", "version");
+        JSONArray pages = log.getJSONArray("pages");
+        assertEquals(2, pages.size());
+        for(int i = 0; i < pages.size(); i++) {
+            JSONObject page = pages.getJSONObject(i);
+            assertHas(page, "startedDateTime", "id", "title", "pageTimings");
+        }
+        assertEquals(120.5, pages.getJSONObject(0).getJSONObject("pageTimings").getDoubleValue("onContentLoad"), 0);
+        assertEquals(-1, pages.getJSONObject(1).getJSONObject("pageTimings").getDoubleValue("onLoad"), 0);
+
+        JSONArray entries = log.getJSONArray("entries");
+        assertEquals(2, entries.size());
+        for(int i = 0; i < entries.size(); i++) {
+            JSONObject entry = entries.getJSONObject(i);
+            assertHas(entry, "pageref", "startedDateTime", "time", "request", "response", "cache", "timings");
+            assertHas(entry.getJSONObject("request"), "method", "url", "httpVersion", "cookies", "headers", "queryString", "headersSize", "bodySize");
+            assertHas(entry.getJSONObject("response"), "status", "statusText", "httpVersion", "cookies", "headers", "content", "redirectURL", "headersSize", "bodySize");
+            assertHas(entry.getJSONObject("response").getJSONObject("content"), "size", "mimeType");
+            assertHas(entry.getJSONObject("timings"), "send", "wait", "receive");
+        }
+
+        JSONObject entry = entries.getJSONObject(0);
+        assertEquals("page_1", entry.getString("pageref"));
+        assertEquals("2023-11-14T22:13:20Z", entry.getString("startedDateTime"));
+        JSONObject request = entry.getJSONObject("request");
+        assertEquals("GET", request.getString("method"));
+        assertEquals(2, request.getJSONArray("queryString").size());
+        assertEquals("y", request.getJSONArray("queryString").getJSONObject(1).getString("name"));
+        JSONObject response = entry.getJSONObject("response");
+        assertEquals(200, response.getIntValue("status"));
+        assertEquals("HTTP/2.0", response.getString("httpVersion"));
+        //换行拼接的Set-Cookie拆成多个头
+        assertEquals(3, response.getJSONArray("headers").size());
+        JSONObject content = response.getJSONObject("content");
+        assertEquals(3, content.getIntValue("size"));
+        assertEquals("YWJj", content.getString("text"));
+        assertEquals("base64", content.getString("encoding"));
+        assertEquals(500, entry.getJSONObject("timings").getDoubleValue("receive"), 0.001);
+
+        entry = entries.getJSONObject(1);
+        assertEquals("page_2", entry.getString("pageref"));
+        assertEquals(0, entry.getJSONObject("response").getIntValue("status"));
+        assertEquals("net::ERR_FAILED", entry.getString("_error"));
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        HarWriter writer = new HarWriter(file);
+        writer.finish(Arrays.asList());
+        writer.close();
+        JSONObject log = read().getJSONObject("log");
+        assertEquals(0, log.getJSONArray("entries").size());
+        assertEquals(0, log.getJSONArray("pages").size());
+    }
+
+    @Test(expected = IOException.class)
+    public void testWriteAfterFinish() throws IOException {
+        try (HarWriter writer = new HarWriter(file)) {
+            writer.finish(Arrays.asList());
+            writer.writeEntry(entry("1", null, request("GET", "https://example.com/"), null));
+        }
+    }
+}